@@ -0,0 +1,127 @@
+package com.example.courtierprobackend.analytics;
+
+import com.example.courtierprobackend.appointments.datalayer.Appointment;
+import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
+import com.example.courtierprobackend.audit.analytics_export_audit.datalayer.AnalyticsExportAuditRepository;
+import com.example.courtierprobackend.audit.timeline_audit.dataaccesslayer.TimelineEntry;
+import com.example.courtierprobackend.audit.timeline_audit.dataaccesslayer.TimelineEntryRepository;
+import com.example.courtierprobackend.benchmark.Stubs;
+import com.example.courtierprobackend.benchmark.SyntheticData;
+import com.example.courtierprobackend.documents.datalayer.Document;
+import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
+import com.example.courtierprobackend.transactions.datalayer.*;
+import com.example.courtierprobackend.transactions.datalayer.enums.BuyerStage;
+import com.example.courtierprobackend.transactions.datalayer.enums.SellerStage;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide;
+import com.example.courtierprobackend.transactions.datalayer.repositories.*;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * Metric computation of the analytics dashboard over synthetic data. Repositories are
+ * stubs answering from pre-built maps, so the numbers cover the in-memory aggregation
+ * and not the queries.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class AnalyticsServiceBenchmark {
+
+    @Param({"50", "500"})
+    int transactions;
+
+    private AnalyticsService analyticsService;
+    private UUID brokerId;
+    private AnalyticsFilterRequest noFilters;
+    private List<Transaction> buyTransactions;
+    private List<Transaction> sellTransactions;
+    private Map<UUID, String> clientNames;
+
+    @Setup
+    public void setUp() {
+        brokerId = UUID.randomUUID();
+        noFilters = new AnalyticsFilterRequest();
+
+        List<Transaction> txs = SyntheticData.transactions(transactions, brokerId, 34L);
+        List<Appointment> appointments = SyntheticData.appointments(txs, 3, 35L);
+        Map<UUID, List<TimelineEntry>> history = SyntheticData.stageHistory(txs, 4, 36L).stream()
+                .collect(Collectors.groupingBy(TimelineEntry::getTransactionId));
+        Map<UUID, List<Document>> documents = SyntheticData.documents(txs, 6, 37L).stream()
+                .collect(Collectors.groupingBy(d -> d.getTransactionRef().getTransactionId()));
+
+        Map<UUID, List<Property>> properties = new HashMap<>();
+        Map<UUID, List<PropertyOffer>> propertyOffers = new HashMap<>();
+        Map<UUID, List<Offer>> receivedOffers = new HashMap<>();
+        Map<UUID, List<Condition>> conditions = new HashMap<>();
+        long seed = 100;
+        for (Transaction tx : txs) {
+            UUID id = tx.getTransactionId();
+            conditions.put(id, SyntheticData.conditions(id, 3, seed++));
+            if (tx.getSide() == TransactionSide.BUY_SIDE) {
+                List<Property> txProperties = SyntheticData.properties(id, 4, seed++);
+                properties.put(id, txProperties);
+                for (Property p : txProperties) {
+                    propertyOffers.put(p.getPropertyId(), SyntheticData.propertyOffers(p.getPropertyId(), 2, seed++));
+                }
+            } else {
+                receivedOffers.put(id, SyntheticData.receivedOffers(id, 3, seed++));
+            }
+        }
+
+        clientNames = new HashMap<>();
+        List<UserAccount> clients = new ArrayList<>();
+        for (Transaction tx : txs) {
+            if (!clientNames.containsKey(tx.getClientId())) {
+                UserAccount client = new UserAccount();
+                client.setId(tx.getClientId());
+                client.setFirstName("Client");
+                client.setLastName(String.valueOf(clients.size()));
+                clients.add(client);
+                clientNames.put(client.getId(), client.getFirstName() + " " + client.getLastName());
+            }
+        }
+
+        analyticsService = new AnalyticsService(
+                Stubs.of(TransactionRepository.class, Map.of("findForAnalytics", args -> txs)),
+                Stubs.of(AppointmentRepository.class, Map.of("findForAnalytics", args -> appointments)),
+                Stubs.of(DocumentRepository.class, Map.of("findByTransactionRef_TransactionId",
+                        args -> documents.getOrDefault((UUID) args[0], List.of()))),
+                Stubs.of(PropertyRepository.class, Map.of("findByTransactionIdOrderByCreatedAtDesc",
+                        args -> properties.getOrDefault((UUID) args[0], List.of()))),
+                Stubs.of(OfferRepository.class, Map.of("findByTransactionIdOrderByCreatedAtDesc",
+                        args -> receivedOffers.getOrDefault((UUID) args[0], List.of()))),
+                Stubs.of(ConditionRepository.class, Map.of("findByTransactionIdOrderByDeadlineDateAsc",
+                        args -> conditions.getOrDefault((UUID) args[0], List.of()))),
+                Stubs.of(PropertyOfferRepository.class, Map.of("findByPropertyIdOrderByOfferRoundDesc",
+                        args -> propertyOffers.getOrDefault((UUID) args[0], List.of()))),
+                Stubs.of(AnalyticsExportAuditRepository.class, Map.of()),
+                Stubs.of(UserAccountRepository.class, Map.of("findAllById", args -> clients)),
+                Stubs.of(TimelineEntryRepository.class, Map.of("findByTransactionIdInAndTypeInOrderByTimestampAsc",
+                        args -> ((Collection<?>) args[0]).stream()
+                                .flatMap(id -> history.getOrDefault((UUID) id, List.of()).stream())
+                                .toList())));
+
+        buyTransactions = txs.stream().filter(t -> t.getSide() == TransactionSide.BUY_SIDE).toList();
+        sellTransactions = txs.stream().filter(t -> t.getSide() == TransactionSide.SELL_SIDE).toList();
+    }
+
+    @Benchmark
+    public AnalyticsDTO getAnalytics() {
+        return analyticsService.getAnalytics(brokerId, noFilters);
+    }
+
+    @Benchmark
+    public List<AnalyticsDTO.PipelineStageDTO> calculateBuyerPipeline() {
+        return analyticsService.calculatePipeline(buyTransactions, BuyerStage.values(), clientNames);
+    }
+
+    @Benchmark
+    public List<AnalyticsDTO.PipelineStageDTO> calculateSellerPipeline() {
+        return analyticsService.calculatePipeline(sellTransactions, SellerStage.values(), clientNames);
+    }
+}
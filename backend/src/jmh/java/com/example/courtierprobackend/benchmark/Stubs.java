@@ -0,0 +1,71 @@
+package com.example.courtierprobackend.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Interface stubs for benchmarks. Mockito records every invocation, which would show
+ * up in both the timings and the {@code -prof gc} allocation numbers, so repositories
+ * and the request are replaced by plain JDK proxies answering by method name.
+ */
+public final class Stubs {
+
+    private Stubs() {
+    }
+
+    /**
+     * Builds a stub of {@code type}. Methods without an answer return an empty
+     * collection, {@code Optional.empty()}, zero/false, or {@code null}.
+     *
+     * @param answers method name to answer, given the call arguments
+     */
+    public static <T> T of(Class<T> type, Map<String, Function<Object[], Object>> answers) {
+        Object stub = Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, (proxy, method, args) -> {
+            switch (method.getName()) {
+                case "equals":
+                    return proxy == args[0];
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "toString":
+                    return "Stub<" + type.getSimpleName() + ">";
+                default:
+                    break;
+            }
+            Function<Object[], Object> answer = answers.get(method.getName());
+            if (answer != null) {
+                return answer.apply(args != null ? args : new Object[0]);
+            }
+            return defaultValue(method.getReturnType());
+        });
+        return type.cast(stub);
+    }
+
+    private static Object defaultValue(Class<?> returnType) {
+        if (returnType == Optional.class) {
+            return Optional.empty();
+        }
+        if (returnType == Set.class) {
+            return Set.of();
+        }
+        if (returnType == Map.class) {
+            return Map.of();
+        }
+        if (returnType.isAssignableFrom(List.class)) {
+            return List.of();
+        }
+        if (returnType == boolean.class) {
+            return false;
+        }
+        if (returnType == long.class) {
+            return 0L;
+        }
+        if (returnType == int.class) {
+            return 0;
+        }
+        if (returnType == double.class) {
+            return 0.0;
+        }
+        return null;
+    }
+}
@@ -0,0 +1,205 @@
+package com.example.courtierprobackend.benchmark;
+
+import com.example.courtierprobackend.appointments.datalayer.Appointment;
+import com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus;
+import com.example.courtierprobackend.appointments.datalayer.enums.InitiatorType;
+import com.example.courtierprobackend.audit.timeline_audit.dataaccesslayer.Enum.TimelineEntryType;
+import com.example.courtierprobackend.audit.timeline_audit.dataaccesslayer.TimelineEntry;
+import com.example.courtierprobackend.audit.timeline_audit.dataaccesslayer.value_object.TransactionInfo;
+import com.example.courtierprobackend.documents.datalayer.Document;
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentStatusEnum;
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.documents.datalayer.valueobjects.TransactionRef;
+import com.example.courtierprobackend.transactions.datalayer.*;
+import com.example.courtierprobackend.transactions.datalayer.enums.*;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Deterministic fixtures for the benchmarks. Every generator takes its own seed so
+ * two runs (and the baseline) measure the same data.
+ */
+public final class SyntheticData {
+
+    private static final String[] STREETS = {"Rue Sherbrooke", "Boulevard Saint-Laurent", "Avenue du Parc",
+            "Rue Notre-Dame", "Chemin de la Côte-des-Neiges", "Rue Saint-Denis"};
+    private static final String[] CITIES = {"Montréal", "Laval", "Longueuil", "Québec", "Gatineau"};
+
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2025, 1, 6, 9, 0);
+
+    private SyntheticData() {
+    }
+
+    public static List<Transaction> transactions(int count, UUID brokerId, long seed) {
+        Random random = new Random(seed);
+        List<Transaction> transactions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            boolean buySide = random.nextBoolean();
+            TransactionStatus status = TransactionStatus.values()[random.nextInt(10) < 7 ? 0 : 1 + random.nextInt(2)];
+            LocalDateTime openedAt = EPOCH.plusDays(random.nextInt(365)).plusMinutes(random.nextInt(600));
+            transactions.add(Transaction.builder()
+                    .id((long) i)
+                    .transactionId(new UUID(seed, i))
+                    .brokerId(brokerId)
+                    .clientId(new UUID(seed, 1_000_000L + random.nextInt(Math.max(1, count / 2))))
+                    .side(buySide ? TransactionSide.BUY_SIDE : TransactionSide.SELL_SIDE)
+                    .buyerStage(buySide ? BuyerStage.values()[random.nextInt(BuyerStage.values().length)] : null)
+                    .sellerStage(buySide ? null : SellerStage.values()[random.nextInt(SellerStage.values().length)])
+                    .status(status)
+                    .propertyAddress(address(random))
+                    .centrisNumber(String.valueOf(10_000_000 + random.nextInt(90_000_000)))
+                    .openedAt(openedAt)
+                    .closedAt(status == TransactionStatus.ACTIVE ? null : openedAt.plusDays(20 + random.nextInt(120)))
+                    .lastUpdated(openedAt.plusDays(random.nextInt(60)))
+                    .notes(random.nextInt(4) == 0 ? "Client prefers evening visits" : null)
+                    .archived(false)
+                    .build());
+        }
+        return transactions;
+    }
+
+    /**
+     * Stage history for each transaction, oldest first, as the pipeline query returns it.
+     */
+    public static List<TimelineEntry> stageHistory(List<Transaction> transactions, int changesPerTransaction, long seed) {
+        Random random = new Random(seed);
+        List<TimelineEntry> entries = new ArrayList<>();
+        for (Transaction tx : transactions) {
+            Enum<?>[] stages = tx.getSide() == TransactionSide.BUY_SIDE ? BuyerStage.values() : SellerStage.values();
+            LocalDateTime at = tx.getOpenedAt();
+            for (int i = 0; i < changesPerTransaction && i + 1 < stages.length; i++) {
+                at = at.plusDays(1 + random.nextInt(20)).plusMinutes(random.nextInt(600));
+                entries.add(TimelineEntry.builder()
+                        .id(UUID.randomUUID())
+                        .transactionId(tx.getTransactionId())
+                        .timestamp(at.atZone(ZoneId.of("America/Montreal")).toInstant())
+                        .type(TimelineEntryType.STAGE_CHANGE)
+                        .transactionInfo(TransactionInfo.builder()
+                                .previousStage(stages[i].name())
+                                .newStage(stages[i + 1].name())
+                                .build())
+                        .build());
+            }
+        }
+        return entries;
+    }
+
+    public static List<Appointment> appointments(List<Transaction> transactions, int perTransaction, long seed) {
+        Random random = new Random(seed);
+        List<Appointment> appointments = new ArrayList<>();
+        for (Transaction tx : transactions) {
+            for (int i = 0; i < perTransaction; i++) {
+                LocalDateTime from = tx.getOpenedAt().plusDays(random.nextInt(90)).withHour(9 + random.nextInt(9));
+                appointments.add(Appointment.builder()
+                        .appointmentId(UUID.randomUUID())
+                        .transactionId(tx.getTransactionId())
+                        .brokerId(tx.getBrokerId())
+                        .clientId(tx.getClientId())
+                        .title(tx.getSide() == TransactionSide.BUY_SIDE ? "house_visit" : "open_house")
+                        .fromDateTime(from)
+                        .toDateTime(from.plusHours(1))
+                        .status(AppointmentStatus.values()[random.nextInt(AppointmentStatus.values().length)])
+                        .initiatedBy(random.nextBoolean() ? InitiatorType.BROKER : InitiatorType.CLIENT)
+                        .location(random.nextInt(3) == 0 ? null : tx.getPropertyAddress().getStreet())
+                        .build());
+            }
+        }
+        return appointments;
+    }
+
+    public static List<Document> documents(List<Transaction> transactions, int perTransaction, long seed) {
+        Random random = new Random(seed);
+        List<Document> documents = new ArrayList<>();
+        for (Transaction tx : transactions) {
+            for (int i = 0; i < perTransaction; i++) {
+                documents.add(Document.builder()
+                        .id((long) documents.size())
+                        .documentId(UUID.randomUUID())
+                        .transactionRef(new TransactionRef(tx.getTransactionId(), tx.getClientId(), tx.getSide()))
+                        .docType(DocumentTypeEnum.values()[random.nextInt(DocumentTypeEnum.values().length)])
+                        .customTitle(random.nextInt(5) == 0 ? "Signed <b>counter</b>-offer & annex" : null)
+                        .status(DocumentStatusEnum.values()[random.nextInt(DocumentStatusEnum.values().length)])
+                        .brokerNotes(random.nextInt(3) == 0 ? "Waiting on the lender" : null)
+                        .lastUpdatedAt(tx.getOpenedAt().plusDays(random.nextInt(30)))
+                        .build());
+            }
+        }
+        return documents;
+    }
+
+    public static List<Condition> conditions(UUID transactionId, int count, long seed) {
+        Random random = new Random(seed);
+        List<Condition> conditions = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            conditions.add(Condition.builder()
+                    .conditionId(UUID.randomUUID())
+                    .transactionId(transactionId)
+                    .type(ConditionType.values()[random.nextInt(ConditionType.values().length)])
+                    .deadlineDate(LocalDate.now().plusDays(random.nextInt(30) - 10))
+                    .status(ConditionStatus.values()[random.nextInt(ConditionStatus.values().length)])
+                    .build());
+        }
+        return conditions;
+    }
+
+    public static List<Property> properties(UUID transactionId, int count, long seed) {
+        Random random = new Random(seed);
+        List<Property> properties = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            properties.add(Property.builder()
+                    .propertyId(UUID.randomUUID())
+                    .transactionId(transactionId)
+                    .address(address(random))
+                    .askingPrice(BigDecimal.valueOf(350_000 + random.nextInt(900_000)))
+                    .status(PropertyStatus.values()[random.nextInt(PropertyStatus.values().length)])
+                    .build());
+        }
+        return properties;
+    }
+
+    public static List<PropertyOffer> propertyOffers(UUID propertyId, int count, long seed) {
+        Random random = new Random(seed);
+        List<PropertyOffer> offers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            offers.add(PropertyOffer.builder()
+                    .propertyOfferId(UUID.randomUUID())
+                    .propertyId(propertyId)
+                    .offerRound(count - i)
+                    .offerAmount(BigDecimal.valueOf(300_000 + random.nextInt(900_000)))
+                    .status(BuyerOfferStatus.values()[random.nextInt(BuyerOfferStatus.values().length)])
+                    .counterpartyResponse(random.nextBoolean() ? CounterpartyResponse.COUNTERED : null)
+                    .build());
+        }
+        return offers;
+    }
+
+    public static List<Offer> receivedOffers(UUID transactionId, int count, long seed) {
+        Random random = new Random(seed);
+        List<Offer> offers = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            offers.add(Offer.builder()
+                    .offerId(UUID.randomUUID())
+                    .transactionId(transactionId)
+                    .buyerName("Buyer " + i)
+                    .offerAmount(BigDecimal.valueOf(300_000 + random.nextInt(900_000)))
+                    .status(ReceivedOfferStatus.values()[random.nextInt(ReceivedOfferStatus.values().length)])
+                    .build());
+        }
+        return offers;
+    }
+
+    private static PropertyAddress address(Random random) {
+        return new PropertyAddress(
+                (100 + random.nextInt(9000)) + " " + STREETS[random.nextInt(STREETS.length)],
+                CITIES[random.nextInt(CITIES.length)],
+                "QC",
+                "H" + random.nextInt(10) + "X " + random.nextInt(10) + "Y" + random.nextInt(10));
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.courtierprobackend.documents.businesslayer;
+
+import com.example.courtierprobackend.documents.datalayer.enums.StageEnum;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Template and stage-order lookups done for every stage when a checklist is built.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class StageDocumentTemplateRegistryBenchmark {
+
+    private static final StageEnum[] STAGES = StageEnum.values();
+
+    @Param({"BUY_SIDE", "SELL_SIDE"})
+    TransactionSide side;
+
+    @Benchmark
+    public void templatesForEveryStage(Blackhole bh) {
+        for (StageEnum stage : STAGES) {
+            bh.consume(StageDocumentTemplateRegistry.templatesFor(side, stage));
+        }
+    }
+
+    @Benchmark
+    public void stageIndexForEveryStage(Blackhole bh) {
+        for (StageEnum stage : STAGES) {
+            bh.consume(StageDocumentTemplateRegistry.stageIndex(side, stage));
+        }
+    }
+
+    @Benchmark
+    public void templateKeysForSide(Blackhole bh) {
+        for (StageEnum stage : StageDocumentTemplateRegistry.orderedStages(side)) {
+            for (StageDocumentTemplateRegistry.TemplateSpec template : StageDocumentTemplateRegistry.templatesFor(side, stage)) {
+                bh.consume(StageDocumentTemplateRegistry.templateKey(stage, template));
+            }
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.example.courtierprobackend.email;
+
+import com.example.courtierprobackend.appointments.datalayer.Appointment;
+import com.example.courtierprobackend.benchmark.SyntheticData;
+import com.example.courtierprobackend.documents.datalayer.Document;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Email body rendering without sending: the markup conversion used by every
+ * templated email and the weekly digest, which is rendered once per broker.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EmailServiceBenchmark {
+
+    private static final String TEMPLATE_BODY = """
+            Hi {{name}}, your CourtierPro account has been created.
+
+            [HEADING]Set Your Password[/HEADING]
+
+            Click the button below to complete your account setup. Questions about "Offer & Conditions"?
+            [BOLD]Reply to this email[/BOLD] and your broker will get back to you.
+
+            [ITALIC]Your link expires in 7 days.[/ITALIC]
+
+            [BUTTON]Set My Password|https://app.courtierpro.com/setup?token=abc123[/BUTTON]
+            """;
+
+    @Param({"en", "fr"})
+    String language;
+
+    private EmailService emailService;
+    private List<Appointment> appointments;
+    private List<Document> documents;
+    private List<Transaction> transactions;
+
+    @Setup
+    public void setUp() {
+        emailService = new EmailService("bench@example.com", "unused", "localhost", "587", null, null, null);
+        transactions = SyntheticData.transactions(8, UUID.randomUUID(), 34L);
+        appointments = SyntheticData.appointments(transactions, 2, 35L);
+        documents = SyntheticData.documents(transactions, 2, 36L);
+    }
+
+    @Benchmark
+    public String convertPlainTextToHtml() {
+        return emailService.convertPlainTextToHtml(TEMPLATE_BODY);
+    }
+
+    @Benchmark
+    public String renderWeeklyDigest() throws IOException {
+        return emailService.renderWeeklyDigest("fr".equals(language), appointments, documents, transactions);
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.courtierprobackend.search;
+
+import com.example.courtierprobackend.appointments.datalayer.Appointment;
+import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
+import com.example.courtierprobackend.benchmark.Stubs;
+import com.example.courtierprobackend.benchmark.SyntheticData;
+import com.example.courtierprobackend.documents.datalayer.Document;
+import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
+import com.example.courtierprobackend.search.datalayer.SearchDocument;
+import com.example.courtierprobackend.search.datalayer.SearchDocumentRepository;
+import com.example.courtierprobackend.search.dto.SearchResultDTO;
+import com.example.courtierprobackend.security.UserContextFilter;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.transactions.datalayer.repositories.PropertyRepository;
+import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import jakarta.servlet.http.HttpServletRequest;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Result mapping, merging and ranking of the global search. The repositories return
+ * full pages from memory and the executor runs branches inline, so only the
+ * CPU-side work of a search is measured.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class SearchServiceBenchmark {
+
+    // Trailing whitespace keeps the prefix cache out of the fan-out measurement
+    private static final String UNCACHED_QUERY = "rue ";
+
+    private SearchService fanOutSearch;
+    private SearchService indexSearch;
+    private List<Transaction> transactions;
+    private List<Document> documents;
+    private List<Appointment> appointments;
+
+    @Setup
+    public void setUp() {
+        UUID brokerId = UUID.randomUUID();
+        transactions = SyntheticData.transactions(SearchService.PER_TYPE_LIMIT, brokerId, 34L);
+        documents = SyntheticData.documents(transactions, 1, 35L);
+        appointments = SyntheticData.appointments(transactions, 1, 36L);
+
+        List<UserAccount> clients = new ArrayList<>();
+        for (Transaction tx : transactions) {
+            UserAccount client = new UserAccount();
+            client.setId(tx.getClientId());
+            client.setFirstName("Client");
+            client.setLastName("Rue" + clients.size());
+            client.setEmail("client" + clients.size() + "@example.com");
+            clients.add(client);
+        }
+        UserAccount broker = new UserAccount();
+        broker.setId(brokerId);
+        broker.setFirstName("Jean");
+        broker.setLastName("Gagnon");
+
+        List<Object[]> propertyText = new ArrayList<>();
+        for (Transaction tx : transactions) {
+            propertyText.add(new Object[]{tx.getTransactionId(), tx.getPropertyAddress().getStreet(),
+                    tx.getCentrisNumber()});
+        }
+
+        List<SearchDocument> indexRows = new ArrayList<>();
+        transactions.forEach(t -> indexRows.add(indexRow(brokerId, SearchResultMapper.mapTransaction(t))));
+        documents.forEach(d -> indexRows.add(indexRow(brokerId, SearchResultMapper.mapDocument(d, "1200 Rue Sherbrooke"))));
+        appointments.forEach(a -> indexRows.add(indexRow(brokerId, SearchResultMapper.mapAppointment(a))));
+
+        TransactionRepository transactionRepository = Stubs.of(TransactionRepository.class, Map.of(
+                "searchTransactions", args -> transactions,
+                "findLinkedToUsers", args -> transactions,
+                "findByTransactionIdIn", args -> transactions));
+        DocumentRepository documentRepository = Stubs.of(DocumentRepository.class, Map.of(
+                "searchDocuments", args -> documents,
+                "findLinkedToUsers", args -> documents));
+        UserAccountRepository userAccountRepository = Stubs.of(UserAccountRepository.class, Map.of(
+                "searchClientsOfBroker", args -> clients,
+                "findById", args -> Optional.of(broker)));
+        AppointmentRepository appointmentRepository = Stubs.of(AppointmentRepository.class, Map.of(
+                "searchAppointments", args -> appointments));
+        PropertyRepository propertyRepository = Stubs.of(PropertyRepository.class, Map.of(
+                "findSearchTextByTransactionIdIn", args -> propertyText));
+        SearchDocumentRepository searchDocumentRepository = Stubs.of(SearchDocumentRepository.class, Map.of(
+                "searchForOwner", args -> indexRows));
+
+        Map<String, Object> attributes = Map.of(
+                UserContextFilter.INTERNAL_USER_ID_ATTR, brokerId,
+                UserContextFilter.USER_ROLE_ATTR, "BROKER");
+        HttpServletRequest request = Stubs.of(HttpServletRequest.class, Map.of(
+                "getAttribute", args -> attributes.get((String) args[0])));
+
+        fanOutSearch = new SearchService(transactionRepository, documentRepository, userAccountRepository,
+                appointmentRepository, propertyRepository, searchDocumentRepository, request, Runnable::run, false);
+        indexSearch = new SearchService(transactionRepository, documentRepository, userAccountRepository,
+                appointmentRepository, propertyRepository, searchDocumentRepository, request, Runnable::run, true);
+    }
+
+    @Benchmark
+    public List<SearchResultDTO> fanOutSearch() {
+        return fanOutSearch.search(UNCACHED_QUERY);
+    }
+
+    @Benchmark
+    public List<SearchResultDTO> indexSearch() {
+        return indexSearch.search(UNCACHED_QUERY);
+    }
+
+    @Benchmark
+    public void mapResults(Blackhole bh) {
+        for (Transaction t : transactions) {
+            bh.consume(SearchResultMapper.mapTransaction(t));
+            bh.consume(SearchResultMapper.searchText(SearchResultMapper.transactionText(t), t.getCentrisNumber()));
+        }
+        for (Document d : documents) {
+            bh.consume(SearchResultMapper.mapDocument(d, "1200 Rue Sherbrooke"));
+        }
+        for (Appointment a : appointments) {
+            bh.consume(SearchResultMapper.mapAppointment(a));
+        }
+    }
+
+    private static SearchDocument indexRow(UUID ownerId, SearchResultDTO result) {
+        return SearchDocument.builder()
+                .ownerId(ownerId)
+                .entityType(result.getType())
+                .entityId(UUID.fromString(result.getId()))
+                .title(result.getTitle())
+                .subtitle(result.getSubtitle())
+                .url(result.getUrl())
+                .searchText(SearchResultMapper.searchText(result.getTitle(), result.getSubtitle()))
+                .build();
+    }
+}
@@ -0,0 +1,46 @@
+package com.example.courtierprobackend.transactions.util;
+
+import com.example.courtierprobackend.benchmark.SyntheticData;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.transactions.datalayer.dto.TransactionResponseDTO;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Transaction to response DTO mapping, run once per row on every transaction list.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class EntityDtoUtilBenchmark {
+
+    @Param({"1", "200"})
+    int transactions;
+
+    private List<Transaction> rows;
+
+    @Setup
+    public void setUp() {
+        rows = SyntheticData.transactions(transactions, UUID.randomUUID(), 34L);
+    }
+
+    @Benchmark
+    public void toResponse(Blackhole bh) {
+        for (Transaction t : rows) {
+            bh.consume(EntityDtoUtil.toResponse(t, "Marie Tremblay"));
+        }
+    }
+
+    @Benchmark
+    public void toResponseWithBrokerName(Blackhole bh) {
+        for (Transaction t : rows) {
+            TransactionResponseDTO dto = EntityDtoUtil.toResponse(t, "Marie Tremblay", t.getCentrisNumber(),
+                    "Jean Gagnon");
+            bh.consume(dto);
+        }
+    }
+}
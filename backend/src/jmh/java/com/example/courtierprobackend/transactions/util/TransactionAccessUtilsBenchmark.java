@@ -0,0 +1,110 @@
+package com.example.courtierprobackend.transactions.util;
+
+import com.example.courtierprobackend.common.exceptions.ForbiddenException;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.transactions.datalayer.TransactionParticipant;
+import com.example.courtierprobackend.transactions.datalayer.enums.ParticipantPermission;
+import com.example.courtierprobackend.transactions.datalayer.enums.ParticipantRole;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Permission checks run on every transaction read. The co-broker and email cases
+ * walk the participant list, the denied case also pays for the exception.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+public class TransactionAccessUtilsBenchmark {
+
+    @Param({"3", "25"})
+    int participants;
+
+    private Transaction tx;
+    private List<TransactionParticipant> participantList;
+    private UUID brokerId;
+    private UUID coBrokerId;
+    private UUID lawyerId;
+    private String lawyerEmail;
+
+    @Setup
+    public void setUp() {
+        brokerId = UUID.randomUUID();
+        lawyerId = UUID.randomUUID();
+        tx = Transaction.builder()
+                .transactionId(UUID.randomUUID())
+                .brokerId(brokerId)
+                .clientId(UUID.randomUUID())
+                .side(TransactionSide.BUY_SIDE)
+                .build();
+
+        participantList = new ArrayList<>(participants);
+        for (int i = 0; i < participants - 2; i++) {
+            participantList.add(participant(UUID.randomUUID(), "other" + i + "@example.com", ParticipantRole.OTHER,
+                    EnumSet.noneOf(ParticipantPermission.class)));
+        }
+        // The interesting participants sit at the end of the list
+        lawyerEmail = "Lawyer@Example.com";
+        participantList.add(participant(null, " lawyer@example.com ", ParticipantRole.LAWYER,
+                EnumSet.noneOf(ParticipantPermission.class)));
+        coBrokerId = UUID.randomUUID();
+        participantList.add(participant(coBrokerId, "cobroker@example.com", ParticipantRole.CO_BROKER,
+                EnumSet.of(ParticipantPermission.VIEW_DOCUMENTS, ParticipantPermission.VIEW_OFFERS)));
+    }
+
+    @Benchmark
+    public boolean viewAccessPrimaryBroker() {
+        TransactionAccessUtils.verifyViewAccess(tx, brokerId, "broker@example.com", participantList,
+                ParticipantPermission.VIEW_DOCUMENTS);
+        return true;
+    }
+
+    @Benchmark
+    public boolean viewAccessCoBroker() {
+        TransactionAccessUtils.verifyViewAccess(tx, coBrokerId, "cobroker@example.com", participantList,
+                ParticipantPermission.VIEW_OFFERS);
+        return true;
+    }
+
+    @Benchmark
+    public boolean viewAccessByEmail() {
+        TransactionAccessUtils.verifyViewAccess(tx, lawyerId, lawyerEmail, participantList,
+                ParticipantPermission.VIEW_CONDITIONS);
+        return true;
+    }
+
+    @Benchmark
+    public boolean viewAccessDenied() {
+        try {
+            TransactionAccessUtils.verifyViewAccess(tx, coBrokerId, "cobroker@example.com", participantList,
+                    ParticipantPermission.VIEW_CONDITIONS);
+            return true;
+        } catch (ForbiddenException e) {
+            return false;
+        }
+    }
+
+    @Benchmark
+    public boolean transactionAccessByEmail() {
+        TransactionAccessUtils.verifyTransactionAccess(tx, coBrokerId, "CoBroker@Example.com", participantList);
+        return true;
+    }
+
+    private TransactionParticipant participant(UUID userId, String email, ParticipantRole role,
+                                               EnumSet<ParticipantPermission> permissions) {
+        return TransactionParticipant.builder()
+                .userId(userId)
+                .transactionId(tx.getTransactionId())
+                .name(email)
+                .email(email)
+                .role(role)
+                .permissions(permissions)
+                .build();
+    }
+}
@@ -0,0 +1,437 @@
+package com.example.courtierprobackend.loadtest;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * Populates the Flyway schema with a synthetic brokerage: brokers, their clients,
+ * transactions on both sides with realistic stage/status mixes, properties and offer
+ * rounds, received offers, documents with versions, timelines, appointments and
+ * notifications.
+ *
+ * <p>Rows are written with plain JDBC batches (no entity lifecycle, no events), so a
+ * few hundred thousand rows take seconds. Every generated account has an Auth0 id
+ * starting with {@value #AUTH0_PREFIX}; {@link #reset()} only removes data owned by
+ * those accounts, so the generator can run against a shared dev database.</p>
+ */
+public class BrokerageDataGenerator {
+
+    private static final Logger log = LoggerFactory.getLogger(BrokerageDataGenerator.class);
+
+    static final String AUTH0_PREFIX = "loadtest|";
+
+    private static final int BATCH_SIZE = 1_000;
+
+    private static final String[] FIRST_NAMES = {"Marie", "Jean", "Sophie", "Louis", "Julie", "Marc", "Isabelle",
+            "Étienne", "Catherine", "Olivier", "Nathalie", "Mathieu", "Émilie", "Alexandre", "Chloé", "Gabriel"};
+    private static final String[] LAST_NAMES = {"Tremblay", "Gagnon", "Roy", "Côté", "Bouchard", "Gauthier",
+            "Morin", "Lavoie", "Fortin", "Gagné", "Ouellet", "Pelletier", "Bélanger", "Lévesque", "Bergeron",
+            "Leblanc", "Paquette", "Girard", "Simard", "Boucher"};
+    private static final String[] STREETS = {"Rue Sherbrooke", "Boulevard Saint-Laurent", "Avenue du Parc",
+            "Rue Notre-Dame", "Chemin de la Côte-des-Neiges", "Rue Saint-Denis", "Avenue Laurier",
+            "Boulevard René-Lévesque", "Rue Beaubien", "Avenue Papineau"};
+    private static final String[] CITIES = {"Montréal", "Laval", "Longueuil", "Québec", "Gatineau", "Sherbrooke"};
+
+    private static final String[] BUYER_STAGES = {"BUYER_FINANCIAL_PREPARATION", "BUYER_PROPERTY_SEARCH",
+            "BUYER_OFFER_AND_NEGOTIATION", "BUYER_FINANCING_AND_CONDITIONS", "BUYER_NOTARY_AND_SIGNING",
+            "BUYER_POSSESSION"};
+    private static final String[] SELLER_STAGES = {"SELLER_INITIAL_CONSULTATION", "SELLER_PUBLISH_LISTING",
+            "SELLER_OFFER_AND_NEGOTIATION", "SELLER_FINANCING_AND_CONDITIONS", "SELLER_NOTARY_AND_SIGNING",
+            "SELLER_HANDOVER"};
+    // Active files pile up in the early and middle stages
+    private static final int[] ACTIVE_STAGE_WEIGHTS = {25, 25, 20, 15, 10, 5};
+
+    private static final String[] DOC_TYPES = {"MORTGAGE_PRE_APPROVAL", "MORTGAGE_APPROVAL", "PROOF_OF_FUNDS",
+            "PROOF_OF_INCOME", "ID_VERIFICATION"};
+
+    private static final String TX_OWNED = "SELECT t.transaction_id FROM transactions t JOIN user_accounts u "
+            + "ON u.id = t.broker_id WHERE u.auth0user_id LIKE '" + AUTH0_PREFIX + "%'";
+    private static final String USERS_OWNED = "SELECT u.id FROM user_accounts u WHERE u.auth0user_id LIKE '"
+            + AUTH0_PREFIX + "%'";
+
+    private final JdbcTemplate jdbc;
+    private final LoadTestSettings settings;
+    private final Random random;
+    private final LocalDateTime now = LocalDateTime.now().withNano(0);
+
+    private final List<Object[]> users = new ArrayList<>();
+    private final List<Object[]> transactions = new ArrayList<>();
+    private final List<Object[]> timeline = new ArrayList<>();
+    private final List<Object[]> properties = new ArrayList<>();
+    private final List<Object[]> propertyOffers = new ArrayList<>();
+    private final List<Object[]> offers = new ArrayList<>();
+    private final List<Object[]> documents = new ArrayList<>();
+    private final List<Object[]> versions = new ArrayList<>();
+    private final List<Object[]> appointments = new ArrayList<>();
+    private final List<Object[]> notifications = new ArrayList<>();
+
+    public BrokerageDataGenerator(JdbcTemplate jdbc, LoadTestSettings settings) {
+        this.jdbc = jdbc;
+        this.settings = settings;
+        this.random = new Random(settings.seed());
+    }
+
+    /**
+     * A generated account the load driver can authenticate as.
+     */
+    public record SeededUser(UUID id, String auth0UserId, String role, String lastName) {
+    }
+
+    /**
+     * What the load driver needs to build realistic requests.
+     */
+    public record SeededBrokerage(List<SeededUser> brokers,
+                                  List<SeededUser> clients,
+                                  Map<UUID, List<UUID>> transactionsByBroker,
+                                  List<String> searchTerms) {
+    }
+
+    /**
+     * Removes everything owned by previously generated accounts, children first.
+     */
+    public void reset() {
+        String[] statements = {
+                "DELETE FROM document_versions WHERE document_id IN "
+                        + "(SELECT d.id FROM documents d WHERE d.transaction_id IN (" + TX_OWNED + "))",
+                "DELETE FROM documents WHERE transaction_id IN (" + TX_OWNED + ")",
+                "DELETE FROM timeline_entries WHERE transaction_id IN (" + TX_OWNED + ")",
+                "DELETE FROM property_offers WHERE property_id IN "
+                        + "(SELECT p.property_id FROM properties p WHERE p.transaction_id IN (" + TX_OWNED + "))",
+                "DELETE FROM properties WHERE transaction_id IN (" + TX_OWNED + ")",
+                "DELETE FROM offers WHERE transaction_id IN (" + TX_OWNED + ")",
+                "DELETE FROM appointments WHERE broker_id IN (" + USERS_OWNED + ")",
+                "DELETE FROM transactions WHERE broker_id IN (" + USERS_OWNED + ")",
+                "DELETE FROM notifications WHERE recipient_id IN "
+                        + "(SELECT CAST(u.id AS VARCHAR(255)) FROM user_accounts u WHERE u.auth0user_id LIKE '"
+                        + AUTH0_PREFIX + "%')",
+                "DELETE FROM user_accounts WHERE auth0user_id LIKE '" + AUTH0_PREFIX + "%'"
+        };
+        for (String sql : statements) {
+            jdbc.update(sql);
+        }
+    }
+
+    /**
+     * Soft-deletes about {@code percent}% of the generated transactions, documents,
+     * versions, timeline entries and appointments, so the data has a trash to filter
+     * out like production does. The pick is by id hash, stable across runs. Postgres only.
+     */
+    public void softDelete(int percent) {
+        String picked = " AND mod(abs(hashtext(CAST(id AS TEXT))), 100) < " + percent;
+        String[] statements = {
+                "UPDATE transactions SET deleted_at = now() WHERE transaction_id IN (" + TX_OWNED + ")" + picked,
+                "UPDATE documents SET deleted_at = now() WHERE transaction_id IN (" + TX_OWNED + ")" + picked,
+                "UPDATE document_versions SET deleted_at = now() WHERE document_id IN "
+                        + "(SELECT d.id FROM documents d WHERE d.transaction_id IN (" + TX_OWNED + "))" + picked,
+                "UPDATE timeline_entries SET deleted_at = now() WHERE transaction_id IN (" + TX_OWNED + ")" + picked,
+                "UPDATE appointments SET deleted_at = now() WHERE broker_id IN (" + USERS_OWNED + ")" + picked
+        };
+        for (String sql : statements) {
+            jdbc.update(sql);
+        }
+    }
+
+    public SeededBrokerage generate() {
+        long start = System.nanoTime();
+        List<SeededUser> brokers = new ArrayList<>();
+        List<SeededUser> clients = new ArrayList<>();
+        Map<UUID, List<UUID>> transactionsByBroker = new LinkedHashMap<>();
+        Set<String> searchTerms = new LinkedHashSet<>();
+
+        for (int b = 0; b < settings.brokers(); b++) {
+            SeededUser broker = user("BROKER", "broker-" + b);
+            brokers.add(broker);
+            List<UUID> brokerTransactions = new ArrayList<>();
+            transactionsByBroker.put(broker.id(), brokerTransactions);
+
+            for (int c = 0; c < settings.clientsPerBroker(); c++) {
+                SeededUser client = user("CLIENT", "client-" + b + "-" + c);
+                clients.add(client);
+                searchTerms.add(client.lastName().toLowerCase(Locale.ROOT));
+                for (int t = 0; t < settings.transactionsPerClient(); t++) {
+                    brokerTransactions.add(transaction(broker, client, searchTerms));
+                }
+            }
+        }
+        brokers.forEach(this::notifications);
+        clients.forEach(this::notifications);
+
+        flush();
+        log.info("Generated {} users, {} transactions, {} documents, {} timeline entries in {} ms",
+                users.size(), transactions.size(), documents.size(), timeline.size(),
+                (System.nanoTime() - start) / 1_000_000);
+        return new SeededBrokerage(brokers, clients, transactionsByBroker, List.copyOf(searchTerms));
+    }
+
+    private SeededUser user(String role, String handle) {
+        UUID id = uuid();
+        String first = pick(FIRST_NAMES);
+        String last = pick(LAST_NAMES);
+        String auth0UserId = AUTH0_PREFIX + handle;
+        Timestamp created = ts(now.minusDays(400 + random.nextInt(400)));
+        users.add(new Object[]{id, auth0UserId, handle + "@loadtest.courtierpro.invalid", first, last, role, true,
+                random.nextInt(10) < 6 ? "fr" : "en", true, true, true, created, created});
+        return new SeededUser(id, auth0UserId, role, last);
+    }
+
+    private UUID transaction(SeededUser broker, SeededUser client, Set<String> searchTerms) {
+        UUID txId = uuid();
+        boolean buySide = random.nextInt(100) < 55;
+        String[] stages = buySide ? BUYER_STAGES : SELLER_STAGES;
+
+        int roll = random.nextInt(100);
+        String status = roll < 68 ? "ACTIVE" : roll < 92 ? "CLOSED_SUCCESSFULLY" : "TERMINATED_EARLY";
+        int stageIndex = switch (status) {
+            case "CLOSED_SUCCESSFULLY" -> stages.length - 1;
+            case "TERMINATED_EARLY" -> random.nextInt(4);
+            default -> weighted(ACTIVE_STAGE_WEIGHTS);
+        };
+
+        LocalDateTime openedAt = now.minusDays(random.nextInt(540)).minusMinutes(random.nextInt(1440));
+        LocalDateTime closedAt = status.equals("ACTIVE") ? null
+                : min(openedAt.plusDays(30 + random.nextInt(120)), now);
+        // Roughly one active file in six has gone quiet for more than a month
+        LocalDateTime lastUpdated = closedAt != null ? closedAt
+                : random.nextInt(6) == 0 ? max(openedAt, now.minusDays(31 + random.nextInt(60)))
+                : max(openedAt, now.minusDays(random.nextInt(30)));
+
+        String street = (100 + random.nextInt(9900)) + " " + pick(STREETS);
+        String city = pick(CITIES);
+        searchTerms.add(street.substring(street.indexOf(' ') + 1).toLowerCase(Locale.ROOT));
+        transactions.add(new Object[]{txId, client.id(), broker.id(), street, city, "QC", postalCode(),
+                buySide ? null : centris(), buySide ? "BUY_SIDE" : "SELL_SIDE",
+                buySide ? stages[stageIndex] : null, buySide ? null : stages[stageIndex], status,
+                ts(openedAt), ts(closedAt), ts(lastUpdated), 0L, 0L, false,
+                random.nextInt(4) == 0 ? "Client prefers evening visits" : null});
+
+        timeline(txId, broker, stages, stageIndex, openedAt, lastUpdated);
+        if (buySide) {
+            buySideProperties(txId, stageIndex, openedAt);
+        } else if (stageIndex >= 2) {
+            receivedOffers(txId, openedAt);
+        }
+        documents(txId, client.id(), broker.id(), buySide, stages, stageIndex, openedAt);
+        appointments(txId, broker.id(), client.id(), buySide, street, openedAt);
+        return txId;
+    }
+
+    private void timeline(UUID txId, SeededUser broker, String[] stages, int stageIndex,
+                          LocalDateTime openedAt, LocalDateTime lastUpdated) {
+        int entries = Math.max(1 + stageIndex, settings.timelineEntriesPerTransaction());
+        long span = Math.max(1, java.time.Duration.between(openedAt, lastUpdated).toMinutes());
+        List<LocalDateTime> times = new ArrayList<>(entries);
+        for (int i = 0; i < entries; i++) {
+            times.add(openedAt.plusMinutes(i == 0 ? 0 : 1 + (long) (random.nextDouble() * span)));
+        }
+        Collections.sort(times);
+
+        String actorName = "Broker " + broker.lastName();
+        timeline.add(timelineRow(txId, broker.id(), times.get(0), "CREATED", null, stages[0], null, null, true, actorName));
+        // Stage changes spread over the history, the rest is regular activity
+        Set<Integer> stageSlots = new TreeSet<>();
+        while (stageSlots.size() < stageIndex) {
+            stageSlots.add(1 + random.nextInt(entries - 1));
+        }
+        Iterator<Integer> slots = stageSlots.iterator();
+        int nextStageSlot = slots.hasNext() ? slots.next() : -1;
+        int stage = 0;
+        String[] activity = {"NOTE", "DOCUMENT_REQUESTED", "DOCUMENT_SUBMITTED", "DOCUMENT_APPROVED",
+                "APPOINTMENT_CONFIRMED", "CONDITION_ADDED", "OFFER_UPDATED"};
+        for (int i = 1; i < entries; i++) {
+            if (i == nextStageSlot) {
+                timeline.add(timelineRow(txId, broker.id(), times.get(i), "STAGE_CHANGE", null, stages[stage + 1],
+                        stages[stage], stages[stage + 1], true, actorName));
+                stage++;
+                nextStageSlot = slots.hasNext() ? slots.next() : -1;
+            } else {
+                String type = pick(activity);
+                timeline.add(timelineRow(txId, broker.id(), times.get(i), type,
+                        type.equals("NOTE") ? "Called the client about next steps" : null, null, null, null,
+                        !type.equals("NOTE"), actorName));
+            }
+        }
+    }
+
+    private Object[] timelineRow(UUID txId, UUID actorId, LocalDateTime at, String type, String note, String stage,
+                                 String previousStage, String newStage, boolean visibleToClient, String actorName) {
+        return new Object[]{uuid(), txId, ts(at), actorId, type, note, visibleToClient, actorName, stage,
+                previousStage, newStage};
+    }
+
+    private void buySideProperties(UUID txId, int stageIndex, LocalDateTime openedAt) {
+        if (stageIndex < 1) {
+            return;
+        }
+        for (int p = 0; p < settings.propertiesPerBuyTransaction(); p++) {
+            UUID propertyId = uuid();
+            BigDecimal asking = money(250_000, 1_200_000);
+            String status = pick(new String[]{"SUGGESTED", "INTERESTED", "INTERESTED", "NOT_INTERESTED", "NEEDS_INFO"});
+            int rounds = stageIndex >= 2 && status.equals("INTERESTED") ? 1 + random.nextInt(settings.offersPerTransaction()) : 0;
+            String offerStatus = rounds == 0 ? "OFFER_TO_BE_MADE" : pick(new String[]{"OFFER_MADE", "COUNTERED", "ACCEPTED", "DECLINED"});
+            LocalDateTime created = openedAt.plusDays(random.nextInt(30));
+            properties.add(new Object[]{propertyId, txId, (100 + random.nextInt(9900)) + " " + pick(STREETS),
+                    pick(CITIES), "QC", postalCode(), asking, rounds == 0 ? null : asking.multiply(BigDecimal.valueOf(0.96)),
+                    centris(), status, offerStatus, ts(created), ts(created)});
+            for (int r = 1; r <= rounds; r++) {
+                String roundStatus = r < rounds ? "COUNTERED"
+                        : pick(new String[]{"OFFER_MADE", "ACCEPTED", "DECLINED", "WITHDRAWN", "EXPIRED"});
+                propertyOffers.add(new Object[]{uuid(), propertyId, r, money(240_000, 1_150_000), roundStatus,
+                        r < rounds ? "COUNTERED" : null, Date.valueOf(created.toLocalDate().plusDays(3 + r)),
+                        ts(created.plusDays(r)), ts(created.plusDays(r))});
+            }
+        }
+    }
+
+    private void receivedOffers(UUID txId, LocalDateTime openedAt) {
+        int count = 1 + random.nextInt(settings.offersPerTransaction());
+        for (int o = 0; o < count; o++) {
+            LocalDateTime created = openedAt.plusDays(20 + random.nextInt(40));
+            offers.add(new Object[]{uuid(), txId, pick(FIRST_NAMES) + " " + pick(LAST_NAMES), money(240_000, 1_150_000),
+                    pick(new String[]{"PENDING", "UNDER_REVIEW", "COUNTERED", "ACCEPTED", "DECLINED"}),
+                    Date.valueOf(created.toLocalDate().plusDays(5)), ts(created), ts(created)});
+        }
+    }
+
+    private void documents(UUID txId, UUID clientId, UUID brokerId, boolean buySide, String[] stages, int stageIndex,
+                           LocalDateTime openedAt) {
+        for (int d = 0; d < settings.documentsPerTransaction(); d++) {
+            UUID documentId = uuid();
+            int roll = random.nextInt(100);
+            String status = roll < 5 ? "DRAFT" : roll < 35 ? "REQUESTED" : roll < 60 ? "SUBMITTED"
+                    : roll < 90 ? "APPROVED" : "NEEDS_REVISION";
+            boolean upload = random.nextInt(4) == 0;
+            String stage = stages[random.nextInt(stageIndex + 1)];
+            LocalDateTime created = openedAt.plusDays(random.nextInt(20));
+            documents.add(new Object[]{documentId, txId, clientId, buySide ? "BUY_SIDE" : "SELL_SIDE", pick(DOC_TYPES),
+                    random.nextInt(5) == 0 ? "Annex " + (d + 1) : null, status,
+                    upload ? "BROKER" : buySide ? "BUYER" : "SELLER",
+                    buySide ? stage : null, buySide ? null : stage, stage, upload ? "UPLOAD" : "REQUEST",
+                    !status.equals("DRAFT"), ts(created.plusDays(random.nextInt(10))), ts(created.plusDays(14)),
+                    ts(created)});
+            if (!status.equals("DRAFT") && !status.equals("REQUESTED")) {
+                for (int v = 0; v < settings.versionsPerDocument(); v++) {
+                    UUID versionId = uuid();
+                    versions.add(new Object[]{versionId, ts(created.plusDays(1 + v)), upload ? "BROKER" : "CLIENT",
+                            upload ? "BROKER" : buySide ? "BUYER" : "SELLER", upload ? brokerId : clientId,
+                            "loadtest/" + documentId + "/" + versionId + ".pdf", "document-" + (v + 1) + ".pdf",
+                            "application/pdf", 50_000L + random.nextInt(2_000_000), documentId});
+                }
+            }
+        }
+    }
+
+    private void appointments(UUID txId, UUID brokerId, UUID clientId, boolean buySide, String street,
+                              LocalDateTime openedAt) {
+        for (int a = 0; a < settings.appointmentsPerTransaction(); a++) {
+            // Spread over the past and the next few weeks
+            LocalDateTime from = max(openedAt, now.minusDays(90)).plusDays(random.nextInt(120))
+                    .withHour(9 + random.nextInt(9)).withMinute(random.nextBoolean() ? 0 : 30).withSecond(0);
+            int roll = random.nextInt(100);
+            String status = roll < 55 ? "CONFIRMED" : roll < 75 ? "PROPOSED" : roll < 85 ? "DECLINED" : "CANCELLED";
+            String title = buySide ? "house_visit" : random.nextBoolean() ? "open_house" : "private_showing";
+            appointments.add(new Object[]{uuid(), title, txId, brokerId, clientId, ts(from), ts(from.plusHours(1)),
+                    status, random.nextBoolean() ? "BROKER" : "CLIENT", street,
+                    buySide ? null : 1 + random.nextInt(8), ts(from.minusDays(3)), ts(from.minusDays(3)), 0L,
+                    from.isBefore(now)});
+        }
+    }
+
+    private void notifications(SeededUser user) {
+        String[] categories = {"DOCUMENT_REQUEST", "DOCUMENT_SUBMITTED", "DOCUMENT_APPROVED", "STAGE_UPDATE",
+                "OFFER_RECEIVED", "APPOINTMENT", "GENERAL"};
+        for (int n = 0; n < settings.notificationsPerUser(); n++) {
+            String category = pick(categories);
+            notifications.add(new Object[]{uuid().toString(), user.id().toString(), "Update: " + category,
+                    "Something changed on one of your files", random.nextInt(10) < 6, "GENERAL", category,
+                    ts(now.minusHours(random.nextInt(24 * 60)))});
+        }
+    }
+
+    private void flush() {
+        batch("INSERT INTO user_accounts (id, auth0user_id, email, first_name, last_name, role, active, "
+                + "preferred_language, email_notifications_enabled, in_app_notifications_enabled, "
+                + "weekly_digest_enabled, created_at, updated_at) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?)", users);
+        batch("INSERT INTO transactions (transaction_id, client_id, broker_id, street, city, province, postal_code, "
+                + "centris_number, side, buyer_stage, seller_stage, status, opened_at, closed_at, last_updated, "
+                + "version, view_version, archived, notes) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)", transactions);
+        batch("INSERT INTO timeline_entries (id, transaction_id, timestamp, actor_id, type, note, visible_to_client, "
+                + "actor_name, stage, previous_stage, new_stage) VALUES (?,?,?,?,?,?,?,?,?,?,?)", timeline);
+        batch("INSERT INTO properties (property_id, transaction_id, street, city, province, postal_code, asking_price, "
+                + "offer_amount, centris_number, status, offer_status, created_at, updated_at) "
+                + "VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?)", properties);
+        batch("INSERT INTO property_offers (property_offer_id, property_id, offer_round, offer_amount, status, "
+                + "counterparty_response, expiry_date, created_at, updated_at) VALUES (?,?,?,?,?,?,?,?,?)", propertyOffers);
+        batch("INSERT INTO offers (offer_id, transaction_id, buyer_name, offer_amount, status, expiry_date, "
+                + "created_at, updated_at) VALUES (?,?,?,?,?,?,?,?)", offers);
+        batch("INSERT INTO documents (document_id, transaction_id, client_id, side, doc_type, custom_title, status, "
+                + "expected_from, related_buyer_stage, related_seller_stage, stage, flow, visible_to_client, "
+                + "last_updated_at, due_date, created_at) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)", documents);
+        // document_versions references the generated documents.id
+        batch("INSERT INTO document_versions (version_id, uploaded_at, uploader_type, party, uploader_id, s3key, "
+                + "file_name, mime_type, size_bytes, document_id) "
+                + "SELECT ?, ?, ?, ?, ?, ?, ?, ?, ?, d.id FROM documents d WHERE d.document_id = ?", versions);
+        batch("INSERT INTO appointments (appointment_id, title, transaction_id, broker_id, client_id, from_date_time, "
+                + "to_date_time, status, initiated_by, location, number_of_visitors, created_at, updated_at, version, "
+                + "reminder_sent) VALUES (?,?,?,?,?,?,?,?,?,?,?,?,?,?,?)", appointments);
+        batch("INSERT INTO notifications (public_id, recipient_id, title, message, is_read, type, category, created_at) "
+                + "VALUES (?,?,?,?,?,?,?,?)", notifications);
+    }
+
+    private void batch(String sql, List<Object[]> rows) {
+        for (int from = 0; from < rows.size(); from += BATCH_SIZE) {
+            jdbc.batchUpdate(sql, rows.subList(from, Math.min(rows.size(), from + BATCH_SIZE)));
+        }
+    }
+
+    private int weighted(int[] weights) {
+        int total = Arrays.stream(weights).sum();
+        int roll = random.nextInt(total);
+        for (int i = 0; i < weights.length; i++) {
+            roll -= weights[i];
+            if (roll < 0) {
+                return i;
+            }
+        }
+        return weights.length - 1;
+    }
+
+    private UUID uuid() {
+        return new UUID(random.nextLong(), random.nextLong());
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private BigDecimal money(int min, int max) {
+        return BigDecimal.valueOf((min + random.nextInt(max - min)) / 1_000 * 1_000L);
+    }
+
+    private String centris() {
+        return String.valueOf(10_000_000 + random.nextInt(90_000_000));
+    }
+
+    private String postalCode() {
+        return "H" + random.nextInt(10) + (char) ('A' + random.nextInt(26)) + " "
+                + random.nextInt(10) + (char) ('A' + random.nextInt(26)) + random.nextInt(10);
+    }
+
+    private static Timestamp ts(LocalDateTime value) {
+        return value != null ? Timestamp.valueOf(value) : null;
+    }
+
+    private static LocalDateTime min(LocalDateTime a, LocalDateTime b) {
+        return a.isBefore(b) ? a : b;
+    }
+
+    private static LocalDateTime max(LocalDateTime a, LocalDateTime b) {
+        return a.isAfter(b) ? a : b;
+    }
+}
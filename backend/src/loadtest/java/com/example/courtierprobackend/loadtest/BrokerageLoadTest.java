@@ -0,0 +1,188 @@
+package com.example.courtierprobackend.loadtest;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.storage.ObjectStorageService;
+import com.example.courtierprobackend.loadtest.BrokerageDataGenerator.SeededBrokerage;
+import com.example.courtierprobackend.loadtest.BrokerageDataGenerator.SeededUser;
+import com.example.courtierprobackend.user.businesslayer.Auth0UserSyncService;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.test.web.server.LocalServerPort;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.security.oauth2.jwt.BadJwtException;
+import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.security.oauth2.jwt.JwtDecoder;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.net.URI;
+import java.net.URLEncoder;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Function;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Seeds a synthetic brokerage and drives the read endpoints the web app hits the most
+ * over real HTTP, reporting p50/p95/p99 per endpoint.
+ *
+ * <p>Runs on H2 by default; {@code -Ploadtest.db=postgres} targets a local Postgres
+ * migrated by Flyway, which is the configuration worth quoting numbers from. Auth0,
+ * object storage and mail are stubbed: tokens are {@code lt.<ROLE>.<auth0 id>} strings
+ * decoded locally, so the security filter chain and user context lookup still run.</p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+class BrokerageLoadTest {
+
+    private static final Logger log = LoggerFactory.getLogger(BrokerageLoadTest.class);
+
+    private static final String ROLES_CLAIM = "https://courtierpro.dev/roles";
+
+    @TestConfiguration
+    static class StubAuthConfig {
+
+        @Bean
+        @Primary
+        JwtDecoder loadTestJwtDecoder() {
+            return token -> {
+                String[] parts = token.split("\\.", 3);
+                if (parts.length != 3 || !parts[0].equals("lt")) {
+                    throw new BadJwtException("Not a load-test token");
+                }
+                Instant issuedAt = Instant.now();
+                return Jwt.withTokenValue(token)
+                        .header("alg", "none")
+                        .subject(parts[2])
+                        .claim(ROLES_CLAIM, List.of(parts[1]))
+                        .issuedAt(issuedAt)
+                        .expiresAt(issuedAt.plusSeconds(3600))
+                        .build();
+            };
+        }
+    }
+
+    @MockitoBean
+    private Auth0UserSyncService auth0UserSyncService;
+
+    @MockitoBean
+    private ObjectStorageService objectStorageService;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @LocalServerPort
+    private int port;
+
+    private final LoadTestSettings settings = LoadTestSettings.fromSystemProperties();
+    private final HttpClient http = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(5)).build();
+    private SeededBrokerage brokerage;
+
+    @BeforeAll
+    void seed() {
+        BrokerageDataGenerator generator = new BrokerageDataGenerator(jdbcTemplate, settings);
+        if (settings.reset()) {
+            generator.reset();
+        }
+        brokerage = generator.generate();
+    }
+
+    @Test
+    void readEndpointsUnderLoad() throws Exception {
+        Map<String, Function<Random, HttpRequest>> endpoints = new LinkedHashMap<>();
+        endpoints.put("GET /api/v1/dashboard/broker", r -> get(pick(r, brokerage.brokers()), "/api/v1/dashboard/broker"));
+        endpoints.put("GET /api/v1/dashboard/client", r -> get(pick(r, brokerage.clients()), "/api/v1/dashboard/client"));
+        endpoints.put("GET /transactions", r -> get(pick(r, brokerage.brokers()), "/transactions"));
+        endpoints.put("GET /transactions/{id}/detail", r -> {
+            SeededUser broker = pick(r, brokerage.brokers());
+            UUID transactionId = pick(r, brokerage.transactionsByBroker().get(broker.id()));
+            return get(broker, "/transactions/" + transactionId + "/detail");
+        });
+        endpoints.put("GET /api/search", r -> get(pick(r, brokerage.brokers()),
+                "/api/search?q=" + URLEncoder.encode(pick(r, brokerage.searchTerms()), StandardCharsets.UTF_8)));
+        endpoints.put("GET /analytics", r -> get(pick(r, brokerage.brokers()), "/analytics"));
+        endpoints.put("GET /api/v1/notifications", r -> get(
+                r.nextBoolean() ? pick(r, brokerage.brokers()) : pick(r, brokerage.clients()), "/api/v1/notifications"));
+
+        LatencyReport report = new LatencyReport();
+        ExecutorService workers = Executors.newFixedThreadPool(settings.concurrency());
+        try {
+            for (Map.Entry<String, Function<Random, HttpRequest>> endpoint : endpoints.entrySet()) {
+                run(workers, endpoint.getKey(), endpoint.getValue(), settings.warmupRequests(), null);
+                run(workers, endpoint.getKey(), endpoint.getValue(), settings.requestsPerEndpoint(), report);
+            }
+        } finally {
+            workers.shutdownNow();
+        }
+
+        log.info("Load test against {} brokers / {} clients, concurrency {}:\n{}",
+                brokerage.brokers().size(), brokerage.clients().size(), settings.concurrency(), report.table());
+        report.write(Path.of(settings.reportDir()), settings);
+        assertThat(report.totalErrors()).as("non-2xx responses").isZero();
+    }
+
+    private void run(ExecutorService workers, String endpoint, Function<Random, HttpRequest> requests, int count,
+                     LatencyReport report) throws InterruptedException, ExecutionException {
+        // Each endpoint gets its own seeded request sequence so runs are comparable
+        Random random = new Random(settings.seed() ^ endpoint.hashCode());
+        List<HttpRequest> batch = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            batch.add(requests.apply(random));
+        }
+        List<Future<?>> pending = new ArrayList<>(count);
+        for (HttpRequest request : batch) {
+            pending.add(workers.submit(() -> {
+                long start = System.nanoTime();
+                boolean ok;
+                try {
+                    HttpResponse<Void> response = http.send(request, HttpResponse.BodyHandlers.discarding());
+                    ok = response.statusCode() / 100 == 2;
+                    if (!ok && report != null) {
+                        log.warn("{} -> {}", request.uri(), response.statusCode());
+                    }
+                } catch (Exception e) {
+                    ok = false;
+                    log.warn("{} failed: {}", request.uri(), e.toString());
+                }
+                if (report != null) {
+                    report.record(endpoint, System.nanoTime() - start, ok);
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : pending) {
+            future.get();
+        }
+    }
+
+    private HttpRequest get(SeededUser user, String path) {
+        return HttpRequest.newBuilder(URI.create("http://localhost:" + port + path))
+                .header("Authorization", "Bearer lt." + user.role() + "." + user.auth0UserId())
+                .header("Accept", "application/json")
+                .timeout(Duration.ofSeconds(30))
+                .GET()
+                .build();
+    }
+
+    private static <T> T pick(Random random, List<T> values) {
+        return values.get(random.nextInt(values.size()));
+    }
+}
@@ -0,0 +1,98 @@
+package com.example.courtierprobackend.loadtest;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Collects per-endpoint request latencies from concurrent workers and summarises them
+ * as nearest-rank percentiles. Written as a console table plus JSON and CSV files so
+ * runs can be diffed or charted.
+ */
+public class LatencyReport {
+
+    private final Map<String, ConcurrentLinkedQueue<Long>> samples = new ConcurrentHashMap<>();
+    private final Map<String, AtomicInteger> errors = new ConcurrentHashMap<>();
+    private final List<String> order = Collections.synchronizedList(new ArrayList<>());
+
+    public record Summary(String endpoint, int requests, int errors, double meanMs, double p50Ms, double p95Ms,
+                          double p99Ms, double maxMs) {
+    }
+
+    public void record(String endpoint, long nanos, boolean ok) {
+        samples.computeIfAbsent(endpoint, key -> {
+            order.add(key);
+            return new ConcurrentLinkedQueue<>();
+        }).add(nanos);
+        if (!ok) {
+            errors.computeIfAbsent(endpoint, key -> new AtomicInteger()).incrementAndGet();
+        }
+    }
+
+    public List<Summary> summaries() {
+        List<Summary> result = new ArrayList<>();
+        for (String endpoint : List.copyOf(order)) {
+            long[] sorted = samples.get(endpoint).stream().mapToLong(Long::longValue).sorted().toArray();
+            double mean = Arrays.stream(sorted).average().orElse(0);
+            result.add(new Summary(endpoint, sorted.length, errorCount(endpoint), ms(mean),
+                    ms(percentile(sorted, 50)), ms(percentile(sorted, 95)), ms(percentile(sorted, 99)),
+                    ms(sorted.length == 0 ? 0 : sorted[sorted.length - 1])));
+        }
+        return result;
+    }
+
+    public int totalErrors() {
+        return errors.values().stream().mapToInt(AtomicInteger::get).sum();
+    }
+
+    public String table() {
+        StringBuilder out = new StringBuilder(String.format("%-36s %8s %6s %9s %9s %9s %9s %9s%n",
+                "endpoint", "requests", "errors", "mean ms", "p50 ms", "p95 ms", "p99 ms", "max ms"));
+        for (Summary s : summaries()) {
+            out.append(String.format(Locale.ROOT, "%-36s %8d %6d %9.2f %9.2f %9.2f %9.2f %9.2f%n", s.endpoint(),
+                    s.requests(), s.errors(), s.meanMs(), s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs()));
+        }
+        return out.toString();
+    }
+
+    public void write(Path dir, LoadTestSettings settings) throws IOException {
+        Files.createDirectories(dir);
+        List<Summary> summaries = summaries();
+
+        StringBuilder csv = new StringBuilder("endpoint,requests,errors,mean_ms,p50_ms,p95_ms,p99_ms,max_ms\n");
+        StringBuilder json = new StringBuilder("{\n  \"settings\": \"").append(settings).append("\",\n  \"endpoints\": [\n");
+        for (int i = 0; i < summaries.size(); i++) {
+            Summary s = summaries.get(i);
+            csv.append(String.format(Locale.ROOT, "%s,%d,%d,%.3f,%.3f,%.3f,%.3f,%.3f%n", s.endpoint(), s.requests(),
+                    s.errors(), s.meanMs(), s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs()));
+            json.append(String.format(Locale.ROOT, "    {\"endpoint\": \"%s\", \"requests\": %d, \"errors\": %d, "
+                            + "\"meanMs\": %.3f, \"p50Ms\": %.3f, \"p95Ms\": %.3f, \"p99Ms\": %.3f, \"maxMs\": %.3f}%s%n",
+                    s.endpoint(), s.requests(), s.errors(), s.meanMs(), s.p50Ms(), s.p95Ms(), s.p99Ms(), s.maxMs(),
+                    i < summaries.size() - 1 ? "," : ""));
+        }
+        json.append("  ]\n}\n");
+        Files.writeString(dir.resolve("latency.csv"), csv);
+        Files.writeString(dir.resolve("latency.json"), json);
+    }
+
+    static long percentile(long[] sorted, int percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, rank - 1)];
+    }
+
+    private int errorCount(String endpoint) {
+        AtomicInteger count = errors.get(endpoint);
+        return count == null ? 0 : count.get();
+    }
+
+    private static double ms(double nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
@@ -0,0 +1,45 @@
+package com.example.courtierprobackend.loadtest;
+
+/**
+ * Sizes of the generated brokerage and of the load run, read from {@code loadtest.*}
+ * system properties ({@code ./gradlew loadTest -Ploadtest.brokers=50}). The defaults
+ * give a few thousand transactions, enough to surface per-row costs in a minute or two.
+ */
+public record LoadTestSettings(
+        long seed,
+        int brokers,
+        int clientsPerBroker,
+        int transactionsPerClient,
+        int propertiesPerBuyTransaction,
+        int offersPerTransaction,
+        int documentsPerTransaction,
+        int versionsPerDocument,
+        int timelineEntriesPerTransaction,
+        int appointmentsPerTransaction,
+        int notificationsPerUser,
+        int warmupRequests,
+        int requestsPerEndpoint,
+        int concurrency,
+        boolean reset,
+        String reportDir) {
+
+    public static LoadTestSettings fromSystemProperties() {
+        return new LoadTestSettings(
+                Long.getLong("loadtest.seed", 20240601L),
+                Integer.getInteger("loadtest.brokers", 10),
+                Integer.getInteger("loadtest.clientsPerBroker", 40),
+                Integer.getInteger("loadtest.transactionsPerClient", 2),
+                Integer.getInteger("loadtest.propertiesPerBuyTransaction", 4),
+                Integer.getInteger("loadtest.offersPerTransaction", 3),
+                Integer.getInteger("loadtest.documentsPerTransaction", 8),
+                Integer.getInteger("loadtest.versionsPerDocument", 2),
+                Integer.getInteger("loadtest.timelineEntriesPerTransaction", 15),
+                Integer.getInteger("loadtest.appointmentsPerTransaction", 3),
+                Integer.getInteger("loadtest.notificationsPerUser", 30),
+                Integer.getInteger("loadtest.warmupRequests", 50),
+                Integer.getInteger("loadtest.requestsPerEndpoint", 500),
+                Integer.getInteger("loadtest.concurrency", 8),
+                Boolean.parseBoolean(System.getProperty("loadtest.reset", "true")),
+                System.getProperty("loadtest.reportDir", "build/reports/loadtest"));
+    }
+}
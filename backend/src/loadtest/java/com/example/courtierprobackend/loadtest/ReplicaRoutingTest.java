@@ -0,0 +1,113 @@
+package com.example.courtierprobackend.loadtest;
+
+import com.example.courtierprobackend.infrastructure.datasource.ReadYourWritesFilter;
+import com.example.courtierprobackend.infrastructure.datasource.ReplicaLagMonitor;
+import com.example.courtierprobackend.infrastructure.datasource.ReplicaRoutingDataSource;
+import com.example.courtierprobackend.security.UserContextFilter;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Clock;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks which server answers read-only and read-write work when read replicas are enabled,
+ * against two local Postgres instances told apart by their port. The second instance does
+ * not need to replicate the first: only the route is checked.
+ * {@code ./gradlew replicaRoutingTest}.
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Tag("replica")
+class ReplicaRoutingTest {
+
+    private static final String SERVER_PORT = "SELECT inet_server_port()";
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private HikariDataSource primaryDataSource;
+
+    @Autowired
+    private ReplicaLagMonitor replicaLagMonitor;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private int primaryPort;
+    private int replicaPort;
+
+    @BeforeAll
+    void resolvePorts() {
+        primaryPort = new JdbcTemplate(primaryDataSource).queryForObject(SERVER_PORT, Integer.class);
+        replicaPort = new JdbcTemplate(replicaLagMonitor.replicas().get("replica-1"))
+                .queryForObject(SERVER_PORT, Integer.class);
+        assumeTrue(primaryPort != replicaPort, "Primary and replica must be two instances");
+
+        replicaLagMonitor.checkLag();
+    }
+
+    @Test
+    void readOnlyTransactions_areServedByTheReplica() {
+        assertThat(serverPort(dataSource, true)).isEqualTo(replicaPort);
+    }
+
+    @Test
+    void readWriteTransactionsAndPlainStatements_stayOnThePrimary() {
+        assertThat(serverPort(dataSource, false)).isEqualTo(primaryPort);
+        assertThat(new JdbcTemplate(dataSource).queryForObject(SERVER_PORT, Integer.class)).isEqualTo(primaryPort);
+    }
+
+    @Test
+    void userWhoJustWrote_readsFromThePrimary() throws Exception {
+        ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(15), Clock.systemUTC());
+        UUID writer = UUID.randomUUID();
+        request(filter, "POST", writer);
+
+        assertThat(request(filter, "GET", writer)).isEqualTo(primaryPort);
+        assertThat(request(filter, "GET", UUID.randomUUID())).isEqualTo(replicaPort);
+    }
+
+    @Test
+    void replicaBehindMaxLag_fallsBackToThePrimary() {
+        // Every replica lags by more than a negative maximum
+        ReplicaLagMonitor strict = new ReplicaLagMonitor(replicaLagMonitor.replicas(), Duration.ofMillis(-1));
+        strict.checkLag();
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(primaryDataSource, strict);
+        routing.afterPropertiesSet();
+
+        assertThat(serverPort(new LazyConnectionDataSourceProxy(routing), true)).isEqualTo(primaryPort);
+    }
+
+    private int serverPort(DataSource target, boolean readOnly) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setReadOnly(readOnly);
+        return transaction.execute(status -> new JdbcTemplate(target).queryForObject(SERVER_PORT, Integer.class));
+    }
+
+    private int request(ReadYourWritesFilter filter, String method, UUID userId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/dashboard/broker");
+        request.setAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR, userId);
+        AtomicInteger port = new AtomicInteger();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> port.set(serverPort(dataSource, true)));
+        return port.get();
+    }
+}
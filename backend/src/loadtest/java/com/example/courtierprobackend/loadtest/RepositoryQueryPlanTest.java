@@ -0,0 +1,411 @@
+package com.example.courtierprobackend.loadtest;
+
+import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
+import com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus;
+import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentStatusEnum;
+import com.example.courtierprobackend.documents.datalayer.enums.StageEnum;
+import com.example.courtierprobackend.loadtest.BrokerageDataGenerator.SeededBrokerage;
+import com.example.courtierprobackend.loadtest.queryplan.PlanBaseline;
+import com.example.courtierprobackend.loadtest.queryplan.PlanExplainer;
+import com.example.courtierprobackend.loadtest.queryplan.QueryPlan;
+import com.example.courtierprobackend.loadtest.queryplan.StatementRecorder;
+import com.example.courtierprobackend.loadtest.queryplan.StatementRecorder.RecordedStatement;
+import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import com.example.courtierprobackend.user.dataaccesslayer.UserRole;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Query-plan regression check for the custom queries of the transaction, document,
+ * appointment and user repositories.
+ *
+ * <p>Each case calls the real repository method, captures the SQL Hibernate sends with its
+ * bound parameters, and replays it under {@code EXPLAIN (ANALYZE, BUFFERS)} on a seeded
+ * Postgres. A case fails when it reads a table of {@code queryplan.seqScanMinRows} or more
+ * rows sequentially without saying why, or when its planner cost grows more than
+ * {@code queryplan.costTolerance} over the checked-in baseline.</p>
+ *
+ * <p>Every run writes {@code summary.json} and the full {@code plans.json} under
+ * {@code build/reports/queryplan}; {@code ./gradlew queryPlanBaseline} promotes the summary
+ * to the baseline. Without a baseline, or without an entry for a case, the run fails unless
+ * {@code queryplan.recordBaseline} is set, as when recording the first one with
+ * {@code ./gradlew queryPlanTest -Pqueryplan.recordBaseline=true queryPlanBaseline}.
+ * Postgres only: {@code ./gradlew queryPlanTest}.</p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Tag("query-plan")
+class RepositoryQueryPlanTest {
+
+    private static final StatementRecorder RECORDER = new StatementRecorder();
+    private static final Pageable PAGE = PageRequest.of(0, 20);
+    private static final int SOFT_DELETED_PERCENT = 10;
+
+    private static final long SEQ_SCAN_MIN_ROWS = Long.getLong("queryplan.seqScanMinRows", 1000);
+    private static final double COST_TOLERANCE =
+            Double.parseDouble(System.getProperty("queryplan.costTolerance", "0.25"));
+    private static final Path BASELINE =
+            Path.of(System.getProperty("queryplan.baseline", "src/loadtest/resources/queryplan/baseline.json"));
+    private static final boolean RECORD_BASELINE = Boolean.getBoolean("queryplan.recordBaseline");
+    private static final Path REPORT_DIR =
+            Path.of(System.getProperty("queryplan.reportDir", "build/reports/queryplan"));
+
+    @TestConfiguration
+    static class RecordingDataSourceConfig {
+
+        @Bean
+        static BeanPostProcessor recordingDataSource() {
+            return new BeanPostProcessor() {
+                @Override
+                public Object postProcessAfterInitialization(Object bean, String beanName) {
+                    return bean instanceof DataSource dataSource ? RECORDER.wrap(dataSource) : bean;
+                }
+            };
+        }
+    }
+
+    /**
+     * One repository call. {@code seqScanReason} is set for the queries that read a whole
+     * table by design or whose shape no index can serve yet.
+     */
+    private record QueryCase(String name, Runnable call, String seqScanReason) {
+    }
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private DocumentRepository documentRepository;
+
+    @Autowired
+    private AppointmentRepository appointmentRepository;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    private final Map<String, PlanBaseline.Entry> summaries = new TreeMap<>();
+    private final Map<String, List<JsonNode>> plans = new TreeMap<>();
+
+    private PlanExplainer explainer;
+    private TransactionTemplate transactionTemplate;
+    private Map<String, PlanBaseline.Entry> baseline;
+    private Set<String> largeTables;
+
+    private UUID brokerId;
+    private List<UUID> brokerIds;
+    private UUID clientId;
+    private String clientEmail;
+    private String brokerAuth0UserId;
+    private String searchTerm;
+    private UUID transactionId;
+    private UUID documentId;
+    private UUID appointmentId;
+    private UUID propertyId;
+
+    @BeforeAll
+    void seed() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        assumeTrue("PostgreSQL".equals(product), "Query plans are only checked on Postgres");
+
+        BrokerageDataGenerator generator = new BrokerageDataGenerator(jdbcTemplate, LoadTestSettings.fromSystemProperties());
+        generator.reset();
+        SeededBrokerage brokerage = generator.generate();
+        generator.softDelete(SOFT_DELETED_PERCENT);
+        jdbcTemplate.execute("ANALYZE");
+
+        explainer = new PlanExplainer(jdbcTemplate, transactionManager);
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        baseline = PlanBaseline.read(BASELINE);
+        if (!RECORD_BASELINE) {
+            assertThat(baseline)
+                    .as("query plan baseline %s; record it with -Pqueryplan.recordBaseline=true queryPlanBaseline", BASELINE)
+                    .isNotEmpty();
+        }
+        largeTables = new HashSet<>(jdbcTemplate.queryForList(
+                "SELECT relname FROM pg_class WHERE relkind IN ('r', 'p') AND reltuples >= ?",
+                String.class, SEQ_SCAN_MIN_ROWS));
+
+        brokerId = brokerage.brokers().get(0).id();
+        brokerIds = brokerage.brokers().stream().map(BrokerageDataGenerator.SeededUser::id).limit(50).toList();
+        brokerAuth0UserId = brokerage.brokers().get(0).auth0UserId();
+        clientId = brokerage.clients().get(0).id();
+        searchTerm = brokerage.searchTerms().get(0);
+        clientEmail = jdbcTemplate.queryForObject("SELECT email FROM user_accounts WHERE id = ?", String.class, clientId);
+        transactionId = anyId("SELECT transaction_id FROM transactions WHERE broker_id = ? AND deleted_at IS NULL",
+                brokerId);
+        documentId = anyId("SELECT document_id FROM documents WHERE transaction_id = ?", transactionId);
+        appointmentId = anyId("SELECT appointment_id FROM appointments WHERE transaction_id = ?", transactionId);
+        propertyId = anyId("SELECT property_id FROM properties WHERE transaction_id IN "
+                + "(SELECT transaction_id FROM transactions WHERE broker_id = ?)", brokerId);
+    }
+
+    @TestFactory
+    Stream<DynamicTest> repositoryQueries() {
+        return cases().stream().map(queryCase -> DynamicTest.dynamicTest(queryCase.name(), () -> check(queryCase)));
+    }
+
+    @AfterAll
+    void writeReports() {
+        if (!summaries.isEmpty()) {
+            PlanBaseline.write(REPORT_DIR.resolve("summary.json"), summaries);
+            PlanBaseline.write(REPORT_DIR.resolve("plans.json"), plans);
+        }
+    }
+
+    private List<QueryCase> cases() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime monthAgo = now.minusDays(30);
+        LocalDateTime nextMonth = now.plusDays(30);
+        List<UUID> clients = List.of(clientId);
+        List<UUID> transactions = List.of(transactionId);
+        List<QueryCase> cases = new ArrayList<>();
+
+        // TransactionRepository
+        cases.add(query("Transaction.findByTransactionId", () -> transactionRepository.findByTransactionId(transactionId)));
+        cases.add(query("Transaction.findVersionStamp", () -> transactionRepository.findVersionStamp(transactionId)));
+        cases.add(query("Transaction.findAllByBrokerId", () -> transactionRepository.findAllByBrokerId(brokerId)));
+        cases.add(query("Transaction.countByBrokerId", () -> transactionRepository.countByBrokerId(brokerId)));
+        cases.add(query("Transaction.findAllByClientId", () -> transactionRepository.findAllByClientId(clientId)));
+        cases.add(query("Transaction.findAllByFilters",
+                () -> transactionRepository.findAllByFilters(brokerId, null, null, null, false)));
+        cases.add(query("Transaction.findArchivedByBrokerId", () -> transactionRepository.findArchivedByBrokerId(brokerId)));
+        cases.add(query("Transaction.findAllByBrokerIdAndArchivedFalse",
+                () -> transactionRepository.findAllByBrokerIdAndArchivedFalse(brokerId)));
+        cases.add(query("Transaction.searchTransactions",
+                () -> transactionRepository.searchTransactions(brokerId, searchTerm, PAGE)));
+        cases.add(query("Transaction.findByClientIdIn", () -> transactionRepository.findByClientIdIn(clients)));
+        cases.add(query("Transaction.findByTransactionIdIn", () -> transactionRepository.findByTransactionIdIn(transactions)));
+        cases.add(query("Transaction.findLinkedToUsers",
+                () -> transactionRepository.findLinkedToUsers(clients, brokerId, PAGE)));
+        cases.add(query("Transaction.findAllByParticipantEmail",
+                () -> transactionRepository.findAllByParticipantEmail(clientEmail)));
+        cases.add(fullScan("Transaction.findAllIncludingDeleted", "admin listing of every row",
+                () -> transactionRepository.findAllIncludingDeleted()));
+        cases.add(query("Transaction.findAllDeleted", () -> transactionRepository.findAllDeleted()));
+        cases.add(query("Transaction.findByTransactionIdIncludingDeleted",
+                () -> transactionRepository.findByTransactionIdIncludingDeleted(transactionId)));
+        cases.add(query("Transaction.findForAnalytics[all time]",
+                () -> transactionRepository.findForAnalytics(brokerId, null, null, null)));
+        cases.add(query("Transaction.findForAnalytics[range]",
+                () -> transactionRepository.findForAnalytics(brokerId, now.minusDays(90), now, null)));
+        cases.add(query("Transaction.findForAnalytics[open end]",
+                () -> transactionRepository.findForAnalytics(brokerId, now.minusDays(90), null, null)));
+        cases.add(query("Transaction.findForAnalyticsWithClients",
+                () -> transactionRepository.findForAnalyticsWithClients(brokerId, now.minusDays(90), now, null, clients)));
+        cases.add(query("Transaction.findStalledTransactions",
+                () -> transactionRepository.findStalledTransactions(brokerId, now.minusDays(14))));
+        cases.add(query("Transaction.findStalledTransactionsForBrokers",
+                () -> transactionRepository.findStalledTransactionsForBrokers(brokerIds, now.minusDays(14))));
+
+        // DocumentRepository
+        cases.add(query("Document.findByDocumentId", () -> documentRepository.findByDocumentId(documentId)));
+        cases.add(query("Document.findByTransactionRef_TransactionId",
+                () -> documentRepository.findByTransactionRef_TransactionId(transactionId)));
+        cases.add(query("Document.findByTransactionRef_TransactionIdAndStage",
+                () -> documentRepository.findByTransactionRef_TransactionIdAndStage(
+                        transactionId, StageEnum.BUYER_FINANCIAL_PREPARATION)));
+        cases.add(query("Document.findByTransactionRef_TransactionIdAndTemplateKey",
+                () -> documentRepository.findByTransactionRef_TransactionIdAndTemplateKey(transactionId, "loadtest")));
+        cases.add(query("Document.findByTransactionRef_TransactionIdAndAutoGeneratedTrueAndStatus",
+                () -> documentRepository.findByTransactionRef_TransactionIdAndAutoGeneratedTrueAndStatus(
+                        transactionId, DocumentStatusEnum.REQUESTED)));
+        cases.add(fullScan("Document.findByUserId", "client OR broker-subquery filter has no single index",
+                () -> documentRepository.findByUserId(brokerId)));
+        cases.add(fullScan("Document.searchDocuments", "client OR broker-subquery filter has no single index",
+                () -> documentRepository.searchDocuments(brokerId, searchTerm, PAGE)));
+        cases.add(query("Document.findByTransactionRefClientIdIn",
+                () -> documentRepository.findByTransactionRefClientIdIn(clients)));
+        cases.add(fullScan("Document.findLinkedToUsers", "client OR broker-subquery filter has no single index",
+                () -> documentRepository.findLinkedToUsers(clients, brokerId, PAGE)));
+        cases.add(fullScan("Document.findAllIncludingDeleted", "admin listing of every row",
+                () -> documentRepository.findAllIncludingDeleted()));
+        cases.add(query("Document.findAllDeleted", () -> documentRepository.findAllDeleted()));
+        cases.add(query("Document.findByDocumentIdIncludingDeleted",
+                () -> documentRepository.findByDocumentIdIncludingDeleted(documentId)));
+        cases.add(query("Document.findByTransactionIdIncludingDeleted",
+                () -> documentRepository.findByTransactionIdIncludingDeleted(transactionId)));
+        cases.add(query("Document.findOutstandingRowsForBroker",
+                () -> documentRepository.findOutstandingRowsForBroker(brokerId, now, PAGE)));
+        cases.add(query("Document.findOutstandingClientsForBroker",
+                () -> documentRepository.findOutstandingClientsForBroker(brokerId, now, PAGE)));
+        cases.add(query("Document.findOutstandingRowsForClients",
+                () -> documentRepository.findOutstandingRowsForClients(brokerId, now, clients)));
+        cases.add(query("Document.findPendingDocumentsForWeeklyDigest",
+                () -> documentRepository.findPendingDocumentsForWeeklyDigest(brokerId)));
+        cases.add(query("Document.findPendingDocumentsForWeeklyDigestByBroker",
+                () -> documentRepository.findPendingDocumentsForWeeklyDigestByBroker(brokerIds)));
+
+        // AppointmentRepository
+        cases.add(query("Appointment.findByAppointmentId", () -> appointmentRepository.findByAppointmentId(appointmentId)));
+        cases.add(query("Appointment.findByBrokerIdOrderByFromDateTimeAsc",
+                () -> appointmentRepository.findByBrokerIdOrderByFromDateTimeAsc(brokerId)));
+        cases.add(query("Appointment.findByClientIdOrderByFromDateTimeAsc",
+                () -> appointmentRepository.findByClientIdOrderByFromDateTimeAsc(clientId)));
+        cases.add(query("Appointment.findByBrokerIdAndDateRange",
+                () -> appointmentRepository.findByBrokerIdAndDateRange(brokerId, monthAgo, nextMonth)));
+        cases.add(query("Appointment.findByClientIdAndDateRange",
+                () -> appointmentRepository.findByClientIdAndDateRange(clientId, monthAgo, nextMonth)));
+        cases.add(query("Appointment.findByBrokerIdAndStatusOrderByFromDateTimeAsc",
+                () -> appointmentRepository.findByBrokerIdAndStatusOrderByFromDateTimeAsc(
+                        brokerId, AppointmentStatus.CONFIRMED)));
+        cases.add(query("Appointment.findByClientIdAndStatusOrderByFromDateTimeAsc",
+                () -> appointmentRepository.findByClientIdAndStatusOrderByFromDateTimeAsc(
+                        clientId, AppointmentStatus.CONFIRMED)));
+        cases.add(query("Appointment.findByBrokerIdAndDateRangeAndStatus",
+                () -> appointmentRepository.findByBrokerIdAndDateRangeAndStatus(
+                        brokerId, monthAgo, nextMonth, AppointmentStatus.CONFIRMED)));
+        cases.add(query("Appointment.findByBrokerIdAndDateRangeAndStatusIn",
+                () -> appointmentRepository.findByBrokerIdAndDateRangeAndStatusIn(
+                        brokerId, monthAgo, nextMonth, List.of(AppointmentStatus.PROPOSED, AppointmentStatus.CONFIRMED))));
+        cases.add(query("Appointment.findByBrokerIdInAndDateRangeAndStatusIn",
+                () -> appointmentRepository.findByBrokerIdInAndDateRangeAndStatusIn(
+                        brokerIds, now, now.plusDays(7), List.of(AppointmentStatus.PROPOSED, AppointmentStatus.CONFIRMED))));
+        cases.add(query("Appointment.findByClientIdAndDateRangeAndStatus",
+                () -> appointmentRepository.findByClientIdAndDateRangeAndStatus(
+                        clientId, monthAgo, nextMonth, AppointmentStatus.CONFIRMED)));
+        cases.add(query("Appointment.findByTransactionIdOrderByFromDateTimeAsc",
+                () -> appointmentRepository.findByTransactionIdOrderByFromDateTimeAsc(transactionId)));
+        cases.add(query("Appointment.findUpcomingByBrokerId", () -> appointmentRepository.findUpcomingByBrokerId(brokerId, now)));
+        cases.add(query("Appointment.findUpcomingByClientId", () -> appointmentRepository.findUpcomingByClientId(clientId, now)));
+        cases.add(query("Appointment.lockDueReminders",
+                () -> appointmentRepository.lockDueReminders(now, now.plusDays(1), 50)));
+        cases.add(query("Appointment.searchAppointments",
+                () -> appointmentRepository.searchAppointments(brokerId, searchTerm, PAGE)));
+        cases.add(fullScan("Appointment.findAllIncludingDeleted", "admin listing of every row",
+                () -> appointmentRepository.findAllIncludingDeleted()));
+        cases.add(query("Appointment.findByAppointmentIdIncludingDeleted",
+                () -> appointmentRepository.findByAppointmentIdIncludingDeleted(appointmentId)));
+        cases.add(query("Appointment.findByTransactionIdIncludingDeleted",
+                () -> appointmentRepository.findByTransactionIdIncludingDeleted(transactionId)));
+        cases.add(query("Appointment.countConfirmedHouseVisitsByPropertyId",
+                () -> appointmentRepository.countConfirmedHouseVisitsByPropertyId(propertyId)));
+        cases.add(query("Appointment.countConfirmedHouseVisitsByTransactionId",
+                () -> appointmentRepository.countConfirmedHouseVisitsByTransactionId(transactionId)));
+        cases.add(query("Appointment.countConfirmedHouseVisitsByPropertyIds",
+                () -> appointmentRepository.countConfirmedHouseVisitsByPropertyIds(List.of(propertyId))));
+        cases.add(query("Appointment.countConfirmedHouseVisitsByTransactionIds",
+                () -> appointmentRepository.countConfirmedHouseVisitsByTransactionIds(transactions)));
+        cases.add(query("Appointment.countConfirmedShowingsByTransactionId",
+                () -> appointmentRepository.countConfirmedShowingsByTransactionId(transactionId)));
+        cases.add(query("Appointment.sumVisitorsByTransactionId",
+                () -> appointmentRepository.sumVisitorsByTransactionId(transactionId)));
+        cases.add(query("Appointment.sumVisitorsByTransactionIds",
+                () -> appointmentRepository.sumVisitorsByTransactionIds(transactions)));
+        cases.add(query("Appointment.countConfirmedShowingsByVisitorId",
+                () -> appointmentRepository.countConfirmedShowingsByVisitorId(clientId)));
+        cases.add(query("Appointment.countConfirmedShowingsByVisitorIds",
+                () -> appointmentRepository.countConfirmedShowingsByVisitorIds(clients)));
+        cases.add(query("Appointment.countConfirmedShowingsByTransactionIds",
+                () -> appointmentRepository.countConfirmedShowingsByTransactionIds(transactions)));
+        cases.add(query("Appointment.findForAnalytics[all time]",
+                () -> appointmentRepository.findForAnalytics(brokerId, null, null)));
+        cases.add(query("Appointment.findForAnalytics[range]",
+                () -> appointmentRepository.findForAnalytics(brokerId, monthAgo, nextMonth)));
+        cases.add(query("Appointment.findForAnalyticsWithClients",
+                () -> appointmentRepository.findForAnalyticsWithClients(brokerId, monthAgo, nextMonth, clients)));
+
+        // UserAccountRepository
+        cases.add(query("UserAccount.findByEmail", () -> userAccountRepository.findByEmail(clientEmail)));
+        cases.add(query("UserAccount.findByAuth0UserId", () -> userAccountRepository.findByAuth0UserId(brokerAuth0UserId)));
+        cases.add(query("UserAccount.findByRole", () -> userAccountRepository.findByRole(UserRole.BROKER)));
+        cases.add(fullScan("UserAccount.findByActiveTrue", "reads every active account",
+                () -> userAccountRepository.findByActiveTrue()));
+        cases.add(query("UserAccount.searchClientsOfBroker",
+                () -> userAccountRepository.searchClientsOfBroker(brokerId, searchTerm, PAGE)));
+        cases.add(query("UserAccount.findIdsBySearchQuery",
+                () -> userAccountRepository.findIdsBySearchQuery(brokerId, searchTerm)));
+        cases.add(query("UserAccount.findDigestRecipients",
+                () -> userAccountRepository
+                        .findByRoleAndWeeklyDigestEnabledTrueAndEmailNotificationsEnabledTrueAndActiveTrue(UserRole.BROKER)));
+        cases.add(query("UserAccount.lockBrokersDueForWeeklyDigest",
+                () -> userAccountRepository.lockBrokersDueForWeeklyDigest(now.toLocalDate(), 50)));
+        return cases;
+    }
+
+    private void check(QueryCase queryCase) {
+        List<RecordedStatement> statements = RECORDER.record(() -> transactionTemplate.executeWithoutResult(status -> {
+            status.setRollbackOnly();
+            queryCase.call().run();
+        }));
+        List<QueryPlan> casePlans = statements.stream()
+                .filter(RecordedStatement::isSelect)
+                .map(explainer::explainAnalyze)
+                .toList();
+        assertThat(casePlans).as("statements run by %s", queryCase.name()).isNotEmpty();
+
+        PlanBaseline.Entry entry = PlanBaseline.Entry.of(casePlans);
+        summaries.put(queryCase.name(), entry);
+        plans.put(queryCase.name(), casePlans.stream().map(QueryPlan::asJson).toList());
+
+        if (queryCase.seqScanReason() == null) {
+            assertThat(entry.seqScans())
+                    .as("sequential scans of tables with %d+ rows%n%s", SEQ_SCAN_MIN_ROWS, casePlans)
+                    .noneMatch(largeTables::contains);
+        }
+        PlanBaseline.Entry before = baseline.get(queryCase.name());
+        if (before == null) {
+            assertThat(RECORD_BASELINE)
+                    .as("no baseline entry for %s; record it with -Pqueryplan.recordBaseline=true queryPlanBaseline",
+                            queryCase.name())
+                    .isTrue();
+        } else {
+            assertThat(entry.totalCost())
+                    .as("planner cost against baseline %.2f%n%s", before.totalCost(), casePlans)
+                    .isLessThanOrEqualTo(before.totalCost() * (1 + COST_TOLERANCE));
+        }
+    }
+
+    private static QueryCase query(String name, Runnable call) {
+        return new QueryCase(name, call, null);
+    }
+
+    private static QueryCase fullScan(String name, String reason, Runnable call) {
+        return new QueryCase(name, call, reason);
+    }
+
+    private UUID anyId(String sql, Object... args) {
+        return jdbcTemplate.queryForList(sql + " LIMIT 1", UUID.class, args).stream()
+                .findFirst()
+                .orElseGet(UUID::randomUUID);
+    }
+}
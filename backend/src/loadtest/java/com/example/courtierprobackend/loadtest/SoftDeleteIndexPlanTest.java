@@ -0,0 +1,154 @@
+package com.example.courtierprobackend.loadtest;
+
+import com.example.courtierprobackend.loadtest.BrokerageDataGenerator.SeededBrokerage;
+import com.example.courtierprobackend.loadtest.queryplan.PlanExplainer;
+import com.example.courtierprobackend.loadtest.queryplan.QueryPlan;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestInstance;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Checks that the reads behind the soft-delete filtered entities are served by the
+ * partial indexes of migration V12, and never by ANDing bitmaps of separate indexes.
+ *
+ * <p>The SQL mirrors what Hibernate generates for the repository methods, including the
+ * {@code deleted_at IS NULL} that {@code @Where} appends. Postgres only:
+ * {@code ./gradlew queryPlanTest}.</p>
+ */
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.NONE)
+@TestInstance(TestInstance.Lifecycle.PER_CLASS)
+@Tag("query-plan")
+class SoftDeleteIndexPlanTest {
+
+    private static final int SOFT_DELETED_PERCENT = 10;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private PlanExplainer explainer;
+    private UUID brokerId;
+    private UUID clientId;
+    private UUID transactionId;
+    private long documentId;
+
+    @BeforeAll
+    void seed() {
+        String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        assumeTrue("PostgreSQL".equals(product), "Query plans are only checked on Postgres");
+
+        BrokerageDataGenerator generator = new BrokerageDataGenerator(jdbcTemplate, LoadTestSettings.fromSystemProperties());
+        generator.reset();
+        SeededBrokerage brokerage = generator.generate();
+        generator.softDelete(SOFT_DELETED_PERCENT);
+        jdbcTemplate.execute("ANALYZE");
+
+        explainer = new PlanExplainer(jdbcTemplate, transactionManager);
+        brokerId = brokerage.brokers().get(0).id();
+        clientId = brokerage.clients().get(0).id();
+        transactionId = brokerage.transactionsByBroker().get(brokerId).get(0);
+        documentId = jdbcTemplate.queryForObject(
+                "SELECT min(id) FROM documents WHERE transaction_id = ?", Long.class, transactionId);
+    }
+
+    @Test
+    void brokerTransactions_useBrokerArchivedPartialIndex() {
+        assertUses("idx_transactions_broker_archived_live",
+                "SELECT * FROM transactions t WHERE t.broker_id = ? AND t.archived = false AND (t.deleted_at IS NULL)",
+                brokerId);
+    }
+
+    @Test
+    void clientTransactions_useClientPartialIndex() {
+        assertUses("idx_transactions_client_live",
+                "SELECT * FROM transactions t WHERE t.client_id = ? AND (t.deleted_at IS NULL)", clientId);
+    }
+
+    @Test
+    void deletedTransactions_useTrashIndex() {
+        assertUses("idx_transactions_deleted",
+                "SELECT * FROM transactions WHERE deleted_at IS NOT NULL ORDER BY deleted_at DESC");
+    }
+
+    @Test
+    void stageDocuments_useTransactionStagePartialIndex() {
+        assertUses("idx_documents_tx_stage_live",
+                "SELECT * FROM documents d WHERE d.transaction_id = ? AND d.stage = ? AND (d.deleted_at IS NULL)",
+                transactionId, "BUYER_FINANCIAL_PREPARATION");
+    }
+
+    @Test
+    void transactionDocuments_useTransactionStagePartialIndex() {
+        assertUses("idx_documents_tx_stage_live",
+                "SELECT * FROM documents d WHERE d.transaction_id = ? AND (d.deleted_at IS NULL)", transactionId);
+    }
+
+    @Test
+    void outstandingDocuments_useOutstandingDuePartialIndex() {
+        assertUses("idx_documents_outstanding_due",
+                "SELECT d.* FROM documents d JOIN transactions t ON t.transaction_id = d.transaction_id "
+                        + "AND (t.deleted_at IS NULL) "
+                        + "WHERE t.broker_id = ? AND d.status IN ('REQUESTED', 'NEEDS_REVISION') "
+                        + "AND d.due_date < ? AND (d.deleted_at IS NULL) ORDER BY d.due_date, d.id",
+                brokerId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Test
+    void documentVersions_useDocumentPartialIndex() {
+        assertUses("idx_document_versions_document_live",
+                "SELECT * FROM document_versions v WHERE v.document_id = ? AND (v.deleted_at IS NULL)", documentId);
+    }
+
+    @Test
+    void transactionTimeline_usesTimelinePartialIndex() {
+        assertUses("idx_timeline_entries_tx_timestamp_id",
+                "SELECT * FROM timeline_entries e WHERE e.transaction_id = ? AND (e.deleted_at IS NULL) "
+                        + "ORDER BY e.timestamp", transactionId);
+    }
+
+    @Test
+    void brokerCalendar_usesBrokerDatePartialIndex() {
+        LocalDateTime now = LocalDateTime.now();
+        assertUses("idx_appointments_broker_date_live",
+                "SELECT * FROM appointments a WHERE a.broker_id = ? AND a.from_date_time < ? "
+                        + "AND a.to_date_time > ? AND (a.deleted_at IS NULL) ORDER BY a.from_date_time",
+                brokerId, Timestamp.valueOf(now.plusDays(30)), Timestamp.valueOf(now.minusDays(30)));
+    }
+
+    @Test
+    void clientUpcomingAppointments_useClientDatePartialIndex() {
+        assertUses("idx_appointments_client_date_live",
+                "SELECT * FROM appointments a WHERE a.client_id = ? AND a.from_date_time >= ? "
+                        + "AND (a.deleted_at IS NULL) ORDER BY a.from_date_time",
+                clientId, Timestamp.valueOf(LocalDateTime.now()));
+    }
+
+    @Test
+    void transactionAppointments_useTransactionDatePartialIndex() {
+        assertUses("idx_appointments_tx_date_live",
+                "SELECT * FROM appointments a WHERE a.transaction_id = ? AND (a.deleted_at IS NULL) "
+                        + "ORDER BY a.from_date_time", transactionId);
+    }
+
+    private void assertUses(String index, String sql, Object... args) {
+        QueryPlan plan = explainer.explainIndexChoice(sql, args);
+        assertThat(plan.indexNames()).as("indexes in plan%n%s", plan).contains(index);
+        assertThat(plan.nodeTypes()).as("node types in plan%n%s", plan).doesNotContain("BitmapAnd");
+    }
+}
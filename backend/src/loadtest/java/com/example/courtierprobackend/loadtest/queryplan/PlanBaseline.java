@@ -0,0 +1,66 @@
+package com.example.courtierprobackend.loadtest.queryplan;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Per-query plan summaries, as written after a plan run and as checked in for comparison.
+ *
+ * <p>Runs are compared on the planner's total cost rather than on execution time: with the
+ * same seed and settings the generated data, and so the estimate, is the same on every run,
+ * while timings depend on the machine.</p>
+ */
+public final class PlanBaseline {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+
+    /**
+     * Totals over the statements one repository call executed.
+     */
+    public record Entry(double totalCost, double executionTimeMillis, long sharedBlocks, List<String> seqScans) {
+
+        public static Entry of(List<QueryPlan> plans) {
+            return new Entry(
+                    plans.stream().mapToDouble(QueryPlan::totalCost).sum(),
+                    plans.stream().mapToDouble(QueryPlan::executionTimeMillis).sum(),
+                    plans.stream().mapToLong(QueryPlan::sharedBlocks).sum(),
+                    plans.stream().flatMap(plan -> plan.sequentialScans().stream()).distinct().sorted().toList());
+        }
+    }
+
+    private PlanBaseline() {
+    }
+
+    /**
+     * @return the entries by query name, or none if there is no baseline yet
+     */
+    public static Map<String, Entry> read(Path file) {
+        if (!Files.exists(file)) {
+            return Map.of();
+        }
+        try {
+            return MAPPER.readValue(file.toFile(), new TypeReference<TreeMap<String, Entry>>() {
+            });
+        } catch (IOException e) {
+            throw new UncheckedIOException("Unreadable plan baseline " + file, e);
+        }
+    }
+
+    public static void write(Path file, Object value) {
+        try {
+            Files.createDirectories(file.getParent());
+            MAPPER.writeValue(file.toFile(), value);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Could not write " + file, e);
+        }
+    }
+}
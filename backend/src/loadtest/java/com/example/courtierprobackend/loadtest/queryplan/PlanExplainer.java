@@ -0,0 +1,59 @@
+package com.example.courtierprobackend.loadtest.queryplan;
+
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+
+/**
+ * Runs {@code EXPLAIN} for SQL with bound parameters on the test database.
+ */
+public class PlanExplainer {
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+
+    public PlanExplainer(JdbcTemplate jdbc, PlatformTransactionManager transactionManager) {
+        this.jdbc = jdbc;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+    }
+
+    /**
+     * Plans {@code sql} with sequential scans priced out, i.e. asks which index the
+     * planner would pick. On a seeded dev database the tables are small enough that a
+     * seq scan often wins on cost; this keeps index assertions independent of data size.
+     */
+    public QueryPlan explainIndexChoice(String sql, Object... args) {
+        return transactionTemplate.execute(status -> {
+            jdbc.execute("SET LOCAL enable_seqscan = off");
+            return explain("EXPLAIN (FORMAT JSON) ", sql, args);
+        });
+    }
+
+    /**
+     * Executes a captured statement under {@code EXPLAIN (ANALYZE, BUFFERS)} with its original
+     * bindings. The transaction is rolled back, so locking or modifying statements leave no trace.
+     */
+    public QueryPlan explainAnalyze(StatementRecorder.RecordedStatement statement) {
+        return transactionTemplate.execute(status -> {
+            status.setRollbackOnly();
+            return jdbc.execute((ConnectionCallback<QueryPlan>) connection -> {
+                try (PreparedStatement explain = connection.prepareStatement(
+                        "EXPLAIN (ANALYZE, BUFFERS, FORMAT JSON) " + statement.sql())) {
+                    statement.bind(explain);
+                    try (ResultSet rs = explain.executeQuery()) {
+                        rs.next();
+                        return QueryPlan.parse(rs.getString(1));
+                    }
+                }
+            });
+        });
+    }
+
+    private QueryPlan explain(String prefix, String sql, Object... args) {
+        return QueryPlan.parse(jdbc.queryForObject(prefix + sql, String.class, args));
+    }
+}
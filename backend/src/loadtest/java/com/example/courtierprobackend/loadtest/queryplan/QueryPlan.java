@@ -0,0 +1,108 @@
+package com.example.courtierprobackend.loadtest.queryplan;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * A Postgres {@code EXPLAIN (FORMAT JSON)} plan, with the few questions the plan
+ * tests ask of it: which indexes and node types appear, which tables are read
+ * sequentially, and what the planner thinks the query costs. Plans taken with
+ * {@code ANALYZE, BUFFERS} also carry the execution time and buffer counts.
+ */
+public final class QueryPlan {
+
+    private static final ObjectMapper MAPPER = new ObjectMapper();
+
+    private final JsonNode explain;
+    private final JsonNode root;
+
+    private QueryPlan(JsonNode explain) {
+        this.explain = explain;
+        this.root = explain.get("Plan");
+    }
+
+    /**
+     * @param explainOutput the single JSON value returned by {@code EXPLAIN (FORMAT JSON)}
+     */
+    public static QueryPlan parse(String explainOutput) {
+        try {
+            return new QueryPlan(MAPPER.readTree(explainOutput).get(0));
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Not an EXPLAIN (FORMAT JSON) result", e);
+        }
+    }
+
+    public Set<String> indexNames() {
+        Set<String> names = new LinkedHashSet<>();
+        visit(node -> {
+            if (node.hasNonNull("Index Name")) {
+                names.add(node.get("Index Name").asText());
+            }
+        });
+        return names;
+    }
+
+    public Set<String> nodeTypes() {
+        Set<String> types = new LinkedHashSet<>();
+        visit(node -> types.add(node.get("Node Type").asText()));
+        return types;
+    }
+
+    public List<String> sequentialScans() {
+        List<String> tables = new ArrayList<>();
+        visit(node -> {
+            if ("Seq Scan".equals(node.get("Node Type").asText())) {
+                tables.add(node.get("Relation Name").asText());
+            }
+        });
+        return tables;
+    }
+
+    public double totalCost() {
+        return root.get("Total Cost").asDouble();
+    }
+
+    /**
+     * @return the measured execution time, or 0 for a plan taken without {@code ANALYZE}
+     */
+    public double executionTimeMillis() {
+        return explain.path("Execution Time").asDouble();
+    }
+
+    /**
+     * Shared buffers the query hit or read, from a plan taken with {@code BUFFERS}.
+     */
+    public long sharedBlocks() {
+        return root.path("Shared Hit Blocks").asLong() + root.path("Shared Read Blocks").asLong();
+    }
+
+    private void visit(Consumer<JsonNode> visitor) {
+        visit(root, visitor);
+    }
+
+    private static void visit(JsonNode node, Consumer<JsonNode> visitor) {
+        visitor.accept(node);
+        if (node.has("Plans")) {
+            node.get("Plans").forEach(child -> visit(child, visitor));
+        }
+    }
+
+    /**
+     * The whole {@code EXPLAIN} object, for reports.
+     */
+    public JsonNode asJson() {
+        return explain;
+    }
+
+    @Override
+    public String toString() {
+        return explain.toPrettyString();
+    }
+}
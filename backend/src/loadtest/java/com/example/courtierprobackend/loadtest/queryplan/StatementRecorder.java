@@ -0,0 +1,125 @@
+package com.example.courtierprobackend.loadtest.queryplan;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Wraps a {@link DataSource} so the prepared statements a block of code executes can be
+ * captured with their bound parameters and replayed under {@code EXPLAIN}.
+ *
+ * <p>Recording is per thread and only inside {@link #record(Runnable)}; everything else
+ * goes straight to the pool.</p>
+ */
+public final class StatementRecorder {
+
+    private final ThreadLocal<List<RecordedStatement>> recording = new ThreadLocal<>();
+
+    /**
+     * A statement as Hibernate executed it: the SQL and the {@code set*} calls per parameter index.
+     */
+    public record RecordedStatement(String sql, Map<Integer, Binding> bindings) {
+
+        public boolean isSelect() {
+            return sql.stripLeading().regionMatches(true, 0, "select", 0, 6);
+        }
+
+        /**
+         * Repeats the recorded bindings on a statement prepared from {@code sql} with a prefix.
+         */
+        public void bind(PreparedStatement statement) throws SQLException {
+            for (Binding binding : bindings.values()) {
+                binding.applyTo(statement);
+            }
+        }
+    }
+
+    public record Binding(Method setter, Object[] args) {
+
+        void applyTo(PreparedStatement statement) throws SQLException {
+            try {
+                setter.invoke(statement, args);
+            } catch (InvocationTargetException e) {
+                if (e.getCause() instanceof SQLException cause) {
+                    throw cause;
+                }
+                throw new IllegalStateException("Could not replay " + setter.getName(), e.getCause());
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+
+    public DataSource wrap(DataSource dataSource) {
+        return proxy(DataSource.class, dataSource, (method, args, result) ->
+                method.getName().equals("getConnection") ? wrapConnection((Connection) result) : result);
+    }
+
+    /**
+     * Runs {@code action} and returns the statements it executed on this thread, in order.
+     */
+    public List<RecordedStatement> record(Runnable action) {
+        List<RecordedStatement> statements = new ArrayList<>();
+        recording.set(statements);
+        try {
+            action.run();
+        } finally {
+            recording.remove();
+        }
+        return statements;
+    }
+
+    private Connection wrapConnection(Connection connection) {
+        return proxy(Connection.class, connection, (method, args, result) -> {
+            if (method.getName().equals("prepareStatement") && args != null && args[0] instanceof String sql) {
+                return wrapStatement((PreparedStatement) result, sql);
+            }
+            return result;
+        });
+    }
+
+    private PreparedStatement wrapStatement(PreparedStatement statement, String sql) {
+        Map<Integer, Binding> bindings = new TreeMap<>();
+        return proxy(PreparedStatement.class, statement, (method, args, result) -> {
+            String name = method.getName();
+            if (name.startsWith("set") && args != null && args.length >= 2 && args[0] instanceof Integer index) {
+                bindings.put(index, new Binding(method, args.clone()));
+            } else if (name.equals("clearParameters")) {
+                bindings.clear();
+            } else if (name.startsWith("execute") && (args == null || args.length == 0)) {
+                List<RecordedStatement> statements = recording.get();
+                if (statements != null) {
+                    statements.add(new RecordedStatement(sql, new TreeMap<>(bindings)));
+                }
+            }
+            return result;
+        });
+    }
+
+    @FunctionalInterface
+    private interface AfterCall {
+        Object apply(Method method, Object[] args, Object result) throws Exception;
+    }
+
+    private static <T> T proxy(Class<T> type, T target, AfterCall afterCall) {
+        InvocationHandler handler = (proxy, method, args) -> {
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return afterCall.apply(method, args, result);
+        };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[]{type}, handler));
+    }
+}
@@ -1,5 +1,6 @@
 package com.example.courtierprobackend;
 
+import com.example.courtierprobackend.infrastructure.startup.StartupTimings;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
 
@@ -8,7 +9,9 @@ import org.springframework.boot.autoconfigure.SpringBootApplication;
 public class CourtierproBackendApplication {
 
     public static void main(String[] args) {
-        SpringApplication.run(CourtierproBackendApplication.class, args);
+        SpringApplication application = new SpringApplication(CourtierproBackendApplication.class);
+        application.addListeners(new StartupTimings());
+        application.run(args);
     }
 
 }
@@ -11,18 +11,31 @@ import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
 import java.time.Instant;
+import java.time.temporal.ChronoUnit;
 import java.util.Objects;
 
+/**
+ * Settings are read on every templated email and user creation, so they are served
+ * from an in-memory snapshot. An update replaces the snapshot on this instance once it
+ * commits; other instances compare the snapshot with the latest {@code updated_at} at
+ * most once per {@code app.organization-settings.recheck-interval} and reload when it
+ * has moved.
+ */
 @Service
 @RequiredArgsConstructor
 public class OrganizationSettingsServiceImpl implements OrganizationSettingsService {
@@ -33,13 +46,61 @@ public class OrganizationSettingsServiceImpl implements OrganizationSettingsServ
     private final OrganizationSettingsMapper mapper;
     private final OrganizationSettingsAuditService organizationSettingsAuditService;
     private final HttpServletRequest httpServletRequest;
+    private final Clock clock;
+
+    private Duration recheckInterval = Duration.ofSeconds(30);
+    private volatile Snapshot snapshot;
+
+    // version is the updated_at of the row the settings were read from
+    private record Snapshot(OrganizationSettingsResponseModel settings, Instant version, Instant checkedAt) {
+    }
+
+    @Value("${app.organization-settings.recheck-interval:PT30S}")
+    void setRecheckInterval(Duration recheckInterval) {
+        this.recheckInterval = recheckInterval;
+    }
 
     @Override
-    @Transactional
     public OrganizationSettingsResponseModel getSettings() {
+        Snapshot current = snapshot;
+        Instant now = clock.instant();
+        if (current != null) {
+            if (now.isBefore(current.checkedAt().plus(recheckInterval))) {
+                return current.settings();
+            }
+            Instant latest = repository.findLatestUpdatedAt().orElse(null);
+            if (Objects.equals(latest, current.version())) {
+                snapshot = new Snapshot(current.settings(), current.version(), now);
+                return current.settings();
+            }
+        }
+        return reload(now);
+    }
+
+    private synchronized OrganizationSettingsResponseModel reload(Instant now) {
+        // Another thread may have reloaded while this one waited
+        Snapshot current = snapshot;
+        if (current != null && !current.checkedAt().isBefore(now)) {
+            return current.settings();
+        }
         OrganizationSettings settings = repository.findTopByOrderByUpdatedAtDesc()
                 .orElseGet(this::createDefaultSettings);
-        return mapper.toResponseModel(settings);
+        OrganizationSettingsResponseModel model = mapper.toResponseModel(settings);
+        snapshot = new Snapshot(model, settings.getUpdatedAt(), now);
+        return model;
+    }
+
+    private void replaceSnapshotAfterCommit(OrganizationSettingsResponseModel model, Instant version) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            snapshot = new Snapshot(model, version, clock.instant());
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                snapshot = new Snapshot(model, version, clock.instant());
+            }
+        });
     }
 
     @Override
@@ -63,7 +124,8 @@ public class OrganizationSettingsServiceImpl implements OrganizationSettingsServ
         // Update all fields from request
         mapper.updateEntityFromRequest(request, settings);
 
-        settings.setUpdatedAt(Instant.now());
+        // Stored at microsecond precision; truncating keeps the snapshot version equal to the column
+        settings.setUpdatedAt(Instant.now().truncatedTo(ChronoUnit.MICROS));
 
         OrganizationSettings saved = repository.save(settings);
 
@@ -100,7 +162,9 @@ public class OrganizationSettingsServiceImpl implements OrganizationSettingsServ
                 inviteTemplateFrChanged
         );
 
-        return mapper.toResponseModel(saved);
+        OrganizationSettingsResponseModel model = mapper.toResponseModel(saved);
+        replaceSnapshotAfterCommit(model, saved.getUpdatedAt());
+        return model;
     }
 
     private String loadTemplate(String filename) {
@@ -165,7 +229,7 @@ public class OrganizationSettingsServiceImpl implements OrganizationSettingsServ
                 .offerStatusBodyEn(loadTemplate("offer_status_en.txt"))
                 .offerStatusSubjectFr("Mise à jour de l'offre")
                 .offerStatusBodyFr(loadTemplate("offer_status_fr.txt"))
-                .updatedAt(Instant.now())
+                .updatedAt(Instant.now().truncatedTo(ChronoUnit.MICROS))
                 .build();
 
         return repository.save(settings);
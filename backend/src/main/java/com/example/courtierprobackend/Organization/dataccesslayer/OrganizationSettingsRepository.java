@@ -1,8 +1,10 @@
 package com.example.courtierprobackend.Organization.dataccesslayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -10,4 +12,7 @@ import java.util.UUID;
 public interface OrganizationSettingsRepository extends JpaRepository<OrganizationSettings, UUID> {
 
     Optional<OrganizationSettings> findTopByOrderByUpdatedAtDesc();
+
+    @Query("SELECT MAX(s.updatedAt) FROM OrganizationSettings s")
+    Optional<Instant> findLatestUpdatedAt();
 }
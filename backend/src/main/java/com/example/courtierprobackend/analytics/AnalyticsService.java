@@ -32,6 +32,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.apache.commons.csv.CSVFormat;
 import org.apache.commons.csv.CSVPrinter;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
@@ -63,6 +64,8 @@ public class AnalyticsService {
         private final com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository userAccountRepository;
         private final TimelineEntryRepository timelineEntryRepository;
 
+        // Read-only: served by a read replica when replicas are enabled
+        @Transactional(readOnly = true)
         public AnalyticsDTO getAnalytics(UUID brokerId, AnalyticsFilterRequest filters) {
                 LocalDateTime startDateTime = filters.getStartDate() != null ? filters.getStartDate().atStartOfDay()
                                 : null;
@@ -426,7 +429,7 @@ public class AnalyticsService {
                                 buyerPipeline, sellerPipeline);
         }
 
-        private List<AnalyticsDTO.PipelineStageDTO> calculatePipeline(
+        List<AnalyticsDTO.PipelineStageDTO> calculatePipeline(
                         List<Transaction> transactions,
                         Enum<?>[] stages,
                         Map<UUID, String> clientNames) {
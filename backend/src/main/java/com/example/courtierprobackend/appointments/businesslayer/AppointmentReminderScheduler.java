@@ -0,0 +1,113 @@
+package com.example.courtierprobackend.appointments.businesslayer;
+
+import com.example.courtierprobackend.appointments.businesslayer.events.AppointmentReminderDueEvent;
+import com.example.courtierprobackend.appointments.datalayer.Appointment;
+import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
+import com.example.courtierprobackend.infrastructure.jobs.ScheduledJobRunner;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Reminds brokers and clients of appointments starting between 24 and 25 hours from now.
+ *
+ * <p>Due appointments are claimed in small batches, each in its own short transaction:
+ * the batch is locked with {@code SKIP LOCKED}, its recipients are loaded in one query,
+ * and a reminder event is queued in the outbox as the appointment is marked
+ * {@code reminderSent}. Emails and notifications are then delivered by the outbox
+ * dispatcher, so a slow mail server never holds the lock, a crash re-sends nothing
+ * already claimed, and concurrent instances split the work instead of repeating it.
+ * Each firing runs on one instance only (see {@link ScheduledJobRunner}).</p>
+ */
+@Component
+public class AppointmentReminderScheduler {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentReminderScheduler.class);
+
+    static final int BATCH_SIZE = 50;
+    static final String JOB_NAME = "appointment-reminders";
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private final AppointmentRepository appointmentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final ScheduledJobRunner jobRunner;
+
+    public AppointmentReminderScheduler(AppointmentRepository appointmentRepository,
+                                        UserAccountRepository userAccountRepository,
+                                        DomainEventPublisher domainEventPublisher,
+                                        PlatformTransactionManager transactionManager,
+                                        ScheduledJobRunner jobRunner) {
+        this.appointmentRepository = appointmentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.domainEventPublisher = domainEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.jobRunner = jobRunner;
+    }
+
+    @Scheduled(cron = "0 0 * * * *")
+    public void sendAppointmentReminders() {
+        jobRunner.runExclusively(JOB_NAME, LEASE, this::queueDueReminders);
+    }
+
+    int queueDueReminders() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime startWindow = now.plusHours(24);
+        LocalDateTime endWindow = now.plusHours(25);
+
+        int total = 0;
+        int claimed;
+        do {
+            claimed = transactionTemplate.execute(status -> claimBatch(startWindow, endWindow));
+            total += claimed;
+        } while (claimed == BATCH_SIZE);
+
+        if (total > 0) {
+            log.info("Queued reminders for {} appointments", total);
+        }
+        return total;
+    }
+
+    int claimBatch(LocalDateTime startWindow, LocalDateTime endWindow) {
+        List<Appointment> due = appointmentRepository.lockDueReminders(startWindow, endWindow, BATCH_SIZE);
+        if (due.isEmpty()) {
+            return 0;
+        }
+
+        Set<UUID> userIds = due.stream()
+                .flatMap(apt -> Stream.of(apt.getBrokerId(), apt.getClientId()))
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<UUID, UserAccount> users = userAccountRepository.findAllById(userIds).stream()
+                .collect(Collectors.toMap(UserAccount::getId, Function.identity()));
+
+        for (Appointment apt : due) {
+            List<AppointmentReminderDueEvent.Recipient> recipients = Stream.of(apt.getBrokerId(), apt.getClientId())
+                    .map(users::get)
+                    .filter(Objects::nonNull)
+                    .map(AppointmentReminderDueEvent.Recipient::of)
+                    .toList();
+            if (!recipients.isEmpty()) {
+                domainEventPublisher.publish(apt.getAppointmentId(),
+                        new AppointmentReminderDueEvent(apt.getAppointmentId(), recipients));
+            }
+            apt.setReminderSent(true);
+        }
+        appointmentRepository.saveAll(due);
+        return due.size();
+    }
+}
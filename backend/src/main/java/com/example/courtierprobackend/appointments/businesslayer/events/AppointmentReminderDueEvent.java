@@ -0,0 +1,44 @@
+package com.example.courtierprobackend.appointments.businesslayer.events;
+
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Raised once per appointment when the reminder job claims it, a day before it starts.
+ *
+ * @param recipients broker and client as resolved when the appointment was claimed
+ */
+public record AppointmentReminderDueEvent(
+        UUID appointmentId,
+        List<Recipient> recipients) {
+
+    /**
+     * @param language preferred language, {@code en} when the account has none
+     * @param emailNotificationsEnabled the account's email preference when claimed; {@code null}
+     *                                  in events queued before it was recorded, read as enabled
+     */
+    public record Recipient(
+            UUID userId,
+            String email,
+            String name,
+            String language,
+            Boolean emailNotificationsEnabled) {
+
+        public boolean wantsEmail() {
+            return !Boolean.FALSE.equals(emailNotificationsEnabled);
+        }
+
+        public static Recipient of(UserAccount user) {
+            String firstName = user.getFirstName() != null ? user.getFirstName() : "";
+            String lastName = user.getLastName() != null ? user.getLastName() : "";
+            return new Recipient(
+                    user.getId(),
+                    user.getEmail(),
+                    (firstName + " " + lastName).trim(),
+                    user.getPreferredLanguage() != null ? user.getPreferredLanguage() : "en",
+                    user.isEmailNotificationsEnabled());
+        }
+    }
+}
@@ -0,0 +1,72 @@
+package com.example.courtierprobackend.appointments.businesslayer.events;
+
+import com.example.courtierprobackend.appointments.datalayer.Appointment;
+import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
+import com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus;
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import jakarta.mail.MessagingException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.io.UnsupportedEncodingException;
+import java.util.Optional;
+
+/**
+ * Emails the broker and client the day before an appointment. Appointments cancelled
+ * or declined after they were claimed are not reminded, nor are recipients who had
+ * email notifications off. A send the provider does not accept is rethrown so the
+ * outbox retries the event.
+ */
+@Component
+@RequiredArgsConstructor
+public class AppointmentReminderEmailHandler implements DomainEventHandler<AppointmentReminderDueEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(AppointmentReminderEmailHandler.class);
+
+    private final EmailService emailService;
+    private final AppointmentRepository appointmentRepository;
+
+    @Override
+    public Class<AppointmentReminderDueEvent> eventType() {
+        return AppointmentReminderDueEvent.class;
+    }
+
+    @Override
+    public void handle(AppointmentReminderDueEvent event) {
+        Optional<Appointment> appointmentOpt = appointmentRepository.findByAppointmentId(event.appointmentId());
+        if (appointmentOpt.isEmpty()) {
+            log.warn("Could not send reminder email for appointment {}: appointment not found",
+                    event.appointmentId());
+            return;
+        }
+        Appointment appointment = appointmentOpt.get();
+        if (appointment.getStatus() == AppointmentStatus.CANCELLED
+                || appointment.getStatus() == AppointmentStatus.DECLINED) {
+            return;
+        }
+
+        for (AppointmentReminderDueEvent.Recipient recipient : event.recipients()) {
+            if (recipient.wantsEmail()) {
+                send(appointment, recipient);
+            }
+        }
+    }
+
+    private void send(Appointment appointment, AppointmentReminderDueEvent.Recipient recipient) {
+        boolean sent;
+        try {
+            sent = emailService.sendAppointmentReminder(appointment, recipient.email(), recipient.name(),
+                    recipient.language());
+        } catch (MessagingException | UnsupportedEncodingException e) {
+            throw new IllegalStateException("Could not send reminder for appointment " + appointment.getAppointmentId()
+                    + " to user " + recipient.userId(), e);
+        }
+        if (!sent) {
+            throw new IllegalStateException("Email provider rejected reminder for appointment "
+                    + appointment.getAppointmentId() + " to user " + recipient.userId());
+        }
+    }
+}
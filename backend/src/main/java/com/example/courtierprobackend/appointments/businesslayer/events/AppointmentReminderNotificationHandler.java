@@ -0,0 +1,37 @@
+package com.example.courtierprobackend.appointments.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * In-app reminder to the broker and client the day before an appointment.
+ */
+@Component
+@RequiredArgsConstructor
+public class AppointmentReminderNotificationHandler implements DomainEventHandler<AppointmentReminderDueEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<AppointmentReminderDueEvent> eventType() {
+        return AppointmentReminderDueEvent.class;
+    }
+
+    @Override
+    public void handle(AppointmentReminderDueEvent event) {
+        for (AppointmentReminderDueEvent.Recipient recipient : event.recipients()) {
+            notificationService.createNotification(
+                    recipient.userId().toString(),
+                    "APPOINTMENT_REMINDER",
+                    "APPOINTMENT_REMINDER_MSG",
+                    Map.of(),
+                    event.appointmentId().toString(),
+                    NotificationCategory.APPOINTMENT);
+        }
+    }
+}
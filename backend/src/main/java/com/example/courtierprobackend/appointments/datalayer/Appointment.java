@@ -2,10 +2,14 @@ package com.example.courtierprobackend.appointments.datalayer;
 
 import com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus;
 import com.example.courtierprobackend.appointments.datalayer.enums.InitiatorType;
+import com.example.courtierprobackend.search.SearchIndexEvent;
+import com.example.courtierprobackend.search.dto.SearchResultDTO;
 import jakarta.persistence.*;
 import org.hibernate.annotations.Where;
+import org.springframework.data.domain.DomainEvents;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 import lombok.*;
 
@@ -360,4 +364,10 @@ public class Appointment {
     public void setVisitorId(UUID visitorId) {
         this.visitorId = visitorId;
     }
+
+    // Refreshes the search index after every repository save
+    @DomainEvents
+    List<SearchIndexEvent> searchIndexEvents() {
+        return List.of(new SearchIndexEvent(SearchResultDTO.SearchResultType.APPOINTMENT, appointmentId));
+    }
 }
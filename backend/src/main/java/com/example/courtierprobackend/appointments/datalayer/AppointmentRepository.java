@@ -1,6 +1,7 @@
 package com.example.courtierprobackend.appointments.datalayer;
 
 import com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -94,6 +95,20 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
                         @Param("toDate") LocalDateTime toDate,
                         @Param("statuses") java.util.Collection<AppointmentStatus> statuses);
 
+        /**
+         * Same as {@link #findByBrokerIdAndDateRangeAndStatusIn} for several brokers in one
+         * query, ordered by broker so callers can group the rows.
+         */
+        @Query("SELECT a FROM Appointment a WHERE a.brokerId IN :brokerIds " +
+                        "AND a.status IN :statuses " +
+                        "AND a.fromDateTime < :toDate AND a.toDateTime > :fromDate " +
+                        "ORDER BY a.brokerId, a.fromDateTime ASC")
+        List<Appointment> findByBrokerIdInAndDateRangeAndStatusIn(
+                        @Param("brokerIds") java.util.Collection<UUID> brokerIds,
+                        @Param("fromDate") LocalDateTime fromDate,
+                        @Param("toDate") LocalDateTime toDate,
+                        @Param("statuses") java.util.Collection<AppointmentStatus> statuses);
+
         /**
          * Find appointments for a client that overlap with a date range and have
          * specific status.
@@ -132,14 +147,19 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
         List<Appointment> findUpcomingByClientId(@Param("clientId") UUID clientId, @Param("now") LocalDateTime now);
 
         /**
-         * Find appointments for reminder job:
-         * - starting between start and end
-         * - reminder not sent yet
-         * - status is NOT the excluded status (e.g. CANCELLED / DECLINED)
+         * Locks the next appointments starting between start and end whose reminder has
+         * not been sent. Rows locked by another instance are skipped rather than waited
+         * on, so the reminder job can run on several instances at once.
          */
-        List<Appointment> findByFromDateTimeBetweenAndReminderSentFalseAndStatusNotIn(
-                        LocalDateTime start,
-                        LocalDateTime end, java.util.Collection<AppointmentStatus> statuses);
+        @Query(value = "SELECT * FROM appointments " +
+                        "WHERE reminder_sent = FALSE AND deleted_at IS NULL " +
+                        "AND from_date_time BETWEEN :start AND :end " +
+                        "AND status NOT IN ('CANCELLED', 'DECLINED') " +
+                        "ORDER BY from_date_time, id " +
+                        "LIMIT :limit " +
+                        "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+        List<Appointment> lockDueReminders(@Param("start") LocalDateTime start, @Param("end") LocalDateTime end,
+                        @Param("limit") int limit);
 
         @Query("SELECT a FROM Appointment a WHERE (a.brokerId = :userId OR a.clientId = :userId) " +
                 "AND a.deletedAt IS NULL AND " +
@@ -147,7 +167,12 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
                 "LOWER(COALESCE(a.notes, '')) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
                 "LOWER(COALESCE(a.location, '')) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
                 "LOWER(CAST(a.appointmentId AS java.lang.String)) LIKE LOWER(CONCAT('%', :query, '%')))")
-        List<Appointment> searchAppointments(@Param("userId") UUID userId, @Param("query") String query);
+        List<Appointment> searchAppointments(@Param("userId") UUID userId, @Param("query") String query,
+                        Pageable pageable);
+
+        default List<Appointment> searchAppointments(UUID userId, String query) {
+                return searchAppointments(userId, query, Pageable.unpaged());
+        }
   
         @Query(value = "SELECT * FROM appointments", nativeQuery = true)
         List<Appointment> findAllIncludingDeleted();
@@ -271,26 +296,42 @@ public interface AppointmentRepository extends JpaRepository<Appointment, Long>
                         "GROUP BY a.transactionId")
         List<Object[]> countConfirmedShowingsByTransactionIds(@Param("transactionIds") List<UUID> transactionIds);
 
+        // Open ends of an analytics range; both fit a Postgres timestamp
+        LocalDateTime ANALYTICS_EARLIEST = LocalDateTime.of(1900, 1, 1, 0, 0);
+        LocalDateTime ANALYTICS_LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
         /**
-         * Find appointments for analytics filtering.
+         * Find appointments for analytics filtering, either end of the range optional.
+         * Missing ends become explicit bounds so the range stays index-friendly.
          */
+        default List<Appointment> findForAnalytics(UUID brokerId, LocalDateTime startDate, LocalDateTime endDate) {
+                return findForAnalyticsBetween(brokerId,
+                                startDate != null ? startDate : ANALYTICS_EARLIEST,
+                                endDate != null ? endDate : ANALYTICS_LATEST);
+        }
+
+        default List<Appointment> findForAnalyticsWithClients(UUID brokerId, LocalDateTime startDate,
+                        LocalDateTime endDate, List<UUID> clientIds) {
+                return findForAnalyticsBetweenWithClients(brokerId,
+                                startDate != null ? startDate : ANALYTICS_EARLIEST,
+                                endDate != null ? endDate : ANALYTICS_LATEST, clientIds);
+        }
+
         @Query("SELECT a FROM Appointment a " +
                 "WHERE a.brokerId = :brokerId " +
-                "AND (cast(:startDate as timestamp) IS NULL OR a.fromDateTime >= :startDate) " +
-                "AND (cast(:endDate as timestamp) IS NULL OR a.fromDateTime <= :endDate) " +
+                "AND a.fromDateTime >= :startDate AND a.fromDateTime <= :endDate " +
                 "ORDER BY a.fromDateTime ASC")
-        List<Appointment> findForAnalytics(
+        List<Appointment> findForAnalyticsBetween(
                 @Param("brokerId") UUID brokerId,
                 @Param("startDate") LocalDateTime startDate,
                 @Param("endDate") LocalDateTime endDate);
 
         @Query("SELECT a FROM Appointment a " +
                 "WHERE a.brokerId = :brokerId " +
-                "AND (cast(:startDate as timestamp) IS NULL OR a.fromDateTime >= :startDate) " +
-                "AND (cast(:endDate as timestamp) IS NULL OR a.fromDateTime <= :endDate) " +
+                "AND a.fromDateTime >= :startDate AND a.fromDateTime <= :endDate " +
                 "AND a.clientId IN (:clientIds) " +
                 "ORDER BY a.fromDateTime ASC")
-        List<Appointment> findForAnalyticsWithClients(
+        List<Appointment> findForAnalyticsBetweenWithClients(
                 @Param("brokerId") UUID brokerId,
                 @Param("startDate") LocalDateTime startDate,
                 @Param("endDate") LocalDateTime endDate,
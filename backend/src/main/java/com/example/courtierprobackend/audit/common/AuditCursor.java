@@ -0,0 +1,61 @@
+package com.example.courtierprobackend.audit.common;
+
+import com.example.courtierprobackend.common.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a newest-first audit log: the {@code (timestamp, id)} of the last
+ * row a client has seen. The id is kept as text because audit tables key rows by UUID
+ * or by sequence. Sent over the wire as an opaque URL-safe token.
+ */
+public record AuditCursor(Instant timestamp, String id) {
+
+    public static AuditCursor of(Instant timestamp, Object id) {
+        return new AuditCursor(timestamp, String.valueOf(id));
+    }
+
+    public String encode() {
+        String raw = timestamp.getEpochSecond() + ":" + timestamp.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or {@code null} for a blank token (first page)
+     * @throws BadRequestException if the token was not produced by {@link #encode()}
+     */
+    public static AuditCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":", 3);
+            Instant timestamp = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            if (parts[2].isEmpty()) {
+                throw new IllegalArgumentException("Missing id");
+            }
+            return new AuditCursor(timestamp, parts[2]);
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException | java.time.DateTimeException e) {
+            throw new BadRequestException("Invalid audit cursor");
+        }
+    }
+
+    public UUID uuidId() {
+        try {
+            return UUID.fromString(id);
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Invalid audit cursor");
+        }
+    }
+
+    public long longId() {
+        try {
+            return Long.parseLong(id);
+        } catch (NumberFormatException e) {
+            throw new BadRequestException("Invalid audit cursor");
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.courtierprobackend.audit.common;
+
+import org.springframework.http.ResponseEntity;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * A page of audit rows and the cursor of the page after it, if any.
+ *
+ * <p>Audit endpoints return the rows as a plain JSON array, as they always have, and
+ * pass the cursor in the {@value #NEXT_CURSOR_HEADER} response header; a client sends
+ * it back as {@code before} to load older rows.</p>
+ */
+public record AuditPage<T>(List<T> items, String nextCursor) {
+
+    public static final String NEXT_CURSOR_HEADER = "X-Next-Cursor";
+
+    /**
+     * @param rows up to {@code request.limit() + 1} rows read newest first
+     */
+    public static <T> AuditPage<T> of(List<T> rows, AuditPageRequest request, Function<T, AuditCursor> cursorOf) {
+        if (rows.size() <= request.limit()) {
+            return new AuditPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, request.limit());
+        return new AuditPage<>(items, cursorOf.apply(items.get(items.size() - 1)).encode());
+    }
+
+    public <R> AuditPage<R> map(Function<T, R> mapper) {
+        return new AuditPage<>(items.stream().map(mapper).toList(), nextCursor);
+    }
+
+    public ResponseEntity<List<T>> toResponseEntity() {
+        ResponseEntity.BodyBuilder response = ResponseEntity.ok();
+        if (nextCursor != null) {
+            response.header(NEXT_CURSOR_HEADER, nextCursor);
+        }
+        return response.body(items);
+    }
+}
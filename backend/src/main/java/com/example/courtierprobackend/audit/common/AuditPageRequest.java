@@ -0,0 +1,78 @@
+package com.example.courtierprobackend.audit.common;
+
+import com.example.courtierprobackend.common.exceptions.BadRequestException;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.UUID;
+
+/**
+ * One page of an audit log read newest first: rows with {@code from <= timestamp < to}
+ * that sort after the cursor, at most {@code limit} of them.
+ *
+ * <p>Repositories express the cursor as {@code (timestamp, id) < (beforeTimestamp, beforeId)}.
+ * On the first page the cursor sits at {@code to}, which the range already excludes, so
+ * one query serves every page.</p>
+ */
+public record AuditPageRequest(Instant from, Instant to, AuditCursor before, int limit) {
+
+    public static final int DEFAULT_SIZE = 100;
+    public static final int MAX_SIZE = 500;
+
+    // Open range bounds; explicit bounds let Postgres skip partitions outside the range
+    static final Instant EARLIEST = Instant.EPOCH;
+    static final Instant LATEST = Instant.parse("3000-01-01T00:00:00Z");
+
+    private static final UUID NO_UUID = new UUID(0, 0);
+
+    /**
+     * @param size page size; null means {@link #DEFAULT_SIZE}, larger values are capped
+     * @throws BadRequestException if the range is empty or the cursor is malformed
+     */
+    public static AuditPageRequest of(Instant from, Instant to, String before, Integer size) {
+        Instant start = from != null ? from : EARLIEST;
+        Instant end = to != null ? to : LATEST;
+        if (!start.isBefore(end)) {
+            throw new BadRequestException("'from' must be before 'to'");
+        }
+        int limit = size != null ? Math.max(1, Math.min(size, MAX_SIZE)) : DEFAULT_SIZE;
+        return new AuditPageRequest(start, end, AuditCursor.decode(before), limit);
+    }
+
+    public static AuditPageRequest firstPage(int size) {
+        return of(null, null, null, size);
+    }
+
+    public Instant beforeTimestamp() {
+        return before != null && before.timestamp().isBefore(to) ? before.timestamp() : to;
+    }
+
+    public UUID beforeUuid() {
+        return before != null ? before.uuidId() : NO_UUID;
+    }
+
+    public long beforeLong() {
+        return before != null ? before.longId() : 0L;
+    }
+
+    /**
+     * One row more than the page size, so the service can tell whether a next page exists.
+     */
+    public int fetchSize() {
+        return limit + 1;
+    }
+
+    // For tables that store LocalDateTime.now(), i.e. wall time in the server's zone
+    public LocalDateTime fromLocal() {
+        return LocalDateTime.ofInstant(from, ZoneId.systemDefault());
+    }
+
+    public LocalDateTime toLocal() {
+        return LocalDateTime.ofInstant(to, ZoneId.systemDefault());
+    }
+
+    public LocalDateTime beforeTimestampLocal() {
+        return LocalDateTime.ofInstant(beforeTimestamp(), ZoneId.systemDefault());
+    }
+}
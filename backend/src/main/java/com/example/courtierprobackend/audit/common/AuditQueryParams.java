@@ -0,0 +1,15 @@
+package com.example.courtierprobackend.audit.common;
+
+import java.time.Instant;
+
+/**
+ * Query string of every audit read endpoint: {@code from}/{@code to} as ISO-8601 instants,
+ * {@code before} as the {@value AuditPage#NEXT_CURSOR_HEADER} of the previous page, and
+ * the page {@code size}. All optional.
+ */
+public record AuditQueryParams(Instant from, Instant to, String before, Integer size) {
+
+    public AuditPageRequest toPageRequest() {
+        return AuditPageRequest.of(from, to, before, size);
+    }
+}
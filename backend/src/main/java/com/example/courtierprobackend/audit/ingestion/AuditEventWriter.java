@@ -0,0 +1,180 @@
+package com.example.courtierprobackend.audit.ingestion;
+
+import com.example.courtierprobackend.audit.loginaudit.dataaccesslayer.LoginAuditEvent;
+import com.example.courtierprobackend.audit.loginaudit.dataaccesslayer.LoginAuditEventRepository;
+import com.example.courtierprobackend.audit.logoutaudit.dataaccesslayer.LogoutAuditEvent;
+import com.example.courtierprobackend.audit.logoutaudit.dataaccesslayer.LogoutAuditEventRepository;
+import com.example.courtierprobackend.audit.passwordresetaudit.dataaccesslayer.PasswordResetEvent;
+import com.example.courtierprobackend.audit.passwordresetaudit.dataaccesslayer.PasswordResetEventRepository;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Writes login, logout and password reset audit events off the request thread.
+ *
+ * <p>Callers only append to a bounded in-memory queue. A scheduled flush drains it in
+ * batches of {@code app.audit.batch-size} and inserts each batch in one transaction
+ * using JDBC batching, so a burst of logins costs a handful of multi-row inserts
+ * instead of one round trip per login. When the queue holds
+ * {@code app.audit.queue-capacity} events, new events are dropped and counted rather
+ * than slowing down authentication. A batch that fails to insert is logged and
+ * dropped; audit writes are best effort, as they were when done inline.</p>
+ *
+ * <p>Events still queued at shutdown are flushed before the context closes. Events
+ * queued when the process is killed are lost.</p>
+ */
+@Component
+public class AuditEventWriter {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditEventWriter.class);
+
+    static final String QUEUE_SIZE_METRIC = "courtierpro.audit.queue.size";
+    static final String ACCEPTED_METRIC = "courtierpro.audit.events.accepted";
+    static final String DROPPED_METRIC = "courtierpro.audit.events.dropped";
+    static final String WRITTEN_METRIC = "courtierpro.audit.events.written";
+    static final String FAILED_METRIC = "courtierpro.audit.events.failed";
+
+    private final LoginAuditEventRepository loginAuditEventRepository;
+    private final LogoutAuditEventRepository logoutAuditEventRepository;
+    private final PasswordResetEventRepository passwordResetEventRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+    private final int queueCapacity;
+    private final int batchSize;
+
+    private final ConcurrentLinkedQueue<Object> queue = new ConcurrentLinkedQueue<>();
+    // ConcurrentLinkedQueue.size() is O(n); the bound is enforced on this counter instead
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong droppedSinceLastFlush = new AtomicLong();
+
+    public AuditEventWriter(LoginAuditEventRepository loginAuditEventRepository,
+                            LogoutAuditEventRepository logoutAuditEventRepository,
+                            PasswordResetEventRepository passwordResetEventRepository,
+                            PlatformTransactionManager transactionManager,
+                            MeterRegistry meterRegistry,
+                            @Value("${app.audit.queue-capacity:10000}") int queueCapacity,
+                            @Value("${app.audit.batch-size:500}") int batchSize) {
+        this.loginAuditEventRepository = loginAuditEventRepository;
+        this.logoutAuditEventRepository = logoutAuditEventRepository;
+        this.passwordResetEventRepository = passwordResetEventRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.meterRegistry = meterRegistry;
+        this.queueCapacity = queueCapacity;
+        this.batchSize = batchSize;
+        Gauge.builder(QUEUE_SIZE_METRIC, queued, AtomicInteger::get)
+                .description("Audit events waiting to be written")
+                .register(meterRegistry);
+    }
+
+    /**
+     * Queues the event for the next flush.
+     *
+     * @return false if the queue is full and the event was dropped
+     */
+    public boolean submit(LoginAuditEvent event) {
+        return offer(event, "login");
+    }
+
+    public boolean submit(LogoutAuditEvent event) {
+        return offer(event, "logout");
+    }
+
+    public boolean submit(PasswordResetEvent event) {
+        return offer(event, "password_reset");
+    }
+
+    private boolean offer(Object event, String type) {
+        if (queued.incrementAndGet() > queueCapacity) {
+            queued.decrementAndGet();
+            droppedSinceLastFlush.incrementAndGet();
+            meterRegistry.counter(DROPPED_METRIC, "type", type).increment();
+            return false;
+        }
+        queue.offer(event);
+        meterRegistry.counter(ACCEPTED_METRIC, "type", type).increment();
+        return true;
+    }
+
+    /**
+     * Writes everything queued so far, one batch at a time.
+     */
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval-ms:500}")
+    public void flush() {
+        long dropped = droppedSinceLastFlush.getAndSet(0);
+        if (dropped > 0) {
+            log.warn("Audit queue full: dropped {} events since the last flush", dropped);
+        }
+        List<Object> batch;
+        while (!(batch = drain()).isEmpty()) {
+            write(batch);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private List<Object> drain() {
+        List<Object> batch = new ArrayList<>(Math.min(batchSize, queued.get()));
+        Object event;
+        while (batch.size() < batchSize && (event = queue.poll()) != null) {
+            queued.decrementAndGet();
+            batch.add(event);
+        }
+        return batch;
+    }
+
+    private void write(List<Object> batch) {
+        List<LoginAuditEvent> logins = new ArrayList<>();
+        List<LogoutAuditEvent> logouts = new ArrayList<>();
+        List<PasswordResetEvent> passwordResets = new ArrayList<>();
+        for (Object event : batch) {
+            if (event instanceof LoginAuditEvent login) {
+                logins.add(login);
+            } else if (event instanceof LogoutAuditEvent logout) {
+                logouts.add(logout);
+            } else if (event instanceof PasswordResetEvent passwordReset) {
+                passwordResets.add(passwordReset);
+            }
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (!logins.isEmpty()) {
+                    loginAuditEventRepository.saveAll(logins);
+                }
+                if (!logouts.isEmpty()) {
+                    logoutAuditEventRepository.saveAll(logouts);
+                }
+                if (!passwordResets.isEmpty()) {
+                    passwordResetEventRepository.saveAll(passwordResets);
+                }
+            });
+            record(WRITTEN_METRIC, logins.size(), logouts.size(), passwordResets.size());
+        } catch (RuntimeException e) {
+            log.error("Failed to write {} audit events; they are dropped", batch.size(), e);
+            record(FAILED_METRIC, logins.size(), logouts.size(), passwordResets.size());
+        }
+    }
+
+    private void record(String metric, int logins, int logouts, int passwordResets) {
+        meterRegistry.counter(metric, "type", "login").increment(logins);
+        meterRegistry.counter(metric, "type", "logout").increment(logouts);
+        meterRegistry.counter(metric, "type", "password_reset").increment(passwordResets);
+    }
+}
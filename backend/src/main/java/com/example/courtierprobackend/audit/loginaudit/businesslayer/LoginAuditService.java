@@ -1,5 +1,9 @@
 package com.example.courtierprobackend.audit.loginaudit.businesslayer;
 
+import com.example.courtierprobackend.audit.common.AuditCursor;
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
+import com.example.courtierprobackend.audit.ingestion.AuditEventWriter;
 import com.example.courtierprobackend.audit.loginaudit.dataaccesslayer.LoginAuditEvent;
 import com.example.courtierprobackend.audit.loginaudit.dataaccesslayer.LoginAuditEventRepository;
 import lombok.RequiredArgsConstructor;
@@ -13,7 +17,12 @@ import java.util.List;
 public class LoginAuditService {
 
     private final LoginAuditEventRepository repository;
+    private final AuditEventWriter auditEventWriter;
 
+    /**
+     * Queues the login for the background audit writer; never touches the database
+     * on the authentication path.
+     */
     public void recordLoginEvent(String userId, String email, String role, String ipAddress, String userAgent) {
         LoginAuditEvent event = LoginAuditEvent.builder()
                 .userId(userId)
@@ -24,18 +33,27 @@ public class LoginAuditService {
                 .userAgent(userAgent)
                 .build();
 
-        repository.save(event);
+        auditEventWriter.submit(event);
     }
 
-    public List<LoginAuditEvent> getAllLoginEvents() {
-        return repository.findAllByOrderByTimestampDesc();
-    }
-
-    public List<LoginAuditEvent> getLoginEventsByUser(String userId) {
-        return repository.findByUserIdOrderByTimestampDesc(userId);
-    }
-
-    public List<LoginAuditEvent> getLoginEventsByRole(String role) {
-        return repository.findByRoleOrderByTimestampDesc(role);
+    /**
+     * Newest-first page of login events, optionally for one user and/or role.
+     */
+    public AuditPage<LoginAuditEvent> getLoginEvents(AuditPageRequest page, String userId, String role) {
+        List<LoginAuditEvent> rows;
+        if (userId != null && role != null) {
+            rows = repository.findPageByUserIdAndRole(page.from(), page.to(), page.beforeTimestamp(),
+                    page.beforeUuid(), userId, role, page.fetchSize());
+        } else if (userId != null) {
+            rows = repository.findPageByUserId(page.from(), page.to(), page.beforeTimestamp(),
+                    page.beforeUuid(), userId, page.fetchSize());
+        } else if (role != null) {
+            rows = repository.findPageByRole(page.from(), page.to(), page.beforeTimestamp(),
+                    page.beforeUuid(), role, page.fetchSize());
+        } else {
+            rows = repository.findPage(page.from(), page.to(), page.beforeTimestamp(),
+                    page.beforeUuid(), page.fetchSize());
+        }
+        return AuditPage.of(rows, page, event -> AuditCursor.of(event.getTimestamp(), event.getId()));
     }
 }
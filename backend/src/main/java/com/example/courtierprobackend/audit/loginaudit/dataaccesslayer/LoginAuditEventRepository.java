@@ -1,6 +1,8 @@
 package com.example.courtierprobackend.audit.loginaudit.dataaccesslayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.util.List;
@@ -8,11 +10,64 @@ import java.util.UUID;
 
 public interface LoginAuditEventRepository extends JpaRepository<LoginAuditEvent, UUID> {
 
-    List<LoginAuditEvent> findByUserIdOrderByTimestampDesc(String userId);
+    /**
+     * Newest-first page of login events in {@code [from, to)} that sort before the
+     * {@code (beforeTimestamp, beforeId)} keyset. Reads {@code idx_login_audit_timestamp_id}
+     * and only the partitions covering the range. Each filter combination has its own
+     * query so the planner can use the matching {@code (column, timestamp)} index.
+     */
+    @Query(value = "SELECT e.* FROM login_audit_events e " +
+            "WHERE e.timestamp >= :from AND e.timestamp < :to " +
+            "AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<LoginAuditEvent> findPage(@Param("from") Instant from,
+                                   @Param("to") Instant to,
+                                   @Param("beforeTimestamp") Instant beforeTimestamp,
+                                   @Param("beforeId") UUID beforeId,
+                                   @Param("limit") int limit);
 
-    List<LoginAuditEvent> findByRoleOrderByTimestampDesc(String role);
+    // Same page for one user
+    @Query(value = "SELECT e.* FROM login_audit_events e " +
+            "WHERE e.timestamp >= :from AND e.timestamp < :to " +
+            "AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "AND e.user_id = :userId " +
+            "ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<LoginAuditEvent> findPageByUserId(@Param("from") Instant from,
+                                           @Param("to") Instant to,
+                                           @Param("beforeTimestamp") Instant beforeTimestamp,
+                                           @Param("beforeId") UUID beforeId,
+                                           @Param("userId") String userId,
+                                           @Param("limit") int limit);
+
+    // Same page for one role
+    @Query(value = "SELECT e.* FROM login_audit_events e " +
+            "WHERE e.timestamp >= :from AND e.timestamp < :to " +
+            "AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "AND e.role = :role " +
+            "ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<LoginAuditEvent> findPageByRole(@Param("from") Instant from,
+                                         @Param("to") Instant to,
+                                         @Param("beforeTimestamp") Instant beforeTimestamp,
+                                         @Param("beforeId") UUID beforeId,
+                                         @Param("role") String role,
+                                         @Param("limit") int limit);
+
+    // Same page for one user and role
+    @Query(value = "SELECT e.* FROM login_audit_events e " +
+            "WHERE e.timestamp >= :from AND e.timestamp < :to " +
+            "AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "AND e.user_id = :userId " +
+            "AND e.role = :role " +
+            "ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<LoginAuditEvent> findPageByUserIdAndRole(@Param("from") Instant from,
+                                                  @Param("to") Instant to,
+                                                  @Param("beforeTimestamp") Instant beforeTimestamp,
+                                                  @Param("beforeId") UUID beforeId,
+                                                  @Param("userId") String userId,
+                                                  @Param("role") String role,
+                                                  @Param("limit") int limit);
 
     List<LoginAuditEvent> findByTimestampBetweenOrderByTimestampDesc(Instant start, Instant end);
 
-    List<LoginAuditEvent> findAllByOrderByTimestampDesc();
+    List<LoginAuditEvent> findTop5ByOrderByTimestampDescIdDesc();
 }
@@ -1,13 +1,19 @@
 package com.example.courtierprobackend.audit.loginaudit.presentationlayer;
 
+import com.example.courtierprobackend.audit.common.AuditQueryParams;
 import com.example.courtierprobackend.audit.loginaudit.businesslayer.LoginAuditService;
 import com.example.courtierprobackend.audit.loginaudit.dataaccesslayer.LoginAuditEvent;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
 
+/**
+ * Login audit, newest first, one page per call. Every endpoint accepts {@code from},
+ * {@code to}, {@code before} and {@code size}; see {@link AuditQueryParams}.
+ */
 @RestController
 @RequestMapping("/api/admin/login-audit")
 @PreAuthorize("hasRole('ADMIN')")
@@ -17,17 +23,19 @@ public class LoginAuditController {
     private final LoginAuditService loginAuditService;
 
     @GetMapping
-    public List<LoginAuditEvent> getAllLoginEvents() {
-        return loginAuditService.getAllLoginEvents();
+    public ResponseEntity<List<LoginAuditEvent>> getAllLoginEvents(AuditQueryParams params) {
+        return loginAuditService.getLoginEvents(params.toPageRequest(), null, null).toResponseEntity();
     }
 
     @GetMapping("/user/{userId}")
-    public List<LoginAuditEvent> getLoginEventsByUser(@PathVariable String userId) {
-        return loginAuditService.getLoginEventsByUser(userId);
+    public ResponseEntity<List<LoginAuditEvent>> getLoginEventsByUser(@PathVariable String userId,
+                                                                       AuditQueryParams params) {
+        return loginAuditService.getLoginEvents(params.toPageRequest(), userId, null).toResponseEntity();
     }
 
     @GetMapping("/role/{role}")
-    public List<LoginAuditEvent> getLoginEventsByRole(@PathVariable String role) {
-        return loginAuditService.getLoginEventsByRole(role);
+    public ResponseEntity<List<LoginAuditEvent>> getLoginEventsByRole(@PathVariable String role,
+                                                                       AuditQueryParams params) {
+        return loginAuditService.getLoginEvents(params.toPageRequest(), null, role).toResponseEntity();
     }
 }
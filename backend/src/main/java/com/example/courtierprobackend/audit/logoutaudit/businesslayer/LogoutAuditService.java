@@ -1,5 +1,9 @@
 package com.example.courtierprobackend.audit.logoutaudit.businesslayer;
 
+import com.example.courtierprobackend.audit.common.AuditCursor;
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
+import com.example.courtierprobackend.audit.ingestion.AuditEventWriter;
 import com.example.courtierprobackend.audit.logoutaudit.dataaccesslayer.LogoutAuditEvent;
 import com.example.courtierprobackend.audit.logoutaudit.dataaccesslayer.LogoutAuditEventRepository;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +19,7 @@ import java.util.List;
 public class LogoutAuditService {
 
     private final LogoutAuditEventRepository repository;
+    private final AuditEventWriter auditEventWriter;
 
     public void recordLogoutEvent(
             String userId,
@@ -24,33 +29,42 @@ public class LogoutAuditService {
             String ipAddress,
             String userAgent
     ) {
-        try {
-            LogoutAuditEvent event = LogoutAuditEvent.builder()
-                    .userId(userId)
-                    .email(email)
-                    .reason(reason)
-                    .timestamp(timestamp)
-                    .ipAddress(ipAddress)
-                    .userAgent(userAgent)
-                    .build();
+        LogoutAuditEvent event = LogoutAuditEvent.builder()
+                .userId(userId)
+                .email(email)
+                .reason(reason)
+                .timestamp(timestamp)
+                .ipAddress(ipAddress)
+                .userAgent(userAgent)
+                .build();
 
-            repository.save(event);
+        // Written in the background; logout succeeds even if the audit queue is full
+        if (auditEventWriter.submit(event)) {
             log.info("Logout event recorded for user: {} with reason: {}", email, reason);
-        } catch (Exception e) {
-            log.error("Failed to record logout event for user: {}", email, e);
-            // Don't throw exception - logout should succeed even if logging fails
+        } else {
+            log.warn("Logout event dropped for user: {}, audit queue is full", email);
         }
     }
 
-    public List<LogoutAuditEvent> getAllLogoutEvents() {
-        return repository.findAllByOrderByTimestampDesc();
-    }
-
-    public List<LogoutAuditEvent> getLogoutEventsByUser(String userId) {
-        return repository.findByUserIdOrderByTimestampDesc(userId);
-    }
-
-    public List<LogoutAuditEvent> getLogoutEventsByReason(LogoutAuditEvent.LogoutReason reason) {
-        return repository.findByReasonOrderByTimestampDesc(reason);
+    /**
+     * Newest-first page of logout events, optionally for one user and/or reason.
+     */
+    public AuditPage<LogoutAuditEvent> getLogoutEvents(AuditPageRequest page, String userId,
+                                                       LogoutAuditEvent.LogoutReason reason) {
+        List<LogoutAuditEvent> rows;
+        if (userId != null && reason != null) {
+            rows = repository.findPageByUserIdAndReason(page.from(), page.to(), page.beforeTimestamp(),
+                    page.beforeUuid(), userId, reason.name(), page.fetchSize());
+        } else if (userId != null) {
+            rows = repository.findPageByUserId(page.from(), page.to(), page.beforeTimestamp(),
+                    page.beforeUuid(), userId, page.fetchSize());
+        } else if (reason != null) {
+            rows = repository.findPageByReason(page.from(), page.to(), page.beforeTimestamp(),
+                    page.beforeUuid(), reason.name(), page.fetchSize());
+        } else {
+            rows = repository.findPage(page.from(), page.to(), page.beforeTimestamp(),
+                    page.beforeUuid(), page.fetchSize());
+        }
+        return AuditPage.of(rows, page, event -> AuditCursor.of(event.getTimestamp(), event.getId()));
     }
 }
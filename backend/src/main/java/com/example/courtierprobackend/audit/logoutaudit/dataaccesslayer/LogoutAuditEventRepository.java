@@ -1,6 +1,8 @@
 package com.example.courtierprobackend.audit.logoutaudit.dataaccesslayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.Instant;
 import java.util.List;
@@ -8,11 +10,59 @@ import java.util.UUID;
 
 public interface LogoutAuditEventRepository extends JpaRepository<LogoutAuditEvent, UUID> {
 
-    List<LogoutAuditEvent> findByUserIdOrderByTimestampDesc(String userId);
+    /**
+     * Newest-first page of logout events in {@code [from, to)} that sort before the
+     * {@code (beforeTimestamp, beforeId)} keyset. Each filter combination has its own
+     * query so the planner can use the matching {@code (column, timestamp)} index.
+     */
+    @Query(value = "SELECT e.* FROM logout_audit_events e " +
+            "WHERE e.timestamp >= :from AND e.timestamp < :to " +
+            "AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<LogoutAuditEvent> findPage(@Param("from") Instant from,
+                                    @Param("to") Instant to,
+                                    @Param("beforeTimestamp") Instant beforeTimestamp,
+                                    @Param("beforeId") UUID beforeId,
+                                    @Param("limit") int limit);
 
-    List<LogoutAuditEvent> findByReasonOrderByTimestampDesc(LogoutAuditEvent.LogoutReason reason);
+    // Same page for one user
+    @Query(value = "SELECT e.* FROM logout_audit_events e " +
+            "WHERE e.timestamp >= :from AND e.timestamp < :to " +
+            "AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "AND e.user_id = :userId " +
+            "ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<LogoutAuditEvent> findPageByUserId(@Param("from") Instant from,
+                                            @Param("to") Instant to,
+                                            @Param("beforeTimestamp") Instant beforeTimestamp,
+                                            @Param("beforeId") UUID beforeId,
+                                            @Param("userId") String userId,
+                                            @Param("limit") int limit);
 
-    List<LogoutAuditEvent> findByTimestampBetweenOrderByTimestampDesc(Instant start, Instant end);
+    // Same page for one reason
+    @Query(value = "SELECT e.* FROM logout_audit_events e " +
+            "WHERE e.timestamp >= :from AND e.timestamp < :to " +
+            "AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "AND e.reason = :reason " +
+            "ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<LogoutAuditEvent> findPageByReason(@Param("from") Instant from,
+                                            @Param("to") Instant to,
+                                            @Param("beforeTimestamp") Instant beforeTimestamp,
+                                            @Param("beforeId") UUID beforeId,
+                                            @Param("reason") String reason,
+                                            @Param("limit") int limit);
 
-    List<LogoutAuditEvent> findAllByOrderByTimestampDesc();
+    // Same page for one user and reason
+    @Query(value = "SELECT e.* FROM logout_audit_events e " +
+            "WHERE e.timestamp >= :from AND e.timestamp < :to " +
+            "AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "AND e.user_id = :userId " +
+            "AND e.reason = :reason " +
+            "ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<LogoutAuditEvent> findPageByUserIdAndReason(@Param("from") Instant from,
+                                                     @Param("to") Instant to,
+                                                     @Param("beforeTimestamp") Instant beforeTimestamp,
+                                                     @Param("beforeId") UUID beforeId,
+                                                     @Param("userId") String userId,
+                                                     @Param("reason") String reason,
+                                                     @Param("limit") int limit);
 }
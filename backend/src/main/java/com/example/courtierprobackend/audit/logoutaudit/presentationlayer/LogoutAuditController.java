@@ -1,5 +1,6 @@
 package com.example.courtierprobackend.audit.logoutaudit.presentationlayer;
 
+import com.example.courtierprobackend.audit.common.AuditQueryParams;
 import com.example.courtierprobackend.audit.logoutaudit.businesslayer.LogoutAuditService;
 import com.example.courtierprobackend.audit.logoutaudit.dataaccesslayer.LogoutAuditEvent;
 import com.example.courtierprobackend.common.exceptions.BadRequestException;
@@ -72,27 +73,30 @@ public class LogoutAuditController {
 
     @GetMapping("/api/admin/logout-audit")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<LogoutAuditEvent> getAllLogoutEvents() {
-        return logoutAuditService.getAllLogoutEvents();
+    public ResponseEntity<List<LogoutAuditEvent>> getAllLogoutEvents(AuditQueryParams params) {
+        return logoutAuditService.getLogoutEvents(params.toPageRequest(), null, null).toResponseEntity();
     }
 
     @GetMapping("/api/admin/logout-audit/user/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public List<LogoutAuditEvent> getLogoutEventsByUser(@PathVariable String userId) {
-        return logoutAuditService.getLogoutEventsByUser(userId);
+    public ResponseEntity<List<LogoutAuditEvent>> getLogoutEventsByUser(@PathVariable String userId,
+                                                                         AuditQueryParams params) {
+        return logoutAuditService.getLogoutEvents(params.toPageRequest(), userId, null).toResponseEntity();
     }
 
     @GetMapping("/api/admin/logout-audit/reason/{reason}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<List<LogoutAuditEvent>> getLogoutEventsByReason(@PathVariable String reason) {
+    public ResponseEntity<List<LogoutAuditEvent>> getLogoutEventsByReason(@PathVariable String reason,
+                                                                           AuditQueryParams params) {
+        LogoutAuditEvent.LogoutReason logoutReason;
         try {
-            LogoutAuditEvent.LogoutReason logoutReason = LogoutAuditEvent.LogoutReason.valueOf(reason.toUpperCase());
-            return ResponseEntity.ok(logoutAuditService.getLogoutEventsByReason(logoutReason));
+            logoutReason = LogoutAuditEvent.LogoutReason.valueOf(reason.toUpperCase());
         } catch (IllegalArgumentException e) {
             throw new BadRequestException(
                 "Invalid logout reason: " + reason + ". Valid values are: MANUAL, SESSION_TIMEOUT, FORCED"
             );
         }
+        return logoutAuditService.getLogoutEvents(params.toPageRequest(), null, logoutReason).toResponseEntity();
     }
 
     private LogoutAuditEvent.LogoutReason parseLogoutReason(String reason) {
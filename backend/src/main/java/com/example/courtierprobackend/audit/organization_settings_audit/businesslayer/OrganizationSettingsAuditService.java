@@ -1,6 +1,9 @@
 // backend/src/main/java/com/example/courtierprobackend/audit/organization_settings_audit/businesslayer/OrganizationSettingsAuditService.java
 package com.example.courtierprobackend.audit.organization_settings_audit.businesslayer;
 
+import com.example.courtierprobackend.audit.common.AuditCursor;
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
 import com.example.courtierprobackend.audit.organization_settings_audit.dataaccesslayer.OrganizationSettingsAuditEvent;
 import com.example.courtierprobackend.audit.organization_settings_audit.dataaccesslayer.OrganizationSettingsAuditEventRepository;
 import lombok.RequiredArgsConstructor;
@@ -39,11 +42,12 @@ public class OrganizationSettingsAuditService {
         repository.save(event);
     }
 
-    public List<OrganizationSettingsAuditEvent> getAllAuditEvents() {
-        return repository.findAllByOrderByTimestampDesc();
-    }
-
-    public List<OrganizationSettingsAuditEvent> getRecentAuditEvents(int limit) {
-        return repository.findTopNByOrderByTimestampDesc(limit);
+    /**
+     * Newest-first page of organization settings changes.
+     */
+    public AuditPage<OrganizationSettingsAuditEvent> getAuditEvents(AuditPageRequest page) {
+        List<OrganizationSettingsAuditEvent> rows = repository.findPage(page.from(), page.to(),
+                page.beforeTimestamp(), page.beforeUuid(), page.fetchSize());
+        return AuditPage.of(rows, page, event -> AuditCursor.of(event.getTimestamp(), event.getId()));
     }
 }
@@ -1,20 +1,27 @@
 package com.example.courtierprobackend.audit.organization_settings_audit.dataaccesslayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 public interface OrganizationSettingsAuditEventRepository
         extends JpaRepository<OrganizationSettingsAuditEvent, UUID> {
 
-    List<OrganizationSettingsAuditEvent> findAllByOrderByTimestampDesc();
-
-    // Custom query to fetch only the latest N audit events
-    @org.springframework.data.jpa.repository.Query("SELECT e FROM OrganizationSettingsAuditEvent e ORDER BY e.timestamp DESC")
-    List<OrganizationSettingsAuditEvent> findTopNByOrderByTimestampDesc(org.springframework.data.domain.Pageable pageable);
-
-    default List<OrganizationSettingsAuditEvent> findTopNByOrderByTimestampDesc(int limit) {
-        return findTopNByOrderByTimestampDesc(org.springframework.data.domain.PageRequest.of(0, limit));
-    }
+    /**
+     * Newest-first page of settings changes in {@code [from, to)} that sort before the
+     * {@code (beforeTimestamp, beforeId)} keyset.
+     */
+    @Query(value = "SELECT e.* FROM organization_settings_audit e " +
+            "WHERE e.timestamp >= :from AND e.timestamp < :to " +
+            "AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<OrganizationSettingsAuditEvent> findPage(@Param("from") Instant from,
+                                                  @Param("to") Instant to,
+                                                  @Param("beforeTimestamp") Instant beforeTimestamp,
+                                                  @Param("beforeId") UUID beforeId,
+                                                  @Param("limit") int limit);
 }
@@ -1,5 +1,6 @@
 package com.example.courtierprobackend.audit.organization_settings_audit.presentationlayer;
 
+import com.example.courtierprobackend.audit.common.AuditQueryParams;
 import com.example.courtierprobackend.audit.organization_settings_audit.businesslayer.OrganizationSettingsAuditService;
 import com.example.courtierprobackend.audit.organization_settings_audit.dataaccesslayer.OrganizationSettingsAuditEvent;
 import lombok.RequiredArgsConstructor;
@@ -20,12 +21,15 @@ public class OrganizationSettingsAuditController {
 
     private final OrganizationSettingsAuditService auditService;
 
+    /**
+     * A page of settings changes, newest first. {@code limit} is the older name of {@code size}.
+     */
     @GetMapping
-    public ResponseEntity<List<OrganizationSettingsAuditEvent>> getAuditLogs(@RequestParam(value = "limit", required = false) Integer limit) {
-        if (limit != null && limit > 0) {
-            return ResponseEntity.ok(auditService.getRecentAuditEvents(limit));
-        } else {
-            return ResponseEntity.ok(auditService.getAllAuditEvents());
-        }
+    public ResponseEntity<List<OrganizationSettingsAuditEvent>> getAuditLogs(
+            @RequestParam(value = "limit", required = false) Integer limit,
+            AuditQueryParams params) {
+        Integer size = params.size() != null ? params.size() : (limit != null && limit > 0 ? limit : null);
+        AuditQueryParams page = new AuditQueryParams(params.from(), params.to(), params.before(), size);
+        return auditService.getAuditEvents(page.toPageRequest()).toResponseEntity();
     }
 }
@@ -1,12 +1,15 @@
 package com.example.courtierprobackend.audit.passwordresetaudit.businesslayer;
 
+import com.example.courtierprobackend.audit.common.AuditCursor;
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
+import com.example.courtierprobackend.audit.ingestion.AuditEventWriter;
 import com.example.courtierprobackend.audit.passwordresetaudit.dataaccesslayer.PasswordResetEvent;
 import com.example.courtierprobackend.audit.passwordresetaudit.dataaccesslayer.PasswordResetEventRepository;
 import lombok.AllArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import java.time.Instant;
 import java.util.List;
@@ -21,11 +24,11 @@ public class PasswordResetAuditService {
     private static final Logger logger = LoggerFactory.getLogger(PasswordResetAuditService.class);
 
     private final PasswordResetEventRepository passwordResetEventRepository;
+    private final AuditEventWriter auditEventWriter;
 
     /**
-     * Record a password reset request event
+     * Record a password reset request event (written asynchronously)
      */
-    @Transactional
     public void recordPasswordResetRequest(
             String userId,
             String email,
@@ -47,15 +50,14 @@ public class PasswordResetAuditService {
                 .userAgent(userAgent)
                 .build();
 
-        passwordResetEventRepository.save(event);
+        auditEventWriter.submit(event);
 
         logger.info("Password reset REQUESTED for user {} ({})", userId, email);
     }
 
     /**
-     * Record a successful password reset completion event
+     * Record a successful password reset completion event (written asynchronously)
      */
-    @Transactional
     public void recordPasswordResetCompletion(
             String userId,
             String email,
@@ -77,22 +79,20 @@ public class PasswordResetAuditService {
                 .userAgent(userAgent)
                 .build();
 
-        passwordResetEventRepository.save(event);
+        auditEventWriter.submit(event);
 
         logger.info("Password reset COMPLETED for user {} ({})", userId, email);
     }
 
     /**
-     * Get all password reset events (for admin audit)
+     * Newest-first page of password reset events (for admin audit), optionally for one user
      */
-    public List<PasswordResetEvent> getAllPasswordResetEvents() {
-        return passwordResetEventRepository.findAllByOrderByTimestampDesc();
-    }
-
-    /**
-     * Get password reset events for a specific user
-     */
-    public List<PasswordResetEvent> getPasswordResetEventsForUser(String userId) {
-        return passwordResetEventRepository.findByUserIdOrderByTimestampDesc(userId);
+    public AuditPage<PasswordResetEvent> getPasswordResetEvents(AuditPageRequest page, String userId) {
+        List<PasswordResetEvent> rows = userId != null
+                ? passwordResetEventRepository.findPageByUserId(page.from(), page.to(),
+                        page.beforeTimestamp(), page.beforeUuid(), userId, page.fetchSize())
+                : passwordResetEventRepository.findPage(page.from(), page.to(),
+                        page.beforeTimestamp(), page.beforeUuid(), page.fetchSize());
+        return AuditPage.of(rows, page, event -> AuditCursor.of(event.getTimestamp(), event.getId()));
     }
 }
@@ -1,19 +1,39 @@
 package com.example.courtierprobackend.audit.passwordresetaudit.dataaccesslayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 public interface PasswordResetEventRepository extends JpaRepository<PasswordResetEvent, UUID> {
-    
-    /**
-     * Find all password reset events ordered by timestamp descending (newest first)
-     */
-    List<PasswordResetEvent> findAllByOrderByTimestampDesc();
-    
+
     /**
-     * Find all password reset events for a specific user
+     * Newest-first page of password reset events in {@code [from, to)} that sort before
+     * the {@code (beforeTimestamp, beforeId)} keyset.
      */
-    List<PasswordResetEvent> findByUserIdOrderByTimestampDesc(String userId);
+    @Query(value = "SELECT e.* FROM password_reset_events e " +
+            "WHERE e.timestamp >= :from AND e.timestamp < :to " +
+            "AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<PasswordResetEvent> findPage(@Param("from") Instant from,
+                                      @Param("to") Instant to,
+                                      @Param("beforeTimestamp") Instant beforeTimestamp,
+                                      @Param("beforeId") UUID beforeId,
+                                      @Param("limit") int limit);
+
+    // Same page for one user
+    @Query(value = "SELECT e.* FROM password_reset_events e " +
+            "WHERE e.timestamp >= :from AND e.timestamp < :to " +
+            "AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "AND e.user_id = :userId " +
+            "ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<PasswordResetEvent> findPageByUserId(@Param("from") Instant from,
+                                              @Param("to") Instant to,
+                                              @Param("beforeTimestamp") Instant beforeTimestamp,
+                                              @Param("beforeId") UUID beforeId,
+                                              @Param("userId") String userId,
+                                              @Param("limit") int limit);
 }
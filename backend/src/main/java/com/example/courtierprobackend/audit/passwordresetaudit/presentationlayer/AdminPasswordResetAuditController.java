@@ -1,11 +1,13 @@
 package com.example.courtierprobackend.audit.passwordresetaudit.presentationlayer;
 
+import com.example.courtierprobackend.audit.common.AuditQueryParams;
 import com.example.courtierprobackend.audit.passwordresetaudit.businesslayer.PasswordResetAuditService;
-import com.example.courtierprobackend.audit.passwordresetaudit.dataaccesslayer.PasswordResetEvent;
 import lombok.AllArgsConstructor;
+import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import java.util.List;
@@ -22,15 +24,15 @@ public class AdminPasswordResetAuditController {
     private final PasswordResetAuditService passwordResetAuditService;
 
     /**
-     * Get all password reset events for audit purposes
-     * TODO: Implement pagination, filtering by date range, and rate limiting
-     * for better performance and security with large datasets
+     * Get a page of password reset events, newest first, optionally for one user.
+     * Accepts {@code from}, {@code to}, {@code before} and {@code size}; see {@link AuditQueryParams}.
      */
     @GetMapping
-    public List<PasswordResetEventResponse> getAllPasswordResetEvents() {
-        List<PasswordResetEvent> events = passwordResetAuditService.getAllPasswordResetEvents();
-        return events.stream()
+    public ResponseEntity<List<PasswordResetEventResponse>> getAllPasswordResetEvents(
+            @RequestParam(required = false) String userId,
+            AuditQueryParams params) {
+        return passwordResetAuditService.getPasswordResetEvents(params.toPageRequest(), userId)
                 .map(PasswordResetEventResponse::from)
-                .toList();
+                .toResponseEntity();
     }
 }
@@ -1,6 +1,7 @@
 package com.example.courtierprobackend.audit.passwordresetaudit.presentationlayer;
 
 import com.example.courtierprobackend.audit.passwordresetaudit.businesslayer.PasswordResetAuditService;
+import com.example.courtierprobackend.user.domainclientlayer.auth0.Auth0ManagementCache;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.AllArgsConstructor;
@@ -10,17 +11,21 @@ import org.slf4j.LoggerFactory;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.Set;
+
 /**
  * Webhook controller to receive Auth0 Log Stream events.
  * 
  * This endpoint receives events from Auth0 when:
  * - A user requests a password reset (event type: "fp" - forgot password)
  * - A user completes a password change (event type: "scp" - successful change password)
+ * - A user enrolls or removes an MFA factor (event types: "gd_enrollment_complete", "gd_unenroll", ...)
  * 
  * To set up in Auth0:
  * 1. Go to Monitoring > Streams > Create Stream > Custom Webhook
  * 2. Configure endpoint: https://your-backend.com/api/webhooks/auth0-events
- * 3. Filter by event types: fp (forgot password), scp (successful change password)
+ * 3. Filter by event types: fp (forgot password), scp (successful change password),
+ *    and the Guardian enrollment events listed in MFA_CHANGE_EVENTS
  * 4. Save the webhook
  */
 @RestController
@@ -30,7 +35,12 @@ public class Auth0WebhookController {
 
     private static final Logger logger = LoggerFactory.getLogger(Auth0WebhookController.class);
     
+    // Guardian events that change a user's MFA enrollments, plus user deletion
+    private static final Set<String> MFA_CHANGE_EVENTS = Set.of(
+            "gd_enrollment_complete", "gd_unenroll", "gd_update_device_account", "sdu");
+
     private final PasswordResetAuditService passwordResetAuditService;
+    private final Auth0ManagementCache auth0ManagementCache;
 
     /**
      * Receive Auth0 log stream events
@@ -48,6 +58,10 @@ public class Auth0WebhookController {
         try {
             logger.info("Received Auth0 event: type={}, user={}", event.getType(), event.getUserId());
 
+            if (event.getUserId() != null && MFA_CHANGE_EVENTS.contains(event.getType())) {
+                auth0ManagementCache.invalidate(event.getUserId());
+            }
+
             // Extract IP from event payload (user's actual IP), with fallbacks to headers
             String ipAddress = extractIpAddress(event, request);
             // Use user agent from Auth0 event if available, otherwise from request header
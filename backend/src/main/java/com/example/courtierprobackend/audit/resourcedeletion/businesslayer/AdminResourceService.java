@@ -1,10 +1,11 @@
 package com.example.courtierprobackend.audit.resourcedeletion.businesslayer;
 
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
 import com.example.courtierprobackend.audit.resourcedeletion.datalayer.AdminDeletionAuditLog;
 import com.example.courtierprobackend.audit.resourcedeletion.presentationlayer.dto.DeletionPreviewResponse;
 import com.example.courtierprobackend.audit.resourcedeletion.presentationlayer.dto.ResourceListResponse;
 
-import java.util.List;
 import java.util.UUID;
 
 /**
@@ -40,7 +41,7 @@ public interface AdminResourceService {
     void restoreResource(AdminDeletionAuditLog.ResourceType type, UUID resourceId, UUID adminId);
 
     /**
-     * Get deletion audit history.
+     * Get a newest-first page of deletion audit history.
      */
-    List<AdminDeletionAuditLog> getAuditHistory();
+    AuditPage<AdminDeletionAuditLog> getAuditHistory(AuditPageRequest page);
 }
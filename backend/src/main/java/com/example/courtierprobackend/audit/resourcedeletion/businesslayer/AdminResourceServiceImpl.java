@@ -1,5 +1,8 @@
 package com.example.courtierprobackend.audit.resourcedeletion.businesslayer;
 
+import com.example.courtierprobackend.audit.common.AuditCursor;
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
 import com.example.courtierprobackend.audit.resourcedeletion.datalayer.AdminDeletionAuditLog;
 import com.example.courtierprobackend.audit.resourcedeletion.datalayer.AdminDeletionAuditRepository;
 import com.example.courtierprobackend.audit.resourcedeletion.presentationlayer.dto.DeletionPreviewResponse;
@@ -22,6 +25,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.*;
 import java.util.stream.Collectors;
 
@@ -613,8 +617,11 @@ public class AdminResourceServiceImpl implements AdminResourceService {
     }
 
     @Override
-    public List<AdminDeletionAuditLog> getAuditHistory() {
-        return auditRepository.findAllByOrderByTimestampDesc();
+    public AuditPage<AdminDeletionAuditLog> getAuditHistory(AuditPageRequest page) {
+        List<AdminDeletionAuditLog> rows = auditRepository.findPage(page.fromLocal(), page.toLocal(),
+                page.beforeTimestampLocal(), page.beforeLong(), page.fetchSize());
+        return AuditPage.of(rows, page, log -> AuditCursor.of(
+                log.getTimestamp().atZone(ZoneId.systemDefault()).toInstant(), log.getId()));
     }
 
     // Helper methods
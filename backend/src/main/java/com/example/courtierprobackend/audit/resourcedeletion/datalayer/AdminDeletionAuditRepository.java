@@ -1,6 +1,8 @@
 package com.example.courtierprobackend.audit.resourcedeletion.datalayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -14,8 +16,21 @@ public interface AdminDeletionAuditRepository extends JpaRepository<AdminDeletio
 
     List<AdminDeletionAuditLog> findByTimestampBetweenOrderByTimestampDesc(LocalDateTime from, LocalDateTime to);
 
-    List<AdminDeletionAuditLog> findAllByOrderByTimestampDesc();
-    
     List<AdminDeletionAuditLog> findByActionOrderByTimestampDesc(AdminDeletionAuditLog.ActionType action);
-}
 
+    List<AdminDeletionAuditLog> findTop5ByOrderByTimestampDescIdDesc();
+
+    /**
+     * Newest-first page of delete/restore entries in {@code [from, to)} that sort before
+     * the {@code (beforeTimestamp, beforeId)} keyset.
+     */
+    @Query(value = "SELECT e.* FROM admin_deletion_audit_logs e " +
+            "WHERE e.timestamp >= :from AND e.timestamp < :to " +
+            "AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit", nativeQuery = true)
+    List<AdminDeletionAuditLog> findPage(@Param("from") LocalDateTime from,
+                                         @Param("to") LocalDateTime to,
+                                         @Param("beforeTimestamp") LocalDateTime beforeTimestamp,
+                                         @Param("beforeId") long beforeId,
+                                         @Param("limit") int limit);
+}
@@ -1,11 +1,14 @@
 package com.example.courtierprobackend.audit.resourcedeletion.presentationlayer;
 
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditQueryParams;
 import com.example.courtierprobackend.audit.resourcedeletion.businesslayer.AdminResourceService;
 import com.example.courtierprobackend.audit.resourcedeletion.datalayer.AdminDeletionAuditLog;
 import com.example.courtierprobackend.audit.resourcedeletion.presentationlayer.dto.AdminDeletionAuditResponse;
 import com.example.courtierprobackend.audit.resourcedeletion.presentationlayer.dto.DeletionPreviewResponse;
 import com.example.courtierprobackend.audit.resourcedeletion.presentationlayer.dto.ResourceListResponse;
 import com.example.courtierprobackend.security.UserContextUtils;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -14,6 +17,8 @@ import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.stream.Collectors;
 
@@ -98,33 +103,33 @@ public class AdminResourceController {
     }
 
     /**
-     * Get audit history (both delete and restore actions).
+     * Get a page of audit history (both delete and restore actions), newest first.
+     * Accepts {@code from}, {@code to}, {@code before} and {@code size}; see {@link AuditQueryParams}.
      */
     @GetMapping("/audit-history")
-    public ResponseEntity<List<AdminDeletionAuditResponse>> getAuditHistory() {
-        List<AdminDeletionAuditLog> logs = adminResourceService.getAuditHistory();
-
-        List<AdminDeletionAuditResponse> response = logs.stream()
-                .map(log -> {
-                    String adminEmail = userAccountRepository.findById(log.getAdminId())
-                            .map(u -> u.getEmail())
-                            .orElse("Unknown");
-
-                    return AdminDeletionAuditResponse.builder()
-                            .id(log.getId())
-                            .action(log.getAction().name())
-                            .timestamp(log.getTimestamp())
-                            .adminId(log.getAdminId())
-                            .adminEmail(adminEmail)
-                            .resourceType(log.getResourceType().name())
-                            .resourceId(log.getResourceId())
-                            .resourceSnapshot(log.getResourceSnapshot())
-                            .cascadedDeletions(log.getCascadedDeletions())
-                            .build();
-                })
-                .collect(Collectors.toList());
-
-        return ResponseEntity.ok(response);
+    public ResponseEntity<List<AdminDeletionAuditResponse>> getAuditHistory(AuditQueryParams params) {
+        AuditPage<AdminDeletionAuditLog> page = adminResourceService.getAuditHistory(params.toPageRequest());
+
+        // One lookup for every admin on the page
+        Set<UUID> adminIds = page.items().stream()
+                .map(AdminDeletionAuditLog::getAdminId)
+                .collect(Collectors.toSet());
+        Map<UUID, String> adminEmails = userAccountRepository.findAllById(adminIds).stream()
+                .filter(u -> u.getEmail() != null)
+                .collect(Collectors.toMap(UserAccount::getId, UserAccount::getEmail));
+
+        return page.map(log -> AdminDeletionAuditResponse.builder()
+                        .id(log.getId())
+                        .action(log.getAction().name())
+                        .timestamp(log.getTimestamp())
+                        .adminId(log.getAdminId())
+                        .adminEmail(adminEmails.getOrDefault(log.getAdminId(), "Unknown"))
+                        .resourceType(log.getResourceType().name())
+                        .resourceId(log.getResourceId())
+                        .resourceSnapshot(log.getResourceSnapshot())
+                        .cascadedDeletions(log.getCascadedDeletions())
+                        .build())
+                .toResponseEntity();
     }
 
     private AdminDeletionAuditLog.ResourceType parseResourceType(String type) {
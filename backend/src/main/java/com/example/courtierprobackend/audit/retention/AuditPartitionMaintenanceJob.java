@@ -0,0 +1,124 @@
+package com.example.courtierprobackend.audit.retention;
+
+import com.example.courtierprobackend.infrastructure.jobs.ScheduledJobRunner;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+
+/**
+ * Keeps the monthly partitions of the audit tables (see migration V11) in shape:
+ * creates partitions a few months ahead so rows never pile up in the default
+ * partition, and drops whole partitions once they are older than the retention period.
+ *
+ * <p>Runs at startup and nightly, on one instance of the cluster at a time through
+ * {@link ScheduledJobRunner}. Partitioning only exists on Postgres, so the job does
+ * nothing on other databases (H2 in tests).</p>
+ */
+@Component
+public class AuditPartitionMaintenanceJob {
+
+    private static final Logger log = LoggerFactory.getLogger(AuditPartitionMaintenanceJob.class);
+
+    static final List<String> PARTITIONED_TABLES = List.of(
+            "login_audit_events",
+            "logout_audit_events",
+            "password_reset_events",
+            "admin_deletion_audit_logs",
+            "organization_settings_audit");
+
+    static final String JOB_NAME = "audit-partition-maintenance";
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
+    private final JdbcTemplate jdbcTemplate;
+    private final Clock clock;
+    private final int monthsAhead;
+    private final boolean retentionEnabled;
+    private final int retentionMonths;
+    private final ScheduledJobRunner jobRunner;
+
+    private Boolean postgres;
+
+    public AuditPartitionMaintenanceJob(JdbcTemplate jdbcTemplate,
+                                        Clock clock,
+                                        @Value("${app.audit.partitions.months-ahead:3}") int monthsAhead,
+                                        @Value("${app.audit.retention.enabled:true}") boolean retentionEnabled,
+                                        @Value("${app.audit.retention.months:24}") int retentionMonths,
+                                        ScheduledJobRunner jobRunner) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.clock = clock;
+        this.monthsAhead = monthsAhead;
+        this.retentionEnabled = retentionEnabled;
+        this.retentionMonths = retentionMonths;
+        this.jobRunner = jobRunner;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        maintainPartitions();
+    }
+
+    @Scheduled(cron = "${app.audit.partitions.cron:0 30 3 * * *}")
+    public void maintainPartitions() {
+        jobRunner.runExclusively(JOB_NAME, LEASE, this::maintainPartitionsNow);
+    }
+
+    /**
+     * @return the number of partitions created and dropped
+     */
+    int maintainPartitionsNow() {
+        if (!isPostgres()) {
+            return 0;
+        }
+        LocalDate thisMonth = LocalDate.now(clock).withDayOfMonth(1);
+        LocalDate lastMonth = thisMonth.plusMonths(monthsAhead);
+        LocalDate cutoff = thisMonth.minusMonths(retentionMonths);
+        int changed = 0;
+
+        for (String table : PARTITIONED_TABLES) {
+            try {
+                Integer created = jdbcTemplate.queryForObject(
+                        "SELECT create_monthly_audit_partitions(?, ?, ?)", Integer.class,
+                        table, Date.valueOf(thisMonth), Date.valueOf(lastMonth));
+                if (created != null && created > 0) {
+                    log.info("Created {} audit partitions for {}", created, table);
+                    changed += created;
+                }
+                if (retentionEnabled) {
+                    Integer dropped = jdbcTemplate.queryForObject(
+                            "SELECT drop_audit_partitions_before(?, ?)", Integer.class,
+                            table, Date.valueOf(cutoff));
+                    if (dropped != null && dropped > 0) {
+                        log.info("Dropped {} audit partitions of {} older than {}", dropped, table, cutoff);
+                        changed += dropped;
+                    }
+                }
+            } catch (DataAccessException e) {
+                // One table failing must not stop the others; the next run retries
+                log.error("Audit partition maintenance failed for {}", table, e);
+            }
+        }
+        return changed;
+    }
+
+    private boolean isPostgres() {
+        if (postgres == null) {
+            String product = jdbcTemplate.execute(
+                    (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+            postgres = "PostgreSQL".equalsIgnoreCase(product);
+        }
+        return postgres;
+    }
+}
@@ -0,0 +1,42 @@
+package com.example.courtierprobackend.audit.timeline_audit.businesslayer;
+
+import com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO;
+import com.example.courtierprobackend.common.exceptions.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in a newest-first timeline feed: the {@code (timestamp, id)} of the
+ * last entry a client has seen. Sent over the wire as an opaque URL-safe token.
+ */
+public record TimelineFeedCursor(Instant timestamp, UUID id) {
+
+    public static TimelineFeedCursor after(TimelineEntryDTO entry) {
+        return new TimelineFeedCursor(entry.getOccurredAt(), entry.getId());
+    }
+
+    public String encode() {
+        String raw = timestamp.getEpochSecond() + ":" + timestamp.getNano() + ":" + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * @return the decoded cursor, or {@code null} for a blank token (first page)
+     * @throws BadRequestException if the token was not produced by {@link #encode()}
+     */
+    public static TimelineFeedCursor decode(String token) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        try {
+            String[] parts = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8).split(":");
+            Instant timestamp = Instant.ofEpochSecond(Long.parseLong(parts[0]), Long.parseLong(parts[1]));
+            return new TimelineFeedCursor(timestamp, UUID.fromString(parts[2]));
+        } catch (IllegalArgumentException | ArrayIndexOutOfBoundsException e) {
+            throw new BadRequestException("Invalid activity cursor");
+        }
+    }
+}
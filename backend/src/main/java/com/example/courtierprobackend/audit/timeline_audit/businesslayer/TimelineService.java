@@ -16,6 +16,25 @@ public interface TimelineService {
     // Nouvelle méthode pour supporter TransactionInfo
     void addEntry(UUID transactionId, UUID actorId, TimelineEntryType type, String note, String docType, TransactionInfo transactionInfo);
 
+    /**
+     * Appends several entries for one transaction in a single batch, e.g. a stage change
+     * that also closes the transaction.
+     */
+    void addEntries(UUID transactionId, UUID actorId, List<Append> entries);
+
+    /**
+     * One entry of a batch append.
+     */
+    record Append(TimelineEntryType type, String note, String docType, TransactionInfo transactionInfo) {
+        public static Append of(TimelineEntryType type, String note) {
+            return new Append(type, note, null, null);
+        }
+
+        public static Append of(TimelineEntryType type, TransactionInfo transactionInfo) {
+            return new Append(type, null, null, transactionInfo);
+        }
+    }
+
 
     List<TimelineEntryDTO> getTimelineForTransaction(UUID transactionId);
 
@@ -33,5 +52,11 @@ public interface TimelineService {
      * Returns entries sorted by occurredAt descending.
      */
     Page<TimelineEntryDTO> getRecentEntriesForTransactionsPaged(Set<UUID> transactionIds, Pageable pageable);
-}
 
+    /**
+     * Newest entries across a broker's active transactions, keyset-paginated.
+     *
+     * @param before position of the last entry already returned, or {@code null} for the first page
+     */
+    List<TimelineEntryDTO> getBrokerFeed(UUID brokerId, TimelineFeedCursor before, int limit);
+}
@@ -7,7 +7,6 @@ import com.example.courtierprobackend.audit.timeline_audit.dataaccesslayer.value
 import com.example.courtierprobackend.audit.timeline_audit.datamapperlayer.TimelineEntryMapper;
 import com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO;
 import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
-import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -16,11 +15,14 @@ import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Comparator;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.time.Clock;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 public class TimelineServiceImpl implements TimelineService {
@@ -47,6 +49,24 @@ public class TimelineServiceImpl implements TimelineService {
     @Transactional
     public void addEntry(UUID transactionId, UUID actorId, TimelineEntryType type, String note, String docType,
             TransactionInfo transactionInfo) {
+        repository.save(buildEntry(transactionId, actorId, type, note, docType, transactionInfo));
+        touchTransaction(transactionId);
+    }
+
+    @Override
+    @Transactional
+    public void addEntries(UUID transactionId, UUID actorId, List<Append> entries) {
+        if (entries == null || entries.isEmpty()) {
+            return;
+        }
+        repository.saveAll(entries.stream()
+                .map(e -> buildEntry(transactionId, actorId, e.type(), e.note(), e.docType(), e.transactionInfo()))
+                .toList());
+        touchTransaction(transactionId);
+    }
+
+    private TimelineEntry buildEntry(UUID transactionId, UUID actorId, TimelineEntryType type, String note,
+            String docType, TransactionInfo transactionInfo) {
         boolean visibleToClient = switch (type) {
             case CREATED, DOCUMENT_REQUESTED, DOCUMENT_SUBMITTED, DOCUMENT_APPROVED, DOCUMENT_NEEDS_REVISION,
                     STAGE_CHANGE, STAGE_ROLLBACK,
@@ -60,7 +80,7 @@ public class TimelineServiceImpl implements TimelineService {
                 true;
             default -> false;
         };
-        TimelineEntry entry = TimelineEntry.builder()
+        return TimelineEntry.builder()
                 .transactionId(transactionId)
                 .actorId(actorId)
                 .type(type)
@@ -70,15 +90,36 @@ public class TimelineServiceImpl implements TimelineService {
                 .visibleToClient(visibleToClient)
                 .transactionInfo(transactionInfo)
                 .build();
-        repository.save(entry);
-
-        // Update transaction lastUpdated timestamp
-        // The @PreUpdate lifecycle hook on the Transaction entity will set the actual lastUpdated time
-        // We set it here ensure the entity is marked 'dirty' so the save triggers the update
-        transactionRepository.findByTransactionId(transactionId).ifPresent(transaction -> {
-            transaction.setLastUpdated(LocalDateTime.now(clock)); 
-            transactionRepository.save(transaction);
-        });
+    }
+
+    /**
+     * Bumps the transaction's lastUpdated once per database transaction, just before it
+     * commits, however many entries were appended. Outside a transaction the update runs
+     * immediately.
+     */
+    private void touchTransaction(UUID transactionId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            transactionRepository.touchLastUpdated(List.of(transactionId), LocalDateTime.now(clock));
+            return;
+        }
+        for (TransactionSynchronization synchronization : TransactionSynchronizationManager.getSynchronizations()) {
+            if (synchronization instanceof LastUpdatedTouch touch) {
+                touch.transactionIds.add(transactionId);
+                return;
+            }
+        }
+        LastUpdatedTouch touch = new LastUpdatedTouch();
+        touch.transactionIds.add(transactionId);
+        TransactionSynchronizationManager.registerSynchronization(touch);
+    }
+
+    private class LastUpdatedTouch implements TransactionSynchronization {
+        private final Set<UUID> transactionIds = new LinkedHashSet<>();
+
+        @Override
+        public void beforeCommit(boolean readOnly) {
+            transactionRepository.touchLastUpdated(transactionIds, LocalDateTime.now(clock));
+        }
     }
 
     @Override
@@ -124,4 +165,12 @@ public class TimelineServiceImpl implements TimelineService {
                 pageable);
         return entriesPage.map(timelineEntryMapper::toDTO);
     }
+
+    @Override
+    public List<TimelineEntryDTO> getBrokerFeed(UUID brokerId, TimelineFeedCursor before, int limit) {
+        List<TimelineEntry> entries = before == null
+                ? repository.findBrokerFeed(brokerId, limit)
+                : repository.findBrokerFeedBefore(brokerId, before.timestamp(), before.id(), limit);
+        return entries.stream().map(timelineEntryMapper::toDTO).toList();
+    }
 }
@@ -3,8 +3,11 @@ package com.example.courtierprobackend.audit.timeline_audit.dataaccesslayer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.Instant;
 import java.util.Collection;
 import java.util.List;
 import java.util.Set;
@@ -32,4 +35,37 @@ public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, UU
      */
     List<TimelineEntry> findByTransactionIdInAndTypeInOrderByTimestampAsc(Collection<UUID> transactionIds,
             Collection<TimelineEntryType> types);
+
+    /**
+     * Newest entries across a broker's active transactions. Each transaction contributes at
+     * most {@code limit} rows read off {@code idx_timeline_entries_tx_timestamp_id}, so the
+     * cost grows with the number of transactions rather than the size of their timelines.
+     */
+    @Query(value = "SELECT te.* FROM transactions t " +
+            "CROSS JOIN LATERAL (" +
+            "  SELECT e.* FROM timeline_entries e " +
+            "  WHERE e.transaction_id = t.transaction_id AND e.deleted_at IS NULL " +
+            "  ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit" +
+            ") te " +
+            "WHERE t.broker_id = :brokerId AND t.status = 'ACTIVE' AND t.deleted_at IS NULL " +
+            "ORDER BY te.timestamp DESC, te.id DESC LIMIT :limit", nativeQuery = true)
+    List<TimelineEntry> findBrokerFeed(@Param("brokerId") UUID brokerId, @Param("limit") int limit);
+
+    /**
+     * Next page of {@link #findBrokerFeed}: entries strictly older than the
+     * {@code (timestamp, id)} keyset of the last row already returned.
+     */
+    @Query(value = "SELECT te.* FROM transactions t " +
+            "CROSS JOIN LATERAL (" +
+            "  SELECT e.* FROM timeline_entries e " +
+            "  WHERE e.transaction_id = t.transaction_id AND e.deleted_at IS NULL " +
+            "  AND (e.timestamp, e.id) < (:beforeTimestamp, :beforeId) " +
+            "  ORDER BY e.timestamp DESC, e.id DESC LIMIT :limit" +
+            ") te " +
+            "WHERE t.broker_id = :brokerId AND t.status = 'ACTIVE' AND t.deleted_at IS NULL " +
+            "ORDER BY te.timestamp DESC, te.id DESC LIMIT :limit", nativeQuery = true)
+    List<TimelineEntry> findBrokerFeedBefore(@Param("brokerId") UUID brokerId,
+            @Param("beforeTimestamp") Instant beforeTimestamp,
+            @Param("beforeId") UUID beforeId,
+            @Param("limit") int limit);
 }
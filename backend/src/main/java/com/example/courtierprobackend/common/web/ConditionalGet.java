@@ -0,0 +1,83 @@
+package com.example.courtierprobackend.common.web;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.util.DigestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.StringJoiner;
+
+/**
+ * Strong ETags and {@code If-None-Match} handling for read endpoints whose content is
+ * covered by a version stamp. Controllers check the caller's access, then the stamp,
+ * before calling the service, so an unchanged view is answered with a 304 without
+ * loading or mapping anything, and never to a caller who could not load it.
+ */
+public final class ConditionalGet {
+
+    // Browsers keep the response but revalidate it on every use
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
+    private ConditionalGet() {
+    }
+
+    /**
+     * Builds a strong ETag from a version stamp and whatever else shapes the response
+     * (view name, caller role, ...).
+     *
+     * @return the quoted ETag, or {@code null} when there is no stamp
+     */
+    public static String etag(String versionStamp, Object... variant) {
+        if (versionStamp == null) {
+            return null;
+        }
+        StringJoiner raw = new StringJoiner("|").add(versionStamp);
+        for (Object part : variant) {
+            raw.add(String.valueOf(part));
+        }
+        return "\"" + DigestUtils.md5DigestAsHex(raw.toString().getBytes(StandardCharsets.UTF_8)) + "\"";
+    }
+
+    /**
+     * True when one of the request's {@code If-None-Match} tags matches {@code etag}
+     * (weak comparison, as RFC 9110 prescribes for GET).
+     */
+    public static boolean isNotModified(HttpServletRequest request, String etag) {
+        if (etag == null || request == null) {
+            return false;
+        }
+        for (String header : Collections.list(request.getHeaders(HttpHeaders.IF_NONE_MATCH))) {
+            for (String tag : header.split(",")) {
+                String candidate = tag.trim();
+                if (candidate.equals("*")) {
+                    return true;
+                }
+                if (candidate.startsWith("W/")) {
+                    candidate = candidate.substring(2);
+                }
+                if (candidate.equals(etag)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    public static <T> ResponseEntity<T> notModified(String etag) {
+        return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).cacheControl(REVALIDATE).build();
+    }
+
+    /**
+     * 200 with the ETag and revalidation headers; a plain 200 when there is no ETag.
+     */
+    public static <T> ResponseEntity<T> ok(String etag, T body) {
+        if (etag == null) {
+            return ResponseEntity.ok(body);
+        }
+        return ResponseEntity.ok().eTag(etag).cacheControl(REVALIDATE).body(body);
+    }
+}
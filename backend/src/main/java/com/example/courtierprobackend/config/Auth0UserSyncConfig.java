@@ -1,26 +1,55 @@
 package com.example.courtierprobackend.config;
 
+import com.example.courtierprobackend.infrastructure.jobs.ScheduledJobRunner;
 import com.example.courtierprobackend.user.businesslayer.Auth0UserSyncService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
-import org.springframework.boot.CommandLineRunner;
-import org.springframework.context.annotation.Bean;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.event.EventListener;
+
+import java.time.Duration;
+import java.util.concurrent.Executor;
 
 /**
- * Syncs Auth0 users to the local database on application startup.
+ * Syncs Auth0 users to the local database once the application has started.
  * Ensures local database stays in sync with Auth0 as the source of truth.
+ *
+ * <p>The sync pauses between Auth0 calls for the rate limit, so it runs on the
+ * {@code auth0SyncExecutor} instead of holding up startup, and on one instance
+ * at a time when several boot together (see {@link ScheduledJobRunner}).</p>
  */
 @Configuration
 public class Auth0UserSyncConfig {
 
+    static final String JOB_NAME = "auth0-user-sync";
+    private static final Duration LEASE = Duration.ofMinutes(5);
+
     private static final Logger log = LoggerFactory.getLogger(Auth0UserSyncConfig.class);
 
-    @Bean
-    CommandLineRunner syncAuth0Users(Auth0UserSyncService syncService) {
-        return args -> {
+    private final Auth0UserSyncService syncService;
+    private final ScheduledJobRunner jobRunner;
+    private final Executor executor;
+
+    public Auth0UserSyncConfig(Auth0UserSyncService syncService,
+                               ScheduledJobRunner jobRunner,
+                               @Qualifier("auth0SyncExecutor") Executor executor) {
+        this.syncService = syncService;
+        this.jobRunner = jobRunner;
+        this.executor = executor;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void syncAuth0Users() {
+        executor.execute(() -> {
             log.info("Syncing users from Auth0...");
-            syncService.syncUsersFromAuth0();
-        };
+            try {
+                jobRunner.runExclusively(JOB_NAME, LEASE, syncService::syncUsersFromAuth0);
+            } catch (RuntimeException e) {
+                // Already logged by the sync and recorded as a FAILED run
+                log.debug("Auth0 user sync failed", e);
+            }
+        });
     }
 }
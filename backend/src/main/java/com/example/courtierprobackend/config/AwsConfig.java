@@ -3,6 +3,7 @@ package com.example.courtierprobackend.config;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Lazy;
 import software.amazon.awssdk.auth.credentials.DefaultCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
@@ -10,6 +11,11 @@ import software.amazon.awssdk.services.s3.presigner.S3Presigner;
 import software.amazon.awssdk.services.ses.SesClient;
 import java.net.URI;
 
+/**
+ * S3 (object storage) and SES clients. Building an SDK client loads its whole service
+ * model and HTTP stack, so the clients are lazy and injected as {@code @Lazy} proxies:
+ * each is built on its first call instead of during startup.
+ */
 @Configuration
 public class AwsConfig {
 
@@ -35,6 +41,7 @@ public class AwsConfig {
     private String sesSecretKey;
 
     @Bean
+    @Lazy
     public S3Client s3Client() {
         var credentials = software.amazon.awssdk.auth.credentials.AwsBasicCredentials.create(s3AccessKey, s3SecretKey);
         var builder = S3Client.builder()
@@ -49,6 +56,7 @@ public class AwsConfig {
     }
 
     @Bean
+    @Lazy
     public SesClient sesClient() {
         var credentials = software.amazon.awssdk.auth.credentials.AwsBasicCredentials.create(sesAccessKey, sesSecretKey);
         return SesClient.builder()
@@ -58,6 +66,7 @@ public class AwsConfig {
     }
 
     @Bean
+    @Lazy
     public S3Presigner s3Presigner() {
         var credentials = software.amazon.awssdk.auth.credentials.AwsBasicCredentials.create(s3AccessKey, s3SecretKey);
         var builder = S3Presigner.builder()
@@ -1,5 +1,6 @@
 package com.example.courtierprobackend.config;
 
+import com.example.courtierprobackend.audit.common.AuditPage;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.Ordered;
@@ -36,6 +37,9 @@ public class CorsConfig {
                 "X-Requested-With",
                 "x-broker-id"));
 
+        // Audit endpoints page with a cursor sent in this header
+        config.setExposedHeaders(List.of(AuditPage.NEXT_CURSOR_HEADER));
+
         config.setAllowCredentials(true);
 
         // Allow the browser to cache the preflight response for 1 hour
@@ -0,0 +1,150 @@
+package com.example.courtierprobackend.config;
+
+import com.example.courtierprobackend.infrastructure.metrics.SqlStatementCounter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * Bounded thread pools for work that runs off the request thread. Every pool except
+ * {@code brokerSizeExecutor} carries the submitter's SQL statement capture to its tasks,
+ * so request metrics and query budgets include the statements a request fans out.
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * Pool for the global search fan-out (users, transactions, documents, appointments).
+     * Caller-runs rejection degrades to sequential execution on the request thread
+     * instead of failing when the pool is saturated.
+     */
+    @Bean(name = "searchExecutor")
+    public ThreadPoolTaskExecutor searchExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("search-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(SqlStatementCounter::propagate);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Single worker that applies search index updates in the order they were
+     * published. Updates beyond the queue are dropped; a rebuild restores them.
+     */
+    @Bean(name = "searchIndexExecutor")
+    public ThreadPoolTaskExecutor searchIndexExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(10_000);
+        executor.setThreadNamePrefix("search-index-");
+        executor.setTaskDecorator(SqlStatementCounter::propagate);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool that runs outbox event handlers (emails, notifications) off the request
+     * thread. The dispatcher waits for each batch, so the queue never holds more than one.
+     */
+    @Bean(name = "outboxExecutor")
+    public ThreadPoolTaskExecutor outboxExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("outbox-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(SqlStatementCounter::propagate);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Pool for the sections of the transaction detail page. Caller-runs rejection
+     * loads the remaining sections on the request thread when the pool is busy.
+     */
+    @Bean(name = "transactionDetailExecutor")
+    public ThreadPoolTaskExecutor transactionDetailExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(8);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("tx-detail-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(SqlStatementCounter::propagate);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Background refreshes of cached Auth0 management reads. Refreshes beyond the queue
+     * are rejected and the cache keeps serving the stale value.
+     */
+    @Bean(name = "auth0RefreshExecutor")
+    public ThreadPoolTaskExecutor auth0RefreshExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(2);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("auth0-refresh-");
+        executor.setTaskDecorator(SqlStatementCounter::propagate);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Single worker for the Auth0 user sync that follows startup. The sync is paced for
+     * the Auth0 rate limit and can take minutes, so it never runs on the startup thread.
+     */
+    @Bean(name = "auth0SyncExecutor")
+    public ThreadPoolTaskExecutor auth0SyncExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix("auth0-sync-");
+        executor.setTaskDecorator(SqlStatementCounter::propagate);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Renders the weekly digests of one claimed batch of brokers. The job waits for each
+     * batch, so the queue never holds more than one; caller-runs keeps it bounded anyway.
+     */
+    @Bean(name = "digestRenderExecutor")
+    public ThreadPoolTaskExecutor digestRenderExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(4);
+        executor.setMaxPoolSize(4);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("digest-render-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.CallerRunsPolicy());
+        executor.setTaskDecorator(SqlStatementCounter::propagate);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * Background loads of the broker size tag for request metrics. Deliberately does not
+     * propagate the SQL capture: the count is metrics bookkeeping, not work the request
+     * asked for. Loads beyond the queue are dropped and retried by a later request.
+     */
+    @Bean(name = "brokerSizeExecutor")
+    public ThreadPoolTaskExecutor brokerSizeExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("broker-size-");
+        executor.initialize();
+        return executor;
+    }
+}
@@ -1,17 +1,54 @@
 package com.example.courtierprobackend.config;
 
+import com.example.courtierprobackend.infrastructure.startup.StartupTimings;
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.output.ValidateResult;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.flyway.FlywayMigrationStrategy;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+
+/**
+ * Migrates the schema on startup, repairing the history table only when it needs it.
+ *
+ * <p>The applied migrations are validated first, ignoring the pending ones a deploy brings.
+ * Only a failed migration or a checksum mismatch leads to {@code repair()}; a healthy
+ * history goes straight to {@code migrate()}, which skips the repair's lock and rewrite of
+ * {@code flyway_schema_history} on every boot.</p>
+ */
 @Configuration
 public class FlywayConfig {
 
+    private static final Logger log = LoggerFactory.getLogger(FlywayConfig.class);
+
     @Bean
-    public FlywayMigrationStrategy flywayMigrationStrategy() {
+    public FlywayMigrationStrategy flywayMigrationStrategy(ObjectProvider<StartupTimings> startupTimings) {
         return flyway -> {
-            flyway.repair();
-            flyway.migrate();
+            long start = System.nanoTime();
+            migrate(flyway);
+            startupTimings.ifAvailable(timings ->
+                    timings.record("flyway", Duration.ofNanos(System.nanoTime() - start)));
         };
     }
+
+    static void migrate(Flyway flyway) {
+        ValidateResult validation = validateApplied(flyway);
+        if (!validation.validationSuccessful) {
+            log.warn("Flyway validation failed, repairing schema history: {}", validation.getAllErrorMessages());
+            flyway.repair();
+        }
+        flyway.migrate();
+    }
+
+    private static ValidateResult validateApplied(Flyway flyway) {
+        return Flyway.configure(flyway.getConfiguration().getClassLoader())
+                .configuration(flyway.getConfiguration())
+                .ignoreMigrationPatterns("*:pending", "*:future")
+                .load()
+                .validateWithResult();
+    }
 }
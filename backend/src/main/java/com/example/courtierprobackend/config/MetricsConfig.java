@@ -0,0 +1,42 @@
+package com.example.courtierprobackend.config;
+
+import com.example.courtierprobackend.infrastructure.metrics.BrokerSizeBuckets;
+import com.example.courtierprobackend.infrastructure.metrics.RequestMetricsFilter;
+import com.example.courtierprobackend.infrastructure.metrics.SqlStatementCounter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+/**
+ * Application metrics on top of what Spring Boot records out of the box
+ * (HTTP requests, repository invocations, scheduled tasks, pools). Everything
+ * is scraped from {@code /actuator/prometheus}.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public HibernatePropertiesCustomizer sqlStatementCounterCustomizer() {
+        return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+    }
+
+    /**
+     * Per-request SQL statement counts and N+1 warnings. Ordered ahead of the security
+     * chain so the user lookup done by the security filters is counted too.
+     */
+    @Bean
+    public FilterRegistrationBean<RequestMetricsFilter> requestMetricsFilter(
+            MeterRegistry meterRegistry,
+            BrokerSizeBuckets brokerSizeBuckets,
+            @Value("${app.sql.repeat-threshold:5}") int repeatThreshold) {
+        FilterRegistrationBean<RequestMetricsFilter> registration = new FilterRegistrationBean<>(
+                new RequestMetricsFilter(meterRegistry, brokerSizeBuckets, repeatThreshold));
+        registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 10);
+        return registration;
+    }
+}
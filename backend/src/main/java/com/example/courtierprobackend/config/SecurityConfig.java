@@ -1,5 +1,6 @@
 package com.example.courtierprobackend.config;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -33,8 +34,8 @@ public class SecurityConfig {
     private static final String ROLES_CLAIM = "https://courtierpro.dev/roles";
 
     @Bean
-    public SecurityFilterChain securityFilterChain(HttpSecurity http, UserContextFilter userContextFilter)
-            throws Exception {
+    public SecurityFilterChain securityFilterChain(HttpSecurity http, UserContextFilter userContextFilter,
+            @Value("${management.server.port:-1}") int managementPort) throws Exception {
 
         http
                 .cors(cors -> cors.configurationSource(corsConfigurationSource))
@@ -42,6 +43,11 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers(HttpMethod.OPTIONS, "/**").permitAll()
                         .requestMatchers("/actuator/health", "/actuator/health/**").permitAll()
+                        // Metrics scrape, only on the management port the public proxy does not route
+                        .requestMatchers(request -> managementPort > 0
+                                && request.getLocalPort() == managementPort
+                                && "/actuator/prometheus".equals(request.getRequestURI())).permitAll()
+                        .requestMatchers(HttpMethod.GET, "/actuator/scheduledjobs").hasRole("ADMIN")
                         .requestMatchers("/actuator/**").denyAll()
 
                         // Allow unauthenticated email confirmation
@@ -0,0 +1,44 @@
+package com.example.courtierprobackend.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.boot.LazyInitializationExcludeFilter;
+import org.springframework.boot.autoconfigure.flyway.FlywayMigrationInitializer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodIntrospector;
+import org.springframework.core.annotation.AnnotatedElementUtils;
+import org.springframework.orm.jpa.AbstractEntityManagerFactoryBean;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+
+/**
+ * Beans that stay eager when {@code spring.main.lazy-initialization} is on, as in the
+ * {@code fast-startup} profile. Everything else is created on first use.
+ *
+ * <ul>
+ *   <li>Beans with {@code @Scheduled} methods: their jobs are registered when the bean
+ *       is created, so a lazy one would never run.</li>
+ *   <li>Flyway and the JPA entity manager factory: migrations and schema validation
+ *       still happen, and fail, during startup rather than on the first request.</li>
+ * </ul>
+ */
+@Configuration
+public class StartupConfig {
+
+    @Bean
+    static LazyInitializationExcludeFilter scheduledBeansStayEager() {
+        return (beanName, beanDefinition, beanType) -> beanType != null && hasScheduledMethods(beanType);
+    }
+
+    @Bean
+    static LazyInitializationExcludeFilter schemaBeansStayEager() {
+        return LazyInitializationExcludeFilter.forBeanTypes(FlywayMigrationInitializer.class,
+                AbstractEntityManagerFactoryBean.class, EntityManagerFactory.class);
+    }
+
+    static boolean hasScheduledMethods(Class<?> beanType) {
+        return !MethodIntrospector.selectMethods(beanType, (MethodIntrospector.MetadataLookup<Boolean>) method ->
+                AnnotatedElementUtils.getMergedRepeatableAnnotations(method, Scheduled.class, Schedules.class)
+                        .isEmpty() ? null : Boolean.TRUE).isEmpty();
+    }
+}
@@ -1,8 +1,14 @@
 package com.example.courtierprobackend.dashboard.datalayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Set;
 import java.util.UUID;
@@ -25,6 +31,21 @@ public interface TimelineEntrySeenRepository extends JpaRepository<TimelineEntry
      */
     boolean existsByBrokerIdAndTimelineEntryId(UUID brokerId, UUID timelineEntryId);
 
+    /**
+     * Marks entries as seen in one statement. Rows that already exist and IDs that do not
+     * match a timeline entry are skipped.
+     *
+     * @return the number of entries newly marked as seen
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO timeline_entries_seen (broker_id, timeline_entry_id, seen_at) " +
+            "SELECT :brokerId, te.id, :seenAt FROM timeline_entries te WHERE te.id IN (:timelineEntryIds) " +
+            "ON CONFLICT (broker_id, timeline_entry_id) DO NOTHING", nativeQuery = true)
+    int markSeen(@Param("brokerId") UUID brokerId,
+                 @Param("timelineEntryIds") Collection<UUID> timelineEntryIds,
+                 @Param("seenAt") Instant seenAt);
+
     /**
      * Deletes all seen records for a specific broker.
      * Could be used for cleanup or testing.
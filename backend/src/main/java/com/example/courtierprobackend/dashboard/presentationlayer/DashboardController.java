@@ -1,5 +1,6 @@
 package com.example.courtierprobackend.dashboard.presentationlayer;
 
+import com.example.courtierprobackend.audit.timeline_audit.businesslayer.TimelineFeedCursor;
 import com.example.courtierprobackend.audit.timeline_audit.businesslayer.TimelineService;
 import com.example.courtierprobackend.dashboard.datalayer.TimelineEntrySeen;
 import com.example.courtierprobackend.dashboard.datalayer.TimelineEntrySeenRepository;
@@ -30,6 +31,7 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.security.oauth2.jwt.Jwt;
+import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.bind.annotation.*;
 
 import java.time.Instant;
@@ -38,6 +40,10 @@ import java.time.temporal.ChronoUnit;
 import java.util.*;
 import java.util.stream.Collectors;
 
+/**
+ * Dashboard reads. The GET endpoints run in read-only transactions, so they are served
+ * by a read replica when replicas are enabled (see {@code ReplicaRoutingConfig}).
+ */
 @RestController
 @RequestMapping("/api/v1/dashboard")
 @RequiredArgsConstructor
@@ -58,8 +64,10 @@ public class DashboardController {
 
     private static final int EXPIRY_DAYS_THRESHOLD = 7;
     private static final int CONDITION_DEADLINE_THRESHOLD = 7;
+    private static final int MAX_FEED_PAGE_SIZE = 50;
 
     @GetMapping("/client")
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('CLIENT')")
     public ResponseEntity<ClientDashboardStats> getClientStats(
             @RequestHeader(value = "x-user-id", required = false) String headerId,
@@ -83,6 +91,7 @@ public class DashboardController {
     }
 
     @GetMapping("/broker")
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('BROKER')")
     public ResponseEntity<BrokerDashboardStats> getBrokerStats(
             @RequestHeader(value = "x-broker-id", required = false) String headerId,
@@ -133,6 +142,7 @@ public class DashboardController {
     }
 
     @GetMapping("/broker/expiring-offers")
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('BROKER')")
     public ResponseEntity<List<ExpiringOfferDTO>> getExpiringOffers(
             @RequestHeader(value = "x-broker-id", required = false) String headerId,
@@ -210,6 +220,7 @@ public class DashboardController {
     }
 
     @GetMapping("/broker/approaching-conditions")
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('BROKER')")
     public ResponseEntity<List<ApproachingConditionDTO>> getApproachingConditions(
             @RequestHeader(value = "x-broker-id", required = false) String headerId,
@@ -297,6 +308,7 @@ public class DashboardController {
     }
 
     @GetMapping("/broker/pending-documents")
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('BROKER')")
     public ResponseEntity<List<PendingDocumentDTO>> getPendingDocuments(
             @RequestHeader(value = "x-broker-id", required = false) String headerId,
@@ -340,7 +352,16 @@ public class DashboardController {
         return ResponseEntity.ok(pendingDocs);
     }
 
+    /**
+     * Offset-paginated recent activity, kept for API clients that still page by number.
+     * It loads every transaction of the broker to build the page; the dashboard uses
+     * {@link #getActivityFeed} instead.
+     *
+     * @deprecated use {@code /broker/recent-activity/feed} with its {@code nextCursor}
+     */
+    @Deprecated
     @GetMapping("/broker/recent-activity")
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('BROKER')")
     public ResponseEntity<Map<String, Object>> getRecentActivity(
             @RequestHeader(value = "x-broker-id", required = false) String headerId,
@@ -362,33 +383,108 @@ public class DashboardController {
         Map<UUID, Transaction> transactionMap = allBrokerTransactions.stream()
                 .collect(Collectors.toMap(Transaction::getTransactionId, t -> t, (a, b) -> a));
 
-        // Build map of transactionId -> most recent property (for buy-side transactions)
-        Map<UUID, Property> propertyMap = new HashMap<>();
-        for (UUID txId : activeTransactionIds) {
-            Transaction tx = transactionMap.get(txId);
-            if (tx != null && tx.getSide() == com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide.BUY_SIDE) {
-                List<Property> properties = propertyRepository.findByTransactionIdOrderByCreatedAtDesc(txId);
-                if (!properties.isEmpty()) {
-                    propertyMap.put(txId, properties.get(0)); // Most recent property
-                }
-            }
-        }
-
         // Fetch paginated timeline entries
         org.springframework.data.domain.Pageable pageable = org.springframework.data.domain.PageRequest.of(page, size);
         org.springframework.data.domain.Page<com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO> entriesPage = 
                 timelineService.getRecentEntriesForTransactionsPaged(activeTransactionIds, pageable);
 
+        List<RecentActivityDTO> activities = toRecentActivities(brokerId, entriesPage.getContent(), transactionMap);
+
+        // Build paginated response
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", activities);
+        response.put("page", entriesPage.getNumber());
+        response.put("size", entriesPage.getSize());
+        response.put("totalElements", entriesPage.getTotalElements());
+        response.put("totalPages", entriesPage.getTotalPages());
+        response.put("first", entriesPage.isFirst());
+        response.put("last", entriesPage.isLast());
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Keyset-paginated variant of the recent-activity feed. Pass the {@code nextCursor} of
+     * the previous response as {@code before} to load older entries; unlike page/offset it
+     * neither counts the whole feed nor skips over rows, and it stays stable while new
+     * entries are being added.
+     */
+    @GetMapping("/broker/recent-activity/feed")
+    @Transactional(readOnly = true)
+    @PreAuthorize("hasRole('BROKER')")
+    public ResponseEntity<Map<String, Object>> getActivityFeed(
+            @RequestHeader(value = "x-broker-id", required = false) String headerId,
+            @AuthenticationPrincipal Jwt jwt,
+            HttpServletRequest request,
+            @org.springframework.web.bind.annotation.RequestParam(required = false) String before,
+            @org.springframework.web.bind.annotation.RequestParam(defaultValue = "10") int size
+    ) {
+        UUID brokerId = UserContextUtils.resolveUserId(request, headerId);
+        TimelineFeedCursor cursor = TimelineFeedCursor.decode(before);
+        int limit = Math.max(1, Math.min(size, MAX_FEED_PAGE_SIZE));
+
+        // One extra row tells us whether an older page exists
+        List<com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO> entries =
+                timelineService.getBrokerFeed(brokerId, cursor, limit + 1);
+        boolean hasMore = entries.size() > limit;
+        if (hasMore) {
+            entries = entries.subList(0, limit);
+        }
+
+        // Only the transactions that appear on this page are loaded
+        List<UUID> pageTransactionIds = entries.stream()
+                .map(com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO::getTransactionId)
+                .distinct()
+                .toList();
+        Map<UUID, Transaction> transactionMap = pageTransactionIds.isEmpty()
+                ? Map.of()
+                : transactionRepository.findByTransactionIdIn(pageTransactionIds).stream()
+                        .collect(Collectors.toMap(Transaction::getTransactionId, t -> t, (a, b) -> a));
+
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", toRecentActivities(brokerId, entries, transactionMap));
+        response.put("size", limit);
+        response.put("hasMore", hasMore);
+        response.put("nextCursor", hasMore ? TimelineFeedCursor.after(entries.get(entries.size() - 1)).encode() : null);
+
+        return ResponseEntity.ok(response);
+    }
+
+    /**
+     * Enriches a page of timeline entries with transaction context and the broker's seen
+     * status. Properties, client names and seen records are looked up once per page.
+     */
+    private List<RecentActivityDTO> toRecentActivities(
+            UUID brokerId,
+            List<com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO> entries,
+            Map<UUID, Transaction> transactionMap
+    ) {
+        // Build map of transactionId -> most recent property (for buy-side transactions on this page)
+        Set<UUID> buySideTransactionIds = entries.stream()
+                .map(entry -> transactionMap.get(entry.getTransactionId()))
+                .filter(tx -> tx != null && tx.getSide() == com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide.BUY_SIDE)
+                .map(Transaction::getTransactionId)
+                .collect(Collectors.toSet());
+        Map<UUID, Property> propertyMap = new HashMap<>();
+        if (!buySideTransactionIds.isEmpty()) {
+            // Ordered newest first, so the first property per transaction wins
+            for (Property property : propertyRepository.findByTransactionIdInOrderByCreatedAtDesc(buySideTransactionIds)) {
+                propertyMap.putIfAbsent(property.getTransactionId(), property);
+            }
+        }
+
         // Fetch seen status for all entries in this page
-        Set<UUID> entryIds = entriesPage.getContent().stream()
+        Set<UUID> entryIds = entries.stream()
                 .map(com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO::getId)
                 .collect(Collectors.toSet());
         Set<UUID> seenEntryIds = timelineEntrySeenRepository.findByBrokerIdAndTimelineEntryIdIn(brokerId, entryIds).stream()
                 .map(TimelineEntrySeen::getTimelineEntryId)
                 .collect(Collectors.toSet());
 
+        Map<UUID, String> clientNames = new HashMap<>();
+
         // Map timeline entries to RecentActivityDTO with enriched transaction context
-        List<RecentActivityDTO> activities = entriesPage.getContent().stream()
+        return entries.stream()
                 .map(entry -> {
                     Transaction tx = transactionMap.get(entry.getTransactionId());
                     
@@ -409,8 +505,10 @@ public class DashboardController {
                         }
                     }
                     
-                    // Get client name
-                    String clientName = tx != null ? getClientName(tx.getClientId()) : "";
+                    // Get client name, once per client on this page
+                    String clientName = tx != null && tx.getClientId() != null
+                            ? clientNames.computeIfAbsent(tx.getClientId(), this::getClientName)
+                            : "";
                     
                     // Get transaction side
                     String side = tx != null && tx.getSide() != null ? tx.getSide().name() : "";
@@ -446,18 +544,6 @@ public class DashboardController {
                             .build();
                 })
                 .toList();
-
-        // Build paginated response
-        Map<String, Object> response = new HashMap<>();
-        response.put("content", activities);
-        response.put("page", entriesPage.getNumber());
-        response.put("size", entriesPage.getSize());
-        response.put("totalElements", entriesPage.getTotalElements());
-        response.put("totalPages", entriesPage.getTotalPages());
-        response.put("first", entriesPage.isFirst());
-        response.put("last", entriesPage.isLast());
-
-        return ResponseEntity.ok(response);
     }
 
     @PostMapping("/broker/recent-activity/mark-seen")
@@ -474,21 +560,9 @@ public class DashboardController {
             return ResponseEntity.badRequest().body(Map.of("error", "No activity IDs provided"));
         }
         
-        Instant now = Instant.now();
-        int markedCount = 0;
-        
-        for (UUID activityId : markRequest.getActivityIds()) {
-            // Check if already marked as seen
-            if (!timelineEntrySeenRepository.existsByBrokerIdAndTimelineEntryId(brokerId, activityId)) {
-                TimelineEntrySeen seenRecord = TimelineEntrySeen.builder()
-                        .brokerId(brokerId)
-                        .timelineEntryId(activityId)
-                        .seenAt(now)
-                        .build();
-                timelineEntrySeenRepository.save(seenRecord);
-                markedCount++;
-            }
-        }
+        // Single insert; entries already marked as seen are skipped by the unique constraint
+        int markedCount = timelineEntrySeenRepository.markSeen(
+                brokerId, new HashSet<>(markRequest.getActivityIds()), Instant.now());
         
         return ResponseEntity.ok(Map.of(
                 "success", true,
@@ -497,6 +571,7 @@ public class DashboardController {
     }
 
     @GetMapping("/broker/pinned-transactions")
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('BROKER')")
     public ResponseEntity<List<PinnedTransactionDTO>> getPinnedTransactions(
             @RequestHeader(value = "x-broker-id", required = false) String headerId,
@@ -531,6 +606,7 @@ public class DashboardController {
     }
 
     @GetMapping("/admin")
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<AdminDashboardStats> getAdminStats() {
         long totalUsers = userRepository.count();
@@ -568,10 +644,11 @@ public class DashboardController {
     }
 
     @GetMapping("/admin/recent-actions")
+    @Transactional(readOnly = true)
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<RecentActionsResponse> getRecentActions() {
-        List<LoginAuditEvent> recentLogins = loginAuditRepository.findAllByOrderByTimestampDesc().stream().limit(5).toList();
-        List<AdminDeletionAuditLog> recentDeletions = deletionAuditRepository.findAllByOrderByTimestampDesc().stream().limit(5).toList();
+        List<LoginAuditEvent> recentLogins = loginAuditRepository.findTop5ByOrderByTimestampDescIdDesc();
+        List<AdminDeletionAuditLog> recentDeletions = deletionAuditRepository.findTop5ByOrderByTimestampDescIdDesc();
         return ResponseEntity.ok(RecentActionsResponse.builder()
                 .recentLogins(recentLogins)
                 .recentDeletions(recentDeletions)
@@ -0,0 +1,211 @@
+package com.example.courtierprobackend.documents.businesslayer;
+
+import com.example.courtierprobackend.common.exceptions.BadRequestException;
+import com.example.courtierprobackend.common.exceptions.NotFoundException;
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentReminderDigestEvent;
+import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
+import com.example.courtierprobackend.documents.datalayer.OutstandingDocumentRow;
+import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReminderBatchDTO;
+import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReminderClientStatusDTO;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher;
+import com.example.courtierprobackend.infrastructure.outbox.OutboxEvent;
+import com.example.courtierprobackend.infrastructure.outbox.OutboxEventRepository;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Bulk reminders for overdue document requests: one digest email per client instead
+ * of one email per document.
+ *
+ * <p>Each client's digest is queued in the outbox and delivered in the background,
+ * spaced {@code app.reminders.digest-interval-ms} apart so a broker chasing a large
+ * book does not burst the mail provider. A new batch is queued behind the digests
+ * still pending from earlier ones, so concurrent batches do not add up to a burst
+ * either. The outbox rows double as the batch's progress record, including clients
+ * skipped when queued or at delivery, so results remain available until finished
+ * rows are purged.</p>
+ */
+@Service
+public class DocumentReminderService {
+
+    private static final String EVENT_TYPE = DocumentReminderDigestEvent.class.getSimpleName();
+
+    private final DocumentRepository documentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final OutboxEventRepository outboxEventRepository;
+    private final DomainEventPublisher domainEventPublisher;
+    private final ObjectMapper objectMapper;
+    private final long digestIntervalMs;
+
+    public DocumentReminderService(DocumentRepository documentRepository,
+                                   UserAccountRepository userAccountRepository,
+                                   OutboxEventRepository outboxEventRepository,
+                                   DomainEventPublisher domainEventPublisher,
+                                   ObjectMapper objectMapper,
+                                   @Value("${app.reminders.digest-interval-ms:500}") long digestIntervalMs) {
+        this.documentRepository = documentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.outboxEventRepository = outboxEventRepository;
+        this.domainEventPublisher = domainEventPublisher;
+        this.objectMapper = objectMapper;
+        this.digestIntervalMs = digestIntervalMs;
+    }
+
+    /**
+     * Queues one digest per client covering the broker's overdue requests.
+     *
+     * @param documentIds limits the reminder to these requests; null or empty means all
+     * @return the queued batch; clients who cannot be emailed are listed as skipped
+     */
+    @Transactional
+    public DocumentReminderBatchDTO startBulkReminder(UUID brokerId, Collection<UUID> documentIds) {
+        LocalDateTime now = LocalDateTime.now();
+        List<OutstandingDocumentRow> rows = documentRepository.findOutstandingRowsForBroker(brokerId, now);
+        if (documentIds != null && !documentIds.isEmpty()) {
+            Set<UUID> selected = new HashSet<>(documentIds);
+            rows = rows.stream().filter(row -> selected.contains(row.documentId())).toList();
+        }
+        if (rows.isEmpty()) {
+            throw new BadRequestException("No overdue documents to remind");
+        }
+
+        Map<UUID, List<OutstandingDocumentRow>> byClient = rows.stream()
+                .filter(row -> row.clientId() != null)
+                .collect(Collectors.groupingBy(OutstandingDocumentRow::clientId, LinkedHashMap::new,
+                        Collectors.toList()));
+        Map<UUID, UserAccount> accounts = userAccountRepository.findAllById(byClient.keySet()).stream()
+                .collect(Collectors.toMap(UserAccount::getId, Function.identity()));
+
+        UUID batchId = UUID.randomUUID();
+        List<DocumentReminderClientStatusDTO> clients = new ArrayList<>();
+        long queued = outboxEventRepository.countByEventTypeAndStatus(EVENT_TYPE, OutboxEvent.Status.PENDING);
+        for (Map.Entry<UUID, List<OutstandingDocumentRow>> entry : byClient.entrySet()) {
+            List<OutstandingDocumentRow> clientRows = entry.getValue();
+            String clientName = clientName(clientRows.get(0));
+            List<DocumentReminderDigestEvent.Item> items = clientRows.stream().map(DocumentReminderService::toItem).toList();
+            DocumentReminderDigestEvent event =
+                    new DocumentReminderDigestEvent(batchId, brokerId, entry.getKey(), clientName, items);
+            String skipReason = skipReason(accounts.get(entry.getKey()));
+            if (skipReason != null) {
+                domainEventPublisher.recordSkipped(batchId, event, skipReason);
+                clients.add(clientStatus(entry.getKey(), clientName, clientRows.size(), "SKIPPED", skipReason, null));
+                continue;
+            }
+
+            domainEventPublisher.publish(batchId, event, now.plusNanos(queued * digestIntervalMs * 1_000_000L));
+            queued++;
+            clients.add(clientStatus(entry.getKey(), clientName, clientRows.size(), "QUEUED", null, null));
+        }
+        return summarize(batchId, clients);
+    }
+
+    /**
+     * Delivery state of each digest in a batch the broker started.
+     */
+    @Transactional(readOnly = true)
+    public DocumentReminderBatchDTO getBatchProgress(UUID brokerId, UUID batchId) {
+        List<DocumentReminderClientStatusDTO> clients = new ArrayList<>();
+        for (OutboxEvent row : outboxEventRepository.findByAggregateIdAndEventTypeOrderById(batchId, EVENT_TYPE)) {
+            DocumentReminderDigestEvent event = readEvent(row);
+            if (!brokerId.equals(event.brokerId())) {
+                throw new NotFoundException("Reminder batch not found: " + batchId);
+            }
+            clients.add(clientStatus(event.clientId(), event.clientName(), event.documents().size(),
+                    status(row), row.getLastError(), row.getDispatchedAt()));
+        }
+        if (clients.isEmpty()) {
+            throw new NotFoundException("Reminder batch not found: " + batchId);
+        }
+        return summarize(batchId, clients);
+    }
+
+    private DocumentReminderDigestEvent readEvent(OutboxEvent row) {
+        try {
+            return objectMapper.readValue(row.getPayload(), DocumentReminderDigestEvent.class);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Unreadable reminder digest event " + row.getId(), e);
+        }
+    }
+
+    private static String status(OutboxEvent row) {
+        return switch (row.getStatus()) {
+            case DISPATCHED -> "SENT";
+            case SKIPPED -> "SKIPPED";
+            case FAILED -> "FAILED";
+            case PENDING -> row.getAttempts() > 0 ? "RETRYING" : "QUEUED";
+        };
+    }
+
+    /**
+     * Why a client cannot be sent a digest, or null if they can. Checked when the batch
+     * is queued and again when each digest is delivered.
+     */
+    public static String skipReason(UserAccount client) {
+        if (client == null || client.getEmail() == null) {
+            return "Client has no email address";
+        }
+        if (!client.isEmailNotificationsEnabled()) {
+            return "Client has disabled email notifications";
+        }
+        return null;
+    }
+
+    private static DocumentReminderDigestEvent.Item toItem(OutstandingDocumentRow row) {
+        return new DocumentReminderDigestEvent.Item(
+                row.documentId(),
+                row.customTitle(),
+                row.docType() != null ? row.docType().name() : null,
+                row.dueDate() != null ? row.dueDate().toLocalDate() : null,
+                row.daysOutstanding() != null ? row.daysOutstanding() : 0,
+                row.street());
+    }
+
+    private static String clientName(OutstandingDocumentRow row) {
+        if (row.clientFirstName() == null && row.clientLastName() == null) {
+            return "Unknown";
+        }
+        return (Objects.toString(row.clientFirstName(), "") + " " + Objects.toString(row.clientLastName(), "")).trim();
+    }
+
+    private static DocumentReminderClientStatusDTO clientStatus(UUID clientId, String clientName, int documentCount,
+                                                                String status, String detail, LocalDateTime sentAt) {
+        return DocumentReminderClientStatusDTO.builder()
+                .clientId(clientId)
+                .clientName(clientName)
+                .documentCount(documentCount)
+                .status(status)
+                .detail(detail)
+                .sentAt(sentAt)
+                .build();
+    }
+
+    private static DocumentReminderBatchDTO summarize(UUID batchId, List<DocumentReminderClientStatusDTO> clients) {
+        Map<String, Long> byStatus = clients.stream()
+                .collect(Collectors.groupingBy(DocumentReminderClientStatusDTO::getStatus, Collectors.counting()));
+        int sent = byStatus.getOrDefault("SENT", 0L).intValue();
+        int failed = byStatus.getOrDefault("FAILED", 0L).intValue();
+        int skipped = byStatus.getOrDefault("SKIPPED", 0L).intValue();
+        int pending = clients.size() - sent - failed - skipped;
+        return DocumentReminderBatchDTO.builder()
+                .batchId(batchId)
+                .totalClients(clients.size())
+                .totalDocuments(clients.stream().mapToInt(DocumentReminderClientStatusDTO::getDocumentCount).sum())
+                .sent(sent)
+                .pending(pending)
+                .failed(failed)
+                .skipped(skipped)
+                .complete(pending == 0)
+                .clients(clients)
+                .build();
+    }
+}
@@ -5,6 +5,7 @@ import com.example.courtierprobackend.documents.presentationlayer.models.Documen
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentResponseDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReviewRequestDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.StageChecklistResponseDTO;
+import com.example.courtierprobackend.transactions.businesslayer.TransactionAccessContext;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
@@ -15,6 +16,18 @@ public interface DocumentService {
 
         List<DocumentResponseDTO> getDocumentsForTransaction(UUID transactionId, UUID userId);
 
+        /**
+         * Loads the transaction and checks the caller may view its documents. Its
+         * {@link TransactionAccessContext#viewVersion()} also versions the document list.
+         */
+        TransactionAccessContext resolveDocumentAccess(UUID transactionId, UUID userId);
+
+        /**
+         * Documents of a transaction whose access was already checked by
+         * {@link #resolveDocumentAccess}.
+         */
+        List<DocumentResponseDTO> getDocumentsForTransaction(TransactionAccessContext access);
+
         DocumentResponseDTO getDocument(UUID documentId, UUID userId);
 
         DocumentResponseDTO createDocument(UUID transactionId, DocumentRequestDTO requestDTO,
@@ -40,6 +53,15 @@ public interface DocumentService {
         java.util.List<com.example.courtierprobackend.documents.presentationlayer.models.OutstandingDocumentDTO> getOutstandingDocumentSummary(
                         UUID brokerId);
 
+        org.springframework.data.domain.Page<com.example.courtierprobackend.documents.presentationlayer.models.OutstandingDocumentDTO> getOutstandingDocumentSummary(
+                        UUID brokerId, org.springframework.data.domain.Pageable pageable);
+
+        /**
+         * Overdue document requests grouped by client, paged by client, most overdue first.
+         */
+        org.springframework.data.domain.Page<com.example.courtierprobackend.documents.presentationlayer.models.OutstandingClientGroupDTO> getOutstandingDocumentsByClient(
+                        UUID brokerId, org.springframework.data.domain.Pageable pageable);
+
         void sendDocumentReminder(UUID documentId, UUID brokerId);
 
         /**
@@ -1,24 +1,33 @@
 package com.example.courtierprobackend.documents.businesslayer;
 
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentEditedEvent;
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentRequestedEvent;
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentReviewedEvent;
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentSharedEvent;
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentSubmittedEvent;
 import com.example.courtierprobackend.documents.datalayer.enums.*;
 
 import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
 import com.example.courtierprobackend.documents.datalayer.TransactionStageChecklistState;
 import com.example.courtierprobackend.documents.datalayer.TransactionStageChecklistStateRepository;
-import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
 import com.example.courtierprobackend.documents.datalayer.Document;
 import com.example.courtierprobackend.documents.datalayer.DocumentVersion;
+import com.example.courtierprobackend.documents.datalayer.OutstandingClientSummary;
+import com.example.courtierprobackend.documents.datalayer.OutstandingDocumentRow;
 import com.example.courtierprobackend.documents.datalayer.valueobjects.StorageObject;
 import com.example.courtierprobackend.documents.datalayer.valueobjects.TransactionRef;
 import com.example.courtierprobackend.documents.datalayer.valueobjects.UploadedBy;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher;
 import com.example.courtierprobackend.infrastructure.storage.ObjectStorageService;
-import com.example.courtierprobackend.email.EmailService;
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentRequestDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentResponseDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReviewRequestDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentVersionResponseDTO;
+import com.example.courtierprobackend.documents.presentationlayer.models.OutstandingClientGroupDTO;
+import com.example.courtierprobackend.documents.presentationlayer.models.OutstandingDocumentDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.StageChecklistItemDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.StageChecklistResponseDTO;
+import com.example.courtierprobackend.transactions.businesslayer.TransactionAccessContext;
 import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
@@ -26,6 +35,8 @@ import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository
 import com.example.courtierprobackend.common.exceptions.BadRequestException;
 import com.example.courtierprobackend.common.exceptions.NotFoundException;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
@@ -55,8 +66,6 @@ public class DocumentServiceImpl implements DocumentService {
 
         private final DocumentRepository repository;
         private final ObjectStorageService storageService;
-        private final EmailService emailService;
-        private final NotificationService notificationService;
         private final TransactionRepository transactionRepository;
         private final UserAccountRepository userAccountRepository;
         private final TimelineService timelineService;
@@ -64,6 +73,7 @@ public class DocumentServiceImpl implements DocumentService {
         private final DocumentConditionLinkRepository documentConditionLinkRepository;
         private final TransactionParticipantRepository participantRepository;
         private final TransactionStageChecklistStateRepository checklistStateRepository;
+        private final DomainEventPublisher domainEventPublisher;
 
         private void verifyViewAccess(Transaction tx, UUID userId) {
                 String userEmail = userAccountRepository.findById(userId)
@@ -106,16 +116,31 @@ public class DocumentServiceImpl implements DocumentService {
         }
 
         @Override
-        public List<DocumentResponseDTO> getDocumentsForTransaction(UUID transactionId, UUID userId) {
+        public TransactionAccessContext resolveDocumentAccess(UUID transactionId, UUID userId) {
                 Transaction tx = transactionRepository.findByTransactionId(transactionId)
                                 .orElseThrow(() -> new NotFoundException("Transaction not found: " + transactionId));
+                String userEmail = userAccountRepository.findById(userId)
+                                .map(UserAccount::getEmail)
+                                .orElse(null);
 
-                verifyViewAccess(tx, userId);
+                TransactionAccessContext access = new TransactionAccessContext(tx, userId, userEmail,
+                                participantRepository.findByTransactionId(transactionId));
+                access.verifyViewAccess(
+                                com.example.courtierprobackend.transactions.datalayer.enums.ParticipantPermission.VIEW_DOCUMENTS);
+                return access;
+        }
+
+        @Override
+        public List<DocumentResponseDTO> getDocumentsForTransaction(UUID transactionId, UUID userId) {
+                return getDocumentsForTransaction(resolveDocumentAccess(transactionId, userId));
+        }
 
+        @Override
+        public List<DocumentResponseDTO> getDocumentsForTransaction(TransactionAccessContext access) {
                 // Check if user is a client (not the broker or a participant with broker access)
-                boolean isClient = tx.getClientId().equals(userId);
+                boolean isClient = access.transaction().getClientId().equals(access.userId());
 
-                return repository.findByTransactionRef_TransactionId(transactionId).stream()
+                return repository.findByTransactionRef_TransactionId(access.transactionId()).stream()
                                 // Filter out DRAFT documents for clients since they should not see drafts
                                 .filter(doc -> !isClient || doc.getStatus() != DocumentStatusEnum.DRAFT)
                                 .map(this::mapToResponseDTO)
@@ -217,44 +242,16 @@ public class DocumentServiceImpl implements DocumentService {
                                         "Document requested: " + requestDTO.getDocType(),
                                         requestDTO.getDocType() != null ? requestDTO.getDocType().toString() : null);
 
-                        // Notify client via email
-                        // Resolve Client and Broker robustly
-                        UserAccount client = resolveUserAccount(tx.getClientId()).orElse(null);
-                        UserAccount broker = resolveUserAccount(tx.getBrokerId()).orElse(null);
-
-                        if (client != null && broker != null) {
-                                String documentName = requestDTO.getCustomTitle() != null ? requestDTO.getCustomTitle()
-                                                : requestDTO.getDocType().toString();
-                                String clientName = client.getFirstName() + " " + client.getLastName();
-                                String brokerName = broker.getFirstName() + " " + broker.getLastName();
-                                String docType = requestDTO.getDocType().toString();
-                                String clientLanguage = client.getPreferredLanguage();
-
-                                emailService.sendDocumentRequestedNotification(
-                                                client.getEmail(),
-                                                clientName,
-                                                brokerName,
-                                                documentName,
-                                                docType,
-                                                requestDTO.getBrokerNotes(),
-                                                clientLanguage,
-                                                savedDocument.isRequiresSignature());
-
-                                // In-app Notification for Client
-                                try {
-                                        // Prepare old/new values for subtitle logic
-                                        Locale locale = isFrench(clientLanguage) ? Locale.FRENCH : Locale.ENGLISH;
-                                        String localizedDocType = messageSource.getMessage(
-                                                        "document.type." + requestDTO.getDocType(), null,
-                                                        requestDTO.getDocType().name(), locale);
-                                        String displayDocName = requestDTO.getCustomTitle() != null
-                                                        ? requestDTO.getCustomTitle()
-                                                        : localizedDocType;
-
-                                } catch (Exception e) {
-                                        logger.error("Failed to send in-app notification for document request", e);
-                                }
-                        }
+                        domainEventPublisher.publish(transactionId, new DocumentRequestedEvent(
+                                        transactionId,
+                                        savedDocument.getDocumentId(),
+                                        tx.getClientId(),
+                                        tx.getBrokerId(),
+                                        savedDocument.getDocType(),
+                                        savedDocument.getCustomTitle(),
+                                        savedDocument.getBrokerNotes(),
+                                        savedDocument.isRequiresSignature(),
+                                        false));
                 }
 
                 return mapToResponseDTO(savedDocument);
@@ -388,46 +385,18 @@ public class DocumentServiceImpl implements DocumentService {
                                         note, // note: key and params for frontend i18n
                                         "document.details.updated" // title: event key for frontend i18n
                         );
-
-                        // Send notification and email to client
-                        UserAccount client = resolveUserAccount(txForTimeline.getClientId()).orElse(null);
-                        UserAccount broker = resolveUserAccount(txForTimeline.getBrokerId()).orElse(null);
-                        if (client != null && broker != null) {
-                                String clientName = client.getFirstName() + " " + client.getLastName();
-                                String docType = savedDocument.getDocType().toString();
-
-                                // Email (distinct message for edit)
-                                emailService.sendDocumentEditedNotification(
-                                                client.getEmail(),
-                                                clientName,
-                                                brokerName,
-                                                documentName,
-                                                docType,
-                                                clientLanguage);
-
-                                // In-app notification (distinct message for edit)
-                                localizedDocType = messageSource.getMessage(
-                                                "document.type." + savedDocument.getDocType(), null,
-                                                savedDocument.getDocType().name(), locale);
-                                String displayDocName = savedDocument.getCustomTitle() != null
-                                                ? savedDocument.getCustomTitle()
-                                                : localizedDocType;
-                                String title = messageSource.getMessage("notification.document.edited.title", null,
-                                                locale);
-                                String message = messageSource.getMessage("notification.document.edited.message",
-                                                new Object[] { brokerName, displayDocName }, locale);
-                                notificationService.createNotification(
-                                                client.getId().toString(),
-                                                title,
-                                                message,
-                                                savedDocument.getTransactionRef().getTransactionId().toString(),
-                                                com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_REQUEST);
-                        }
                 } catch (Exception e) {
-                        logger.warn("Could not add timeline entry or send notification/email for document update",
-                                        e);
+                        logger.warn("Could not add timeline entry for document update", e);
                 }
 
+                domainEventPublisher.publish(timelineTransactionId, new DocumentEditedEvent(
+                                timelineTransactionId,
+                                savedDocument.getDocumentId(),
+                                tx.getClientId(),
+                                tx.getBrokerId(),
+                                savedDocument.getDocType(),
+                                savedDocument.getCustomTitle()));
+
                 savedDocument = repository.save(document);
 
                 // Update condition links if provided
@@ -513,99 +482,15 @@ public class DocumentServiceImpl implements DocumentService {
                                                                 : savedDocument.getDocType()),
                                 savedDocument.getDocType() != null ? savedDocument.getDocType().toString() : null);
 
-                // Notification logic
-                if (uploaderType == UploadedByRefEnum.BROKER) {
-                        // Broker uploaded for Client -> Notify Client
-                        UserAccount client = resolveUserAccount(tx.getClientId())
-                                        .orElseThrow(() -> new NotFoundException("Client not found: " + tx.getClientId()));
-                        UserAccount broker = resolveUserAccount(tx.getBrokerId())
-                                        .orElseThrow(() -> new NotFoundException("Broker not found: " + tx.getBrokerId()));
-
-                        String clientName = client.getFirstName() + " " + client.getLastName();
-                        String brokerName = broker.getFirstName() + " " + broker.getLastName();
-                        String documentName = savedDocument.getCustomTitle() != null ? savedDocument.getCustomTitle()
-                                        : savedDocument.getDocType().toString();
-                        String docType = savedDocument.getDocType().toString();
-                        String clientLanguage = client.getPreferredLanguage() != null ? client.getPreferredLanguage()
-                                        : "en";
-
-                        // Send Email to Client
-                        emailService.sendDocumentSubmittedNotification(savedDocument, client.getEmail(), clientName,
-                                        documentName, docType, clientLanguage);
-
-                        // In-app Notification for Client
-                        try {
-                                Locale locale = isFrench(clientLanguage) ? Locale.FRENCH : Locale.ENGLISH;
-                                String localizedDocType = messageSource.getMessage(
-                                                "document.type." + savedDocument.getDocType(), null,
-                                                savedDocument.getDocType().name(), locale);
-                                String displayDocName = savedDocument.getCustomTitle() != null
-                                                ? savedDocument.getCustomTitle()
-                                                : localizedDocType;
-
-                                String title = messageSource.getMessage("notification.document.submitted.title", null,
-                                                locale);
-                                // For client notification: "{Broker Name} submitted document: {Doc Name}"
-                                String message = messageSource.getMessage("notification.document.submitted.message",
-                                                new Object[] { brokerName, displayDocName }, locale);
-
-                                notificationService.createNotification(
-                                                client.getId().toString(),
-                                                title,
-                                                message,
-                                                transactionId.toString(),
-                                                com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_SUBMITTED);
-                        } catch (Exception e) {
-                                logger.error("Failed to send in-app notification for document submission to client", e);
-                        }
-
-                } else {
-                        // Client (or other) uploaded -> Notify Broker
-                        UserAccount broker = resolveUserAccount(tx.getBrokerId())
-                                        .orElseThrow(() -> new NotFoundException("Broker not found: " + tx.getBrokerId()));
-
-                        // Get uploader name
-                        String uploaderName = "Unknown Client";
-                        if (uploaderType == UploadedByRefEnum.CLIENT) {
-                                uploaderName = resolveUserAccount(uploaderId)
-                                                .map(u -> u.getFirstName() + " " + u.getLastName())
-                                                .orElse("Unknown Client");
-                        }
-
-                        String documentName = savedDocument.getCustomTitle() != null ? savedDocument.getCustomTitle()
-                                        : savedDocument.getDocType().toString();
-                        String docType = savedDocument.getDocType().toString();
-                        String brokerLanguage = broker.getPreferredLanguage() != null ? broker.getPreferredLanguage()
-                                        : "en";
-
-                        emailService.sendDocumentSubmittedNotification(savedDocument, broker.getEmail(), uploaderName,
-                                        documentName, docType, brokerLanguage);
-
-                        // In-app Notification for Broker
-                        try {
-                                Locale locale = isFrench(brokerLanguage) ? Locale.FRENCH : Locale.ENGLISH;
-                                String localizedDocType = messageSource.getMessage(
-                                                "document.type." + savedDocument.getDocType(), null,
-                                                savedDocument.getDocType().name(), locale);
-                                String displayDocName = savedDocument.getCustomTitle() != null
-                                                ? savedDocument.getCustomTitle()
-                                                : localizedDocType;
-
-                                String title = messageSource.getMessage("notification.document.submitted.title", null,
-                                                locale);
-                                // For broker notification: "{Client Name} submitted document: {Doc Name}"
-                                String message = messageSource.getMessage("notification.document.submitted.message",
-                                                new Object[] { uploaderName, displayDocName }, locale);
-                                notificationService.createNotification(
-                                                broker.getId().toString(),
-                                                title,
-                                                message,
-                                                transactionId.toString(),
-                                                com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_SUBMITTED);
-                        } catch (Exception e) {
-                                logger.error("Failed to send in-app notification for document submission to broker", e);
-                        }
-                }
+                domainEventPublisher.publish(transactionId, new DocumentSubmittedEvent(
+                                transactionId,
+                                savedDocument.getDocumentId(),
+                                tx.getClientId(),
+                                tx.getBrokerId(),
+                                uploaderId,
+                                uploaderType,
+                                savedDocument.getDocType(),
+                                savedDocument.getCustomTitle()));
 
                 return mapToResponseDTO(savedDocument);
         }
@@ -758,156 +643,103 @@ public class DocumentServiceImpl implements DocumentService {
                                                 + ", decision: " + reviewDTO.getDecision(),
                                 updated.getDocType() != null ? updated.getDocType().toString() : null);
 
-                // Send email notification
-                // Transaction tx is already fetched above
-
-                UserAccount client = resolveUserAccount(tx.getClientId()).orElse(null);
-                UserAccount broker = resolveUserAccount(tx.getBrokerId()).orElse(null);
-
-                if (client != null && broker != null) {
-                        String documentName = updated.getCustomTitle() != null ? updated.getCustomTitle()
-                                        : updated.getDocType().toString();
-                        String brokerName = broker.getFirstName() + " " + broker.getLastName();
-                        String docType = updated.getDocType().toString();
-                        String clientLanguage = client.getPreferredLanguage() != null ? client.getPreferredLanguage()
-                                        : "en";
-
-                        emailService.sendDocumentStatusUpdatedNotification(
-                                        updated,
-                                        client.getEmail(),
-                                        client.getFirstName() + " " + client.getLastName(),
-                                        brokerName,
-                                        documentName,
-                                        docType,
-                                        clientLanguage);
-
-                        // In-app Notification for Client
-                        // Trigger for APPROVED, NEEDS_REVISION, or REJECTED
-                        if (updated.getStatus() == DocumentStatusEnum.APPROVED
-                                        || updated.getStatus() == DocumentStatusEnum.NEEDS_REVISION
-                                        || updated.getStatus() == DocumentStatusEnum.REJECTED) {
-                                try {
-                                        Locale locale = isFrench(clientLanguage) ? Locale.FRENCH : Locale.ENGLISH;
-                                        String localizedDocType = messageSource.getMessage(
-                                                        "document.type." + updated.getDocType(), null,
-                                                        updated.getDocType().name(), locale);
-                                        String displayDocName = updated.getCustomTitle() != null
-                                                        ? updated.getCustomTitle()
-                                                        : localizedDocType;
-
-                                        String titleKey;
-                                        String messageKey;
-                                        com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory category;
-
-                                        if (updated.getStatus() == DocumentStatusEnum.APPROVED) {
-                                                titleKey = "notification.document.reviewed.title";
-                                                messageKey = "notification.document.reviewed.approved";
-                                                category = com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_APPROVED;
-                                        } else if (updated.getStatus() == DocumentStatusEnum.NEEDS_REVISION) {
-                                                titleKey = "notification.document.reviewed.title";
-                                                messageKey = updated.isRequiresSignature()
-                                                                ? "notification.document.signature.needs_revision"
-                                                                : "notification.document.reviewed.needs_revision";
-                                                category = com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_REVISION;
-                                        } else { // REJECTED
-                                                titleKey = "notification.document.rejected.title";
-                                                messageKey = "notification.document.rejected.message";
-                                                category = com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_REJECTED;
-                                        }
-
-                                        String title = messageSource.getMessage(titleKey,
-                                                        new Object[] { displayDocName }, locale);
-                                        String message;
-
-                                        if (updated.getStatus() == DocumentStatusEnum.REJECTED) {
-                                                message = messageSource.getMessage(messageKey,
-                                                                new Object[] { displayDocName, brokerName }, locale);
-                                        } else {
-                                                message = messageSource.getMessage(messageKey,
-                                                                new Object[] { displayDocName }, locale);
-
-                                        }
-
-                                        notificationService.createNotification(
-                                                        client.getId().toString(),
-                                                        title,
-                                                        message,
-                                                        transactionId.toString(),
-                                                        category);
-                                } catch (Exception e) {
-                                        logger.error("Failed to send in-app notification for document review", e);
-                                }
-                        }
+                // The client's email and in-app notification go out through the outbox once
+                // the review commits
+                if (tx.getClientId() != null && tx.getBrokerId() != null) {
+                        domainEventPublisher.publish(transactionId, new DocumentReviewedEvent(
+                                        transactionId,
+                                        updated.getDocumentId(),
+                                        tx.getClientId(),
+                                        tx.getBrokerId(),
+                                        updated.getDocType(),
+                                        updated.getCustomTitle(),
+                                        updated.isRequiresSignature(),
+                                        reviewDTO.getDecision(),
+                                        reviewDTO.getComments()));
                 } else {
-                        logger.warn("Cannot send document review notification: client or broker account could not be resolved for transaction {}",
-                                        updated.getTransactionRef().getTransactionId());
+                        logger.warn("Cannot send document review notification: transaction {} has no client or broker",
+                                        transactionId);
                 }
 
                 return mapToResponseDTO(updated);
         }
 
         @Override
-        public java.util.List<com.example.courtierprobackend.documents.presentationlayer.models.OutstandingDocumentDTO> getOutstandingDocumentSummary(
-                        UUID brokerId) {
-                // Pass current time to filter for overdue documents
-                List<Document> documents = repository.findOutstandingDocumentsForBroker(brokerId,
-                                LocalDateTime.now());
-
-                return documents.stream().map(doc -> {
-                        Transaction tx = transactionRepository
-                                        .findByTransactionId(doc.getTransactionRef().getTransactionId()).orElse(null);
-                        if (tx == null)
-                                return null;
-
-                        UserAccount client = resolveUserAccount(tx.getClientId()).orElse(null);
-                        String clientName = client != null ? client.getFirstName() + " " + client.getLastName()
-                                        : "Unknown";
-                        String clientEmail = client != null ? client.getEmail() : null;
-
-                        String address = "No Address";
-                        if (tx.getPropertyAddress() != null) {
-                                address = java.util.stream.Stream.of(
-                                                tx.getPropertyAddress().getStreet(),
-                                                tx.getPropertyAddress().getCity(),
-                                                tx.getPropertyAddress().getProvince(),
-                                                tx.getPropertyAddress().getPostalCode())
-                                                .filter(s -> s != null && !s.trim().isEmpty())
-                                                .collect(Collectors.joining(", "));
-                        }
+        @Transactional(readOnly = true)
+        public List<OutstandingDocumentDTO> getOutstandingDocumentSummary(UUID brokerId) {
+                return repository.findOutstandingRowsForBroker(brokerId, LocalDateTime.now()).stream()
+                                .map(this::toOutstandingDocumentDTO)
+                                .toList();
+        }
 
-                        Integer daysOutstanding = 0;
-                        if (doc.getDueDate() != null) {
-                                // Calculate days PAST due date
-                                daysOutstanding = (int) java.time.temporal.ChronoUnit.DAYS.between(doc.getDueDate(),
-                                                LocalDateTime.now());
-                        } else {
-                                // Fallback for legacy/migrated data without due date (though query excludes
-                                // them now)
-                                LocalDateTime startDate = doc.getCreatedAt() != null ? doc.getCreatedAt()
-                                                : doc.getLastUpdatedAt();
-                                if (startDate != null) {
-                                        daysOutstanding = (int) java.time.temporal.ChronoUnit.DAYS.between(startDate,
-                                                        LocalDateTime.now());
-                                }
-                        }
+        @Override
+        @Transactional(readOnly = true)
+        public Page<OutstandingDocumentDTO> getOutstandingDocumentSummary(UUID brokerId, Pageable pageable) {
+                return repository.findOutstandingRowsForBroker(brokerId, LocalDateTime.now(), pageable)
+                                .map(this::toOutstandingDocumentDTO);
+        }
 
-                        return com.example.courtierprobackend.documents.presentationlayer.models.OutstandingDocumentDTO
-                                        .builder()
-                                        .id(doc.getDocumentId())
-                                        .title(doc.getCustomTitle() != null ? doc.getCustomTitle()
-                                                        : doc.getDocType().toString())
-                                        .transactionAddress(address)
-                                        .clientName(clientName)
-                                        .clientEmail(clientEmail)
-                                        .dueDate(doc.getDueDate())
-                                        .daysOutstanding(daysOutstanding)
-                                        .status(doc.getStatus().toString())
+        @Override
+        @Transactional(readOnly = true)
+        public Page<OutstandingClientGroupDTO> getOutstandingDocumentsByClient(UUID brokerId, Pageable pageable) {
+                LocalDateTime now = LocalDateTime.now();
+                Page<OutstandingClientSummary> clients = repository.findOutstandingClientsForBroker(brokerId, now,
+                                pageable);
+                if (clients.isEmpty()) {
+                        return Page.empty(pageable);
+                }
+
+                // One query for the documents of every client on this page
+                List<UUID> clientIds = clients.stream().map(OutstandingClientSummary::clientId).toList();
+                Map<UUID, List<OutstandingDocumentRow>> rowsByClient = repository
+                                .findOutstandingRowsForClients(brokerId, now, clientIds).stream()
+                                .collect(Collectors.groupingBy(OutstandingDocumentRow::clientId));
+
+                return clients.map(summary -> {
+                        List<OutstandingDocumentRow> rows = rowsByClient.getOrDefault(summary.clientId(), List.of());
+                        List<OutstandingDocumentDTO> documents = rows.stream()
+                                        .map(this::toOutstandingDocumentDTO)
+                                        .toList();
+                        OutstandingDocumentRow first = rows.isEmpty() ? null : rows.get(0);
+                        return OutstandingClientGroupDTO.builder()
+                                        .clientId(summary.clientId())
+                                        .clientName(first != null ? clientName(first) : "Unknown")
+                                        .clientEmail(first != null ? first.clientEmail() : null)
+                                        .documentCount(summary.documentCount())
+                                        .maxDaysOutstanding(documents.stream()
+                                                        .map(OutstandingDocumentDTO::getDaysOutstanding)
+                                                        .max(Integer::compare)
+                                                        .orElse(0))
+                                        .documents(documents)
                                         .build();
-                })
-                                .filter(java.util.Objects::nonNull)
-                                .collect(Collectors.toList());
+                });
+        }
+
+        private OutstandingDocumentDTO toOutstandingDocumentDTO(OutstandingDocumentRow row) {
+                String address = java.util.stream.Stream.of(row.street(), row.city(), row.province(), row.postalCode())
+                                .filter(s -> s != null && !s.trim().isEmpty())
+                                .collect(Collectors.joining(", "));
+
+                return OutstandingDocumentDTO.builder()
+                                .id(row.documentId())
+                                .title(row.customTitle() != null ? row.customTitle() : row.docType().toString())
+                                .transactionAddress(address.isEmpty() ? "No Address" : address)
+                                .clientName(clientName(row))
+                                .clientEmail(row.clientEmail())
+                                .dueDate(row.dueDate())
+                                .daysOutstanding(row.daysOutstanding() != null ? row.daysOutstanding().intValue() : 0)
+                                .status(row.status().toString())
+                                .build();
         }
 
+        private static String clientName(OutstandingDocumentRow row) {
+                if (row.clientFirstName() == null && row.clientLastName() == null) {
+                        return "Unknown";
+                }
+                return row.clientFirstName() + " " + row.clientLastName();
+        }
+
+        @Transactional
         @Override
         public void sendDocumentReminder(UUID documentId, UUID brokerId) {
                 Document document = repository.findByDocumentId(documentId)
@@ -925,23 +757,16 @@ public class DocumentServiceImpl implements DocumentService {
                         throw new BadRequestException("Can only remind for outstanding documents");
                 }
 
-                UserAccount client = resolveUserAccount(tx.getClientId())
-                                .orElseThrow(() -> new NotFoundException("Client not found"));
-                UserAccount broker = resolveUserAccount(tx.getBrokerId())
-                                .orElseThrow(() -> new NotFoundException("Broker not found"));
-
-                String documentName = document.getCustomTitle() != null ? document.getCustomTitle()
-                                : document.getDocType().toString();
-
-                emailService.sendDocumentRequestedNotification(
-                                client.getEmail(),
-                                client.getFirstName() + " " + client.getLastName(),
-                                broker.getFirstName() + " " + broker.getLastName(),
-                                documentName,
-                                document.getDocType().toString(),
+                domainEventPublisher.publish(tx.getTransactionId(), new DocumentRequestedEvent(
+                                tx.getTransactionId(),
+                                document.getDocumentId(),
+                                tx.getClientId(),
+                                tx.getBrokerId(),
+                                document.getDocType(),
+                                document.getCustomTitle(),
                                 document.getBrokerNotes(),
-                                client.getPreferredLanguage(),
-                                document.isRequiresSignature());
+                                document.isRequiresSignature(),
+                                false));
         }
 
         @Transactional
@@ -981,56 +806,16 @@ public class DocumentServiceImpl implements DocumentService {
                                 "Document requested: " + document.getDocType(),
                                 document.getDocType() != null ? document.getDocType().toString() : null);
 
-                // Notify client via email
-                UserAccount client = resolveUserAccount(tx.getClientId()).orElse(null);
-                UserAccount broker = resolveUserAccount(tx.getBrokerId()).orElse(null);
-
-                if (client != null && broker != null) {
-                        String documentName = document.getCustomTitle() != null ? document.getCustomTitle()
-                                        : document.getDocType().toString();
-                        String clientName = client.getFirstName() + " " + client.getLastName();
-                        String brokerName = broker.getFirstName() + " " + broker.getLastName();
-                        String docType = document.getDocType().toString();
-                        String clientLanguage = client.getPreferredLanguage();
-
-                        emailService.sendDocumentRequestedNotification(
-                                        client.getEmail(),
-                                        clientName,
-                                        brokerName,
-                                        documentName,
-                                        docType,
-                                        document.getBrokerNotes(),
-                                        clientLanguage,
-                                        document.isRequiresSignature());
-
-                        // In-app Notification for Client
-                        try {
-                                Locale locale = isFrench(clientLanguage) ? Locale.FRENCH : Locale.ENGLISH;
-                                String localizedDocType = messageSource.getMessage(
-                                                "document.type." + document.getDocType(), null,
-                                                document.getDocType().name(), locale);
-                                String displayDocName = document.getCustomTitle() != null
-                                                ? document.getCustomTitle()
-                                                : localizedDocType;
-                                String titleKey = document.isRequiresSignature()
-                                                ? "notification.document.signature.requested.title"
-                                                : "notification.document.requested.title";
-                                String messageKey = document.isRequiresSignature()
-                                                ? "notification.document.signature.requested.message"
-                                                : "notification.document.requested.message";
-                                String title = messageSource.getMessage(titleKey, null, locale);
-                                String message = messageSource.getMessage(messageKey,
-                                                new Object[] { brokerName, displayDocName }, locale);
-                                notificationService.createNotification(
-                                                client.getId().toString(),
-                                                title,
-                                                message,
-                                                tx.getTransactionId().toString(),
-                                                com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_REQUEST);
-                        } catch (Exception e) {
-                                logger.error("Failed to send in-app notification for document request", e);
-                        }
-                }
+                domainEventPublisher.publish(tx.getTransactionId(), new DocumentRequestedEvent(
+                                tx.getTransactionId(),
+                                savedDocument.getDocumentId(),
+                                tx.getClientId(),
+                                tx.getBrokerId(),
+                                savedDocument.getDocType(),
+                                savedDocument.getCustomTitle(),
+                                savedDocument.getBrokerNotes(),
+                                savedDocument.isRequiresSignature(),
+                                true));
 
                 return mapToResponseDTO(savedDocument);
         }
@@ -1070,44 +855,13 @@ public class DocumentServiceImpl implements DocumentService {
                                 "Document shared with client: " + (document.getCustomTitle() != null ? document.getCustomTitle() : document.getDocType()),
                                 document.getDocType() != null ? document.getDocType().toString() : null);
 
-                // Notify client via email
-                UserAccount client = resolveUserAccount(tx.getClientId()).orElse(null);
-                UserAccount broker = resolveUserAccount(tx.getBrokerId()).orElse(null);
-
-                if (client != null && broker != null) {
-                        String documentName = document.getCustomTitle() != null ? document.getCustomTitle()
-                                        : document.getDocType().toString();
-                        String brokerName = broker.getFirstName() + " " + broker.getLastName();
-                        String docType = document.getDocType().toString();
-                        String clientLanguage = client.getPreferredLanguage();
-
-                        emailService.sendDocumentSubmittedNotification(savedDocument, client.getEmail(), brokerName,
-                                        documentName, docType, clientLanguage);
-
-                        // In-app Notification for Client
-                        try {
-                                Locale locale = isFrench(clientLanguage) ? Locale.FRENCH : Locale.ENGLISH;
-                                String localizedDocType = messageSource.getMessage(
-                                                "document.type." + document.getDocType(), null,
-                                                document.getDocType().name(), locale);
-                                String displayDocName = document.getCustomTitle() != null
-                                                ? document.getCustomTitle()
-                                                : localizedDocType;
-                                String title = messageSource.getMessage("notification.document.shared.title", null,
-                                                "Document Shared", locale);
-                                String message = messageSource.getMessage("notification.document.shared.message",
-                                                new Object[] { brokerName, displayDocName },
-                                                brokerName + " shared a document: " + displayDocName, locale);
-                                notificationService.createNotification(
-                                                client.getId().toString(),
-                                                title,
-                                                message,
-                                                tx.getTransactionId().toString(),
-                                                com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_SUBMITTED);
-                        } catch (Exception e) {
-                                logger.error("Failed to send in-app notification for document share", e);
-                        }
-                }
+                domainEventPublisher.publish(tx.getTransactionId(), new DocumentSharedEvent(
+                                tx.getTransactionId(),
+                                savedDocument.getDocumentId(),
+                                tx.getClientId(),
+                                tx.getBrokerId(),
+                                savedDocument.getDocType(),
+                                savedDocument.getCustomTitle()));
 
                 return mapToResponseDTO(savedDocument);
         }
@@ -1227,7 +981,4 @@ public class DocumentServiceImpl implements DocumentService {
                 return buildStageChecklist(tx, stageEnum);
         }
 
-        private boolean isFrench(String lang) {
-                return lang != null && lang.equalsIgnoreCase("fr");
-        }
 }
@@ -0,0 +1,56 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * Emails the client that a document request they were sent has changed.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentEditedEmailHandler implements DomainEventHandler<DocumentEditedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentEditedEmailHandler.class);
+
+    private final EmailService emailService;
+    private final UserAccountRepository userAccountRepository;
+    private final MessageSource messageSource;
+
+    @Override
+    public Class<DocumentEditedEvent> eventType() {
+        return DocumentEditedEvent.class;
+    }
+
+    @Override
+    public void handle(DocumentEditedEvent event) {
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            log.warn("Cannot send document edited email: client or broker account could not be resolved for transaction {}",
+                    event.transactionId());
+            return;
+        }
+
+        Locale locale = "fr".equalsIgnoreCase(client.getPreferredLanguage()) ? Locale.FRENCH : Locale.ENGLISH;
+        String documentName = event.customTitle() != null && !event.customTitle().isEmpty()
+                ? event.customTitle()
+                : messageSource.getMessage("document.type." + event.docType(), null, event.docType().name(), locale);
+
+        emailService.sendDocumentEditedNotification(
+                client.getEmail(),
+                client.getFirstName() + " " + client.getLastName(),
+                broker.getFirstName() + " " + broker.getLastName(),
+                documentName,
+                event.docType().toString(),
+                client.getPreferredLanguage());
+    }
+}
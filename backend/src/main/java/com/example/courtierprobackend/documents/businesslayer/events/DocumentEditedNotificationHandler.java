@@ -0,0 +1,51 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * In-app notification to the client when a broker edits a document request.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentEditedNotificationHandler implements DomainEventHandler<DocumentEditedEvent> {
+
+    private final NotificationService notificationService;
+    private final UserAccountRepository userAccountRepository;
+    private final MessageSource messageSource;
+
+    @Override
+    public Class<DocumentEditedEvent> eventType() {
+        return DocumentEditedEvent.class;
+    }
+
+    @Override
+    public void handle(DocumentEditedEvent event) {
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            return;
+        }
+
+        Locale locale = "fr".equalsIgnoreCase(client.getPreferredLanguage()) ? Locale.FRENCH : Locale.ENGLISH;
+        String displayDocName = event.customTitle() != null
+                ? event.customTitle()
+                : messageSource.getMessage("document.type." + event.docType(), null, event.docType().name(), locale);
+
+        notificationService.createNotification(
+                client.getId().toString(),
+                messageSource.getMessage("notification.document.edited.title", null, locale),
+                messageSource.getMessage("notification.document.edited.message",
+                        new Object[] { broker.getFirstName() + " " + broker.getLastName(), displayDocName }, locale),
+                event.transactionId().toString(),
+                NotificationCategory.DOCUMENT_REQUEST);
+    }
+}
@@ -0,0 +1,33 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One client's share of a bulk reminder: every overdue request the broker is chasing
+ * that client for, sent as a single digest email.
+ *
+ * @param batchId    the bulk reminder this digest belongs to, also the outbox aggregate id
+ * @param clientName shown on the broker's progress view, captured when the batch started
+ */
+public record DocumentReminderDigestEvent(
+        UUID batchId,
+        UUID brokerId,
+        UUID clientId,
+        String clientName,
+        List<Item> documents) {
+
+    /**
+     * @param title           custom title, or {@code null} to show the translated document type
+     * @param propertyAddress street of the transaction the request belongs to, if known
+     */
+    public record Item(
+            UUID documentId,
+            String title,
+            String docType,
+            LocalDate dueDate,
+            long daysOutstanding,
+            String propertyAddress) {
+    }
+}
@@ -0,0 +1,59 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.businesslayer.DocumentReminderService;
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.infrastructure.outbox.SkippedEventException;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import jakarta.mail.MessagingException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Emails one client the digest of their overdue document requests. Unlike the other
+ * email handlers, a send the provider does not accept is rethrown so the outbox
+ * retries it and the broker's progress view shows the failure. A client who lost
+ * their address or opted out since the batch was queued is recorded as skipped.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentReminderDigestHandler implements DomainEventHandler<DocumentReminderDigestEvent> {
+
+    private final EmailService emailService;
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    public Class<DocumentReminderDigestEvent> eventType() {
+        return DocumentReminderDigestEvent.class;
+    }
+
+    @Override
+    public void handle(DocumentReminderDigestEvent event) {
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        String skipReason = DocumentReminderService.skipReason(client);
+        if (skipReason != null) {
+            throw new SkippedEventException(skipReason);
+        }
+        String brokerName = userAccountRepository.findById(event.brokerId())
+                .map(broker -> (broker.getFirstName() + " " + broker.getLastName()).trim())
+                .orElse("");
+
+        boolean sent;
+        try {
+            sent = emailService.sendDocumentReminderDigest(
+                    client.getEmail(),
+                    (client.getFirstName() + " " + client.getLastName()).trim(),
+                    brokerName,
+                    event.documents(),
+                    client.getPreferredLanguage());
+        } catch (IOException | MessagingException e) {
+            throw new IllegalStateException("Could not send reminder digest to client " + event.clientId(), e);
+        }
+        if (!sent) {
+            throw new IllegalStateException("Email provider rejected reminder digest to client " + event.clientId());
+        }
+    }
+}
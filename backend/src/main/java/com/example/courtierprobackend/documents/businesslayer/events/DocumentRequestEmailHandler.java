@@ -0,0 +1,50 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emails the client a document request or a reminder about one.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentRequestEmailHandler implements DomainEventHandler<DocumentRequestedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentRequestEmailHandler.class);
+
+    private final EmailService emailService;
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    public Class<DocumentRequestedEvent> eventType() {
+        return DocumentRequestedEvent.class;
+    }
+
+    @Override
+    public void handle(DocumentRequestedEvent event) {
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            log.warn("Cannot send document request email: client or broker account could not be resolved for transaction {}",
+                    event.transactionId());
+            return;
+        }
+
+        String docType = event.docType().toString();
+        emailService.sendDocumentRequestedNotification(
+                client.getEmail(),
+                client.getFirstName() + " " + client.getLastName(),
+                broker.getFirstName() + " " + broker.getLastName(),
+                event.customTitle() != null ? event.customTitle() : docType,
+                docType,
+                event.brokerNotes(),
+                client.getPreferredLanguage(),
+                event.requiresSignature());
+    }
+}
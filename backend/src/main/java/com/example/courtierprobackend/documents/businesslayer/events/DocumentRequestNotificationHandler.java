@@ -0,0 +1,61 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * In-app notification to the client when a drafted document request is sent, worded for
+ * signature requests where the document needs signing.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentRequestNotificationHandler implements DomainEventHandler<DocumentRequestedEvent> {
+
+    private final NotificationService notificationService;
+    private final UserAccountRepository userAccountRepository;
+    private final MessageSource messageSource;
+
+    @Override
+    public Class<DocumentRequestedEvent> eventType() {
+        return DocumentRequestedEvent.class;
+    }
+
+    @Override
+    public void handle(DocumentRequestedEvent event) {
+        if (!event.notifyInApp()) {
+            return;
+        }
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            return;
+        }
+
+        Locale locale = "fr".equalsIgnoreCase(client.getPreferredLanguage()) ? Locale.FRENCH : Locale.ENGLISH;
+        String displayDocName = event.customTitle() != null
+                ? event.customTitle()
+                : messageSource.getMessage("document.type." + event.docType(), null, event.docType().name(), locale);
+        String titleKey = event.requiresSignature()
+                ? "notification.document.signature.requested.title"
+                : "notification.document.requested.title";
+        String messageKey = event.requiresSignature()
+                ? "notification.document.signature.requested.message"
+                : "notification.document.requested.message";
+
+        notificationService.createNotification(
+                client.getId().toString(),
+                messageSource.getMessage(titleKey, null, locale),
+                messageSource.getMessage(messageKey,
+                        new Object[] { broker.getFirstName() + " " + broker.getLastName(), displayDocName }, locale),
+                event.transactionId().toString(),
+                NotificationCategory.DOCUMENT_REQUEST);
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+
+import java.util.UUID;
+
+/**
+ * Raised when a broker asks the client for a document, either when the request is
+ * created, when a draft is sent, or as a reminder.
+ *
+ * @param notifyInApp whether the client also gets an in-app notification; reminders
+ *                    and requests created directly are emailed only
+ */
+public record DocumentRequestedEvent(
+        UUID transactionId,
+        UUID documentId,
+        UUID clientId,
+        UUID brokerId,
+        DocumentTypeEnum docType,
+        String customTitle,
+        String brokerNotes,
+        boolean requiresSignature,
+        boolean notifyInApp) {
+}
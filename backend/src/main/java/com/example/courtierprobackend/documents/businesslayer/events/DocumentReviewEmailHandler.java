@@ -0,0 +1,60 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.Document;
+import com.example.courtierprobackend.documents.datalayer.valueobjects.TransactionRef;
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emails the client the outcome of a document review.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentReviewEmailHandler implements DomainEventHandler<DocumentReviewedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentReviewEmailHandler.class);
+
+    private final EmailService emailService;
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    public Class<DocumentReviewedEvent> eventType() {
+        return DocumentReviewedEvent.class;
+    }
+
+    @Override
+    public void handle(DocumentReviewedEvent event) {
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            log.warn("Cannot send document review email: client or broker account could not be resolved for transaction {}",
+                    event.transactionId());
+            return;
+        }
+
+        // The email renders the review from the document's status and notes
+        Document reviewed = new Document();
+        reviewed.setDocumentId(event.documentId());
+        reviewed.setTransactionRef(new TransactionRef(event.transactionId(), event.clientId(), null));
+        reviewed.setDocType(event.docType());
+        reviewed.setCustomTitle(event.customTitle());
+        reviewed.setStatus(event.decision());
+        reviewed.setBrokerNotes(event.comments());
+
+        String docType = event.docType().toString();
+        emailService.sendDocumentStatusUpdatedNotification(
+                reviewed,
+                client.getEmail(),
+                client.getFirstName() + " " + client.getLastName(),
+                broker.getFirstName() + " " + broker.getLastName(),
+                event.customTitle() != null ? event.customTitle() : docType,
+                docType,
+                client.getPreferredLanguage() != null ? client.getPreferredLanguage() : "en");
+    }
+}
@@ -0,0 +1,82 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentStatusEnum;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * In-app notification to the client when a document is approved, rejected or sent back
+ * for revision, in the client's language.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentReviewNotificationHandler implements DomainEventHandler<DocumentReviewedEvent> {
+
+    private final NotificationService notificationService;
+    private final UserAccountRepository userAccountRepository;
+    private final MessageSource messageSource;
+
+    @Override
+    public Class<DocumentReviewedEvent> eventType() {
+        return DocumentReviewedEvent.class;
+    }
+
+    @Override
+    public void handle(DocumentReviewedEvent event) {
+        DocumentStatusEnum decision = event.decision();
+        if (decision != DocumentStatusEnum.APPROVED && decision != DocumentStatusEnum.NEEDS_REVISION
+                && decision != DocumentStatusEnum.REJECTED) {
+            return;
+        }
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            return;
+        }
+
+        Locale locale = "fr".equalsIgnoreCase(client.getPreferredLanguage()) ? Locale.FRENCH : Locale.ENGLISH;
+        String displayDocName = event.customTitle() != null
+                ? event.customTitle()
+                : messageSource.getMessage("document.type." + event.docType(), null, event.docType().name(), locale);
+
+        String titleKey;
+        String messageKey;
+        NotificationCategory category;
+        if (decision == DocumentStatusEnum.APPROVED) {
+            titleKey = "notification.document.reviewed.title";
+            messageKey = "notification.document.reviewed.approved";
+            category = NotificationCategory.DOCUMENT_APPROVED;
+        } else if (decision == DocumentStatusEnum.NEEDS_REVISION) {
+            titleKey = "notification.document.reviewed.title";
+            messageKey = event.requiresSignature()
+                    ? "notification.document.signature.needs_revision"
+                    : "notification.document.reviewed.needs_revision";
+            category = NotificationCategory.DOCUMENT_REVISION;
+        } else {
+            titleKey = "notification.document.rejected.title";
+            messageKey = "notification.document.rejected.message";
+            category = NotificationCategory.DOCUMENT_REJECTED;
+        }
+
+        String title = messageSource.getMessage(titleKey, new Object[] { displayDocName }, locale);
+        String message = decision == DocumentStatusEnum.REJECTED
+                ? messageSource.getMessage(messageKey,
+                        new Object[] { displayDocName, broker.getFirstName() + " " + broker.getLastName() }, locale)
+                : messageSource.getMessage(messageKey, new Object[] { displayDocName }, locale);
+
+        notificationService.createNotification(
+                client.getId().toString(),
+                title,
+                message,
+                event.transactionId().toString(),
+                category);
+    }
+}
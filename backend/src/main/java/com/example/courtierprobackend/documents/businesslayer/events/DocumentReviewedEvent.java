@@ -0,0 +1,26 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentStatusEnum;
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+
+import java.util.UUID;
+
+/**
+ * Raised when a broker reviews a submitted document. Carries the document as reviewed,
+ * so the client hears about this review even if the document changes again before
+ * delivery.
+ *
+ * @param decision the status the broker gave the document
+ * @param comments the broker's notes on the review, may be null
+ */
+public record DocumentReviewedEvent(
+        UUID transactionId,
+        UUID documentId,
+        UUID clientId,
+        UUID brokerId,
+        DocumentTypeEnum docType,
+        String customTitle,
+        boolean requiresSignature,
+        DocumentStatusEnum decision,
+        String comments) {
+}
@@ -0,0 +1,57 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.Document;
+import com.example.courtierprobackend.documents.datalayer.valueobjects.TransactionRef;
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emails the client a document the broker shared with them.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentSharedEmailHandler implements DomainEventHandler<DocumentSharedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentSharedEmailHandler.class);
+
+    private final EmailService emailService;
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    public Class<DocumentSharedEvent> eventType() {
+        return DocumentSharedEvent.class;
+    }
+
+    @Override
+    public void handle(DocumentSharedEvent event) {
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            log.warn("Cannot send document shared email: client or broker account could not be resolved for transaction {}",
+                    event.transactionId());
+            return;
+        }
+
+        // The email links back to the document's transaction
+        Document shared = new Document();
+        shared.setDocumentId(event.documentId());
+        shared.setTransactionRef(new TransactionRef(event.transactionId(), event.clientId(), null));
+        shared.setDocType(event.docType());
+        shared.setCustomTitle(event.customTitle());
+
+        String docType = event.docType().toString();
+        emailService.sendDocumentSubmittedNotification(
+                shared,
+                client.getEmail(),
+                broker.getFirstName() + " " + broker.getLastName(),
+                event.customTitle() != null ? event.customTitle() : docType,
+                docType,
+                client.getPreferredLanguage());
+    }
+}
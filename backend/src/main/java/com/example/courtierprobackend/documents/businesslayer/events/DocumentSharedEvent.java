@@ -0,0 +1,17 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+
+import java.util.UUID;
+
+/**
+ * Raised when a broker shares an uploaded document with the client.
+ */
+public record DocumentSharedEvent(
+        UUID transactionId,
+        UUID documentId,
+        UUID clientId,
+        UUID brokerId,
+        DocumentTypeEnum docType,
+        String customTitle) {
+}
@@ -0,0 +1,53 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * In-app notification to the client when the broker shares a document with them.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentSharedNotificationHandler implements DomainEventHandler<DocumentSharedEvent> {
+
+    private final NotificationService notificationService;
+    private final UserAccountRepository userAccountRepository;
+    private final MessageSource messageSource;
+
+    @Override
+    public Class<DocumentSharedEvent> eventType() {
+        return DocumentSharedEvent.class;
+    }
+
+    @Override
+    public void handle(DocumentSharedEvent event) {
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            return;
+        }
+
+        Locale locale = "fr".equalsIgnoreCase(client.getPreferredLanguage()) ? Locale.FRENCH : Locale.ENGLISH;
+        String brokerName = broker.getFirstName() + " " + broker.getLastName();
+        String displayDocName = event.customTitle() != null
+                ? event.customTitle()
+                : messageSource.getMessage("document.type." + event.docType(), null, event.docType().name(), locale);
+
+        notificationService.createNotification(
+                client.getId().toString(),
+                messageSource.getMessage("notification.document.shared.title", null, "Document Shared", locale),
+                messageSource.getMessage("notification.document.shared.message",
+                        new Object[] { brokerName, displayDocName },
+                        brokerName + " shared a document: " + displayDocName, locale),
+                event.transactionId().toString(),
+                NotificationCategory.DOCUMENT_SUBMITTED);
+    }
+}
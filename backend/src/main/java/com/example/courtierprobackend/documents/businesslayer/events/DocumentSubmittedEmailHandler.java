@@ -0,0 +1,73 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.Document;
+import com.example.courtierprobackend.documents.datalayer.enums.UploadedByRefEnum;
+import com.example.courtierprobackend.documents.datalayer.valueobjects.TransactionRef;
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emails the other side of the transaction that a document was submitted.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentSubmittedEmailHandler implements DomainEventHandler<DocumentSubmittedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(DocumentSubmittedEmailHandler.class);
+
+    private final EmailService emailService;
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    public Class<DocumentSubmittedEvent> eventType() {
+        return DocumentSubmittedEvent.class;
+    }
+
+    @Override
+    public void handle(DocumentSubmittedEvent event) {
+        boolean brokerUpload = event.uploaderType() == UploadedByRefEnum.BROKER;
+        UserAccount recipient = userAccountRepository
+                .findById(brokerUpload ? event.clientId() : event.brokerId())
+                .orElse(null);
+        if (recipient == null) {
+            log.warn("Cannot send document submitted email: recipient account could not be resolved for transaction {}",
+                    event.transactionId());
+            return;
+        }
+
+        String uploaderName = brokerUpload
+                ? recipient.getFirstName() + " " + recipient.getLastName()
+                : clientUploaderName(event);
+        String docType = event.docType().toString();
+
+        // The email links back to the document's transaction
+        Document submitted = new Document();
+        submitted.setDocumentId(event.documentId());
+        submitted.setTransactionRef(new TransactionRef(event.transactionId(), event.clientId(), null));
+        submitted.setDocType(event.docType());
+        submitted.setCustomTitle(event.customTitle());
+
+        emailService.sendDocumentSubmittedNotification(
+                submitted,
+                recipient.getEmail(),
+                uploaderName,
+                event.customTitle() != null ? event.customTitle() : docType,
+                docType,
+                recipient.getPreferredLanguage() != null ? recipient.getPreferredLanguage() : "en");
+    }
+
+    private String clientUploaderName(DocumentSubmittedEvent event) {
+        if (event.uploaderType() != UploadedByRefEnum.CLIENT || event.uploaderId() == null) {
+            return "Unknown Client";
+        }
+        return userAccountRepository.findById(event.uploaderId())
+                .map(u -> u.getFirstName() + " " + u.getLastName())
+                .orElse("Unknown Client");
+    }
+}
@@ -0,0 +1,24 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.documents.datalayer.enums.UploadedByRefEnum;
+
+import java.util.UUID;
+
+/**
+ * Raised when a file is submitted against a document. A broker upload is announced to
+ * the client; anyone else's upload is announced to the broker.
+ *
+ * @param uploaderId   the account that uploaded the file
+ * @param uploaderType whether the broker, the client or someone else uploaded it
+ */
+public record DocumentSubmittedEvent(
+        UUID transactionId,
+        UUID documentId,
+        UUID clientId,
+        UUID brokerId,
+        UUID uploaderId,
+        UploadedByRefEnum uploaderType,
+        DocumentTypeEnum docType,
+        String customTitle) {
+}
@@ -0,0 +1,70 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.UploadedByRefEnum;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.MessageSource;
+import org.springframework.stereotype.Component;
+
+import java.util.Locale;
+
+/**
+ * In-app notification for a submitted document: the client hears about the broker's
+ * uploads, the broker about everyone else's.
+ */
+@Component
+@RequiredArgsConstructor
+public class DocumentSubmittedNotificationHandler implements DomainEventHandler<DocumentSubmittedEvent> {
+
+    private final NotificationService notificationService;
+    private final UserAccountRepository userAccountRepository;
+    private final MessageSource messageSource;
+
+    @Override
+    public Class<DocumentSubmittedEvent> eventType() {
+        return DocumentSubmittedEvent.class;
+    }
+
+    @Override
+    public void handle(DocumentSubmittedEvent event) {
+        boolean brokerUpload = event.uploaderType() == UploadedByRefEnum.BROKER;
+        UserAccount recipient = userAccountRepository
+                .findById(brokerUpload ? event.clientId() : event.brokerId())
+                .orElse(null);
+        if (recipient == null) {
+            return;
+        }
+
+        String submitterName;
+        if (brokerUpload) {
+            UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+            if (broker == null) {
+                return;
+            }
+            submitterName = broker.getFirstName() + " " + broker.getLastName();
+        } else if (event.uploaderType() == UploadedByRefEnum.CLIENT && event.uploaderId() != null) {
+            submitterName = userAccountRepository.findById(event.uploaderId())
+                    .map(u -> u.getFirstName() + " " + u.getLastName())
+                    .orElse("Unknown Client");
+        } else {
+            submitterName = "Unknown Client";
+        }
+
+        Locale locale = "fr".equalsIgnoreCase(recipient.getPreferredLanguage()) ? Locale.FRENCH : Locale.ENGLISH;
+        String displayDocName = event.customTitle() != null
+                ? event.customTitle()
+                : messageSource.getMessage("document.type." + event.docType(), null, event.docType().name(), locale);
+
+        notificationService.createNotification(
+                recipient.getId().toString(),
+                messageSource.getMessage("notification.document.submitted.title", null, locale),
+                messageSource.getMessage("notification.document.submitted.message",
+                        new Object[] { submitterName, displayDocName }, locale),
+                event.transactionId().toString(),
+                NotificationCategory.DOCUMENT_SUBMITTED);
+    }
+}
@@ -6,6 +6,8 @@ import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum
 import com.example.courtierprobackend.documents.datalayer.enums.DocumentFlowEnum;
 import com.example.courtierprobackend.documents.datalayer.enums.StageEnum;
 import com.example.courtierprobackend.documents.datalayer.valueobjects.TransactionRef;
+import com.example.courtierprobackend.search.SearchIndexEvent;
+import com.example.courtierprobackend.search.dto.SearchResultDTO;
 import com.example.courtierprobackend.transactions.datalayer.enums.BuyerStage;
 import com.example.courtierprobackend.transactions.datalayer.enums.SellerStage;
 import jakarta.persistence.*;
@@ -13,6 +15,7 @@ import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.springframework.data.domain.DomainEvents;
 import org.hibernate.annotations.Where;
 
 import java.util.UUID;
@@ -96,4 +99,10 @@ public class Document {
     // Soft delete fields
     private LocalDateTime deletedAt;
     private UUID deletedBy;
+
+    // Refreshes the search index after every repository save
+    @DomainEvents
+    List<SearchIndexEvent> searchIndexEvents() {
+        return List.of(new SearchIndexEvent(SearchResultDTO.SearchResultType.DOCUMENT, documentId));
+    }
 }
@@ -1,5 +1,7 @@
 package com.example.courtierprobackend.documents.datalayer;
 
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -8,6 +10,7 @@ import org.springframework.stereotype.Repository;
 import com.example.courtierprobackend.documents.datalayer.enums.DocumentStatusEnum;
 import com.example.courtierprobackend.documents.datalayer.enums.StageEnum;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -37,7 +40,12 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
                         "(LOWER(COALESCE(d.customTitle, '')) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
                         "LOWER(CONCAT('', d.docType)) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
                         "LOWER(COALESCE(d.brokerNotes, '')) LIKE LOWER(CONCAT('%', :query, '%')))")
-        List<Document> searchDocuments(@Param("userId") UUID userId, @Param("query") String query);
+        List<Document> searchDocuments(@Param("userId") UUID userId, @Param("query") String query,
+                        Pageable pageable);
+
+        default List<Document> searchDocuments(UUID userId, String query) {
+                return searchDocuments(userId, query, Pageable.unpaged());
+        }
 
         // Derived query method used for optimizations where explicit JOINs are
         // difficult
@@ -48,7 +56,11 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
                         +
                         "(d.transactionRef.clientId = :requesterId OR d.transactionRef.transactionId IN (SELECT t.transactionId FROM Transaction t WHERE t.brokerId = :requesterId))")
         List<Document> findLinkedToUsers(@Param("userIds") java.util.List<UUID> userIds,
-                        @Param("requesterId") UUID requesterId);
+                        @Param("requesterId") UUID requesterId, Pageable pageable);
+
+        default List<Document> findLinkedToUsers(java.util.List<UUID> userIds, UUID requesterId) {
+                return findLinkedToUsers(userIds, requesterId, Pageable.unpaged());
+        }
 
         // Admin queries - bypass @Where filter to see all records including
         // soft-deleted
@@ -64,14 +76,38 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
         @Query(value = "SELECT * FROM documents WHERE transaction_id = :transactionId", nativeQuery = true)
         List<Document> findByTransactionIdIncludingDeleted(@Param("transactionId") UUID transactionId);
 
-        @Query("SELECT d FROM Document d " +
+        // Overdue requests of a broker joined to their transaction and client account
+        String OUTSTANDING_FROM = "FROM Document d " +
                         "JOIN Transaction t ON d.transactionRef.transactionId = t.transactionId " +
+                        "LEFT JOIN UserAccount u ON u.id = t.clientId " +
                         "WHERE t.brokerId = :brokerId " +
-                        "AND (d.status = 'REQUESTED' OR d.status = 'NEEDS_REVISION') " +
-                        "AND d.dueDate < :now " +
-                        "ORDER BY d.dueDate ASC")
-        List<Document> findOutstandingDocumentsForBroker(@Param("brokerId") UUID brokerId,
-                        @Param("now") LocalDateTime now);
+                        "AND d.status IN ('REQUESTED', 'NEEDS_REVISION') " +
+                        "AND d.dueDate < :now ";
+
+        String OUTSTANDING_ROW = "SELECT new com.example.courtierprobackend.documents.datalayer.OutstandingDocumentRow(" +
+                        "d.documentId, d.customTitle, d.docType, d.status, d.dueDate, cast((:now - d.dueDate) by day as Long), " +
+                        "t.propertyAddress.street, t.propertyAddress.city, t.propertyAddress.province, " +
+                        "t.propertyAddress.postalCode, t.clientId, u.firstName, u.lastName, u.email) ";
+
+        @Query(value = OUTSTANDING_ROW + OUTSTANDING_FROM + "ORDER BY d.dueDate ASC, d.id ASC",
+                        countQuery = "SELECT COUNT(d) " + OUTSTANDING_FROM)
+        Page<OutstandingDocumentRow> findOutstandingRowsForBroker(@Param("brokerId") UUID brokerId,
+                        @Param("now") LocalDateTime now, Pageable pageable);
+
+        default List<OutstandingDocumentRow> findOutstandingRowsForBroker(UUID brokerId, LocalDateTime now) {
+                return findOutstandingRowsForBroker(brokerId, now, Pageable.unpaged()).getContent();
+        }
+
+        @Query(value = "SELECT new com.example.courtierprobackend.documents.datalayer.OutstandingClientSummary(" +
+                        "t.clientId, COUNT(d), MIN(d.dueDate)) " + OUTSTANDING_FROM +
+                        "GROUP BY t.clientId ORDER BY MIN(d.dueDate) ASC, t.clientId ASC",
+                        countQuery = "SELECT COUNT(DISTINCT t.clientId) " + OUTSTANDING_FROM)
+        Page<OutstandingClientSummary> findOutstandingClientsForBroker(@Param("brokerId") UUID brokerId,
+                        @Param("now") LocalDateTime now, Pageable pageable);
+
+        @Query(OUTSTANDING_ROW + OUTSTANDING_FROM + "AND t.clientId IN :clientIds ORDER BY d.dueDate ASC, d.id ASC")
+        List<OutstandingDocumentRow> findOutstandingRowsForClients(@Param("brokerId") UUID brokerId,
+                        @Param("now") LocalDateTime now, @Param("clientIds") Collection<UUID> clientIds);
 
         @Query("SELECT d FROM Document d " +
                         "JOIN Transaction t ON d.transactionRef.transactionId = t.transactionId " +
@@ -79,4 +115,15 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
                         "AND d.status IN ('REQUESTED', 'SUBMITTED', 'NEEDS_REVISION') " +
                         "ORDER BY d.status DESC, d.lastUpdatedAt ASC")
         List<Document> findPendingDocumentsForWeeklyDigest(@Param("brokerId") UUID brokerId);
+
+        /**
+         * The weekly digest documents of several brokers in one query, as
+         * {@code [brokerId, document]} pairs ordered by broker.
+         */
+        @Query("SELECT t.brokerId, d FROM Document d " +
+                        "JOIN Transaction t ON d.transactionRef.transactionId = t.transactionId " +
+                        "WHERE t.brokerId IN :brokerIds " +
+                        "AND d.status IN ('REQUESTED', 'SUBMITTED', 'NEEDS_REVISION') " +
+                        "ORDER BY t.brokerId, d.status DESC, d.lastUpdatedAt ASC")
+        List<Object[]> findPendingDocumentsForWeeklyDigestByBroker(@Param("brokerIds") Collection<UUID> brokerIds);
 }
@@ -0,0 +1,11 @@
+package com.example.courtierprobackend.documents.datalayer;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Per-client totals of overdue document requests, used to page the reminder view
+ * by client rather than by document.
+ */
+public record OutstandingClientSummary(UUID clientId, Long documentCount, LocalDateTime oldestDueDate) {
+}
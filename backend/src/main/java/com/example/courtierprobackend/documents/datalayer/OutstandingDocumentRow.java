@@ -0,0 +1,29 @@
+package com.example.courtierprobackend.documents.datalayer;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentStatusEnum;
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One overdue document request with the transaction address and client identity it
+ * is shown with, read in a single joined query. Client columns are null when the
+ * client account no longer exists.
+ */
+public record OutstandingDocumentRow(
+        UUID documentId,
+        String customTitle,
+        DocumentTypeEnum docType,
+        DocumentStatusEnum status,
+        LocalDateTime dueDate,
+        Long daysOutstanding,
+        String street,
+        String city,
+        String province,
+        String postalCode,
+        UUID clientId,
+        String clientFirstName,
+        String clientLastName,
+        String clientEmail) {
+}
@@ -1,5 +1,6 @@
 package com.example.courtierprobackend.documents.presentationlayer;
 
+import com.example.courtierprobackend.common.web.ConditionalGet;
 import com.example.courtierprobackend.documents.businesslayer.DocumentService;
 import com.example.courtierprobackend.documents.datalayer.enums.UploadedByRefEnum;
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentRequestDTO;
@@ -8,6 +9,7 @@ import com.example.courtierprobackend.documents.presentationlayer.models.Documen
 import com.example.courtierprobackend.documents.presentationlayer.models.ChecklistToggleRequestDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.StageChecklistResponseDTO;
 import com.example.courtierprobackend.security.UserContextUtils;
+import com.example.courtierprobackend.transactions.businesslayer.TransactionAccessContext;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
@@ -41,7 +43,12 @@ public class DocumentController {
             @AuthenticationPrincipal Jwt jwt,
             HttpServletRequest request) {
         UUID userId = UserContextUtils.resolveUserId(request, brokerHeader);
-        return ResponseEntity.ok(service.getDocumentsForTransaction(transactionId, userId));
+        TransactionAccessContext access = service.resolveDocumentAccess(transactionId, userId);
+        String etag = ConditionalGet.etag(access.viewVersion(), "documents", userId);
+        if (ConditionalGet.isNotModified(request, etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        return ConditionalGet.ok(etag, service.getDocumentsForTransaction(access));
     }
 
     @PostMapping
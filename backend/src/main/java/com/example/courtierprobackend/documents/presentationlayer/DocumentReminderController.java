@@ -0,0 +1,44 @@
+package com.example.courtierprobackend.documents.presentationlayer;
+
+import com.example.courtierprobackend.documents.businesslayer.DocumentReminderService;
+import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReminderBatchDTO;
+import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReminderBatchRequestDTO;
+import com.example.courtierprobackend.security.UserContextUtils;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.UUID;
+
+/**
+ * Bulk reminders for the broker's overdue document requests. Starting a batch returns
+ * immediately; the dashboard polls the batch for per-client delivery results.
+ */
+@RestController
+@RequestMapping("/documents/outstanding/reminders")
+@RequiredArgsConstructor
+@PreAuthorize("hasRole('BROKER')")
+public class DocumentReminderController {
+
+    private final DocumentReminderService reminderService;
+
+    @PostMapping
+    public ResponseEntity<DocumentReminderBatchDTO> startBulkReminder(
+            @RequestBody(required = false) DocumentReminderBatchRequestDTO body,
+            HttpServletRequest request) {
+        UUID brokerId = UserContextUtils.resolveUserId(request);
+        DocumentReminderBatchDTO batch = reminderService.startBulkReminder(brokerId,
+                body != null ? body.getDocumentIds() : null);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(batch);
+    }
+
+    @GetMapping("/{batchId}")
+    public ResponseEntity<DocumentReminderBatchDTO> getBatchProgress(@PathVariable UUID batchId,
+                                                                     HttpServletRequest request) {
+        UUID brokerId = UserContextUtils.resolveUserId(request);
+        return ResponseEntity.ok(reminderService.getBatchProgress(brokerId, batchId));
+    }
+}
@@ -5,13 +5,18 @@ import com.example.courtierprobackend.documents.presentationlayer.models.Documen
 import com.example.courtierprobackend.security.UserContextUtils;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 @RestController
@@ -20,6 +25,8 @@ import java.util.UUID;
 @PreAuthorize("isAuthenticated()")
 public class GlobalDocumentController {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final DocumentService service;
 
     @GetMapping
@@ -35,6 +42,30 @@ public class GlobalDocumentController {
         return ResponseEntity.ok(service.getOutstandingDocumentSummary(brokerId));
     }
 
+    /**
+     * Paged variant of {@code /outstanding}, most overdue first.
+     */
+    @GetMapping("/outstanding/paged")
+    public ResponseEntity<Map<String, Object>> getOutstandingDocumentsPaged(
+            HttpServletRequest request,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        UUID brokerId = UserContextUtils.resolveUserId(request);
+        return ResponseEntity.ok(pageResponse(service.getOutstandingDocumentSummary(brokerId, pageRequest(page, size))));
+    }
+
+    /**
+     * Overdue requests grouped by client for the reminder view; pages count clients.
+     */
+    @GetMapping("/outstanding/by-client")
+    public ResponseEntity<Map<String, Object>> getOutstandingDocumentsByClient(
+            HttpServletRequest request,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        UUID brokerId = UserContextUtils.resolveUserId(request);
+        return ResponseEntity.ok(pageResponse(service.getOutstandingDocumentsByClient(brokerId, pageRequest(page, size))));
+    }
+
     @org.springframework.web.bind.annotation.PostMapping("/{id}/remind")
     public ResponseEntity<Void> sendReminder(@org.springframework.web.bind.annotation.PathVariable UUID id,
             HttpServletRequest request) {
@@ -42,4 +73,20 @@ public class GlobalDocumentController {
         service.sendDocumentReminder(id, brokerId);
         return ResponseEntity.ok().build();
     }
+
+    private static PageRequest pageRequest(int page, int size) {
+        return PageRequest.of(Math.max(0, page), Math.max(1, Math.min(size, MAX_PAGE_SIZE)));
+    }
+
+    private static Map<String, Object> pageResponse(Page<?> result) {
+        Map<String, Object> response = new HashMap<>();
+        response.put("content", result.getContent());
+        response.put("page", result.getNumber());
+        response.put("size", result.getSize());
+        response.put("totalElements", result.getTotalElements());
+        response.put("totalPages", result.getTotalPages());
+        response.put("first", result.isFirst());
+        response.put("last", result.isLast());
+        return response;
+    }
 }
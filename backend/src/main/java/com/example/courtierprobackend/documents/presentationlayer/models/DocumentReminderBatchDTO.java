@@ -0,0 +1,25 @@
+package com.example.courtierprobackend.documents.presentationlayer.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DocumentReminderBatchDTO {
+    private UUID batchId;
+    private int totalClients;
+    private int totalDocuments;
+    private int sent;
+    private int pending;
+    private int failed;
+    private int skipped;
+    private boolean complete;
+    private List<DocumentReminderClientStatusDTO> clients;
+}
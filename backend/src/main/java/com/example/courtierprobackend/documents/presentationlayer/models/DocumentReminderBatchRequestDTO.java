@@ -0,0 +1,15 @@
+package com.example.courtierprobackend.documents.presentationlayer.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class DocumentReminderBatchRequestDTO {
+    private List<UUID> documentIds; // Empty or null reminds for every overdue request
+}
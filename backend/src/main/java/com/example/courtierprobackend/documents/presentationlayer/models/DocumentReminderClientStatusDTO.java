@@ -0,0 +1,22 @@
+package com.example.courtierprobackend.documents.presentationlayer.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DocumentReminderClientStatusDTO {
+    private UUID clientId;
+    private String clientName;
+    private int documentCount;
+    private String status; // QUEUED, RETRYING, SENT, FAILED or SKIPPED
+    private String detail; // Last error or skip reason
+    private LocalDateTime sentAt;
+}
@@ -0,0 +1,22 @@
+package com.example.courtierprobackend.documents.presentationlayer.models;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.UUID;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class OutstandingClientGroupDTO {
+    private UUID clientId;
+    private String clientName;
+    private String clientEmail;
+    private long documentCount;
+    private Integer maxDaysOutstanding;
+    private List<OutstandingDocumentDTO> documents;
+}
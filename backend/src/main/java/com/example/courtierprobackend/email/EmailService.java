@@ -4,12 +4,17 @@ import com.example.courtierprobackend.shared.utils.StageTranslationUtil;
 import com.example.courtierprobackend.Organization.businesslayer.OrganizationSettingsService;
 import com.example.courtierprobackend.Organization.presentationlayer.model.OrganizationSettingsResponseModel;
 import com.example.courtierprobackend.documents.datalayer.Document;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.*;
 import jakarta.mail.internet.InternetAddress;
 import jakarta.mail.internet.MimeMessage;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.core.io.ClassPathResource;
 import org.springframework.stereotype.Service;
 
@@ -40,6 +45,10 @@ public class EmailService {
     final com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository userAccountRepository;
     private final software.amazon.awssdk.services.ses.SesClient sesClient;
 
+    static final String SEND_METRIC = "courtierpro.email.send";
+
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
     public EmailService(
             @Value("${gmail.username}") String gmailUsername,
             @Value("${gmail.password}") String gmailPassword,
@@ -47,7 +56,7 @@ public class EmailService {
             @Value("${gmail.port:587}") String gmailPort,
             OrganizationSettingsService organizationSettingsService,
             com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository userAccountRepository,
-            software.amazon.awssdk.services.ses.SesClient sesClient) {
+            @Lazy software.amazon.awssdk.services.ses.SesClient sesClient) {
         this.gmailUsername = gmailUsername;
         this.gmailPassword = gmailPassword;
         this.gmailHost = gmailHost;
@@ -57,6 +66,11 @@ public class EmailService {
         this.sesClient = sesClient;
     }
 
+    @Autowired(required = false)
+    void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     public boolean sendPasswordSetupEmail(String toEmail, String passwordSetupUrl) {
         return sendPasswordSetupEmail(toEmail, passwordSetupUrl, null);
     }
@@ -643,13 +657,29 @@ public class EmailService {
             }
         }
 
-        if ("ses".equalsIgnoreCase(emailProvider)) {
-            return sendEmailSes(to, subject, bodyWithFooter);
-        } else {
-            return sendEmailSmtp(to, subject, bodyWithFooter);
+        boolean ses = "ses".equalsIgnoreCase(emailProvider);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            boolean sent = ses
+                    ? sendEmailSes(to, subject, bodyWithFooter)
+                    : sendEmailSmtp(to, subject, bodyWithFooter);
+            outcome = sent ? "success" : "failure";
+            return sent;
+        } finally {
+            recordSend(sample, ses ? "ses" : "smtp", outcome);
         }
     }
 
+    // outcome: success, failure (provider rejected) or error (exception)
+    private void recordSend(Timer.Sample sample, String provider, String outcome) {
+        sample.stop(Timer.builder(SEND_METRIC)
+                .description("Outgoing email send latency")
+                .tag("provider", provider)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
     private boolean sendEmailSes(String to, String subject, String body) {
         try {
             software.amazon.awssdk.services.ses.model.SendEmailRequest request = software.amazon.awssdk.services.ses.model.SendEmailRequest
@@ -849,6 +879,23 @@ public class EmailService {
         if (!isEmailEnabled(toEmail))
             return;
 
+        try {
+            sendAppointmentReminder(appointment, toEmail, recipientName, language);
+        } catch (MessagingException | UnsupportedEncodingException e) {
+            logger.error("Failed to send appointment email to {}", toEmail, e);
+        }
+    }
+
+    /**
+     * Sends an appointment reminder without checking the recipient's email preference,
+     * which the caller already knows. Failures are reported to the caller so the outbox
+     * can retry them.
+     *
+     * @return whether the provider accepted the email
+     */
+    public boolean sendAppointmentReminder(
+            com.example.courtierprobackend.appointments.datalayer.Appointment appointment, String toEmail,
+            String recipientName, String language) throws MessagingException, UnsupportedEncodingException {
         boolean isFrench = "fr".equalsIgnoreCase(language);
         String translatedTitle = translateAppointmentTitle(appointment.getTitle(), isFrench);
         String subject = isFrench ? "Rappel de rendez-vous: " + translatedTitle
@@ -857,7 +904,7 @@ public class EmailService {
                 ? "Bonjour {{name}}, ceci est un rappel pour votre rendez-vous \"{{title}}\" demain à {{date}} à {{location}}."
                 : "Hello {{name}}, this is a reminder for your appointment \"{{title}}\" tomorrow at {{date}} at {{location}}.";
 
-        sendAppointmentEmail(toEmail, subject, body, recipientName, appointment, language, null);
+        return sendEmail(toEmail, subject, renderAppointmentEmail(body, recipientName, appointment, language, null));
     }
 
     private boolean isEmailEnabled(String email) {
@@ -870,36 +917,41 @@ public class EmailService {
             com.example.courtierprobackend.appointments.datalayer.Appointment appointment, String language,
             java.util.Map<String, String> extraVars) {
         try {
-            boolean isFrench = "fr".equalsIgnoreCase(language);
-            java.util.Locale locale = isFrench ? java.util.Locale.CANADA_FRENCH : java.util.Locale.US;
-            java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter
-                    .ofLocalizedDateTime(java.time.format.FormatStyle.LONG, java.time.format.FormatStyle.SHORT)
-                    .withLocale(locale);
-
-            String dateStr = appointment.getFromDateTime().format(formatter);
-            String body = bodyTemplate
-                    .replace("{{name}}", escapeHtml(name))
-                    .replace("{{title}}",
-                            escapeHtml(translateAppointmentTitle(appointment.getTitle(), isFrench)))
-                    .replace("{{date}}", escapeHtml(dateStr))
-                    .replace("{{location}}",
-                            escapeHtml(appointment.getLocation() != null ? appointment.getLocation() : "N/A"))
-                    .replace("{{notes}}", escapeHtml(appointment.getNotes() != null ? appointment.getNotes() : ""));
-
-            if (extraVars != null) {
-                for (java.util.Map.Entry<String, String> entry : extraVars.entrySet()) {
-                    String key = "{{" + entry.getKey() + "}}";
-                    String value = entry.getValue() != null ? escapeHtml(entry.getValue()) : "";
-                    body = body.replace(key, value);
-                }
-            }
-
-            sendEmail(to, subject, convertPlainTextToHtml(body));
+            sendEmail(to, subject, renderAppointmentEmail(bodyTemplate, name, appointment, language, extraVars));
         } catch (Exception e) {
             logger.error("Failed to send appointment email to {}", to, e);
         }
     }
 
+    private String renderAppointmentEmail(String bodyTemplate, String name,
+            com.example.courtierprobackend.appointments.datalayer.Appointment appointment, String language,
+            java.util.Map<String, String> extraVars) {
+        boolean isFrench = "fr".equalsIgnoreCase(language);
+        java.util.Locale locale = isFrench ? java.util.Locale.CANADA_FRENCH : java.util.Locale.US;
+        java.time.format.DateTimeFormatter formatter = java.time.format.DateTimeFormatter
+                .ofLocalizedDateTime(java.time.format.FormatStyle.LONG, java.time.format.FormatStyle.SHORT)
+                .withLocale(locale);
+
+        String dateStr = appointment.getFromDateTime().format(formatter);
+        String body = bodyTemplate
+                .replace("{{name}}", escapeHtml(name))
+                .replace("{{title}}",
+                        escapeHtml(translateAppointmentTitle(appointment.getTitle(), isFrench)))
+                .replace("{{date}}", escapeHtml(dateStr))
+                .replace("{{location}}",
+                        escapeHtml(appointment.getLocation() != null ? appointment.getLocation() : "N/A"))
+                .replace("{{notes}}", escapeHtml(appointment.getNotes() != null ? appointment.getNotes() : ""));
+
+        if (extraVars != null) {
+            for (java.util.Map.Entry<String, String> entry : extraVars.entrySet()) {
+                String key = "{{" + entry.getKey() + "}}";
+                String value = entry.getValue() != null ? escapeHtml(entry.getValue()) : "";
+                body = body.replace(key, value);
+            }
+        }
+        return convertPlainTextToHtml(body);
+    }
+
     /**
      * Send email change confirmation email with a token link.
      */
@@ -918,6 +970,8 @@ public class EmailService {
     void sendSimpleEmail(String to, String subject, String body) {
         // Minimal implementation using JavaMail. You may want to use your existing
         // logic or templates.
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
         try {
             Properties props = new Properties();
             props.put("mail.smtp.auth", "true");
@@ -939,8 +993,11 @@ public class EmailService {
             message.setText(body);
 
             Transport.send(message);
+            outcome = "success";
         } catch (Exception e) {
             logger.error("Failed to send email to {}: {}", to, e.getMessage());
+        } finally {
+            recordSend(sample, "smtp", outcome);
         }
     }
 
@@ -1190,18 +1247,8 @@ public class EmailService {
             java.util.List<com.example.courtierprobackend.transactions.datalayer.Transaction> transactions) {
         try {
             boolean isFrench = "fr".equalsIgnoreCase(broker.getPreferredLanguage());
-            String dateRange = java.time.LocalDate.now().toString() + " - " + java.time.LocalDate.now().plusDays(7).toString();
-
-            String subject = isFrench ? "Résumé Hebdomadaire CourtierPro" : "CourtierPro Weekly Digest";
-
-            String htmlTemplate = loadTemplateFromClasspath(isFrench ? "email-templates/defaults/weekly_digest_fr.html"
-                    : "email-templates/defaults/weekly_digest_en.html");
-
-            String htmlBody = htmlTemplate
-                    .replace("{{dateRange}}", dateRange)
-                    .replace("{{upcomingAppointmentsList}}", formatAppointmentsHtml(appointments, isFrench))
-                    .replace("{{pendingDocumentsList}}", formatDocumentsHtml(documents, isFrench))
-                    .replace("{{stalledTransactionsList}}", formatTransactionsHtml(transactions, isFrench));
+            String subject = weeklyDigestSubject(isFrench);
+            String htmlBody = renderWeeklyDigest(isFrench, appointments, documents, transactions);
 
             // Note: sendEmail currently only supports HTML. If we want TXT fallback, we'd need a MimeMultipart email.
             // For now, CourtierPro seems to use HTML-only emails and convertPlainTextToHtml for simple ones.
@@ -1215,6 +1262,91 @@ public class EmailService {
         }
     }
 
+    /**
+     * Sends a weekly digest rendered beforehand with {@link #renderWeeklyDigest}. Failures are
+     * reported to the caller so the outbox can retry them.
+     *
+     * @return whether the provider accepted the email
+     */
+    public boolean sendRenderedWeeklyDigest(String brokerEmail, boolean isFrench, String htmlBody)
+            throws MessagingException, UnsupportedEncodingException {
+        return sendEmail(brokerEmail, weeklyDigestSubject(isFrench), htmlBody);
+    }
+
+    private static String weeklyDigestSubject(boolean isFrench) {
+        return isFrench ? "Résumé Hebdomadaire CourtierPro" : "CourtierPro Weekly Digest";
+    }
+
+    /**
+     * Renders the weekly digest body without sending it. Reads only plain fields of the
+     * entities, so they may be detached.
+     */
+    public String renderWeeklyDigest(boolean isFrench,
+            java.util.List<com.example.courtierprobackend.appointments.datalayer.Appointment> appointments,
+            java.util.List<com.example.courtierprobackend.documents.datalayer.Document> documents,
+            java.util.List<com.example.courtierprobackend.transactions.datalayer.Transaction> transactions) throws IOException {
+        String dateRange = java.time.LocalDate.now().toString() + " - " + java.time.LocalDate.now().plusDays(7).toString();
+
+        String htmlTemplate = loadTemplateFromClasspath(isFrench ? "email-templates/defaults/weekly_digest_fr.html"
+                : "email-templates/defaults/weekly_digest_en.html");
+
+        return htmlTemplate
+                .replace("{{dateRange}}", dateRange)
+                .replace("{{upcomingAppointmentsList}}", formatAppointmentsHtml(appointments, isFrench))
+                .replace("{{pendingDocumentsList}}", formatDocumentsHtml(documents, isFrench))
+                .replace("{{stalledTransactionsList}}", formatTransactionsHtml(transactions, isFrench));
+    }
+
+    /**
+     * Sends a client the digest of their overdue document requests from one broker.
+     * Failures are reported to the caller instead of logged so a bulk reminder can
+     * retry them.
+     *
+     * @return whether the provider accepted the email
+     */
+    public boolean sendDocumentReminderDigest(String clientEmail, String clientName, String brokerName,
+            java.util.List<com.example.courtierprobackend.documents.businesslayer.events.DocumentReminderDigestEvent.Item> documents,
+            String clientLanguage) throws IOException, MessagingException {
+        boolean isFrench = "fr".equalsIgnoreCase(clientLanguage);
+        String subject = isFrench
+                ? "Rappel : " + documents.size() + " document(s) en attente"
+                : "Reminder: " + documents.size() + " document(s) outstanding";
+        return sendEmail(clientEmail, subject, renderDocumentReminderDigest(isFrench, clientName, brokerName, documents));
+    }
+
+    /**
+     * Renders the document reminder digest body without sending it.
+     */
+    String renderDocumentReminderDigest(boolean isFrench, String clientName, String brokerName,
+            java.util.List<com.example.courtierprobackend.documents.businesslayer.events.DocumentReminderDigestEvent.Item> documents)
+            throws IOException {
+        String htmlTemplate = loadTemplateFromClasspath(isFrench
+                ? "email-templates/defaults/document_reminder_digest_fr.html"
+                : "email-templates/defaults/document_reminder_digest_en.html");
+
+        StringBuilder list = new StringBuilder("<ul>");
+        for (var doc : documents) {
+            String docName = doc.title() != null ? doc.title() : translateDocumentType(doc.docType(), isFrench);
+            list.append("<li><strong>").append(escapeHtml(docName)).append("</strong>");
+            if (doc.propertyAddress() != null && !doc.propertyAddress().isBlank()) {
+                list.append(" - ").append(escapeHtml(doc.propertyAddress()));
+            }
+            if (doc.dueDate() != null) {
+                list.append(" (").append(isFrench ? "dû le " : "due ").append(doc.dueDate())
+                        .append(", ").append(doc.daysOutstanding())
+                        .append(isFrench ? " jour(s) de retard)" : " day(s) overdue)");
+            }
+            list.append("</li>");
+        }
+        list.append("</ul>");
+
+        return htmlTemplate
+                .replace("{{clientName}}", escapeHtml(clientName))
+                .replace("{{brokerName}}", escapeHtml(brokerName))
+                .replace("{{documentCount}}", String.valueOf(documents.size()))
+                .replace("{{documentsList}}", list.toString());
+    }
+
     private String formatAppointmentsHtml(java.util.List<com.example.courtierprobackend.appointments.datalayer.Appointment> appointments, boolean isFrench) {
         if (appointments.isEmpty()) {
             return "<p class=\"empty-state\">" + (isFrench ? "Aucun rendez-vous prévu." : "No upcoming appointments.") + "</p>";
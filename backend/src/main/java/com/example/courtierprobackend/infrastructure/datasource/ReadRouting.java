@@ -0,0 +1,109 @@
+package com.example.courtierprobackend.infrastructure.datasource;
+
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+/**
+ * Per-thread inputs to {@link ReplicaRoutingDataSource}.
+ *
+ * <p>Work is read-only when it runs in a {@code @Transactional(readOnly = true)}
+ * transaction, or outside any transaction inside {@link #readOnly(Supplier)} or on an
+ * executor wrapped with {@link #readOnly(Executor)}. Only read-only work may go to a
+ * replica.</p>
+ *
+ * <p>A request may also require the primary: {@link ReadYourWritesFilter} opens a request
+ * scope that is pinned to the primary when the user wrote recently, and the routing data
+ * source pins it as soon as the request takes a read-write connection, so the rest of the
+ * request reads its own writes. Wrapped executors carry the scope to their workers.</p>
+ */
+public final class ReadRouting {
+
+    private static final ThreadLocal<RequestScope> REQUEST = new ThreadLocal<>();
+    private static final ThreadLocal<Boolean> READ_ONLY = new ThreadLocal<>();
+
+    private static final class RequestScope {
+        // Shared with the request's worker threads
+        private volatile boolean primaryRequired;
+
+        private RequestScope(boolean primaryRequired) {
+            this.primaryRequired = primaryRequired;
+        }
+    }
+
+    private ReadRouting() {
+    }
+
+    static void beginRequest(boolean primaryRequired) {
+        REQUEST.set(new RequestScope(primaryRequired));
+    }
+
+    static void endRequest() {
+        REQUEST.remove();
+    }
+
+    static boolean primaryRequired() {
+        RequestScope scope = REQUEST.get();
+        return scope != null && scope.primaryRequired;
+    }
+
+    /**
+     * Pins the rest of the current request, if any, to the primary.
+     */
+    static void pinToPrimary() {
+        RequestScope scope = REQUEST.get();
+        if (scope != null) {
+            scope.primaryRequired = true;
+        }
+    }
+
+    static boolean isReadOnlyWork() {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return TransactionSynchronizationManager.isCurrentTransactionReadOnly();
+        }
+        return Boolean.TRUE.equals(READ_ONLY.get());
+    }
+
+    /**
+     * Runs non-transactional reads as read-only work.
+     */
+    public static <T> T readOnly(Supplier<T> work) {
+        Boolean previous = READ_ONLY.get();
+        READ_ONLY.set(true);
+        try {
+            return work.get();
+        } finally {
+            restore(READ_ONLY, previous);
+        }
+    }
+
+    /**
+     * Runs every task as read-only work of the request that submitted it.
+     */
+    public static Executor readOnly(Executor executor) {
+        return task -> {
+            RequestScope scope = REQUEST.get();
+            executor.execute(() -> {
+                RequestScope previousScope = REQUEST.get();
+                Boolean previousReadOnly = READ_ONLY.get();
+                REQUEST.set(scope);
+                READ_ONLY.set(true);
+                try {
+                    task.run();
+                } finally {
+                    restore(REQUEST, previousScope);
+                    restore(READ_ONLY, previousReadOnly);
+                }
+            });
+        };
+    }
+
+    private static <T> void restore(ThreadLocal<T> local, T previous) {
+        if (previous == null) {
+            local.remove();
+        } else {
+            local.set(previous);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.example.courtierprobackend.infrastructure.datasource;
+
+import com.example.courtierprobackend.security.UserContextFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Keeps a user's reads on the primary for {@code window} after each of their write
+ * requests, so they never see a replica that has not caught up with their own change.
+ * Registered by {@code ReplicaRoutingConfig} after the security chain, which resolves
+ * the user.
+ *
+ * <p>The write times are kept per instance; {@code window} should cover the replicas'
+ * maximum lag.</p>
+ */
+public class ReadYourWritesFilter extends OncePerRequestFilter {
+
+    private static final Set<String> WRITE_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_TRACKED_USERS = 10_000;
+
+    private final Duration window;
+    private final Clock clock;
+    private final Map<UUID, Instant> lastWrites = new ConcurrentHashMap<>();
+
+    public ReadYourWritesFilter(Duration window, Clock clock) {
+        this.window = window;
+        this.clock = clock;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        UUID userId = request.getAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR) instanceof UUID id ? id : null;
+        boolean write = userId != null && WRITE_METHODS.contains(request.getMethod());
+        if (write) {
+            // Before the chain too: the client may read again before this thread gets past it
+            recordWrite(userId);
+        }
+
+        ReadRouting.beginRequest(userId != null && wroteRecently(userId));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            ReadRouting.endRequest();
+            if (write) {
+                recordWrite(userId);
+            }
+        }
+    }
+
+    boolean wroteRecently(UUID userId) {
+        Instant lastWrite = lastWrites.get(userId);
+        return lastWrite != null && lastWrite.plus(window).isAfter(clock.instant());
+    }
+
+    private void recordWrite(UUID userId) {
+        if (lastWrites.size() >= MAX_TRACKED_USERS) {
+            Instant cutoff = clock.instant().minus(window);
+            lastWrites.values().removeIf(at -> !at.isAfter(cutoff));
+        }
+        lastWrites.put(userId, clock.instant());
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.courtierprobackend.infrastructure.datasource;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Polls each read replica for its replication lag. A replica takes reads only while its
+ * last check succeeded and the lag is within {@code maxLag}; until the first check, or if
+ * none qualifies, reads fall back to the primary.
+ *
+ * <p>Owns the replica pools and closes them on shutdown.</p>
+ */
+public class ReplicaLagMonitor implements AutoCloseable {
+
+    private static final Logger log = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    // Zero on a server that is not replaying WAL, or whose replay has caught up with
+    // what it received: an idle primary must not make a caught-up replica look stale
+    static final String LAG_SQL = "SELECT CASE " +
+            "WHEN NOT pg_is_in_recovery() THEN 0 " +
+            "WHEN pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() THEN 0 " +
+            "ELSE COALESCE(EXTRACT(EPOCH FROM now() - pg_last_xact_replay_timestamp()), 0) END";
+
+    private final Map<String, DataSource> replicas;
+    private final Map<String, JdbcTemplate> probes;
+    private final double maxLagSeconds;
+    private final Map<String, Double> lagSeconds = new ConcurrentHashMap<>();
+    private final AtomicInteger next = new AtomicInteger();
+
+    private volatile List<String> healthy = List.of();
+
+    public ReplicaLagMonitor(Map<String, DataSource> replicas, Duration maxLag) {
+        this(replicas, probesFor(replicas), maxLag);
+    }
+
+    ReplicaLagMonitor(Map<String, DataSource> replicas, Map<String, JdbcTemplate> probes, Duration maxLag) {
+        this.replicas = new LinkedHashMap<>(replicas);
+        this.probes = probes;
+        this.maxLagSeconds = maxLag.toMillis() / 1000.0;
+    }
+
+    private static Map<String, JdbcTemplate> probesFor(Map<String, DataSource> replicas) {
+        Map<String, JdbcTemplate> probes = new LinkedHashMap<>();
+        replicas.forEach((name, dataSource) -> {
+            JdbcTemplate probe = new JdbcTemplate(dataSource);
+            probe.setQueryTimeout(5);
+            probes.put(name, probe);
+        });
+        return probes;
+    }
+
+    public Map<String, DataSource> replicas() {
+        return replicas;
+    }
+
+    /**
+     * @return the last measured lag in seconds, or NaN if the last check failed
+     */
+    public double lagSeconds(String replica) {
+        return lagSeconds.getOrDefault(replica, Double.NaN);
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval-ms:2000}")
+    public void checkLag() {
+        List<String> nowHealthy = probes.entrySet().stream()
+                .filter(probe -> measure(probe.getKey(), probe.getValue()))
+                .map(Map.Entry::getKey)
+                .toList();
+        if (!nowHealthy.equals(healthy)) {
+            log.info("Replicas taking reads: {} of {}", nowHealthy, probes.keySet());
+        }
+        healthy = nowHealthy;
+    }
+
+    /**
+     * Round-robin over the replicas that passed their last check.
+     */
+    Optional<String> nextHealthyReplica() {
+        List<String> candidates = healthy;
+        if (candidates.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(candidates.get(Math.floorMod(next.getAndIncrement(), candidates.size())));
+    }
+
+    private boolean measure(String replica, JdbcTemplate probe) {
+        try {
+            Double lag = probe.queryForObject(LAG_SQL, Double.class);
+            double seconds = lag == null ? 0 : lag;
+            lagSeconds.put(replica, seconds);
+            return seconds <= maxLagSeconds;
+        } catch (DataAccessException e) {
+            lagSeconds.remove(replica);
+            log.debug("Lag check failed for {}: {}", replica, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource replica : replicas.values()) {
+            if (replica instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+    }
+}
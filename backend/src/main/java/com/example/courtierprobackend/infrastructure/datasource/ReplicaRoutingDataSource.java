@@ -0,0 +1,44 @@
+package com.example.courtierprobackend.infrastructure.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Sends read-only work (see {@link ReadRouting}) to a replica that {@link ReplicaLagMonitor}
+ * currently considers caught up, and everything else to the primary.
+ *
+ * <p>The route is chosen when a connection is taken, so this must sit behind a
+ * {@code LazyConnectionDataSourceProxy}: the transaction manager asks for the connection
+ * before it marks the transaction read-only, the proxy only fetches it at the first
+ * statement.</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+
+    private final ReplicaLagMonitor lagMonitor;
+
+    public ReplicaRoutingDataSource(DataSource primary, ReplicaLagMonitor lagMonitor) {
+        this.lagMonitor = lagMonitor;
+        Map<Object, Object> targets = new HashMap<>(lagMonitor.replicas());
+        targets.put(PRIMARY, primary);
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(primary);
+        setLenientFallback(false);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!ReadRouting.isReadOnlyWork()) {
+            ReadRouting.pinToPrimary();
+            return PRIMARY;
+        }
+        if (ReadRouting.primaryRequired()) {
+            return PRIMARY;
+        }
+        return lagMonitor.nextHealthyReplica().orElse(PRIMARY);
+    }
+}
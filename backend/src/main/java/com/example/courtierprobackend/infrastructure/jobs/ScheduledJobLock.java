@@ -0,0 +1,42 @@
+package com.example.courtierprobackend.infrastructure.jobs;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * The cluster-wide lease on one scheduled job. The job may run on the instance named
+ * in {@code lockedBy} until {@code lockedUntil}; after that any instance may take it.
+ */
+@Entity
+@Table(name = "scheduled_job_locks")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ScheduledJobLock {
+
+    @Id
+    @Column(name = "job_name", length = 100)
+    private String jobName;
+
+    @Column(name = "locked_by")
+    private String lockedBy;
+
+    @Column(name = "locked_at")
+    private LocalDateTime lockedAt;
+
+    @Column(name = "locked_until", nullable = false)
+    private LocalDateTime lockedUntil;
+
+    // Last time the holder extended the lease
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+}
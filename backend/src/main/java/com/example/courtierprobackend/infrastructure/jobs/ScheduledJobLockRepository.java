@@ -0,0 +1,52 @@
+package com.example.courtierprobackend.infrastructure.jobs;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+
+public interface ScheduledJobLockRepository extends JpaRepository<ScheduledJobLock, String> {
+
+    /**
+     * Takes the lease if it is free or has expired. The check and the write are one
+     * statement, so of several instances racing for the same job exactly one gets 1.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ScheduledJobLock l SET l.lockedBy = :instance, l.lockedAt = :now, " +
+            "l.lockedUntil = :until, l.heartbeatAt = :now " +
+            "WHERE l.jobName = :job AND l.lockedUntil <= :now")
+    int tryAcquire(@Param("job") String jobName, @Param("instance") String instanceId,
+                   @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    /**
+     * Creates the lock row of a job seen for the first time, already expired. Two
+     * instances inserting the same new job at once can still collide on the primary
+     * key; the loser gets a DataIntegrityViolationException.
+     */
+    @Modifying
+    @Transactional
+    @Query(value = "INSERT INTO scheduled_job_locks (job_name, locked_until) SELECT :job, :expired " +
+            "WHERE NOT EXISTS (SELECT 1 FROM scheduled_job_locks WHERE job_name = :job)", nativeQuery = true)
+    int insertIfAbsent(@Param("job") String jobName, @Param("expired") LocalDateTime expired);
+
+    /**
+     * Extends the lease, but only while this instance still holds it.
+     */
+    @Modifying
+    @Transactional
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :until, l.heartbeatAt = :now " +
+            "WHERE l.jobName = :job AND l.lockedBy = :instance")
+    int heartbeat(@Param("job") String jobName, @Param("instance") String instanceId,
+                  @Param("now") LocalDateTime now, @Param("until") LocalDateTime until);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE ScheduledJobLock l SET l.lockedUntil = :now " +
+            "WHERE l.jobName = :job AND l.lockedBy = :instance")
+    int release(@Param("job") String jobName, @Param("instance") String instanceId,
+                @Param("now") LocalDateTime now);
+}
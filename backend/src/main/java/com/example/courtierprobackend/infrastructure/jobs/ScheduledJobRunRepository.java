@@ -0,0 +1,20 @@
+package com.example.courtierprobackend.infrastructure.jobs;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ScheduledJobRunRepository extends JpaRepository<ScheduledJobRun, Long> {
+
+    List<ScheduledJobRun> findTop10ByJobNameOrderByStartedAtDesc(String jobName);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM ScheduledJobRun r WHERE r.startedAt < :cutoff")
+    int deleteStartedBefore(@Param("cutoff") LocalDateTime cutoff);
+}
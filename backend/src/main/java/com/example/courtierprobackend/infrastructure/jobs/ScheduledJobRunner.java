@@ -0,0 +1,184 @@
+package com.example.courtierprobackend.infrastructure.jobs;
+
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntSupplier;
+
+/**
+ * Runs a scheduled job on one instance of the cluster at a time.
+ *
+ * <p>Every instance still fires its {@code @Scheduled} methods; the method hands its
+ * body to {@link #runExclusively} and only the instance that takes the job's lease in
+ * {@code scheduled_job_locks} runs it, the others skip the firing. While the job runs
+ * the lease is extended every third of its length, so a long run keeps it and a
+ * crashed instance loses it within one lease. Each run is recorded in
+ * {@code scheduled_job_runs} with its duration, outcome and the row count the job
+ * returned.</p>
+ *
+ * <p>Lock and history writes are short transactions of their own; the job body must
+ * open its own transactions.</p>
+ */
+@Component
+public class ScheduledJobRunner {
+
+    private static final Logger log = LoggerFactory.getLogger(ScheduledJobRunner.class);
+
+    private static final LocalDateTime EXPIRED = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int HISTORY_RETENTION_DAYS = 30;
+    static final String PURGE_JOB_NAME = "scheduled-job-history-purge";
+    private static final Duration PURGE_LEASE = Duration.ofMinutes(5);
+
+    private final ScheduledJobLockRepository lockRepository;
+    private final ScheduledJobRunRepository runRepository;
+    private final ScheduledExecutorService heartbeats;
+    private final Clock clock;
+    private final String instanceId;
+
+    @Autowired
+    public ScheduledJobRunner(ScheduledJobLockRepository lockRepository,
+                              ScheduledJobRunRepository runRepository,
+                              Clock clock,
+                              @Value("${app.jobs.instance-id:}") String instanceId) {
+        // Not a bean: a ScheduledExecutorService bean would replace the @Scheduled pool
+        this(lockRepository, runRepository, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "job-heartbeat");
+            thread.setDaemon(true);
+            return thread;
+        }), clock, instanceId);
+    }
+
+    ScheduledJobRunner(ScheduledJobLockRepository lockRepository,
+                       ScheduledJobRunRepository runRepository,
+                       ScheduledExecutorService heartbeats,
+                       Clock clock,
+                       String instanceId) {
+        this.lockRepository = lockRepository;
+        this.runRepository = runRepository;
+        this.heartbeats = heartbeats;
+        this.clock = clock;
+        // pid@hostname, unique per JVM
+        this.instanceId = instanceId == null || instanceId.isBlank()
+                ? ManagementFactory.getRuntimeMXBean().getName()
+                : instanceId;
+    }
+
+    public String instanceId() {
+        return instanceId;
+    }
+
+    /**
+     * Runs {@code job} if this instance can take the lease on {@code jobName}.
+     *
+     * @param lease how long the lease lasts without a heartbeat
+     * @param job   the job body, returning the number of rows it processed
+     * @return whether the job ran here
+     */
+    public boolean runExclusively(String jobName, Duration lease, IntSupplier job) {
+        if (!acquire(jobName, lease)) {
+            log.debug("Skipping {}: another instance holds the lease", jobName);
+            return false;
+        }
+
+        LocalDateTime startedAt = LocalDateTime.now(clock);
+        ScheduledJobRun run = runRepository.save(ScheduledJobRun.builder()
+                .jobName(jobName)
+                .instanceId(instanceId)
+                .status(ScheduledJobRun.Status.RUNNING)
+                .startedAt(startedAt)
+                .build());
+        long period = Math.max(lease.toMillis() / 3, 1);
+        ScheduledFuture<?> heartbeat = heartbeats.scheduleAtFixedRate(
+                () -> extend(jobName, lease), period, period, TimeUnit.MILLISECONDS);
+        try {
+            int rows = job.getAsInt();
+            finish(run, ScheduledJobRun.Status.SUCCEEDED, rows, null);
+            return true;
+        } catch (RuntimeException e) {
+            finish(run, ScheduledJobRun.Status.FAILED, null, e);
+            throw e;
+        } finally {
+            heartbeat.cancel(false);
+            lockRepository.release(jobName, instanceId, LocalDateTime.now(clock));
+        }
+    }
+
+    @Scheduled(cron = "${app.jobs.history.purge-cron:0 45 3 * * *}")
+    public void purgeHistory() {
+        runExclusively(PURGE_JOB_NAME, PURGE_LEASE, this::purgeHistoryNow);
+    }
+
+    int purgeHistoryNow() {
+        int deleted = runRepository.deleteStartedBefore(LocalDateTime.now(clock).minusDays(HISTORY_RETENTION_DAYS));
+        if (deleted > 0) {
+            log.info("Purged {} scheduled job runs", deleted);
+        }
+        return deleted;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        heartbeats.shutdownNow();
+    }
+
+    private boolean acquire(String jobName, Duration lease) {
+        LocalDateTime now = LocalDateTime.now(clock);
+        if (lockRepository.tryAcquire(jobName, instanceId, now, now.plus(lease)) == 1) {
+            return true;
+        }
+        // First run of a new job: create its row, then race for it like everyone else
+        try {
+            if (lockRepository.insertIfAbsent(jobName, EXPIRED) == 0) {
+                return false;
+            }
+        } catch (DataIntegrityViolationException e) {
+            // Another instance created the row first and takes this firing
+            return false;
+        }
+        return lockRepository.tryAcquire(jobName, instanceId, now, now.plus(lease)) == 1;
+    }
+
+    private void extend(String jobName, Duration lease) {
+        try {
+            LocalDateTime now = LocalDateTime.now(clock);
+            if (lockRepository.heartbeat(jobName, instanceId, now, now.plus(lease)) == 0) {
+                log.warn("Lost the lease on {} while running it", jobName);
+            }
+        } catch (RuntimeException e) {
+            // Keep beating: one failed update does not lose a lease that has time left
+            log.warn("Heartbeat for {} failed: {}", jobName, e.getMessage());
+        }
+    }
+
+    private void finish(ScheduledJobRun run, ScheduledJobRun.Status status, Integer rows, Exception failure) {
+        LocalDateTime finishedAt = LocalDateTime.now(clock);
+        run.setStatus(status);
+        run.setFinishedAt(finishedAt);
+        run.setDurationMs(Duration.between(run.getStartedAt(), finishedAt).toMillis());
+        run.setRowsAffected(rows);
+        if (failure != null) {
+            String error = failure.getClass().getSimpleName() + ": " + failure.getMessage();
+            run.setError(error.length() > 1000 ? error.substring(0, 1000) : error);
+        }
+        try {
+            runRepository.save(run);
+        } catch (RuntimeException e) {
+            // History is best effort; it must not turn a finished job into a failed one
+            log.warn("Could not record the end of {} run {}: {}", run.getJobName(), run.getId(), e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.example.courtierprobackend.infrastructure.jobs;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * {@code /actuator/scheduledjobs}: who holds each job's lease and its latest runs.
+ */
+@Component
+@Endpoint(id = "scheduledjobs")
+public class ScheduledJobsEndpoint {
+
+    private final ScheduledJobLockRepository lockRepository;
+    private final ScheduledJobRunRepository runRepository;
+    private final Clock clock;
+
+    public ScheduledJobsEndpoint(ScheduledJobLockRepository lockRepository,
+                                 ScheduledJobRunRepository runRepository,
+                                 Clock clock) {
+        this.lockRepository = lockRepository;
+        this.runRepository = runRepository;
+        this.clock = clock;
+    }
+
+    public record JobStatus(boolean running, String lockedBy, LocalDateTime lockedAt,
+                            LocalDateTime lockedUntil, LocalDateTime heartbeatAt, List<Run> recentRuns) {
+    }
+
+    public record Run(String instanceId, ScheduledJobRun.Status status, LocalDateTime startedAt,
+                      LocalDateTime finishedAt, Long durationMs, Integer rowsAffected, String error) {
+
+        static Run of(ScheduledJobRun run) {
+            return new Run(run.getInstanceId(), run.getStatus(), run.getStartedAt(), run.getFinishedAt(),
+                    run.getDurationMs(), run.getRowsAffected(), run.getError());
+        }
+    }
+
+    @ReadOperation
+    public Map<String, JobStatus> jobs() {
+        LocalDateTime now = LocalDateTime.now(clock);
+        Map<String, JobStatus> jobs = new TreeMap<>();
+        for (ScheduledJobLock lock : lockRepository.findAll()) {
+            List<Run> runs = runRepository.findTop10ByJobNameOrderByStartedAtDesc(lock.getJobName()).stream()
+                    .map(Run::of)
+                    .toList();
+            jobs.put(lock.getJobName(), new JobStatus(lock.getLockedUntil().isAfter(now), lock.getLockedBy(),
+                    lock.getLockedAt(), lock.getLockedUntil(), lock.getHeartbeatAt(), runs));
+        }
+        return jobs;
+    }
+}
@@ -0,0 +1,111 @@
+package com.example.courtierprobackend.infrastructure.metrics;
+
+import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Buckets brokers by the number of transactions they own, so request metrics can
+ * tell a slow endpoint from an endpoint that is slow for large books. Counts are
+ * cached for a while; the tag only needs to be roughly right.
+ *
+ * <p>The count never runs on the request thread: a missing or expired entry is
+ * loaded on {@code brokerSizeExecutor} while the request is tagged with the stale
+ * bucket, or {@link #UNKNOWN} for a broker seen for the first time. Entries of
+ * brokers that stop making requests are purged once they are {@link #RETENTION} old.</p>
+ */
+@Component
+public class BrokerSizeBuckets {
+
+    private static final Logger log = LoggerFactory.getLogger(BrokerSizeBuckets.class);
+
+    static final String NOT_A_BROKER = "none";
+    static final String UNKNOWN = "unknown";
+
+    private static final Duration TTL = Duration.ofMinutes(15);
+    private static final Duration RETENTION = Duration.ofHours(1);
+
+    private final TransactionRepository transactionRepository;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final Map<UUID, CachedBucket> cache = new ConcurrentHashMap<>();
+    private final Set<UUID> loading = ConcurrentHashMap.newKeySet();
+
+    private record CachedBucket(String bucket, Instant loadedAt) {
+    }
+
+    public BrokerSizeBuckets(TransactionRepository transactionRepository,
+                             @Qualifier("brokerSizeExecutor") Executor refreshExecutor,
+                             Clock clock) {
+        this.transactionRepository = transactionRepository;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+    }
+
+    /**
+     * @return the size bucket for the broker, e.g. {@code 26-100}
+     */
+    public String bucketFor(UUID brokerId) {
+        if (brokerId == null) {
+            return NOT_A_BROKER;
+        }
+        CachedBucket cached = cache.get(brokerId);
+        if (cached == null || !clock.instant().isBefore(cached.loadedAt().plus(TTL))) {
+            refresh(brokerId);
+        }
+        return cached != null ? cached.bucket() : UNKNOWN;
+    }
+
+    @Scheduled(fixedDelayString = "${app.metrics.broker-size.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        Instant cutoff = clock.instant().minus(RETENTION);
+        cache.values().removeIf(entry -> entry.loadedAt().isBefore(cutoff));
+    }
+
+    private void refresh(UUID brokerId) {
+        if (!loading.add(brokerId)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    String bucket = bucket(transactionRepository.countByBrokerId(brokerId));
+                    cache.put(brokerId, new CachedBucket(bucket, clock.instant()));
+                } catch (RuntimeException e) {
+                    log.debug("Could not count transactions of broker {}", brokerId, e);
+                } finally {
+                    loading.remove(brokerId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            // Refresh pool is saturated; the next request retries
+            loading.remove(brokerId);
+        }
+    }
+
+    static String bucket(long transactions) {
+        if (transactions <= 25) {
+            return "0-25";
+        }
+        if (transactions <= 100) {
+            return "26-100";
+        }
+        if (transactions <= 500) {
+            return "101-500";
+        }
+        return "500+";
+    }
+}
@@ -0,0 +1,121 @@
+package com.example.courtierprobackend.infrastructure.metrics;
+
+import com.example.courtierprobackend.infrastructure.metrics.SqlStatementCounter.SqlCapture;
+import com.example.courtierprobackend.security.UserContextFilter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Records how many SQL statements each request issued, tagged by endpoint pattern,
+ * outcome and broker size. Runs ahead of the security chain so the user lookup is
+ * part of the count. Registered by {@code MetricsConfig}.
+ *
+ * <p>A statement shape executed {@code repeatThreshold} times or more in one request
+ * is logged with the endpoint and counted as a suspected N+1.</p>
+ */
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    static final String SQL_STATEMENTS_METRIC = "courtierpro.http.sql.statements";
+    static final String REPEATED_STATEMENTS_METRIC = "courtierpro.http.sql.repeated";
+
+    private static final int MAX_LOGGED_SQL_LENGTH = 300;
+
+    private final MeterRegistry meterRegistry;
+    private final BrokerSizeBuckets brokerSizeBuckets;
+    private final int repeatThreshold;
+
+    public RequestMetricsFilter(MeterRegistry meterRegistry, BrokerSizeBuckets brokerSizeBuckets,
+                                int repeatThreshold) {
+        this.meterRegistry = meterRegistry;
+        this.brokerSizeBuckets = brokerSizeBuckets;
+        this.repeatThreshold = repeatThreshold;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return request.getRequestURI().startsWith("/actuator");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        SqlStatementCounter.begin();
+        boolean failed = true;
+        try {
+            filterChain.doFilter(request, response);
+            failed = false;
+        } finally {
+            SqlCapture capture = SqlStatementCounter.end();
+            try {
+                String uri = uri(request);
+                DistributionSummary.builder(SQL_STATEMENTS_METRIC)
+                        .description("SQL statements issued per HTTP request")
+                        .baseUnit("statements")
+                        .tag("method", request.getMethod())
+                        .tag("uri", uri)
+                        .tag("outcome", failed ? "SERVER_ERROR" : outcome(response.getStatus()))
+                        .tag("broker.size", brokerSize(request))
+                        .register(meterRegistry)
+                        .record(capture.total());
+                reportRepeats(request.getMethod(), uri, capture);
+            } catch (RuntimeException e) {
+                log.debug("Could not record request SQL metrics", e);
+            }
+        }
+    }
+
+    private void reportRepeats(String method, String uri, SqlCapture capture) {
+        List<Map.Entry<String, Integer>> repeated = capture.repeated(repeatThreshold);
+        if (repeated.isEmpty()) {
+            return;
+        }
+        for (Map.Entry<String, Integer> shape : repeated) {
+            log.warn("Possible N+1 on {} {}: {} executions of [{}] ({} statements in request)", method, uri,
+                    shape.getValue(), abbreviate(shape.getKey()), capture.total());
+        }
+        meterRegistry.counter(REPEATED_STATEMENTS_METRIC, "method", method, "uri", uri).increment();
+    }
+
+    private static String abbreviate(String sql) {
+        return sql.length() <= MAX_LOGGED_SQL_LENGTH ? sql : sql.substring(0, MAX_LOGGED_SQL_LENGTH) + "...";
+    }
+
+    private String brokerSize(HttpServletRequest request) {
+        Object role = request.getAttribute(UserContextFilter.USER_ROLE_ATTR);
+        Object userId = request.getAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR);
+        if (role == null || !"BROKER".equals(role.toString()) || !(userId instanceof UUID brokerId)) {
+            return BrokerSizeBuckets.NOT_A_BROKER;
+        }
+        return brokerSizeBuckets.bucketFor(brokerId);
+    }
+
+    // Same values as the uri tag of http.server.requests, so the two can be joined
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+
+    private static String outcome(int status) {
+        return switch (status / 100) {
+            case 1 -> "INFORMATIONAL";
+            case 2 -> "SUCCESS";
+            case 3 -> "REDIRECTION";
+            case 4 -> "CLIENT_ERROR";
+            case 5 -> "SERVER_ERROR";
+            default -> "UNKNOWN";
+        };
+    }
+}
@@ -0,0 +1,147 @@
+package com.example.courtierprobackend.infrastructure.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread while a
+ * capture is open, grouped by statement shape. {@link RequestMetricsFilter} opens
+ * one per HTTP request; the same shape executed many times in one request is the
+ * signature of an N+1 loop. Tests open their own captures to assert a query budget.
+ *
+ * <p>Registered as the session factory's statement inspector; the statement text is
+ * returned unchanged. Captures nest: statements counted by an inner capture are also
+ * counted by the enclosing one. Work handed to the thread pools in {@code ExecutorConfig}
+ * carries the submitting thread's capture along ({@link #propagate}), so statements a
+ * request fans out to the search or transaction detail pools are counted with it.</p>
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+    private static final ThreadLocal<Capture> CURRENT = new ThreadLocal<>();
+
+    // Bind-parameter lists vary with the collection size but are the same query
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(\\s*,\\s*\\?)+\\s*\\)");
+    private static final Pattern LITERAL = Pattern.compile("'(?:[^']|'')*'|\\b\\d+\\b");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+    private static final Pattern COMMENT = Pattern.compile("/\\*.*?\\*/");
+
+    // Shared with the pool threads running a request's fan-out, hence concurrent
+    private static final class Capture {
+        private final Capture parent;
+        private final Map<String, Integer> shapes = new ConcurrentHashMap<>();
+        private final AtomicInteger total = new AtomicInteger();
+
+        private Capture(Capture parent) {
+            this.parent = parent;
+        }
+    }
+
+    /**
+     * Statements issued while a capture was open.
+     *
+     * @param total  number of statements
+     * @param shapes executions per normalized statement shape
+     */
+    public record SqlCapture(int total, Map<String, Integer> shapes) {
+
+        static final SqlCapture EMPTY = new SqlCapture(0, Map.of());
+
+        /**
+         * Shapes executed at least {@code threshold} times, most frequent first.
+         */
+        public List<Map.Entry<String, Integer>> repeated(int threshold) {
+            return shapes.entrySet().stream()
+                    .filter(e -> e.getValue() >= threshold)
+                    .sorted(Map.Entry.<String, Integer>comparingByValue(Comparator.reverseOrder()))
+                    .toList();
+        }
+
+        /**
+         * Highest number of executions of a single shape.
+         */
+        public int maxRepeats() {
+            return shapes.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+        }
+    }
+
+    @Override
+    public String inspect(String sql) {
+        Capture capture = CURRENT.get();
+        if (capture != null) {
+            String shape = shape(sql);
+            for (Capture c = capture; c != null; c = c.parent) {
+                c.total.incrementAndGet();
+                c.shapes.merge(shape, 1, Integer::sum);
+            }
+        }
+        return sql;
+    }
+
+    /**
+     * Starts a capture on this thread, nested in any capture already open.
+     */
+    public static void begin() {
+        CURRENT.set(new Capture(CURRENT.get()));
+    }
+
+    /**
+     * Closes the innermost capture and returns what it saw, or an empty capture
+     * when none was open.
+     */
+    public static SqlCapture end() {
+        Capture capture = CURRENT.get();
+        if (capture == null) {
+            return SqlCapture.EMPTY;
+        }
+        if (capture.parent != null) {
+            CURRENT.set(capture.parent);
+        } else {
+            CURRENT.remove();
+        }
+        return new SqlCapture(capture.total.get(), Map.copyOf(capture.shapes));
+    }
+
+    /**
+     * Wraps a task so the statements it issues are counted by the capture open on the
+     * submitting thread, if any. Used as the {@code TaskDecorator} of the thread pools.
+     */
+    public static Runnable propagate(Runnable task) {
+        Capture capture = CURRENT.get();
+        if (capture == null) {
+            return task;
+        }
+        return () -> {
+            Capture previous = CURRENT.get();
+            CURRENT.set(capture);
+            try {
+                task.run();
+            } finally {
+                if (previous != null) {
+                    CURRENT.set(previous);
+                } else {
+                    CURRENT.remove();
+                }
+            }
+        };
+    }
+
+    /**
+     * Normalizes a statement so executions that differ only by literals, IN-list
+     * length or formatting count as the same shape.
+     */
+    static String shape(String sql) {
+        if (sql == null) {
+            return "";
+        }
+        String shape = COMMENT.matcher(sql).replaceAll(" ");
+        shape = LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?...)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim().toLowerCase();
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.courtierprobackend.infrastructure.outbox;
+
+/**
+ * A consumer of one type of domain event, invoked by the {@link OutboxDispatcher}
+ * outside the transaction that raised the event.
+ *
+ * <p>Delivery is at-least-once: a handler may see the same event again if it fails
+ * or the instance stops before delivery is recorded, so handlers must tolerate
+ * repeats. Each handler gets its own outbox row and is retried independently of the
+ * other consumers of the same event.</p>
+ *
+ * @param <E> the event payload type
+ */
+public interface DomainEventHandler<E> {
+
+    Class<E> eventType();
+
+    void handle(E event);
+}
@@ -0,0 +1,114 @@
+package com.example.courtierprobackend.infrastructure.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Records domain events in the outbox as part of the caller's transaction. Nothing is
+ * delivered until that transaction commits, and a rollback discards the events.
+ */
+@Component
+public class DomainEventPublisher {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+    private final Map<String, DomainEventHandler<?>> handlers;
+
+    public DomainEventPublisher(OutboxEventRepository outboxEventRepository,
+                                ObjectMapper objectMapper,
+                                Map<String, DomainEventHandler<?>> handlers) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.objectMapper = objectMapper;
+        this.handlers = handlers;
+    }
+
+    /**
+     * Queues the event for every handler registered for its type.
+     *
+     * @param aggregateId the entity the event is about, kept for troubleshooting
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(UUID aggregateId, Object event) {
+        publish(aggregateId, event, LocalDateTime.now());
+    }
+
+    /**
+     * Queues the event without delivering it before {@code availableAt}, which lets a
+     * caller spread a burst of events over time.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void publish(UUID aggregateId, Object event, LocalDateTime availableAt) {
+        String payload = serialize(event);
+
+        UUID eventId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> rows = new ArrayList<>();
+        handlers.forEach((name, handler) -> {
+            if (handler.eventType().isInstance(event)) {
+                rows.add(OutboxEvent.builder()
+                        .eventId(eventId)
+                        .eventType(event.getClass().getSimpleName())
+                        .consumer(name)
+                        .aggregateId(aggregateId)
+                        .payload(payload)
+                        .status(OutboxEvent.Status.PENDING)
+                        .attempts(0)
+                        .availableAt(availableAt)
+                        .createdAt(now)
+                        .build());
+            }
+        });
+        if (!rows.isEmpty()) {
+            outboxEventRepository.saveAll(rows);
+        }
+    }
+
+    /**
+     * Records an event that will not be delivered, already marked {@code SKIPPED} with
+     * the reason, so callers that read the outbox as a progress record still see it.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void recordSkipped(UUID aggregateId, Object event, String reason) {
+        String payload = serialize(event);
+        UUID eventId = UUID.randomUUID();
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> rows = new ArrayList<>();
+        handlers.forEach((name, handler) -> {
+            if (handler.eventType().isInstance(event)) {
+                rows.add(OutboxEvent.builder()
+                        .eventId(eventId)
+                        .eventType(event.getClass().getSimpleName())
+                        .consumer(name)
+                        .aggregateId(aggregateId)
+                        .payload(payload)
+                        .status(OutboxEvent.Status.SKIPPED)
+                        .attempts(0)
+                        .availableAt(now)
+                        .createdAt(now)
+                        .dispatchedAt(now)
+                        .lastError(reason)
+                        .build());
+            }
+        });
+        if (!rows.isEmpty()) {
+            outboxEventRepository.saveAll(rows);
+        }
+    }
+
+    private String serialize(Object event) {
+        try {
+            return objectMapper.writeValueAsString(event);
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("Cannot serialize " + event.getClass().getSimpleName(), e);
+        }
+    }
+}
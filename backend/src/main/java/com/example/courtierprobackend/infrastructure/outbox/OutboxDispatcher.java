@@ -0,0 +1,143 @@
+package com.example.courtierprobackend.infrastructure.outbox;
+
+import com.example.courtierprobackend.infrastructure.jobs.ScheduledJobRunner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+
+/**
+ * Delivers outbox events to their handlers on the {@code outboxExecutor} pool.
+ *
+ * <p>Each poll locks a batch of due rows and pushes their {@code availableAt} forward
+ * by a lease before releasing the lock, so other instances skip them while they are
+ * being delivered. A delivered row is marked {@code DISPATCHED}, one the handler
+ * declined with a {@link SkippedEventException} {@code SKIPPED}; a failed one is
+ * retried with exponential back-off until {@link #MAX_ATTEMPTS}, then left as
+ * {@code FAILED}. If an instance dies mid-delivery the lease expires and the row is
+ * delivered again.</p>
+ *
+ * <p>Polling runs on every instance; the nightly purge of dispatched rows runs on one
+ * at a time through {@link ScheduledJobRunner}.</p>
+ */
+@Component
+public class OutboxDispatcher {
+
+    private static final Logger log = LoggerFactory.getLogger(OutboxDispatcher.class);
+
+    static final int BATCH_SIZE = 50;
+    static final int MAX_ATTEMPTS = 10;
+    private static final long LEASE_SECONDS = 300;
+    private static final long MAX_BACKOFF_SECONDS = 3600;
+    private static final int RETENTION_DAYS = 7;
+    static final String PURGE_JOB_NAME = "outbox-purge";
+    private static final Duration PURGE_LEASE = Duration.ofMinutes(5);
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final Map<String, DomainEventHandler<?>> handlers;
+    private final ObjectMapper objectMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor outboxExecutor;
+    private final ScheduledJobRunner jobRunner;
+
+    public OutboxDispatcher(OutboxEventRepository outboxEventRepository,
+                            Map<String, DomainEventHandler<?>> handlers,
+                            ObjectMapper objectMapper,
+                            PlatformTransactionManager transactionManager,
+                            @Qualifier("outboxExecutor") Executor outboxExecutor,
+                            ScheduledJobRunner jobRunner) {
+        this.outboxEventRepository = outboxEventRepository;
+        this.handlers = handlers;
+        this.objectMapper = objectMapper;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.outboxExecutor = outboxExecutor;
+        this.jobRunner = jobRunner;
+    }
+
+    @Scheduled(fixedDelayString = "${app.outbox.poll-interval-ms:1000}")
+    public void dispatchDueEvents() {
+        List<OutboxEvent> claimed;
+        do {
+            claimed = claimBatch();
+            CompletableFuture.allOf(claimed.stream()
+                            .map(event -> CompletableFuture.runAsync(() -> deliver(event), outboxExecutor))
+                            .toArray(CompletableFuture[]::new))
+                    .join();
+        } while (claimed.size() == BATCH_SIZE);
+    }
+
+    @Scheduled(cron = "0 30 3 * * *")
+    public void purgeDispatchedEvents() {
+        jobRunner.runExclusively(PURGE_JOB_NAME, PURGE_LEASE, this::purgeDispatchedEventsNow);
+    }
+
+    int purgeDispatchedEventsNow() {
+        int deleted = outboxEventRepository.deleteDispatchedBefore(LocalDateTime.now().minusDays(RETENTION_DAYS));
+        if (deleted > 0) {
+            log.info("Purged {} dispatched outbox events", deleted);
+        }
+        return deleted;
+    }
+
+    private List<OutboxEvent> claimBatch() {
+        return transactionTemplate.execute(status -> {
+            LocalDateTime now = LocalDateTime.now();
+            List<OutboxEvent> due = outboxEventRepository.lockDueEvents(now, BATCH_SIZE);
+            due.forEach(event -> event.setAvailableAt(now.plusSeconds(LEASE_SECONDS)));
+            return due;
+        });
+    }
+
+    void deliver(OutboxEvent event) {
+        DomainEventHandler<?> handler = handlers.get(event.getConsumer());
+        try {
+            if (handler == null) {
+                throw new IllegalStateException("No handler named " + event.getConsumer());
+            }
+            invoke(handler, event.getPayload());
+            outboxEventRepository.markDispatched(event.getId(), LocalDateTime.now());
+        } catch (SkippedEventException e) {
+            log.info("Outbox event {} ({} -> {}) skipped: {}",
+                    event.getId(), event.getEventType(), event.getConsumer(), e.getMessage());
+            outboxEventRepository.markSkipped(event.getId(), LocalDateTime.now(), e.getMessage());
+        } catch (Exception e) {
+            recordFailure(event, e);
+        }
+    }
+
+    private <E> void invoke(DomainEventHandler<E> handler, String payload) throws Exception {
+        handler.handle(objectMapper.readValue(payload, handler.eventType()));
+    }
+
+    private void recordFailure(OutboxEvent event, Exception e) {
+        int attempts = event.getAttempts() + 1;
+        boolean exhausted = attempts >= MAX_ATTEMPTS;
+        long backoff = Math.min(1L << Math.min(attempts, 20), MAX_BACKOFF_SECONDS);
+        String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+        if (error.length() > 1000) {
+            error = error.substring(0, 1000);
+        }
+
+        if (exhausted) {
+            log.error("Giving up on outbox event {} ({} -> {}) after {} attempts",
+                    event.getId(), event.getEventType(), event.getConsumer(), attempts, e);
+        } else {
+            log.warn("Outbox event {} ({} -> {}) failed, retrying in {}s: {}",
+                    event.getId(), event.getEventType(), event.getConsumer(), backoff, error);
+        }
+        outboxEventRepository.recordFailure(event.getId(),
+                exhausted ? OutboxEvent.Status.FAILED : OutboxEvent.Status.PENDING,
+                attempts, LocalDateTime.now().plusSeconds(backoff), error);
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.courtierprobackend.infrastructure.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    /**
+     * Locks the next due events. Rows already locked by another instance are skipped
+     * rather than waited on, so several dispatchers can poll concurrently.
+     */
+    @Query(value = "SELECT * FROM outbox_events " +
+            "WHERE status = 'PENDING' AND available_at <= :now " +
+            "ORDER BY available_at, id " +
+            "LIMIT :limit " +
+            "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+    List<OutboxEvent> lockDueEvents(@Param("now") LocalDateTime now, @Param("limit") int limit);
+
+    List<OutboxEvent> findByAggregateIdAndEventTypeOrderById(UUID aggregateId, String eventType);
+
+    long countByEventTypeAndStatus(String eventType, OutboxEvent.Status status);
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.dispatchedAt = :now, e.lastError = NULL " +
+            "WHERE e.id = :id")
+    int markDispatched(@Param("id") Long id, @Param("status") OutboxEvent.Status status,
+                       @Param("now") LocalDateTime now);
+
+    default int markDispatched(Long id, LocalDateTime now) {
+        return markDispatched(id, OutboxEvent.Status.DISPATCHED, now);
+    }
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.dispatchedAt = :now, e.lastError = :reason " +
+            "WHERE e.id = :id")
+    int markSkipped(@Param("id") Long id, @Param("status") OutboxEvent.Status status,
+                    @Param("now") LocalDateTime now, @Param("reason") String reason);
+
+    default int markSkipped(Long id, LocalDateTime now, String reason) {
+        return markSkipped(id, OutboxEvent.Status.SKIPPED, now, reason);
+    }
+
+    @Modifying
+    @Transactional
+    @Query("UPDATE OutboxEvent e SET e.status = :status, e.attempts = :attempts, " +
+            "e.availableAt = :availableAt, e.lastError = :error WHERE e.id = :id")
+    int recordFailure(@Param("id") Long id, @Param("status") OutboxEvent.Status status,
+                      @Param("attempts") int attempts, @Param("availableAt") LocalDateTime availableAt,
+                      @Param("error") String error);
+
+    @Modifying
+    @Transactional
+    @Query("DELETE FROM OutboxEvent e WHERE e.status IN :statuses AND e.dispatchedAt < :cutoff")
+    int deleteDispatchedBefore(@Param("statuses") Collection<OutboxEvent.Status> statuses,
+                               @Param("cutoff") LocalDateTime cutoff);
+
+    // Skipped rows are finished too, and carry a dispatched_at for the same purpose
+    default int deleteDispatchedBefore(LocalDateTime cutoff) {
+        return deleteDispatchedBefore(List.of(OutboxEvent.Status.DISPATCHED, OutboxEvent.Status.SKIPPED), cutoff);
+    }
+}
@@ -0,0 +1,13 @@
+package com.example.courtierprobackend.infrastructure.outbox;
+
+/**
+ * Thrown by a handler that deliberately does not deliver an event, for example because
+ * the recipient opted out. The dispatcher records the row as {@code SKIPPED} with the
+ * message as its reason and does not retry it.
+ */
+public class SkippedEventException extends RuntimeException {
+
+    public SkippedEventException(String reason) {
+        super(reason);
+    }
+}
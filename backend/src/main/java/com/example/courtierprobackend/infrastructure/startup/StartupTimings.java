@@ -0,0 +1,141 @@
+package com.example.courtierprobackend.infrastructure.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.config.ConfigurableListableBeanFactory;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.event.ApplicationStartingEvent;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.context.ApplicationEvent;
+import org.springframework.context.ApplicationListener;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.lang.management.ManagementFactory;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.StringJoiner;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times the phases of a boot and reports them once the application is ready.
+ *
+ * <p>The phases follow Spring Boot's lifecycle events: {@code jvm} (JVM start to
+ * {@code main}), {@code environment}, {@code prepare} (context creation and bean
+ * definitions), {@code refresh} (bean creation, migrations, web server) and
+ * {@code runners}. Steps inside them, such as the Flyway migration, are added with
+ * {@link #record}. The timings are logged in one line and exposed as the
+ * {@code courtierpro.startup.phase} and {@code courtierpro.startup.step} gauges,
+ * tagged with the build version so boot times can be compared release to release.</p>
+ *
+ * <p>Registered on the {@code SpringApplication} in {@code main} so it sees the
+ * events before the context exists; it is then available as the
+ * {@code startupTimings} bean.</p>
+ */
+public class StartupTimings implements ApplicationListener<ApplicationEvent> {
+
+    public static final String PHASE_METRIC = "courtierpro.startup.phase";
+    public static final String STEP_METRIC = "courtierpro.startup.step";
+    static final String BEAN_NAME = "startupTimings";
+
+    private static final Logger log = LoggerFactory.getLogger(StartupTimings.class);
+
+    private final Clock clock;
+    private final Instant jvmStart;
+    private final Map<String, Duration> phases = new LinkedHashMap<>();
+    private final Map<String, Duration> steps = new LinkedHashMap<>();
+    private Instant phaseStart;
+
+    public StartupTimings() {
+        this(Clock.systemUTC(), Instant.ofEpochMilli(ManagementFactory.getRuntimeMXBean().getStartTime()));
+    }
+
+    StartupTimings(Clock clock, Instant jvmStart) {
+        this.clock = clock;
+        this.jvmStart = jvmStart;
+    }
+
+    @Override
+    public void onApplicationEvent(ApplicationEvent event) {
+        if (event instanceof ApplicationStartingEvent) {
+            phaseStart = jvmStart;
+            endPhase("jvm");
+        } else if (event instanceof ApplicationEnvironmentPreparedEvent) {
+            endPhase("environment");
+        } else if (event instanceof ApplicationPreparedEvent prepared) {
+            endPhase("prepare");
+            ConfigurableListableBeanFactory beanFactory = prepared.getApplicationContext().getBeanFactory();
+            if (!beanFactory.containsSingleton(BEAN_NAME)) {
+                beanFactory.registerSingleton(BEAN_NAME, this);
+            }
+        } else if (event instanceof ApplicationStartedEvent) {
+            endPhase("refresh");
+        } else if (event instanceof ApplicationReadyEvent ready) {
+            endPhase("runners");
+            report(ready.getApplicationContext());
+        }
+    }
+
+    /**
+     * Adds a step that ran inside one of the phases.
+     */
+    public synchronized void record(String step, Duration duration) {
+        steps.put(step, duration);
+    }
+
+    public synchronized Map<String, Duration> phases() {
+        return new LinkedHashMap<>(phases);
+    }
+
+    public synchronized Map<String, Duration> steps() {
+        return new LinkedHashMap<>(steps);
+    }
+
+    private synchronized void endPhase(String phase) {
+        Instant now = clock.instant();
+        if (phaseStart != null) {
+            phases.put(phase, Duration.between(phaseStart, now));
+        }
+        phaseStart = now;
+    }
+
+    private void report(ConfigurableApplicationContext context) {
+        BuildProperties build = context.getBeanProvider(BuildProperties.class).getIfAvailable();
+        String version = build != null ? build.getVersion() : "unknown";
+        Map<String, Duration> phases = phases();
+        Map<String, Duration> steps = steps();
+
+        log.info("Started version {} in {}ms: {}{}", version,
+                Duration.between(jvmStart, clock.instant()).toMillis(), describe(phases),
+                steps.isEmpty() ? "" : " (" + describe(steps) + ")");
+
+        MeterRegistry registry = context.getBeanProvider(MeterRegistry.class).getIfAvailable();
+        if (registry != null) {
+            register(registry, PHASE_METRIC, "phase", "Time spent in a phase of the last boot", phases, version);
+            register(registry, STEP_METRIC, "step", "Time spent in a step inside the boot phases", steps, version);
+        }
+    }
+
+    private static String describe(Map<String, Duration> timings) {
+        StringJoiner line = new StringJoiner(", ");
+        timings.forEach((name, duration) -> line.add(name + " " + duration.toMillis() + "ms"));
+        return line.toString();
+    }
+
+    private static void register(MeterRegistry registry, String metric, String tag, String description,
+                                 Map<String, Duration> timings, String version) {
+        timings.forEach((name, duration) ->
+                TimeGauge.builder(metric, duration, TimeUnit.MILLISECONDS, Duration::toMillis)
+                        .description(description)
+                        .tag(tag, name)
+                        .tag("version", version)
+                        .register(registry));
+    }
+}
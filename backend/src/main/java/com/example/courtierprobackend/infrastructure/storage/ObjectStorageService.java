@@ -1,9 +1,13 @@
 package com.example.courtierprobackend.infrastructure.storage;
 
 import com.example.courtierprobackend.documents.datalayer.valueobjects.StorageObject;
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Lazy;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 import software.amazon.awssdk.core.sync.RequestBody;
@@ -27,7 +31,6 @@ import java.util.UUID;
  */
 @Service
 @Slf4j
-@RequiredArgsConstructor
 public class ObjectStorageService {
 
     private final S3Client s3Client;
@@ -36,6 +39,21 @@ public class ObjectStorageService {
     @Value("${aws.s3.bucket-name:courtierpro-dev-files}")
     private String bucketName;
 
+    static final String OPERATION_METRIC = "courtierpro.storage.operations";
+
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
+    // Lazy proxies: the clients are built on the first storage call (see AwsConfig)
+    public ObjectStorageService(@Lazy S3Client s3Client, @Lazy S3Presigner s3Presigner) {
+        this.s3Client = s3Client;
+        this.s3Presigner = s3Presigner;
+    }
+
+    @Autowired(required = false)
+    void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
     /**
      * Uploads a file to object storage and returns storage metadata.
      *
@@ -58,7 +76,14 @@ public class ObjectStorageService {
                 .contentType(file.getContentType())
                 .build();
 
-        s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+        Timer.Sample sample = Timer.start(meterRegistry);
+        boolean ok = false;
+        try {
+            s3Client.putObject(putObjectRequest, RequestBody.fromInputStream(file.getInputStream(), file.getSize()));
+            ok = true;
+        } finally {
+            record(sample, "upload", ok);
+        }
 
         log.info("Upload successful. Key: {}", objectKey);
 
@@ -92,6 +117,7 @@ public class ObjectStorageService {
             return null;
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             GetObjectRequest.Builder getObjectRequestBuilder = GetObjectRequest.builder()
                     .bucket(bucketName)
@@ -114,9 +140,12 @@ public class ObjectStorageService {
                     .build();
 
             PresignedGetObjectRequest presignedRequest = s3Presigner.presignGetObject(presignRequest);
-            return presignedRequest.url().toString();
+            String url = presignedRequest.url().toString();
+            record(sample, "presign", true);
+            return url;
 
         } catch (Exception e) {
+            record(sample, "presign", false);
             log.error("Failed to generate presigned URL for key: {}", objectKey, e);
             throw new RuntimeException("Could not generate download URL", e);
         }
@@ -133,6 +162,7 @@ public class ObjectStorageService {
             return;
         }
 
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
             DeleteObjectRequest deleteRequest = DeleteObjectRequest.builder()
                     .bucket(bucketName)
@@ -140,11 +170,21 @@ public class ObjectStorageService {
                     .build();
 
             s3Client.deleteObject(deleteRequest);
+            record(sample, "delete", true);
             log.info("Deleted file from object storage. Key: {}", objectKey);
 
         } catch (Exception e) {
+            record(sample, "delete", false);
             log.error("Failed to delete file from object storage. Key: {}", objectKey, e);
             throw new RuntimeException("Could not delete file from storage", e);
         }
     }
+
+    private void record(Timer.Sample sample, String operation, boolean ok) {
+        sample.stop(Timer.builder(OPERATION_METRIC)
+                .description("Object storage call latency")
+                .tag("operation", operation)
+                .tag("outcome", ok ? "success" : "error")
+                .register(meterRegistry));
+    }
 }
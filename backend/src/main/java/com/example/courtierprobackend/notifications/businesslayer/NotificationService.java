@@ -21,6 +21,11 @@ public interface NotificationService {
 
     List<NotificationResponseDTO> getUserNotifications(String auth0UserId);
 
+    /**
+     * Version stamp of the user's notification list, or {@code null} if there is none yet.
+     */
+    String getNotificationsVersion(String auth0UserId);
+
     NotificationResponseDTO markAsRead(String publicId);
 
     void sendBroadcast(BroadcastRequestDTO request, String adminId);
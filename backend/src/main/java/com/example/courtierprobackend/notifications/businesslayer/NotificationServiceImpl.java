@@ -104,6 +104,13 @@ public class NotificationServiceImpl implements NotificationService {
                 return notificationMapper.toResponseList(notifications);
         }
 
+        @Override
+        public String getNotificationsVersion(String auth0UserId) {
+                return notificationRepository.findVersionByAuth0UserId(auth0UserId)
+                                .map(String::valueOf)
+                                .orElse(null);
+        }
+
         @Override
         @org.springframework.transaction.annotation.Transactional
         public NotificationResponseDTO markAsRead(String publicId) {
@@ -1,6 +1,9 @@
 package com.example.courtierprobackend.notifications.datalayer;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
 import java.util.List;
 import java.util.Optional;
 
@@ -9,4 +12,13 @@ public interface NotificationRepository extends JpaRepository<Notification, Long
     List<Notification> findAllByRecipientIdOrderByCreatedAtDesc(String recipientId);
 
     Optional<Notification> findByPublicId(String publicId);
+
+    /**
+     * Notification version of the user with the given Auth0 id, resolved in one query.
+     * Empty until the user has received a notification.
+     */
+    @Query(value = "SELECT v.version FROM notification_versions v " +
+            "JOIN user_accounts u ON v.recipient_id = CAST(u.id AS VARCHAR(255)) " +
+            "WHERE u.auth0user_id = :auth0UserId", nativeQuery = true)
+    Optional<Long> findVersionByAuth0UserId(@Param("auth0UserId") String auth0UserId);
 }
@@ -0,0 +1,23 @@
+package com.example.courtierprobackend.notifications.datalayer;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Per-recipient counter bumped by a database trigger on every insert, update or
+ * delete in {@code notifications} (V9). Only read, for the notification list ETag.
+ */
+@Entity
+@Table(name = "notification_versions")
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationVersion {
+
+    @Id
+    @Column(name = "recipient_id")
+    private String recipientId;
+
+    @Column(nullable = false)
+    private Long version;
+}
@@ -1,6 +1,8 @@
 package com.example.courtierprobackend.notifications.presentationlayer;
 
+import com.example.courtierprobackend.common.web.ConditionalGet;
 import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -17,13 +19,18 @@ public class NotificationController {
     private final NotificationService notificationService;
 
     @GetMapping
-    public ResponseEntity<List<NotificationResponseDTO>> getUserNotifications(@AuthenticationPrincipal Jwt principal) {
+    public ResponseEntity<List<NotificationResponseDTO>> getUserNotifications(@AuthenticationPrincipal Jwt principal,
+            HttpServletRequest request) {
         // extract user ID from principal "auth0|..." or similar depending on setup
         // In this project, it seems we use the 'sub' claim or similar.
         // Assuming the auth0UserId is the principal.getSubject()
         String auth0UserId = principal.getSubject();
 
-        return ResponseEntity.ok(notificationService.getUserNotifications(auth0UserId));
+        String etag = ConditionalGet.etag(notificationService.getNotificationsVersion(auth0UserId), auth0UserId);
+        if (ConditionalGet.isNotModified(request, etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        return ConditionalGet.ok(etag, notificationService.getUserNotifications(auth0UserId));
     }
 
     @PutMapping("/{publicId}/read")
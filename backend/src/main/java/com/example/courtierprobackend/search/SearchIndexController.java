@@ -0,0 +1,31 @@
+package com.example.courtierprobackend.search;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import java.util.Map;
+
+/**
+ * Admin-only maintenance for the {@code search_documents} read model.
+ */
+@RestController
+@RequestMapping("/api/admin/search-index")
+@PreAuthorize("hasRole('ADMIN')")
+@RequiredArgsConstructor
+public class SearchIndexController {
+
+    private final SearchIndexService searchIndexService;
+
+    /**
+     * Rebuilds the index from the source tables, e.g. after enabling it or after
+     * queued updates were dropped.
+     */
+    @PostMapping("/rebuild")
+    public ResponseEntity<Map<String, Integer>> rebuild() {
+        return ResponseEntity.ok(Map.of("rows", searchIndexService.rebuild()));
+    }
+}
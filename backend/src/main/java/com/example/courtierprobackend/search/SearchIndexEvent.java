@@ -0,0 +1,21 @@
+package com.example.courtierprobackend.search;
+
+import com.example.courtierprobackend.search.dto.SearchResultDTO.SearchResultType;
+
+import java.util.UUID;
+
+/**
+ * Published when a searchable entity is written, so the search index can refresh
+ * the rows derived from it.
+ *
+ * <p>The entities raise it from {@code @DomainEvents}, which Spring Data only fires on
+ * {@code repository.save()}. Changes applied by dirty checking without a save, or by
+ * bulk {@code @Modifying} queries, do not reach the index until
+ * {@link SearchIndexRebuildJob} runs. {@code TransactionRepository.touchLastUpdated}
+ * is one such query but only changes a column the index does not carry.</p>
+ *
+ * @param type     the kind of entity that changed
+ * @param entityId the public ID of the entity
+ */
+public record SearchIndexEvent(SearchResultType type, UUID entityId) {
+}
@@ -0,0 +1,62 @@
+package com.example.courtierprobackend.search;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+
+/**
+ * Applies {@link SearchIndexEvent}s to the search index once the write that produced
+ * them has committed. Updates run on a single background worker so writes never wait
+ * on indexing, and repeated events for an entity that is already queued are coalesced.
+ *
+ * <p>Only registered with {@code app.search.index.enabled}; otherwise {@link SearchService}
+ * never reads the index and saves publish events that nobody listens to.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.index.enabled", havingValue = "true")
+public class SearchIndexListener {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexListener.class);
+
+    private final SearchIndexService searchIndexService;
+    private final Executor searchIndexExecutor;
+    private final Set<SearchIndexEvent> pending = ConcurrentHashMap.newKeySet();
+
+    public SearchIndexListener(SearchIndexService searchIndexService,
+                               @Qualifier("searchIndexExecutor") Executor searchIndexExecutor) {
+        this.searchIndexService = searchIndexService;
+        this.searchIndexExecutor = searchIndexExecutor;
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSearchIndexEvent(SearchIndexEvent event) {
+        if (event.entityId() == null || !pending.add(event)) {
+            return;
+        }
+        try {
+            searchIndexExecutor.execute(() -> apply(event));
+        } catch (RejectedExecutionException e) {
+            pending.remove(event);
+            log.warn("Search index queue full, dropping update for {} {}", event.type(), event.entityId());
+        }
+    }
+
+    private void apply(SearchIndexEvent event) {
+        // Remove first so a write that lands while indexing queues a fresh update
+        pending.remove(event);
+        try {
+            searchIndexService.reindex(event);
+        } catch (Exception e) {
+            log.error("Failed to update search index for {} {}", event.type(), event.entityId(), e);
+        }
+    }
+}
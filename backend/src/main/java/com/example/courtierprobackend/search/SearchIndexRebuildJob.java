@@ -0,0 +1,34 @@
+package com.example.courtierprobackend.search;
+
+import com.example.courtierprobackend.infrastructure.jobs.ScheduledJobRunner;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+
+/**
+ * Rebuilds the {@code search_documents} read model nightly, on one instance of the
+ * cluster at a time through {@link ScheduledJobRunner}.
+ *
+ * <p>Incremental updates only follow repository saves (see {@link SearchIndexEvent}),
+ * and updates dropped from a full queue are lost, so the rebuild bounds how long the
+ * index can drift from the source tables.</p>
+ */
+@Component
+@ConditionalOnProperty(name = "app.search.index.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class SearchIndexRebuildJob {
+
+    static final String JOB_NAME = "search-index-rebuild";
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    private final SearchIndexService searchIndexService;
+    private final ScheduledJobRunner jobRunner;
+
+    @Scheduled(cron = "${app.search.index.rebuild-cron:0 15 4 * * *}")
+    public void rebuild() {
+        jobRunner.runExclusively(JOB_NAME, LEASE, searchIndexService::rebuild);
+    }
+}
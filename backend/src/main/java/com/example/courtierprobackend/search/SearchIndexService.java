@@ -0,0 +1,284 @@
+package com.example.courtierprobackend.search;
+
+import com.example.courtierprobackend.appointments.datalayer.Appointment;
+import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
+import com.example.courtierprobackend.documents.datalayer.Document;
+import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
+import com.example.courtierprobackend.search.datalayer.SearchDocument;
+import com.example.courtierprobackend.search.datalayer.SearchDocumentRepository;
+import com.example.courtierprobackend.search.dto.SearchResultDTO;
+import com.example.courtierprobackend.search.dto.SearchResultDTO.SearchResultType;
+import com.example.courtierprobackend.transactions.datalayer.Property;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.transactions.datalayer.repositories.PropertyRepository;
+import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import com.example.courtierprobackend.user.dataaccesslayer.UserRole;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static com.example.courtierprobackend.search.SearchResultMapper.*;
+
+/**
+ * Maintains the {@code search_documents} read model.
+ *
+ * <p>Visibility mirrors the live search in {@link SearchService}: transactions,
+ * documents and appointments are visible to their broker and client, and a client
+ * is visible to every broker holding a transaction for them. Broker rows also carry
+ * the client's name and email so searching a client finds their files.</p>
+ */
+@Service
+@RequiredArgsConstructor
+public class SearchIndexService {
+
+    private static final Logger log = LoggerFactory.getLogger(SearchIndexService.class);
+
+    private final SearchDocumentRepository searchDocumentRepository;
+    private final TransactionRepository transactionRepository;
+    private final DocumentRepository documentRepository;
+    private final AppointmentRepository appointmentRepository;
+    private final UserAccountRepository userAccountRepository;
+    private final PropertyRepository propertyRepository;
+
+    /**
+     * Refreshes every row derived from the entity named by the event.
+     */
+    @Transactional
+    public void reindex(SearchIndexEvent event) {
+        switch (event.type()) {
+            case TRANSACTION -> reindexTransaction(event.entityId());
+            case DOCUMENT -> reindexDocument(event.entityId());
+            case APPOINTMENT -> reindexAppointment(event.entityId());
+            case USER -> reindexUser(event.entityId());
+            default -> log.debug("Ignoring search index event for type {}", event.type());
+        }
+    }
+
+    /**
+     * Drops and rebuilds the whole index from the source tables.
+     *
+     * @return the number of rows written
+     */
+    @Transactional
+    public int rebuild() {
+        searchDocumentRepository.deleteAllInBatch();
+
+        List<Transaction> transactions = transactionRepository.findAll();
+        Map<UUID, Transaction> transactionsById = transactions.stream()
+                .collect(Collectors.toMap(Transaction::getTransactionId, Function.identity(), (a, b) -> a));
+        Map<UUID, UserAccount> usersById = userAccountRepository.findAll().stream()
+                .collect(Collectors.toMap(UserAccount::getId, Function.identity()));
+        Map<UUID, String> propertyText = new HashMap<>();
+        for (Property p : propertyRepository.findAll()) {
+            propertyText.merge(p.getTransactionId(), searchText(p.getCentrisNumber(), p.getNotes()),
+                    (a, b) -> a + "\n" + b);
+        }
+        Map<UUID, Set<UUID>> brokersByClient = new HashMap<>();
+        for (Transaction t : transactions) {
+            if (t.getClientId() != null && t.getBrokerId() != null) {
+                brokersByClient.computeIfAbsent(t.getClientId(), k -> new HashSet<>()).add(t.getBrokerId());
+            }
+        }
+
+        List<SearchDocument> rows = new ArrayList<>();
+        for (Transaction t : transactions) {
+            rows.addAll(transactionRows(t, usersById.get(t.getClientId()), propertyText.get(t.getTransactionId())));
+        }
+        for (Document d : documentRepository.findAll()) {
+            Transaction t = transactionsById.get(d.getTransactionRef().getTransactionId());
+            rows.addAll(documentRows(d, t, usersById.get(d.getTransactionRef().getClientId())));
+        }
+        for (Appointment a : appointmentRepository.findAll()) {
+            rows.addAll(appointmentRows(a));
+        }
+        for (UserAccount u : usersById.values()) {
+            rows.addAll(userRows(u, brokersByClient.getOrDefault(u.getId(), Set.of())));
+        }
+
+        searchDocumentRepository.saveAll(rows);
+        log.info("Rebuilt search index with {} rows", rows.size());
+        return rows.size();
+    }
+
+    // ========== Incremental updates ==========
+
+    /**
+     * A transaction change can alter its own rows, the address shown on its documents
+     * and which brokers can see its client.
+     */
+    private void reindexTransaction(UUID transactionId) {
+        Transaction t = transactionRepository.findByTransactionId(transactionId).orElse(null);
+        UserAccount client = t != null ? findUser(t.getClientId()) : null;
+
+        replace(SearchResultType.TRANSACTION, transactionId,
+                t != null ? transactionRows(t, client, propertyTextOf(transactionId)) : List.of());
+        for (Document d : documentRepository.findByTransactionRef_TransactionId(transactionId)) {
+            replace(SearchResultType.DOCUMENT, d.getDocumentId(),
+                    documentRows(d, t, findUser(d.getTransactionRef().getClientId())));
+        }
+        if (client != null) {
+            replaceUserRows(client);
+        }
+    }
+
+    private void reindexDocument(UUID documentId) {
+        Document d = documentRepository.findByDocumentId(documentId).orElse(null);
+        if (d == null) {
+            replace(SearchResultType.DOCUMENT, documentId, List.of());
+            return;
+        }
+        Transaction t = transactionRepository.findByTransactionId(d.getTransactionRef().getTransactionId()).orElse(null);
+        replace(SearchResultType.DOCUMENT, documentId,
+                documentRows(d, t, findUser(d.getTransactionRef().getClientId())));
+    }
+
+    private void reindexAppointment(UUID appointmentId) {
+        replace(SearchResultType.APPOINTMENT, appointmentId, appointmentRepository.findByAppointmentId(appointmentId)
+                .map(this::appointmentRows)
+                .orElse(List.of()));
+    }
+
+    /**
+     * A user change can alter their own rows and the client text carried by the
+     * broker rows of their transactions and documents.
+     */
+    private void reindexUser(UUID userId) {
+        UserAccount user = findUser(userId);
+        if (user == null) {
+            replace(SearchResultType.USER, userId, List.of());
+            return;
+        }
+        replaceUserRows(user);
+
+        List<Transaction> transactions = transactionRepository.findAllByClientId(userId);
+        Map<UUID, Transaction> transactionsById = new HashMap<>();
+        for (Transaction t : transactions) {
+            transactionsById.put(t.getTransactionId(), t);
+            replace(SearchResultType.TRANSACTION, t.getTransactionId(),
+                    transactionRows(t, user, propertyTextOf(t.getTransactionId())));
+        }
+        for (Document d : documentRepository.findByTransactionRefClientIdIn(List.of(userId))) {
+            Transaction t = transactionsById.get(d.getTransactionRef().getTransactionId());
+            replace(SearchResultType.DOCUMENT, d.getDocumentId(), documentRows(d, t, user));
+        }
+    }
+
+    private void replaceUserRows(UserAccount user) {
+        Set<UUID> brokerIds = transactionRepository.findAllByClientId(user.getId()).stream()
+                .map(Transaction::getBrokerId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        replace(SearchResultType.USER, user.getId(), userRows(user, brokerIds));
+    }
+
+    private void replace(SearchResultType type, UUID entityId, List<SearchDocument> rows) {
+        if (entityId == null) {
+            return;
+        }
+        searchDocumentRepository.deleteByEntity(type, entityId);
+        if (!rows.isEmpty()) {
+            searchDocumentRepository.saveAll(rows);
+        }
+    }
+
+    private UserAccount findUser(UUID userId) {
+        return userId != null ? userAccountRepository.findById(userId).orElse(null) : null;
+    }
+
+    private String propertyTextOf(UUID transactionId) {
+        List<Object[]> rows = propertyRepository.findSearchTextByTransactionIdIn(List.of(transactionId));
+        if (rows.isEmpty()) {
+            return null;
+        }
+        return rows.stream()
+                .map(row -> searchText((String) row[1], (String) row[2]))
+                .collect(Collectors.joining("\n"));
+    }
+
+    // ========== Row builders ==========
+
+    List<SearchDocument> transactionRows(Transaction t, UserAccount client, String propertyText) {
+        SearchResultDTO result = mapTransaction(t);
+        String ownText = searchText(transactionText(t), propertyText, t.getTransactionId().toString());
+
+        List<SearchDocument> rows = new ArrayList<>();
+        addRow(rows, t.getBrokerId(), result, searchText(ownText, clientText(client)));
+        addRow(rows, t.getClientId(), result, ownText);
+        return rows;
+    }
+
+    List<SearchDocument> documentRows(Document d, Transaction t, UserAccount client) {
+        SearchResultDTO result = mapDocument(d, streetOf(t));
+        String ownText = searchText(
+                d.getCustomTitle(),
+                d.getDocType() != null ? d.getDocType().name() : null,
+                d.getBrokerNotes(),
+                d.getDocumentId().toString());
+
+        List<SearchDocument> rows = new ArrayList<>();
+        if (t != null) {
+            addRow(rows, t.getBrokerId(), result, searchText(ownText, clientText(client)));
+        }
+        addRow(rows, d.getTransactionRef().getClientId(), result, ownText);
+        return rows;
+    }
+
+    List<SearchDocument> appointmentRows(Appointment a) {
+        SearchResultDTO result = mapAppointment(a);
+        String ownText = searchText(a.getTitle(), a.getNotes(), a.getLocation(), a.getAppointmentId().toString());
+
+        List<SearchDocument> rows = new ArrayList<>();
+        addRow(rows, a.getBrokerId(), result, ownText);
+        addRow(rows, a.getClientId(), result, ownText);
+        return rows;
+    }
+
+    /**
+     * Clients are visible to their brokers; brokers can also find themselves by name.
+     */
+    List<SearchDocument> userRows(UserAccount u, Collection<UUID> brokerIds) {
+        SearchResultDTO result = mapUser(u);
+        List<SearchDocument> rows = new ArrayList<>();
+        for (UUID brokerId : brokerIds) {
+            addRow(rows, brokerId, result, clientText(u));
+        }
+        if (u.getRole() == UserRole.BROKER) {
+            addRow(rows, u.getId(), result, searchText(fullName(u)));
+        }
+        return rows;
+    }
+
+    private static void addRow(List<SearchDocument> rows, UUID ownerId, SearchResultDTO result, String text) {
+        if (ownerId == null || rows.stream().anyMatch(r -> r.getOwnerId().equals(ownerId))) {
+            return;
+        }
+        rows.add(SearchDocument.builder()
+                .ownerId(ownerId)
+                .entityType(result.getType())
+                .entityId(UUID.fromString(result.getId()))
+                .title(result.getTitle())
+                .subtitle(result.getSubtitle())
+                .url(result.getUrl())
+                .searchText(text)
+                .updatedAt(LocalDateTime.now())
+                .build());
+    }
+
+    private static String clientText(UserAccount client) {
+        return client != null ? searchText(client.getFirstName(), client.getLastName(), client.getEmail()) : null;
+    }
+
+    private static String fullName(UserAccount u) {
+        return ((u.getFirstName() != null ? u.getFirstName() : "") +
+                (u.getLastName() != null ? " " + u.getLastName() : "")).trim();
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.courtierprobackend.search;
+
+import com.example.courtierprobackend.appointments.datalayer.Appointment;
+import com.example.courtierprobackend.documents.datalayer.Document;
+import com.example.courtierprobackend.search.dto.SearchResultDTO;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+
+import java.time.format.DateTimeFormatter;
+import java.util.Locale;
+import java.util.StringJoiner;
+
+/**
+ * Maps searchable entities to {@link SearchResultDTO}s. Shared by the live search
+ * and the search index so both produce identical results.
+ */
+public class SearchResultMapper {
+
+    private SearchResultMapper() {
+    }
+
+    /**
+     * Lower-cases and joins the searched fields with a separator so a query never
+     * matches across two fields.
+     */
+    public static String searchText(String... fields) {
+        StringJoiner joiner = new StringJoiner("\n");
+        for (String field : fields) {
+            if (field != null && !field.isEmpty()) {
+                joiner.add(field.toLowerCase(Locale.ROOT));
+            }
+        }
+        return joiner.toString();
+    }
+
+    /**
+     * The transaction fields matched by {@code TransactionRepository.searchTransactions},
+     * excluding the attached properties.
+     */
+    public static String transactionText(Transaction t) {
+        if (t.getPropertyAddress() == null) {
+            return searchText(t.getNotes(), t.getCentrisNumber());
+        }
+        return searchText(t.getPropertyAddress().getStreet(), t.getPropertyAddress().getCity(),
+                t.getPropertyAddress().getPostalCode(), t.getNotes(), t.getCentrisNumber());
+    }
+
+    public static String streetOf(Transaction t) {
+        return (t != null && t.getPropertyAddress() != null && t.getPropertyAddress().getStreet() != null)
+                ? t.getPropertyAddress().getStreet()
+                : "Unknown Address";
+    }
+
+    public static SearchResultDTO mapTransaction(Transaction t) {
+        String street = "Unknown Address";
+        String city = "";
+        String province = "";
+        
+        if (t.getPropertyAddress() != null) {
+            street = t.getPropertyAddress().getStreet() != null ? t.getPropertyAddress().getStreet() : "Unknown Address";
+            city = t.getPropertyAddress().getCity() != null ? t.getPropertyAddress().getCity() : "";
+            province = t.getPropertyAddress().getProvince() != null ? t.getPropertyAddress().getProvince() : "";
+        }
+
+        String subtitle = city;
+        if (!city.isEmpty() && !province.isEmpty()) {
+            subtitle += ", " + province;
+        } else if (city.isEmpty()) {
+            subtitle = province;
+        }
+
+        return SearchResultDTO.builder()
+                .id(t.getTransactionId().toString())
+                .type(SearchResultDTO.SearchResultType.TRANSACTION)
+                .title(street)
+                .subtitle(subtitle)
+                .url("/transactions/" + t.getTransactionId())
+                .build();
+    }
+
+    public static SearchResultDTO mapDocument(Document d, String address) {
+        return SearchResultDTO.builder()
+                .id(d.getDocumentId().toString())
+                .type(SearchResultDTO.SearchResultType.DOCUMENT)
+                .title(d.getCustomTitle() != null ? d.getCustomTitle() : d.getDocType().name())
+                .subtitle(address)
+                .url("/transactions/" + d.getTransactionRef().getTransactionId() + "?tab=documents&focus=" + d.getDocumentId())
+                .build();
+    }
+
+    public static SearchResultDTO mapUser(UserAccount u) {
+        String firstName = u.getFirstName() != null ? u.getFirstName() : "";
+        String lastName = u.getLastName() != null ? u.getLastName() : "";
+        String title = (firstName + " " + lastName).trim();
+        if (title.isEmpty()) {
+            title = "Unknown User";
+        }
+        return SearchResultDTO.builder()
+                .id(u.getId().toString())
+                .type(SearchResultDTO.SearchResultType.USER)
+                .title(title)
+                .subtitle(u.getEmail())
+                .url("/contacts/" + u.getId())
+                .build();
+    }
+
+    public static SearchResultDTO mapAppointment(Appointment a) {
+        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM d, h:mm a", Locale.getDefault());
+        String subtitle = a.getFromDateTime().format(formatter);
+        if (a.getLocation() != null && !a.getLocation().isEmpty()) {
+            subtitle += " • " + a.getLocation();
+        }
+
+        return SearchResultDTO.builder()
+                .id(a.getAppointmentId().toString())
+                .type(SearchResultDTO.SearchResultType.APPOINTMENT)
+                .title(a.getTitle())
+                .subtitle(subtitle)
+                .url("/appointments?focus=" + a.getAppointmentId())
+                .build();
+    }
+}
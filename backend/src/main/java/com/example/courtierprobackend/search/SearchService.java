@@ -4,105 +4,257 @@ import com.example.courtierprobackend.appointments.datalayer.Appointment;
 import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
 import com.example.courtierprobackend.documents.datalayer.Document;
 import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
+import com.example.courtierprobackend.infrastructure.datasource.ReadRouting;
+import com.example.courtierprobackend.search.datalayer.SearchDocument;
+import com.example.courtierprobackend.search.datalayer.SearchDocumentRepository;
 import com.example.courtierprobackend.search.dto.SearchResultDTO;
 import com.example.courtierprobackend.security.UserContextUtils;
 import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.transactions.datalayer.repositories.PropertyRepository;
 import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
 import jakarta.servlet.http.HttpServletRequest;
-import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 
-import java.time.format.DateTimeFormatter;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+import static com.example.courtierprobackend.search.SearchResultMapper.*;
+
 @Service
-@RequiredArgsConstructor
 public class SearchService {
 
+    private static final Logger log = LoggerFactory.getLogger(SearchService.class);
+
+    /** Maximum number of results returned per result type. */
+    static final int PER_TYPE_LIMIT = 10;
+
+    /** Time budget for the whole fan-out; branches that are still running are dropped. */
+    static final long SEARCH_BUDGET_MS = 1500;
+
+    /** How long a user's last complete result set may be narrowed for longer queries. */
+    static final long PREFIX_CACHE_TTL_MS = 30_000;
+
+    private static final int PREFIX_CACHE_MAX_USERS = 5_000;
+
+    private static final Sort USERS_BY_NAME = Sort.by("lastName", "firstName");
+    private static final Sort RECENT_TRANSACTIONS = Sort.by(Sort.Direction.DESC, "lastUpdated");
+    private static final Sort RECENT_DOCUMENTS = Sort.by(Sort.Direction.DESC, "lastUpdatedAt");
+    private static final Sort LATEST_APPOINTMENTS = Sort.by(Sort.Direction.DESC, "fromDateTime");
+
     private final TransactionRepository transactionRepository;
     private final DocumentRepository documentRepository;
     private final UserAccountRepository userAccountRepository;
     private final AppointmentRepository appointmentRepository;
+    private final PropertyRepository propertyRepository;
+    private final SearchDocumentRepository searchDocumentRepository;
     private final HttpServletRequest request;
+    private final Executor searchExecutor;
+    private final boolean indexEnabled;
+
+    // Last complete result set per user, reused while the user keeps typing
+    private final Map<UUID, CachedSearch> prefixCache = new ConcurrentHashMap<>();
+
+    public SearchService(TransactionRepository transactionRepository,
+                         DocumentRepository documentRepository,
+                         UserAccountRepository userAccountRepository,
+                         AppointmentRepository appointmentRepository,
+                         PropertyRepository propertyRepository,
+                         SearchDocumentRepository searchDocumentRepository,
+                         HttpServletRequest request,
+                         @Qualifier("searchExecutor") Executor searchExecutor,
+                         @Value("${app.search.index.enabled:false}") boolean indexEnabled) {
+        this.transactionRepository = transactionRepository;
+        this.documentRepository = documentRepository;
+        this.userAccountRepository = userAccountRepository;
+        this.appointmentRepository = appointmentRepository;
+        this.propertyRepository = propertyRepository;
+        this.searchDocumentRepository = searchDocumentRepository;
+        this.request = request;
+        // Every branch is a pure read: let them go to a read replica when replicas are enabled
+        this.searchExecutor = ReadRouting.readOnly(searchExecutor);
+        this.indexEnabled = indexEnabled;
+    }
 
     /**
-     * Main search entry point. Orchestrates searches across transactions, documents, and users.
+     * Main search entry point. Runs the user, transaction, document and appointment
+     * searches concurrently, each capped at {@link #PER_TYPE_LIMIT} results, and merges
+     * them by relevance.
+     *
+     * <p>When the previous query of the same user returned every match (no branch was
+     * truncated) and the new query extends it, the previous results are narrowed in
+     * memory instead of hitting the database again.</p>
+     *
+     * <p>With {@code app.search.index.enabled}, the search is answered by a single lookup
+     * on the {@code search_documents} read model instead (see {@link SearchIndexService}).</p>
      */
     public List<SearchResultDTO> search(String query) {
         if (query == null || query.trim().length() < 2) {
             return List.of();
         }
 
+        // Request attributes must be read on the request thread
         UUID userId = UserContextUtils.resolveUserId(request);
-        Set<SearchResultDTO> results = new LinkedHashSet<>();
+        boolean isBroker = UserContextUtils.isBroker(request);
+        String needle = query.toLowerCase(Locale.ROOT);
+        UUID potentialId = parseUuid(query);
 
-        // 1. Direct ID search (if query is UUID)
-        searchById(query, userId, results);
+        if (indexEnabled) {
+            return rank(searchIndex(userId, needle, potentialId), needle);
+        }
 
-        // 2. Search users (only if broker)
-        List<UserAccount> matchedUsers = new ArrayList<>();
-        if (UserContextUtils.isBroker(request)) {
-            matchedUsers = new ArrayList<>(userAccountRepository.searchClientsOfBroker(userId, query));
-            // If current user matches query and not already in matchedUsers, add them
-            Optional<UserAccount> currentUserOpt = userAccountRepository.findById(userId);
-            if (currentUserOpt.isPresent()) {
-                UserAccount currentUser = currentUserOpt.get();
-                String fullName = (currentUser.getFirstName() != null ? currentUser.getFirstName() : "") +
-                        (currentUser.getLastName() != null ? " " + currentUser.getLastName() : "");
-                if (fullName.trim().toLowerCase().contains(query.trim().toLowerCase()) &&
-                    matchedUsers.stream().noneMatch(u -> u.getId().equals(userId))) {
-                    matchedUsers.add(currentUser);
-                }
+        boolean cacheable = potentialId == null && isCacheable(query);
+
+        if (cacheable) {
+            List<SearchHit> narrowed = narrowFromCache(userId, isBroker, needle);
+            if (narrowed != null) {
+                return rank(narrowed, needle);
             }
-            // Always add mapped users to results, even if empty
-            results.addAll(matchedUsers.stream().map(this::mapUser).toList());
         }
 
-        // 3. Search transactions (ensure linked transactions are included even if text search is empty)
-        List<UUID> matchedUserIds = matchedUsers.stream().map(UserAccount::getId).toList();
-        // Always call searchTransactions, even if matchedUserIds is empty
-        searchTransactions(userId, query, matchedUserIds, results);
+        SearchOutcome outcome = fanOut(userId, isBroker, query, potentialId);
+        if (cacheable && outcome.complete()) {
+            cacheResults(userId, new CachedSearch(needle, isBroker, outcome.hits(), System.currentTimeMillis()));
+        }
+        return rank(outcome.hits(), needle);
+    }
+
+    // ========== Read model ==========
+
+    private List<SearchHit> searchIndex(UUID userId, String needle, UUID potentialId) {
+        return ReadRouting.readOnly(() -> searchDocumentRepository.searchForOwner(userId, needle, PER_TYPE_LIMIT))
+                .stream()
+                .map(doc -> new SearchHit(toResult(doc), doc.getSearchText(), doc.getEntityId().equals(potentialId)))
+                .collect(Collectors.toList());
+    }
+
+    private static SearchResultDTO toResult(SearchDocument doc) {
+        return SearchResultDTO.builder()
+                .id(doc.getEntityId().toString())
+                .type(doc.getEntityType())
+                .title(doc.getTitle())
+                .subtitle(doc.getSubtitle())
+                .url(doc.getUrl())
+                .build();
+    }
+
+    // ========== Fan-out ==========
+
+    private SearchOutcome fanOut(UUID userId, boolean isBroker, String query, UUID potentialId) {
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(SEARCH_BUDGET_MS);
+
+        // 1. Direct ID search (if query is UUID)
+        CompletableFuture<BranchResult> idBranch = potentialId == null
+                ? CompletableFuture.completedFuture(BranchResult.EMPTY)
+                : async(() -> new BranchResult(searchById(potentialId, userId), true));
+
+        // 2. Search users (only if broker); transactions and documents linked to them are
+        // looked up as soon as the matched users are known
+        CompletableFuture<UserMatches> userMatches = isBroker
+                ? async(() -> searchUsers(userId, query))
+                : CompletableFuture.completedFuture(UserMatches.NONE);
+        CompletableFuture<BranchResult> userBranch = userMatches.thenApply(this::buildUserHits);
+
+        // 3. Search transactions (text search and linked-user search run concurrently)
+        CompletableFuture<List<Transaction>> txText = async(() ->
+                transactionRepository.searchTransactions(userId, query, page(RECENT_TRANSACTIONS)));
+        CompletableFuture<List<Transaction>> txLinked = userMatches.thenApplyAsync(users -> users.isEmpty()
+                ? List.<Transaction>of()
+                : transactionRepository.findLinkedToUsers(users.ids(), userId, page(RECENT_TRANSACTIONS)),
+                searchExecutor);
+        // userMatches is always complete once the linked search is
+        CompletableFuture<BranchResult> txBranch = txText.thenCombineAsync(txLinked,
+                (text, linked) -> buildTransactionHits(text, linked, userMatches.join()), searchExecutor);
 
         // 4. Search documents
-        searchDocuments(userId, query, matchedUserIds, results);
+        CompletableFuture<List<Document>> docText = async(() ->
+                documentRepository.searchDocuments(userId, query, page(RECENT_DOCUMENTS)));
+        CompletableFuture<List<Document>> docLinked = userMatches.thenApplyAsync(users -> users.isEmpty()
+                ? List.<Document>of()
+                : documentRepository.findLinkedToUsers(users.ids(), userId, page(RECENT_DOCUMENTS)),
+                searchExecutor);
+        CompletableFuture<BranchResult> docBranch = docText.thenCombineAsync(docLinked,
+                (text, linked) -> buildDocumentHits(text, linked, userMatches.join()), searchExecutor);
 
         // 5. Search appointments
-        searchAppointments(userId, query, results);
+        CompletableFuture<BranchResult> appointmentBranch = async(() -> buildAppointmentHits(
+                appointmentRepository.searchAppointments(userId, query, page(LATEST_APPOINTMENTS))));
+
+        List<SearchHit> hits = new ArrayList<>();
+        boolean complete = true;
+        for (CompletableFuture<BranchResult> branch : List.of(idBranch, userBranch, txBranch, docBranch, appointmentBranch)) {
+            BranchResult result = awaitBranch(branch, deadline);
+            hits.addAll(result.hits());
+            complete &= result.complete();
+        }
+        return new SearchOutcome(hits, complete);
+    }
 
-        return new ArrayList<>(results);
+    private <T> CompletableFuture<T> async(Supplier<T> supplier) {
+        return CompletableFuture.supplyAsync(supplier, searchExecutor);
     }
-    
+
+    /**
+     * Fetches one row more than the per-type limit so truncation can be detected.
+     */
+    private static Pageable page(Sort sort) {
+        return PageRequest.of(0, PER_TYPE_LIMIT + 1, sort);
+    }
+
+    private BranchResult awaitBranch(CompletableFuture<BranchResult> branch, long deadline) {
+        try {
+            long remaining = Math.max(0, deadline - System.nanoTime());
+            return branch.get(remaining, TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            branch.cancel(true);
+            log.warn("Search branch exceeded the {} ms budget; returning partial results", SEARCH_BUDGET_MS);
+            return BranchResult.TIMED_OUT;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return BranchResult.TIMED_OUT;
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Search failed", e.getCause());
+        }
+    }
+
     /**
      * Attempts to interpret the free-text query as a UUID and, if successful,
      * searches for matching transactions and documents that are visible to the
-     * given user. Any matches are added to the provided result set.
+     * given user.
      *
-     * @param query   the original search query string
-     * @param userId  the ID of the currently authenticated user
-     * @param results the collection to which matching search results are added
+     * @param potentialId the query parsed as a UUID
+     * @param userId      the ID of the currently authenticated user
+     * @return the matching results, ranked ahead of text matches
      */
-    private void searchById(String query, UUID userId, Set<SearchResultDTO> results) {
-        try {
-            UUID potentialId = UUID.fromString(query);
-            searchTransactionById(potentialId, userId, results);
-            searchDocumentById(potentialId, userId, results);
-        } catch (IllegalArgumentException e) {
-            // Not a UUID, skip
-        }
+    private List<SearchHit> searchById(UUID potentialId, UUID userId) {
+        List<SearchHit> hits = new ArrayList<>();
+        searchTransactionById(potentialId, userId, hits);
+        searchDocumentById(potentialId, userId, hits);
+        return hits;
     }
 
-    private void searchTransactionById(UUID transactionId, UUID userId, Set<SearchResultDTO> results) {
+    private void searchTransactionById(UUID transactionId, UUID userId, List<SearchHit> hits) {
         transactionRepository.findByTransactionId(transactionId).ifPresent(t -> {
             if (t.getBrokerId().equals(userId) || t.getClientId().equals(userId)) {
-                results.add(mapTransaction(t));
+                hits.add(SearchHit.byId(mapTransaction(t)));
             }
         });
     }
 
-    private void searchDocumentById(UUID documentId, UUID userId, Set<SearchResultDTO> results) {
+    private void searchDocumentById(UUID documentId, UUID userId, List<SearchHit> hits) {
         documentRepository.findByDocumentId(documentId).ifPresent(d -> {
             boolean isClient = d.getTransactionRef().getClientId().equals(userId);
             
@@ -113,91 +265,105 @@ public class SearchService {
             boolean isBroker = (t != null && t.getBrokerId().equals(userId));
 
             if (isClient || isBroker) {
-                String address = (t != null && t.getPropertyAddress() != null) 
-                        ? t.getPropertyAddress().getStreet() 
-                        : "Unknown Address";
-                results.add(mapDocument(d, address));
+                hits.add(SearchHit.byId(mapDocument(d, streetOf(t))));
             }
         });
     }
 
     /**
-     * Searches users (clients of broker + self) and adds to results.
-     * Returns list of matched user IDs for related searches.
+     * Searches clients of the broker, plus the broker themselves when their name matches.
      */
-    private List<UUID> searchUsers(UUID userId, String query, Set<SearchResultDTO> results) {
-        // Only brokers can search for clients
-        List<UserAccount> matchedUsers = new ArrayList<>(userAccountRepository.searchClientsOfBroker(userId, query));
-
-        // Add users to results
-        results.addAll(matchedUsers.stream()
-            .map(this::mapUser)
-            .collect(Collectors.toList()));
-
-        return matchedUsers.stream()
-            .map(UserAccount::getId)
-            .collect(Collectors.toList());
-    }
-
-    /**
-     * Searches transactions using efficient set-based deduplication before mapping.
-     */
-    private void searchTransactions(UUID userId, String query, List<UUID> matchedUserIds, Set<SearchResultDTO> results) {
-        // Use a map to deduplicate by ID efficiently before mapping
-        Map<UUID, Transaction> uniqueTransactions = new HashMap<>();
-
-        // 1. Text search
-        transactionRepository.searchTransactions(userId, query)
-                .forEach(t -> uniqueTransactions.put(t.getTransactionId(), t));
-
-        // 2. Linked user search
-        if (!matchedUserIds.isEmpty()) {
-            transactionRepository.findLinkedToUsers(matchedUserIds, userId)
-                    .forEach(t -> uniqueTransactions.putIfAbsent(t.getTransactionId(), t));
+    private UserMatches searchUsers(UUID userId, String query) {
+        List<UserAccount> clients = userAccountRepository.searchClientsOfBroker(userId, query, page(USERS_BY_NAME));
+        Map<UUID, String> matchText = new LinkedHashMap<>();
+        List<UserAccount> matchedUsers = new ArrayList<>();
+        for (UserAccount client : clients) {
+            matchedUsers.add(client);
+            matchText.put(client.getId(), searchText(client.getFirstName(), client.getLastName(), client.getEmail()));
         }
 
-        results.addAll(uniqueTransactions.values().stream()
-                .map(this::mapTransaction)
-                .collect(Collectors.toList()));
+        // If current user matches query and not already in matchedUsers, add them
+        userAccountRepository.findById(userId).ifPresent(currentUser -> {
+            String fullName = ((currentUser.getFirstName() != null ? currentUser.getFirstName() : "") +
+                    (currentUser.getLastName() != null ? " " + currentUser.getLastName() : "")).trim();
+            if (fullName.toLowerCase(Locale.ROOT).contains(query.trim().toLowerCase(Locale.ROOT)) &&
+                    !matchText.containsKey(userId)) {
+                matchedUsers.add(currentUser);
+                matchText.put(userId, searchText(fullName));
+            }
+        });
+
+        return new UserMatches(matchedUsers, matchText, clients.size() <= PER_TYPE_LIMIT);
+    }
+
+    private BranchResult buildUserHits(UserMatches users) {
+        List<SearchHit> hits = users.users().stream()
+                .map(u -> new SearchHit(mapUser(u), users.textFor(u.getId())))
+                .collect(Collectors.toList());
+        return new BranchResult(hits, users.complete());
     }
 
     /**
-     * Searches documents using efficient set-based deduplication before mapping.
+     * Merges text and linked-user matches, deduplicating by ID before mapping.
      */
-    private void searchDocuments(UUID userId, String query, List<UUID> matchedUserIds, Set<SearchResultDTO> results) {
-        Map<UUID, Document> uniqueDocuments = new HashMap<>();
+    private BranchResult buildTransactionHits(List<Transaction> textMatches, List<Transaction> linkedMatches,
+                                              UserMatches users) {
+        Map<UUID, Transaction> uniqueTransactions = new LinkedHashMap<>();
+        textMatches.forEach(t -> uniqueTransactions.put(t.getTransactionId(), t));
+        linkedMatches.forEach(t -> uniqueTransactions.putIfAbsent(t.getTransactionId(), t));
+
+        boolean complete = textMatches.size() <= PER_TYPE_LIMIT && linkedMatches.size() <= PER_TYPE_LIMIT;
+
+        // Property text is only needed to narrow a complete result set later on
+        Map<UUID, String> propertyText = complete
+                ? fetchPropertyText(uniqueTransactions.keySet())
+                : Map.of();
+
+        List<SearchHit> hits = uniqueTransactions.values().stream()
+                .map(t -> new SearchHit(mapTransaction(t), searchText(
+                        transactionText(t),
+                        propertyText.get(t.getTransactionId()),
+                        users.textFor(t.getClientId()),
+                        users.textFor(t.getBrokerId()))))
+                .collect(Collectors.toList());
+        return new BranchResult(hits, complete);
+    }
 
-        // 1. Text search
-        documentRepository.searchDocuments(userId, query)
-                .forEach(d -> uniqueDocuments.put(d.getDocumentId(), d));
+    private BranchResult buildDocumentHits(List<Document> textMatches, List<Document> linkedMatches,
+                                           UserMatches users) {
+        Map<UUID, Document> uniqueDocuments = new LinkedHashMap<>();
+        textMatches.forEach(d -> uniqueDocuments.put(d.getDocumentId(), d));
+        linkedMatches.forEach(d -> uniqueDocuments.putIfAbsent(d.getDocumentId(), d));
 
-        // 2. Linked user search
-        if (!matchedUserIds.isEmpty()) {
-            documentRepository.findLinkedToUsers(matchedUserIds, userId)
-                    .forEach(d -> uniqueDocuments.putIfAbsent(d.getDocumentId(), d));
-        }
-        
         List<Document> documents = new ArrayList<>(uniqueDocuments.values());
 
         // Batch-fetch transactions for subtitles
         Map<UUID, Transaction> transactionMap = fetchTransactionMap(documents);
 
-        results.addAll(documents.stream()
+        List<SearchHit> hits = documents.stream()
                 .map(d -> {
                     Transaction t = transactionMap.get(d.getTransactionRef().getTransactionId());
-                    String address = (t != null && t.getPropertyAddress() != null)
-                            ? t.getPropertyAddress().getStreet()
-                            : "Unknown Address";
-                    return mapDocument(d, address);
+                    return new SearchHit(mapDocument(d, streetOf(t)), searchText(
+                            d.getCustomTitle(),
+                            d.getDocType() != null ? d.getDocType().name() : null,
+                            d.getBrokerNotes(),
+                            users.textFor(d.getTransactionRef().getClientId()),
+                            t != null ? users.textFor(t.getBrokerId()) : null));
                 })
-                .collect(Collectors.toList()));
+                .collect(Collectors.toList());
+        return new BranchResult(hits,
+                textMatches.size() <= PER_TYPE_LIMIT && linkedMatches.size() <= PER_TYPE_LIMIT);
     }
 
-    private void searchAppointments(UUID userId, String query, Set<SearchResultDTO> results) {
-        appointmentRepository.searchAppointments(userId, query)
-                .stream()
-                .map(this::mapAppointment)
-                .forEach(results::add);
+    private BranchResult buildAppointmentHits(List<Appointment> appointments) {
+        List<SearchHit> hits = appointments.stream()
+                .map(a -> new SearchHit(mapAppointment(a), searchText(
+                        a.getTitle(),
+                        a.getNotes(),
+                        a.getLocation(),
+                        a.getAppointmentId().toString())))
+                .collect(Collectors.toList());
+        return new BranchResult(hits, appointments.size() <= PER_TYPE_LIMIT);
     }
 
     private Map<UUID, Transaction> fetchTransactionMap(List<Document> documents) {
@@ -214,74 +380,159 @@ public class SearchService {
                 .collect(Collectors.toMap(Transaction::getTransactionId, t -> t));
     }
 
-    // ========== Mappers ==========
-
-    private SearchResultDTO mapTransaction(Transaction t) {
-        String street = "Unknown Address";
-        String city = "";
-        String province = "";
-        
-        if (t.getPropertyAddress() != null) {
-            street = t.getPropertyAddress().getStreet() != null ? t.getPropertyAddress().getStreet() : "Unknown Address";
-            city = t.getPropertyAddress().getCity() != null ? t.getPropertyAddress().getCity() : "";
-            province = t.getPropertyAddress().getProvince() != null ? t.getPropertyAddress().getProvince() : "";
+    private Map<UUID, String> fetchPropertyText(Collection<UUID> transactionIds) {
+        if (transactionIds.isEmpty()) {
+            return Map.of();
+        }
+        Map<UUID, String> propertyText = new HashMap<>();
+        for (Object[] row : propertyRepository.findSearchTextByTransactionIdIn(transactionIds)) {
+            propertyText.merge((UUID) row[0], searchText((String) row[1], (String) row[2]), (a, b) -> a + "\n" + b);
         }
+        return propertyText;
+    }
+
+    // ========== Ranking & prefix cache ==========
 
-        String subtitle = city;
-        if (!city.isEmpty() && !province.isEmpty()) {
-            subtitle += ", " + province;
-        } else if (city.isEmpty()) {
-            subtitle = province;
+    /**
+     * Orders hits by relevance (ID matches first, then exact, prefix, word-prefix and
+     * substring title matches, then subtitle matches), deduplicates them and caps each
+     * type at {@link #PER_TYPE_LIMIT}. Ties keep the user, transaction, document,
+     * appointment order.
+     */
+    private List<SearchResultDTO> rank(List<SearchHit> hits, String needle) {
+        List<SearchHit> ordered = new ArrayList<>(hits);
+        ordered.sort(Comparator.comparingInt((SearchHit hit) -> relevance(hit, needle)));
+
+        Set<String> seen = new HashSet<>();
+        Map<SearchResultDTO.SearchResultType, Integer> perType = new EnumMap<>(SearchResultDTO.SearchResultType.class);
+        List<SearchResultDTO> results = new ArrayList<>();
+        for (SearchHit hit : ordered) {
+            SearchResultDTO result = hit.result();
+            if (!seen.add(result.getType() + ":" + result.getId())) {
+                continue;
+            }
+            int count = perType.merge(result.getType(), 1, Integer::sum);
+            if (count <= PER_TYPE_LIMIT) {
+                results.add(result);
+            }
         }
+        return results;
+    }
 
-        return SearchResultDTO.builder()
-                .id(t.getTransactionId().toString())
-                .type(SearchResultDTO.SearchResultType.TRANSACTION)
-                .title(street)
-                .subtitle(subtitle)
-                .url("/transactions/" + t.getTransactionId())
-                .build();
+    private static int relevance(SearchHit hit, String needle) {
+        if (hit.pinned()) {
+            return 0;
+        }
+        String title = hit.result().getTitle() != null ? hit.result().getTitle().toLowerCase(Locale.ROOT) : "";
+        String trimmed = needle.trim();
+        if (title.equals(trimmed)) {
+            return 1;
+        }
+        if (title.startsWith(trimmed)) {
+            return 2;
+        }
+        if (title.contains(" " + trimmed)) {
+            return 3;
+        }
+        if (title.contains(trimmed)) {
+            return 4;
+        }
+        String subtitle = hit.result().getSubtitle();
+        if (subtitle != null && subtitle.toLowerCase(Locale.ROOT).contains(trimmed)) {
+            return 5;
+        }
+        return 6;
     }
 
-    private SearchResultDTO mapDocument(Document d, String address) {
-        return SearchResultDTO.builder()
-                .id(d.getDocumentId().toString())
-                .type(SearchResultDTO.SearchResultType.DOCUMENT)
-                .title(d.getCustomTitle() != null ? d.getCustomTitle() : d.getDocType().name())
-                .subtitle(address)
-                .url("/transactions/" + d.getTransactionRef().getTransactionId() + "?tab=documents&focus=" + d.getDocumentId())
-                .build();
+    /**
+     * Narrows the user's previous result set when the new query contains the previous
+     * one: every row matching the longer query also matched the shorter one.
+     *
+     * @return the narrowed hits, or {@code null} when the cache cannot answer the query
+     */
+    private List<SearchHit> narrowFromCache(UUID userId, boolean isBroker, String needle) {
+        CachedSearch cached = prefixCache.get(userId);
+        if (cached == null || cached.isBroker() != isBroker || !needle.contains(cached.needle())) {
+            return null;
+        }
+        if (System.currentTimeMillis() - cached.createdAt() > PREFIX_CACHE_TTL_MS) {
+            prefixCache.remove(userId, cached);
+            return null;
+        }
+        List<SearchHit> narrowed = cached.hits().stream()
+                .filter(hit -> hit.matchText().contains(needle))
+                .collect(Collectors.toList());
+        // Keep the original timestamp so narrowing never extends staleness
+        prefixCache.put(userId, new CachedSearch(needle, isBroker, narrowed, cached.createdAt()));
+        return narrowed;
     }
 
-    private SearchResultDTO mapUser(UserAccount u) {
-        String firstName = u.getFirstName() != null ? u.getFirstName() : "";
-        String lastName = u.getLastName() != null ? u.getLastName() : "";
-        String title = (firstName + " " + lastName).trim();
-        if (title.isEmpty()) {
-            title = "Unknown User";
+    private void cacheResults(UUID userId, CachedSearch entry) {
+        if (prefixCache.size() >= PREFIX_CACHE_MAX_USERS) {
+            long now = System.currentTimeMillis();
+            prefixCache.values().removeIf(c -> now - c.createdAt() > PREFIX_CACHE_TTL_MS);
+            if (prefixCache.size() >= PREFIX_CACHE_MAX_USERS) {
+                prefixCache.clear();
+            }
         }
-        return SearchResultDTO.builder()
-                .id(u.getId().toString())
-                .type(SearchResultDTO.SearchResultType.USER)
-                .title(title)
-                .subtitle(u.getEmail())
-                .url("/contacts/" + u.getId())
-                .build();
+        prefixCache.put(userId, entry);
     }
 
-    private SearchResultDTO mapAppointment(Appointment a) {
-        DateTimeFormatter formatter = DateTimeFormatter.ofPattern("MMM d, h:mm a", Locale.getDefault());
-        String subtitle = a.getFromDateTime().format(formatter);
-        if (a.getLocation() != null && !a.getLocation().isEmpty()) {
-            subtitle += " • " + a.getLocation();
+    private static UUID parseUuid(String query) {
+        try {
+            return UUID.fromString(query);
+        } catch (IllegalArgumentException e) {
+            // Not a UUID, skip
+            return null;
         }
+    }
 
-        return SearchResultDTO.builder()
-                .id(a.getAppointmentId().toString())
-                .type(SearchResultDTO.SearchResultType.APPOINTMENT)
-                .title(a.getTitle())
-                .subtitle(subtitle)
-                .url("/appointments?focus=" + a.getAppointmentId())
-                .build();
+    /**
+     * LIKE wildcards, escapes and the trimmed self-name match cannot be reproduced
+     * with a plain substring check.
+     */
+    private static boolean isCacheable(String query) {
+        return query.equals(query.strip())
+                && query.indexOf('%') < 0 && query.indexOf('_') < 0 && query.indexOf('\\') < 0;
+    }
+
+    /**
+     * A mapped result plus the lower-cased text the database matched it on.
+     */
+    private record SearchHit(SearchResultDTO result, String matchText, boolean pinned) {
+        SearchHit(SearchResultDTO result, String matchText) {
+            this(result, matchText, false);
+        }
+
+        static SearchHit byId(SearchResultDTO result) {
+            return new SearchHit(result, "", true);
+        }
+    }
+
+    private record BranchResult(List<SearchHit> hits, boolean complete) {
+        static final BranchResult EMPTY = new BranchResult(List.of(), true);
+        static final BranchResult TIMED_OUT = new BranchResult(List.of(), false);
+    }
+
+    private record SearchOutcome(List<SearchHit> hits, boolean complete) {
+    }
+
+    private record CachedSearch(String needle, boolean isBroker, List<SearchHit> hits, long createdAt) {
+    }
+
+    private record UserMatches(List<UserAccount> users, Map<UUID, String> matchText, boolean complete) {
+        static final UserMatches NONE = new UserMatches(List.of(), Map.of(), true);
+
+        boolean isEmpty() {
+            return users.isEmpty();
+        }
+
+        List<UUID> ids() {
+            return users.stream().map(UserAccount::getId).toList();
+        }
+
+        String textFor(UUID userId) {
+            return userId != null ? matchText.get(userId) : null;
+        }
     }
 }
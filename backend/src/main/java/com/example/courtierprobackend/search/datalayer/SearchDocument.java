@@ -0,0 +1,52 @@
+package com.example.courtierprobackend.search.datalayer;
+
+import com.example.courtierprobackend.search.dto.SearchResultDTO.SearchResultType;
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * Denormalized search row: one per searchable entity and per user allowed to see it.
+ * Visibility is resolved at write time so a search is a single lookup on owner.
+ */
+@Entity
+@Table(name = "search_documents")
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SearchDocument {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    // User who may see this row
+    @Column(name = "owner_id", nullable = false)
+    private UUID ownerId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "entity_type", nullable = false, length = 20)
+    private SearchResultType entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private UUID entityId;
+
+    private String title;
+
+    private String subtitle;
+
+    private String url;
+
+    // Lower-cased, newline-separated text the row is matched on
+    @Column(name = "search_text", nullable = false, columnDefinition = "TEXT")
+    private String searchText;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
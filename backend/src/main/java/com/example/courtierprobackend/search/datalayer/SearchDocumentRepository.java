@@ -0,0 +1,32 @@
+package com.example.courtierprobackend.search.datalayer;
+
+import com.example.courtierprobackend.search.dto.SearchResultDTO.SearchResultType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.UUID;
+
+@Repository
+public interface SearchDocumentRepository extends JpaRepository<SearchDocument, Long> {
+
+    /**
+     * Single indexed lookup on owner returning at most {@code perTypeLimit} of the most
+     * recently updated matches per entity type. {@code query} must already be lower-cased.
+     */
+    @Query(value = "SELECT * FROM (" +
+            "SELECT s.*, ROW_NUMBER() OVER (PARTITION BY s.entity_type ORDER BY s.updated_at DESC) AS type_rank " +
+            "FROM search_documents s " +
+            "WHERE s.owner_id = :ownerId AND s.search_text LIKE CONCAT('%', :query, '%')" +
+            ") ranked WHERE ranked.type_rank <= :perTypeLimit", nativeQuery = true)
+    List<SearchDocument> searchForOwner(@Param("ownerId") UUID ownerId,
+                                        @Param("query") String query,
+                                        @Param("perTypeLimit") int perTypeLimit);
+
+    @Modifying
+    @Query("DELETE FROM SearchDocument s WHERE s.entityType = :entityType AND s.entityId = :entityId")
+    int deleteByEntity(@Param("entityType") SearchResultType entityType, @Param("entityId") UUID entityId);
+}
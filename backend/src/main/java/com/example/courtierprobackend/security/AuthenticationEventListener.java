@@ -5,13 +5,16 @@ import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.authentication.event.AuthenticationSuccessEvent;
 import org.springframework.security.oauth2.jwt.Jwt;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 
+import java.time.Duration;
 import java.time.Instant;
+import java.util.Map;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 
@@ -23,13 +26,16 @@ public class AuthenticationEventListener {
 
     private final LoginAuditService loginAuditService;
     
-    // Track which tokens have already been audited to avoid duplicate entries
-    // Key is subject + issued-at timestamp to uniquely identify a login session
-    private final Set<String> auditedTokens = ConcurrentHashMap.newKeySet();
-    
-    // Limit cache size to prevent memory issues (tokens expire anyway)
+    // Tokens already audited, keyed by subject + issued-at, valued by token expiry.
+    // A token cannot authenticate again after it expires, so its entry can go then.
+    private final Map<String, Instant> auditedTokens = new ConcurrentHashMap<>();
+
+    // Bounds memory if many tokens are live at once; beyond it duplicates may be audited
     private static final int MAX_CACHE_SIZE = 10000;
 
+    // Expiry assumed for tokens without an exp claim
+    private static final Duration DEFAULT_TOKEN_LIFETIME = Duration.ofHours(24);
+
     // Trusted proxy IPs (can be extended later or externalized to config)
     private static final Set<String> TRUSTED_PROXIES =
             Set.of("127.0.0.1", "::1");
@@ -53,22 +59,17 @@ public class AuthenticationEventListener {
             // Create unique key for this token session
             String tokenKey = userId + ":" + (issuedAt != null ? issuedAt.toEpochMilli() : "unknown");
             
-            // Prevent unbounded cache growth - evict oldest entries before adding new one
+            Instant now = Instant.now();
+            Instant expiresAt = jwt.getExpiresAt() != null ? jwt.getExpiresAt() : now.plus(DEFAULT_TOKEN_LIFETIME);
             if (auditedTokens.size() >= MAX_CACHE_SIZE) {
-                // Remove approximately 10% of entries to avoid frequent evictions
-                int toRemove = MAX_CACHE_SIZE / 10;
-                var iterator = auditedTokens.iterator();
-                while (iterator.hasNext() && toRemove > 0) {
-                    iterator.next();
-                    iterator.remove();
-                    toRemove--;
-                }
-                logger.debug("Evicted entries from login audit token cache due to size limit");
+                purgeExpiredTokens(now);
             }
-            
-            // Only record audit if we haven't seen this token before
-            if (!auditedTokens.add(tokenKey)) {
-                // Token already audited, skip duplicate
+            if (auditedTokens.size() < MAX_CACHE_SIZE) {
+                // Only record audit if we haven't seen this token before
+                if (auditedTokens.putIfAbsent(tokenKey, expiresAt) != null) {
+                    return;
+                }
+            } else if (auditedTokens.containsKey(tokenKey)) {
                 return;
             }
 
@@ -109,6 +110,15 @@ public class AuthenticationEventListener {
         }
     }
 
+    @Scheduled(fixedDelay = 300_000)
+    public void purgeExpiredTokens() {
+        purgeExpiredTokens(Instant.now());
+    }
+
+    private void purgeExpiredTokens(Instant now) {
+        auditedTokens.values().removeIf(expiresAt -> !expiresAt.isAfter(now));
+    }
+
     private HttpServletRequest getCurrentRequest() {
         ServletRequestAttributes attrs =
                 (ServletRequestAttributes) RequestContextHolder.getRequestAttributes();
@@ -0,0 +1,105 @@
+package com.example.courtierprobackend.transactions.businesslayer;
+
+import com.example.courtierprobackend.transactions.datalayer.Condition;
+import com.example.courtierprobackend.transactions.datalayer.DocumentConditionLink;
+import com.example.courtierprobackend.transactions.datalayer.OfferDocument;
+import com.example.courtierprobackend.transactions.datalayer.repositories.ConditionRepository;
+import com.example.courtierprobackend.transactions.datalayer.repositories.DocumentConditionLinkRepository;
+import com.example.courtierprobackend.transactions.datalayer.repositories.OfferDocumentRepository;
+
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Loads the documents and linked conditions of a set of offers (received offers or
+ * property offers) with a fixed number of {@code IN} queries, however many offers or
+ * negotiation rounds there are. The DTOs are then assembled from the returned graph.
+ */
+@Component
+public class OfferGraphLoader {
+
+    private final OfferDocumentRepository offerDocumentRepository;
+    private final DocumentConditionLinkRepository documentConditionLinkRepository;
+    private final ConditionRepository conditionRepository;
+
+    public OfferGraphLoader(OfferDocumentRepository offerDocumentRepository,
+                            DocumentConditionLinkRepository documentConditionLinkRepository,
+                            ConditionRepository conditionRepository) {
+        this.offerDocumentRepository = offerDocumentRepository;
+        this.documentConditionLinkRepository = documentConditionLinkRepository;
+        this.conditionRepository = conditionRepository;
+    }
+
+    /**
+     * Documents and conditions of received offers (sell side), keyed by offerId.
+     */
+    OfferGraph loadForOffers(Collection<UUID> offerIds) {
+        if (offerIds.isEmpty()) {
+            return OfferGraph.EMPTY;
+        }
+        Map<UUID, List<OfferDocument>> documents = offerDocumentRepository.findByOfferIdInOrderByCreatedAtDesc(offerIds)
+                .stream()
+                .collect(Collectors.groupingBy(OfferDocument::getOfferId));
+        List<DocumentConditionLink> links = documentConditionLinkRepository.findByOfferIdIn(offerIds);
+        return new OfferGraph(documents, resolveConditions(links, DocumentConditionLink::getOfferId));
+    }
+
+    /**
+     * Documents and conditions of property offers (buy side), keyed by propertyOfferId.
+     */
+    OfferGraph loadForPropertyOffers(Collection<UUID> propertyOfferIds) {
+        if (propertyOfferIds.isEmpty()) {
+            return OfferGraph.EMPTY;
+        }
+        Map<UUID, List<OfferDocument>> documents = offerDocumentRepository
+                .findByPropertyOfferIdInOrderByCreatedAtDesc(propertyOfferIds)
+                .stream()
+                .collect(Collectors.groupingBy(OfferDocument::getPropertyOfferId));
+        List<DocumentConditionLink> links = documentConditionLinkRepository.findByPropertyOfferIdIn(propertyOfferIds);
+        return new OfferGraph(documents, resolveConditions(links, DocumentConditionLink::getPropertyOfferId));
+    }
+
+    /**
+     * Resolves every linked condition in one query, keeping each offer's links in order.
+     * Links to conditions that no longer exist are dropped.
+     */
+    private Map<UUID, List<Condition>> resolveConditions(List<DocumentConditionLink> links,
+                                                         Function<DocumentConditionLink, UUID> ownerId) {
+        if (links.isEmpty()) {
+            return Map.of();
+        }
+        Set<UUID> conditionIds = links.stream()
+                .map(DocumentConditionLink::getConditionId)
+                .collect(Collectors.toSet());
+        Map<UUID, Condition> conditionsById = conditionRepository.findByConditionIdIn(conditionIds).stream()
+                .collect(Collectors.toMap(Condition::getConditionId, Function.identity(), (a, b) -> a));
+
+        Map<UUID, List<Condition>> conditions = new HashMap<>();
+        for (DocumentConditionLink link : links) {
+            Condition condition = conditionsById.get(link.getConditionId());
+            if (condition != null) {
+                conditions.computeIfAbsent(ownerId.apply(link), k -> new ArrayList<>()).add(condition);
+            }
+        }
+        return conditions;
+    }
+
+    /**
+     * Documents (newest first) and linked conditions of a set of offers.
+     */
+    record OfferGraph(Map<UUID, List<OfferDocument>> documents, Map<UUID, List<Condition>> conditions) {
+
+        static final OfferGraph EMPTY = new OfferGraph(Map.of(), Map.of());
+
+        List<OfferDocument> documentsOf(UUID offerId) {
+            return documents.getOrDefault(offerId, List.of());
+        }
+
+        List<Condition> conditionsOf(UUID offerId) {
+            return conditions.getOrDefault(offerId, List.of());
+        }
+    }
+}
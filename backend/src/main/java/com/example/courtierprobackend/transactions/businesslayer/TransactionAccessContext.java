@@ -0,0 +1,49 @@
+package com.example.courtierprobackend.transactions.businesslayer;
+
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.transactions.datalayer.TransactionParticipant;
+import com.example.courtierprobackend.transactions.datalayer.TransactionVersionStamp;
+import com.example.courtierprobackend.transactions.datalayer.enums.ParticipantPermission;
+import com.example.courtierprobackend.transactions.util.TransactionAccessUtils;
+
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A transaction together with the caller's identity and the transaction's participants,
+ * loaded once so several reads of the same transaction can share one access lookup.
+ * The checks themselves run in memory against these values.
+ */
+public record TransactionAccessContext(
+        Transaction transaction,
+        UUID userId,
+        String userEmail,
+        List<TransactionParticipant> participants) {
+
+    public UUID transactionId() {
+        return transaction.getTransactionId();
+    }
+
+    /**
+     * Version stamp of the loaded transaction, so a conditional GET needs no lookup
+     * beyond the access check.
+     */
+    public String viewVersion() {
+        return new TransactionVersionStamp(transaction.getVersion(), transaction.getViewVersion(),
+                transaction.getLastUpdated()).token();
+    }
+
+    /**
+     * Broker, client or any participant.
+     */
+    public void verifyTransactionAccess() {
+        TransactionAccessUtils.verifyTransactionAccess(transaction, userId, userEmail, participants);
+    }
+
+    /**
+     * Broker, client, or a participant; co-brokers also need {@code permission}.
+     */
+    public void verifyViewAccess(ParticipantPermission permission) {
+        TransactionAccessUtils.verifyViewAccess(transaction, userId, userEmail, participants, permission);
+    }
+}
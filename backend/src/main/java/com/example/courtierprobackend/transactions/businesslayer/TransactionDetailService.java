@@ -0,0 +1,142 @@
+package com.example.courtierprobackend.transactions.businesslayer;
+
+import com.example.courtierprobackend.audit.timeline_audit.businesslayer.TimelineService;
+import com.example.courtierprobackend.common.exceptions.ForbiddenException;
+import com.example.courtierprobackend.documents.businesslayer.DocumentService;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.transactions.datalayer.dto.TransactionDetailResponseDTO;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionDetailSection;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
+
+import static com.example.courtierprobackend.transactions.datalayer.enums.TransactionDetailSection.*;
+
+/**
+ * Builds the transaction detail page in one call instead of one request per tab.
+ *
+ * <p>The transaction, the caller's email and the participants are loaded once into a
+ * {@link TransactionAccessContext}; every section runs its permission check against it
+ * in memory. The requested sections are then loaded concurrently on
+ * {@code transactionDetailExecutor}, each in its own read-only transaction since lazy
+ * associations cannot use the request thread's session.</p>
+ */
+@Service
+public class TransactionDetailService {
+
+    private final TransactionService transactionService;
+    private final TimelineService timelineService;
+    private final DocumentService documentService;
+    private final TransactionTemplate readOnlyTransaction;
+    private final Executor transactionDetailExecutor;
+
+    public TransactionDetailService(TransactionService transactionService,
+                                    TimelineService timelineService,
+                                    DocumentService documentService,
+                                    PlatformTransactionManager transactionManager,
+                                    @Qualifier("transactionDetailExecutor") Executor transactionDetailExecutor) {
+        this.transactionService = transactionService;
+        this.timelineService = timelineService;
+        this.documentService = documentService;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.transactionDetailExecutor = transactionDetailExecutor;
+    }
+
+    /**
+     * Returns the transaction plus the requested sections. A section the caller may not
+     * view (e.g. a co-broker without the matching permission) is left out and reported
+     * in {@code deniedSections} rather than failing the whole page.
+     *
+     * @throws com.example.courtierprobackend.common.exceptions.NotFoundException if the transaction does not exist
+     * @throws ForbiddenException if the caller has no access to the transaction at all
+     */
+    public TransactionDetailResponseDTO getTransactionDetail(UUID transactionId, UUID userId, boolean isBroker,
+                                                             Set<TransactionDetailSection> sections) {
+        TransactionAccessContext access = transactionService.resolveAccess(transactionId, userId);
+        access.verifyTransactionAccess();
+        Set<TransactionDetailSection> denied = Collections.synchronizedSet(EnumSet.noneOf(TransactionDetailSection.class));
+
+        var participants = load(sections, PARTICIPANTS, denied,
+                () -> transactionService.getParticipants(access));
+        var properties = load(sections, PROPERTIES, denied,
+                () -> transactionService.getProperties(access, isBroker));
+        var offers = load(sections, OFFERS, denied,
+                () -> transactionService.getOffers(access, isBroker));
+        var conditions = load(sections, CONDITIONS, denied,
+                () -> transactionService.getConditions(access, isBroker));
+        var timeline = load(sections, TIMELINE, denied, () -> isBroker
+                ? timelineService.getTimelineForTransaction(transactionId)
+                : timelineService.getTimelineForClient(transactionId));
+        var visitors = load(sections, VISITORS, denied,
+                () -> transactionService.getVisitors(access));
+        var checklist = load(sections, CHECKLIST, denied,
+                () -> documentService.getStageChecklist(transactionId, currentStage(access.transaction()), userId));
+        var documents = load(sections, DOCUMENTS, denied,
+                () -> transactionService.getAllTransactionDocuments(access, isBroker));
+
+        // Built on the request thread while the sections load
+        var transaction = transactionService.getByTransactionId(access);
+
+        return TransactionDetailResponseDTO.builder()
+                .transaction(transaction)
+                .participants(await(participants))
+                .properties(await(properties))
+                .offers(await(offers))
+                .conditions(await(conditions))
+                .timeline(await(timeline))
+                .visitors(await(visitors))
+                .checklist(await(checklist))
+                .documents(await(documents))
+                .deniedSections(denied.isEmpty() ? null : EnumSet.copyOf(denied))
+                .build();
+    }
+
+    private <T> CompletableFuture<T> load(Set<TransactionDetailSection> sections, TransactionDetailSection section,
+                                          Set<TransactionDetailSection> denied, Supplier<T> loader) {
+        if (!sections.contains(section)) {
+            return CompletableFuture.completedFuture(null);
+        }
+        return CompletableFuture
+                .supplyAsync(() -> readOnlyTransaction.execute(status -> loader.get()), transactionDetailExecutor)
+                .exceptionally(ex -> {
+                    Throwable cause = ex instanceof CompletionException && ex.getCause() != null ? ex.getCause() : ex;
+                    if (cause instanceof ForbiddenException) {
+                        denied.add(section);
+                        return null;
+                    }
+                    throw ex instanceof CompletionException ce ? ce : new CompletionException(cause);
+                });
+    }
+
+    /**
+     * Waits for a section and rethrows its failure as-is so the usual exception
+     * handlers map it.
+     */
+    private static <T> T await(CompletableFuture<T> future) {
+        try {
+            return future.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static String currentStage(Transaction tx) {
+        Enum<?> stage = tx.getSide() == TransactionSide.BUY_SIDE ? tx.getBuyerStage() : tx.getSellerStage();
+        return stage != null ? stage.name() : null;
+    }
+}
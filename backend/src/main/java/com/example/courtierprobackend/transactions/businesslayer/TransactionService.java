@@ -43,6 +43,15 @@ public interface TransactionService {
 
     TransactionResponseDTO getByTransactionId(UUID transactionId, UUID userId);
 
+    /**
+     * Loads the transaction, the caller's email and the participants once so several
+     * reads of the same transaction can run their access checks against them.
+     * Does not itself check access.
+     */
+    TransactionAccessContext resolveAccess(UUID transactionId, UUID userId);
+
+    TransactionResponseDTO getByTransactionId(TransactionAccessContext access);
+
     void pinTransaction(UUID transactionId, UUID brokerId);
 
     void unpinTransaction(UUID transactionId, UUID brokerId);
@@ -59,12 +68,16 @@ public interface TransactionService {
 
     List<ParticipantResponseDTO> getParticipants(UUID transactionId, UUID userId);
 
+    List<ParticipantResponseDTO> getParticipants(TransactionAccessContext access);
+
     // House visit statistics (for buyer transactions)
     int getHouseVisitCount(UUID transactionId, UUID userId);
 
     // Visitors (for seller transactions)
     List<com.example.courtierprobackend.transactions.datalayer.dto.VisitorResponseDTO> getVisitors(UUID transactionId, UUID userId);
 
+    List<com.example.courtierprobackend.transactions.datalayer.dto.VisitorResponseDTO> getVisitors(TransactionAccessContext access);
+
     com.example.courtierprobackend.transactions.datalayer.dto.VisitorResponseDTO addVisitor(UUID transactionId,
             com.example.courtierprobackend.transactions.datalayer.dto.VisitorRequestDTO dto, UUID brokerId);
 
@@ -76,6 +89,8 @@ public interface TransactionService {
     // Properties (for buyer transactions)
     List<PropertyResponseDTO> getProperties(UUID transactionId, UUID userId, boolean isBroker);
 
+    List<PropertyResponseDTO> getProperties(TransactionAccessContext access, boolean isBroker);
+
     PropertyResponseDTO addProperty(UUID transactionId, PropertyRequestDTO dto, UUID brokerId);
 
     PropertyResponseDTO updateProperty(UUID transactionId, UUID propertyId, PropertyRequestDTO dto, UUID brokerId);
@@ -103,6 +118,8 @@ public interface TransactionService {
     // Offers (for seller transactions)
     List<OfferResponseDTO> getOffers(UUID transactionId, UUID userId, boolean isBroker);
 
+    List<OfferResponseDTO> getOffers(TransactionAccessContext access, boolean isBroker);
+
     OfferResponseDTO addOffer(UUID transactionId, OfferRequestDTO dto, UUID brokerId);
 
     OfferResponseDTO updateOffer(UUID transactionId, UUID offerId, OfferRequestDTO dto, UUID brokerId);
@@ -135,6 +152,8 @@ public interface TransactionService {
     // Conditions (for all transactions)
     List<ConditionResponseDTO> getConditions(UUID transactionId, UUID userId, boolean isBroker);
 
+    List<ConditionResponseDTO> getConditions(TransactionAccessContext access, boolean isBroker);
+
     ConditionResponseDTO addCondition(UUID transactionId, ConditionRequestDTO dto, UUID brokerId);
 
     ConditionResponseDTO updateCondition(UUID transactionId, UUID conditionId, ConditionRequestDTO dto, UUID brokerId);
@@ -154,6 +173,8 @@ public interface TransactionService {
     // Unified Documents (aggregates all document sources)
     List<UnifiedDocumentDTO> getAllTransactionDocuments(UUID transactionId, UUID userId, boolean isBroker);
 
+    List<UnifiedDocumentDTO> getAllTransactionDocuments(TransactionAccessContext access, boolean isBroker);
+
     // Search Criteria (for buyer transactions)
     /**
      * Get search criteria for a transaction.
@@ -13,7 +13,6 @@ import com.example.courtierprobackend.common.exceptions.BadRequestException;
 import com.example.courtierprobackend.common.exceptions.NotFoundException;
 import com.example.courtierprobackend.common.exceptions.ConflictException;
 import org.springframework.dao.OptimisticLockingFailureException;
-import com.example.courtierprobackend.shared.utils.StageTranslationUtil;
 import com.example.courtierprobackend.shared.utils.PostalCodeUtil;
 import com.example.courtierprobackend.transactions.datalayer.PinnedTransaction;
 import com.example.courtierprobackend.transactions.datalayer.Transaction;
@@ -33,8 +32,6 @@ import com.example.courtierprobackend.transactions.util.EntityDtoUtil;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
 
-import com.example.courtierprobackend.email.EmailService;
-import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
 
 import com.example.courtierprobackend.common.exceptions.ForbiddenException;
 import com.example.courtierprobackend.security.UserContextUtils;
@@ -81,7 +78,19 @@ import com.example.courtierprobackend.transactions.datalayer.dto.PropertyOfferRe
 import com.example.courtierprobackend.transactions.datalayer.dto.PropertyOfferResponseDTO;
 import com.example.courtierprobackend.transactions.datalayer.dto.OfferDocumentResponseDTO;
 import com.example.courtierprobackend.transactions.datalayer.dto.OfferRevisionResponseDTO;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher;
 import com.example.courtierprobackend.infrastructure.storage.ObjectStorageService;
+import com.example.courtierprobackend.transactions.businesslayer.events.ClientOfferDecisionEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.ConditionAddedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.ConditionStatusChangedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.OfferReceivedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.OfferStatusChangedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.PropertyAddedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.PropertyOfferMadeEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.PropertyOfferStatusChangedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.StageChangedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.TransactionCreatedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.TransactionTerminatedEvent;
 import com.example.courtierprobackend.documents.businesslayer.StageDocumentTemplateRegistry;
 import com.example.courtierprobackend.documents.datalayer.Document;
 import com.example.courtierprobackend.documents.datalayer.enums.DocumentStatusEnum;
@@ -131,8 +140,6 @@ public class TransactionServiceImpl implements TransactionService {
     private final TransactionRepository repo;
     private final PinnedTransactionRepository pinnedTransactionRepository;
     private final UserAccountRepository userAccountRepository;
-    private final EmailService emailService;
-    private final NotificationService notificationService;
     private final TimelineService timelineService;
     private final TransactionParticipantRepository participantRepository;
     private final PropertyRepository propertyRepository;
@@ -147,6 +154,8 @@ public class TransactionServiceImpl implements TransactionService {
     private final SearchCriteriaRepository searchCriteriaRepository;
     private final com.example.courtierprobackend.appointments.datalayer.AppointmentRepository appointmentRepository;
     private final com.example.courtierprobackend.transactions.datalayer.repositories.VisitorRepository visitorRepository;
+    private final DomainEventPublisher domainEventPublisher;
+    private final OfferGraphLoader offerGraphLoader;
 
     private String lookupUserName(UUID userId) {
         if (userId == null) {
@@ -454,19 +463,11 @@ public class TransactionServiceImpl implements TransactionService {
                 null,
                 info);
 
-        // CP-48: Send Transaction Created Notification to Client
-        try {
-            notificationService.createNotification(
-                    clientId.toString(),
-                    "notifications.transactionCreated.title",
-                    "notifications.transactionCreated.message",
-                    java.util.Map.of("brokerName", actorName),
-                    saved.getTransactionId().toString(),
-                    com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.GENERAL);
-        } catch (Exception e) {
-            log.error("Failed to send transaction created notification for transaction {}", saved.getTransactionId(),
-                    e);
-        }
+        // CP-48: client notification is delivered from the outbox after commit
+        domainEventPublisher.publish(saved.getTransactionId(), new TransactionCreatedEvent(
+                saved.getTransactionId(),
+                clientId,
+                actorName));
 
         return EntityDtoUtil.toResponse(saved, lookupUserName(saved.getClientId()));
     }
@@ -658,7 +659,7 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     @Override
-    public TransactionResponseDTO getByTransactionId(UUID transactionId, UUID userId) {
+    public TransactionAccessContext resolveAccess(UUID transactionId, UUID userId) {
         Transaction tx = repo.findByTransactionId(transactionId)
                 .orElseThrow(() -> new NotFoundException("Transaction not found"));
 
@@ -668,12 +669,23 @@ public class TransactionServiceImpl implements TransactionService {
             userEmail = userAccountRepository.findById(userId).map(UserAccount::getEmail).orElse(null);
         }
         // Get participants for this transaction
-        java.util.List<com.example.courtierprobackend.transactions.datalayer.TransactionParticipant> participants = participantRepository
-                .findByTransactionId(transactionId);
+        List<TransactionParticipant> participants = participantRepository.findByTransactionId(transactionId);
+
+        return new TransactionAccessContext(tx, userId, userEmail, participants);
+    }
+
+    @Override
+    public TransactionResponseDTO getByTransactionId(UUID transactionId, UUID userId) {
+        return getByTransactionId(resolveAccess(transactionId, userId));
+    }
+
+    @Override
+    public TransactionResponseDTO getByTransactionId(TransactionAccessContext access) {
+        Transaction tx = access.transaction();
+        UUID transactionId = access.transactionId();
 
         // Allow access if the user is the broker, client, or participant (by email)
-        com.example.courtierprobackend.transactions.util.TransactionAccessUtils.verifyTransactionAccess(tx, userId,
-                userEmail, participants);
+        access.verifyTransactionAccess();
 
         // For buy-side transactions, get centris number from accepted property
         String centrisNumber = tx.getCentrisNumber();
@@ -801,14 +813,12 @@ public class TransactionServiceImpl implements TransactionService {
         }
 
         // Log explicit status change if it happened
+        List<TimelineService.Append> timelineEntries = new ArrayList<>();
         if (tx.getStatus() == TransactionStatus.CLOSED_SUCCESSFULLY ||
                 tx.getStatus() == TransactionStatus.TERMINATED_EARLY) {
-            timelineService.addEntry(
-                    transactionId,
-                    brokerId,
+            timelineEntries.add(TimelineService.Append.of(
                     TimelineEntryType.STATUS_CHANGE,
-                    "Transaction automatically updated to " + tx.getStatus(),
-                    null);
+                    "Transaction automatically updated to " + tx.getStatus()));
         }
 
         String stageChangeActorName = lookupUserName(tx.getBrokerId());
@@ -822,13 +832,8 @@ public class TransactionServiceImpl implements TransactionService {
 
         TimelineEntryType entryType = isRollback ? TimelineEntryType.STAGE_ROLLBACK : TimelineEntryType.STAGE_CHANGE;
 
-        timelineService.addEntry(
-                transactionId,
-                brokerId,
-                entryType,
-                null,
-                null,
-                stageChangeInfo);
+        timelineEntries.add(TimelineService.Append.of(entryType, stageChangeInfo));
+        timelineService.addEntries(transactionId, brokerId, timelineEntries);
 
         Transaction saved;
         try {
@@ -840,65 +845,18 @@ public class TransactionServiceImpl implements TransactionService {
 
         ensureAutoDraftsForStage(saved, targetStageEnum);
 
-        // CP-48: Send Notifications and Emails
-        try {
-            // Fetch Client details
-            Optional<UserAccount> clientOpt = userAccountRepository.findById(saved.getClientId());
-            Optional<UserAccount> brokerOpt = userAccountRepository.findById(brokerId);
-
-            if (clientOpt.isPresent() && brokerOpt.isPresent()) {
-                UserAccount client = clientOpt.get();
-                UserAccount broker = brokerOpt.get();
-
-                String clientName = (client.getFirstName() + " " + client.getLastName()).trim();
-                String brokerName = (broker.getFirstName() + " " + broker.getLastName()).trim();
-
-                String address = "Unknown Address";
-                if (saved.getPropertyAddress() != null && saved.getPropertyAddress().getStreet() != null) {
-                    address = saved.getPropertyAddress().getStreet();
-                }
-
-                // 1. Email (only for non-rollbacks for now as per current business logic, or
-                // update if needed)
-                if (!isRollback) {
-                    emailService.sendStageUpdateEmail(
-                            client.getEmail(),
-                            clientName,
-                            brokerName,
-                            address,
-                            stageStr,
-                            client.getPreferredLanguage());
-                }
-
-                // 2. In-App Notification (Dynamic keys based on rollback status)
-                String notifTitleKey = isRollback ? "notifications.stageRollback.title"
-                        : "notifications.stageUpdate.title";
-                String notifMessageKey = isRollback ? "notifications.stageRollback.message"
-                        : "notifications.stageUpdate.message";
-
-                // Construct params for frontend translation (must match {{keys}} in JSON)
-                Map<String, Object> params = new HashMap<>();
-                params.put("stage", StageTranslationUtil.getTranslatedStage(stageStr, client.getPreferredLanguage()));
-                params.put("brokerName", brokerName);
-                params.put("propertyAddress", address);
-
-                notificationService.createNotification(
-                        client.getId().toString(),
-                        notifTitleKey,
-                        notifMessageKey,
-                        params,
-                        saved.getTransactionId().toString(),
-                        com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.STAGE_UPDATE);
-
-            } else {
-                log.warn("Could not send notifications for transaction {}: Client or Broker not found",
-                        saved.getTransactionId());
-            }
-
-        } catch (Exception e) {
-            log.error("Failed to send notifications/emails for transaction {}", saved.getTransactionId(), e);
-            // Do not rethrow, transaction is already saved
+        // CP-48: client email and notification are delivered from the outbox after commit
+        String address = "Unknown Address";
+        if (saved.getPropertyAddress() != null && saved.getPropertyAddress().getStreet() != null) {
+            address = saved.getPropertyAddress().getStreet();
         }
+        domainEventPublisher.publish(saved.getTransactionId(), new StageChangedEvent(
+                saved.getTransactionId(),
+                saved.getClientId(),
+                brokerId,
+                stageStr,
+                isRollback,
+                address));
 
         return EntityDtoUtil.toResponse(saved, lookupUserName(saved.getClientId()));
     }
@@ -948,43 +906,20 @@ public class TransactionServiceImpl implements TransactionService {
                         .actorName(terminationActorName)
                         .build());
 
-        // Notifications
-        try {
-            Optional<UserAccount> clientOpt = userAccountRepository.findById(saved.getClientId());
-            Optional<UserAccount> brokerOpt = userAccountRepository.findById(brokerId);
-
-            if (clientOpt.isPresent() && brokerOpt.isPresent()) {
-                UserAccount client = clientOpt.get();
-                UserAccount broker = brokerOpt.get();
-
-                String clientName = (client.getFirstName() + " " + client.getLastName()).trim();
-                String brokerName = (broker.getFirstName() + " " + broker.getLastName()).trim();
-
-                String address = "Unknown Address";
-                if (saved.getPropertyAddress() != null && saved.getPropertyAddress().getStreet() != null) {
-                    address = saved.getPropertyAddress().getStreet();
-                }
-
-                String currentStage = saved.getSide() == TransactionSide.BUY_SIDE
-                        ? (saved.getBuyerStage() != null ? saved.getBuyerStage().name() : "")
-                        : (saved.getSellerStage() != null ? saved.getSellerStage().name() : "");
-
-                Map<String, Object> params = new HashMap<>();
-                params.put("stage", StageTranslationUtil.getTranslatedStage(currentStage, client.getPreferredLanguage()));
-                params.put("brokerName", brokerName);
-                params.put("propertyAddress", address);
-
-                notificationService.createNotification(
-                        client.getId().toString(),
-                        "notifications.transactionTerminated.title",
-                        "notifications.transactionTerminated.message",
-                        params,
-                        saved.getTransactionId().toString(),
-                        com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.STAGE_UPDATE);
-            }
-        } catch (Exception e) {
-            log.error("Failed to send notifications for terminated transaction {}", saved.getTransactionId(), e);
+        // Client notification is delivered from the outbox after commit
+        String address = "Unknown Address";
+        if (saved.getPropertyAddress() != null && saved.getPropertyAddress().getStreet() != null) {
+            address = saved.getPropertyAddress().getStreet();
         }
+        String currentStage = saved.getSide() == TransactionSide.BUY_SIDE
+                ? (saved.getBuyerStage() != null ? saved.getBuyerStage().name() : "")
+                : (saved.getSellerStage() != null ? saved.getSellerStage().name() : "");
+        domainEventPublisher.publish(saved.getTransactionId(), new TransactionTerminatedEvent(
+                saved.getTransactionId(),
+                saved.getClientId(),
+                brokerId,
+                currentStage,
+                address));
 
         return EntityDtoUtil.toResponse(saved, lookupUserName(saved.getClientId()));
     }
@@ -1234,19 +1169,14 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public List<ParticipantResponseDTO> getParticipants(UUID transactionId, UUID userId) {
-        Transaction tx = repo.findByTransactionId(transactionId)
-                .orElseThrow(() -> new NotFoundException("Transaction not found"));
+        return getParticipants(resolveAccess(transactionId, userId));
+    }
 
-        // Fetch user email and participants for access check
-        String userEmail = null;
-        if (userId != null) {
-            userEmail = userAccountRepository.findById(userId).map(UserAccount::getEmail).orElse(null);
-        }
-        java.util.List<com.example.courtierprobackend.transactions.datalayer.TransactionParticipant> participants = participantRepository
-                .findByTransactionId(tx.getTransactionId());
-        TransactionAccessUtils.verifyTransactionAccess(tx, userId, userEmail, participants);
+    @Override
+    public List<ParticipantResponseDTO> getParticipants(TransactionAccessContext access) {
+        access.verifyTransactionAccess();
 
-        return participantRepository.findByTransactionId(transactionId).stream()
+        return access.participants().stream()
                 .map(p -> ParticipantResponseDTO.builder()
                         .id(p.getId())
                         .transactionId(p.getTransactionId())
@@ -1283,17 +1213,16 @@ public class TransactionServiceImpl implements TransactionService {
     @Override
     public List<com.example.courtierprobackend.transactions.datalayer.dto.VisitorResponseDTO> getVisitors(
             UUID transactionId, UUID userId) {
-        Transaction tx = repo.findByTransactionId(transactionId)
-                .orElseThrow(() -> new NotFoundException("Transaction not found"));
+        return getVisitors(resolveAccess(transactionId, userId));
+    }
 
-        String userEmail = userId != null
-                ? userAccountRepository.findById(userId).map(UserAccount::getEmail).orElse(null)
-                : null;
-        List<TransactionParticipant> participants = participantRepository.findByTransactionId(tx.getTransactionId());
-        TransactionAccessUtils.verifyViewAccess(tx, userId, userEmail, participants, null);
+    @Override
+    public List<com.example.courtierprobackend.transactions.datalayer.dto.VisitorResponseDTO> getVisitors(
+            TransactionAccessContext access) {
+        access.verifyViewAccess(null);
 
         List<com.example.courtierprobackend.transactions.datalayer.Visitor> visitors =
-                visitorRepository.findByTransactionIdOrderByNameAsc(transactionId);
+                visitorRepository.findByTransactionIdOrderByNameAsc(access.transactionId());
 
         // Batch fetch timesVisited
         Map<UUID, Integer> visitCounts = new HashMap<>();
@@ -1408,24 +1337,19 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public List<PropertyResponseDTO> getProperties(UUID transactionId, UUID userId, boolean isBroker) {
-        Transaction tx = repo.findByTransactionId(transactionId)
-                .orElseThrow(() -> new NotFoundException("Transaction not found"));
+        return getProperties(resolveAccess(transactionId, userId), isBroker);
+    }
 
-        String userEmail2 = null;
-        if (userId != null) {
-            userEmail2 = userAccountRepository.findById(userId).map(UserAccount::getEmail).orElse(null);
-        }
-        java.util.List<com.example.courtierprobackend.transactions.datalayer.TransactionParticipant> participants2 = participantRepository
-                .findByTransactionId(tx.getTransactionId());
-        TransactionAccessUtils.verifyViewAccess(tx, userId, userEmail2, participants2,
-                ParticipantPermission.VIEW_PROPERTIES);
+    @Override
+    public List<PropertyResponseDTO> getProperties(TransactionAccessContext access, boolean isBroker) {
+        access.verifyViewAccess(ParticipantPermission.VIEW_PROPERTIES);
 
         // Only BUY_SIDE transactions can have multiple properties
-        if (tx.getSide() != TransactionSide.BUY_SIDE) {
+        if (access.transaction().getSide() != TransactionSide.BUY_SIDE) {
             return List.of();
         }
 
-        List<Property> properties = propertyRepository.findByTransactionIdOrderByCreatedAtDesc(transactionId);
+        List<Property> properties = propertyRepository.findByTransactionIdOrderByCreatedAtDesc(access.transactionId());
 
         // Batch fetch house visit counts to avoid N+1
         List<UUID> propertyIds = properties.stream().map(Property::getPropertyId).toList();
@@ -1490,18 +1414,12 @@ public class TransactionServiceImpl implements TransactionService {
                 null,
                 info);
 
-        // Notify client about new property
-        try {
-            notificationService.createNotification(
-                    tx.getClientId().toString(),
-                    "notifications.propertyAdded.title",
-                    "notifications.propertyAdded.message",
-                    java.util.Map.of("address", address),
-                    transactionId.toString(),
-                    com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.PROPERTY_ADDED);
-        } catch (Exception e) {
-            log.error("Failed to send property notification for transaction {}", transactionId, e);
-        }
+        // Notify client about new property once the change commits
+        domainEventPublisher.publish(transactionId, new PropertyAddedEvent(
+                transactionId,
+                saved.getPropertyId(),
+                tx.getClientId(),
+                address));
 
         return toPropertyResponseDTO(saved, true);
     }
@@ -1826,9 +1744,11 @@ public class TransactionServiceImpl implements TransactionService {
                 ParticipantPermission.VIEW_OFFERS);
 
         List<PropertyOffer> offers = propertyOfferRepository.findByPropertyIdOrderByOfferRoundDesc(propertyId);
+        OfferGraphLoader.OfferGraph graph = offerGraphLoader.loadForPropertyOffers(
+                offers.stream().map(PropertyOffer::getPropertyOfferId).toList());
 
         return offers.stream()
-                .map(po -> toPropertyOfferResponseDTO(po))
+                .map(po -> toPropertyOfferResponseDTO(po, graph))
                 .toList();
     }
 
@@ -1896,44 +1816,15 @@ public class TransactionServiceImpl implements TransactionService {
                 null,
                 info);
 
-        // Notify client
-        try {
-            notificationService.createNotification(
-                    tx.getClientId().toString(),
-                    "notifications.propertyOfferMade.title",
-                    "notifications.propertyOfferMade.message",
-                    java.util.Map.of(
-                            "address", address,
-                            "offerAmount", String.format("$%,.0f", saved.getOfferAmount()),
-                            "offerRound", String.valueOf(nextRound)),
-                    tx.getTransactionId().toString(),
-                    com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.OFFER_MADE);
-        } catch (Exception e) {
-            log.error("Failed to send property offer notification for property {}", propertyId, e);
-        }
-
-        // Send email notification to client
-        try {
-            UserAccount client = userAccountRepository.findById(tx.getClientId()).orElse(null);
-            UserAccount broker = userAccountRepository.findById(tx.getBrokerId()).orElse(null);
-            if (client != null && broker != null) {
-                String clientName = (client.getFirstName() != null ? client.getFirstName() : "") + " " +
-                        (client.getLastName() != null ? client.getLastName() : "");
-                String brokerName = (broker.getFirstName() != null ? broker.getFirstName() : "") + " " +
-                        (broker.getLastName() != null ? broker.getLastName() : "");
-                String clientLanguage = client.getPreferredLanguage() != null ? client.getPreferredLanguage() : "en";
-                emailService.sendPropertyOfferMadeNotification(
-                        client.getEmail(),
-                        clientName.trim(),
-                        brokerName.trim(),
-                        address,
-                        String.format("$%,.0f", saved.getOfferAmount()),
-                        nextRound,
-                        clientLanguage);
-            }
-        } catch (Exception e) {
-            log.error("Failed to send property offer email notification for property {}", propertyId, e);
-        }
+        // Client email and notification are delivered from the outbox after commit
+        domainEventPublisher.publish(tx.getTransactionId(), new PropertyOfferMadeEvent(
+                tx.getTransactionId(),
+                saved.getPropertyOfferId(),
+                tx.getClientId(),
+                tx.getBrokerId(),
+                address,
+                saved.getOfferAmount(),
+                nextRound));
 
         return toPropertyOfferResponseDTO(saved);
     }
@@ -2019,46 +1910,15 @@ public class TransactionServiceImpl implements TransactionService {
             if (saved.getStatus() == BuyerOfferStatus.COUNTERED ||
                     saved.getStatus() == BuyerOfferStatus.ACCEPTED ||
                     saved.getStatus() == BuyerOfferStatus.DECLINED) {
-                try {
-                    notificationService.createNotification(
-                            tx.getClientId().toString(),
-                            "notifications.propertyOfferStatusChanged.title",
-                            "notifications.propertyOfferStatusChanged.message",
-                            java.util.Map.of(
-                                    "address", address,
-                                    "status", saved.getStatus().name()),
-                            tx.getTransactionId().toString(),
-                            saved.getStatus() == BuyerOfferStatus.COUNTERED
-                                    ? com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.OFFER_COUNTERED
-                                    : com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.OFFER_STATUS_CHANGED);
-                } catch (Exception e) {
-                    log.error("Failed to send property offer status notification for property {}", propertyId, e);
-                }
-
-                // Send email notification to client
-                try {
-                    UserAccount client = userAccountRepository.findById(tx.getClientId()).orElse(null);
-                    UserAccount broker = userAccountRepository.findById(tx.getBrokerId()).orElse(null);
-                    if (client != null && broker != null) {
-                        String clientName = (client.getFirstName() != null ? client.getFirstName() : "") + " " +
-                                (client.getLastName() != null ? client.getLastName() : "");
-                        String brokerName = (broker.getFirstName() != null ? broker.getFirstName() : "") + " " +
-                                (broker.getLastName() != null ? broker.getLastName() : "");
-                        String clientLanguage = client.getPreferredLanguage() != null ? client.getPreferredLanguage()
-                                : "en";
-                        emailService.sendPropertyOfferStatusChangedNotification(
-                                client.getEmail(),
-                                clientName.trim(),
-                                brokerName.trim(),
-                                address,
-                                previousStatus.name(),
-                                saved.getStatus().name(),
-                                offer.getCounterpartyResponse() != null ? offer.getCounterpartyResponse().name() : null,
-                                clientLanguage);
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to send property offer status email notification for property {}", propertyId, e);
-                }
+                domainEventPublisher.publish(tx.getTransactionId(), new PropertyOfferStatusChangedEvent(
+                        tx.getTransactionId(),
+                        saved.getPropertyOfferId(),
+                        tx.getClientId(),
+                        tx.getBrokerId(),
+                        address,
+                        previousStatus,
+                        saved.getStatus(),
+                        saved.getCounterpartyResponse()));
             }
         }
 
@@ -2076,16 +1936,14 @@ public class TransactionServiceImpl implements TransactionService {
     }
 
     private PropertyOfferResponseDTO toPropertyOfferResponseDTO(PropertyOffer offer) {
-        List<OfferDocument> documents = offerDocumentRepository
-                .findByPropertyOfferIdOrderByCreatedAtDesc(offer.getPropertyOfferId());
-
-        // Fetch linked conditions
-        List<DocumentConditionLink> conditionLinks = documentConditionLinkRepository
-                .findByPropertyOfferId(offer.getPropertyOfferId());
-        List<ConditionResponseDTO> conditions = conditionLinks.stream()
-                .map(link -> conditionRepository.findByConditionId(link.getConditionId()))
-                .filter(java.util.Optional::isPresent)
-                .map(opt -> toConditionResponseDTO(opt.get(), true))
+        return toPropertyOfferResponseDTO(offer,
+                offerGraphLoader.loadForPropertyOffers(List.of(offer.getPropertyOfferId())));
+    }
+
+    private PropertyOfferResponseDTO toPropertyOfferResponseDTO(PropertyOffer offer, OfferGraphLoader.OfferGraph graph) {
+        List<OfferDocument> documents = graph.documentsOf(offer.getPropertyOfferId());
+        List<ConditionResponseDTO> conditions = graph.conditionsOf(offer.getPropertyOfferId()).stream()
+                .map(condition -> toConditionResponseDTO(condition, true))
                 .toList();
 
         return PropertyOfferResponseDTO.builder()
@@ -2120,27 +1978,24 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public List<OfferResponseDTO> getOffers(UUID transactionId, UUID userId, boolean isBroker) {
-        Transaction tx = repo.findByTransactionId(transactionId)
-                .orElseThrow(() -> new NotFoundException("Transaction not found"));
+        return getOffers(resolveAccess(transactionId, userId), isBroker);
+    }
 
-        String userEmail5 = null;
-        if (userId != null) {
-            userEmail5 = userAccountRepository.findById(userId).map(UserAccount::getEmail).orElse(null);
-        }
-        java.util.List<com.example.courtierprobackend.transactions.datalayer.TransactionParticipant> participants5 = participantRepository
-                .findByTransactionId(tx.getTransactionId());
-        TransactionAccessUtils.verifyViewAccess(tx, userId, userEmail5, participants5,
-                ParticipantPermission.VIEW_OFFERS);
+    @Override
+    public List<OfferResponseDTO> getOffers(TransactionAccessContext access, boolean isBroker) {
+        access.verifyViewAccess(ParticipantPermission.VIEW_OFFERS);
 
         // Only SELL_SIDE transactions can have offers
-        if (tx.getSide() != TransactionSide.SELL_SIDE) {
+        if (access.transaction().getSide() != TransactionSide.SELL_SIDE) {
             return List.of();
         }
 
-        List<Offer> offers = offerRepository.findByTransactionIdOrderByCreatedAtDesc(transactionId);
+        List<Offer> offers = offerRepository.findByTransactionIdOrderByCreatedAtDesc(access.transactionId());
+        OfferGraphLoader.OfferGraph graph = offerGraphLoader.loadForOffers(
+                offers.stream().map(Offer::getOfferId).toList());
 
         return offers.stream()
-                .map(o -> toOfferResponseDTO(o, isBroker))
+                .map(o -> toOfferResponseDTO(o, isBroker, graph))
                 .toList();
     }
 
@@ -2198,42 +2053,14 @@ public class TransactionServiceImpl implements TransactionService {
                 null,
                 info);
 
-        // Notify client about new offer
-        try {
-            notificationService.createNotification(
-                    tx.getClientId().toString(),
-                    "notifications.offerReceived.title",
-                    "notifications.offerReceived.message",
-                    java.util.Map.of(
-                            "buyerName", saved.getBuyerName(),
-                            "offerAmount", String.format("$%,.0f", saved.getOfferAmount())),
-                    transactionId.toString(),
-                    com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.OFFER_RECEIVED);
-        } catch (Exception e) {
-            log.error("Failed to send offer notification for transaction {}", transactionId, e);
-        }
-
-        // Send email notification to client
-        try {
-            UserAccount client = userAccountRepository.findById(tx.getClientId()).orElse(null);
-            UserAccount broker = userAccountRepository.findById(tx.getBrokerId()).orElse(null);
-            if (client != null && broker != null) {
-                String clientName = (client.getFirstName() != null ? client.getFirstName() : "") + " " +
-                        (client.getLastName() != null ? client.getLastName() : "");
-                String brokerName = (broker.getFirstName() != null ? broker.getFirstName() : "") + " " +
-                        (broker.getLastName() != null ? broker.getLastName() : "");
-                String clientLanguage = client.getPreferredLanguage() != null ? client.getPreferredLanguage() : "en";
-                emailService.sendOfferReceivedNotification(
-                        client.getEmail(),
-                        clientName.trim(),
-                        brokerName.trim(),
-                        saved.getBuyerName(),
-                        String.format("$%,.0f", saved.getOfferAmount()),
-                        clientLanguage);
-            }
-        } catch (Exception e) {
-            log.error("Failed to send offer received email notification for transaction {}", transactionId, e);
-        }
+        // Client email and notification are delivered from the outbox after commit
+        domainEventPublisher.publish(transactionId, new OfferReceivedEvent(
+                transactionId,
+                saved.getOfferId(),
+                tx.getClientId(),
+                tx.getBrokerId(),
+                saved.getBuyerName(),
+                saved.getOfferAmount()));
 
         return toOfferResponseDTO(saved, true);
     }
@@ -2327,45 +2154,14 @@ public class TransactionServiceImpl implements TransactionService {
             if (dto.getStatus() == ReceivedOfferStatus.COUNTERED ||
                     dto.getStatus() == ReceivedOfferStatus.ACCEPTED ||
                     dto.getStatus() == ReceivedOfferStatus.DECLINED) {
-                try {
-                    notificationService.createNotification(
-                            tx.getClientId().toString(),
-                            "notifications.offerStatusChanged.title",
-                            "notifications.offerStatusChanged.message",
-                            java.util.Map.of(
-                                    "buyerName", saved.getBuyerName(),
-                                    "status", dto.getStatus().name()),
-                            transactionId.toString(),
-                            dto.getStatus() == ReceivedOfferStatus.COUNTERED
-                                    ? com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.OFFER_COUNTERED
-                                    : com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.OFFER_STATUS_CHANGED);
-                } catch (Exception e) {
-                    log.error("Failed to send offer status notification for transaction {}", transactionId, e);
-                }
-
-                // Send email notification to client
-                try {
-                    UserAccount client = userAccountRepository.findById(tx.getClientId()).orElse(null);
-                    UserAccount broker = userAccountRepository.findById(tx.getBrokerId()).orElse(null);
-                    if (client != null && broker != null) {
-                        String clientName = (client.getFirstName() != null ? client.getFirstName() : "") + " " +
-                                (client.getLastName() != null ? client.getLastName() : "");
-                        String brokerName = (broker.getFirstName() != null ? broker.getFirstName() : "") + " " +
-                                (broker.getLastName() != null ? broker.getLastName() : "");
-                        String clientLanguage = client.getPreferredLanguage() != null ? client.getPreferredLanguage()
-                                : "en";
-                        emailService.sendOfferStatusChangedNotification(
-                                client.getEmail(),
-                                clientName.trim(),
-                                brokerName.trim(),
-                                saved.getBuyerName(),
-                                previousStatus != null ? previousStatus.name() : "UNKNOWN",
-                                dto.getStatus().name(),
-                                clientLanguage);
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to send offer status email notification for transaction {}", transactionId, e);
-                }
+                domainEventPublisher.publish(transactionId, new OfferStatusChangedEvent(
+                        transactionId,
+                        saved.getOfferId(),
+                        tx.getClientId(),
+                        tx.getBrokerId(),
+                        saved.getBuyerName(),
+                        previousStatus,
+                        dto.getStatus()));
             }
         }
 
@@ -2716,35 +2512,28 @@ public class TransactionServiceImpl implements TransactionService {
                 null,
                 info);
 
-        // Notify broker about client's decision
-        try {
-            notificationService.createNotification(
-                    tx.getBrokerId().toString(),
-                    "notifications.clientOfferDecision.title",
-                    "notifications.clientOfferDecision.message",
-                    java.util.Map.of(
-                            "clientName", clientName,
-                            "buyerName", offer.getBuyerName(),
-                            "decision", dto.getDecision().name(),
-                            "offerAmount", String.format("$%,.0f", offer.getOfferAmount())),
-                    tx.getTransactionId().toString(),
-                    com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.OFFER_MADE);
-        } catch (Exception e) {
-            log.error("Failed to send client offer decision notification for offer {}", offerId, e);
-        }
+        // Notify broker about client's decision once it commits
+        domainEventPublisher.publish(tx.getTransactionId(), new ClientOfferDecisionEvent(
+                tx.getTransactionId(),
+                saved.getOfferId(),
+                tx.getBrokerId(),
+                clientName,
+                offer.getBuyerName(),
+                dto.getDecision(),
+                offer.getOfferAmount()));
 
         return toOfferResponseDTO(saved, false);
     }
 
     private OfferResponseDTO toOfferResponseDTO(Offer offer, boolean includeBrokerNotes) {
-        List<OfferDocument> documents = offerDocumentRepository.findByOfferIdOrderByCreatedAtDesc(offer.getOfferId());
-
-        // Fetch linked conditions
-        List<DocumentConditionLink> conditionLinks = documentConditionLinkRepository.findByOfferId(offer.getOfferId());
-        List<ConditionResponseDTO> conditions = conditionLinks.stream()
-                .map(link -> conditionRepository.findByConditionId(link.getConditionId()))
-                .filter(java.util.Optional::isPresent)
-                .map(opt -> toConditionResponseDTO(opt.get(), includeBrokerNotes))
+        return toOfferResponseDTO(offer, includeBrokerNotes,
+                offerGraphLoader.loadForOffers(List.of(offer.getOfferId())));
+    }
+
+    private OfferResponseDTO toOfferResponseDTO(Offer offer, boolean includeBrokerNotes, OfferGraphLoader.OfferGraph graph) {
+        List<OfferDocument> documents = graph.documentsOf(offer.getOfferId());
+        List<ConditionResponseDTO> conditions = graph.conditionsOf(offer.getOfferId()).stream()
+                .map(condition -> toConditionResponseDTO(condition, includeBrokerNotes))
                 .toList();
 
         return OfferResponseDTO.builder()
@@ -2771,19 +2560,14 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public List<ConditionResponseDTO> getConditions(UUID transactionId, UUID userId, boolean isBroker) {
-        Transaction tx = repo.findByTransactionId(transactionId)
-                .orElseThrow(() -> new NotFoundException("Transaction not found"));
+        return getConditions(resolveAccess(transactionId, userId), isBroker);
+    }
 
-        String userEmail10 = null;
-        if (userId != null) {
-            userEmail10 = userAccountRepository.findById(userId).map(UserAccount::getEmail).orElse(null);
-        }
-        java.util.List<com.example.courtierprobackend.transactions.datalayer.TransactionParticipant> participants10 = participantRepository
-                .findByTransactionId(tx.getTransactionId());
-        TransactionAccessUtils.verifyViewAccess(tx, userId, userEmail10, participants10,
-                ParticipantPermission.VIEW_CONDITIONS);
+    @Override
+    public List<ConditionResponseDTO> getConditions(TransactionAccessContext access, boolean isBroker) {
+        access.verifyViewAccess(ParticipantPermission.VIEW_CONDITIONS);
 
-        List<Condition> conditions = conditionRepository.findByTransactionIdOrderByDeadlineDateAsc(transactionId);
+        List<Condition> conditions = conditionRepository.findByTransactionIdOrderByDeadlineDateAsc(access.transactionId());
 
         return conditions.stream()
                 .map(c -> toConditionResponseDTO(c, isBroker))
@@ -2839,21 +2623,14 @@ public class TransactionServiceImpl implements TransactionService {
                 null,
                 txInfo);
 
-        // Notify client about new condition
+        // Notify client about new condition once the change commits
         if (tx.getClientId() != null) {
-            try {
-                notificationService.createNotification(
-                        tx.getClientId().toString(),
-                        "notifications.conditionAdded.title",
-                        "notifications.conditionAdded.message",
-                        java.util.Map.of(
-                                "conditionType", typeName,
-                                "deadline", saved.getDeadlineDate().toString()),
-                        transactionId.toString(),
-                        com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.GENERAL);
-            } catch (Exception e) {
-                log.error("Failed to send condition notification for transaction {}", transactionId, e);
-            }
+            domainEventPublisher.publish(transactionId, new ConditionAddedEvent(
+                    transactionId,
+                    saved.getConditionId(),
+                    tx.getClientId(),
+                    typeName,
+                    saved.getDeadlineDate()));
         }
 
         return toConditionResponseDTO(saved, true);
@@ -3020,34 +2797,15 @@ public class TransactionServiceImpl implements TransactionService {
                 null,
                 txInfo);
 
-        // Notify client about condition status change
+        // Notify client about condition status change once the change commits
         if (tx.getClientId() != null) {
-            try {
-                String notifTitle;
-                String notifMessage;
-                if (status == ConditionStatus.SATISFIED) {
-                    notifTitle = "notifications.conditionSatisfied.title";
-                    notifMessage = "notifications.conditionSatisfied.message";
-                } else if (status == ConditionStatus.FAILED) {
-                    notifTitle = "notifications.conditionFailed.title";
-                    notifMessage = "notifications.conditionFailed.message";
-                } else {
-                    // PENDING status change (e.g., reverting from SATISFIED)
-                    notifTitle = "notifications.conditionStatusChanged.title";
-                    notifMessage = "notifications.conditionStatusChanged.message";
-                }
-                notificationService.createNotification(
-                        tx.getClientId().toString(),
-                        notifTitle,
-                        notifMessage,
-                        java.util.Map.of(
-                                "conditionType", typeName,
-                                "status", status.name()),
-                        transactionId.toString(),
-                        com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.GENERAL);
-            } catch (Exception e) {
-                log.error("Failed to send condition status notification for transaction {}", transactionId, e);
-            }
+            domainEventPublisher.publish(transactionId, new ConditionStatusChangedEvent(
+                    transactionId,
+                    saved.getConditionId(),
+                    tx.getClientId(),
+                    typeName,
+                    previousStatus,
+                    status));
         }
 
         return toConditionResponseDTO(saved, true);
@@ -3143,16 +2901,13 @@ public class TransactionServiceImpl implements TransactionService {
 
     @Override
     public List<UnifiedDocumentDTO> getAllTransactionDocuments(UUID transactionId, UUID userId, boolean isBroker) {
-        Transaction tx = repo.findByTransactionId(transactionId)
-                .orElseThrow(() -> new NotFoundException("Transaction not found"));
-        String userEmail13 = null;
-        if (userId != null) {
-            userEmail13 = userAccountRepository.findById(userId).map(UserAccount::getEmail).orElse(null);
-        }
-        java.util.List<com.example.courtierprobackend.transactions.datalayer.TransactionParticipant> participants13 = participantRepository
-                .findByTransactionId(tx.getTransactionId());
-        TransactionAccessUtils.verifyViewAccess(tx, userId, userEmail13, participants13,
-                ParticipantPermission.VIEW_DOCUMENTS);
+        return getAllTransactionDocuments(resolveAccess(transactionId, userId), isBroker);
+    }
+
+    @Override
+    public List<UnifiedDocumentDTO> getAllTransactionDocuments(TransactionAccessContext access, boolean isBroker) {
+        access.verifyViewAccess(ParticipantPermission.VIEW_DOCUMENTS);
+        UUID transactionId = access.transactionId();
 
         List<UnifiedDocumentDTO> allDocuments = new ArrayList<>();
 
@@ -0,0 +1,22 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+
+/**
+ * How the transaction emails address a client or name a broker.
+ */
+final class AccountNames {
+
+    private AccountNames() {
+    }
+
+    static String fullName(UserAccount account) {
+        String name = (account.getFirstName() != null ? account.getFirstName() : "") + " " +
+                (account.getLastName() != null ? account.getLastName() : "");
+        return name.trim();
+    }
+
+    static String language(UserAccount account) {
+        return account.getPreferredLanguage() != null ? account.getPreferredLanguage() : "en";
+    }
+}
@@ -0,0 +1,21 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.transactions.datalayer.enums.ClientOfferDecision;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Raised when a seller client tells their broker what they want to do with a received offer.
+ *
+ * @param clientName the client's display name at the time of the decision
+ */
+public record ClientOfferDecisionEvent(
+        UUID transactionId,
+        UUID offerId,
+        UUID brokerId,
+        String clientName,
+        String buyerName,
+        ClientOfferDecision decision,
+        BigDecimal offerAmount) {
+}
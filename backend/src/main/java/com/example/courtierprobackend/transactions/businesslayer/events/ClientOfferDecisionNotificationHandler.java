@@ -0,0 +1,39 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * In-app notification to the broker when a seller client records a decision on a received offer.
+ */
+@Component
+@RequiredArgsConstructor
+public class ClientOfferDecisionNotificationHandler implements DomainEventHandler<ClientOfferDecisionEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<ClientOfferDecisionEvent> eventType() {
+        return ClientOfferDecisionEvent.class;
+    }
+
+    @Override
+    public void handle(ClientOfferDecisionEvent event) {
+        notificationService.createNotification(
+                event.brokerId().toString(),
+                "notifications.clientOfferDecision.title",
+                "notifications.clientOfferDecision.message",
+                Map.of(
+                        "clientName", event.clientName(),
+                        "buyerName", event.buyerName(),
+                        "decision", event.decision().name(),
+                        "offerAmount", String.format("$%,.0f", event.offerAmount())),
+                event.transactionId().toString(),
+                NotificationCategory.OFFER_MADE);
+    }
+}
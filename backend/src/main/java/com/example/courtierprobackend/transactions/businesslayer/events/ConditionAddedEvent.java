@@ -0,0 +1,17 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * Raised when a broker adds a condition to a transaction that has a client.
+ *
+ * @param conditionName the condition type, or the custom title of an OTHER condition
+ */
+public record ConditionAddedEvent(
+        UUID transactionId,
+        UUID conditionId,
+        UUID clientId,
+        String conditionName,
+        LocalDate deadline) {
+}
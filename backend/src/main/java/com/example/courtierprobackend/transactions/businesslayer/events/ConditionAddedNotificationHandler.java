@@ -0,0 +1,37 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * In-app notification to the client when a condition is added to their transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionAddedNotificationHandler implements DomainEventHandler<ConditionAddedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<ConditionAddedEvent> eventType() {
+        return ConditionAddedEvent.class;
+    }
+
+    @Override
+    public void handle(ConditionAddedEvent event) {
+        notificationService.createNotification(
+                event.clientId().toString(),
+                "notifications.conditionAdded.title",
+                "notifications.conditionAdded.message",
+                Map.of(
+                        "conditionType", event.conditionName(),
+                        "deadline", event.deadline().toString()),
+                event.transactionId().toString(),
+                NotificationCategory.GENERAL);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.transactions.datalayer.enums.ConditionStatus;
+
+import java.util.UUID;
+
+/**
+ * Raised when a broker changes the status of a condition on a transaction that has a client.
+ *
+ * @param conditionName the condition type, or the custom title of an OTHER condition
+ */
+public record ConditionStatusChangedEvent(
+        UUID transactionId,
+        UUID conditionId,
+        UUID clientId,
+        String conditionName,
+        ConditionStatus previousStatus,
+        ConditionStatus newStatus) {
+}
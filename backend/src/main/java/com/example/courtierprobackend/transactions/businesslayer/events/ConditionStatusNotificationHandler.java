@@ -0,0 +1,47 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.transactions.datalayer.enums.ConditionStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * In-app notification to the client when a condition is satisfied, fails or goes back to pending.
+ */
+@Component
+@RequiredArgsConstructor
+public class ConditionStatusNotificationHandler implements DomainEventHandler<ConditionStatusChangedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<ConditionStatusChangedEvent> eventType() {
+        return ConditionStatusChangedEvent.class;
+    }
+
+    @Override
+    public void handle(ConditionStatusChangedEvent event) {
+        String key;
+        if (event.newStatus() == ConditionStatus.SATISFIED) {
+            key = "notifications.conditionSatisfied";
+        } else if (event.newStatus() == ConditionStatus.FAILED) {
+            key = "notifications.conditionFailed";
+        } else {
+            // e.g. reverting from SATISFIED to PENDING
+            key = "notifications.conditionStatusChanged";
+        }
+        notificationService.createNotification(
+                event.clientId().toString(),
+                key + ".title",
+                key + ".message",
+                Map.of(
+                        "conditionType", event.conditionName(),
+                        "status", event.newStatus().name()),
+                event.transactionId().toString(),
+                NotificationCategory.GENERAL);
+    }
+}
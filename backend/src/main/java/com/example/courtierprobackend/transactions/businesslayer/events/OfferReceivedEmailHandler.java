@@ -0,0 +1,40 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emails the client when an offer is received on their property.
+ */
+@Component
+@RequiredArgsConstructor
+public class OfferReceivedEmailHandler implements DomainEventHandler<OfferReceivedEvent> {
+
+    private final EmailService emailService;
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    public Class<OfferReceivedEvent> eventType() {
+        return OfferReceivedEvent.class;
+    }
+
+    @Override
+    public void handle(OfferReceivedEvent event) {
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            return;
+        }
+        emailService.sendOfferReceivedNotification(
+                client.getEmail(),
+                AccountNames.fullName(client),
+                AccountNames.fullName(broker),
+                event.buyerName(),
+                String.format("$%,.0f", event.offerAmount()),
+                AccountNames.language(client));
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Raised when a broker records an offer received on a seller client's property.
+ */
+public record OfferReceivedEvent(
+        UUID transactionId,
+        UUID offerId,
+        UUID clientId,
+        UUID brokerId,
+        String buyerName,
+        BigDecimal offerAmount) {
+}
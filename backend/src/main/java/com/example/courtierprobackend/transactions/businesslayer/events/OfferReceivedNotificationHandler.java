@@ -0,0 +1,37 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * In-app notification to the client when an offer is received on their property.
+ */
+@Component
+@RequiredArgsConstructor
+public class OfferReceivedNotificationHandler implements DomainEventHandler<OfferReceivedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<OfferReceivedEvent> eventType() {
+        return OfferReceivedEvent.class;
+    }
+
+    @Override
+    public void handle(OfferReceivedEvent event) {
+        notificationService.createNotification(
+                event.clientId().toString(),
+                "notifications.offerReceived.title",
+                "notifications.offerReceived.message",
+                Map.of(
+                        "buyerName", event.buyerName(),
+                        "offerAmount", String.format("$%,.0f", event.offerAmount())),
+                event.transactionId().toString(),
+                NotificationCategory.OFFER_RECEIVED);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.transactions.datalayer.enums.ReceivedOfferStatus;
+
+import java.util.UUID;
+
+/**
+ * Raised when a broker moves a received offer to a status the client must hear about
+ * (countered, accepted or declined).
+ */
+public record OfferStatusChangedEvent(
+        UUID transactionId,
+        UUID offerId,
+        UUID clientId,
+        UUID brokerId,
+        String buyerName,
+        ReceivedOfferStatus previousStatus,
+        ReceivedOfferStatus newStatus) {
+}
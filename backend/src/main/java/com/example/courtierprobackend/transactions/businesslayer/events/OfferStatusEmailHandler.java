@@ -0,0 +1,41 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emails the client when a received offer is countered, accepted or declined.
+ */
+@Component
+@RequiredArgsConstructor
+public class OfferStatusEmailHandler implements DomainEventHandler<OfferStatusChangedEvent> {
+
+    private final EmailService emailService;
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    public Class<OfferStatusChangedEvent> eventType() {
+        return OfferStatusChangedEvent.class;
+    }
+
+    @Override
+    public void handle(OfferStatusChangedEvent event) {
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            return;
+        }
+        emailService.sendOfferStatusChangedNotification(
+                client.getEmail(),
+                AccountNames.fullName(client),
+                AccountNames.fullName(broker),
+                event.buyerName(),
+                event.previousStatus() != null ? event.previousStatus().name() : "UNKNOWN",
+                event.newStatus().name(),
+                AccountNames.language(client));
+    }
+}
@@ -0,0 +1,40 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.transactions.datalayer.enums.ReceivedOfferStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * In-app notification to the client when a received offer is countered, accepted or declined.
+ */
+@Component
+@RequiredArgsConstructor
+public class OfferStatusNotificationHandler implements DomainEventHandler<OfferStatusChangedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<OfferStatusChangedEvent> eventType() {
+        return OfferStatusChangedEvent.class;
+    }
+
+    @Override
+    public void handle(OfferStatusChangedEvent event) {
+        notificationService.createNotification(
+                event.clientId().toString(),
+                "notifications.offerStatusChanged.title",
+                "notifications.offerStatusChanged.message",
+                Map.of(
+                        "buyerName", event.buyerName(),
+                        "status", event.newStatus().name()),
+                event.transactionId().toString(),
+                event.newStatus() == ReceivedOfferStatus.COUNTERED
+                        ? NotificationCategory.OFFER_COUNTERED
+                        : NotificationCategory.OFFER_STATUS_CHANGED);
+    }
+}
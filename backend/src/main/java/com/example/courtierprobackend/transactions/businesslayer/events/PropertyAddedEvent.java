@@ -0,0 +1,15 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import java.util.UUID;
+
+/**
+ * Raised when a broker adds a property to a buy-side transaction.
+ *
+ * @param address street shown to the client, captured when the property was added
+ */
+public record PropertyAddedEvent(
+        UUID transactionId,
+        UUID propertyId,
+        UUID clientId,
+        String address) {
+}
@@ -0,0 +1,35 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * In-app notification to the client when a property is added to their transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyAddedNotificationHandler implements DomainEventHandler<PropertyAddedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<PropertyAddedEvent> eventType() {
+        return PropertyAddedEvent.class;
+    }
+
+    @Override
+    public void handle(PropertyAddedEvent event) {
+        notificationService.createNotification(
+                event.clientId().toString(),
+                "notifications.propertyAdded.title",
+                "notifications.propertyAdded.message",
+                Map.of("address", event.address()),
+                event.transactionId().toString(),
+                NotificationCategory.PROPERTY_ADDED);
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emails the client when their broker makes an offer on a property.
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyOfferMadeEmailHandler implements DomainEventHandler<PropertyOfferMadeEvent> {
+
+    private final EmailService emailService;
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    public Class<PropertyOfferMadeEvent> eventType() {
+        return PropertyOfferMadeEvent.class;
+    }
+
+    @Override
+    public void handle(PropertyOfferMadeEvent event) {
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            return;
+        }
+        emailService.sendPropertyOfferMadeNotification(
+                client.getEmail(),
+                AccountNames.fullName(client),
+                AccountNames.fullName(broker),
+                event.address(),
+                String.format("$%,.0f", event.offerAmount()),
+                event.offerRound(),
+                AccountNames.language(client));
+    }
+}
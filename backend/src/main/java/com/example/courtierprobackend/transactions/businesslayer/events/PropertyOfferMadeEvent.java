@@ -0,0 +1,20 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import java.math.BigDecimal;
+import java.util.UUID;
+
+/**
+ * Raised when a broker makes an offer on a property for a buyer client.
+ *
+ * @param address    street of the property, captured when the offer was made
+ * @param offerRound 1 for the first offer on the property, incremented for each new one
+ */
+public record PropertyOfferMadeEvent(
+        UUID transactionId,
+        UUID propertyOfferId,
+        UUID clientId,
+        UUID brokerId,
+        String address,
+        BigDecimal offerAmount,
+        int offerRound) {
+}
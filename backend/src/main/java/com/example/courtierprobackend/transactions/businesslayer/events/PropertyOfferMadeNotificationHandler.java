@@ -0,0 +1,38 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * In-app notification to the client when their broker makes an offer on a property.
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyOfferMadeNotificationHandler implements DomainEventHandler<PropertyOfferMadeEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<PropertyOfferMadeEvent> eventType() {
+        return PropertyOfferMadeEvent.class;
+    }
+
+    @Override
+    public void handle(PropertyOfferMadeEvent event) {
+        notificationService.createNotification(
+                event.clientId().toString(),
+                "notifications.propertyOfferMade.title",
+                "notifications.propertyOfferMade.message",
+                Map.of(
+                        "address", event.address(),
+                        "offerAmount", String.format("$%,.0f", event.offerAmount()),
+                        "offerRound", String.valueOf(event.offerRound())),
+                event.transactionId().toString(),
+                NotificationCategory.OFFER_MADE);
+    }
+}
@@ -0,0 +1,23 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.transactions.datalayer.enums.BuyerOfferStatus;
+import com.example.courtierprobackend.transactions.datalayer.enums.CounterpartyResponse;
+
+import java.util.UUID;
+
+/**
+ * Raised when an offer the broker made on a property is countered, accepted or declined.
+ *
+ * @param address              street of the property, captured at the time of the change
+ * @param counterpartyResponse the seller's response recorded with the change, may be null
+ */
+public record PropertyOfferStatusChangedEvent(
+        UUID transactionId,
+        UUID propertyOfferId,
+        UUID clientId,
+        UUID brokerId,
+        String address,
+        BuyerOfferStatus previousStatus,
+        BuyerOfferStatus newStatus,
+        CounterpartyResponse counterpartyResponse) {
+}
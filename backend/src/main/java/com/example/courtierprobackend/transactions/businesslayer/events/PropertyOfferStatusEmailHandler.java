@@ -0,0 +1,42 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * Emails the client when an offer on a property is countered, accepted or declined.
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyOfferStatusEmailHandler implements DomainEventHandler<PropertyOfferStatusChangedEvent> {
+
+    private final EmailService emailService;
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    public Class<PropertyOfferStatusChangedEvent> eventType() {
+        return PropertyOfferStatusChangedEvent.class;
+    }
+
+    @Override
+    public void handle(PropertyOfferStatusChangedEvent event) {
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            return;
+        }
+        emailService.sendPropertyOfferStatusChangedNotification(
+                client.getEmail(),
+                AccountNames.fullName(client),
+                AccountNames.fullName(broker),
+                event.address(),
+                event.previousStatus().name(),
+                event.newStatus().name(),
+                event.counterpartyResponse() != null ? event.counterpartyResponse().name() : null,
+                AccountNames.language(client));
+    }
+}
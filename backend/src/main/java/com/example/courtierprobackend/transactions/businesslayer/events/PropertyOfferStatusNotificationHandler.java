@@ -0,0 +1,40 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.transactions.datalayer.enums.BuyerOfferStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * In-app notification to the client when an offer on a property is countered, accepted or declined.
+ */
+@Component
+@RequiredArgsConstructor
+public class PropertyOfferStatusNotificationHandler implements DomainEventHandler<PropertyOfferStatusChangedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<PropertyOfferStatusChangedEvent> eventType() {
+        return PropertyOfferStatusChangedEvent.class;
+    }
+
+    @Override
+    public void handle(PropertyOfferStatusChangedEvent event) {
+        notificationService.createNotification(
+                event.clientId().toString(),
+                "notifications.propertyOfferStatusChanged.title",
+                "notifications.propertyOfferStatusChanged.message",
+                Map.of(
+                        "address", event.address(),
+                        "status", event.newStatus().name()),
+                event.transactionId().toString(),
+                event.newStatus() == BuyerOfferStatus.COUNTERED
+                        ? NotificationCategory.OFFER_COUNTERED
+                        : NotificationCategory.OFFER_STATUS_CHANGED);
+    }
+}
@@ -0,0 +1,54 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.Optional;
+
+/**
+ * CP-48: emails the client when their transaction advances. Rollbacks are not emailed.
+ */
+@Component
+@RequiredArgsConstructor
+public class StageChangeEmailHandler implements DomainEventHandler<StageChangedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StageChangeEmailHandler.class);
+
+    private final EmailService emailService;
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    public Class<StageChangedEvent> eventType() {
+        return StageChangedEvent.class;
+    }
+
+    @Override
+    public void handle(StageChangedEvent event) {
+        if (event.rollback()) {
+            return;
+        }
+        Optional<UserAccount> clientOpt = userAccountRepository.findById(event.clientId());
+        Optional<UserAccount> brokerOpt = userAccountRepository.findById(event.brokerId());
+        if (clientOpt.isEmpty() || brokerOpt.isEmpty()) {
+            log.warn("Could not send stage update email for transaction {}: Client or Broker not found",
+                    event.transactionId());
+            return;
+        }
+        UserAccount client = clientOpt.get();
+        UserAccount broker = brokerOpt.get();
+
+        emailService.sendStageUpdateEmail(
+                client.getEmail(),
+                (client.getFirstName() + " " + client.getLastName()).trim(),
+                (broker.getFirstName() + " " + broker.getLastName()).trim(),
+                event.propertyAddress(),
+                event.stage(),
+                client.getPreferredLanguage());
+    }
+}
@@ -0,0 +1,66 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.shared.utils.StageTranslationUtil;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * CP-48: in-app notification to the client for stage updates and rollbacks.
+ */
+@Component
+@RequiredArgsConstructor
+public class StageChangeNotificationHandler implements DomainEventHandler<StageChangedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(StageChangeNotificationHandler.class);
+
+    private final NotificationService notificationService;
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    public Class<StageChangedEvent> eventType() {
+        return StageChangedEvent.class;
+    }
+
+    @Override
+    public void handle(StageChangedEvent event) {
+        Optional<UserAccount> clientOpt = userAccountRepository.findById(event.clientId());
+        Optional<UserAccount> brokerOpt = userAccountRepository.findById(event.brokerId());
+        if (clientOpt.isEmpty() || brokerOpt.isEmpty()) {
+            log.warn("Could not send stage notification for transaction {}: Client or Broker not found",
+                    event.transactionId());
+            return;
+        }
+        UserAccount client = clientOpt.get();
+        UserAccount broker = brokerOpt.get();
+
+        String titleKey = event.rollback() ? "notifications.stageRollback.title"
+                : "notifications.stageUpdate.title";
+        String messageKey = event.rollback() ? "notifications.stageRollback.message"
+                : "notifications.stageUpdate.message";
+
+        // Params for frontend translation (must match {{keys}} in JSON)
+        Map<String, Object> params = new HashMap<>();
+        params.put("stage", StageTranslationUtil.getTranslatedStage(event.stage(), client.getPreferredLanguage()));
+        params.put("brokerName", (broker.getFirstName() + " " + broker.getLastName()).trim());
+        params.put("propertyAddress", event.propertyAddress());
+
+        notificationService.createNotification(
+                client.getId().toString(),
+                titleKey,
+                messageKey,
+                params,
+                event.transactionId().toString(),
+                NotificationCategory.STAGE_UPDATE);
+    }
+}
@@ -0,0 +1,19 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import java.util.UUID;
+
+/**
+ * Raised when a broker moves a transaction to another stage.
+ *
+ * @param stage           the new buyer or seller stage name
+ * @param rollback        whether the new stage precedes the previous one
+ * @param propertyAddress street shown to the client, captured at the time of the change
+ */
+public record StageChangedEvent(
+        UUID transactionId,
+        UUID clientId,
+        UUID brokerId,
+        String stage,
+        boolean rollback,
+        String propertyAddress) {
+}
@@ -0,0 +1,14 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import java.util.UUID;
+
+/**
+ * Raised when a broker opens a transaction for a client.
+ *
+ * @param brokerName the broker's display name at the time the transaction was created
+ */
+public record TransactionCreatedEvent(
+        UUID transactionId,
+        UUID clientId,
+        String brokerName) {
+}
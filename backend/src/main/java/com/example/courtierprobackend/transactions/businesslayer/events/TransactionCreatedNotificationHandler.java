@@ -0,0 +1,35 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * CP-48: in-app notification to the client when their broker opens a transaction.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionCreatedNotificationHandler implements DomainEventHandler<TransactionCreatedEvent> {
+
+    private final NotificationService notificationService;
+
+    @Override
+    public Class<TransactionCreatedEvent> eventType() {
+        return TransactionCreatedEvent.class;
+    }
+
+    @Override
+    public void handle(TransactionCreatedEvent event) {
+        notificationService.createNotification(
+                event.clientId().toString(),
+                "notifications.transactionCreated.title",
+                "notifications.transactionCreated.message",
+                Map.of("brokerName", event.brokerName()),
+                event.transactionId().toString(),
+                NotificationCategory.GENERAL);
+    }
+}
@@ -0,0 +1,17 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import java.util.UUID;
+
+/**
+ * Raised when a broker terminates a transaction.
+ *
+ * @param stage           the buyer or seller stage the transaction was in when it ended
+ * @param propertyAddress street shown to the client, captured at the time of termination
+ */
+public record TransactionTerminatedEvent(
+        UUID transactionId,
+        UUID clientId,
+        UUID brokerId,
+        String stage,
+        String propertyAddress) {
+}
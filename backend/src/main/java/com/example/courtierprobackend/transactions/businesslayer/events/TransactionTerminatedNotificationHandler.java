@@ -0,0 +1,57 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.shared.utils.StageTranslationUtil;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * In-app notification to the client when their transaction is terminated, naming the stage it ended in.
+ */
+@Component
+@RequiredArgsConstructor
+public class TransactionTerminatedNotificationHandler implements DomainEventHandler<TransactionTerminatedEvent> {
+
+    private static final Logger log = LoggerFactory.getLogger(TransactionTerminatedNotificationHandler.class);
+
+    private final NotificationService notificationService;
+    private final UserAccountRepository userAccountRepository;
+
+    @Override
+    public Class<TransactionTerminatedEvent> eventType() {
+        return TransactionTerminatedEvent.class;
+    }
+
+    @Override
+    public void handle(TransactionTerminatedEvent event) {
+        UserAccount client = userAccountRepository.findById(event.clientId()).orElse(null);
+        UserAccount broker = userAccountRepository.findById(event.brokerId()).orElse(null);
+        if (client == null || broker == null) {
+            log.warn("Could not send termination notification for transaction {}: Client or Broker not found",
+                    event.transactionId());
+            return;
+        }
+
+        Map<String, Object> params = new HashMap<>();
+        params.put("stage", StageTranslationUtil.getTranslatedStage(event.stage(), client.getPreferredLanguage()));
+        params.put("brokerName", (broker.getFirstName() + " " + broker.getLastName()).trim());
+        params.put("propertyAddress", event.propertyAddress());
+
+        notificationService.createNotification(
+                client.getId().toString(),
+                "notifications.transactionTerminated.title",
+                "notifications.transactionTerminated.message",
+                params,
+                event.transactionId().toString(),
+                NotificationCategory.STAGE_UPDATE);
+    }
+}
@@ -1,11 +1,15 @@
 package com.example.courtierprobackend.transactions.datalayer;
 
+import com.example.courtierprobackend.search.SearchIndexEvent;
+import com.example.courtierprobackend.search.dto.SearchResultDTO;
 import com.example.courtierprobackend.transactions.datalayer.enums.PropertyOfferStatus;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.DomainEvents;
 
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -81,4 +85,10 @@ public class Property {
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
     }
+
+    // Property centris numbers and notes are searchable through their transaction
+    @DomainEvents
+    List<SearchIndexEvent> searchIndexEvents() {
+        return List.of(new SearchIndexEvent(SearchResultDTO.SearchResultType.TRANSACTION, transactionId));
+    }
 }
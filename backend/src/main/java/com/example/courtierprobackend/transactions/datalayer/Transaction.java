@@ -2,11 +2,15 @@ package com.example.courtierprobackend.transactions.datalayer;
 
 // TimelineEntry import removed: timeline is now handled via audit/timeline module
 import com.example.courtierprobackend.transactions.datalayer.enums.*;
+import com.example.courtierprobackend.search.SearchIndexEvent;
+import com.example.courtierprobackend.search.dto.SearchResultDTO;
 import jakarta.persistence.*;
 import lombok.*;
+import org.springframework.data.domain.DomainEvents;
 import org.hibernate.annotations.Where;
 
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.UUID;
 
 @Entity
@@ -63,6 +67,11 @@ public class Transaction {
     @Version
     private Long version;
 
+    // Bumped by database triggers whenever the transaction or a row on its pages
+    // changes (V9, V16); read-only here, used for ETags on the read endpoints
+    @Column(name = "view_version", insertable = false, updatable = false)
+    private Long viewVersion;
+
     // Timeline is now handled via audit/timeline module, not as a direct relation
 
     // Archive fields - allows brokers to hide completed transactions from default views
@@ -94,4 +103,10 @@ public class Transaction {
     protected void onUpdate() {
         lastUpdated = LocalDateTime.now();
     }
+
+    // Refreshes the search index after every repository save
+    @DomainEvents
+    List<SearchIndexEvent> searchIndexEvents() {
+        return List.of(new SearchIndexEvent(SearchResultDTO.SearchResultType.TRANSACTION, transactionId));
+    }
 }
@@ -0,0 +1,16 @@
+package com.example.courtierprobackend.transactions.datalayer;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns that change whenever anything shown on a transaction's pages changes:
+ * the optimistic-lock version and lastUpdated of the row itself, and the
+ * trigger-maintained view version that also covers child rows and the names and
+ * emails of the client and broker accounts.
+ */
+public record TransactionVersionStamp(Long version, Long viewVersion, LocalDateTime lastUpdated) {
+
+    public String token() {
+        return version + "." + viewVersion + "." + lastUpdated;
+    }
+}
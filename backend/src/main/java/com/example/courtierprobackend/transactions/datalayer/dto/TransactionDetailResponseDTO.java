@@ -0,0 +1,31 @@
+package com.example.courtierprobackend.transactions.datalayer.dto;
+
+import com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO;
+import com.example.courtierprobackend.documents.presentationlayer.models.StageChecklistResponseDTO;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionDetailSection;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Builder;
+import lombok.Data;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Transaction detail page in one response. Sections that were not requested are
+ * omitted; sections the caller may not view are listed in {@code deniedSections}.
+ */
+@Data
+@Builder
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class TransactionDetailResponseDTO {
+    private TransactionResponseDTO transaction;
+    private List<ParticipantResponseDTO> participants;
+    private List<PropertyResponseDTO> properties;
+    private List<OfferResponseDTO> offers;
+    private List<ConditionResponseDTO> conditions;
+    private List<TimelineEntryDTO> timeline;
+    private List<VisitorResponseDTO> visitors;
+    private StageChecklistResponseDTO checklist;
+    private List<UnifiedDocumentDTO> documents;
+    private Set<TransactionDetailSection> deniedSections;
+}
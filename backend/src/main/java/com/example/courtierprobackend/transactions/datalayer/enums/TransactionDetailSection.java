@@ -0,0 +1,43 @@
+package com.example.courtierprobackend.transactions.datalayer.enums;
+
+import com.example.courtierprobackend.common.exceptions.BadRequestException;
+
+import java.util.Collection;
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * Optional sections of the transaction detail view, selected with {@code ?include=}.
+ * The transaction itself is always returned.
+ */
+public enum TransactionDetailSection {
+    PARTICIPANTS,
+    PROPERTIES,
+    OFFERS,
+    CONDITIONS,
+    TIMELINE,
+    VISITORS,
+    CHECKLIST,
+    DOCUMENTS;
+
+    /**
+     * Parses case-insensitive section names; no names selects every section.
+     */
+    public static Set<TransactionDetailSection> parse(Collection<String> names) {
+        if (names == null || names.isEmpty()) {
+            return EnumSet.allOf(TransactionDetailSection.class);
+        }
+        Set<TransactionDetailSection> sections = EnumSet.noneOf(TransactionDetailSection.class);
+        for (String name : names) {
+            if (name == null || name.isBlank()) {
+                continue;
+            }
+            try {
+                sections.add(valueOf(name.trim().toUpperCase()));
+            } catch (IllegalArgumentException e) {
+                throw new BadRequestException("Unknown transaction detail section: " + name);
+            }
+        }
+        return sections;
+    }
+}
@@ -19,6 +19,8 @@ public interface ConditionRepository extends JpaRepository<Condition, Long> {
 
     Optional<Condition> findByConditionId(UUID conditionId);
 
+    List<Condition> findByConditionIdIn(Collection<UUID> conditionIds);
+
     /**
      * Find conditions for given transactions with a specific status and deadline within a date range.
      * Used for dashboard risk indicators to find approaching condition deadlines.
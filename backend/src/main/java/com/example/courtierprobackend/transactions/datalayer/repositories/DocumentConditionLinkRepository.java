@@ -4,6 +4,7 @@ import com.example.courtierprobackend.transactions.datalayer.DocumentConditionLi
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
@@ -16,6 +17,10 @@ public interface DocumentConditionLinkRepository extends JpaRepository<DocumentC
 
     List<DocumentConditionLink> findByDocumentId(UUID documentId);
 
+    List<DocumentConditionLink> findByOfferIdIn(Collection<UUID> offerIds);
+
+    List<DocumentConditionLink> findByPropertyOfferIdIn(Collection<UUID> propertyOfferIds);
+
     void deleteByOfferId(UUID offerId);
 
     void deleteByPropertyOfferId(UUID propertyOfferId);
@@ -4,6 +4,7 @@ import com.example.courtierprobackend.transactions.datalayer.OfferDocument;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -15,6 +16,10 @@ public interface OfferDocumentRepository extends JpaRepository<OfferDocument, Lo
 
     List<OfferDocument> findByPropertyOfferIdOrderByCreatedAtDesc(UUID propertyOfferId);
 
+    List<OfferDocument> findByOfferIdInOrderByCreatedAtDesc(Collection<UUID> offerIds);
+
+    List<OfferDocument> findByPropertyOfferIdInOrderByCreatedAtDesc(Collection<UUID> propertyOfferIds);
+
     Optional<OfferDocument> findByDocumentId(UUID documentId);
 
     void deleteByDocumentId(UUID documentId);
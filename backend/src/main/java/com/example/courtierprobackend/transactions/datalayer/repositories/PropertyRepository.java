@@ -2,8 +2,11 @@ package com.example.courtierprobackend.transactions.datalayer.repositories;
 
 import com.example.courtierprobackend.transactions.datalayer.Property;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -13,9 +16,21 @@ public interface PropertyRepository extends JpaRepository<Property, Long> {
 
     List<Property> findByTransactionIdOrderByCreatedAtDesc(UUID transactionId);
 
+    /**
+     * Batch variant of {@link #findByTransactionIdOrderByCreatedAtDesc}, newest first.
+     */
+    List<Property> findByTransactionIdInOrderByCreatedAtDesc(Collection<UUID> transactionIds);
+
     Optional<Property> findByPropertyId(UUID propertyId);
 
     void deleteByPropertyId(UUID propertyId);
 
     boolean existsByPropertyId(UUID propertyId);
+
+    /**
+     * Batch fetch the searchable text of the properties attached to the given transactions.
+     * Returns rows of [transactionId, centrisNumber, notes].
+     */
+    @Query("SELECT p.transactionId, p.centrisNumber, p.notes FROM Property p WHERE p.transactionId IN :transactionIds")
+    List<Object[]> findSearchTextByTransactionIdIn(@Param("transactionIds") Collection<UUID> transactionIds);
 }
@@ -2,9 +2,12 @@ package com.example.courtierprobackend.transactions.datalayer.repositories;
 
 import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import com.example.courtierprobackend.transactions.datalayer.enums.TransactionStatus;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.*;
@@ -21,8 +24,20 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
 
         List<Transaction> findAllByBrokerId(UUID brokerId);
 
+        long countByBrokerId(UUID brokerId);
+
         List<Transaction> findAllByClientId(UUID clientId);
 
+        /**
+         * Sets lastUpdated without loading the rows. A bulk update skips @Version and
+         * @PreUpdate, so it never conflicts with a concurrent edit of the transaction.
+         */
+        @Modifying
+        @Transactional
+        @Query("UPDATE Transaction t SET t.lastUpdated = :lastUpdated WHERE t.transactionId IN :transactionIds")
+        int touchLastUpdated(@Param("transactionIds") Collection<UUID> transactionIds,
+                        @Param("lastUpdated") LocalDateTime lastUpdated);
+
         @Query("SELECT t FROM Transaction t WHERE t.brokerId = :brokerId " +
                         "AND (:status IS NULL OR t.status = :status) " +
                         "AND (:side IS NULL OR t.side = :side) " +
@@ -50,7 +65,12 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
                         "LOWER(COALESCE(t.notes, '')) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
                         "LOWER(COALESCE(t.centrisNumber, '')) LIKE LOWER(CONCAT('%', :query, '%')) OR " +
                         "EXISTS (SELECT p FROM Property p WHERE p.transactionId = t.transactionId AND (LOWER(p.centrisNumber) LIKE LOWER(CONCAT('%', :query, '%')) OR LOWER(p.notes) LIKE LOWER(CONCAT('%', :query, '%')))))")
-        List<Transaction> searchTransactions(@Param("userId") UUID userId, @Param("query") String query);
+        List<Transaction> searchTransactions(@Param("userId") UUID userId, @Param("query") String query,
+                        Pageable pageable);
+
+        default List<Transaction> searchTransactions(UUID userId, String query) {
+                return searchTransactions(userId, query, Pageable.unpaged());
+        }
 
 
         List<Transaction> findByClientIdIn(java.util.List<UUID> clientIds);
@@ -61,7 +81,11 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
                         "(t.clientId IN :userIds OR t.brokerId IN :userIds) AND " +
                         "(t.brokerId = :requesterId OR t.clientId = :requesterId)")
         List<Transaction> findLinkedToUsers(@Param("userIds") java.util.List<UUID> userIds,
-                        @Param("requesterId") UUID requesterId);
+                        @Param("requesterId") UUID requesterId, Pageable pageable);
+
+        default List<Transaction> findLinkedToUsers(java.util.List<UUID> userIds, UUID requesterId) {
+                return findLinkedToUsers(userIds, requesterId, Pageable.unpaged());
+        }
 
         @Query("SELECT t FROM Transaction t WHERE t.transactionId IN (SELECT p.transactionId FROM TransactionParticipant p WHERE p.email = :email) AND t.archived = false")
         List<Transaction> findAllByParticipantEmail(@Param("email") String email);
@@ -77,12 +101,45 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
         @Query(value = "SELECT * FROM transactions WHERE transaction_id = :transactionId", nativeQuery = true)
         Optional<Transaction> findByTransactionIdIncludingDeleted(@Param("transactionId") UUID transactionId);
 
+        // Open ends of an analytics range; both fit a Postgres timestamp
+        LocalDateTime ANALYTICS_EARLIEST = LocalDateTime.of(1900, 1, 1, 0, 0);
+        LocalDateTime ANALYTICS_LATEST = LocalDateTime.of(9999, 12, 31, 23, 59, 59);
+
+        /**
+         * A broker's transactions opened in a date range, either end optional.
+         *
+         * <p>Missing ends become {@link #ANALYTICS_EARLIEST}/{@link #ANALYTICS_LATEST} rather than a
+         * {@code cast(:startDate as timestamp) IS NULL OR ...} filter, which leaves Postgres a
+         * generic plan that cannot range-scan {@code opened_at}. Without any bound, rows with no
+         * {@code opened_at} are still included.</p>
+         */
+        default List<Transaction> findForAnalytics(UUID brokerId, LocalDateTime startDate, LocalDateTime endDate,
+                        com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide side) {
+                if (startDate == null && endDate == null) {
+                        return findAllForAnalytics(brokerId, side);
+                }
+                return findForAnalyticsOpenedBetween(brokerId,
+                                startDate != null ? startDate : ANALYTICS_EARLIEST,
+                                endDate != null ? endDate : ANALYTICS_LATEST, side);
+        }
+
+        default List<Transaction> findForAnalyticsWithClients(UUID brokerId, LocalDateTime startDate,
+                        LocalDateTime endDate,
+                        com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide side,
+                        List<UUID> clientIds) {
+                if (startDate == null && endDate == null) {
+                        return findAllForAnalyticsWithClients(brokerId, side, clientIds);
+                }
+                return findForAnalyticsOpenedBetweenWithClients(brokerId,
+                                startDate != null ? startDate : ANALYTICS_EARLIEST,
+                                endDate != null ? endDate : ANALYTICS_LATEST, side, clientIds);
+        }
+
         @Query("SELECT t FROM Transaction t " +
                 "WHERE t.brokerId = :brokerId " +
-                "AND (cast(:startDate as timestamp) IS NULL OR t.openedAt >= :startDate) " +
-                "AND (cast(:endDate as timestamp) IS NULL OR t.openedAt <= :endDate) " +
+                "AND t.openedAt >= :startDate AND t.openedAt <= :endDate " +
                 "AND (:side IS NULL OR t.side = :side)")
-        List<Transaction> findForAnalytics(
+        List<Transaction> findForAnalyticsOpenedBetween(
                 @Param("brokerId") UUID brokerId,
                 @Param("startDate") LocalDateTime startDate,
                 @Param("endDate") LocalDateTime endDate,
@@ -90,20 +147,42 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
 
         @Query("SELECT t FROM Transaction t " +
                 "WHERE t.brokerId = :brokerId " +
-                "AND (cast(:startDate as timestamp) IS NULL OR t.openedAt >= :startDate) " +
-                "AND (cast(:endDate as timestamp) IS NULL OR t.openedAt <= :endDate) " +
+                "AND (:side IS NULL OR t.side = :side)")
+        List<Transaction> findAllForAnalytics(
+                @Param("brokerId") UUID brokerId,
+                @Param("side") com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide side);
+
+        @Query("SELECT t FROM Transaction t " +
+                "WHERE t.brokerId = :brokerId " +
+                "AND t.openedAt >= :startDate AND t.openedAt <= :endDate " +
                 "AND (:side IS NULL OR t.side = :side) " +
                 "AND t.clientId IN (:clientIds)")
-        List<Transaction> findForAnalyticsWithClients(
+        List<Transaction> findForAnalyticsOpenedBetweenWithClients(
                 @Param("brokerId") UUID brokerId,
                 @Param("startDate") LocalDateTime startDate,
                 @Param("endDate") LocalDateTime endDate,
                 @Param("side") com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide side,
                 @Param("clientIds") java.util.List<UUID> clientIds);
 
+        @Query("SELECT t FROM Transaction t " +
+                "WHERE t.brokerId = :brokerId " +
+                "AND (:side IS NULL OR t.side = :side) " +
+                "AND t.clientId IN (:clientIds)")
+        List<Transaction> findAllForAnalyticsWithClients(
+                @Param("brokerId") UUID brokerId,
+                @Param("side") com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide side,
+                @Param("clientIds") java.util.List<UUID> clientIds);
+
         @Query("SELECT t FROM Transaction t WHERE t.brokerId = :brokerId " +
                         "AND t.status = com.example.courtierprobackend.transactions.datalayer.enums.TransactionStatus.ACTIVE " +
                         "AND t.lastUpdated < :threshold")
         List<Transaction> findStalledTransactions(@Param("brokerId") java.util.UUID brokerId,
                         @Param("threshold") java.time.LocalDateTime threshold);
+
+        @Query("SELECT t FROM Transaction t WHERE t.brokerId IN :brokerIds " +
+                        "AND t.status = com.example.courtierprobackend.transactions.datalayer.enums.TransactionStatus.ACTIVE " +
+                        "AND t.lastUpdated < :threshold " +
+                        "ORDER BY t.brokerId")
+        List<Transaction> findStalledTransactionsForBrokers(@Param("brokerIds") Collection<UUID> brokerIds,
+                        @Param("threshold") LocalDateTime threshold);
 }
@@ -2,6 +2,7 @@ package com.example.courtierprobackend.transactions.presentationlayer;
 
 import com.example.courtierprobackend.audit.timeline_audit.businesslayer.TimelineService;
 import com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO;
+import com.example.courtierprobackend.transactions.businesslayer.TransactionAccessContext;
 import com.example.courtierprobackend.transactions.businesslayer.TransactionService;
 import com.example.courtierprobackend.transactions.datalayer.dto.TransactionRequestDTO;
 import com.example.courtierprobackend.transactions.datalayer.dto.TransactionResponseDTO;
@@ -25,7 +26,9 @@ import com.example.courtierprobackend.transactions.datalayer.dto.SearchCriteriaR
 import com.example.courtierprobackend.transactions.datalayer.dto.TerminateRequestDTO;
 import com.example.courtierprobackend.transactions.datalayer.dto.MissingAutoDraftsResponseDTO;
 import com.example.courtierprobackend.transactions.datalayer.enums.ConditionStatus;
+import com.example.courtierprobackend.transactions.datalayer.enums.ParticipantPermission;
 
+import com.example.courtierprobackend.common.web.ConditionalGet;
 import com.example.courtierprobackend.security.UserContextUtils;
 import jakarta.validation.Valid;
 import jakarta.servlet.http.HttpServletRequest;
@@ -56,8 +59,15 @@ public class TransactionController {
             @PathVariable UUID transactionId,
             @AuthenticationPrincipal Jwt jwt,
             HttpServletRequest request) {
+        UUID userId = UserContextUtils.resolveUserId(request);
+        TransactionAccessContext access = service.resolveAccess(transactionId, userId);
+        access.verifyTransactionAccess();
+        String etag = ConditionalGet.etag(access.viewVersion(), "timeline", "client", userId);
+        if (ConditionalGet.isNotModified(request, etag)) {
+            return ConditionalGet.notModified(etag);
+        }
         List<TimelineEntryDTO> dtos = timelineService.getTimelineForClient(transactionId);
-        return ResponseEntity.ok(dtos);
+        return ConditionalGet.ok(etag, dtos);
     }
 
     /**
@@ -130,9 +140,15 @@ public class TransactionController {
             @RequestHeader(value = "x-broker-id", required = false) String brokerHeader,
             @AuthenticationPrincipal Jwt jwt,
             HttpServletRequest request) {
-        // Optionally: check access rights here
+        UUID userId = UserContextUtils.resolveUserId(request, brokerHeader);
+        TransactionAccessContext access = service.resolveAccess(transactionId, userId);
+        access.verifyTransactionAccess();
+        String etag = ConditionalGet.etag(access.viewVersion(), "timeline", userId);
+        if (ConditionalGet.isNotModified(request, etag)) {
+            return ConditionalGet.notModified(etag);
+        }
         List<TimelineEntryDTO> dtos = timelineService.getTimelineForTransaction(transactionId);
-        return ResponseEntity.ok(dtos);
+        return ConditionalGet.ok(etag, dtos);
     }
 
     @GetMapping
@@ -163,7 +179,13 @@ public class TransactionController {
             @AuthenticationPrincipal Jwt jwt,
             HttpServletRequest request) {
         UUID userId = UserContextUtils.resolveUserId(request, brokerHeader);
-        return ResponseEntity.ok(service.getByTransactionId(transactionId, userId));
+        TransactionAccessContext access = service.resolveAccess(transactionId, userId);
+        access.verifyTransactionAccess();
+        String etag = ConditionalGet.etag(access.viewVersion(), "transaction", userId);
+        if (ConditionalGet.isNotModified(request, etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        return ConditionalGet.ok(etag, service.getByTransactionId(access));
     }
 
     @PatchMapping("/{transactionId}/stage")
@@ -659,7 +681,13 @@ public class TransactionController {
             HttpServletRequest request) {
         UUID userId = UserContextUtils.resolveUserId(request, brokerHeader);
         boolean isBroker = UserContextUtils.isBroker(request);
-        return ResponseEntity.ok(service.getConditions(transactionId, userId, isBroker));
+        TransactionAccessContext access = service.resolveAccess(transactionId, userId);
+        access.verifyViewAccess(ParticipantPermission.VIEW_CONDITIONS);
+        String etag = ConditionalGet.etag(access.viewVersion(), "conditions", userId, isBroker);
+        if (ConditionalGet.isNotModified(request, etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        return ConditionalGet.ok(etag, service.getConditions(access, isBroker));
     }
 
     @PostMapping("/{transactionId}/conditions")
@@ -719,7 +747,13 @@ public class TransactionController {
             HttpServletRequest request) {
         UUID userId = UserContextUtils.resolveUserId(request, brokerHeader);
         boolean isBroker = UserContextUtils.isBroker(request);
-        return ResponseEntity.ok(service.getAllTransactionDocuments(transactionId, userId, isBroker));
+        TransactionAccessContext access = service.resolveAccess(transactionId, userId);
+        access.verifyViewAccess(ParticipantPermission.VIEW_DOCUMENTS);
+        String etag = ConditionalGet.etag(access.viewVersion(), "all-documents", userId, isBroker);
+        if (ConditionalGet.isNotModified(request, etag)) {
+            return ConditionalGet.notModified(etag);
+        }
+        return ConditionalGet.ok(etag, service.getAllTransactionDocuments(access, isBroker));
     }
 
     // ==================== SEARCH CRITERIA ENDPOINTS ====================
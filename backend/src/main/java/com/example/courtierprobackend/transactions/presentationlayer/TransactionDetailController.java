@@ -0,0 +1,40 @@
+package com.example.courtierprobackend.transactions.presentationlayer;
+
+import com.example.courtierprobackend.security.UserContextUtils;
+import com.example.courtierprobackend.transactions.businesslayer.TransactionDetailService;
+import com.example.courtierprobackend.transactions.datalayer.dto.TransactionDetailResponseDTO;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionDetailSection;
+import jakarta.servlet.http.HttpServletRequest;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+import java.util.List;
+import java.util.UUID;
+
+@RestController
+@RequestMapping("/transactions")
+@RequiredArgsConstructor
+public class TransactionDetailController {
+
+    private final TransactionDetailService transactionDetailService;
+
+    /**
+     * Transaction detail page in one round trip, e.g.
+     * {@code ?include=participants,offers,conditions}. Without {@code include} every
+     * section is returned.
+     */
+    @GetMapping("/{transactionId}/detail")
+    @PreAuthorize("hasAnyRole('BROKER', 'CLIENT')")
+    public ResponseEntity<TransactionDetailResponseDTO> getTransactionDetail(
+            @PathVariable UUID transactionId,
+            @RequestParam(required = false) List<String> include,
+            @RequestHeader(value = "x-broker-id", required = false) String brokerHeader,
+            HttpServletRequest request) {
+        UUID userId = UserContextUtils.resolveUserId(request, brokerHeader);
+        boolean isBroker = UserContextUtils.isBroker(request);
+        return ResponseEntity.ok(transactionDetailService.getTransactionDetail(
+                transactionId, userId, isBroker, TransactionDetailSection.parse(include)));
+    }
+}
@@ -38,8 +38,12 @@ public class Auth0UserSyncService {
      * - Creates new users that don't exist locally
      * - Updates existing users with latest Auth0 data
      * - Deactivates users that were deleted from Auth0
+     *
+     * A failure for one user is logged and skipped; a failure to list the users fails the sync.
+     *
+     * @return the number of users created, updated or deleted
      */
-    public void syncUsersFromAuth0() {
+    public int syncUsersFromAuth0() {
         log.info("Starting Auth0 user synchronization...");
 
         try {
@@ -129,9 +133,12 @@ public class Auth0UserSyncService {
 
             log.info("Auth0 sync complete: {} created, {} updated, {} unchanged, {} deleted",
                     created, updated, skipped, deleted);
+            return created + updated + deleted;
 
-        } catch (Exception e) {
+        } catch (RuntimeException e) {
+            // Rethrown so the job runner records the run as failed
             log.error("Failed to sync users from Auth0: {}", e.getMessage(), e);
+            throw e;
         }
     }
 
@@ -2,87 +2,183 @@ package com.example.courtierprobackend.user.businesslayer;
 
 import com.example.courtierprobackend.appointments.datalayer.Appointment;
 import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
+import com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus;
 import com.example.courtierprobackend.documents.datalayer.Document;
 import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
-import com.example.courtierprobackend.documents.datalayer.enums.DocumentStatusEnum;
 import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.jobs.ScheduledJobRunner;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher;
 import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
+import com.example.courtierprobackend.user.businesslayer.events.WeeklyDigestEmailEvent;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
-import com.example.courtierprobackend.user.dataaccesslayer.UserRole;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.time.DayOfWeek;
+import java.time.Duration;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.time.temporal.TemporalAdjusters;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.stream.Collectors;
 
+/**
+ * Emails every broker who opted in a digest of their week: upcoming appointments,
+ * pending documents and stalled transactions.
+ *
+ * <p>Brokers are claimed in batches with {@code SKIP LOCKED}, each batch in its own
+ * transaction. The three sections are loaded for the whole batch with one query each,
+ * the digests are rendered on the {@code digestRenderExecutor} pool, and each email is
+ * queued in the outbox as the broker's {@code weeklyDigestWeek} is set; the outbox
+ * dispatcher sends them in the background. The job fires several times on Monday
+ * morning: a later firing only finds the brokers an interrupted run had not reached,
+ * so nobody is sent the same week twice. Each firing runs on one instance only
+ * (see {@link ScheduledJobRunner}).</p>
+ */
 @Service
 @Slf4j
 public class WeeklyDigestService {
 
+    static final int BATCH_SIZE = 50;
+    static final String JOB_NAME = "weekly-digest";
+    private static final Duration LEASE = Duration.ofMinutes(10);
+
+    private static final List<AppointmentStatus> UPCOMING_STATUSES =
+            List.of(AppointmentStatus.CONFIRMED, AppointmentStatus.PROPOSED);
+
     private final UserAccountRepository userAccountRepository;
     private final AppointmentRepository appointmentRepository;
     private final DocumentRepository documentRepository;
     private final TransactionRepository transactionRepository;
     private final EmailService emailService;
+    private final DomainEventPublisher domainEventPublisher;
+    private final TransactionTemplate transactionTemplate;
+    private final Executor renderExecutor;
+    private final Clock clock;
+    private final ScheduledJobRunner jobRunner;
 
     public WeeklyDigestService(UserAccountRepository userAccountRepository,
                                AppointmentRepository appointmentRepository,
                                DocumentRepository documentRepository,
                                TransactionRepository transactionRepository,
-                               EmailService emailService) {
+                               EmailService emailService,
+                               DomainEventPublisher domainEventPublisher,
+                               PlatformTransactionManager transactionManager,
+                               @Qualifier("digestRenderExecutor") Executor renderExecutor,
+                               Clock clock,
+                               ScheduledJobRunner jobRunner) {
         this.userAccountRepository = userAccountRepository;
         this.appointmentRepository = appointmentRepository;
         this.documentRepository = documentRepository;
         this.transactionRepository = transactionRepository;
         this.emailService = emailService;
+        this.domainEventPublisher = domainEventPublisher;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.renderExecutor = renderExecutor;
+        this.clock = clock;
+        this.jobRunner = jobRunner;
+    }
+
+    record BatchResult(int claimed, int queued) {
     }
 
     /**
-     * Scheduled task to send weekly digests every Monday at 8 AM.
+     * Monday 8 AM, with later firings that resume an interrupted run.
      */
-    @Scheduled(cron = "0 0 8 * * MON")
+    @Scheduled(cron = "${app.weekly-digest.cron:0 0 8-11 * * MON}")
     public void sendWeeklyDigests() {
-        log.info("Starting weekly digest job...");
-        
-        List<UserAccount> brokers = userAccountRepository.findByRoleAndWeeklyDigestEnabledTrueAndEmailNotificationsEnabledTrueAndActiveTrue(UserRole.BROKER);
-        
-        for (UserAccount broker : brokers) {
-            try {
-                processWeeklyDigestForBroker(broker);
-            } catch (Exception e) {
-                log.error("Failed to process weekly digest for broker {}", broker.getEmail(), e);
-            }
+        jobRunner.runExclusively(JOB_NAME, LEASE, this::queueWeeklyDigests);
+    }
+
+    int queueWeeklyDigests() {
+        LocalDate week = LocalDate.now(clock).with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY));
+
+        int brokers = 0;
+        int queued = 0;
+        BatchResult batch;
+        do {
+            batch = transactionTemplate.execute(status -> queueBatch(week));
+            brokers += batch.claimed();
+            queued += batch.queued();
+        } while (batch.claimed() == BATCH_SIZE);
+
+        if (brokers > 0) {
+            log.info("Weekly digest of {}: queued {} emails for {} brokers", week, queued, brokers);
         }
-        
-        log.info("Weekly digest job completed.");
+        return queued;
     }
 
-    private void processWeeklyDigestForBroker(UserAccount broker) {
-        LocalDateTime now = LocalDateTime.now();
-        LocalDateTime nextWeek = now.plusDays(7);
-        LocalDateTime thresholdStalled = now.minusDays(14);
+    /**
+     * Claims, renders and queues one batch. Every claimed broker is marked done for the
+     * week, including those with no activity or whose digest failed to render.
+     */
+    BatchResult queueBatch(LocalDate week) {
+        List<UserAccount> brokers = userAccountRepository.lockBrokersDueForWeeklyDigest(week, BATCH_SIZE);
+        if (brokers.isEmpty()) {
+            return new BatchResult(0, 0);
+        }
+        List<UUID> brokerIds = brokers.stream().map(UserAccount::getId).toList();
+        LocalDateTime now = LocalDateTime.now(clock);
 
-        // 1. Upcoming appointments (next 7 days, excluding CANCELLED/DECLINED)
-        List<Appointment> upcomingAppointments = appointmentRepository.findByBrokerIdAndDateRangeAndStatusIn(
-                broker.getId(), now, nextWeek, Arrays.asList(
-                        com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus.CONFIRMED,
-                        com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus.PROPOSED));
+        Map<UUID, List<Appointment>> appointments = appointmentRepository
+                .findByBrokerIdInAndDateRangeAndStatusIn(brokerIds, now, now.plusDays(7), UPCOMING_STATUSES)
+                .stream()
+                .collect(Collectors.groupingBy(Appointment::getBrokerId));
+        Map<UUID, List<Document>> documents = new HashMap<>();
+        for (Object[] row : documentRepository.findPendingDocumentsForWeeklyDigestByBroker(brokerIds)) {
+            documents.computeIfAbsent((UUID) row[0], id -> new ArrayList<>()).add((Document) row[1]);
+        }
+        Map<UUID, List<Transaction>> stalled = transactionRepository
+                .findStalledTransactionsForBrokers(brokerIds, now.minusDays(14))
+                .stream()
+                .collect(Collectors.groupingBy(Transaction::getBrokerId));
 
-        // 2. Pending documents (REQUESTED, SUBMITTED, NEEDS_REVISION)
-        List<Document> pendingDocuments = documentRepository.findPendingDocumentsForWeeklyDigest(broker.getId());
+        List<CompletableFuture<WeeklyDigestEmailEvent>> rendering = brokers.stream()
+                .map(broker -> CompletableFuture.supplyAsync(() -> render(broker, week,
+                        appointments.getOrDefault(broker.getId(), List.of()),
+                        documents.getOrDefault(broker.getId(), List.of()),
+                        stalled.getOrDefault(broker.getId(), List.of())), renderExecutor))
+                .toList();
 
-        // 3. Stalled transactions (IN_PROGRESS, not updated in 14+ days)
-        List<Transaction> stalledTransactions = transactionRepository.findStalledTransactions(broker.getId(), thresholdStalled);
+        int queued = 0;
+        for (CompletableFuture<WeeklyDigestEmailEvent> digest : rendering) {
+            WeeklyDigestEmailEvent event = digest.join();
+            if (event != null) {
+                domainEventPublisher.publish(event.brokerId(), event);
+                queued++;
+            }
+        }
+        userAccountRepository.markWeeklyDigestQueued(brokerIds, week);
+        return new BatchResult(brokers.size(), queued);
+    }
 
-        if (upcomingAppointments.isEmpty() && pendingDocuments.isEmpty() && stalledTransactions.isEmpty()) {
+    private WeeklyDigestEmailEvent render(UserAccount broker, LocalDate week, List<Appointment> appointments,
+                                          List<Document> documents, List<Transaction> stalledTransactions) {
+        if (appointments.isEmpty() && documents.isEmpty() && stalledTransactions.isEmpty()) {
             log.info("No activity for broker {}, skipping weekly digest email.", broker.getEmail());
-            return;
+            return null;
+        }
+        boolean french = "fr".equalsIgnoreCase(broker.getPreferredLanguage());
+        try {
+            String html = emailService.renderWeeklyDigest(french, appointments, documents, stalledTransactions);
+            return new WeeklyDigestEmailEvent(broker.getId(), week, broker.getEmail(), french, html);
+        } catch (IOException | RuntimeException e) {
+            log.error("Failed to render weekly digest for broker {}", broker.getEmail(), e);
+            return null;
         }
-
-        emailService.sendWeeklyDigestEmail(broker, upcomingAppointments, pendingDocuments, stalledTransactions);
     }
 }
@@ -0,0 +1,19 @@
+package com.example.courtierprobackend.user.businesslayer.events;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+/**
+ * A broker's weekly digest, rendered when the digest job claimed the broker and
+ * queued for delivery by the outbox.
+ *
+ * @param week     Monday of the digest week
+ * @param htmlBody the rendered email, so delivery needs no further queries
+ */
+public record WeeklyDigestEmailEvent(
+        UUID brokerId,
+        LocalDate week,
+        String email,
+        boolean french,
+        String htmlBody) {
+}
@@ -0,0 +1,38 @@
+package com.example.courtierprobackend.user.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventHandler;
+import jakarta.mail.MessagingException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.io.UnsupportedEncodingException;
+
+/**
+ * Sends a rendered weekly digest. A send the provider does not accept is rethrown so
+ * the outbox retries it.
+ */
+@Component
+@RequiredArgsConstructor
+public class WeeklyDigestEmailHandler implements DomainEventHandler<WeeklyDigestEmailEvent> {
+
+    private final EmailService emailService;
+
+    @Override
+    public Class<WeeklyDigestEmailEvent> eventType() {
+        return WeeklyDigestEmailEvent.class;
+    }
+
+    @Override
+    public void handle(WeeklyDigestEmailEvent event) {
+        boolean sent;
+        try {
+            sent = emailService.sendRenderedWeeklyDigest(event.email(), event.french(), event.htmlBody());
+        } catch (MessagingException | UnsupportedEncodingException e) {
+            throw new IllegalStateException("Could not send weekly digest to broker " + event.brokerId(), e);
+        }
+        if (!sent) {
+            throw new IllegalStateException("Email provider rejected weekly digest to broker " + event.brokerId());
+        }
+    }
+}
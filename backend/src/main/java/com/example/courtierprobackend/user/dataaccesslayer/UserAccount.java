@@ -1,10 +1,15 @@
 package com.example.courtierprobackend.user.dataaccesslayer;
 
+import com.example.courtierprobackend.search.SearchIndexEvent;
+import com.example.courtierprobackend.search.dto.SearchResultDTO;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.Setter;
+import org.springframework.data.domain.DomainEvents;
 
 import java.time.Instant;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.UUID;
 
 @Getter
@@ -31,6 +36,10 @@ public class UserAccount {
     @Column(nullable = false)
     private boolean weeklyDigestEnabled = true;
 
+    // Monday of the last week a digest was queued for; written by the digest job only
+    @Column(name = "weekly_digest_week")
+    private LocalDate weeklyDigestWeek;
+
     private String firstName;
     private String lastName;
 
@@ -100,4 +109,9 @@ public class UserAccount {
         this.updatedAt = Instant.now();
     }
 
+    // Refreshes the search index after every repository save
+    @DomainEvents
+    List<SearchIndexEvent> searchIndexEvents() {
+        return List.of(new SearchIndexEvent(SearchResultDTO.SearchResultType.USER, id));
+    }
 }
@@ -1,7 +1,10 @@
 package com.example.courtierprobackend.user.dataaccesslayer;
 
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.time.LocalDate;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -23,7 +26,12 @@ public interface UserAccountRepository extends JpaRepository<UserAccount, UUID>
                         "EXISTS (SELECT t FROM Transaction t WHERE t.clientId = u.id AND t.brokerId = :brokerId)")
         List<UserAccount> searchClientsOfBroker(
                         @org.springframework.data.repository.query.Param("brokerId") UUID brokerId,
-                        @org.springframework.data.repository.query.Param("query") String query);
+                        @org.springframework.data.repository.query.Param("query") String query,
+                        Pageable pageable);
+
+        default List<UserAccount> searchClientsOfBroker(UUID brokerId, String query) {
+                return searchClientsOfBroker(brokerId, query, Pageable.unpaged());
+        }
 
         @org.springframework.data.jpa.repository.Query("SELECT DISTINCT u.id FROM UserAccount u WHERE " +
                         "u.id IN (SELECT t.clientId FROM Transaction t WHERE t.brokerId = :brokerId) AND " +
@@ -36,4 +44,27 @@ public interface UserAccountRepository extends JpaRepository<UserAccount, UUID>
 
         List<UserAccount> findByRoleAndWeeklyDigestEnabledTrueAndEmailNotificationsEnabledTrueAndActiveTrue(UserRole role);
 
+        /**
+         * Locks the next brokers still owed the digest of {@code week}. Rows locked by another
+         * instance are skipped, so concurrent runs split the brokers instead of repeating them.
+         */
+        @org.springframework.data.jpa.repository.Query(value = "SELECT * FROM user_accounts " +
+                        "WHERE role = 'BROKER' AND weekly_digest_enabled = TRUE " +
+                        "AND email_notifications_enabled = TRUE AND active = TRUE " +
+                        "AND (weekly_digest_week IS NULL OR weekly_digest_week < :week) " +
+                        "ORDER BY id " +
+                        "LIMIT :limit " +
+                        "FOR UPDATE SKIP LOCKED", nativeQuery = true)
+        List<UserAccount> lockBrokersDueForWeeklyDigest(
+                        @org.springframework.data.repository.query.Param("week") LocalDate week,
+                        @org.springframework.data.repository.query.Param("limit") int limit);
+
+        // Bulk update: leaves updatedAt alone and does not reindex the accounts for search
+        @org.springframework.data.jpa.repository.Modifying
+        @org.springframework.data.jpa.repository.Query("UPDATE UserAccount u SET u.weeklyDigestWeek = :week " +
+                        "WHERE u.id IN :ids")
+        int markWeeklyDigestQueued(
+                        @org.springframework.data.repository.query.Param("ids") Collection<UUID> ids,
+                        @org.springframework.data.repository.query.Param("week") LocalDate week);
+
 }
@@ -0,0 +1,143 @@
+package com.example.courtierprobackend.user.domainclientlayer.auth0;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * Caches Auth0 management API reads that pages make on every render.
+ *
+ * <p>An entry younger than {@code app.auth0.cache.ttl} is served as is. Up to
+ * {@code app.auth0.cache.stale-while-revalidate} after that it is still served, and a
+ * background refresh is started. Anything older is loaded on the calling thread.
+ * Concurrent loads of the same user share one management API call. Auth0 log stream
+ * events invalidate a user's entries through {@link #invalidate(String)}. Failed
+ * loads are not cached.</p>
+ */
+@Component
+public class Auth0ManagementCache {
+
+    private static final Logger log = LoggerFactory.getLogger(Auth0ManagementCache.class);
+
+    private final Auth0ManagementClient auth0ManagementClient;
+    private final Executor refreshExecutor;
+    private final Clock clock;
+    private final Duration ttl;
+    private final Duration staleWhileRevalidate;
+
+    private final ConcurrentHashMap<String, Entry> mfaStatus = new ConcurrentHashMap<>();
+    private final ConcurrentHashMap<String, CompletableFuture<Boolean>> mfaLoads = new ConcurrentHashMap<>();
+
+    private record Entry(boolean value, Instant loadedAt) {
+    }
+
+    public Auth0ManagementCache(Auth0ManagementClient auth0ManagementClient,
+                                @Qualifier("auth0RefreshExecutor") Executor refreshExecutor,
+                                Clock clock,
+                                @Value("${app.auth0.cache.ttl:PT5M}") Duration ttl,
+                                @Value("${app.auth0.cache.stale-while-revalidate:PT1H}") Duration staleWhileRevalidate) {
+        this.auth0ManagementClient = auth0ManagementClient;
+        this.refreshExecutor = refreshExecutor;
+        this.clock = clock;
+        this.ttl = ttl;
+        this.staleWhileRevalidate = staleWhileRevalidate;
+    }
+
+    /**
+     * Whether the user has any MFA factor enrolled.
+     */
+    public boolean isMfaEnabled(String auth0UserId) {
+        Entry entry = mfaStatus.get(auth0UserId);
+        if (entry != null) {
+            Instant now = clock.instant();
+            Instant freshUntil = entry.loadedAt().plus(ttl);
+            if (now.isBefore(freshUntil)) {
+                return entry.value();
+            }
+            if (now.isBefore(freshUntil.plus(staleWhileRevalidate))) {
+                refreshMfaStatus(auth0UserId);
+                return entry.value();
+            }
+        }
+        try {
+            return loadMfaStatus(auth0UserId, null).join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * Drops everything cached for the user, including the result of a load in flight.
+     */
+    public void invalidate(String auth0UserId) {
+        mfaStatus.remove(auth0UserId);
+        mfaLoads.remove(auth0UserId);
+    }
+
+    @Scheduled(fixedDelayString = "${app.auth0.cache.purge-interval-ms:600000}")
+    public void purgeExpired() {
+        Instant cutoff = clock.instant().minus(ttl).minus(staleWhileRevalidate);
+        mfaStatus.values().removeIf(entry -> entry.loadedAt().isBefore(cutoff));
+    }
+
+    private void refreshMfaStatus(String auth0UserId) {
+        try {
+            loadMfaStatus(auth0UserId, refreshExecutor);
+        } catch (TaskRejectedException e) {
+            // Refresh pool is saturated; the stale value is served until the next attempt
+            log.debug("Skipped MFA status refresh for {}: {}", auth0UserId, e.getMessage());
+        }
+    }
+
+    /**
+     * Starts a load unless one is already running for the user, and returns the load
+     * the caller should wait on. Runs on the calling thread when no executor is given.
+     */
+    private CompletableFuture<Boolean> loadMfaStatus(String auth0UserId, Executor executor) {
+        CompletableFuture<Boolean> load = new CompletableFuture<>();
+        CompletableFuture<Boolean> running = mfaLoads.putIfAbsent(auth0UserId, load);
+        if (running != null) {
+            return running;
+        }
+        Runnable task = () -> {
+            try {
+                boolean enabled = auth0ManagementClient.isMfaEnabled(auth0UserId);
+                // An invalidation while loading discards the result
+                if (mfaLoads.get(auth0UserId) == load) {
+                    mfaStatus.put(auth0UserId, new Entry(enabled, clock.instant()));
+                }
+                load.complete(enabled);
+            } catch (RuntimeException e) {
+                load.completeExceptionally(e);
+            } finally {
+                mfaLoads.remove(auth0UserId, load);
+            }
+        };
+        if (executor == null) {
+            task.run();
+        } else {
+            try {
+                executor.execute(task);
+            } catch (TaskRejectedException e) {
+                mfaLoads.remove(auth0UserId, load);
+                throw e;
+            }
+        }
+        return load;
+    }
+}
@@ -2,10 +2,15 @@ package com.example.courtierprobackend.user.domainclientlayer.auth0;
 
 import com.example.courtierprobackend.user.dataaccesslayer.UserRole;
 import com.fasterxml.jackson.annotation.JsonProperty;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
+import io.micrometer.core.instrument.Timer;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.*;
+import org.springframework.http.client.ClientHttpResponse;
 import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 import org.springframework.stereotype.Component;
 import org.springframework.web.client.RestTemplate;
@@ -27,6 +32,10 @@ public class Auth0ManagementClient {
     private String cachedToken;
     private Instant tokenExpiresAt;
 
+    static final String REQUEST_METRIC = "courtierpro.auth0.requests";
+
+    private MeterRegistry meterRegistry = Metrics.globalRegistry;
+
     // RestTemplate to support PATCH
     private final RestTemplate restTemplate;
 
@@ -67,6 +76,36 @@ public class Auth0ManagementClient {
         HttpComponentsClientHttpRequestFactory requestFactory =
                 new HttpComponentsClientHttpRequestFactory();
         this.restTemplate = new RestTemplate(requestFactory);
+        this.restTemplate.getInterceptors().add((request, requestBody, execution) -> {
+            Timer.Sample sample = Timer.start(meterRegistry);
+            String outcome = "IO_ERROR";
+            try {
+                ClientHttpResponse response = execution.execute(request, requestBody);
+                outcome = response.getStatusCode().is2xxSuccessful() ? "SUCCESS"
+                        : response.getStatusCode().is4xxClientError() ? "CLIENT_ERROR" : "SERVER_ERROR";
+                return response;
+            } finally {
+                sample.stop(Timer.builder(REQUEST_METRIC)
+                        .description("Auth0 Management API call latency")
+                        .tag("method", request.getMethod().name())
+                        .tag("uri", uriTemplate(request.getURI().getPath()))
+                        .tag("outcome", outcome)
+                        .register(meterRegistry));
+            }
+        });
+    }
+
+    @Autowired(required = false)
+    void setMeterRegistry(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    // Keeps the uri tag bounded: /api/v2/users/auth0|123/roles -> /api/v2/users/{id}/roles
+    static String uriTemplate(String path) {
+        if (path == null) {
+            return "UNKNOWN";
+        }
+        return path.replaceAll("/users/[^/]+", "/users/{id}");
     }
 
 
@@ -6,6 +6,7 @@ import com.example.courtierprobackend.common.exceptions.UnauthorizedException;
 import com.example.courtierprobackend.security.UserContextFilter;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import com.example.courtierprobackend.user.domainclientlayer.auth0.Auth0ManagementCache;
 import com.example.courtierprobackend.user.domainclientlayer.auth0.Auth0ManagementClient;
 import com.example.courtierprobackend.user.businesslayer.EmailChangeService;
 import com.example.courtierprobackend.user.mapper.UserMapper;
@@ -39,6 +40,7 @@ public class CurrentUserController {
     private final UserMapper userMapper;
     private final Auth0ManagementClient auth0ManagementClient;
     private final EmailChangeService emailChangeService;
+    private final Auth0ManagementCache auth0ManagementCache;
 
     /**
      * Returns the current authenticated user's profile.
@@ -166,7 +168,7 @@ public class CurrentUserController {
 
         boolean mfaEnabled = false;
         try {
-            mfaEnabled = auth0ManagementClient.isMfaEnabled(auth0Id);
+            mfaEnabled = auth0ManagementCache.isMfaEnabled(auth0Id);
         } catch (Exception e) {
             log.warn("Failed to check MFA status for user {}: {}", auth0Id, e.getMessage());
         }
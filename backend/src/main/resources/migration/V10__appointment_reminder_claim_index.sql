@@ -0,0 +1,9 @@
+-- =============================================================================
+-- V10: Appointment reminder claim
+-- The reminder job locks due appointments in batches; only appointments still
+-- waiting for their reminder are ever scanned.
+-- =============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_appointments_reminder_due
+    ON appointments(from_date_time, id)
+    WHERE reminder_sent = FALSE AND deleted_at IS NULL;
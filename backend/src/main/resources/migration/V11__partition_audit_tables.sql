@@ -0,0 +1,234 @@
+-- =============================================================================
+-- V11: Monthly partitioned audit tables
+-- Login, logout, password reset, admin deletion and organization settings audit
+-- rows are range-partitioned by month on their timestamp. Pages of the audit
+-- log only touch the partitions their time range covers, and retention drops
+-- whole partitions instead of deleting rows.
+--
+-- Partitions are named <table>_pYYYYMM. AuditPartitionMaintenanceJob keeps a
+-- few months of partitions ahead of time and drops those past retention, using
+-- the two functions below. Rows outside every monthly partition land in
+-- <table>_default and are moved out when their month's partition is created.
+--
+-- The primary keys include the timestamp, as Postgres requires for
+-- partitioned tables; ids stay unique in practice (UUIDs and a sequence).
+-- =============================================================================
+
+CREATE OR REPLACE FUNCTION create_monthly_audit_partitions(parent TEXT, first_month DATE, last_month DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    m_start DATE := date_trunc('month', first_month)::DATE;
+    m_end DATE;
+    part_name TEXT;
+    default_name TEXT := parent || '_default';
+    has_rows BOOLEAN;
+    created INTEGER := 0;
+BEGIN
+    WHILE m_start <= last_month LOOP
+        m_end := (m_start + INTERVAL '1 month')::DATE;
+        part_name := parent || '_p' || to_char(m_start, 'YYYYMM');
+        IF to_regclass(part_name) IS NULL THEN
+            EXECUTE format('SELECT EXISTS (SELECT 1 FROM %I WHERE "timestamp" >= %L AND "timestamp" < %L)',
+                           default_name, m_start, m_end) INTO has_rows;
+            IF has_rows THEN
+                -- The default partition may not keep rows that belong to the new month
+                EXECUTE format('CREATE TABLE %I (LIKE %I INCLUDING DEFAULTS INCLUDING CONSTRAINTS)',
+                               part_name, parent);
+                EXECUTE format('WITH moved AS (DELETE FROM %I WHERE "timestamp" >= %L AND "timestamp" < %L RETURNING *) '
+                               'INSERT INTO %I SELECT * FROM moved',
+                               default_name, m_start, m_end, part_name);
+                EXECUTE format('ALTER TABLE %I ATTACH PARTITION %I FOR VALUES FROM (%L) TO (%L)',
+                               parent, part_name, m_start, m_end);
+            ELSE
+                EXECUTE format('CREATE TABLE %I PARTITION OF %I FOR VALUES FROM (%L) TO (%L)',
+                               part_name, parent, m_start, m_end);
+            END IF;
+            created := created + 1;
+        END IF;
+        m_start := m_end;
+    END LOOP;
+    RETURN created;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION drop_audit_partitions_before(parent TEXT, cutoff DATE)
+RETURNS INTEGER AS $$
+DECLARE
+    part RECORD;
+    dropped INTEGER := 0;
+BEGIN
+    FOR part IN
+        SELECT c.relname
+        FROM pg_inherits i
+        JOIN pg_class c ON c.oid = i.inhrelid
+        WHERE i.inhparent = parent::regclass
+          AND c.relname ~ ('^' || parent || '_p[0-9]{6}$')
+    LOOP
+        -- A partition goes once its whole month is older than the cutoff
+        IF (to_date(right(part.relname, 6), 'YYYYMM') + INTERVAL '1 month')::DATE <= cutoff THEN
+            EXECUTE format('DROP TABLE %I', part.relname);
+            dropped := dropped + 1;
+        END IF;
+    END LOOP;
+    RETURN dropped;
+END;
+$$ LANGUAGE plpgsql;
+
+-- -----------------------------------------------------------------------------
+-- login_audit_events
+-- -----------------------------------------------------------------------------
+ALTER TABLE login_audit_events RENAME TO login_audit_events_unpartitioned;
+
+CREATE TABLE login_audit_events (
+    id UUID NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    role VARCHAR(50) NOT NULL,
+    timestamp TIMESTAMP NOT NULL,
+    ip_address VARCHAR(45),
+    user_agent VARCHAR(500),
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+CREATE TABLE login_audit_events_default PARTITION OF login_audit_events DEFAULT;
+SELECT create_monthly_audit_partitions('login_audit_events',
+        COALESCE((SELECT min(timestamp) FROM login_audit_events_unpartitioned), now())::DATE,
+        (now() + INTERVAL '3 months')::DATE);
+
+INSERT INTO login_audit_events (id, user_id, email, role, timestamp, ip_address, user_agent)
+SELECT id, user_id, email, role, timestamp, ip_address, user_agent FROM login_audit_events_unpartitioned;
+DROP TABLE login_audit_events_unpartitioned;
+
+CREATE INDEX idx_login_audit_timestamp_id ON login_audit_events(timestamp DESC, id DESC);
+CREATE INDEX idx_login_audit_user_id ON login_audit_events(user_id, timestamp DESC);
+CREATE INDEX idx_login_audit_role ON login_audit_events(role, timestamp DESC);
+
+-- -----------------------------------------------------------------------------
+-- logout_audit_events
+-- -----------------------------------------------------------------------------
+ALTER TABLE logout_audit_events RENAME TO logout_audit_events_unpartitioned;
+
+CREATE TABLE logout_audit_events (
+    id UUID NOT NULL,
+    user_id VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    reason VARCHAR(50) NOT NULL,
+    timestamp TIMESTAMP NOT NULL,
+    ip_address VARCHAR(45),
+    user_agent VARCHAR(500),
+    PRIMARY KEY (id, timestamp),
+    CONSTRAINT chk_logout_audit_reason CHECK (reason IN ('MANUAL', 'SESSION_TIMEOUT', 'FORCED'))
+) PARTITION BY RANGE (timestamp);
+
+CREATE TABLE logout_audit_events_default PARTITION OF logout_audit_events DEFAULT;
+SELECT create_monthly_audit_partitions('logout_audit_events',
+        COALESCE((SELECT min(timestamp) FROM logout_audit_events_unpartitioned), now())::DATE,
+        (now() + INTERVAL '3 months')::DATE);
+
+INSERT INTO logout_audit_events (id, user_id, email, reason, timestamp, ip_address, user_agent)
+SELECT id, user_id, email, reason, timestamp, ip_address, user_agent FROM logout_audit_events_unpartitioned;
+DROP TABLE logout_audit_events_unpartitioned;
+
+CREATE INDEX idx_logout_audit_timestamp_id ON logout_audit_events(timestamp DESC, id DESC);
+CREATE INDEX idx_logout_audit_user_id ON logout_audit_events(user_id, timestamp DESC);
+CREATE INDEX idx_logout_audit_reason ON logout_audit_events(reason, timestamp DESC);
+
+-- -----------------------------------------------------------------------------
+-- password_reset_events
+-- -----------------------------------------------------------------------------
+ALTER TABLE password_reset_events RENAME TO password_reset_events_unpartitioned;
+
+CREATE TABLE password_reset_events (
+    id UUID NOT NULL DEFAULT gen_random_uuid(),
+    user_id VARCHAR(255) NOT NULL,
+    email VARCHAR(255) NOT NULL,
+    event_type VARCHAR(50) NOT NULL,
+    timestamp TIMESTAMP NOT NULL,
+    ip_address VARCHAR(100),
+    user_agent VARCHAR(500),
+    PRIMARY KEY (id, timestamp),
+    CONSTRAINT chk_password_reset_event_type CHECK (event_type IN ('REQUESTED', 'COMPLETED'))
+) PARTITION BY RANGE (timestamp);
+
+CREATE TABLE password_reset_events_default PARTITION OF password_reset_events DEFAULT;
+SELECT create_monthly_audit_partitions('password_reset_events',
+        COALESCE((SELECT min(timestamp) FROM password_reset_events_unpartitioned), now())::DATE,
+        (now() + INTERVAL '3 months')::DATE);
+
+INSERT INTO password_reset_events (id, user_id, email, event_type, timestamp, ip_address, user_agent)
+SELECT id, user_id, email, event_type, timestamp, ip_address, user_agent FROM password_reset_events_unpartitioned;
+DROP TABLE password_reset_events_unpartitioned;
+
+CREATE INDEX idx_password_reset_events_timestamp_id ON password_reset_events(timestamp DESC, id DESC);
+CREATE INDEX idx_password_reset_events_user_id ON password_reset_events(user_id, timestamp DESC);
+CREATE INDEX idx_password_reset_events_email ON password_reset_events(email);
+
+-- -----------------------------------------------------------------------------
+-- admin_deletion_audit_logs (ids keep coming from the existing sequence)
+-- -----------------------------------------------------------------------------
+ALTER TABLE admin_deletion_audit_logs RENAME TO admin_deletion_audit_logs_unpartitioned;
+ALTER SEQUENCE admin_deletion_audit_logs_id_seq OWNED BY NONE;
+
+CREATE TABLE admin_deletion_audit_logs (
+    id BIGINT NOT NULL DEFAULT nextval('admin_deletion_audit_logs_id_seq'),
+    timestamp TIMESTAMP NOT NULL,
+    admin_id UUID NOT NULL,
+    resource_type VARCHAR(50) NOT NULL,
+    resource_id UUID NOT NULL,
+    resource_snapshot JSONB,
+    cascaded_deletions JSONB,
+    action VARCHAR(20) DEFAULT 'DELETE' NOT NULL,
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+ALTER SEQUENCE admin_deletion_audit_logs_id_seq OWNED BY admin_deletion_audit_logs.id;
+
+CREATE TABLE admin_deletion_audit_logs_default PARTITION OF admin_deletion_audit_logs DEFAULT;
+SELECT create_monthly_audit_partitions('admin_deletion_audit_logs',
+        COALESCE((SELECT min(timestamp) FROM admin_deletion_audit_logs_unpartitioned), now())::DATE,
+        (now() + INTERVAL '3 months')::DATE);
+
+INSERT INTO admin_deletion_audit_logs (id, timestamp, admin_id, resource_type, resource_id,
+                                       resource_snapshot, cascaded_deletions, action)
+SELECT id, timestamp, admin_id, resource_type, resource_id, resource_snapshot, cascaded_deletions, action
+FROM admin_deletion_audit_logs_unpartitioned;
+DROP TABLE admin_deletion_audit_logs_unpartitioned;
+
+CREATE INDEX idx_admin_deletion_audit_timestamp_id ON admin_deletion_audit_logs(timestamp DESC, id DESC);
+CREATE INDEX idx_admin_deletion_audit_admin_id ON admin_deletion_audit_logs(admin_id);
+CREATE INDEX idx_admin_deletion_audit_resource_type ON admin_deletion_audit_logs(resource_type);
+CREATE INDEX idx_admin_deletion_audit_action ON admin_deletion_audit_logs(action);
+
+-- -----------------------------------------------------------------------------
+-- organization_settings_audit (a missing timestamp is backfilled with the epoch)
+-- -----------------------------------------------------------------------------
+ALTER TABLE organization_settings_audit RENAME TO organization_settings_audit_unpartitioned;
+
+CREATE TABLE organization_settings_audit (
+    id UUID NOT NULL,
+    timestamp TIMESTAMP NOT NULL,
+    admin_user_id VARCHAR(255),
+    admin_email VARCHAR(255),
+    action VARCHAR(255),
+    previous_default_language VARCHAR(255),
+    new_default_language VARCHAR(255),
+    invite_template_en_changed BOOLEAN DEFAULT false,
+    invite_template_fr_changed BOOLEAN DEFAULT false,
+    ip_address VARCHAR(45),
+    PRIMARY KEY (id, timestamp)
+) PARTITION BY RANGE (timestamp);
+
+CREATE TABLE organization_settings_audit_default PARTITION OF organization_settings_audit DEFAULT;
+SELECT create_monthly_audit_partitions('organization_settings_audit',
+        COALESCE((SELECT min(timestamp) FROM organization_settings_audit_unpartitioned), now())::DATE,
+        (now() + INTERVAL '3 months')::DATE);
+
+INSERT INTO organization_settings_audit (id, timestamp, admin_user_id, admin_email, action,
+                                         previous_default_language, new_default_language,
+                                         invite_template_en_changed, invite_template_fr_changed, ip_address)
+SELECT id, COALESCE(timestamp, TIMESTAMP '1970-01-01 00:00:00'), admin_user_id, admin_email, action,
+       previous_default_language, new_default_language,
+       invite_template_en_changed, invite_template_fr_changed, ip_address
+FROM organization_settings_audit_unpartitioned;
+DROP TABLE organization_settings_audit_unpartitioned;
+
+CREATE INDEX idx_organization_settings_audit_timestamp_id ON organization_settings_audit(timestamp DESC, id DESC);
@@ -0,0 +1,100 @@
+-- =============================================================================
+-- V12: Partial indexes matching the soft-delete filters
+-- Transaction, Document, DocumentVersion, TimelineEntry and Appointment are
+-- mapped with @Where(deleted_at IS NULL), so every entity read carries that
+-- predicate. The plain deleted_at and single-column indexes made the planner
+-- AND bitmaps for those reads; these composite partial indexes answer them from
+-- one index that never holds deleted rows.
+--
+-- Plain indexes on foreign-key columns stay: ON DELETE cascades and the admin
+-- "including deleted" queries read those columns without the filter.
+-- The admin trash listings get a partial index over the deleted rows instead.
+-- =============================================================================
+
+-- -----------------------------------------------------------------------------
+-- transactions
+-- -----------------------------------------------------------------------------
+DROP INDEX IF EXISTS idx_transactions_deleted_at;
+DROP INDEX IF EXISTS idx_transactions_archived;
+DROP INDEX IF EXISTS idx_transactions_status;
+DROP INDEX IF EXISTS idx_transactions_broker_id;
+DROP INDEX IF EXISTS idx_transactions_broker_archived;
+DROP INDEX IF EXISTS idx_transactions_client_id;
+
+-- Broker dashboards and lists, with or without archived files
+CREATE INDEX IF NOT EXISTS idx_transactions_broker_archived_live
+    ON transactions (broker_id, archived)
+    WHERE deleted_at IS NULL;
+
+-- Client dashboards and user-linked lookups
+CREATE INDEX IF NOT EXISTS idx_transactions_client_live
+    ON transactions (client_id)
+    WHERE deleted_at IS NULL;
+
+-- Admin trash, newest deletion first
+CREATE INDEX IF NOT EXISTS idx_transactions_deleted
+    ON transactions (deleted_at DESC)
+    WHERE deleted_at IS NOT NULL;
+
+-- -----------------------------------------------------------------------------
+-- documents
+-- -----------------------------------------------------------------------------
+DROP INDEX IF EXISTS idx_documents_deleted_at;
+DROP INDEX IF EXISTS idx_documents_status;
+
+-- A transaction's documents, per stage or all of them
+CREATE INDEX IF NOT EXISTS idx_documents_tx_stage_live
+    ON documents (transaction_id, stage)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_documents_client_live
+    ON documents (client_id)
+    WHERE deleted_at IS NULL;
+
+-- Outstanding requests by due date; only the statuses still waiting on the client
+CREATE INDEX IF NOT EXISTS idx_documents_outstanding_due
+    ON documents (transaction_id, due_date)
+    WHERE deleted_at IS NULL AND status IN ('REQUESTED', 'NEEDS_REVISION');
+
+CREATE INDEX IF NOT EXISTS idx_documents_deleted
+    ON documents (deleted_at DESC)
+    WHERE deleted_at IS NOT NULL;
+
+-- -----------------------------------------------------------------------------
+-- document_versions
+-- -----------------------------------------------------------------------------
+DROP INDEX IF EXISTS idx_document_versions_deleted_at;
+
+-- Loading a document's versions collection
+CREATE INDEX IF NOT EXISTS idx_document_versions_document_live
+    ON document_versions (document_id, uploaded_at)
+    WHERE deleted_at IS NULL;
+
+-- -----------------------------------------------------------------------------
+-- timeline_entries
+-- Reads by transaction already use idx_timeline_entries_tx_timestamp_id (V8).
+-- -----------------------------------------------------------------------------
+DROP INDEX IF EXISTS idx_timeline_entries_deleted_at;
+
+-- -----------------------------------------------------------------------------
+-- appointments
+-- Reminder claims use idx_appointments_reminder_due (V10).
+-- -----------------------------------------------------------------------------
+DROP INDEX IF EXISTS idx_appointments_deleted_at;
+DROP INDEX IF EXISTS idx_appointments_status;
+DROP INDEX IF EXISTS idx_appointments_from_date_time;
+DROP INDEX IF EXISTS idx_appointments_broker_date;
+DROP INDEX IF EXISTS idx_appointments_client_date;
+
+-- Calendars and upcoming lists: range on from_date_time per broker or client
+CREATE INDEX IF NOT EXISTS idx_appointments_broker_date_live
+    ON appointments (broker_id, from_date_time)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_appointments_client_date_live
+    ON appointments (client_id, from_date_time)
+    WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_appointments_tx_date_live
+    ON appointments (transaction_id, from_date_time)
+    WHERE deleted_at IS NULL;
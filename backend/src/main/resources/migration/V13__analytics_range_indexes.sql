@@ -0,0 +1,11 @@
+-- =============================================================================
+-- V13: Range index for broker analytics
+-- The analytics reads now bound opened_at on both ends instead of
+-- "cast(:startDate as timestamp) IS NULL OR ...", so a broker's transactions in
+-- a date range can be read from one index. Appointment analytics already use
+-- idx_appointments_broker_date_live (V12).
+-- =============================================================================
+
+CREATE INDEX IF NOT EXISTS idx_transactions_broker_opened_live
+    ON transactions (broker_id, opened_at)
+    WHERE deleted_at IS NULL;
@@ -0,0 +1,13 @@
+-- =============================================================================
+-- V14: Weekly digest checkpoint
+-- The digest job claims brokers in batches and records, in the same transaction
+-- that queues their email, the week the digest was queued for. A run that stops
+-- part-way is resumed by the next firing without emailing anyone twice.
+-- =============================================================================
+
+ALTER TABLE user_accounts ADD COLUMN IF NOT EXISTS weekly_digest_week DATE;
+
+CREATE INDEX IF NOT EXISTS idx_user_accounts_weekly_digest_due
+    ON user_accounts(weekly_digest_week, id)
+    WHERE role = 'BROKER' AND weekly_digest_enabled = TRUE
+      AND email_notifications_enabled = TRUE AND active = TRUE;
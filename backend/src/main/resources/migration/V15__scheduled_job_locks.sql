@@ -0,0 +1,31 @@
+-- =============================================================================
+-- V15: Cluster-wide scheduled job coordination
+-- One lease row per job: an instance runs the job only while it holds the lease,
+-- and extends it with a heartbeat. Every run is recorded with its outcome.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS scheduled_job_locks (
+    job_name VARCHAR(100) PRIMARY KEY,
+    locked_by VARCHAR(255),
+    locked_at TIMESTAMP,
+    locked_until TIMESTAMP NOT NULL,
+    heartbeat_at TIMESTAMP
+);
+
+CREATE TABLE IF NOT EXISTS scheduled_job_runs (
+    id BIGSERIAL PRIMARY KEY,
+    job_name VARCHAR(100) NOT NULL,
+    instance_id VARCHAR(255) NOT NULL,
+    status VARCHAR(20) NOT NULL,
+    started_at TIMESTAMP NOT NULL,
+    finished_at TIMESTAMP,
+    duration_ms BIGINT,
+    rows_affected INTEGER,
+    error VARCHAR(1000)
+);
+
+-- Latest runs per job for the actuator endpoint
+CREATE INDEX IF NOT EXISTS idx_scheduled_job_runs_job_started
+    ON scheduled_job_runs(job_name, started_at DESC);
+-- History purge
+CREATE INDEX IF NOT EXISTS idx_scheduled_job_runs_started ON scheduled_job_runs(started_at);
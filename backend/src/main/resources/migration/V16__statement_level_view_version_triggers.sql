@@ -0,0 +1,80 @@
+-- =============================================================================
+-- V16: Bump transaction view versions once per statement
+-- The V9 child triggers ran for every row, so a statement touching many rows of
+-- one transaction (reordering checklist state, bulk document updates, cascades)
+-- updated the same transactions row once per child row and serialized on its
+-- lock. These statement-level triggers read the changed rows from transition
+-- tables and bump each affected transaction once.
+-- =============================================================================
+
+-- Resolves the owning transaction of every changed row and bumps each one once.
+-- Updates read both old and new rows, so a row moved to another transaction
+-- changes both views. Only the query for the firing table is ever built, so tables
+-- without a transaction_id column are safe.
+CREATE OR REPLACE FUNCTION child_bump_transaction_view_versions() RETURNS trigger AS $$
+DECLARE
+    resolve TEXT;
+    affected TEXT;
+BEGIN
+    resolve := CASE TG_TABLE_NAME
+        WHEN 'property_offers' THEN
+            'SELECT p.transaction_id FROM %1$s r JOIN properties p ON p.property_id = r.property_id'
+        WHEN 'offer_revisions' THEN
+            'SELECT o.transaction_id FROM %1$s r JOIN offers o ON o.offer_id = r.offer_id'
+        WHEN 'offer_documents' THEN
+            'SELECT o.transaction_id FROM %1$s r JOIN offers o ON o.offer_id = r.offer_id '
+            'UNION SELECT p.transaction_id FROM %1$s r '
+            'JOIN property_offers po ON po.property_offer_id = r.property_offer_id '
+            'JOIN properties p ON p.property_id = po.property_id WHERE r.offer_id IS NULL'
+        WHEN 'document_conditions' THEN
+            'SELECT c.transaction_id FROM %1$s r JOIN conditions c ON c.condition_id = r.condition_id'
+        WHEN 'document_versions' THEN
+            'SELECT d.transaction_id FROM %1$s r JOIN documents d ON d.id = r.document_id'
+        WHEN 'participant_permissions' THEN
+            'SELECT tp.transaction_id FROM %1$s r JOIN transaction_participants tp ON tp.id = r.participant_id'
+        ELSE
+            'SELECT r.transaction_id FROM %1$s r'
+    END;
+
+    IF TG_OP = 'INSERT' THEN
+        affected := format(resolve, 'new_rows');
+    ELSIF TG_OP = 'DELETE' THEN
+        affected := format(resolve, 'old_rows');
+    ELSE
+        affected := format(resolve, 'new_rows') || ' UNION ' || format(resolve, 'old_rows');
+    END IF;
+
+    EXECUTE 'UPDATE transactions SET view_version = view_version + 1 WHERE transaction_id IN ('
+            || affected || ')';
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+-- Postgres only allows transition tables on single-event triggers, hence three per table
+DO $$
+DECLARE
+    t TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY[
+        'timeline_entries', 'documents', 'document_versions', 'transaction_stage_checklist_state',
+        'transaction_participants', 'participant_permissions', 'properties', 'property_offers',
+        'offers', 'offer_revisions', 'offer_documents', 'conditions', 'document_conditions',
+        'search_criteria', 'visitors', 'appointments']
+    LOOP
+        EXECUTE format('DROP TRIGGER IF EXISTS trg_%s_view_version ON %I', t, t);
+        EXECUTE format('DROP TRIGGER IF EXISTS trg_%s_view_version_ins ON %I', t, t);
+        EXECUTE format('DROP TRIGGER IF EXISTS trg_%s_view_version_upd ON %I', t, t);
+        EXECUTE format('DROP TRIGGER IF EXISTS trg_%s_view_version_del ON %I', t, t);
+        EXECUTE format('CREATE TRIGGER trg_%s_view_version_ins AFTER INSERT ON %I '
+                       'REFERENCING NEW TABLE AS new_rows '
+                       'FOR EACH STATEMENT EXECUTE FUNCTION child_bump_transaction_view_versions()', t, t);
+        EXECUTE format('CREATE TRIGGER trg_%s_view_version_upd AFTER UPDATE ON %I '
+                       'REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows '
+                       'FOR EACH STATEMENT EXECUTE FUNCTION child_bump_transaction_view_versions()', t, t);
+        EXECUTE format('CREATE TRIGGER trg_%s_view_version_del AFTER DELETE ON %I '
+                       'REFERENCING OLD TABLE AS old_rows '
+                       'FOR EACH STATEMENT EXECUTE FUNCTION child_bump_transaction_view_versions()', t, t);
+    END LOOP;
+END $$;
+
+DROP FUNCTION IF EXISTS child_bump_transaction_view_version();
@@ -0,0 +1,29 @@
+-- =============================================================================
+-- V17: Bump transaction view versions when a client or broker account changes
+-- Transaction pages show the client's and broker's names and emails, which live
+-- in user_accounts and were not covered by the V9/V16 triggers, so a rename kept
+-- serving a 304 with the old name. Only changes to the displayed columns bump,
+-- once per statement and transaction.
+-- =============================================================================
+
+CREATE OR REPLACE FUNCTION user_accounts_bump_transaction_view_versions() RETURNS trigger AS $$
+BEGIN
+    WITH changed AS (
+        SELECT n.id
+        FROM new_rows n
+        JOIN old_rows o ON o.id = n.id
+        WHERE (n.first_name, n.last_name, n.email) IS DISTINCT FROM (o.first_name, o.last_name, o.email)
+    )
+    UPDATE transactions
+    SET view_version = view_version + 1
+    WHERE client_id IN (SELECT id FROM changed)
+       OR broker_id IN (SELECT id FROM changed);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_user_accounts_view_version_upd ON user_accounts;
+CREATE TRIGGER trg_user_accounts_view_version_upd
+    AFTER UPDATE ON user_accounts
+    REFERENCING OLD TABLE AS old_rows NEW TABLE AS new_rows
+    FOR EACH STATEMENT EXECUTE FUNCTION user_accounts_bump_transaction_view_versions();
@@ -0,0 +1,25 @@
+-- =============================================================================
+-- V6: Search read model
+-- One row per searchable entity (transaction, document, appointment, user) and
+-- per user allowed to see it, maintained from application events.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS search_documents (
+    id BIGSERIAL PRIMARY KEY,
+    owner_id UUID NOT NULL,
+    entity_type VARCHAR(20) NOT NULL,
+    entity_id UUID NOT NULL,
+    title VARCHAR(512),
+    subtitle VARCHAR(512),
+    url VARCHAR(512),
+    search_text TEXT NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    CONSTRAINT uq_search_documents_entity_owner UNIQUE (entity_type, entity_id, owner_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_search_documents_owner_updated ON search_documents(owner_id, updated_at DESC);
+CREATE INDEX IF NOT EXISTS idx_search_documents_entity ON search_documents(entity_type, entity_id);
+
+-- Requires pg_trgm (see V1)
+-- CREATE INDEX IF NOT EXISTS idx_search_documents_text_trgm
+--     ON search_documents USING GIN (search_text gin_trgm_ops);
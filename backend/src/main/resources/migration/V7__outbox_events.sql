@@ -0,0 +1,25 @@
+-- =============================================================================
+-- V7: Transactional outbox
+-- Domain events written with the change that raised them, one row per consumer,
+-- and delivered asynchronously by the outbox dispatcher.
+-- =============================================================================
+
+CREATE TABLE IF NOT EXISTS outbox_events (
+    id BIGSERIAL PRIMARY KEY,
+    event_id UUID NOT NULL,
+    event_type VARCHAR(100) NOT NULL,
+    consumer VARCHAR(100) NOT NULL,
+    aggregate_id UUID,
+    payload TEXT NOT NULL,
+    status VARCHAR(20) NOT NULL DEFAULT 'PENDING',
+    attempts INTEGER NOT NULL DEFAULT 0,
+    available_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    created_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    dispatched_at TIMESTAMP,
+    last_error VARCHAR(1000)
+);
+
+-- Dispatcher poll: only pending rows are ever scanned
+CREATE INDEX IF NOT EXISTS idx_outbox_events_due
+    ON outbox_events(available_at, id) WHERE status = 'PENDING';
+CREATE INDEX IF NOT EXISTS idx_outbox_events_aggregate ON outbox_events(aggregate_id);
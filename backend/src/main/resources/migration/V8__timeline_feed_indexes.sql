@@ -0,0 +1,15 @@
+-- =============================================================================
+-- V8: Broker activity feed indexes
+-- The dashboard feed walks each active transaction's newest timeline entries and
+-- pages with a (timestamp, id) keyset, so both need to come straight off an index.
+-- =============================================================================
+
+-- Newest-first entries per transaction; matches the soft-delete filter on TimelineEntry.
+CREATE INDEX IF NOT EXISTS idx_timeline_entries_tx_timestamp_id
+    ON timeline_entries (transaction_id, timestamp DESC, id DESC)
+    WHERE deleted_at IS NULL;
+
+-- A broker's active transactions without touching closed or deleted ones.
+CREATE INDEX IF NOT EXISTS idx_transactions_broker_status
+    ON transactions (broker_id, status)
+    WHERE deleted_at IS NULL;
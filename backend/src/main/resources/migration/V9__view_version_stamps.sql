@@ -0,0 +1,115 @@
+-- =============================================================================
+-- V9: View version stamps for conditional GET
+-- Every write to a transaction or to any row shown on its pages bumps
+-- transactions.view_version, and every write to a user's notifications bumps
+-- notification_versions.version. Read endpoints derive strong ETags from these
+-- counters, so an unchanged view costs one indexed lookup and a 304.
+-- =============================================================================
+
+ALTER TABLE transactions ADD COLUMN IF NOT EXISTS view_version BIGINT NOT NULL DEFAULT 0;
+
+-- Direct edits of the transaction row. Bumps coming from child tables already
+-- change view_version and are left alone.
+CREATE OR REPLACE FUNCTION transactions_bump_view_version() RETURNS trigger AS $$
+BEGIN
+    IF NEW.view_version = OLD.view_version THEN
+        NEW.view_version := OLD.view_version + 1;
+    END IF;
+    RETURN NEW;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_transactions_view_version ON transactions;
+CREATE TRIGGER trg_transactions_view_version
+    BEFORE UPDATE ON transactions
+    FOR EACH ROW EXECUTE FUNCTION transactions_bump_view_version();
+
+-- Child rows: resolve the owning transaction and bump it. Only the branch for the
+-- firing table is ever executed, so tables without a transaction_id column are safe.
+CREATE OR REPLACE FUNCTION child_bump_transaction_view_version() RETURNS trigger AS $$
+DECLARE
+    rec RECORD;
+    tx_id UUID;
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        rec := OLD;
+    ELSE
+        rec := NEW;
+    END IF;
+
+    IF TG_TABLE_NAME = 'property_offers' THEN
+        SELECT p.transaction_id INTO tx_id FROM properties p WHERE p.property_id = rec.property_id;
+    ELSIF TG_TABLE_NAME = 'offer_revisions' THEN
+        SELECT o.transaction_id INTO tx_id FROM offers o WHERE o.offer_id = rec.offer_id;
+    ELSIF TG_TABLE_NAME = 'offer_documents' THEN
+        IF rec.offer_id IS NOT NULL THEN
+            SELECT o.transaction_id INTO tx_id FROM offers o WHERE o.offer_id = rec.offer_id;
+        ELSE
+            SELECT p.transaction_id INTO tx_id
+            FROM property_offers po JOIN properties p ON p.property_id = po.property_id
+            WHERE po.property_offer_id = rec.property_offer_id;
+        END IF;
+    ELSIF TG_TABLE_NAME = 'document_conditions' THEN
+        SELECT c.transaction_id INTO tx_id FROM conditions c WHERE c.condition_id = rec.condition_id;
+    ELSIF TG_TABLE_NAME = 'document_versions' THEN
+        SELECT d.transaction_id INTO tx_id FROM documents d WHERE d.id = rec.document_id;
+    ELSIF TG_TABLE_NAME = 'participant_permissions' THEN
+        SELECT tp.transaction_id INTO tx_id FROM transaction_participants tp WHERE tp.id = rec.participant_id;
+    ELSE
+        tx_id := rec.transaction_id;
+        -- A row moved to another transaction changes both views
+        IF TG_OP = 'UPDATE' THEN
+            IF OLD.transaction_id IS DISTINCT FROM NEW.transaction_id THEN
+                UPDATE transactions SET view_version = view_version + 1 WHERE transaction_id = OLD.transaction_id;
+            END IF;
+        END IF;
+    END IF;
+
+    IF tx_id IS NOT NULL THEN
+        UPDATE transactions SET view_version = view_version + 1 WHERE transaction_id = tx_id;
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DO $$
+DECLARE
+    t TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY[
+        'timeline_entries', 'documents', 'document_versions', 'transaction_stage_checklist_state',
+        'transaction_participants', 'participant_permissions', 'properties', 'property_offers',
+        'offers', 'offer_revisions', 'offer_documents', 'conditions', 'document_conditions',
+        'search_criteria', 'visitors', 'appointments']
+    LOOP
+        EXECUTE format('DROP TRIGGER IF EXISTS trg_%s_view_version ON %I', t, t);
+        EXECUTE format('CREATE TRIGGER trg_%s_view_version AFTER INSERT OR UPDATE OR DELETE ON %I '
+                       'FOR EACH ROW EXECUTE FUNCTION child_bump_transaction_view_version()', t, t);
+    END LOOP;
+END $$;
+
+-- One counter per notification recipient
+CREATE TABLE IF NOT EXISTS notification_versions (
+    recipient_id VARCHAR(255) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0
+);
+
+CREATE OR REPLACE FUNCTION notifications_bump_version() RETURNS trigger AS $$
+DECLARE
+    recipient VARCHAR(255);
+BEGIN
+    IF TG_OP = 'DELETE' THEN
+        recipient := OLD.recipient_id;
+    ELSE
+        recipient := NEW.recipient_id;
+    END IF;
+    INSERT INTO notification_versions (recipient_id, version) VALUES (recipient, 1)
+    ON CONFLICT (recipient_id) DO UPDATE SET version = notification_versions.version + 1;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+DROP TRIGGER IF EXISTS trg_notifications_version ON notifications;
+CREATE TRIGGER trg_notifications_version
+    AFTER INSERT OR UPDATE OR DELETE ON notifications
+    FOR EACH ROW EXECUTE FUNCTION notifications_bump_version();
@@ -18,7 +18,10 @@ import org.springframework.security.core.context.SecurityContext;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.oauth2.jwt.Jwt;
 
+import java.time.Clock;
 import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -41,11 +44,31 @@ class OrganizationSettingsServiceImplTest {
     @Mock
     private HttpServletRequest httpServletRequest;
 
+    private final SteppingClock clock = new SteppingClock();
     private OrganizationSettingsServiceImpl service;
 
+    static class SteppingClock extends Clock {
+        Instant now = Instant.parse("2025-01-02T00:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
     @BeforeEach
     void setUp() {
-        service = new OrganizationSettingsServiceImpl(repository, mapper, auditService, httpServletRequest);
+        service = new OrganizationSettingsServiceImpl(repository, mapper, auditService, httpServletRequest, clock);
     }
 
     @AfterEach
@@ -100,6 +123,73 @@ class OrganizationSettingsServiceImplTest {
                         savedSettings.getDocumentSignatureRequestedBodyFr() != null));
     }
 
+    @Test
+    void getSettings_ServesSnapshotUntilRecheck() {
+        Instant version = Instant.parse("2025-01-01T10:00:00Z");
+        OrganizationSettings settings = OrganizationSettings.builder().defaultLanguage("en").updatedAt(version).build();
+        OrganizationSettingsResponseModel response = OrganizationSettingsResponseModel.builder()
+                .defaultLanguage("en").build();
+        when(repository.findTopByOrderByUpdatedAtDesc()).thenReturn(Optional.of(settings));
+        when(mapper.toResponseModel(settings)).thenReturn(response);
+        Instant start = Instant.parse("2025-01-02T00:00:00Z");
+        clock.now = start;
+
+        service.getSettings();
+        OrganizationSettingsResponseModel second = service.getSettings();
+
+        assertThat(second).isSameAs(response);
+        verify(repository, times(1)).findTopByOrderByUpdatedAtDesc();
+        verify(repository, never()).findLatestUpdatedAt();
+
+        // Past the recheck interval with an unchanged version: one cheap check, no reload
+        clock.now = start.plusSeconds(31);
+        when(repository.findLatestUpdatedAt()).thenReturn(Optional.of(version));
+
+        assertThat(service.getSettings()).isSameAs(response);
+        verify(repository, times(1)).findLatestUpdatedAt();
+        verify(repository, times(1)).findTopByOrderByUpdatedAtDesc();
+    }
+
+    @Test
+    void getSettings_ReloadsWhenAnotherInstanceUpdated() {
+        Instant version = Instant.parse("2025-01-01T10:00:00Z");
+        OrganizationSettings original = OrganizationSettings.builder().defaultLanguage("en").updatedAt(version).build();
+        OrganizationSettings updated = OrganizationSettings.builder().defaultLanguage("fr")
+                .updatedAt(version.plusSeconds(60)).build();
+        OrganizationSettingsResponseModel originalModel = OrganizationSettingsResponseModel.builder()
+                .defaultLanguage("en").build();
+        OrganizationSettingsResponseModel updatedModel = OrganizationSettingsResponseModel.builder()
+                .defaultLanguage("fr").build();
+        when(repository.findTopByOrderByUpdatedAtDesc()).thenReturn(Optional.of(original), Optional.of(updated));
+        when(mapper.toResponseModel(original)).thenReturn(originalModel);
+        when(mapper.toResponseModel(updated)).thenReturn(updatedModel);
+        Instant start = Instant.parse("2025-01-02T00:00:00Z");
+        clock.now = start;
+        service.getSettings();
+
+        clock.now = start.plusSeconds(31);
+        when(repository.findLatestUpdatedAt()).thenReturn(Optional.of(updated.getUpdatedAt()));
+
+        assertThat(service.getSettings().getDefaultLanguage()).isEqualTo("fr");
+    }
+
+    @Test
+    void updateSettings_ReplacesSnapshot() {
+        OrganizationSettings existing = OrganizationSettings.builder().defaultLanguage("en").build();
+        OrganizationSettings saved = OrganizationSettings.builder().defaultLanguage("fr")
+                .updatedAt(Instant.now()).build();
+        OrganizationSettingsResponseModel response = OrganizationSettingsResponseModel.builder()
+                .defaultLanguage("fr").build();
+        when(repository.findTopByOrderByUpdatedAtDesc()).thenReturn(Optional.of(existing));
+        when(repository.save(any())).thenReturn(saved);
+        when(mapper.toResponseModel(saved)).thenReturn(response);
+
+        service.updateSettings(new UpdateOrganizationSettingsRequestModel());
+
+        assertThat(service.getSettings()).isSameAs(response);
+        verify(repository, times(1)).findTopByOrderByUpdatedAtDesc();
+    }
+
     @Test
     void updateSettings_WithValidRequest_UpdatesAndAudits() {
         // Arrange
@@ -304,7 +394,7 @@ class OrganizationSettingsServiceImplTest {
     void updateSettings_WithNullHttpRequest_UsesUnknownIp() {
         // Arrange
         OrganizationSettingsServiceImpl serviceWithNullRequest = 
-                new OrganizationSettingsServiceImpl(repository, mapper, auditService, null);
+                new OrganizationSettingsServiceImpl(repository, mapper, auditService, null, clock);
 
         OrganizationSettings existing = OrganizationSettings.builder().defaultLanguage("en").build();
         OrganizationSettings saved = OrganizationSettings.builder().defaultLanguage("fr").updatedAt(Instant.now()).build();
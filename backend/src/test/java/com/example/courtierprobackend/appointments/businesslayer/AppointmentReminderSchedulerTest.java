@@ -0,0 +1,135 @@
+package com.example.courtierprobackend.appointments.businesslayer;
+
+import com.example.courtierprobackend.appointments.businesslayer.events.AppointmentReminderDueEvent;
+import com.example.courtierprobackend.appointments.datalayer.Appointment;
+import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
+import com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus;
+import com.example.courtierprobackend.infrastructure.jobs.ScheduledJobRunner;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentReminderSchedulerTest {
+
+    @Mock
+    private AppointmentRepository appointmentRepository;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ScheduledJobRunner jobRunner;
+
+    private AppointmentReminderScheduler scheduler;
+    private UUID brokerId;
+    private UUID clientId;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new AppointmentReminderScheduler(appointmentRepository, userAccountRepository,
+                domainEventPublisher, transactionManager, jobRunner);
+        brokerId = UUID.randomUUID();
+        clientId = UUID.randomUUID();
+    }
+
+    @Test
+    void sendAppointmentReminders_runsUnderClusterLease() {
+        scheduler.sendAppointmentReminders();
+
+        verify(jobRunner).runExclusively(eq(AppointmentReminderScheduler.JOB_NAME), any(), any());
+        verifyNoInteractions(appointmentRepository);
+    }
+
+    @Test
+    void queueDueReminders_queuesEventAndMarksReminderSent() {
+        Appointment apt = appointment();
+        when(appointmentRepository.lockDueReminders(any(LocalDateTime.class), any(LocalDateTime.class),
+                eq(AppointmentReminderScheduler.BATCH_SIZE))).thenReturn(List.of(apt));
+        UserAccount client = user(clientId, "Jane", "Client", "fr");
+        client.setEmailNotificationsEnabled(false);
+        when(userAccountRepository.findAllById(Set.of(brokerId, clientId)))
+                .thenReturn(List.of(user(brokerId, "John", "Broker", null), client));
+
+        scheduler.queueDueReminders();
+
+        ArgumentCaptor<AppointmentReminderDueEvent> event = ArgumentCaptor.forClass(AppointmentReminderDueEvent.class);
+        verify(domainEventPublisher).publish(eq(apt.getAppointmentId()), event.capture());
+        assertThat(event.getValue().recipients()).containsExactly(
+                new AppointmentReminderDueEvent.Recipient(brokerId, "john@example.com", "John Broker", "en", true),
+                new AppointmentReminderDueEvent.Recipient(clientId, "jane@example.com", "Jane Client", "fr", false));
+        assertThat(apt.getReminderSent()).isTrue();
+        verify(appointmentRepository).saveAll(List.of(apt));
+        verify(transactionManager).commit(any());
+    }
+
+    @Test
+    void queueDueReminders_fullBatch_claimsAgainInNewTransaction() {
+        List<Appointment> full = new ArrayList<>();
+        IntStream.range(0, AppointmentReminderScheduler.BATCH_SIZE).forEach(i -> full.add(appointment()));
+        when(appointmentRepository.lockDueReminders(any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .thenReturn(full, List.of());
+        when(userAccountRepository.findAllById(any())).thenReturn(List.of());
+
+        scheduler.queueDueReminders();
+
+        verify(appointmentRepository, times(2)).lockDueReminders(any(), any(), anyInt());
+        verify(transactionManager, times(2)).commit(any());
+        verifyNoInteractions(domainEventPublisher);
+        assertThat(full).allMatch(Appointment::getReminderSent);
+    }
+
+    @Test
+    void queueDueReminders_nothingDue_doesNothing() {
+        when(appointmentRepository.lockDueReminders(any(LocalDateTime.class), any(LocalDateTime.class), anyInt()))
+                .thenReturn(List.of());
+
+        scheduler.queueDueReminders();
+
+        verifyNoInteractions(userAccountRepository, domainEventPublisher);
+        verify(appointmentRepository, never()).saveAll(any());
+    }
+
+    private Appointment appointment() {
+        Appointment apt = new Appointment();
+        apt.setAppointmentId(UUID.randomUUID());
+        apt.setBrokerId(brokerId);
+        apt.setClientId(clientId);
+        apt.setFromDateTime(LocalDateTime.now().plusHours(24).plusMinutes(30));
+        apt.setStatus(AppointmentStatus.CONFIRMED);
+        apt.setReminderSent(false);
+        return apt;
+    }
+
+    private static UserAccount user(UUID id, String firstName, String lastName, String language) {
+        UserAccount user = new UserAccount();
+        user.setId(id);
+        user.setFirstName(firstName);
+        user.setLastName(lastName);
+        user.setEmail(firstName.toLowerCase() + "@example.com");
+        user.setPreferredLanguage(language);
+        return user;
+    }
+}
@@ -21,9 +21,7 @@ import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.time.LocalTime;
-import java.util.Collections;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -300,65 +298,4 @@ class AppointmentServiceNotificationTest {
                                 isNull(),
                                 any());
         }
-
-        @Test
-        void sendAppointmentReminders_shouldSendEmails_ForUpcomingAppointments() {
-                // Arrange
-                Appointment upcoming = new Appointment();
-                upcoming.setAppointmentId(UUID.randomUUID());
-                upcoming.setBrokerId(brokerId);
-                upcoming.setClientId(clientId);
-                upcoming.setFromDateTime(LocalDateTime.now().plusHours(24).plusMinutes(30));
-                upcoming.setReminderSent(false);
-                upcoming.setStatus(AppointmentStatus.CONFIRMED);
-
-                // Mock returns list with one appointment
-                when(appointmentRepository
-                                .findByFromDateTimeBetweenAndReminderSentFalseAndStatusNotIn(
-                                                any(LocalDateTime.class), any(LocalDateTime.class), any()))
-                                .thenReturn(List.of(upcoming));
-
-                // Capture saved appointment
-                when(appointmentRepository.save(any(Appointment.class))).thenAnswer(i -> i.getArgument(0));
-
-                // Act
-                appointmentService.sendAppointmentReminders();
-
-                // Assert
-                // Verify emails sent to both
-                verify(emailService).sendAppointmentReminderNotification(upcoming, broker.getEmail(), "John Broker",
-                                "en");
-                verify(emailService).sendAppointmentReminderNotification(upcoming, client.getEmail(), "Jane Client",
-                                "en");
-
-                // Verify notifications sent to both
-                verify(notificationService).createNotification(
-                                eq(brokerId.toString()), eq("APPOINTMENT_REMINDER"), anyString(), any(), anyString(),
-                                eq(NotificationCategory.APPOINTMENT));
-                verify(notificationService).createNotification(
-                                eq(clientId.toString()), eq("APPOINTMENT_REMINDER"), anyString(), any(), anyString(),
-                                eq(NotificationCategory.APPOINTMENT));
-
-                // Verify reminderSent flag update
-                verify(appointmentRepository).saveAll(anyList());
-        }
-
-        @Test
-        void sendAppointmentReminders_shouldNotSend_IfAlreadySent() {
-                // Arrange
-                // Mock returns empty list (simulating query filtering out already sent
-                // reminders)
-                when(appointmentRepository
-                                .findByFromDateTimeBetweenAndReminderSentFalseAndStatusNotIn(
-                                                any(LocalDateTime.class), any(LocalDateTime.class), any()))
-                                .thenReturn(Collections.emptyList());
-
-                // Act
-                appointmentService.sendAppointmentReminders();
-
-                // Assert
-                verifyNoInteractions(emailService);
-                verify(notificationService, never()).createNotification(anyString(), anyString(), anyString(), any(),
-                                anyString(), any());
-        }
 }
@@ -0,0 +1,111 @@
+package com.example.courtierprobackend.appointments.businesslayer.events;
+
+import com.example.courtierprobackend.appointments.datalayer.Appointment;
+import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
+import com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus;
+import com.example.courtierprobackend.email.EmailService;
+import jakarta.mail.MessagingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentReminderEmailHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private AppointmentRepository appointmentRepository;
+
+    @InjectMocks
+    private AppointmentReminderEmailHandler handler;
+
+    private final UUID appointmentId = UUID.randomUUID();
+    private final AppointmentReminderDueEvent event = new AppointmentReminderDueEvent(appointmentId, List.of(
+            new AppointmentReminderDueEvent.Recipient(UUID.randomUUID(), "john@example.com", "John Broker", "en", true),
+            new AppointmentReminderDueEvent.Recipient(UUID.randomUUID(), "jane@example.com", "Jane Client", "fr", null)));
+
+    @Test
+    void handle_emailsEveryRecipientInTheirLanguage() throws Exception {
+        Appointment apt = appointment(AppointmentStatus.CONFIRMED);
+        when(appointmentRepository.findByAppointmentId(appointmentId)).thenReturn(Optional.of(apt));
+        when(emailService.sendAppointmentReminder(eq(apt), anyString(), anyString(), anyString())).thenReturn(true);
+
+        handler.handle(event);
+
+        verify(emailService).sendAppointmentReminder(apt, "john@example.com", "John Broker", "en");
+        verify(emailService).sendAppointmentReminder(apt, "jane@example.com", "Jane Client", "fr");
+    }
+
+    @Test
+    void handle_recipientOptedOut_skipsThem() throws Exception {
+        Appointment apt = appointment(AppointmentStatus.CONFIRMED);
+        when(appointmentRepository.findByAppointmentId(appointmentId)).thenReturn(Optional.of(apt));
+        when(emailService.sendAppointmentReminder(apt, "john@example.com", "John Broker", "en")).thenReturn(true);
+
+        handler.handle(new AppointmentReminderDueEvent(appointmentId, List.of(
+                new AppointmentReminderDueEvent.Recipient(UUID.randomUUID(), "john@example.com", "John Broker", "en", true),
+                new AppointmentReminderDueEvent.Recipient(UUID.randomUUID(), "jane@example.com", "Jane Client", "fr", false))));
+
+        verify(emailService).sendAppointmentReminder(apt, "john@example.com", "John Broker", "en");
+        verifyNoMoreInteractions(emailService);
+    }
+
+    @Test
+    void handle_sendFails_rethrowsForRetry() throws Exception {
+        Appointment apt = appointment(AppointmentStatus.CONFIRMED);
+        when(appointmentRepository.findByAppointmentId(appointmentId)).thenReturn(Optional.of(apt));
+        when(emailService.sendAppointmentReminder(apt, "john@example.com", "John Broker", "en"))
+                .thenThrow(new MessagingException("smtp down"));
+
+        assertThatThrownBy(() -> handler.handle(event))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(MessagingException.class);
+    }
+
+    @Test
+    void handle_providerRejects_rethrowsForRetry() throws Exception {
+        Appointment apt = appointment(AppointmentStatus.CONFIRMED);
+        when(appointmentRepository.findByAppointmentId(appointmentId)).thenReturn(Optional.of(apt));
+        when(emailService.sendAppointmentReminder(apt, "john@example.com", "John Broker", "en")).thenReturn(false);
+
+        assertThatThrownBy(() -> handler.handle(event)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void handle_cancelledSinceClaimed_sendsNothing() {
+        when(appointmentRepository.findByAppointmentId(appointmentId))
+                .thenReturn(Optional.of(appointment(AppointmentStatus.CANCELLED)));
+
+        handler.handle(event);
+
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void handle_appointmentDeleted_sendsNothing() {
+        when(appointmentRepository.findByAppointmentId(appointmentId)).thenReturn(Optional.empty());
+
+        handler.handle(event);
+
+        verifyNoInteractions(emailService);
+    }
+
+    private Appointment appointment(AppointmentStatus status) {
+        Appointment apt = new Appointment();
+        apt.setAppointmentId(appointmentId);
+        apt.setStatus(status);
+        return apt;
+    }
+}
@@ -0,0 +1,41 @@
+package com.example.courtierprobackend.appointments.businesslayer.events;
+
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AppointmentReminderNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private AppointmentReminderNotificationHandler handler;
+
+    @Test
+    void handle_notifiesEveryRecipient() {
+        UUID appointmentId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+
+        handler.handle(new AppointmentReminderDueEvent(appointmentId, List.of(
+                new AppointmentReminderDueEvent.Recipient(brokerId, "john@example.com", "John Broker", "en", true),
+                new AppointmentReminderDueEvent.Recipient(clientId, "jane@example.com", "Jane Client", "fr", true))));
+
+        verify(notificationService).createNotification(brokerId.toString(), "APPOINTMENT_REMINDER",
+                "APPOINTMENT_REMINDER_MSG", Map.of(), appointmentId.toString(), NotificationCategory.APPOINTMENT);
+        verify(notificationService).createNotification(clientId.toString(), "APPOINTMENT_REMINDER",
+                "APPOINTMENT_REMINDER_MSG", Map.of(), appointmentId.toString(), NotificationCategory.APPOINTMENT);
+    }
+}
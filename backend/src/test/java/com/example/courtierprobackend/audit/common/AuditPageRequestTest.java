@@ -0,0 +1,91 @@
+package com.example.courtierprobackend.audit.common;
+
+import com.example.courtierprobackend.common.exceptions.BadRequestException;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.ResponseEntity;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AuditPageRequestTest {
+
+    private static final Instant FROM = Instant.parse("2026-01-01T00:00:00Z");
+    private static final Instant TO = Instant.parse("2026-02-01T00:00:00Z");
+
+    @Test
+    void cursor_roundTripsThroughToken() {
+        UUID id = UUID.randomUUID();
+        AuditCursor cursor = AuditCursor.of(Instant.parse("2026-01-15T10:20:30.123456789Z"), id);
+
+        AuditCursor decoded = AuditCursor.decode(cursor.encode());
+
+        assertThat(decoded).isEqualTo(cursor);
+        assertThat(decoded.uuidId()).isEqualTo(id);
+    }
+
+    @Test
+    void cursor_withBlankToken_isFirstPage() {
+        assertThat(AuditCursor.decode(null)).isNull();
+        assertThat(AuditCursor.decode(" ")).isNull();
+    }
+
+    @Test
+    void cursor_withForeignToken_throwsBadRequest() {
+        assertThatThrownBy(() -> AuditCursor.decode("not a cursor")).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> AuditCursor.of(FROM, "abc").longId()).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void of_withoutParameters_readsNewestDefaultPage() {
+        AuditPageRequest page = AuditPageRequest.of(null, null, null, null);
+
+        assertThat(page.limit()).isEqualTo(AuditPageRequest.DEFAULT_SIZE);
+        assertThat(page.fetchSize()).isEqualTo(AuditPageRequest.DEFAULT_SIZE + 1);
+        assertThat(page.beforeTimestamp()).isEqualTo(page.to());
+    }
+
+    @Test
+    void of_capsPageSize() {
+        assertThat(AuditPageRequest.of(null, null, null, 10_000).limit()).isEqualTo(AuditPageRequest.MAX_SIZE);
+        assertThat(AuditPageRequest.of(null, null, null, -3).limit()).isEqualTo(1);
+    }
+
+    @Test
+    void of_withEmptyRange_throwsBadRequest() {
+        assertThatThrownBy(() -> AuditPageRequest.of(TO, FROM, null, null)).isInstanceOf(BadRequestException.class);
+        assertThatThrownBy(() -> AuditPageRequest.of(FROM, FROM, null, null)).isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void beforeTimestamp_neverExceedsRangeEnd() {
+        Instant later = TO.plusSeconds(3600);
+        Instant earlier = TO.minusSeconds(3600);
+
+        assertThat(AuditPageRequest.of(FROM, TO, AuditCursor.of(later, 1L).encode(), null).beforeTimestamp()).isEqualTo(TO);
+        assertThat(AuditPageRequest.of(FROM, TO, AuditCursor.of(earlier, 1L).encode(), null).beforeTimestamp()).isEqualTo(earlier);
+    }
+
+    @Test
+    void page_withExtraRow_trimsItAndPointsCursorAtLastItem() {
+        AuditPageRequest request = AuditPageRequest.of(FROM, TO, null, 2);
+        List<Long> rows = List.of(3L, 2L, 1L);
+
+        AuditPage<Long> page = AuditPage.of(rows, request, id -> AuditCursor.of(FROM, id));
+        ResponseEntity<List<Long>> response = page.toResponseEntity();
+
+        assertThat(response.getBody()).containsExactly(3L, 2L);
+        assertThat(AuditCursor.decode(response.getHeaders().getFirst(AuditPage.NEXT_CURSOR_HEADER)).longId()).isEqualTo(2L);
+    }
+
+    @Test
+    void page_withoutExtraRow_hasNoCursorHeader() {
+        AuditPage<Long> page = AuditPage.of(List.of(1L), AuditPageRequest.firstPage(2), id -> AuditCursor.of(FROM, id));
+
+        assertThat(page.nextCursor()).isNull();
+        assertThat(page.map(String::valueOf).toResponseEntity().getHeaders().containsKey(AuditPage.NEXT_CURSOR_HEADER)).isFalse();
+    }
+}
@@ -0,0 +1,115 @@
+package com.example.courtierprobackend.audit.ingestion;
+
+import com.example.courtierprobackend.audit.loginaudit.dataaccesslayer.LoginAuditEvent;
+import com.example.courtierprobackend.audit.loginaudit.dataaccesslayer.LoginAuditEventRepository;
+import com.example.courtierprobackend.audit.logoutaudit.dataaccesslayer.LogoutAuditEvent;
+import com.example.courtierprobackend.audit.logoutaudit.dataaccesslayer.LogoutAuditEventRepository;
+import com.example.courtierprobackend.audit.passwordresetaudit.dataaccesslayer.PasswordResetEvent;
+import com.example.courtierprobackend.audit.passwordresetaudit.dataaccesslayer.PasswordResetEventRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Instant;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditEventWriterTest {
+
+    @Mock
+    private LoginAuditEventRepository loginAuditEventRepository;
+    @Mock
+    private LogoutAuditEventRepository logoutAuditEventRepository;
+    @Mock
+    private PasswordResetEventRepository passwordResetEventRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AuditEventWriter writer;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        writer = new AuditEventWriter(loginAuditEventRepository, logoutAuditEventRepository,
+                passwordResetEventRepository, transactionManager, meterRegistry, 3, 2);
+    }
+
+    @Test
+    void submit_doesNotWriteUntilFlush() {
+        assertThat(writer.submit(login("u1"))).isTrue();
+
+        verifyNoInteractions(loginAuditEventRepository);
+        assertThat(meterRegistry.get(AuditEventWriter.QUEUE_SIZE_METRIC).gauge().value()).isEqualTo(1.0);
+    }
+
+    @Test
+    void flush_writesQueuedEventsInBatchesGroupedByType() {
+        LoginAuditEvent first = login("u1");
+        LoginAuditEvent second = login("u2");
+        LogoutAuditEvent logout = LogoutAuditEvent.builder().userId("u1").timestamp(Instant.now()).build();
+        writer.submit(first);
+        writer.submit(logout);
+        writer.submit(second);
+
+        writer.flush();
+
+        verify(loginAuditEventRepository).saveAll(List.of(first));
+        verify(logoutAuditEventRepository).saveAll(List.of(logout));
+        verify(loginAuditEventRepository).saveAll(List.of(second));
+        verifyNoInteractions(passwordResetEventRepository);
+        verify(transactionManager, times(2)).commit(any());
+        assertThat(meterRegistry.get(AuditEventWriter.WRITTEN_METRIC).tag("type", "login").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get(AuditEventWriter.QUEUE_SIZE_METRIC).gauge().value()).isZero();
+    }
+
+    @Test
+    void submit_whenQueueFull_dropsAndCountsEvent() {
+        writer.submit(login("u1"));
+        writer.submit(login("u2"));
+        writer.submit(PasswordResetEvent.builder().userId("u3").build());
+
+        assertThat(writer.submit(login("u4"))).isFalse();
+
+        assertThat(meterRegistry.get(AuditEventWriter.DROPPED_METRIC).tag("type", "login").counter().count())
+                .isEqualTo(1.0);
+        writer.flush();
+        assertThat(writer.submit(login("u5"))).isTrue();
+    }
+
+    @Test
+    void flush_failedBatch_isCountedAndLaterBatchesStillWritten() {
+        when(loginAuditEventRepository.saveAll(anyList()))
+                .thenThrow(new RuntimeException("connection reset"))
+                .thenReturn(List.of());
+        writer.submit(login("u1"));
+        writer.submit(login("u2"));
+        writer.submit(login("u3"));
+
+        writer.flush();
+
+        verify(loginAuditEventRepository, times(2)).saveAll(anyList());
+        assertThat(meterRegistry.get(AuditEventWriter.FAILED_METRIC).tag("type", "login").counter().count())
+                .isEqualTo(2.0);
+        assertThat(meterRegistry.get(AuditEventWriter.WRITTEN_METRIC).tag("type", "login").counter().count())
+                .isEqualTo(1.0);
+    }
+
+    private static LoginAuditEvent login(String userId) {
+        return LoginAuditEvent.builder()
+                .userId(userId)
+                .email(userId + "@example.com")
+                .role("BROKER")
+                .timestamp(Instant.now())
+                .build();
+    }
+}
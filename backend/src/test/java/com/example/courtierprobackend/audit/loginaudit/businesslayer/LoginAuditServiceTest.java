@@ -1,5 +1,9 @@
 package com.example.courtierprobackend.audit.loginaudit.businesslayer;
 
+import com.example.courtierprobackend.audit.common.AuditCursor;
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
+import com.example.courtierprobackend.audit.ingestion.AuditEventWriter;
 import com.example.courtierprobackend.audit.loginaudit.dataaccesslayer.LoginAuditEvent;
 import com.example.courtierprobackend.audit.loginaudit.dataaccesslayer.LoginAuditEventRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,7 +13,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -23,11 +29,14 @@ class LoginAuditServiceTest {
     @Mock
     private LoginAuditEventRepository repository;
 
+    @Mock
+    private AuditEventWriter auditEventWriter;
+
     private LoginAuditService service;
 
     @BeforeEach
     void setUp() {
-        service = new LoginAuditService(repository);
+        service = new LoginAuditService(repository, auditEventWriter);
     }
 
     @Test
@@ -37,7 +46,7 @@ class LoginAuditServiceTest {
 
         // Assert
         ArgumentCaptor<LoginAuditEvent> captor = ArgumentCaptor.forClass(LoginAuditEvent.class);
-        verify(repository).save(captor.capture());
+        verify(auditEventWriter).submit(captor.capture());
         
         LoginAuditEvent event = captor.getValue();
         assertThat(event.getUserId()).isEqualTo("user-1");
@@ -47,48 +56,54 @@ class LoginAuditServiceTest {
     }
 
     @Test
-    void getAllLoginEvents_ReturnsAllEvents() {
+    void getLoginEvents_WithFewerRowsThanPageSize_HasNoNextCursor() {
         // Arrange
+        AuditPageRequest page = AuditPageRequest.firstPage(2);
         List<LoginAuditEvent> events = List.of(
-                LoginAuditEvent.builder().userId("u1").build(),
-                LoginAuditEvent.builder().userId("u2").build()
+                LoginAuditEvent.builder().id(UUID.randomUUID()).userId("u1").timestamp(Instant.now()).build(),
+                LoginAuditEvent.builder().id(UUID.randomUUID()).userId("u2").timestamp(Instant.now()).build()
         );
-        when(repository.findAllByOrderByTimestampDesc()).thenReturn(events);
+        when(repository.findPage(page.from(), page.to(), page.beforeTimestamp(), page.beforeUuid(), 3))
+                .thenReturn(events);
 
         // Act
-        List<LoginAuditEvent> result = service.getAllLoginEvents();
+        AuditPage<LoginAuditEvent> result = service.getLoginEvents(page, null, null);
 
         // Assert
-        assertThat(result).hasSize(2);
+        assertThat(result.items()).hasSize(2);
+        assertThat(result.nextCursor()).isNull();
     }
 
     @Test
-    void getLoginEventsByUser_ReturnsUserEvents() {
+    void getLoginEvents_WithMoreRowsThanPageSize_ReturnsCursorOfLastItem() {
         // Arrange
-        List<LoginAuditEvent> events = List.of(
-                LoginAuditEvent.builder().userId("user-1").build()
-        );
-        when(repository.findByUserIdOrderByTimestampDesc("user-1")).thenReturn(events);
+        AuditPageRequest page = AuditPageRequest.firstPage(1);
+        LoginAuditEvent newest = LoginAuditEvent.builder().id(UUID.randomUUID()).userId("user-1")
+                .role("ADMIN").timestamp(Instant.parse("2026-03-02T00:00:00Z")).build();
+        LoginAuditEvent older = LoginAuditEvent.builder().id(UUID.randomUUID()).userId("user-1")
+                .role("ADMIN").timestamp(Instant.parse("2026-03-01T00:00:00Z")).build();
+        when(repository.findPageByUserIdAndRole(page.from(), page.to(), page.beforeTimestamp(), page.beforeUuid(),
+                "user-1", "ADMIN", 2))
+                .thenReturn(List.of(newest, older));
 
         // Act
-        List<LoginAuditEvent> result = service.getLoginEventsByUser("user-1");
+        AuditPage<LoginAuditEvent> result = service.getLoginEvents(page, "user-1", "ADMIN");
 
         // Assert
-        assertThat(result).hasSize(1);
+        assertThat(result.items()).containsExactly(newest);
+        assertThat(AuditCursor.decode(result.nextCursor()))
+                .isEqualTo(AuditCursor.of(newest.getTimestamp(), newest.getId()));
     }
 
     @Test
-    void getLoginEventsByRole_ReturnsRoleEvents() {
-        // Arrange
-        List<LoginAuditEvent> events = List.of(
-                LoginAuditEvent.builder().role("ADMIN").build()
-        );
-        when(repository.findByRoleOrderByTimestampDesc("ADMIN")).thenReturn(events);
+    void getLoginEvents_WithRoleOnly_UsesRoleQuery() {
+        AuditPageRequest page = AuditPageRequest.firstPage(5);
+        when(repository.findPageByRole(page.from(), page.to(), page.beforeTimestamp(), page.beforeUuid(), "BROKER", 6))
+                .thenReturn(List.of());
 
-        // Act
-        List<LoginAuditEvent> result = service.getLoginEventsByRole("ADMIN");
+        AuditPage<LoginAuditEvent> result = service.getLoginEvents(page, null, "BROKER");
 
-        // Assert
-        assertThat(result).hasSize(1);
+        assertThat(result.items()).isEmpty();
+        verify(repository, never()).findPage(any(), any(), any(), any(), anyInt());
     }
 }
@@ -1,18 +1,26 @@
 package com.example.courtierprobackend.audit.loginaudit.presentationlayer;
 
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
+import com.example.courtierprobackend.audit.common.AuditQueryParams;
 import com.example.courtierprobackend.audit.loginaudit.businesslayer.LoginAuditService;
 import com.example.courtierprobackend.audit.loginaudit.dataaccesslayer.LoginAuditEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
 
 import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -31,6 +39,8 @@ class LoginAuditControllerTest {
         controller = new LoginAuditController(loginAuditService);
     }
 
+    private static final AuditQueryParams FIRST_PAGE = new AuditQueryParams(null, null, null, null);
+
     @Test
     void getAllLoginEvents_ReturnsAllEvents() {
         // Arrange
@@ -38,26 +48,49 @@ class LoginAuditControllerTest {
                 LoginAuditEvent.builder().id(UUID.randomUUID()).userId("u1").email("u1@test.com").timestamp(Instant.now()).build(),
                 LoginAuditEvent.builder().id(UUID.randomUUID()).userId("u2").email("u2@test.com").timestamp(Instant.now()).build()
         );
-        when(loginAuditService.getAllLoginEvents()).thenReturn(events);
+        when(loginAuditService.getLoginEvents(any(AuditPageRequest.class), isNull(), isNull()))
+                .thenReturn(new AuditPage<>(events, null));
 
         // Act
-        List<LoginAuditEvent> result = controller.getAllLoginEvents();
+        ResponseEntity<List<LoginAuditEvent>> result = controller.getAllLoginEvents(FIRST_PAGE);
 
         // Assert
-        assertThat(result).hasSize(2);
-        verify(loginAuditService).getAllLoginEvents();
+        assertThat(result.getBody()).hasSize(2);
+        assertThat(result.getHeaders().containsKey(AuditPage.NEXT_CURSOR_HEADER)).isFalse();
     }
 
     @Test
     void getAllLoginEvents_WithNoEvents_ReturnsEmptyList() {
         // Arrange
-        when(loginAuditService.getAllLoginEvents()).thenReturn(List.of());
+        when(loginAuditService.getLoginEvents(any(AuditPageRequest.class), isNull(), isNull()))
+                .thenReturn(new AuditPage<>(List.of(), null));
+
+        // Act
+        ResponseEntity<List<LoginAuditEvent>> result = controller.getAllLoginEvents(FIRST_PAGE);
+
+        // Assert
+        assertThat(result.getBody()).isEmpty();
+    }
+
+    @Test
+    void getAllLoginEvents_WithMorePages_SetsNextCursorHeader() {
+        // Arrange
+        Instant from = Instant.parse("2026-01-01T00:00:00Z");
+        Instant to = Instant.parse("2026-02-01T00:00:00Z");
+        when(loginAuditService.getLoginEvents(any(AuditPageRequest.class), isNull(), isNull()))
+                .thenReturn(new AuditPage<>(List.of(LoginAuditEvent.builder().userId("u1").build()), "next"));
 
         // Act
-        List<LoginAuditEvent> result = controller.getAllLoginEvents();
+        ResponseEntity<List<LoginAuditEvent>> result =
+                controller.getAllLoginEvents(new AuditQueryParams(from, to, null, 1));
 
         // Assert
-        assertThat(result).isEmpty();
+        assertThat(result.getHeaders().getFirst(AuditPage.NEXT_CURSOR_HEADER)).isEqualTo("next");
+        ArgumentCaptor<AuditPageRequest> captor = ArgumentCaptor.forClass(AuditPageRequest.class);
+        verify(loginAuditService).getLoginEvents(captor.capture(), isNull(), isNull());
+        assertThat(captor.getValue().from()).isEqualTo(from);
+        assertThat(captor.getValue().to()).isEqualTo(to);
+        assertThat(captor.getValue().limit()).isEqualTo(1);
     }
 
     @Test
@@ -66,14 +99,14 @@ class LoginAuditControllerTest {
         List<LoginAuditEvent> events = List.of(
                 LoginAuditEvent.builder().userId("user-1").email("user@test.com").build()
         );
-        when(loginAuditService.getLoginEventsByUser("user-1")).thenReturn(events);
+        when(loginAuditService.getLoginEvents(any(AuditPageRequest.class), eq("user-1"), isNull()))
+                .thenReturn(new AuditPage<>(events, null));
 
         // Act
-        List<LoginAuditEvent> result = controller.getLoginEventsByUser("user-1");
+        ResponseEntity<List<LoginAuditEvent>> result = controller.getLoginEventsByUser("user-1", FIRST_PAGE);
 
         // Assert
-        assertThat(result).hasSize(1);
-        verify(loginAuditService).getLoginEventsByUser("user-1");
+        assertThat(result.getBody()).hasSize(1);
     }
 
     @Test
@@ -82,13 +115,13 @@ class LoginAuditControllerTest {
         List<LoginAuditEvent> events = List.of(
                 LoginAuditEvent.builder().userId("u1").role("BROKER").build()
         );
-        when(loginAuditService.getLoginEventsByRole("BROKER")).thenReturn(events);
+        when(loginAuditService.getLoginEvents(any(AuditPageRequest.class), isNull(), eq("BROKER")))
+                .thenReturn(new AuditPage<>(events, null));
 
         // Act
-        List<LoginAuditEvent> result = controller.getLoginEventsByRole("BROKER");
+        ResponseEntity<List<LoginAuditEvent>> result = controller.getLoginEventsByRole("BROKER", FIRST_PAGE);
 
         // Assert
-        assertThat(result).hasSize(1);
-        verify(loginAuditService).getLoginEventsByRole("BROKER");
+        assertThat(result.getBody()).hasSize(1);
     }
-}
\ No newline at end of file
+}
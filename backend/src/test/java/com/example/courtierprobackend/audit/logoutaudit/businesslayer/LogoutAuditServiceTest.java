@@ -1,5 +1,9 @@
 package com.example.courtierprobackend.audit.logoutaudit.businesslayer;
 
+import com.example.courtierprobackend.audit.common.AuditCursor;
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
+import com.example.courtierprobackend.audit.ingestion.AuditEventWriter;
 import com.example.courtierprobackend.audit.logoutaudit.dataaccesslayer.LogoutAuditEvent;
 import com.example.courtierprobackend.audit.logoutaudit.dataaccesslayer.LogoutAuditEventRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -11,6 +15,7 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -24,11 +29,14 @@ class LogoutAuditServiceTest {
     @Mock
     private LogoutAuditEventRepository repository;
 
+    @Mock
+    private AuditEventWriter auditEventWriter;
+
     private LogoutAuditService service;
 
     @BeforeEach
     void setUp() {
-        service = new LogoutAuditService(repository);
+        service = new LogoutAuditService(repository, auditEventWriter);
     }
 
     @Test
@@ -38,7 +46,7 @@ class LogoutAuditServiceTest {
 
         // Assert
         ArgumentCaptor<LogoutAuditEvent> captor = ArgumentCaptor.forClass(LogoutAuditEvent.class);
-        verify(repository).save(captor.capture());
+        verify(auditEventWriter).submit(captor.capture());
         
         LogoutAuditEvent event = captor.getValue();
         assertThat(event.getUserId()).isEqualTo("user-1");
@@ -47,57 +55,62 @@ class LogoutAuditServiceTest {
     }
 
     @Test
-    void recordLogoutEvent_WithException_DoesNotThrow() {
+    void recordLogoutEvent_WhenAuditQueueFull_DoesNotThrow() {
         // Arrange
-        when(repository.save(any())).thenThrow(new RuntimeException("DB error"));
+        when(auditEventWriter.submit(any(LogoutAuditEvent.class))).thenReturn(false);
 
         // Act & Assert - should not throw
         service.recordLogoutEvent("user-1", "user@test.com", LogoutAuditEvent.LogoutReason.SESSION_TIMEOUT, Instant.now(), "127.0.0.1", "Mozilla/5.0");
     }
 
     @Test
-    void getAllLogoutEvents_ReturnsAllEvents() {
+    void getLogoutEvents_ReturnsPageWithoutCursorWhenNoMoreRows() {
         // Arrange
+        AuditPageRequest page = AuditPageRequest.firstPage(5);
         List<LogoutAuditEvent> events = List.of(
-                LogoutAuditEvent.builder().userId("u1").build(),
-                LogoutAuditEvent.builder().userId("u2").build()
+                LogoutAuditEvent.builder().id(UUID.randomUUID()).userId("u1").timestamp(Instant.now()).build(),
+                LogoutAuditEvent.builder().id(UUID.randomUUID()).userId("u2").timestamp(Instant.now()).build()
         );
-        when(repository.findAllByOrderByTimestampDesc()).thenReturn(events);
+        when(repository.findPage(page.from(), page.to(), page.beforeTimestamp(), page.beforeUuid(), 6))
+                .thenReturn(events);
 
         // Act
-        List<LogoutAuditEvent> result = service.getAllLogoutEvents();
+        AuditPage<LogoutAuditEvent> result = service.getLogoutEvents(page, null, null);
 
         // Assert
-        assertThat(result).hasSize(2);
+        assertThat(result.items()).hasSize(2);
+        assertThat(result.nextCursor()).isNull();
     }
 
     @Test
-    void getLogoutEventsByUser_ReturnsUserEvents() {
+    void getLogoutEvents_FiltersByUserAndReasonName() {
         // Arrange
-        List<LogoutAuditEvent> events = List.of(
-                LogoutAuditEvent.builder().userId("user-1").build()
-        );
-        when(repository.findByUserIdOrderByTimestampDesc("user-1")).thenReturn(events);
+        AuditPageRequest page = AuditPageRequest.firstPage(1);
+        LogoutAuditEvent newest = LogoutAuditEvent.builder().id(UUID.randomUUID()).userId("user-1")
+                .reason(LogoutAuditEvent.LogoutReason.SESSION_TIMEOUT).timestamp(Instant.parse("2026-03-02T00:00:00Z")).build();
+        LogoutAuditEvent older = LogoutAuditEvent.builder().id(UUID.randomUUID()).userId("user-1")
+                .reason(LogoutAuditEvent.LogoutReason.SESSION_TIMEOUT).timestamp(Instant.parse("2026-03-01T00:00:00Z")).build();
+        when(repository.findPageByUserIdAndReason(page.from(), page.to(), page.beforeTimestamp(), page.beforeUuid(),
+                "user-1", "SESSION_TIMEOUT", 2)).thenReturn(List.of(newest, older));
 
         // Act
-        List<LogoutAuditEvent> result = service.getLogoutEventsByUser("user-1");
+        AuditPage<LogoutAuditEvent> result =
+                service.getLogoutEvents(page, "user-1", LogoutAuditEvent.LogoutReason.SESSION_TIMEOUT);
 
         // Assert
-        assertThat(result).hasSize(1);
+        assertThat(result.items()).containsExactly(newest);
+        assertThat(result.nextCursor()).isEqualTo(AuditCursor.of(newest.getTimestamp(), newest.getId()).encode());
     }
 
     @Test
-    void getLogoutEventsByReason_ReturnsReasonEvents() {
-        // Arrange
-        List<LogoutAuditEvent> events = List.of(
-                LogoutAuditEvent.builder().reason(LogoutAuditEvent.LogoutReason.SESSION_TIMEOUT).build()
-        );
-        when(repository.findByReasonOrderByTimestampDesc(LogoutAuditEvent.LogoutReason.SESSION_TIMEOUT)).thenReturn(events);
+    void getLogoutEvents_WithUserOnly_UsesUserQuery() {
+        AuditPageRequest page = AuditPageRequest.firstPage(5);
+        when(repository.findPageByUserId(page.from(), page.to(), page.beforeTimestamp(), page.beforeUuid(), "user-1", 6))
+                .thenReturn(List.of());
 
-        // Act
-        List<LogoutAuditEvent> result = service.getLogoutEventsByReason(LogoutAuditEvent.LogoutReason.SESSION_TIMEOUT);
+        AuditPage<LogoutAuditEvent> result = service.getLogoutEvents(page, "user-1", null);
 
-        // Assert
-        assertThat(result).hasSize(1);
+        assertThat(result.items()).isEmpty();
+        verify(repository, never()).findPage(any(), any(), any(), any(), anyInt());
     }
 }
@@ -1,7 +1,11 @@
 package com.example.courtierprobackend.audit.logoutaudit.presentationlayer;
 
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
+import com.example.courtierprobackend.audit.common.AuditQueryParams;
 import com.example.courtierprobackend.audit.logoutaudit.businesslayer.LogoutAuditService;
 import com.example.courtierprobackend.audit.logoutaudit.dataaccesslayer.LogoutAuditEvent;
+import com.example.courtierprobackend.common.exceptions.BadRequestException;
 import jakarta.servlet.http.HttpServletRequest;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,7 +20,9 @@ import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.*;
 
 /**
@@ -95,6 +101,8 @@ class LogoutAuditControllerUnitTest {
 
     // ========== Get All Events Tests ==========
 
+    private static final AuditQueryParams FIRST_PAGE = new AuditQueryParams(null, null, null, null);
+
     @Test
     void getAllLogoutEvents_ReturnsAllEvents() {
         // Arrange
@@ -102,13 +110,15 @@ class LogoutAuditControllerUnitTest {
                 LogoutAuditEvent.builder().id(UUID.randomUUID()).userId("u1").build(),
                 LogoutAuditEvent.builder().id(UUID.randomUUID()).userId("u2").build()
         );
-        when(logoutAuditService.getAllLogoutEvents()).thenReturn(events);
+        when(logoutAuditService.getLogoutEvents(any(AuditPageRequest.class), isNull(), isNull()))
+                .thenReturn(new AuditPage<>(events, "next"));
 
         // Act
-        List<LogoutAuditEvent> result = controller.getAllLogoutEvents();
+        ResponseEntity<List<LogoutAuditEvent>> response = controller.getAllLogoutEvents(FIRST_PAGE);
 
         // Assert
-        assertThat(result).hasSize(2);
+        assertThat(response.getBody()).hasSize(2);
+        assertThat(response.getHeaders().getFirst(AuditPage.NEXT_CURSOR_HEADER)).isEqualTo("next");
     }
 
     // ========== Get Events By User Tests ==========
@@ -119,13 +129,14 @@ class LogoutAuditControllerUnitTest {
         List<LogoutAuditEvent> events = List.of(
                 LogoutAuditEvent.builder().userId("user-1").build()
         );
-        when(logoutAuditService.getLogoutEventsByUser("user-1")).thenReturn(events);
+        when(logoutAuditService.getLogoutEvents(any(AuditPageRequest.class), eq("user-1"), isNull()))
+                .thenReturn(new AuditPage<>(events, null));
 
         // Act
-        List<LogoutAuditEvent> result = controller.getLogoutEventsByUser("user-1");
+        ResponseEntity<List<LogoutAuditEvent>> response = controller.getLogoutEventsByUser("user-1", FIRST_PAGE);
 
         // Assert
-        assertThat(result).hasSize(1);
+        assertThat(response.getBody()).hasSize(1);
     }
 
     // ========== Get Events By Reason Tests ==========
@@ -136,10 +147,11 @@ class LogoutAuditControllerUnitTest {
         List<LogoutAuditEvent> events = List.of(
                 LogoutAuditEvent.builder().reason(LogoutAuditEvent.LogoutReason.MANUAL).build()
         );
-        when(logoutAuditService.getLogoutEventsByReason(LogoutAuditEvent.LogoutReason.MANUAL)).thenReturn(events);
+        when(logoutAuditService.getLogoutEvents(any(AuditPageRequest.class), isNull(), eq(LogoutAuditEvent.LogoutReason.MANUAL)))
+                .thenReturn(new AuditPage<>(events, null));
 
         // Act
-        ResponseEntity<List<LogoutAuditEvent>> response = controller.getLogoutEventsByReason("MANUAL");
+        ResponseEntity<List<LogoutAuditEvent>> response = controller.getLogoutEventsByReason("MANUAL", FIRST_PAGE);
 
         // Assert
         assertThat(response.getBody()).hasSize(1);
@@ -148,12 +160,22 @@ class LogoutAuditControllerUnitTest {
     @Test
     void getLogoutEventsByReason_WithLowercaseReason_ParsesCorrectly() {
         // Arrange
-        when(logoutAuditService.getLogoutEventsByReason(LogoutAuditEvent.LogoutReason.FORCED)).thenReturn(List.of());
+        when(logoutAuditService.getLogoutEvents(any(AuditPageRequest.class), isNull(), eq(LogoutAuditEvent.LogoutReason.FORCED)))
+                .thenReturn(new AuditPage<>(List.of(), null));
 
         // Act
-        controller.getLogoutEventsByReason("forced");
+        controller.getLogoutEventsByReason("forced", FIRST_PAGE);
 
         // Assert
-        verify(logoutAuditService).getLogoutEventsByReason(LogoutAuditEvent.LogoutReason.FORCED);
+        verify(logoutAuditService).getLogoutEvents(any(AuditPageRequest.class), isNull(), eq(LogoutAuditEvent.LogoutReason.FORCED));
+    }
+
+    @Test
+    void getLogoutEventsByReason_WithInvalidCursor_ThrowsBadRequest() {
+        // Act & Assert
+        assertThatThrownBy(() -> controller.getLogoutEventsByReason("MANUAL",
+                new AuditQueryParams(null, null, "not-a-cursor", null)))
+                .isInstanceOf(BadRequestException.class);
+        verifyNoInteractions(logoutAuditService);
     }
 }
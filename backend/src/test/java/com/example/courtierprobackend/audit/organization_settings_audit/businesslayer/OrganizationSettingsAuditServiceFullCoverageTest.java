@@ -1,5 +1,8 @@
 package com.example.courtierprobackend.audit.organization_settings_audit.businesslayer;
 
+import com.example.courtierprobackend.audit.common.AuditCursor;
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
 import com.example.courtierprobackend.audit.organization_settings_audit.dataaccesslayer.OrganizationSettingsAuditEvent;
 import com.example.courtierprobackend.audit.organization_settings_audit.dataaccesslayer.OrganizationSettingsAuditEventRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -8,9 +11,10 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.MockitoAnnotations;
 
+import java.time.Instant;
 import java.util.Arrays;
-import java.util.Collections;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.Mockito.*;
@@ -35,23 +39,29 @@ class OrganizationSettingsAuditServiceFullCoverageTest {
     }
 
     @Test
-    void getAllAuditEvents_returnsAll() {
+    void getAuditEvents_returnsPage() {
+        AuditPageRequest page = AuditPageRequest.firstPage(5);
         List<OrganizationSettingsAuditEvent> events = Arrays.asList(
                 OrganizationSettingsAuditEvent.builder().adminUserId("a1").build(),
                 OrganizationSettingsAuditEvent.builder().adminUserId("a2").build()
         );
-        when(repository.findAllByOrderByTimestampDesc()).thenReturn(events);
-        List<OrganizationSettingsAuditEvent> result = service.getAllAuditEvents();
-        assertThat(result).hasSize(2);
+        when(repository.findPage(page.from(), page.to(), page.beforeTimestamp(), page.beforeUuid(), 6)).thenReturn(events);
+        AuditPage<OrganizationSettingsAuditEvent> result = service.getAuditEvents(page);
+        assertThat(result.items()).hasSize(2);
+        assertThat(result.nextCursor()).isNull();
     }
 
     @Test
-    void getRecentAuditEvents_returnsLimited() {
-        List<OrganizationSettingsAuditEvent> events = Collections.singletonList(
-                OrganizationSettingsAuditEvent.builder().adminUserId("a1").build()
-        );
-        when(repository.findTopNByOrderByTimestampDesc(1)).thenReturn(events);
-        List<OrganizationSettingsAuditEvent> result = service.getRecentAuditEvents(1);
-        assertThat(result).hasSize(1);
+    void getAuditEvents_withOlderRows_returnsCursorOfLastItem() {
+        AuditPageRequest page = AuditPageRequest.firstPage(1);
+        OrganizationSettingsAuditEvent newest = OrganizationSettingsAuditEvent.builder()
+                .id(UUID.randomUUID()).adminUserId("a1").timestamp(Instant.parse("2026-02-01T00:00:00Z")).build();
+        OrganizationSettingsAuditEvent older = OrganizationSettingsAuditEvent.builder()
+                .id(UUID.randomUUID()).adminUserId("a2").timestamp(Instant.parse("2026-01-01T00:00:00Z")).build();
+        when(repository.findPage(page.from(), page.to(), page.beforeTimestamp(), page.beforeUuid(), 2))
+                .thenReturn(Arrays.asList(newest, older));
+        AuditPage<OrganizationSettingsAuditEvent> result = service.getAuditEvents(page);
+        assertThat(result.items()).containsExactly(newest);
+        assertThat(AuditCursor.decode(result.nextCursor())).isEqualTo(AuditCursor.of(newest.getTimestamp(), newest.getId()));
     }
 }
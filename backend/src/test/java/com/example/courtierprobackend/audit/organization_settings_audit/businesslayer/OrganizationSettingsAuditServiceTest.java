@@ -1,5 +1,7 @@
 package com.example.courtierprobackend.audit.organization_settings_audit.businesslayer;
 
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
 import com.example.courtierprobackend.audit.organization_settings_audit.dataaccesslayer.OrganizationSettingsAuditEvent;
 import com.example.courtierprobackend.audit.organization_settings_audit.dataaccesslayer.OrganizationSettingsAuditEventRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,6 +11,7 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -58,18 +61,21 @@ class OrganizationSettingsAuditServiceTest {
     }
 
     @Test
-    void getAllAuditEvents_ReturnsAllEvents() {
+    void getAuditEvents_ReturnsAllEventsInRange() {
         // Arrange
+        AuditPageRequest page = AuditPageRequest.of(Instant.parse("2026-01-01T00:00:00Z"),
+                Instant.parse("2026-02-01T00:00:00Z"), null, null);
         List<OrganizationSettingsAuditEvent> events = List.of(
                 OrganizationSettingsAuditEvent.builder().adminUserId("a1").build(),
                 OrganizationSettingsAuditEvent.builder().adminUserId("a2").build()
         );
-        when(repository.findAllByOrderByTimestampDesc()).thenReturn(events);
+        when(repository.findPage(page.from(), page.to(), page.to(), page.beforeUuid(),
+                AuditPageRequest.DEFAULT_SIZE + 1)).thenReturn(events);
 
         // Act
-        List<OrganizationSettingsAuditEvent> result = service.getAllAuditEvents();
+        AuditPage<OrganizationSettingsAuditEvent> result = service.getAuditEvents(page);
 
         // Assert
-        assertThat(result).hasSize(2);
+        assertThat(result.items()).hasSize(2);
     }
 }
@@ -3,6 +3,8 @@ package com.example.courtierprobackend.audit.organization_settings_audit.present
 import com.example.courtierprobackend.security.UserContextFilter;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
 
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
 import com.example.courtierprobackend.audit.organization_settings_audit.businesslayer.OrganizationSettingsAuditService;
 import com.example.courtierprobackend.audit.organization_settings_audit.dataaccesslayer.OrganizationSettingsAuditEvent;
 import org.junit.jupiter.api.Test;
@@ -15,10 +17,13 @@ import org.springframework.http.MediaType;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.Instant;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -39,15 +44,18 @@ class OrganizationSettingsAuditControllerFullCoverageTest {
     @MockitoBean
     private UserAccountRepository userAccountRepository;
 
+    private static final AuditPage<OrganizationSettingsAuditEvent> EMPTY = new AuditPage<>(Collections.emptyList(), null);
+
     @Test
     @WithMockUser(roles = "ADMIN")
-    void getAuditLogs_withNoLimit_returnsAll() throws Exception {
-        when(auditService.getAllAuditEvents()).thenReturn(Collections.emptyList());
+    void getAuditLogs_withNoLimit_returnsDefaultPage() throws Exception {
+        when(auditService.getAuditEvents(any(AuditPageRequest.class))).thenReturn(EMPTY);
         mockMvc.perform(get("/api/admin/settings/audit"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$").isArray());
-        verify(auditService).getAllAuditEvents();
+                .andExpect(jsonPath("$").isArray())
+                .andExpect(header().doesNotExist(AuditPage.NEXT_CURSOR_HEADER));
+        verify(auditService).getAuditEvents(argThat(page -> page.limit() == AuditPageRequest.DEFAULT_SIZE));
     }
 
     @Test
@@ -57,20 +65,36 @@ class OrganizationSettingsAuditControllerFullCoverageTest {
                 OrganizationSettingsAuditEvent.builder().adminUserId("a1").build(),
                 OrganizationSettingsAuditEvent.builder().adminUserId("a2").build()
         );
-        when(auditService.getRecentAuditEvents(2)).thenReturn(events);
+        when(auditService.getAuditEvents(any(AuditPageRequest.class))).thenReturn(new AuditPage<>(events, "next"));
         mockMvc.perform(get("/api/admin/settings/audit?limit=2"))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
-                .andExpect(jsonPath("$.length()").value(2));
-        verify(auditService).getRecentAuditEvents(2);
+                .andExpect(jsonPath("$.length()").value(2))
+                .andExpect(header().string(AuditPage.NEXT_CURSOR_HEADER, "next"));
+        verify(auditService).getAuditEvents(argThat(page -> page.limit() == 2));
     }
 
     @Test
     @WithMockUser(roles = "ADMIN")
-    void getAuditLogs_withInvalidLimit_returnsAll() throws Exception {
-        when(auditService.getAllAuditEvents()).thenReturn(Collections.emptyList());
+    void getAuditLogs_withInvalidLimit_returnsDefaultPage() throws Exception {
+        when(auditService.getAuditEvents(any(AuditPageRequest.class))).thenReturn(EMPTY);
         mockMvc.perform(get("/api/admin/settings/audit?limit=0"))
                 .andExpect(status().isOk());
-        verify(auditService).getAllAuditEvents();
+        verify(auditService).getAuditEvents(argThat(page -> page.limit() == AuditPageRequest.DEFAULT_SIZE));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAuditLogs_withSizeAndRange_passesThemThrough() throws Exception {
+        when(auditService.getAuditEvents(any(AuditPageRequest.class))).thenReturn(EMPTY);
+        mockMvc.perform(get("/api/admin/settings/audit")
+                        .param("from", "2026-01-01T00:00:00Z")
+                        .param("to", "2026-02-01T00:00:00Z")
+                        .param("size", "10")
+                        .param("limit", "2"))
+                .andExpect(status().isOk());
+        verify(auditService).getAuditEvents(argThat(page -> page.limit() == 10
+                && page.from().equals(Instant.parse("2026-01-01T00:00:00Z"))
+                && page.to().equals(Instant.parse("2026-02-01T00:00:00Z"))));
     }
 }
@@ -1,5 +1,7 @@
 package com.example.courtierprobackend.audit.organization_settings_audit.presentationlayer;
 
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
 import com.example.courtierprobackend.audit.organization_settings_audit.businesslayer.OrganizationSettingsAuditService;
 import com.example.courtierprobackend.security.UserContextFilter;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
@@ -16,6 +18,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.util.Collections;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -44,12 +47,13 @@ class OrganizationSettingsAuditControllerTest {
     @Test
     @WithMockUser(roles = "ADMIN")
     void getAuditLogs_asAdmin_returnsOk() throws Exception {
-        when(auditService.getAllAuditEvents()).thenReturn(Collections.emptyList());
+        when(auditService.getAuditEvents(any(AuditPageRequest.class)))
+                .thenReturn(new AuditPage<>(Collections.emptyList(), null));
 
         mockMvc.perform(get("/api/admin/settings/audit"))
                 .andExpect(status().isOk());
 
-        verify(auditService).getAllAuditEvents();
+        verify(auditService).getAuditEvents(any(AuditPageRequest.class));
     }
 
 }
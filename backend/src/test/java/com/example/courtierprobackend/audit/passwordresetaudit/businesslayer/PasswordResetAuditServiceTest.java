@@ -1,5 +1,9 @@
 package com.example.courtierprobackend.audit.passwordresetaudit.businesslayer;
 
+import com.example.courtierprobackend.audit.common.AuditCursor;
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
+import com.example.courtierprobackend.audit.ingestion.AuditEventWriter;
 import com.example.courtierprobackend.audit.passwordresetaudit.dataaccesslayer.PasswordResetEvent;
 import com.example.courtierprobackend.audit.passwordresetaudit.dataaccesslayer.PasswordResetEventRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,7 +13,9 @@ import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Instant;
 import java.util.List;
+import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
@@ -24,11 +30,14 @@ class PasswordResetAuditServiceTest {
     @Mock
     private PasswordResetEventRepository repository;
 
+    @Mock
+    private AuditEventWriter auditEventWriter;
+
     private PasswordResetAuditService service;
 
     @BeforeEach
     void setUp() {
-        service = new PasswordResetAuditService(repository);
+        service = new PasswordResetAuditService(repository, auditEventWriter);
     }
 
     // ========== recordPasswordResetRequest Tests ==========
@@ -40,7 +49,7 @@ class PasswordResetAuditServiceTest {
 
         // Assert
         ArgumentCaptor<PasswordResetEvent> captor = ArgumentCaptor.forClass(PasswordResetEvent.class);
-        verify(repository).save(captor.capture());
+        verify(auditEventWriter).submit(captor.capture());
         
         PasswordResetEvent event = captor.getValue();
         assertThat(event.getUserId()).isEqualTo("user-1");
@@ -71,7 +80,7 @@ class PasswordResetAuditServiceTest {
 
         // Assert
         ArgumentCaptor<PasswordResetEvent> captor = ArgumentCaptor.forClass(PasswordResetEvent.class);
-        verify(repository).save(captor.capture());
+        verify(auditEventWriter).submit(captor.capture());
         
         PasswordResetEvent event = captor.getValue();
         assertThat(event.getUserId()).isEqualTo("user-1");
@@ -88,33 +97,39 @@ class PasswordResetAuditServiceTest {
     // ========== Query Methods Tests ==========
 
     @Test
-    void getAllPasswordResetEvents_ReturnsAllEvents() {
+    void getPasswordResetEvents_ReturnsAllEvents() {
         // Arrange
+        AuditPageRequest page = AuditPageRequest.firstPage(10);
         List<PasswordResetEvent> events = List.of(
                 PasswordResetEvent.builder().userId("u1").build(),
                 PasswordResetEvent.builder().userId("u2").build()
         );
-        when(repository.findAllByOrderByTimestampDesc()).thenReturn(events);
+        when(repository.findPage(page.from(), page.to(), page.beforeTimestamp(), page.beforeUuid(), 11))
+                .thenReturn(events);
 
         // Act
-        List<PasswordResetEvent> result = service.getAllPasswordResetEvents();
+        AuditPage<PasswordResetEvent> result = service.getPasswordResetEvents(page, null);
 
         // Assert
-        assertThat(result).hasSize(2);
+        assertThat(result.items()).hasSize(2);
+        assertThat(result.nextCursor()).isNull();
     }
 
     @Test
-    void getPasswordResetEventsForUser_ReturnsUserEvents() {
+    void getPasswordResetEvents_ForUserAfterCursor_ReturnsUserEvents() {
         // Arrange
+        Instant cursorTime = Instant.parse("2026-01-15T00:00:00Z");
+        UUID cursorId = UUID.randomUUID();
+        AuditPageRequest page = AuditPageRequest.of(null, null, AuditCursor.of(cursorTime, cursorId).encode(), 10);
         List<PasswordResetEvent> events = List.of(
                 PasswordResetEvent.builder().userId("user-1").build()
         );
-        when(repository.findByUserIdOrderByTimestampDesc("user-1")).thenReturn(events);
+        when(repository.findPageByUserId(page.from(), page.to(), cursorTime, cursorId, "user-1", 11)).thenReturn(events);
 
         // Act
-        List<PasswordResetEvent> result = service.getPasswordResetEventsForUser("user-1");
+        AuditPage<PasswordResetEvent> result = service.getPasswordResetEvents(page, "user-1");
 
         // Assert
-        assertThat(result).hasSize(1);
+        assertThat(result.items()).hasSize(1);
     }
 }
@@ -1,5 +1,7 @@
 package com.example.courtierprobackend.audit.passwordresetaudit.presentationlayer;
 
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
 import com.example.courtierprobackend.audit.passwordresetaudit.businesslayer.PasswordResetAuditService;
 import com.example.courtierprobackend.audit.passwordresetaudit.dataaccesslayer.PasswordResetEvent;
 import com.example.courtierprobackend.security.UserContextFilter;
@@ -19,6 +21,9 @@ import java.time.Instant;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.when;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
@@ -61,8 +66,8 @@ class AdminPasswordResetAuditControllerTest {
                 .userAgent("Mozilla/5.0")
                 .build();
 
-        when(passwordResetAuditService.getAllPasswordResetEvents())
-                .thenReturn(List.of(event1, event2));
+        when(passwordResetAuditService.getPasswordResetEvents(any(AuditPageRequest.class), isNull()))
+                .thenReturn(new AuditPage<>(List.of(event1, event2), null));
 
         // Act & Assert
         mockMvc.perform(get("/api/admin/password-reset-audit"))
@@ -79,8 +84,8 @@ class AdminPasswordResetAuditControllerTest {
     @WithMockUser(roles = "ADMIN")
     void getAllPasswordResetEvents_whenNoEvents_shouldReturnEmptyList() throws Exception {
         // Arrange
-        when(passwordResetAuditService.getAllPasswordResetEvents())
-                .thenReturn(List.of());
+        when(passwordResetAuditService.getPasswordResetEvents(any(AuditPageRequest.class), isNull()))
+                .thenReturn(new AuditPage<>(List.of(), null));
 
         // Act & Assert
         mockMvc.perform(get("/api/admin/password-reset-audit"))
@@ -101,8 +106,8 @@ class AdminPasswordResetAuditControllerTest {
                 .userAgent(null) // Test null userAgent
                 .build();
 
-        when(passwordResetAuditService.getAllPasswordResetEvents())
-                .thenReturn(List.of(eventWithNullUserAgent));
+        when(passwordResetAuditService.getPasswordResetEvents(any(AuditPageRequest.class), isNull()))
+                .thenReturn(new AuditPage<>(List.of(eventWithNullUserAgent), null));
 
         // Act & Assert
         mockMvc.perform(get("/api/admin/password-reset-audit"))
@@ -146,8 +151,8 @@ class AdminPasswordResetAuditControllerTest {
                 .userAgent("Safari")
                 .build();
 
-        when(passwordResetAuditService.getAllPasswordResetEvents())
-                .thenReturn(List.of(event1, event2, event3));
+        when(passwordResetAuditService.getPasswordResetEvents(any(AuditPageRequest.class), isNull()))
+                .thenReturn(new AuditPage<>(List.of(event1, event2, event3), null));
 
         // Act & Assert - Verify all events are mapped and order is preserved
         mockMvc.perform(get("/api/admin/password-reset-audit"))
@@ -160,4 +165,36 @@ class AdminPasswordResetAuditControllerTest {
                 .andExpect(jsonPath("$[2].userId").value("auth0|user3"))
                 .andExpect(jsonPath("$[2].userAgent").value("Safari"));
     }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllPasswordResetEvents_withUserIdAndMorePages_shouldFilterAndReturnCursor() throws Exception {
+        // Arrange
+        PasswordResetEvent event = PasswordResetEvent.builder()
+                .userId("auth0|user1")
+                .email("user1@example.com")
+                .eventType(PasswordResetEvent.ResetEventType.REQUESTED)
+                .timestamp(Instant.parse("2025-12-07T10:00:00Z"))
+                .build();
+
+        when(passwordResetAuditService.getPasswordResetEvents(any(AuditPageRequest.class), eq("auth0|user1")))
+                .thenReturn(new AuditPage<>(List.of(event), "next-page"));
+
+        // Act & Assert
+        mockMvc.perform(get("/api/admin/password-reset-audit")
+                        .param("userId", "auth0|user1")
+                        .param("size", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$", hasSize(1)))
+                .andExpect(header().string(AuditPage.NEXT_CURSOR_HEADER, "next-page"));
+    }
+
+    @Test
+    @WithMockUser(roles = "ADMIN")
+    void getAllPasswordResetEvents_withEmptyRange_shouldReturnBadRequest() throws Exception {
+        mockMvc.perform(get("/api/admin/password-reset-audit")
+                        .param("from", "2025-12-07T10:00:00Z")
+                        .param("to", "2025-12-07T10:00:00Z"))
+                .andExpect(status().isBadRequest());
+    }
 }
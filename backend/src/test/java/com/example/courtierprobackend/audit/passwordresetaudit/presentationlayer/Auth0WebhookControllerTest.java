@@ -2,6 +2,7 @@ package com.example.courtierprobackend.audit.passwordresetaudit.presentationlaye
 
 import com.example.courtierprobackend.audit.passwordresetaudit.businesslayer.PasswordResetAuditService;
 import com.example.courtierprobackend.security.UserContextFilter;
+import com.example.courtierprobackend.user.domainclientlayer.auth0.Auth0ManagementCache;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
@@ -35,6 +36,29 @@ class Auth0WebhookControllerTest {
         @MockitoBean
         private UserAccountRepository userAccountRepository;
 
+        @MockitoBean
+        private Auth0ManagementCache auth0ManagementCache;
+
+    @Test
+    void handleAuth0Event_withMfaEnrollmentEvent_shouldInvalidateCachedMfaStatus() throws Exception {
+        String eventJson = """
+                {
+                    "log_id": "12345",
+                    "type": "gd_enrollment_complete",
+                    "date": "2025-12-07T10:00:00Z",
+                    "user_id": "auth0|test123"
+                }
+                """;
+
+        mockMvc.perform(post("/api/webhooks/auth0-events")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(eventJson))
+                .andExpect(status().isOk());
+
+        verify(auth0ManagementCache).invalidate("auth0|test123");
+        verifyNoInteractions(passwordResetAuditService);
+    }
+
     @Test
     void handleAuth0Event_withForgotPasswordEvent_shouldRecordRequest() throws Exception {
         String eventJson = """
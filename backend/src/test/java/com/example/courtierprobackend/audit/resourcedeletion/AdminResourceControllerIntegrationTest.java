@@ -1,5 +1,7 @@
 package com.example.courtierprobackend.audit.resourcedeletion;
 
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
 import com.example.courtierprobackend.audit.resourcedeletion.businesslayer.AdminResourceService;
 import com.example.courtierprobackend.audit.resourcedeletion.datalayer.AdminDeletionAuditLog;
 import com.example.courtierprobackend.audit.resourcedeletion.presentationlayer.AdminResourceController;
@@ -23,7 +25,7 @@ import org.springframework.test.web.servlet.MockMvc;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.any;
@@ -282,8 +284,9 @@ class AdminResourceControllerIntegrationTest {
                 "auth0|admin", "admin@test.com", "Admin", "User", UserRole.ADMIN, "en");
         adminUser.setId(adminId);
 
-        when(adminResourceService.getAuditHistory()).thenReturn(List.of(log));
-        when(userAccountRepository.findById(adminId)).thenReturn(Optional.of(adminUser));
+        when(adminResourceService.getAuditHistory(any(AuditPageRequest.class)))
+                .thenReturn(new AuditPage<>(List.of(log), "next"));
+        when(userAccountRepository.findAllById(Set.of(adminId))).thenReturn(List.of(adminUser));
 
         mockMvc.perform(
                 get("/api/admin/resources/audit-history")
@@ -292,7 +295,8 @@ class AdminResourceControllerIntegrationTest {
                 .andExpect(status().isOk())
                 .andExpect(jsonPath("$[0].resourceType").value("TRANSACTION"))
                 .andExpect(jsonPath("$[0].adminEmail").value("admin@test.com"))
-                .andExpect(jsonPath("$[0].resourceId").value(resourceId.toString()));
+                .andExpect(jsonPath("$[0].resourceId").value(resourceId.toString()))
+                .andExpect(header().string(AuditPage.NEXT_CURSOR_HEADER, "next"));
     }
 
     @Test
@@ -309,8 +313,9 @@ class AdminResourceControllerIntegrationTest {
                 .resourceId(resourceId)
                 .build();
 
-        when(adminResourceService.getAuditHistory()).thenReturn(List.of(log));
-        when(userAccountRepository.findById(unknownAdminId)).thenReturn(Optional.empty());
+        when(adminResourceService.getAuditHistory(any(AuditPageRequest.class)))
+                .thenReturn(new AuditPage<>(List.of(log), null));
+        when(userAccountRepository.findAllById(Set.of(unknownAdminId))).thenReturn(List.of());
 
         mockMvc.perform(
                 get("/api/admin/resources/audit-history")
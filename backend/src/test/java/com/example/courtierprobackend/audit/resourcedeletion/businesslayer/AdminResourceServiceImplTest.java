@@ -1,5 +1,8 @@
 package com.example.courtierprobackend.audit.resourcedeletion.businesslayer;
 
+import com.example.courtierprobackend.audit.common.AuditCursor;
+import com.example.courtierprobackend.audit.common.AuditPage;
+import com.example.courtierprobackend.audit.common.AuditPageRequest;
 import com.example.courtierprobackend.audit.resourcedeletion.datalayer.AdminDeletionAuditLog;
 import com.example.courtierprobackend.audit.resourcedeletion.datalayer.AdminDeletionAuditRepository;
 import com.example.courtierprobackend.audit.resourcedeletion.presentationlayer.dto.DeletionPreviewResponse;
@@ -33,6 +36,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
@@ -695,12 +699,32 @@ class AdminResourceServiceImplTest {
                                 .resourceId(UUID.randomUUID())
                                 .build();
 
-                when(auditRepository.findAllByOrderByTimestampDesc()).thenReturn(List.of(log2, log1));
+                AuditPageRequest page = AuditPageRequest.firstPage(1);
+                when(auditRepository.findPage(page.fromLocal(), page.toLocal(), page.beforeTimestampLocal(), 0L, 2))
+                                .thenReturn(List.of(log2, log1));
 
-                List<AdminDeletionAuditLog> result = service.getAuditHistory();
+                AuditPage<AdminDeletionAuditLog> result = service.getAuditHistory(page);
 
-                assertThat(result).hasSize(2);
-                assertThat(result.get(0).getId()).isEqualTo(2L);
+                assertThat(result.items()).hasSize(1);
+                assertThat(result.items().get(0).getId()).isEqualTo(2L);
+                AuditCursor next = AuditCursor.decode(result.nextCursor());
+                assertThat(next.longId()).isEqualTo(2L);
+                assertThat(LocalDateTime.ofInstant(next.timestamp(), ZoneId.systemDefault()))
+                                .isEqualTo(log2.getTimestamp());
+        }
+
+        @Test
+        void getAuditHistory_AfterCursor_ReadsOlderRows() {
+                LocalDateTime cursorTime = LocalDateTime.of(2026, 1, 15, 12, 0);
+                String cursor = AuditCursor.of(cursorTime.atZone(ZoneId.systemDefault()).toInstant(), 42L).encode();
+                AuditPageRequest page = AuditPageRequest.of(null, null, cursor, 10);
+                when(auditRepository.findPage(page.fromLocal(), page.toLocal(), cursorTime, 42L, 11))
+                                .thenReturn(List.of());
+
+                AuditPage<AdminDeletionAuditLog> result = service.getAuditHistory(page);
+
+                assertThat(result.items()).isEmpty();
+                assertThat(result.nextCursor()).isNull();
         }
 
         // ========== Helper Methods ==========
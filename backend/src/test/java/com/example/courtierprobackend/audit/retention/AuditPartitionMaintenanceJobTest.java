@@ -0,0 +1,106 @@
+package com.example.courtierprobackend.audit.retention;
+
+import com.example.courtierprobackend.infrastructure.jobs.ScheduledJobRunner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.ZoneOffset;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AuditPartitionMaintenanceJobTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-05-17T10:00:00Z"), ZoneOffset.UTC);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+    @Mock
+    private ScheduledJobRunner jobRunner;
+
+    private AuditPartitionMaintenanceJob job(boolean retentionEnabled) {
+        return new AuditPartitionMaintenanceJob(jdbcTemplate, CLOCK, 3, retentionEnabled, 24, jobRunner);
+    }
+
+    private void database(String product) {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenReturn(product);
+    }
+
+    @Test
+    void maintainPartitions_runsUnderTheJobLease() {
+        job(true).maintainPartitions();
+
+        verify(jobRunner).runExclusively(eq(AuditPartitionMaintenanceJob.JOB_NAME), any(Duration.class),
+                any(IntSupplier.class));
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    void maintainPartitions_onPostgres_createsAheadAndDropsPastRetention() {
+        database("PostgreSQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any(), any())).thenReturn(1);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any())).thenReturn(0);
+
+        int changed = job(true).maintainPartitionsNow();
+
+        assertThat(changed).isEqualTo(AuditPartitionMaintenanceJob.PARTITIONED_TABLES.size());
+        for (String table : AuditPartitionMaintenanceJob.PARTITIONED_TABLES) {
+            verify(jdbcTemplate).queryForObject("SELECT create_monthly_audit_partitions(?, ?, ?)", Integer.class,
+                    table, Date.valueOf(LocalDate.of(2026, 5, 1)), Date.valueOf(LocalDate.of(2026, 8, 1)));
+            verify(jdbcTemplate).queryForObject("SELECT drop_audit_partitions_before(?, ?)", Integer.class,
+                    table, Date.valueOf(LocalDate.of(2024, 5, 1)));
+        }
+    }
+
+    @Test
+    void maintainPartitions_withRetentionDisabled_dropsNothing() {
+        database("PostgreSQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any(), any())).thenReturn(0);
+
+        job(false).maintainPartitionsNow();
+
+        verify(jdbcTemplate, never()).queryForObject(eq("SELECT drop_audit_partitions_before(?, ?)"),
+                eq(Integer.class), any(), any());
+    }
+
+    @Test
+    void maintainPartitions_whenOneTableFails_continuesWithTheRest() {
+        database("PostgreSQL");
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any(), any()))
+                .thenThrow(new DataAccessResourceFailureException("boom"))
+                .thenReturn(0);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Integer.class), any(), any())).thenReturn(0);
+
+        job(true).maintainPartitionsNow();
+
+        verify(jdbcTemplate, times(AuditPartitionMaintenanceJob.PARTITIONED_TABLES.size()))
+                .queryForObject(eq("SELECT create_monthly_audit_partitions(?, ?, ?)"), eq(Integer.class), any(), any(), any());
+    }
+
+    @Test
+    void maintainPartitions_onOtherDatabases_doesNothing() {
+        database("H2");
+
+        AuditPartitionMaintenanceJob job = job(true);
+        assertThat(job.maintainPartitionsNow()).isZero();
+        job.maintainPartitionsNow();
+
+        verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+}
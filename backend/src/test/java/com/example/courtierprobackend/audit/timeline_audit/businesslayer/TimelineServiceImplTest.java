@@ -6,7 +6,6 @@ import com.example.courtierprobackend.audit.timeline_audit.dataaccesslayer.Timel
 import com.example.courtierprobackend.audit.timeline_audit.dataaccesslayer.value_object.TransactionInfo;
 import com.example.courtierprobackend.audit.timeline_audit.datamapperlayer.TimelineEntryMapper;
 import com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO;
-import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -16,6 +15,7 @@ import org.junit.jupiter.params.provider.EnumSource;
 import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.time.Clock;
 import java.time.Instant;
@@ -23,7 +23,6 @@ import java.time.LocalDateTime;
 import java.time.ZoneId;
 import java.util.Collections;
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -56,8 +55,6 @@ class TimelineServiceImplTest {
         String note = "Test note";
         String docType = "CONTRACT";
 
-        when(transactionRepository.findByTransactionId(txId)).thenReturn(Optional.empty());
-
         service.addEntry(txId, actorId, type, note, docType);
 
         ArgumentCaptor<TimelineEntry> captor = ArgumentCaptor.forClass(TimelineEntry.class);
@@ -69,34 +66,65 @@ class TimelineServiceImplTest {
     }
 
     @Test
-    void addEntry_UpdatesTransactionLastUpdatedTimestamp() {
-        // Arrange
+    void addEntry_OutsideTransaction_TouchesLastUpdatedImmediately() {
         UUID txId = UUID.randomUUID();
-        UUID actorId = UUID.randomUUID();
-        TimelineEntryType type = TimelineEntryType.NOTE;
-        String note = "Update timestamp";
-        String docType = null;
-        
-        Transaction mockTx = new Transaction();
-        mockTx.setTransactionId(txId);
-        mockTx.setLastUpdated(LocalDateTime.now().minusDays(1)); // Old timestamp
-        
-        when(transactionRepository.findByTransactionId(txId)).thenReturn(Optional.of(mockTx));
 
-        // Act
-        service.addEntry(txId, actorId, type, note, docType);
+        service.addEntry(txId, UUID.randomUUID(), TimelineEntryType.NOTE, "Update timestamp", null);
 
-        // Assert
-        ArgumentCaptor<Transaction> txCaptor = ArgumentCaptor.forClass(Transaction.class);
-        verify(transactionRepository).findByTransactionId(txId);
-        verify(transactionRepository).save(txCaptor.capture());
-        
-        Transaction savedTx = txCaptor.getValue();
-        assertThat(savedTx.getTransactionId()).isEqualTo(txId);
-        
-        // Verify lastUpdated maps to the fixed clock time
+        // Bulk update only: the transaction row is never loaded or saved
         LocalDateTime expected = LocalDateTime.ofInstant(clock.instant(), ZoneId.of("UTC"));
-        assertThat(savedTx.getLastUpdated()).isEqualTo(expected);
+        verify(transactionRepository).touchLastUpdated(List.of(txId), expected);
+        verify(transactionRepository, never()).findByTransactionId(any());
+        verify(transactionRepository, never()).save(any());
+    }
+
+    @Test
+    void addEntry_InsideTransaction_CoalescesLastUpdatedUntilCommit() {
+        UUID txId = UUID.randomUUID();
+        UUID otherTxId = UUID.randomUUID();
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            service.addEntry(txId, null, TimelineEntryType.NOTE, "first", null);
+            service.addEntry(txId, null, TimelineEntryType.NOTE, "second", null);
+            service.addEntry(otherTxId, null, TimelineEntryType.NOTE, "third", null);
+
+            verify(transactionRepository, never()).touchLastUpdated(any(), any());
+
+            TransactionSynchronizationManager.getSynchronizations().forEach(s -> s.beforeCommit(false));
+
+            verify(transactionRepository, times(1)).touchLastUpdated(
+                    argThat(ids -> ids.size() == 2 && ids.containsAll(List.of(txId, otherTxId))), any());
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void addEntries_SavesAllInOneBatch() {
+        UUID txId = UUID.randomUUID();
+        UUID actorId = UUID.randomUUID();
+        TransactionInfo info = TransactionInfo.builder().newStage("BUYER_POSSESSION").build();
+
+        service.addEntries(txId, actorId, List.of(
+                TimelineService.Append.of(TimelineEntryType.STATUS_CHANGE, "Closed"),
+                TimelineService.Append.of(TimelineEntryType.STAGE_CHANGE, info)));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<TimelineEntry>> captor = ArgumentCaptor.forClass(List.class);
+        verify(repository).saveAll(captor.capture());
+        verify(repository, never()).save(any());
+        assertThat(captor.getValue()).extracting(TimelineEntry::getType)
+                .containsExactly(TimelineEntryType.STATUS_CHANGE, TimelineEntryType.STAGE_CHANGE);
+        assertThat(captor.getValue()).allMatch(e -> txId.equals(e.getTransactionId()) && actorId.equals(e.getActorId()));
+        assertThat(captor.getValue().get(1).getTransactionInfo()).isSameAs(info);
+        verify(transactionRepository, times(1)).touchLastUpdated(eq(List.of(txId)), any());
+    }
+
+    @Test
+    void addEntries_Empty_DoesNothing() {
+        service.addEntries(UUID.randomUUID(), UUID.randomUUID(), List.of());
+
+        verifyNoInteractions(repository, transactionRepository);
     }
 
     @Test
@@ -111,8 +139,6 @@ class TimelineServiceImplTest {
                 .actorName("Actor")
                 .build();
 
-        when(transactionRepository.findByTransactionId(txId)).thenReturn(Optional.empty());
-
         service.addEntry(txId, actorId, type, note, docType, txInfo);
 
         ArgumentCaptor<TimelineEntry> captor = ArgumentCaptor.forClass(TimelineEntry.class);
@@ -137,8 +163,6 @@ class TimelineServiceImplTest {
     })
     void addEntry_VisibleTypes_SetsSpecificVisibilityTrue(TimelineEntryType type) {
         UUID txId = UUID.randomUUID();
-        when(transactionRepository.findByTransactionId(txId)).thenReturn(Optional.empty());
-
         service.addEntry(txId, UUID.randomUUID(), type, "note", null);
 
         ArgumentCaptor<TimelineEntry> captor = ArgumentCaptor.forClass(TimelineEntry.class);
@@ -152,8 +176,6 @@ class TimelineServiceImplTest {
     })
     void addEntry_HiddenTypes_SetsVisibilityFalse(TimelineEntryType type) {
         UUID txId = UUID.randomUUID();
-        when(transactionRepository.findByTransactionId(txId)).thenReturn(Optional.empty());
-
         service.addEntry(txId, UUID.randomUUID(), type, "note", null);
 
         ArgumentCaptor<TimelineEntry> captor = ArgumentCaptor.forClass(TimelineEntry.class);
@@ -359,5 +381,30 @@ class TimelineServiceImplTest {
         assertThat(result.getContent().get(0)).isEqualTo(dto);
         assertThat(result.getTotalElements()).isEqualTo(1);
     }
-}
 
+    // ========== getBrokerFeed Tests ==========
+
+    @Test
+    void getBrokerFeed_WithoutCursor_ReadsFirstPage() {
+        UUID brokerId = UUID.randomUUID();
+        TimelineEntry entry = TimelineEntry.builder().id(UUID.randomUUID()).build();
+        TimelineEntryDTO dto = TimelineEntryDTO.builder().id(entry.getId()).build();
+
+        when(repository.findBrokerFeed(brokerId, 11)).thenReturn(List.of(entry));
+        when(mapper.toDTO(entry)).thenReturn(dto);
+
+        assertThat(service.getBrokerFeed(brokerId, null, 11)).containsExactly(dto);
+        verify(repository, never()).findBrokerFeedBefore(any(), any(), any(), anyInt());
+    }
+
+    @Test
+    void getBrokerFeed_WithCursor_ReadsEntriesBeforeKeyset() {
+        UUID brokerId = UUID.randomUUID();
+        TimelineFeedCursor cursor = new TimelineFeedCursor(java.time.Instant.now(), UUID.randomUUID());
+
+        when(repository.findBrokerFeedBefore(brokerId, cursor.timestamp(), cursor.id(), 11)).thenReturn(List.of());
+
+        assertThat(service.getBrokerFeed(brokerId, cursor, 11)).isEmpty();
+        verify(repository, never()).findBrokerFeed(any(), anyInt());
+    }
+}
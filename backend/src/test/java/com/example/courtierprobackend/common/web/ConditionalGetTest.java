@@ -0,0 +1,62 @@
+package com.example.courtierprobackend.common.web;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Unit tests for ConditionalGet.
+ */
+class ConditionalGetTest {
+
+    @Test
+    void etag_isStrongAndDependsOnStampAndVariant() {
+        String etag = ConditionalGet.etag("1.4.2026-01-01T10:00", "conditions", true);
+
+        assertThat(etag).startsWith("\"").endsWith("\"").doesNotStartWith("W/");
+        assertThat(ConditionalGet.etag("1.4.2026-01-01T10:00", "conditions", true)).isEqualTo(etag);
+        assertThat(ConditionalGet.etag("1.5.2026-01-01T10:00", "conditions", true)).isNotEqualTo(etag);
+        assertThat(ConditionalGet.etag("1.4.2026-01-01T10:00", "conditions", false)).isNotEqualTo(etag);
+    }
+
+    @Test
+    void etag_withoutStamp_isNull() {
+        assertThat(ConditionalGet.etag(null, "timeline")).isNull();
+    }
+
+    @Test
+    void isNotModified_matchesAnyListedTag_andWeakForm() {
+        String etag = ConditionalGet.etag("7", "timeline");
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.addHeader("If-None-Match", "\"other\", W/" + etag);
+
+        assertThat(ConditionalGet.isNotModified(request, etag)).isTrue();
+    }
+
+    @Test
+    void isNotModified_withoutHeaderOrEtag_isFalse() {
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        assertThat(ConditionalGet.isNotModified(request, ConditionalGet.etag("7"))).isFalse();
+
+        request.addHeader("If-None-Match", "*");
+        assertThat(ConditionalGet.isNotModified(request, null)).isFalse();
+        assertThat(ConditionalGet.isNotModified(request, ConditionalGet.etag("7"))).isTrue();
+    }
+
+    @Test
+    void responses_carryETagAndRevalidationHeaders() {
+        String etag = ConditionalGet.etag("7");
+
+        ResponseEntity<String> notModified = ConditionalGet.notModified(etag);
+        ResponseEntity<String> ok = ConditionalGet.ok(etag, "body");
+
+        assertThat(notModified.getStatusCode()).isEqualTo(HttpStatus.NOT_MODIFIED);
+        assertThat(notModified.getHeaders().getETag()).isEqualTo(etag);
+        assertThat(ok.getBody()).isEqualTo("body");
+        assertThat(ok.getHeaders().getCacheControl()).contains("no-cache").contains("private");
+        assertThat(ConditionalGet.ok(null, "body").getHeaders().getETag()).isNull();
+    }
+}
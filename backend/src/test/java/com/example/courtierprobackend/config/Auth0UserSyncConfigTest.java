@@ -0,0 +1,62 @@
+package com.example.courtierprobackend.config;
+
+import com.example.courtierprobackend.infrastructure.jobs.ScheduledJobRunner;
+import com.example.courtierprobackend.user.businesslayer.Auth0UserSyncService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class Auth0UserSyncConfigTest {
+
+    @Mock
+    private Auth0UserSyncService syncService;
+    @Mock
+    private ScheduledJobRunner jobRunner;
+
+    @Test
+    void syncAuth0Users_onlyQueuesTheSync() {
+        List<Runnable> queued = new ArrayList<>();
+        Auth0UserSyncConfig config = new Auth0UserSyncConfig(syncService, jobRunner, queued::add);
+
+        config.syncAuth0Users();
+
+        assertThat(queued).hasSize(1);
+        verifyNoInteractions(syncService, jobRunner);
+    }
+
+    @Test
+    void syncAuth0Users_runsUnderClusterLease() {
+        Auth0UserSyncConfig config = new Auth0UserSyncConfig(syncService, jobRunner, Runnable::run);
+        when(syncService.syncUsersFromAuth0()).thenReturn(3);
+
+        config.syncAuth0Users();
+
+        ArgumentCaptor<IntSupplier> job = ArgumentCaptor.forClass(IntSupplier.class);
+        verify(jobRunner).runExclusively(eq(Auth0UserSyncConfig.JOB_NAME), any(Duration.class), job.capture());
+        assertThat(job.getValue().getAsInt()).isEqualTo(3);
+    }
+
+    @Test
+    void syncAuth0Users_failedSync_isRecordedByRunnerAndNotRethrown() {
+        Auth0UserSyncConfig config = new Auth0UserSyncConfig(syncService, jobRunner, Runnable::run);
+        when(jobRunner.runExclusively(eq(Auth0UserSyncConfig.JOB_NAME), any(Duration.class), any()))
+                .thenThrow(new IllegalStateException("Auth0 unavailable"));
+
+        config.syncAuth0Users();
+
+        verify(jobRunner).runExclusively(eq(Auth0UserSyncConfig.JOB_NAME), any(Duration.class), any());
+    }
+}
@@ -0,0 +1,71 @@
+package com.example.courtierprobackend.config;
+
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Runs the migration strategy against an in-memory H2 database with two small migrations.
+ */
+class FlywayConfigTest {
+
+    private static final String V1 = "classpath:flyway-config-test/v1";
+    private static final String V2 = "classpath:flyway-config-test/v2";
+
+    private String url;
+
+    @BeforeEach
+    void setUp() {
+        url = "jdbc:h2:mem:flyway-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1";
+    }
+
+    @Test
+    void migrate_freshDatabase_appliesMigrationsWithoutRepair() {
+        Flyway flyway = flyway(V1);
+
+        FlywayConfig.migrate(flyway);
+
+        verify(flyway, never()).repair();
+        assertThat(flyway.info().applied()).hasSize(1);
+    }
+
+    @Test
+    void migrate_pendingMigrations_areAppliedWithoutRepair() {
+        FlywayConfig.migrate(flyway(V1));
+        Flyway upgraded = flyway(V1, V2);
+
+        FlywayConfig.migrate(upgraded);
+
+        verify(upgraded, never()).repair();
+        assertThat(upgraded.info().applied()).hasSize(2);
+    }
+
+    @Test
+    void migrate_checksumMismatch_repairsBeforeMigrating() throws SQLException {
+        FlywayConfig.migrate(flyway(V1));
+        try (Connection connection = DriverManager.getConnection(url, "sa", "");
+             Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE \"flyway_schema_history\" SET \"checksum\" = 1 WHERE \"version\" = '1'");
+        }
+        Flyway upgraded = flyway(V1, V2);
+
+        FlywayConfig.migrate(upgraded);
+
+        verify(upgraded).repair();
+        assertThat(upgraded.info().applied()).hasSize(2);
+        assertThat(upgraded.validateWithResult().validationSuccessful).isTrue();
+    }
+
+    private Flyway flyway(String... locations) {
+        return spy(Flyway.configure().dataSource(url, "sa", "").locations(locations).load());
+    }
+}
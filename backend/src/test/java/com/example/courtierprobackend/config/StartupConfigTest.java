@@ -0,0 +1,38 @@
+package com.example.courtierprobackend.config;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.annotation.Schedules;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class StartupConfigTest {
+
+    static class Job {
+        @Scheduled(fixedDelay = 1000)
+        void run() {
+        }
+    }
+
+    static class TwiceDaily {
+        @Schedules({@Scheduled(cron = "0 0 8 * * *"), @Scheduled(cron = "0 0 20 * * *")})
+        void run() {
+        }
+    }
+
+    static class PlainService {
+        void run() {
+        }
+    }
+
+    @Test
+    void scheduledBeans_stayEager() {
+        assertThat(StartupConfig.hasScheduledMethods(Job.class)).isTrue();
+        assertThat(StartupConfig.hasScheduledMethods(TwiceDaily.class)).isTrue();
+    }
+
+    @Test
+    void otherBeans_canBeLazy() {
+        assertThat(StartupConfig.hasScheduledMethods(PlainService.class)).isFalse();
+    }
+}
@@ -27,6 +27,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -709,7 +710,7 @@ class DashboardControllerTest {
                 .transactionId(txId)
                 .address(new PropertyAddress("456 Buyer Ave", "Laval", "QC", "H7T 1Z1"))
                 .build();
-        when(propertyRepository.findByTransactionIdOrderByCreatedAtDesc(txId)).thenReturn(List.of(property));
+        when(propertyRepository.findByTransactionIdInOrderByCreatedAtDesc(any())).thenReturn(List.of(property));
 
         UserAccount client = new UserAccount("auth0|456", "buyer@test.com", "Jane", "Smith", UserRole.CLIENT, "en");
         when(userRepository.findById(clientId)).thenReturn(Optional.of(client));
@@ -751,7 +752,7 @@ class DashboardControllerTest {
                 .buyerStage(BuyerStage.BUYER_FINANCIAL_PREPARATION)
                 .build();
         when(transactionRepository.findAllByBrokerId(brokerId)).thenReturn(List.of(tx));
-        when(propertyRepository.findByTransactionIdOrderByCreatedAtDesc(txId)).thenReturn(List.of());
+        when(propertyRepository.findByTransactionIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
 
         com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO entry = 
             com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO.builder()
@@ -792,7 +793,7 @@ class DashboardControllerTest {
                 .transactionId(txId)
                 .address(null)
                 .build();
-        when(propertyRepository.findByTransactionIdOrderByCreatedAtDesc(txId)).thenReturn(List.of(property));
+        when(propertyRepository.findByTransactionIdInOrderByCreatedAtDesc(any())).thenReturn(List.of(property));
 
         com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO entry = 
             com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO.builder()
@@ -974,7 +975,7 @@ class DashboardControllerTest {
                 .buyerStage(BuyerStage.BUYER_FINANCIAL_PREPARATION)
                 .build();
         when(transactionRepository.findAllByBrokerId(brokerId)).thenReturn(List.of(tx1, tx2));
-        when(propertyRepository.findByTransactionIdOrderByCreatedAtDesc(txId2)).thenReturn(List.of());
+        when(propertyRepository.findByTransactionIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
 
         UserAccount client = new UserAccount("auth0|multi", "multi@test.com", "Multi", "Client", UserRole.CLIENT, "en");
         when(userRepository.findById(clientId)).thenReturn(Optional.of(client));
@@ -1496,8 +1497,8 @@ class DashboardControllerTest {
         MarkActivitiesSeenRequest markRequest = new MarkActivitiesSeenRequest();
         markRequest.setActivityIds(List.of(activityId));
         
-        when(timelineEntrySeenRepository.existsByBrokerIdAndTimelineEntryId(brokerId, activityId))
-                .thenReturn(false);
+        when(timelineEntrySeenRepository.markSeen(eq(brokerId), eq(Set.of(activityId)), any()))
+                .thenReturn(1);
         
         ResponseEntity<java.util.Map<String, Object>> response = 
                 controller.markEntriesAsSeen(null, null, request, markRequest);
@@ -1505,7 +1506,7 @@ class DashboardControllerTest {
         assertThat(response.getStatusCode().value()).isEqualTo(200);
         assertThat(response.getBody().get("success")).isEqualTo(true);
         assertThat(response.getBody().get("markedCount")).isEqualTo(1);
-        verify(timelineEntrySeenRepository).save(any(com.example.courtierprobackend.dashboard.datalayer.TimelineEntrySeen.class));
+        verify(timelineEntrySeenRepository, never()).save(any());
     }
 
     @Test
@@ -1517,8 +1518,9 @@ class DashboardControllerTest {
         MarkActivitiesSeenRequest markRequest = new MarkActivitiesSeenRequest();
         markRequest.setActivityIds(List.of(activityId));
         
-        when(timelineEntrySeenRepository.existsByBrokerIdAndTimelineEntryId(brokerId, activityId))
-                .thenReturn(true);
+        // Conflicting rows are skipped by the insert
+        when(timelineEntrySeenRepository.markSeen(eq(brokerId), eq(Set.of(activityId)), any()))
+                .thenReturn(0);
         
         ResponseEntity<java.util.Map<String, Object>> response = 
                 controller.markEntriesAsSeen(null, null, request, markRequest);
@@ -1529,26 +1531,25 @@ class DashboardControllerTest {
     }
 
     @Test
-    void markEntriesAsSeen_WithMixedSeenAndUnseen_MarksOnlyUnseen() {
+    void markEntriesAsSeen_WithDuplicateIds_MarksInSingleStatement() {
         UUID brokerId = UUID.randomUUID();
         UUID seenId = UUID.randomUUID();
         UUID unseenId = UUID.randomUUID();
         MockHttpServletRequest request = createRequestWithInternalId(brokerId);
         
         MarkActivitiesSeenRequest markRequest = new MarkActivitiesSeenRequest();
-        markRequest.setActivityIds(List.of(seenId, unseenId));
+        markRequest.setActivityIds(List.of(seenId, unseenId, unseenId));
         
-        when(timelineEntrySeenRepository.existsByBrokerIdAndTimelineEntryId(brokerId, seenId))
-                .thenReturn(true);
-        when(timelineEntrySeenRepository.existsByBrokerIdAndTimelineEntryId(brokerId, unseenId))
-                .thenReturn(false);
+        when(timelineEntrySeenRepository.markSeen(eq(brokerId), eq(Set.of(seenId, unseenId)), any()))
+                .thenReturn(1);
         
         ResponseEntity<java.util.Map<String, Object>> response = 
                 controller.markEntriesAsSeen(null, null, request, markRequest);
         
         assertThat(response.getStatusCode().value()).isEqualTo(200);
         assertThat(response.getBody().get("markedCount")).isEqualTo(1);
-        verify(timelineEntrySeenRepository, times(1)).save(any());
+        verify(timelineEntrySeenRepository, times(1)).markSeen(any(), any(), any());
+        verify(timelineEntrySeenRepository, never()).existsByBrokerIdAndTimelineEntryId(any(), any());
     }
 
     // ========== Expiring Offers Sell-Side Tests ==========
@@ -1619,7 +1620,7 @@ class DashboardControllerTest {
                         .build();
 
         when(transactionRepository.findAllByBrokerId(brokerId)).thenReturn(List.of(tx));
-        when(propertyRepository.findByTransactionIdOrderByCreatedAtDesc(txId)).thenReturn(List.of());
+        when(propertyRepository.findByTransactionIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
         when(timelineService.getRecentEntriesForTransactionsPaged(any(), any())).thenReturn(page);
         when(timelineEntrySeenRepository.findByBrokerIdAndTimelineEntryIdIn(eq(brokerId), any()))
                 .thenReturn(List.of(seenRecord));
@@ -1800,7 +1801,6 @@ class DashboardControllerTest {
                 new org.springframework.data.domain.PageImpl<>(List.of(entryDTO));
 
         when(transactionRepository.findAllByBrokerId(brokerId)).thenReturn(List.of(tx));
-        lenient().when(propertyRepository.findByTransactionIdOrderByCreatedAtDesc(txId)).thenReturn(List.of());
         when(timelineService.getRecentEntriesForTransactionsPaged(any(), any())).thenReturn(page);
         when(timelineEntrySeenRepository.findByBrokerIdAndTimelineEntryIdIn(eq(brokerId), any()))
                 .thenReturn(List.of());
@@ -1843,7 +1843,6 @@ class DashboardControllerTest {
                 new org.springframework.data.domain.PageImpl<>(List.of(entryDTO));
 
         when(transactionRepository.findAllByBrokerId(brokerId)).thenReturn(List.of(tx));
-        lenient().when(propertyRepository.findByTransactionIdOrderByCreatedAtDesc(txId)).thenReturn(List.of());
         when(timelineService.getRecentEntriesForTransactionsPaged(any(), any())).thenReturn(page);
         when(timelineEntrySeenRepository.findByBrokerIdAndTimelineEntryIdIn(eq(brokerId), any()))
                 .thenReturn(List.of());
@@ -1856,6 +1855,97 @@ class DashboardControllerTest {
         assertThat(activities.get(0).getClientName()).isEmpty();
     }
 
+    // ========== getActivityFeed (keyset pagination) ==========
+
+    @Test
+    void getActivityFeed_FirstPage_LoadsOnlyPageTransactionsAndReturnsCursor() {
+        UUID brokerId = UUID.randomUUID();
+        UUID txId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        MockHttpServletRequest request = createRequestWithInternalId(brokerId);
+
+        Transaction tx = Transaction.builder()
+                .transactionId(txId)
+                .brokerId(brokerId)
+                .clientId(clientId)
+                .status(TransactionStatus.ACTIVE)
+                .side(TransactionSide.BUY_SIDE)
+                .buyerStage(BuyerStage.BUYER_OFFER_AND_NEGOTIATION)
+                .build();
+        Property property = Property.builder()
+                .propertyId(UUID.randomUUID())
+                .transactionId(txId)
+                .address(new PropertyAddress("789 Feed Rd", "Montreal", "QC", "H2X 1Y4"))
+                .build();
+
+        java.time.Instant now = java.time.Instant.now();
+        List<com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO> entries = List.of(
+                feedEntry(txId, now),
+                feedEntry(txId, now.minusSeconds(60)),
+                feedEntry(txId, now.minusSeconds(120)));
+
+        when(timelineService.getBrokerFeed(brokerId, null, 3)).thenReturn(entries);
+        when(transactionRepository.findByTransactionIdIn(List.of(txId))).thenReturn(List.of(tx));
+        when(propertyRepository.findByTransactionIdInOrderByCreatedAtDesc(Set.of(txId))).thenReturn(List.of(property));
+        when(userRepository.findById(clientId)).thenReturn(Optional.of(
+                new UserAccount("auth0|feed", "feed@test.com", "Fay", "Reed", UserRole.CLIENT, "en")));
+
+        ResponseEntity<java.util.Map<String, Object>> response =
+                controller.getActivityFeed(null, null, request, null, 2);
+
+        @SuppressWarnings("unchecked")
+        List<RecentActivityDTO> content = (List<RecentActivityDTO>) response.getBody().get("content");
+        assertThat(content).hasSize(2);
+        assertThat(content.get(0).getPropertyAddress()).isEqualTo("789 Feed Rd");
+        assertThat(content.get(1).getClientName()).isEqualTo("Fay Reed");
+        assertThat(response.getBody().get("hasMore")).isEqualTo(true);
+        assertThat(response.getBody().get("nextCursor"))
+                .isEqualTo(com.example.courtierprobackend.audit.timeline_audit.businesslayer.TimelineFeedCursor
+                        .after(entries.get(1)).encode());
+        // Client name resolved once for both entries; the broker's full transaction list is never loaded
+        verify(userRepository, times(1)).findById(clientId);
+        verify(transactionRepository, never()).findAllByBrokerId(any());
+    }
+
+    @Test
+    void getActivityFeed_WithCursor_PassesDecodedCursorAndReportsLastPage() {
+        UUID brokerId = UUID.randomUUID();
+        MockHttpServletRequest request = createRequestWithInternalId(brokerId);
+        com.example.courtierprobackend.audit.timeline_audit.businesslayer.TimelineFeedCursor cursor =
+                new com.example.courtierprobackend.audit.timeline_audit.businesslayer.TimelineFeedCursor(
+                        java.time.Instant.parse("2025-03-01T10:15:30.123456Z"), UUID.randomUUID());
+
+        when(timelineService.getBrokerFeed(brokerId, cursor, 11)).thenReturn(List.of());
+
+        ResponseEntity<java.util.Map<String, Object>> response =
+                controller.getActivityFeed(null, null, request, cursor.encode(), 10);
+
+        assertThat((List<?>) response.getBody().get("content")).isEmpty();
+        assertThat(response.getBody().get("hasMore")).isEqualTo(false);
+        assertThat(response.getBody().get("nextCursor")).isNull();
+        verify(transactionRepository, never()).findByTransactionIdIn(any());
+    }
+
+    @Test
+    void getActivityFeed_WithMalformedCursor_ThrowsBadRequest() {
+        MockHttpServletRequest request = createRequestWithInternalId(UUID.randomUUID());
+
+        org.assertj.core.api.Assertions.assertThatThrownBy(() ->
+                        controller.getActivityFeed(null, null, request, "not-a-cursor", 10))
+                .isInstanceOf(com.example.courtierprobackend.common.exceptions.BadRequestException.class);
+        verifyNoInteractions(timelineService);
+    }
+
+    private static com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO feedEntry(
+            UUID txId, java.time.Instant occurredAt) {
+        return com.example.courtierprobackend.audit.timeline_audit.presentationlayer.TimelineEntryDTO.builder()
+                .id(UUID.randomUUID())
+                .transactionId(txId)
+                .type(com.example.courtierprobackend.audit.timeline_audit.dataaccesslayer.Enum.TimelineEntryType.CREATED)
+                .occurredAt(occurredAt)
+                .build();
+    }
+
     // ========== countExpiringOffers Buy-Side with Properties (lines 454-461) ==========
 
     @Test
@@ -2311,8 +2401,8 @@ class DashboardControllerTest {
                 .timestamp(LocalDateTime.now())
                 .build();
 
-        when(loginAuditEventRepository.findAllByOrderByTimestampDesc()).thenReturn(List.of(login));
-        when(adminDeletionAuditRepository.findAllByOrderByTimestampDesc()).thenReturn(List.of(deletion));
+        when(loginAuditEventRepository.findTop5ByOrderByTimestampDescIdDesc()).thenReturn(List.of(login));
+        when(adminDeletionAuditRepository.findTop5ByOrderByTimestampDescIdDesc()).thenReturn(List.of(deletion));
 
         ResponseEntity<DashboardController.RecentActionsResponse> response = controller.getRecentActions();
 
@@ -2322,8 +2412,8 @@ class DashboardControllerTest {
 
     @Test
     void getRecentActions_WithEmptyData_ReturnsEmptyLists() {
-        when(loginAuditEventRepository.findAllByOrderByTimestampDesc()).thenReturn(List.of());
-        when(adminDeletionAuditRepository.findAllByOrderByTimestampDesc()).thenReturn(List.of());
+        when(loginAuditEventRepository.findTop5ByOrderByTimestampDescIdDesc()).thenReturn(List.of());
+        when(adminDeletionAuditRepository.findTop5ByOrderByTimestampDescIdDesc()).thenReturn(List.of());
 
         ResponseEntity<DashboardController.RecentActionsResponse> response = controller.getRecentActions();
 
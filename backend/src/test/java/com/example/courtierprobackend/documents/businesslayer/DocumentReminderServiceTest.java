@@ -0,0 +1,240 @@
+package com.example.courtierprobackend.documents.businesslayer;
+
+import com.example.courtierprobackend.common.exceptions.BadRequestException;
+import com.example.courtierprobackend.common.exceptions.NotFoundException;
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentReminderDigestEvent;
+import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
+import com.example.courtierprobackend.documents.datalayer.OutstandingDocumentRow;
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentStatusEnum;
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReminderBatchDTO;
+import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReminderClientStatusDTO;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher;
+import com.example.courtierprobackend.infrastructure.outbox.OutboxEvent;
+import com.example.courtierprobackend.infrastructure.outbox.OutboxEventRepository;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentReminderServiceTest {
+
+    @Mock
+    private DocumentRepository documentRepository;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private DocumentReminderService service;
+
+    private UUID brokerId;
+    private UUID aliceId;
+    private UUID bobId;
+
+    @BeforeEach
+    void setUp() {
+        service = new DocumentReminderService(documentRepository, userAccountRepository, outboxEventRepository,
+                domainEventPublisher, objectMapper, 500);
+        brokerId = UUID.randomUUID();
+        aliceId = UUID.randomUUID();
+        bobId = UUID.randomUUID();
+    }
+
+    @Test
+    void startBulkReminder_queuesOneDigestPerClientSpacedApart() {
+        when(documentRepository.findOutstandingRowsForBroker(eq(brokerId), any(LocalDateTime.class)))
+                .thenReturn(List.of(row(aliceId, "Alice"), row(bobId, "Bob"), row(aliceId, "Alice")));
+        when(userAccountRepository.findAllById(Set.of(aliceId, bobId)))
+                .thenReturn(List.of(account(aliceId, true), account(bobId, true)));
+
+        DocumentReminderBatchDTO batch = service.startBulkReminder(brokerId, null);
+
+        ArgumentCaptor<DocumentReminderDigestEvent> events = ArgumentCaptor.forClass(DocumentReminderDigestEvent.class);
+        ArgumentCaptor<LocalDateTime> availableAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(domainEventPublisher, times(2)).publish(eq(batch.getBatchId()), events.capture(), availableAt.capture());
+        assertThat(events.getAllValues()).extracting(DocumentReminderDigestEvent::clientId)
+                .containsExactly(aliceId, bobId);
+        assertThat(events.getAllValues().get(0).documents()).hasSize(2);
+        assertThat(availableAt.getAllValues().get(1))
+                .isEqualTo(availableAt.getAllValues().get(0).plusNanos(500_000_000L));
+        assertThat(batch.getTotalClients()).isEqualTo(2);
+        assertThat(batch.getTotalDocuments()).isEqualTo(3);
+        assertThat(batch.getPending()).isEqualTo(2);
+        assertThat(batch.isComplete()).isFalse();
+    }
+
+    @Test
+    void startBulkReminder_queuesBehindDigestsPendingFromEarlierBatches() {
+        when(outboxEventRepository.countByEventTypeAndStatus("DocumentReminderDigestEvent", OutboxEvent.Status.PENDING))
+                .thenReturn(40L);
+        when(documentRepository.findOutstandingRowsForBroker(eq(brokerId), any(LocalDateTime.class)))
+                .thenReturn(List.of(row(aliceId, "Alice")));
+        when(userAccountRepository.findAllById(Set.of(aliceId))).thenReturn(List.of(account(aliceId, true)));
+
+        LocalDateTime before = LocalDateTime.now();
+        service.startBulkReminder(brokerId, null);
+
+        ArgumentCaptor<LocalDateTime> availableAt = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(domainEventPublisher).publish(any(UUID.class), any(DocumentReminderDigestEvent.class),
+                availableAt.capture());
+        assertThat(availableAt.getValue()).isAfterOrEqualTo(before.plusSeconds(20));
+    }
+
+    @Test
+    void startBulkReminder_skipsClientsWhoCannotBeEmailed() {
+        when(documentRepository.findOutstandingRowsForBroker(eq(brokerId), any(LocalDateTime.class)))
+                .thenReturn(List.of(row(aliceId, "Alice"), row(bobId, "Bob")));
+        when(userAccountRepository.findAllById(Set.of(aliceId, bobId)))
+                .thenReturn(List.of(account(aliceId, false)));
+
+        DocumentReminderBatchDTO batch = service.startBulkReminder(brokerId, List.of());
+
+        verify(domainEventPublisher, never()).publish(any(), any(), any(LocalDateTime.class));
+        ArgumentCaptor<DocumentReminderDigestEvent> skipped = ArgumentCaptor.forClass(DocumentReminderDigestEvent.class);
+        verify(domainEventPublisher, times(2)).recordSkipped(eq(batch.getBatchId()), skipped.capture(), any());
+        assertThat(skipped.getAllValues()).extracting(DocumentReminderDigestEvent::clientId)
+                .containsExactly(aliceId, bobId);
+        assertThat(batch.getSkipped()).isEqualTo(2);
+        assertThat(batch.isComplete()).isTrue();
+        assertThat(batch.getClients()).extracting(DocumentReminderClientStatusDTO::getDetail)
+                .containsExactly("Client has disabled email notifications", "Client has no email address");
+    }
+
+    @Test
+    void startBulkReminder_selectedDocumentsOnly() {
+        OutstandingDocumentRow selected = row(aliceId, "Alice");
+        when(documentRepository.findOutstandingRowsForBroker(eq(brokerId), any(LocalDateTime.class)))
+                .thenReturn(List.of(selected, row(bobId, "Bob")));
+        when(userAccountRepository.findAllById(Set.of(aliceId))).thenReturn(List.of(account(aliceId, true)));
+
+        DocumentReminderBatchDTO batch = service.startBulkReminder(brokerId, List.of(selected.documentId()));
+
+        assertThat(batch.getTotalClients()).isEqualTo(1);
+        verify(domainEventPublisher).publish(eq(batch.getBatchId()), any(DocumentReminderDigestEvent.class),
+                any(LocalDateTime.class));
+    }
+
+    @Test
+    void startBulkReminder_nothingOverdue_throwsBadRequest() {
+        when(documentRepository.findOutstandingRowsForBroker(eq(brokerId), any(LocalDateTime.class)))
+                .thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.startBulkReminder(brokerId, null))
+                .isInstanceOf(BadRequestException.class);
+    }
+
+    @Test
+    void getBatchProgress_mapsOutboxStateToClientStatus() throws Exception {
+        UUID batchId = UUID.randomUUID();
+        LocalDateTime sentAt = LocalDateTime.now();
+        when(outboxEventRepository.findByAggregateIdAndEventTypeOrderById(batchId, "DocumentReminderDigestEvent"))
+                .thenReturn(List.of(
+                        outboxRow(batchId, brokerId, aliceId, OutboxEvent.Status.DISPATCHED, 0, null, sentAt),
+                        outboxRow(batchId, brokerId, bobId, OutboxEvent.Status.PENDING, 2, "timeout", null)));
+
+        DocumentReminderBatchDTO batch = service.getBatchProgress(brokerId, batchId);
+
+        assertThat(batch.getClients()).extracting(DocumentReminderClientStatusDTO::getStatus)
+                .containsExactly("SENT", "RETRYING");
+        assertThat(batch.getClients().get(0).getSentAt()).isEqualTo(sentAt);
+        assertThat(batch.getClients().get(1).getDetail()).isEqualTo("timeout");
+        assertThat(batch.getSent()).isEqualTo(1);
+        assertThat(batch.getPending()).isEqualTo(1);
+        assertThat(batch.isComplete()).isFalse();
+    }
+
+    @Test
+    void getBatchProgress_reportsSkippedClientsSeparately() throws Exception {
+        UUID batchId = UUID.randomUUID();
+        when(outboxEventRepository.findByAggregateIdAndEventTypeOrderById(batchId, "DocumentReminderDigestEvent"))
+                .thenReturn(List.of(
+                        outboxRow(batchId, brokerId, aliceId, OutboxEvent.Status.DISPATCHED, 0, null,
+                                LocalDateTime.now()),
+                        outboxRow(batchId, brokerId, bobId, OutboxEvent.Status.SKIPPED, 0,
+                                "Client has disabled email notifications", LocalDateTime.now())));
+
+        DocumentReminderBatchDTO batch = service.getBatchProgress(brokerId, batchId);
+
+        assertThat(batch.getClients()).extracting(DocumentReminderClientStatusDTO::getStatus)
+                .containsExactly("SENT", "SKIPPED");
+        assertThat(batch.getClients().get(1).getDetail()).isEqualTo("Client has disabled email notifications");
+        assertThat(batch.getSent()).isEqualTo(1);
+        assertThat(batch.getSkipped()).isEqualTo(1);
+        assertThat(batch.isComplete()).isTrue();
+    }
+
+    @Test
+    void getBatchProgress_otherBrokersBatch_throwsNotFound() throws Exception {
+        UUID batchId = UUID.randomUUID();
+        when(outboxEventRepository.findByAggregateIdAndEventTypeOrderById(batchId, "DocumentReminderDigestEvent"))
+                .thenReturn(List.of(outboxRow(batchId, UUID.randomUUID(), aliceId, OutboxEvent.Status.PENDING, 0,
+                        null, null)));
+
+        assertThatThrownBy(() -> service.getBatchProgress(brokerId, batchId))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    @Test
+    void getBatchProgress_unknownBatch_throwsNotFound() {
+        UUID batchId = UUID.randomUUID();
+        when(outboxEventRepository.findByAggregateIdAndEventTypeOrderById(batchId, "DocumentReminderDigestEvent"))
+                .thenReturn(List.of());
+
+        assertThatThrownBy(() -> service.getBatchProgress(brokerId, batchId))
+                .isInstanceOf(NotFoundException.class);
+    }
+
+    private OutboxEvent outboxRow(UUID batchId, UUID owner, UUID clientId, OutboxEvent.Status status, int attempts,
+                                  String lastError, LocalDateTime dispatchedAt) throws Exception {
+        DocumentReminderDigestEvent event = new DocumentReminderDigestEvent(batchId, owner, clientId, "Client",
+                List.of(new DocumentReminderDigestEvent.Item(UUID.randomUUID(), null, "PAY_STUBS",
+                        LocalDate.of(2025, 3, 1), 4, null)));
+        return OutboxEvent.builder()
+                .id(1L)
+                .aggregateId(batchId)
+                .eventType("DocumentReminderDigestEvent")
+                .payload(objectMapper.writeValueAsString(event))
+                .status(status)
+                .attempts(attempts)
+                .lastError(lastError)
+                .dispatchedAt(dispatchedAt)
+                .build();
+    }
+
+    private static OutstandingDocumentRow row(UUID clientId, String firstName) {
+        return new OutstandingDocumentRow(UUID.randomUUID(), null, DocumentTypeEnum.PAY_STUBS,
+                DocumentStatusEnum.REQUESTED, LocalDateTime.now().minusDays(3), 3L, "123 Main St", "City", "QC",
+                "H1H1H1", clientId, firstName, "Doe", firstName.toLowerCase() + "@example.com");
+    }
+
+    private static UserAccount account(UUID id, boolean emailEnabled) {
+        UserAccount account = new UserAccount();
+        account.setId(id);
+        account.setEmail(id + "@example.com");
+        account.setEmailNotificationsEnabled(emailEnabled);
+        return account;
+    }
+}
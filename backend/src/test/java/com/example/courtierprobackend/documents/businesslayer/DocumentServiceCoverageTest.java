@@ -12,9 +12,7 @@ import com.example.courtierprobackend.documents.datalayer.enums.DocumentStatusEn
 import com.example.courtierprobackend.documents.datalayer.valueobjects.TransactionRef;
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReviewRequestDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.StageChecklistResponseDTO;
-import com.example.courtierprobackend.email.EmailService;
 import com.example.courtierprobackend.infrastructure.storage.ObjectStorageService;
-import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
 import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide;
 import com.example.courtierprobackend.transactions.datalayer.repositories.DocumentConditionLinkRepository;
@@ -49,8 +47,6 @@ class DocumentServiceCoverageTest {
     @Mock private TransactionRepository transactionRepository;
     @Mock private UserAccountRepository userAccountRepository;
     @Mock private ObjectStorageService storageService;
-    @Mock private EmailService emailService;
-    @Mock private NotificationService notificationService;
     @Mock private TimelineService timelineService;
     @Mock private MessageSource messageSource;
     @Mock private TransactionParticipantRepository participantRepository;
@@ -1,19 +1,27 @@
 package com.example.courtierprobackend.documents.businesslayer;
 
 import com.example.courtierprobackend.audit.timeline_audit.businesslayer.TimelineService;
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentEditedEvent;
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentRequestedEvent;
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentReviewedEvent;
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentSharedEvent;
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentSubmittedEvent;
 import com.example.courtierprobackend.documents.datalayer.Document;
 import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
 import com.example.courtierprobackend.documents.datalayer.TransactionStageChecklistState;
 import com.example.courtierprobackend.documents.datalayer.DocumentVersion;
+import com.example.courtierprobackend.documents.datalayer.OutstandingClientSummary;
+import com.example.courtierprobackend.documents.datalayer.OutstandingDocumentRow;
 import com.example.courtierprobackend.documents.datalayer.enums.*;
 import com.example.courtierprobackend.documents.datalayer.valueobjects.StorageObject;
 import com.example.courtierprobackend.documents.datalayer.valueobjects.TransactionRef;
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentRequestDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReviewRequestDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentResponseDTO;
+import com.example.courtierprobackend.documents.presentationlayer.models.OutstandingClientGroupDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.OutstandingDocumentDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.StageChecklistResponseDTO;
-import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher;
 import com.example.courtierprobackend.infrastructure.storage.ObjectStorageService;
 import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide;
@@ -32,6 +40,9 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
 
 import java.io.IOException;
@@ -52,7 +63,7 @@ import static org.mockito.Mockito.*;
 @ExtendWith(MockitoExtension.class)
 class DocumentServiceImplTest {
         @Test
-        void updateDocumentRequest_WithClientAndBroker_SendsNotificationAndEmail() {
+        void updateDocumentRequest_WithChanges_PublishesEditedEvent() {
                 UUID requestId = UUID.randomUUID();
                 UUID clientId = UUID.randomUUID();
                 UUID brokerId = UUID.randomUUID();
@@ -92,83 +103,11 @@ class DocumentServiceImplTest {
 
                 service.updateDocument(requestId, dto, brokerId);
 
-                verify(emailService, atLeastOnce()).sendDocumentEditedNotification(any(), any(), any(), any(), any(),
-                                any());
-                verify(notificationService, atLeastOnce()).createNotification(any(), any(), any(), any(), any());
-        }
-
-        @Test
-        void updateDocumentRequest_WithMissingClient_SkipsNotificationAndEmail() {
-                UUID requestId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-                Transaction tx = new Transaction();
-                tx.setTransactionId(UUID.randomUUID());
-                tx.setClientId(clientId);
-                tx.setBrokerId(brokerId);
-                Document request = new Document();
-                request.setDocumentId(requestId);
-                request.setTransactionRef(
-                                new TransactionRef(tx.getTransactionId(), clientId, TransactionSide.BUY_SIDE));
-                request.setDocType(DocumentTypeEnum.PAY_STUBS);
-                request.setStatus(DocumentStatusEnum.DRAFT);
-
-                DocumentRequestDTO dto = new DocumentRequestDTO();
-                dto.setDocType(DocumentTypeEnum.BANK_STATEMENT); // trigger update
-
-                UserAccount broker = new UserAccount(brokerId.toString(), "broker@test.com", "Jane", "Smith",
-                                UserRole.BROKER, "en");
-                broker.setId(brokerId);
-
-                when(repository.findByDocumentId(requestId)).thenReturn(Optional.of(request));
-                when(transactionRepository.findByTransactionId(any())).thenReturn(Optional.of(tx));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.empty());
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenReturn("Localized Doc Type");
-
-                service.updateDocument(requestId, dto, brokerId);
-
-                verify(emailService, never()).sendDocumentEditedNotification(any(), any(), any(), any(), any(), any());
-                verify(notificationService, never()).createNotification(any(), any(), any(), any(), any());
-        }
-
-        @Test
-        void updateDocumentRequest_WithMissingBroker_SkipsNotificationAndEmail() {
-                UUID requestId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-                Transaction tx = new Transaction();
-                tx.setTransactionId(UUID.randomUUID());
-                tx.setClientId(clientId);
-                tx.setBrokerId(brokerId);
-                Document request = new Document();
-                request.setDocumentId(requestId);
-                request.setTransactionRef(
-                                new TransactionRef(tx.getTransactionId(), clientId, TransactionSide.BUY_SIDE));
-                request.setDocType(DocumentTypeEnum.PAY_STUBS);
-                request.setStatus(DocumentStatusEnum.DRAFT);
-
-                DocumentRequestDTO dto = new DocumentRequestDTO();
-                dto.setDocType(DocumentTypeEnum.BANK_STATEMENT); // trigger update
-
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "John", "Doe",
-                                UserRole.CLIENT, "en");
-                client.setId(clientId);
-
-                when(repository.findByDocumentId(requestId)).thenReturn(Optional.of(request));
-                when(transactionRepository.findByTransactionId(any())).thenReturn(Optional.of(tx));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.empty());
-                when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenReturn("Localized Doc Type");
-
-                service.updateDocument(requestId, dto, brokerId);
-
-                verify(emailService, never()).sendDocumentEditedNotification(any(), any(), any(), any(), any(), any());
-                verify(notificationService, never()).createNotification(any(), any(), any(), any(), any());
+                verify(domainEventPublisher).publish(eq(tx.getTransactionId()),
+                                argThat(event -> event instanceof DocumentEditedEvent edited
+                                                && requestId.equals(edited.documentId())
+                                                && clientId.equals(edited.clientId())
+                                                && edited.docType() == DocumentTypeEnum.BANK_STATEMENT));
         }
 
         @Test
@@ -215,14 +154,10 @@ class DocumentServiceImplTest {
         @Mock
         private ObjectStorageService storageService;
         @Mock
-        private EmailService emailService;
-        @Mock
         private TransactionRepository transactionRepository;
         @Mock
         private UserAccountRepository userAccountRepository;
         @Mock
-        private com.example.courtierprobackend.notifications.businesslayer.NotificationService notificationService;
-        @Mock
         private org.springframework.context.MessageSource messageSource;
 
         @Mock
@@ -234,14 +169,16 @@ class DocumentServiceImplTest {
         private TransactionParticipantRepository participantRepository;
         @Mock
         private com.example.courtierprobackend.documents.datalayer.TransactionStageChecklistStateRepository checklistStateRepository;
+        @Mock
+        private DomainEventPublisher domainEventPublisher;
 
         private DocumentServiceImpl service;
 
         @BeforeEach
         void setUp() {
-                service = new DocumentServiceImpl(repository, storageService, emailService, notificationService,
-                                transactionRepository, userAccountRepository, timelineService, messageSource,
-                                documentConditionLinkRepository, participantRepository, checklistStateRepository);
+                service = new DocumentServiceImpl(repository, storageService, transactionRepository, userAccountRepository, timelineService, messageSource,
+                                documentConditionLinkRepository, participantRepository, checklistStateRepository,
+                                domainEventPublisher);
         }
 
         // ========== getDocumentsForTransaction Tests ==========
@@ -296,126 +233,84 @@ class DocumentServiceImplTest {
                                 .hasMessageContaining("You do not have access");
         }
 
-        // ========== submitDocument Tests ==========
-
         @Test
-        void submitDocument_WithValidData_UploadsAndNotifies() throws IOException {
-                // Arrange
+        void resolveDocumentAccess_WithValidAccess_ReturnsContextWithStamp() {
                 UUID transactionId = UUID.randomUUID();
-                UUID requestId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-                UUID uploaderId = clientId;
-
-                UUID brokerId = UUID.randomUUID();
-
+                UUID userId = UUID.randomUUID();
                 Transaction tx = new Transaction();
                 tx.setTransactionId(transactionId);
-                tx.setBrokerId(brokerId);
-                tx.setClientId(clientId);
-
-                Document request = new Document();
-                request.setDocumentId(requestId);
-                request.setTransactionRef(new TransactionRef(transactionId, clientId, TransactionSide.BUY_SIDE));
-                request.setDocType(DocumentTypeEnum.PAY_STUBS);
-                request.setCustomTitle("Pay Stub");
-                request.setStatus(DocumentStatusEnum.REQUESTED);
-                request.setVersions(new ArrayList<>());
+                tx.setBrokerId(userId);
+                tx.setClientId(UUID.randomUUID());
+                tx.setVersion(3L);
+                tx.setViewVersion(7L);
+                tx.setLastUpdated(LocalDateTime.of(2026, 1, 1, 10, 0));
 
-                String brokerAuth0Id = UUID.randomUUID().toString();
-                String clientAuth0Id = UUID.randomUUID().toString();
+                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
 
-                UserAccount broker = new UserAccount(brokerAuth0Id, "broker@test.com", "Jane", "Smith", UserRole.BROKER,
-                                "en");
-                broker.setId(brokerId);
-                UserAccount client = new UserAccount(clientAuth0Id, "client@test.com", "John", "Doe", UserRole.CLIENT,
-                                "en");
-                client.setId(clientId);
+                assertThat(service.resolveDocumentAccess(transactionId, userId).viewVersion())
+                                .isEqualTo("3.7.2026-01-01T10:00");
+        }
 
-                MockMultipartFile file = new MockMultipartFile("file", "paystub.pdf", "application/pdf",
-                                "content".getBytes());
-                StorageObject storageObject = StorageObject.builder().s3Key("key").fileName("test.pdf").build();
+        @Test
+        void resolveDocumentAccess_WithNoAccess_ThrowsForbiddenException() {
+                UUID transactionId = UUID.randomUUID();
+                Transaction tx = new Transaction();
+                tx.setTransactionId(transactionId);
+                tx.setBrokerId(UUID.randomUUID());
+                tx.setClientId(UUID.randomUUID());
 
-                when(repository.findByDocumentId(requestId)).thenReturn(Optional.of(request));
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(storageService.uploadFile(any(), eq(transactionId), eq(requestId))).thenReturn(storageObject);
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
-                when(messageSource.getMessage(eq("notification.document.submitted.title"), any(),
-                                any(java.util.Locale.class)))
-                                .thenReturn("Document Submitted");
-                when(messageSource.getMessage(eq("notification.document.submitted.message"), any(),
-                                any(java.util.Locale.class)))
-                                .thenReturn("Document submitted message");
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenReturn("Localized Doc Type");
-
-                // Act
-                DocumentResponseDTO result = service.submitDocument(transactionId, requestId, file, uploaderId,
-                                UploadedByRefEnum.CLIENT);
 
-                // Assert
-                assertThat(result).isNotNull();
-                assertThat(result.getStatus()).isEqualTo(DocumentStatusEnum.SUBMITTED);
-                verify(emailService).sendDocumentSubmittedNotification(any(), eq("broker@test.com"), eq("John Doe"),
-                                anyString(), anyString(), anyString());
-                verify(notificationService).createNotification(
-                                eq(broker.getId().toString()),
-                                anyString(),
-                                anyString(),
-                                eq(transactionId.toString()),
-                                eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_SUBMITTED));
+                assertThatThrownBy(() -> service.resolveDocumentAccess(transactionId, UUID.randomUUID()))
+                                .isInstanceOf(ForbiddenException.class);
         }
 
+        // ========== submitDocument Tests ==========
+
         @Test
-        void submitDocument_NotificationFailure_LogsAndProceeds() throws IOException {
+        void submitDocument_WithValidData_UploadsAndPublishesSubmittedEvent() throws IOException {
                 // Arrange
                 UUID transactionId = UUID.randomUUID();
                 UUID requestId = UUID.randomUUID();
                 UUID clientId = UUID.randomUUID();
+                UUID uploaderId = clientId;
+
                 UUID brokerId = UUID.randomUUID();
 
                 Transaction tx = new Transaction();
                 tx.setTransactionId(transactionId);
-                tx.setClientId(clientId);
                 tx.setBrokerId(brokerId);
+                tx.setClientId(clientId);
 
                 Document request = new Document();
                 request.setDocumentId(requestId);
                 request.setTransactionRef(new TransactionRef(transactionId, clientId, TransactionSide.BUY_SIDE));
+                request.setDocType(DocumentTypeEnum.PAY_STUBS);
+                request.setCustomTitle("Pay Stub");
                 request.setStatus(DocumentStatusEnum.REQUESTED);
-                request.setDocType(DocumentTypeEnum.BANK_STATEMENT);
                 request.setVersions(new ArrayList<>());
 
-                UserAccount broker = new UserAccount(UUID.randomUUID().toString(), "broker@test.com", "Jane", "Smith",
-                                UserRole.BROKER, "en");
-                broker.setId(brokerId);
-                UserAccount client = new UserAccount(UUID.randomUUID().toString(), "client@test.com", "John", "Doe",
-                                UserRole.CLIENT, "en");
-                client.setId(clientId);
-
-                MockMultipartFile file = new MockMultipartFile("file", "test.pdf", "application/pdf",
+                MockMultipartFile file = new MockMultipartFile("file", "paystub.pdf", "application/pdf",
                                 "content".getBytes());
                 StorageObject storageObject = StorageObject.builder().s3Key("key").fileName("test.pdf").build();
 
                 when(repository.findByDocumentId(requestId)).thenReturn(Optional.of(request));
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
                 when(storageService.uploadFile(any(), eq(transactionId), eq(requestId))).thenReturn(storageObject);
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
                 when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
 
-                // Simulate Notification Exception
-                doThrow(new RuntimeException("Notification failed")).when(notificationService)
-                                .createNotification(anyString(), anyString(), anyString(), anyString(), any());
-
                 // Act
-                DocumentResponseDTO result = service.submitDocument(transactionId, requestId, file, clientId,
+                DocumentResponseDTO result = service.submitDocument(transactionId, requestId, file, uploaderId,
                                 UploadedByRefEnum.CLIENT);
 
                 // Assert
                 assertThat(result).isNotNull();
                 assertThat(result.getStatus()).isEqualTo(DocumentStatusEnum.SUBMITTED);
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof DocumentSubmittedEvent submitted
+                                                && brokerId.equals(submitted.brokerId())
+                                                && uploaderId.equals(submitted.uploaderId())
+                                                && submitted.uploaderType() == UploadedByRefEnum.CLIENT));
         }
 
         @Test
@@ -444,7 +339,7 @@ class DocumentServiceImplTest {
         // ========== reviewDocument Tests ==========
 
         @Test
-        void reviewDocument_Approve_AllowsOptionalCommentAndSendsEmail() {
+        void reviewDocument_Approve_AllowsOptionalCommentAndQueuesReviewEvent() {
                 UUID transactionId = UUID.randomUUID();
                 UUID requestId = UUID.randomUUID();
                 UUID brokerId = UUID.randomUUID();
@@ -467,100 +362,29 @@ class DocumentServiceImplTest {
                                 UserRole.BROKER,
                                 "en");
                 broker.setId(brokerId);
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "John", "Client",
-                                UserRole.CLIENT,
-                                "en");
-                client.setId(clientId);
 
                 DocumentReviewRequestDTO reviewDTO = new DocumentReviewRequestDTO();
                 reviewDTO.setDecision(DocumentStatusEnum.APPROVED);
-                reviewDTO.setComments(null); // optional on approval
+                reviewDTO.setComments(null);
 
                 when(repository.findByDocumentId(requestId)).thenReturn(Optional.of(request));
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
                 when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
                 when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
 
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenReturn("Localized Doc");
-                when(messageSource.getMessage(eq("notification.document.reviewed.title"), any(),
-                                any(java.util.Locale.class)))
-                                .thenReturn("Localized Title");
-                when(messageSource.getMessage(eq("notification.document.reviewed.approved"), any(),
-                                any(java.util.Locale.class))).thenReturn("Localized Message");
-
                 DocumentResponseDTO result = service.reviewDocument(transactionId, requestId, reviewDTO,
                                 brokerId);
 
                 assertThat(result.getStatus()).isEqualTo(DocumentStatusEnum.APPROVED);
                 assertThat(result.getBrokerNotes()).isNull();
-                verify(emailService).sendDocumentStatusUpdatedNotification(any(Document.class),
-                                eq("client@test.com"),
-                                eq("John Client"),
-                                eq("Jane Broker"), eq("Bank Statement"), anyString(), anyString());
-                verify(notificationService).createNotification(
-                                eq(clientId.toString()),
-                                anyString(),
-                                anyString(),
-                                eq(transactionId.toString()),
-                                eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_APPROVED));
+                // The email and in-app notification are delivered from the outbox
+                verify(domainEventPublisher).publish(eq(transactionId), eq(new DocumentReviewedEvent(
+                                transactionId, requestId, clientId, brokerId, DocumentTypeEnum.BANK_STATEMENT,
+                                "Bank Statement", false, DocumentStatusEnum.APPROVED, null)));
         }
 
         @Test
-        void reviewDocument_NotificationFailure_LogsAndProceeds() {
-                // Arrange
-                UUID transactionId = UUID.randomUUID();
-                UUID requestId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setBrokerId(brokerId);
-                tx.setClientId(clientId);
-                tx.setSide(TransactionSide.BUY_SIDE);
-
-                Document request = new Document();
-                request.setDocumentId(requestId);
-                request.setTransactionRef(new TransactionRef(transactionId, clientId, TransactionSide.BUY_SIDE));
-                request.setDocType(DocumentTypeEnum.BANK_STATEMENT);
-                request.setCustomTitle("Bank Statement");
-                request.setStatus(DocumentStatusEnum.SUBMITTED);
-
-                UserAccount broker = new UserAccount(brokerId.toString(), "broker@test.com", "Jane", "Broker",
-                                UserRole.BROKER,
-                                "en");
-                broker.setId(brokerId);
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "John", "Client",
-                                UserRole.CLIENT,
-                                "en");
-                client.setId(clientId);
-
-                DocumentReviewRequestDTO reviewDTO = new DocumentReviewRequestDTO();
-                reviewDTO.setDecision(DocumentStatusEnum.APPROVED);
-
-                when(repository.findByDocumentId(requestId)).thenReturn(Optional.of(request));
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
-
-                // Simulate Notification Exception
-                doThrow(new RuntimeException("Notification failed")).when(notificationService)
-                                .createNotification(any(), any(), any(), any(), any());
-
-                // Act
-                DocumentResponseDTO result = service.reviewDocument(transactionId, requestId, reviewDTO,
-                                brokerId);
-
-                // Assert
-                assertThat(result.getStatus()).isEqualTo(DocumentStatusEnum.APPROVED);
-        }
-
-        @Test
-        void reviewDocument_Revision_SetsNotesAndSendsEmail() {
+        void reviewDocument_Revision_SetsNotesAndQueuesReviewEvent() {
                 UUID transactionId = UUID.randomUUID();
                 UUID requestId = UUID.randomUUID();
                 UUID brokerId = UUID.randomUUID();
@@ -576,16 +400,13 @@ class DocumentServiceImplTest {
                 request.setDocumentId(requestId);
                 request.setTransactionRef(new TransactionRef(transactionId, clientId, TransactionSide.BUY_SIDE));
                 request.setDocType(DocumentTypeEnum.PAY_STUBS);
+                request.setRequiresSignature(true);
                 request.setStatus(DocumentStatusEnum.SUBMITTED);
 
                 UserAccount broker = new UserAccount(brokerId.toString(), "broker@test.com", "Jane", "Broker",
                                 UserRole.BROKER,
                                 "en");
                 broker.setId(brokerId);
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "John", "Client",
-                                UserRole.CLIENT,
-                                "en");
-                client.setId(clientId);
 
                 DocumentReviewRequestDTO reviewDTO = new DocumentReviewRequestDTO();
                 reviewDTO.setDecision(DocumentStatusEnum.NEEDS_REVISION);
@@ -593,38 +414,22 @@ class DocumentServiceImplTest {
 
                 when(repository.findByDocumentId(requestId)).thenReturn(Optional.of(request));
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
                 when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
                 when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
 
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenReturn("Localized Doc");
-                when(messageSource.getMessage(eq("notification.document.reviewed.title"), any(),
-                                any(java.util.Locale.class)))
-                                .thenReturn("Localized Title");
-                when(messageSource.getMessage(eq("notification.document.reviewed.needs_revision"), any(),
-                                any(java.util.Locale.class))).thenReturn("Localized Message");
-
                 DocumentResponseDTO result = service.reviewDocument(transactionId, requestId, reviewDTO,
                                 brokerId);
 
                 assertThat(result.getStatus()).isEqualTo(DocumentStatusEnum.NEEDS_REVISION);
                 assertThat(result.getBrokerNotes()).isEqualTo("Please update dates");
-                verify(emailService).sendDocumentStatusUpdatedNotification(any(Document.class),
-                                eq("client@test.com"),
-                                eq("John Client"),
-                                eq("Jane Broker"), eq("PAY_STUBS"), anyString(), anyString());
-                verify(notificationService).createNotification(
-                                eq(clientId.toString()),
-                                anyString(),
-                                anyString(),
-                                eq(transactionId.toString()),
-                                eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_REVISION));
+                // The email and in-app notification are delivered from the outbox
+                verify(domainEventPublisher).publish(eq(transactionId), eq(new DocumentReviewedEvent(
+                                transactionId, requestId, clientId, brokerId, DocumentTypeEnum.PAY_STUBS,
+                                null, true, DocumentStatusEnum.NEEDS_REVISION, "Please update dates")));
         }
 
         @Test
-        void reviewDocument_Rejected_SendsEmailAndNotification() {
+        void reviewDocument_Rejected_QueuesReviewEvent() {
                 UUID transactionId = UUID.randomUUID();
                 UUID requestId = UUID.randomUUID();
                 UUID brokerId = UUID.randomUUID();
@@ -646,10 +451,6 @@ class DocumentServiceImplTest {
                                 UserRole.BROKER,
                                 "en");
                 broker.setId(brokerId);
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "John", "Client",
-                                UserRole.CLIENT,
-                                "en");
-                client.setId(clientId);
 
                 DocumentReviewRequestDTO reviewDTO = new DocumentReviewRequestDTO();
                 reviewDTO.setDecision(DocumentStatusEnum.REJECTED);
@@ -657,33 +458,17 @@ class DocumentServiceImplTest {
 
                 when(repository.findByDocumentId(requestId)).thenReturn(Optional.of(request));
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
                 when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
                 when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
 
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenReturn("Localized Doc");
-                when(messageSource.getMessage(eq("notification.document.rejected.title"), any(),
-                                any(java.util.Locale.class)))
-                                .thenReturn("Localized Title");
-                when(messageSource.getMessage(eq("notification.document.rejected.message"), any(),
-                                any(java.util.Locale.class))).thenReturn("Localized Message");
-
                 DocumentResponseDTO result = service.reviewDocument(transactionId, requestId, reviewDTO,
                                 brokerId);
 
                 assertThat(result.getStatus()).isEqualTo(DocumentStatusEnum.REJECTED);
-                verify(emailService).sendDocumentStatusUpdatedNotification(any(Document.class),
-                                eq("client@test.com"),
-                                eq("John Client"),
-                                eq("Jane Broker"), anyString(), anyString(), anyString());
-                verify(notificationService).createNotification(
-                                eq(clientId.toString()),
-                                anyString(),
-                                anyString(),
-                                eq(transactionId.toString()),
-                                eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_REJECTED));
+                // The email and in-app notification are delivered from the outbox
+                verify(domainEventPublisher).publish(eq(transactionId), eq(new DocumentReviewedEvent(
+                                transactionId, requestId, clientId, brokerId, DocumentTypeEnum.BANK_STATEMENT,
+                                null, false, DocumentStatusEnum.REJECTED, "Document is blurry")));
         }
 
         // ========== getDocumentDownloadUrl Tests ==========
@@ -1021,7 +806,7 @@ class DocumentServiceImplTest {
         }
 
         @Test
-        void createDocumentRequest_WithMissingClient_SkipsNotification() {
+        void createDocumentRequest_Requested_PublishesRequestEventWithoutInAppNotice() {
                 // Arrange
                 UUID transactionId = UUID.randomUUID();
                 UUID brokerId = UUID.randomUUID();
@@ -1034,21 +819,17 @@ class DocumentServiceImplTest {
                 dto.setDocType(DocumentTypeEnum.BANK_STATEMENT);
 
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                // Client not found
-                when(userAccountRepository.findById(tx.getClientId())).thenReturn(Optional.empty());
-                // Broker found
-                when(userAccountRepository.findById(tx.getBrokerId())).thenReturn(Optional.of(new UserAccount()));
                 when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
 
                 // Act
                 service.createDocument(transactionId, dto, brokerId);
 
                 // Assert
-                verify(emailService, never()).sendDocumentRequestedNotification(anyString(), anyString(), anyString(),
-                                anyString(), anyString(), anyString(), anyString(), anyBoolean());
-                verify(notificationService, never()).createNotification(anyString(), anyString(), anyString(),
-                                anyString(),
-                                any());
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof DocumentRequestedEvent requested
+                                                && tx.getClientId().equals(requested.clientId())
+                                                && requested.docType() == DocumentTypeEnum.BANK_STATEMENT
+                                                && !requested.notifyInApp()));
         }
 
         @Test
@@ -1093,7 +874,7 @@ class DocumentServiceImplTest {
 
 
         @Test
-        void reviewDocument_WithMissingClient_SkipsNotification() {
+        void reviewDocument_WithoutClient_SkipsReviewEvent() {
                 UUID transactionId = UUID.randomUUID();
                 UUID requestId = UUID.randomUUID();
                 Document request = new Document();
@@ -1105,39 +886,20 @@ class DocumentServiceImplTest {
 
                 Transaction tx = new Transaction();
                 tx.setTransactionId(transactionId);
-                tx.setClientId(UUID.randomUUID());
                 tx.setBrokerId(UUID.randomUUID());
 
                 when(repository.findByDocumentId(requestId)).thenReturn(Optional.of(request));
                 lenient().when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                lenient().when(userAccountRepository.findById(tx.getClientId())).thenReturn(Optional.empty()); // Missing
-                                                                                                               // client
                 lenient().when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
 
                 DocumentReviewRequestDTO reviewDTO = new DocumentReviewRequestDTO();
                 reviewDTO.setDecision(DocumentStatusEnum.APPROVED);
                 service.reviewDocument(transactionId, requestId, reviewDTO, tx.getBrokerId());
 
-                verify(emailService, never()).sendDocumentStatusUpdatedNotification(any(), anyString(), anyString(),
-                                anyString(), anyString(), anyString(), anyString());
-                verify(notificationService, never()).createNotification(anyString(), anyString(), anyString(),
-                                anyString(),
-                                any());
+                verify(domainEventPublisher, never()).publish(any(), any());
         }
 
         // ========== Private Helper Tests ==========
-        @Test
-        void isFrench_ReturnsTrueForFrVariants() throws Exception {
-                var method = service.getClass().getDeclaredMethod("isFrench", String.class);
-                method.setAccessible(true);
-                assertThat((Boolean) method.invoke(service, "fr")).isTrue();
-                assertThat((Boolean) method.invoke(service, "FR")).isTrue();
-                assertThat((Boolean) method.invoke(service, "Fr")).isTrue();
-                assertThat((Boolean) method.invoke(service, "fR")).isTrue();
-                assertThat((Boolean) method.invoke(service, "en")).isFalse();
-                assertThat((Boolean) method.invoke(service, (Object) null)).isFalse();
-        }
-
         @Test
         void updateDocumentRequest_WhenNormalizedCandidateIsIdentical_ReturnsEarly() {
                 // Arrange
@@ -1180,65 +942,6 @@ class DocumentServiceImplTest {
                 // ...other asserts as needed...
         }
 
-        @Test
-        void createDocumentRequest_WithNotificationAndMessageSource_TriggersNotificationAndMessageSource() {
-                // Arrange
-                UUID transactionId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setClientId(clientId);
-                tx.setBrokerId(brokerId);
-
-                DocumentRequestDTO dto = new DocumentRequestDTO();
-                dto.setDocType(DocumentTypeEnum.BANK_STATEMENT);
-                dto.setCustomTitle("Bank Statement");
-
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "John", "Doe",
-                                UserRole.CLIENT, "en");
-                client.setId(clientId);
-                UserAccount broker = new UserAccount(brokerId.toString(), "broker@test.com", "Jane", "Smith",
-                                UserRole.BROKER, "en");
-                broker.setId(brokerId);
-
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenReturn("Localized Doc Type");
-
-                // Act
-                service.createDocument(transactionId, dto, brokerId);
-
-                // Assert
-                // Capture arguments to diagnose mismatch
-                org.mockito.ArgumentCaptor<String> captor = org.mockito.ArgumentCaptor.forClass(String.class);
-                verify(emailService).sendDocumentRequestedNotification(
-                                captor.capture(),
-                                captor.capture(),
-                                captor.capture(),
-                                captor.capture(),
-                                captor.capture(),
-                                captor.capture(),
-                                captor.capture(),
-                                anyBoolean());
-                java.util.List<String> args = captor.getAllValues();
-                org.junit.jupiter.api.Assertions.assertEquals("client@test.com", args.get(0));
-                org.junit.jupiter.api.Assertions.assertEquals("John Doe", args.get(1));
-                org.junit.jupiter.api.Assertions.assertEquals("Jane Smith", args.get(2));
-                org.junit.jupiter.api.Assertions.assertEquals("Bank Statement", args.get(3));
-                org.junit.jupiter.api.Assertions.assertEquals("BANK_STATEMENT", args.get(4));
-                org.junit.jupiter.api.Assertions.assertNull(args.get(5)); // brokerNotes should be null
-                org.junit.jupiter.api.Assertions.assertEquals("en", args.get(6));
-                verify(messageSource).getMessage(
-                                contains("document.type."),
-                                any(),
-                                anyString(),
-                                any(java.util.Locale.class));
-        }
-
         @Test
         void updateDocumentRequest_WhenDocTypeDiffers_ProceedsWithUpdate() {
                 UUID requestId = UUID.randomUUID();
@@ -1622,42 +1325,6 @@ class DocumentServiceImplTest {
                 verify(documentConditionLinkRepository, times(2)).save(any());
         }
 
-        @Test
-        void createDocumentRequest_WithNotificationException_LogsAndContinues() {
-                // Coverage for lines 177-178
-                UUID transactionId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setClientId(clientId);
-                tx.setBrokerId(brokerId);
-
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "John", "Doe",
-                                UserRole.CLIENT, "en");
-                client.setId(clientId);
-                UserAccount broker = new UserAccount(brokerId.toString(), "broker@test.com", "Jane", "Smith",
-                                UserRole.BROKER, "en");
-                broker.setId(brokerId);
-
-                DocumentRequestDTO dto = new DocumentRequestDTO();
-                dto.setDocType(DocumentTypeEnum.BANK_STATEMENT);
-
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenThrow(new RuntimeException("MessageSource error"));
-
-                // Act - should not throw
-                DocumentResponseDTO result = service.createDocument(transactionId, dto, brokerId);
-
-                // Assert
-                assertThat(result).isNotNull();
-        }
-
         @Test
         void updateDocumentRequest_WithFrenchLocale_UsesFrenchLocale() {
                 // Coverage for line 260
@@ -1695,14 +1362,11 @@ class DocumentServiceImplTest {
                 when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
                 when(messageSource.getMessage(anyString(), any(), anyString(), eq(java.util.Locale.FRENCH)))
                                 .thenReturn("Document");
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenReturn("Document");
 
                 service.updateDocument(requestId, dto, brokerId);
 
-                // Verify messageSource was called (indicating locale handling)
-                verify(messageSource, atLeast(1)).getMessage(anyString(), any(), anyString(),
-                                any(java.util.Locale.class));
+                // The timeline note names the document in the client's language
+                verify(messageSource).getMessage(anyString(), any(), anyString(), eq(java.util.Locale.FRENCH));
         }
 
         @Test
@@ -1776,55 +1440,6 @@ class DocumentServiceImplTest {
                                 .hasMessageContaining("Transaction not found");
         }
 
-        @Test
-        void submitDocument_WithFrenchBroker_UsesFrenchLocale() throws IOException {
-                // Coverage for lines 402, 409
-                UUID transactionId = UUID.randomUUID();
-                UUID requestId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setBrokerId(brokerId);
-                tx.setClientId(clientId);
-
-                Document request = new Document();
-                request.setDocumentId(requestId);
-                request.setTransactionRef(new TransactionRef(transactionId, clientId, TransactionSide.BUY_SIDE));
-                request.setStatus(DocumentStatusEnum.REQUESTED);
-                request.setDocType(DocumentTypeEnum.ID_VERIFICATION);
-                request.setVersions(new ArrayList<>());
-
-                UserAccount broker = new UserAccount(brokerId.toString(), "broker@test.com", "Marie", "Martin",
-                                UserRole.BROKER, "fr");
-                broker.setId(brokerId);
-
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "John", "Doe",
-                                UserRole.CLIENT, "en");
-                client.setId(clientId);
-
-                StorageObject storageObject = StorageObject.builder().s3Key("key").fileName("test.pdf").build();
-
-                when(repository.findByDocumentId(requestId)).thenReturn(Optional.of(request));
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(storageService.uploadFile(any(), eq(transactionId), eq(requestId))).thenReturn(storageObject);
-                when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenReturn("Test Message");
-
-                org.springframework.mock.web.MockMultipartFile file = new org.springframework.mock.web.MockMultipartFile(
-                                "file", "test.pdf", "application/pdf", "content".getBytes());
-
-                service.submitDocument(transactionId, requestId, file, clientId, UploadedByRefEnum.CLIENT);
-
-                // Verify French locale was used for broker notification
-                verify(messageSource, atLeast(1)).getMessage(anyString(), any(), anyString(),
-                                eq(java.util.Locale.FRENCH));
-        }
-
         @Test
         void reviewDocument_MismatchedTransaction_ThrowsBadRequest() {
                 // Coverage for lines 484, 487
@@ -1942,36 +1557,11 @@ class DocumentServiceImplTest {
         void getOutstandingDocumentSummary_ShouldReturnList() {
                 UUID brokerId = UUID.randomUUID();
                 UUID clientId = UUID.randomUUID();
-                UUID transactionId = UUID.randomUUID();
                 UUID requestId = UUID.randomUUID();
+                LocalDateTime dueDate = LocalDateTime.now().minusDays(5);
 
-                Document request = new Document();
-                request.setDocumentId(requestId);
-                request.setTransactionRef(new TransactionRef(transactionId, clientId, TransactionSide.BUY_SIDE));
-                request.setDocType(DocumentTypeEnum.PROOF_OF_FUNDS);
-                request.setStatus(DocumentStatusEnum.REQUESTED);
-                request.setCreatedAt(java.time.LocalDateTime.now().minusDays(10));
-                // Set due date to 5 days ago, so it is 5 days overdue
-                request.setDueDate(java.time.LocalDateTime.now().minusDays(5));
-
-                when(repository.findOutstandingDocumentsForBroker(eq(brokerId), any(java.time.LocalDateTime.class)))
-                                .thenReturn(List.of(request));
-
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setClientId(clientId);
-                tx.setBrokerId(brokerId);
-                tx.setPropertyAddress(new PropertyAddress("123 Main St", "City", "QC", "H1H1H1"));
-
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-
-                UserAccount client = new UserAccount();
-                client.setId(clientId);
-                client.setFirstName("John");
-                client.setLastName("Doe");
-                client.setEmail("john@example.com");
-
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+                when(repository.findOutstandingRowsForBroker(eq(brokerId), any(LocalDateTime.class)))
+                                .thenReturn(List.of(outstandingRow(requestId, clientId, dueDate, 5L, "John")));
 
                 List<OutstandingDocumentDTO> result = service.getOutstandingDocumentSummary(brokerId);
 
@@ -1979,14 +1569,101 @@ class DocumentServiceImplTest {
                 assertThat(result).hasSize(1);
                 assertThat(result.get(0).getId()).isEqualTo(requestId);
                 assertThat(result.get(0).getTitle()).isEqualTo("PROOF_OF_FUNDS");
-                assertThat(result.get(0).getTransactionAddress()).contains("123 Main St", "City", "QC", "H1H1H1");
+                assertThat(result.get(0).getTransactionAddress()).isEqualTo("123 Main St, City, QC, H1H1H1");
                 assertThat(result.get(0).getClientName()).isEqualTo("John Doe");
-                // Due date was 5 days ago, so it is 5 days outstanding
+                assertThat(result.get(0).getClientEmail()).isEqualTo("john@example.com");
+                assertThat(result.get(0).getDueDate()).isEqualTo(dueDate);
+                // Overdue days come from the query
                 assertThat(result.get(0).getDaysOutstanding()).isEqualTo(5);
+                // Address and client come from the same row, no per-document lookups
+                verifyNoInteractions(transactionRepository, userAccountRepository);
+        }
+
+        @Test
+        void getOutstandingDocumentSummary_WithMissingClientAndAddress_UsesPlaceholders() {
+                UUID brokerId = UUID.randomUUID();
+                OutstandingDocumentRow row = new OutstandingDocumentRow(UUID.randomUUID(), "Signed lease",
+                                DocumentTypeEnum.OTHER, DocumentStatusEnum.NEEDS_REVISION, LocalDateTime.now().minusDays(1),
+                                1L, null, " ", null, null, UUID.randomUUID(), null, null, null);
+                when(repository.findOutstandingRowsForBroker(eq(brokerId), any(LocalDateTime.class)))
+                                .thenReturn(List.of(row));
+
+                OutstandingDocumentDTO result = service.getOutstandingDocumentSummary(brokerId).get(0);
+
+                assertThat(result.getTitle()).isEqualTo("Signed lease");
+                assertThat(result.getTransactionAddress()).isEqualTo("No Address");
+                assertThat(result.getClientName()).isEqualTo("Unknown");
+                assertThat(result.getStatus()).isEqualTo("NEEDS_REVISION");
+        }
+
+        @Test
+        void getOutstandingDocumentSummary_Paged_MapsPage() {
+                UUID brokerId = UUID.randomUUID();
+                PageRequest pageable = PageRequest.of(1, 1);
+                OutstandingDocumentRow row = outstandingRow(UUID.randomUUID(), UUID.randomUUID(),
+                                LocalDateTime.now().minusDays(3), 3L, "John");
+                when(repository.findOutstandingRowsForBroker(eq(brokerId), any(LocalDateTime.class), eq(pageable)))
+                                .thenReturn(new PageImpl<>(List.of(row), pageable, 2));
+
+                Page<OutstandingDocumentDTO> result = service.getOutstandingDocumentSummary(brokerId, pageable);
+
+                assertThat(result.getTotalElements()).isEqualTo(2);
+                assertThat(result.getContent()).singleElement()
+                                .satisfies(dto -> assertThat(dto.getDaysOutstanding()).isEqualTo(3));
+        }
+
+        @Test
+        void getOutstandingDocumentsByClient_GroupsRowsOfThePage() {
+                UUID brokerId = UUID.randomUUID();
+                UUID johnId = UUID.randomUUID();
+                UUID janeId = UUID.randomUUID();
+                PageRequest pageable = PageRequest.of(0, 2);
+                LocalDateTime now = LocalDateTime.now();
+                when(repository.findOutstandingClientsForBroker(eq(brokerId), any(LocalDateTime.class), eq(pageable)))
+                                .thenReturn(new PageImpl<>(List.of(
+                                                new OutstandingClientSummary(johnId, 2L, now.minusDays(9)),
+                                                new OutstandingClientSummary(janeId, 1L, now.minusDays(2))),
+                                                pageable, 3));
+                when(repository.findOutstandingRowsForClients(eq(brokerId), any(LocalDateTime.class),
+                                eq(List.of(johnId, janeId))))
+                                .thenReturn(List.of(
+                                                outstandingRow(UUID.randomUUID(), johnId, now.minusDays(9), 9L, "John"),
+                                                outstandingRow(UUID.randomUUID(), janeId, now.minusDays(2), 2L, "Jane"),
+                                                outstandingRow(UUID.randomUUID(), johnId, now.minusDays(4), 4L, "John")));
+
+                Page<OutstandingClientGroupDTO> result = service.getOutstandingDocumentsByClient(brokerId, pageable);
+
+                assertThat(result.getTotalElements()).isEqualTo(3);
+                assertThat(result.getContent()).extracting(OutstandingClientGroupDTO::getClientId)
+                                .containsExactly(johnId, janeId);
+                OutstandingClientGroupDTO john = result.getContent().get(0);
+                assertThat(john.getClientName()).isEqualTo("John Doe");
+                assertThat(john.getDocumentCount()).isEqualTo(2);
+                assertThat(john.getMaxDaysOutstanding()).isEqualTo(9);
+                assertThat(john.getDocuments()).extracting(OutstandingDocumentDTO::getDaysOutstanding)
+                                .containsExactly(9, 4);
+        }
+
+        @Test
+        void getOutstandingDocumentsByClient_WithNoClients_SkipsDocumentQuery() {
+                UUID brokerId = UUID.randomUUID();
+                PageRequest pageable = PageRequest.of(0, 20);
+                when(repository.findOutstandingClientsForBroker(eq(brokerId), any(LocalDateTime.class), eq(pageable)))
+                                .thenReturn(Page.empty(pageable));
+
+                assertThat(service.getOutstandingDocumentsByClient(brokerId, pageable)).isEmpty();
+                verify(repository, never()).findOutstandingRowsForClients(any(), any(), any());
+        }
+
+        private static OutstandingDocumentRow outstandingRow(UUID documentId, UUID clientId, LocalDateTime dueDate,
+                        Long daysOutstanding, String firstName) {
+                return new OutstandingDocumentRow(documentId, null, DocumentTypeEnum.PROOF_OF_FUNDS,
+                                DocumentStatusEnum.REQUESTED, dueDate, daysOutstanding, "123 Main St", "City", "QC",
+                                "H1H1H1", clientId, firstName, "Doe", firstName.toLowerCase() + "@example.com");
         }
 
         @Test
-        void sendDocumentReminder_ShouldSendEmail() {
+        void sendDocumentReminder_ShouldPublishRequestEvent() {
                 UUID brokerId = UUID.randomUUID();
                 UUID clientId = UUID.randomUUID();
                 UUID transactionId = UUID.randomUUID();
@@ -2011,32 +1688,14 @@ class DocumentServiceImplTest {
                 when(participantRepository.findByTransactionId(transactionId))
                                 .thenReturn(java.util.Collections.emptyList());
 
-                UserAccount client = new UserAccount();
-                client.setId(clientId);
-                client.setFirstName("John");
-                client.setLastName("Doe");
-                client.setEmail("john@example.com");
-                client.setPreferredLanguage("en");
-
-                UserAccount broker = new UserAccount();
-                broker.setId(brokerId);
-                broker.setFirstName("Agent");
-                broker.setLastName("Smith");
-
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-
                 service.sendDocumentReminder(requestId, brokerId);
 
-                verify(emailService).sendDocumentRequestedNotification(
-                                eq("john@example.com"),
-                                eq("John Doe"),
-                                eq("Agent Smith"),
-                                anyString(),
-                                eq("PROOF_OF_FUNDS"),
-                                any(),
-                                eq("en"),
-                                anyBoolean());
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof DocumentRequestedEvent requested
+                                                && requestId.equals(requested.documentId())
+                                                && clientId.equals(requested.clientId())
+                                                && requested.docType() == DocumentTypeEnum.PROOF_OF_FUNDS
+                                                && !requested.notifyInApp()));
         }
 
         // ========== Draft Workflow Tests ==========
@@ -2075,18 +1734,13 @@ class DocumentServiceImplTest {
                 assertThat(result).isNotNull();
                 assertThat(result.getStatus()).isEqualTo(DocumentStatusEnum.DRAFT);
 
-                // Verify no email notifications sent
-                verify(emailService, never()).sendDocumentRequestedNotification(any(), any(), any(), any(), any(), any(), any(), anyBoolean());
-
-                // Verify no timeline entry added
+                // Verify no timeline entry added and nothing queued for the client
                 verify(timelineService, never()).addEntry(any(), any(), any(), any(), any());
-
-                // Verify no in-app notification sent
-                verify(notificationService, never()).createNotification(any(), any(), any(), any(), any());
+                verifyNoInteractions(domainEventPublisher);
         }
 
         @Test
-        void createDocument_WithRequestedStatus_SendsNotifications() {
+        void createDocument_WithRequestedStatus_QueuesRequestEvent() {
                 // Arrange
                 UUID transactionId = UUID.randomUUID();
                 UUID brokerId = UUID.randomUUID();
@@ -2103,27 +1757,14 @@ class DocumentServiceImplTest {
                 dto.setStage(StageEnum.BUYER_FINANCIAL_PREPARATION);
                 dto.setStatus(DocumentStatusEnum.REQUESTED);
 
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "John", "Doe",
-                                UserRole.CLIENT, "en");
-                client.setId(clientId);
-                UserAccount broker = new UserAccount(brokerId.toString(), "broker@test.com", "Jane", "Smith",
-                                UserRole.BROKER, "en");
-                broker.setId(brokerId);
-
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
                 when(participantRepository.findByTransactionId(transactionId))
                                 .thenReturn(java.util.Collections.emptyList());
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
                 when(repository.save(any(Document.class))).thenAnswer(inv -> {
                         Document saved = inv.getArgument(0);
                         saved.setDocumentId(UUID.randomUUID());
                         return saved;
                 });
-                lenient().when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenReturn("Localized Doc Type");
-                lenient().when(messageSource.getMessage(anyString(), any(), any(java.util.Locale.class)))
-                                .thenReturn("Notification Message");
 
                 // Act
                 DocumentResponseDTO result = service.createDocument(transactionId, dto, brokerId);
@@ -2132,8 +1773,8 @@ class DocumentServiceImplTest {
                 assertThat(result).isNotNull();
                 assertThat(result.getStatus()).isEqualTo(DocumentStatusEnum.REQUESTED);
 
-                // Verify email notification sent
-                verify(emailService, atLeastOnce()).sendDocumentRequestedNotification(any(), any(), any(), any(), any(), any(), any(), anyBoolean());
+                // Verify the request is queued for the client
+                verify(domainEventPublisher).publish(eq(transactionId), any(DocumentRequestedEvent.class));
 
                 // Verify timeline entry added
                 verify(timelineService, atLeastOnce()).addEntry(any(), any(), any(), any(), any());
@@ -2236,24 +1877,11 @@ class DocumentServiceImplTest {
                 draftDoc.setStatus(DocumentStatusEnum.DRAFT);
                 draftDoc.setVersions(new ArrayList<>());
 
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "John", "Doe",
-                                UserRole.CLIENT, "en");
-                client.setId(clientId);
-                UserAccount broker = new UserAccount(brokerId.toString(), "broker@test.com", "Jane", "Smith",
-                                UserRole.BROKER, "en");
-                broker.setId(brokerId);
-
                 when(repository.findByDocumentId(documentId)).thenReturn(Optional.of(draftDoc));
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
                 when(participantRepository.findByTransactionId(transactionId))
                                 .thenReturn(java.util.Collections.emptyList());
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
                 when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenReturn("Localized Doc Type");
-                when(messageSource.getMessage(anyString(), any(), any(java.util.Locale.class)))
-                                .thenReturn("Notification Message");
 
                 // Act
                 DocumentResponseDTO result = service.sendDocumentRequest(documentId, brokerId);
@@ -2262,27 +1890,15 @@ class DocumentServiceImplTest {
                 assertThat(result).isNotNull();
                 assertThat(result.getStatus()).isEqualTo(DocumentStatusEnum.REQUESTED);
 
-                // Verify email notification sent
-                verify(emailService).sendDocumentRequestedNotification(
-                                eq("client@test.com"),
-                                eq("John Doe"),
-                                eq("Jane Smith"),
-                                anyString(),
-                                eq("PROOF_OF_FUNDS"),
-                                any(),
-                                eq("en"),
-                                anyBoolean());
-
                 // Verify timeline entry added
                 verify(timelineService).addEntry(eq(transactionId), eq(brokerId), any(), any(), any());
 
-                // Verify in-app notification sent
-                verify(notificationService).createNotification(
-                                eq(clientId.toString()),
-                                anyString(),
-                                anyString(),
-                                eq(transactionId.toString()),
-                                eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_REQUEST));
+                // Verify the request is queued for email and in-app delivery
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof DocumentRequestedEvent requested
+                                                && documentId.equals(requested.documentId())
+                                                && clientId.equals(requested.clientId())
+                                                && requested.notifyInApp()));
         }
 
         @Test
@@ -2330,7 +1946,7 @@ class DocumentServiceImplTest {
                                 .hasMessageContaining("Document not found");
         }
         @Test
-        void submitDocument_WhenUploadedByBroker_NotifiesClient() throws IOException {
+        void submitDocument_WhenUploadedByBroker_QueuesSubmittedEvent() throws IOException {
                 // Arrange
                 UUID transactionId = UUID.randomUUID();
                 UUID requestId = UUID.randomUUID();
@@ -2350,13 +1966,6 @@ class DocumentServiceImplTest {
                 request.setStatus(DocumentStatusEnum.REQUESTED);
                 request.setVersions(new ArrayList<>());
 
-                UserAccount broker = new UserAccount(brokerId.toString(), "broker@test.com", "Jane", "Smith",
-                                UserRole.BROKER, "en");
-                broker.setId(brokerId);
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "John", "Doe",
-                                UserRole.CLIENT, "en");
-                client.setId(clientId);
-
                 MockMultipartFile file = new MockMultipartFile("file", "paystub.pdf", "application/pdf",
                                 "content".getBytes());
                 StorageObject storageObject = StorageObject.builder().s3Key("key").fileName("test.pdf").build();
@@ -2364,20 +1973,8 @@ class DocumentServiceImplTest {
                 when(repository.findByDocumentId(requestId)).thenReturn(Optional.of(request));
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
                 when(storageService.uploadFile(any(), eq(transactionId), eq(requestId))).thenReturn(storageObject);
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
                 when(repository.save(any(Document.class))).thenAnswer(inv -> inv.getArgument(0));
 
-                // Mock message prompts
-                when(messageSource.getMessage(eq("notification.document.submitted.title"), any(),
-                                any(java.util.Locale.class)))
-                                .thenReturn("Document Submitted");
-                when(messageSource.getMessage(eq("notification.document.submitted.message"), any(),
-                                any(java.util.Locale.class)))
-                                .thenReturn("Jane Smith submitted document: Pay Stub");
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenReturn("Localized Doc Type");
-
                 // Act
                 // Broker uploads document
                 DocumentResponseDTO result = service.submitDocument(transactionId, requestId, file, brokerId,
@@ -2387,23 +1984,10 @@ class DocumentServiceImplTest {
                 assertThat(result).isNotNull();
                 assertThat(result.getStatus()).isEqualTo(DocumentStatusEnum.SUBMITTED);
 
-                // Verify Email sent to CLIENT
-                verify(emailService).sendDocumentSubmittedNotification(
-                                any(),
-                                eq("client@test.com"), // Expected recipient: client
-                                eq("John Doe"), // Expected name greeting: client name
-                                eq("Pay Stub"), // Doc name
-                                anyString(),
-                                eq("en") // Client language
-                );
-
-                // Verify In-App Notification created for CLIENT
-                verify(notificationService).createNotification(
-                                eq(client.getId().toString()), // Expected recipient ID: client
-                                anyString(),
-                                eq("Jane Smith submitted document: Pay Stub"), // Expected message with Broker Name
-                                eq(transactionId.toString()),
-                                eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.DOCUMENT_SUBMITTED));
+                // The handlers route a broker upload to the client
+                verify(domainEventPublisher).publish(eq(transactionId), eq(new DocumentSubmittedEvent(
+                                transactionId, requestId, clientId, brokerId, brokerId, UploadedByRefEnum.BROKER,
+                                DocumentTypeEnum.PAY_STUBS, "Pay Stub")));
         }
 
         @Test
@@ -2429,19 +2013,9 @@ class DocumentServiceImplTest {
                 document.setStatus(DocumentStatusEnum.DRAFT);
                 document.setFlow(DocumentFlowEnum.UPLOAD);
 
-                UserAccount broker = new UserAccount(brokerId.toString(), "broker@test.com", "Broker", "User",
-                                UserRole.BROKER, "en");
-                broker.setId(brokerId);
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "Client", "User",
-                                UserRole.CLIENT, "en");
-                client.setId(clientId);
-
                 when(repository.findByDocumentId(documentId)).thenReturn(Optional.of(document));
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
                 when(repository.save(any(Document.class))).thenAnswer(i -> i.getArguments()[0]);
-                when(messageSource.getMessage(any(), any(), any(), any())).thenReturn("Message");
 
                 // Act
                 DocumentResponseDTO result = service.shareDocumentWithClient(documentId, brokerId);
@@ -2451,22 +2025,9 @@ class DocumentServiceImplTest {
                 assertThat(result.getStatus()).isEqualTo(DocumentStatusEnum.SUBMITTED);
                 assertThat(result.isVisibleToClient()).isTrue();
 
-                // Verify Email Sent
-                verify(emailService).sendDocumentSubmittedNotification(
-                                eq(document),
-                                eq("client@test.com"),
-                                eq("Broker User"),
-                                eq("Draft Doc"),
-                                eq("OTHER"),
-                                eq("en"));
-
-                // Verify In-App Notification
-                verify(notificationService).createNotification(
-                                eq(clientId.toString()),
-                                anyString(),
-                                anyString(),
-                                eq(transactionId.toString()),
-                                any());
+                // Verify the share is queued for the client
+                verify(domainEventPublisher).publish(eq(transactionId), eq(new DocumentSharedEvent(
+                                transactionId, documentId, clientId, brokerId, DocumentTypeEnum.OTHER, "Draft Doc")));
         }
         
         // ========== EXTRA TESTS for Fixes ==========
@@ -2636,48 +2197,6 @@ class DocumentServiceImplTest {
                 assertThat(result.getBrokerNotes()).isEqualTo("New Notes");
         }
 
-        @Test
-        void shareDocumentWithClient_WhenNotificationLocalizationFails_StillSucceeds() {
-                UUID transactionId = UUID.randomUUID();
-                UUID documentId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setBrokerId(brokerId);
-                tx.setClientId(clientId);
-
-                Document document = new Document();
-                document.setDocumentId(documentId);
-                document.setTransactionRef(new TransactionRef(transactionId, clientId, TransactionSide.BUY_SIDE));
-                document.setDocType(DocumentTypeEnum.OTHER);
-                document.setCustomTitle("Draft Doc");
-                document.setStatus(DocumentStatusEnum.DRAFT);
-                document.setFlow(DocumentFlowEnum.UPLOAD);
-
-                UserAccount broker = new UserAccount(brokerId.toString(), "broker@test.com", "Broker", "User",
-                                UserRole.BROKER, "en");
-                broker.setId(brokerId);
-                UserAccount client = new UserAccount(clientId.toString(), "client@test.com", "Client", "User",
-                                UserRole.CLIENT, "en");
-                client.setId(clientId);
-
-                when(repository.findByDocumentId(documentId)).thenReturn(Optional.of(document));
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(repository.save(any(Document.class))).thenAnswer(i -> i.getArguments()[0]);
-                when(messageSource.getMessage(anyString(), any(), anyString(), any(java.util.Locale.class)))
-                                .thenThrow(new RuntimeException("i18n failure"));
-
-                DocumentResponseDTO result = service.shareDocumentWithClient(documentId, brokerId);
-
-                assertThat(result.getStatus()).isEqualTo(DocumentStatusEnum.SUBMITTED);
-                verify(emailService).sendDocumentSubmittedNotification(any(Document.class), anyString(), anyString(),
-                                anyString(), anyString(), anyString());
-        }
-
         @Test
         void getStageChecklist_WhenTransactionNotFound_ThrowsNotFound() {
                 UUID transactionId = UUID.randomUUID();
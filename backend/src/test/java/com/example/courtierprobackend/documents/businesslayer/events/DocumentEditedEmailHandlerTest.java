@@ -0,0 +1,69 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentEditedEmailHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private DocumentEditedEmailHandler handler;
+
+    @Test
+    void handle_withoutCustomTitle_namesDocumentInClientLanguage() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setEmail("client@test.com");
+        client.setFirstName("Jean");
+        client.setLastName("Dupont");
+        client.setPreferredLanguage("fr");
+        UserAccount broker = new UserAccount();
+        broker.setFirstName("Marie");
+        broker.setLastName("Martin");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+        when(messageSource.getMessage("document.type.PAY_STUBS", null, "PAY_STUBS", Locale.FRENCH))
+                .thenReturn("Talons de paie");
+
+        handler.handle(new DocumentEditedEvent(UUID.randomUUID(), UUID.randomUUID(), clientId, brokerId,
+                DocumentTypeEnum.PAY_STUBS, null));
+
+        verify(emailService).sendDocumentEditedNotification("client@test.com", "Jean Dupont", "Marie Martin",
+                "Talons de paie", "PAY_STUBS", "fr");
+    }
+
+    @Test
+    void handle_missingBrokerAccount_skipsEmail() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(new UserAccount()));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.empty());
+
+        handler.handle(new DocumentEditedEvent(UUID.randomUUID(), UUID.randomUUID(), clientId, brokerId,
+                DocumentTypeEnum.PAY_STUBS, "Title"));
+
+        verifyNoInteractions(emailService);
+    }
+}
@@ -0,0 +1,60 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentEditedNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private DocumentEditedNotificationHandler handler;
+
+    @Test
+    void handle_notifiesClientWithCustomTitle() {
+        UUID transactionId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setId(clientId);
+        client.setPreferredLanguage("en");
+        UserAccount broker = new UserAccount();
+        broker.setFirstName("Jane");
+        broker.setLastName("Smith");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+        when(messageSource.getMessage(eq("notification.document.edited.title"), isNull(), eq(Locale.ENGLISH)))
+                .thenReturn("Title");
+        when(messageSource.getMessage(eq("notification.document.edited.message"),
+                aryEq(new Object[] { "Jane Smith", "Pay Stub" }), eq(Locale.ENGLISH))).thenReturn("Message");
+
+        handler.handle(new DocumentEditedEvent(transactionId, UUID.randomUUID(), clientId, brokerId,
+                DocumentTypeEnum.PAY_STUBS, "Pay Stub"));
+
+        verify(notificationService).createNotification(clientId.toString(), "Title", "Message",
+                transactionId.toString(), NotificationCategory.DOCUMENT_REQUEST);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.SkippedEventException;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentReminderDigestHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private DocumentReminderDigestHandler handler;
+
+    private UUID clientId;
+    private UUID brokerId;
+    private DocumentReminderDigestEvent event;
+
+    @BeforeEach
+    void setUp() {
+        clientId = UUID.randomUUID();
+        brokerId = UUID.randomUUID();
+        event = new DocumentReminderDigestEvent(UUID.randomUUID(), brokerId, clientId, "Client User",
+                List.of(new DocumentReminderDigestEvent.Item(UUID.randomUUID(), null, "PAY_STUBS",
+                        LocalDate.of(2025, 3, 1), 4, "123 Rue Test")));
+    }
+
+    @Test
+    void handle_sendsOneDigestInClientLanguage() throws Exception {
+        stubUsers(true);
+        when(emailService.sendDocumentReminderDigest(anyString(), anyString(), anyString(), anyList(), anyString()))
+                .thenReturn(true);
+
+        handler.handle(event);
+
+        verify(emailService).sendDocumentReminderDigest("client@example.com", "Client User", "Courtier Pro",
+                event.documents(), "fr");
+    }
+
+    @Test
+    void handle_providerRejects_throwsSoOutboxRetries() throws Exception {
+        stubUsers(true);
+        when(emailService.sendDocumentReminderDigest(anyString(), anyString(), anyString(), anyList(), anyString()))
+                .thenReturn(false);
+
+        assertThatThrownBy(() -> handler.handle(event)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void handle_clientOptedOut_recordsSkip() {
+        UserAccount client = client(false);
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+
+        assertThatThrownBy(() -> handler.handle(event))
+                .isInstanceOf(SkippedEventException.class)
+                .hasMessage("Client has disabled email notifications");
+
+        verifyNoInteractions(emailService);
+    }
+
+    @Test
+    void handle_clientMissing_recordsSkip() {
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> handler.handle(event))
+                .isInstanceOf(SkippedEventException.class)
+                .hasMessage("Client has no email address");
+
+        verifyNoInteractions(emailService);
+        verify(userAccountRepository, never()).findById(brokerId);
+    }
+
+    private void stubUsers(boolean emailEnabled) {
+        UserAccount broker = new UserAccount();
+        broker.setId(brokerId);
+        broker.setFirstName("Courtier");
+        broker.setLastName("Pro");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client(emailEnabled)));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+    }
+
+    private UserAccount client(boolean emailEnabled) {
+        UserAccount client = new UserAccount();
+        client.setId(clientId);
+        client.setFirstName("Client");
+        client.setLastName("User");
+        client.setEmail("client@example.com");
+        client.setPreferredLanguage("fr");
+        client.setEmailNotificationsEnabled(emailEnabled);
+        return client;
+    }
+}
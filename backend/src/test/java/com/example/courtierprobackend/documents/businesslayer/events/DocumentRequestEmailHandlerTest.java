@@ -0,0 +1,63 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentRequestEmailHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private DocumentRequestEmailHandler handler;
+
+    @Test
+    void handle_emailsClientTheRequest() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setEmail("client@test.com");
+        client.setFirstName("John");
+        client.setLastName("Doe");
+        client.setPreferredLanguage("en");
+        UserAccount broker = new UserAccount();
+        broker.setFirstName("Jane");
+        broker.setLastName("Smith");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+
+        handler.handle(new DocumentRequestedEvent(UUID.randomUUID(), UUID.randomUUID(), clientId, brokerId,
+                DocumentTypeEnum.PROOF_OF_FUNDS, null, "Latest statement please", true, false));
+
+        verify(emailService).sendDocumentRequestedNotification("client@test.com", "John Doe", "Jane Smith",
+                "PROOF_OF_FUNDS", "PROOF_OF_FUNDS", "Latest statement please", "en", true);
+    }
+
+    @Test
+    void handle_missingClientAccount_skipsEmail() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.empty());
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(new UserAccount()));
+
+        handler.handle(new DocumentRequestedEvent(UUID.randomUUID(), UUID.randomUUID(), clientId, brokerId,
+                DocumentTypeEnum.PROOF_OF_FUNDS, null, null, false, true));
+
+        verifyNoInteractions(emailService);
+    }
+}
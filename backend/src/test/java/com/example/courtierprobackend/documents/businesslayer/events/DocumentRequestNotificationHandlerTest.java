@@ -0,0 +1,70 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentRequestNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private DocumentRequestNotificationHandler handler;
+
+    @Test
+    void handle_signatureRequest_usesSignatureKeysInClientLanguage() {
+        UUID transactionId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setId(clientId);
+        client.setPreferredLanguage("fr");
+        UserAccount broker = new UserAccount();
+        broker.setFirstName("Jane");
+        broker.setLastName("Smith");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+        when(messageSource.getMessage("document.type.PROOF_OF_FUNDS", null, "PROOF_OF_FUNDS", Locale.FRENCH))
+                .thenReturn("Preuve de fonds");
+        when(messageSource.getMessage(eq("notification.document.signature.requested.title"), isNull(),
+                eq(Locale.FRENCH))).thenReturn("Titre");
+        when(messageSource.getMessage(eq("notification.document.signature.requested.message"),
+                aryEq(new Object[] { "Jane Smith", "Preuve de fonds" }), eq(Locale.FRENCH))).thenReturn("Message");
+
+        handler.handle(new DocumentRequestedEvent(transactionId, UUID.randomUUID(), clientId, brokerId,
+                DocumentTypeEnum.PROOF_OF_FUNDS, null, null, true, true));
+
+        verify(notificationService).createNotification(clientId.toString(), "Titre", "Message",
+                transactionId.toString(), NotificationCategory.DOCUMENT_REQUEST);
+    }
+
+    @Test
+    void handle_emailOnlyRequest_skipsNotification() {
+        handler.handle(new DocumentRequestedEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(),
+                UUID.randomUUID(), DocumentTypeEnum.PROOF_OF_FUNDS, null, null, false, false));
+
+        verifyNoInteractions(notificationService, userAccountRepository, messageSource);
+    }
+}
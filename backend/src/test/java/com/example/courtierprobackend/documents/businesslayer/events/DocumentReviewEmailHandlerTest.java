@@ -0,0 +1,73 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.Document;
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentStatusEnum;
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentReviewEmailHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private DocumentReviewEmailHandler handler;
+
+    @Test
+    void handle_emailsTheReviewAsDecided() {
+        UUID transactionId = UUID.randomUUID();
+        UUID documentId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setEmail("client@test.com");
+        client.setFirstName("John");
+        client.setLastName("Client");
+        UserAccount broker = new UserAccount();
+        broker.setFirstName("Jane");
+        broker.setLastName("Broker");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+
+        handler.handle(new DocumentReviewedEvent(transactionId, documentId, clientId, brokerId,
+                DocumentTypeEnum.BANK_STATEMENT, null, false, DocumentStatusEnum.NEEDS_REVISION,
+                "Please update dates"));
+
+        ArgumentCaptor<Document> reviewed = ArgumentCaptor.forClass(Document.class);
+        verify(emailService).sendDocumentStatusUpdatedNotification(reviewed.capture(), eq("client@test.com"),
+                eq("John Client"), eq("Jane Broker"), eq("BANK_STATEMENT"), eq("BANK_STATEMENT"), eq("en"));
+        assertThat(reviewed.getValue().getStatus()).isEqualTo(DocumentStatusEnum.NEEDS_REVISION);
+        assertThat(reviewed.getValue().getBrokerNotes()).isEqualTo("Please update dates");
+        assertThat(reviewed.getValue().getTransactionRef().getTransactionId()).isEqualTo(transactionId);
+    }
+
+    @Test
+    void handle_missingClientAccount_skipsEmail() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.empty());
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(new UserAccount()));
+
+        handler.handle(new DocumentReviewedEvent(UUID.randomUUID(), UUID.randomUUID(), clientId, brokerId,
+                DocumentTypeEnum.BANK_STATEMENT, null, false, DocumentStatusEnum.APPROVED, null));
+
+        verifyNoInteractions(emailService);
+    }
+}
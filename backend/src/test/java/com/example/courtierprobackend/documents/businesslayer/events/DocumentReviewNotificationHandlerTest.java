@@ -0,0 +1,130 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentStatusEnum;
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentReviewNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private DocumentReviewNotificationHandler handler;
+
+    private UUID transactionId;
+    private UUID clientId;
+    private UUID brokerId;
+
+    @BeforeEach
+    void setUp() {
+        transactionId = UUID.randomUUID();
+        clientId = UUID.randomUUID();
+        brokerId = UUID.randomUUID();
+    }
+
+    private void givenAccounts() {
+        UserAccount client = new UserAccount();
+        client.setId(clientId);
+        client.setPreferredLanguage("fr");
+        UserAccount broker = new UserAccount();
+        broker.setId(brokerId);
+        broker.setFirstName("Jane");
+        broker.setLastName("Broker");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+    }
+
+    private DocumentReviewedEvent event(DocumentStatusEnum decision, boolean requiresSignature) {
+        return new DocumentReviewedEvent(transactionId, UUID.randomUUID(), clientId, brokerId,
+                DocumentTypeEnum.PAY_STUBS, null, requiresSignature, decision, "Please update dates");
+    }
+
+    @Test
+    void handle_approved_createsLocalizedNotification() {
+        givenAccounts();
+        when(messageSource.getMessage("document.type.PAY_STUBS", null, "PAY_STUBS", Locale.FRENCH))
+                .thenReturn("Talons de paie");
+        when(messageSource.getMessage(eq("notification.document.reviewed.title"),
+                aryEq(new Object[] { "Talons de paie" }), eq(Locale.FRENCH))).thenReturn("Titre");
+        when(messageSource.getMessage(eq("notification.document.reviewed.approved"),
+                aryEq(new Object[] { "Talons de paie" }), eq(Locale.FRENCH))).thenReturn("Message");
+
+        handler.handle(event(DocumentStatusEnum.APPROVED, false));
+
+        verify(notificationService).createNotification(clientId.toString(), "Titre", "Message",
+                transactionId.toString(), NotificationCategory.DOCUMENT_APPROVED);
+    }
+
+    @Test
+    void handle_signatureNeedsRevision_usesSignatureMessage() {
+        givenAccounts();
+        when(messageSource.getMessage(anyString(), isNull(), anyString(), any(Locale.class)))
+                .thenReturn("Talons de paie");
+        when(messageSource.getMessage(eq("notification.document.reviewed.title"), any(), any(Locale.class)))
+                .thenReturn("Titre");
+        when(messageSource.getMessage(eq("notification.document.signature.needs_revision"), any(),
+                any(Locale.class))).thenReturn("Message");
+
+        handler.handle(event(DocumentStatusEnum.NEEDS_REVISION, true));
+
+        verify(notificationService).createNotification(clientId.toString(), "Titre", "Message",
+                transactionId.toString(), NotificationCategory.DOCUMENT_REVISION);
+    }
+
+    @Test
+    void handle_rejected_namesTheBroker() {
+        givenAccounts();
+        when(messageSource.getMessage(anyString(), isNull(), anyString(), any(Locale.class)))
+                .thenReturn("Talons de paie");
+        when(messageSource.getMessage(eq("notification.document.rejected.title"), any(), any(Locale.class)))
+                .thenReturn("Titre");
+        when(messageSource.getMessage(eq("notification.document.rejected.message"),
+                aryEq(new Object[] { "Talons de paie", "Jane Broker" }), any(Locale.class))).thenReturn("Message");
+
+        handler.handle(event(DocumentStatusEnum.REJECTED, false));
+
+        verify(notificationService).createNotification(clientId.toString(), "Titre", "Message",
+                transactionId.toString(), NotificationCategory.DOCUMENT_REJECTED);
+    }
+
+    @Test
+    void handle_otherDecision_doesNothing() {
+        handler.handle(event(DocumentStatusEnum.SUBMITTED, false));
+
+        verifyNoInteractions(notificationService, userAccountRepository, messageSource);
+    }
+
+    @Test
+    void handle_missingClientAccount_skipsNotification() {
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.empty());
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.empty());
+
+        handler.handle(event(DocumentStatusEnum.APPROVED, false));
+
+        verifyNoInteractions(notificationService, messageSource);
+    }
+}
@@ -0,0 +1,56 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.Document;
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentSharedEmailHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private DocumentSharedEmailHandler handler;
+
+    @Test
+    void handle_emailsClientTheSharedDocument() {
+        UUID transactionId = UUID.randomUUID();
+        UUID documentId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setEmail("client@test.com");
+        client.setPreferredLanguage("en");
+        UserAccount broker = new UserAccount();
+        broker.setFirstName("Broker");
+        broker.setLastName("User");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+
+        handler.handle(new DocumentSharedEvent(transactionId, documentId, clientId, brokerId,
+                DocumentTypeEnum.OTHER, "Draft Doc"));
+
+        ArgumentCaptor<Document> shared = ArgumentCaptor.forClass(Document.class);
+        verify(emailService).sendDocumentSubmittedNotification(shared.capture(), eq("client@test.com"),
+                eq("Broker User"), eq("Draft Doc"), eq("OTHER"), eq("en"));
+        assertThat(shared.getValue().getDocumentId()).isEqualTo(documentId);
+        assertThat(shared.getValue().getTransactionRef().getTransactionId()).isEqualTo(transactionId);
+    }
+}
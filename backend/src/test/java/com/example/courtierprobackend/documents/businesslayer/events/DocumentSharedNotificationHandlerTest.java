@@ -0,0 +1,61 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentSharedNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private DocumentSharedNotificationHandler handler;
+
+    @Test
+    void handle_notifiesClientWithFallbackWording() {
+        UUID transactionId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setId(clientId);
+        UserAccount broker = new UserAccount();
+        broker.setFirstName("Broker");
+        broker.setLastName("User");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+        when(messageSource.getMessage(eq("notification.document.shared.title"), isNull(), eq("Document Shared"),
+                eq(Locale.ENGLISH))).thenReturn("Document Shared");
+        when(messageSource.getMessage(eq("notification.document.shared.message"),
+                aryEq(new Object[] { "Broker User", "Draft Doc" }), eq("Broker User shared a document: Draft Doc"),
+                eq(Locale.ENGLISH))).thenReturn("Broker User shared a document: Draft Doc");
+
+        handler.handle(new DocumentSharedEvent(transactionId, UUID.randomUUID(), clientId, brokerId,
+                DocumentTypeEnum.OTHER, "Draft Doc"));
+
+        verify(notificationService).createNotification(clientId.toString(), "Document Shared",
+                "Broker User shared a document: Draft Doc", transactionId.toString(),
+                NotificationCategory.DOCUMENT_SUBMITTED);
+    }
+}
@@ -0,0 +1,83 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.Document;
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.documents.datalayer.enums.UploadedByRefEnum;
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentSubmittedEmailHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private DocumentSubmittedEmailHandler handler;
+
+    @Test
+    void handle_clientUpload_emailsBrokerWithUploaderName() {
+        UUID transactionId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount broker = new UserAccount();
+        broker.setEmail("broker@test.com");
+        UserAccount client = new UserAccount();
+        client.setFirstName("John");
+        client.setLastName("Doe");
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+
+        handler.handle(new DocumentSubmittedEvent(transactionId, UUID.randomUUID(), clientId, brokerId, clientId,
+                UploadedByRefEnum.CLIENT, DocumentTypeEnum.PAY_STUBS, "Pay Stub"));
+
+        ArgumentCaptor<Document> submitted = ArgumentCaptor.forClass(Document.class);
+        verify(emailService).sendDocumentSubmittedNotification(submitted.capture(), eq("broker@test.com"),
+                eq("John Doe"), eq("Pay Stub"), eq("PAY_STUBS"), eq("en"));
+        assertThat(submitted.getValue().getTransactionRef().getTransactionId()).isEqualTo(transactionId);
+    }
+
+    @Test
+    void handle_brokerUpload_emailsClient() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setEmail("client@test.com");
+        client.setFirstName("John");
+        client.setLastName("Doe");
+        client.setPreferredLanguage("fr");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+
+        handler.handle(new DocumentSubmittedEvent(UUID.randomUUID(), UUID.randomUUID(), clientId, brokerId, brokerId,
+                UploadedByRefEnum.BROKER, DocumentTypeEnum.PAY_STUBS, null));
+
+        verify(emailService).sendDocumentSubmittedNotification(any(Document.class), eq("client@test.com"),
+                eq("John Doe"), eq("PAY_STUBS"), eq("PAY_STUBS"), eq("fr"));
+    }
+
+    @Test
+    void handle_missingRecipientAccount_skipsEmail() {
+        UUID brokerId = UUID.randomUUID();
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.empty());
+
+        handler.handle(new DocumentSubmittedEvent(UUID.randomUUID(), UUID.randomUUID(), UUID.randomUUID(), brokerId,
+                null, UploadedByRefEnum.CLIENT, DocumentTypeEnum.PAY_STUBS, null));
+
+        verifyNoInteractions(emailService);
+    }
+}
@@ -0,0 +1,94 @@
+package com.example.courtierprobackend.documents.businesslayer.events;
+
+import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
+import com.example.courtierprobackend.documents.datalayer.enums.UploadedByRefEnum;
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+
+import java.util.Locale;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.AdditionalMatchers.aryEq;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentSubmittedNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+    @Mock
+    private MessageSource messageSource;
+
+    @InjectMocks
+    private DocumentSubmittedNotificationHandler handler;
+
+    private UUID transactionId;
+    private UUID clientId;
+    private UUID brokerId;
+    private UserAccount client;
+    private UserAccount broker;
+
+    @BeforeEach
+    void setUp() {
+        transactionId = UUID.randomUUID();
+        clientId = UUID.randomUUID();
+        brokerId = UUID.randomUUID();
+        client = new UserAccount();
+        client.setId(clientId);
+        client.setFirstName("John");
+        client.setLastName("Doe");
+        client.setPreferredLanguage("en");
+        broker = new UserAccount();
+        broker.setId(brokerId);
+        broker.setFirstName("Marie");
+        broker.setLastName("Martin");
+        broker.setPreferredLanguage("fr");
+    }
+
+    @Test
+    void handle_brokerUpload_notifiesClientWithBrokerName() {
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+        when(messageSource.getMessage(eq("notification.document.submitted.title"), isNull(), eq(Locale.ENGLISH)))
+                .thenReturn("Title");
+        when(messageSource.getMessage(eq("notification.document.submitted.message"),
+                aryEq(new Object[] { "Marie Martin", "Pay Stub" }), eq(Locale.ENGLISH))).thenReturn("Message");
+
+        handler.handle(new DocumentSubmittedEvent(transactionId, UUID.randomUUID(), clientId, brokerId, brokerId,
+                UploadedByRefEnum.BROKER, DocumentTypeEnum.PAY_STUBS, "Pay Stub"));
+
+        verify(notificationService).createNotification(clientId.toString(), "Title", "Message",
+                transactionId.toString(), NotificationCategory.DOCUMENT_SUBMITTED);
+    }
+
+    @Test
+    void handle_clientUpload_notifiesBrokerInBrokerLanguage() {
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(messageSource.getMessage("document.type.PAY_STUBS", null, "PAY_STUBS", Locale.FRENCH))
+                .thenReturn("Talons de paie");
+        when(messageSource.getMessage(eq("notification.document.submitted.title"), isNull(), eq(Locale.FRENCH)))
+                .thenReturn("Titre");
+        when(messageSource.getMessage(eq("notification.document.submitted.message"),
+                aryEq(new Object[] { "John Doe", "Talons de paie" }), eq(Locale.FRENCH))).thenReturn("Message");
+
+        handler.handle(new DocumentSubmittedEvent(transactionId, UUID.randomUUID(), clientId, brokerId, clientId,
+                UploadedByRefEnum.CLIENT, DocumentTypeEnum.PAY_STUBS, null));
+
+        verify(notificationService).createNotification(brokerId.toString(), "Titre", "Message",
+                transactionId.toString(), NotificationCategory.DOCUMENT_SUBMITTED);
+    }
+}
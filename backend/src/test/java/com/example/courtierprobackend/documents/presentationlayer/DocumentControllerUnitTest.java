@@ -8,6 +8,8 @@ import com.example.courtierprobackend.documents.presentationlayer.models.Documen
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReviewRequestDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.StageChecklistResponseDTO;
 import com.example.courtierprobackend.security.UserContextFilter;
+import com.example.courtierprobackend.transactions.businesslayer.TransactionAccessContext;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -57,7 +59,9 @@ class DocumentControllerUnitTest {
 
                 DocumentResponseDTO doc = DocumentResponseDTO.builder().documentId(UUID.randomUUID())
                                 .build();
-                when(service.getDocumentsForTransaction(txId, internalId)).thenReturn(List.of(doc));
+                TransactionAccessContext access = accessTo(txId, internalId);
+                when(service.resolveDocumentAccess(txId, internalId)).thenReturn(access);
+                when(service.getDocumentsForTransaction(access)).thenReturn(List.of(doc));
 
                 // Act
                 ResponseEntity<List<DocumentResponseDTO>> response = controller.getDocuments(txId, null, null,
@@ -66,7 +70,8 @@ class DocumentControllerUnitTest {
                 // Assert
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
                 assertThat(response.getBody()).hasSize(1);
-                verify(service).getDocumentsForTransaction(txId, internalId);
+                assertThat(response.getHeaders().getETag()).isNotNull();
+                verify(service).getDocumentsForTransaction(access);
         }
 
         @Test
@@ -79,7 +84,9 @@ class DocumentControllerUnitTest {
 
                 DocumentResponseDTO doc = DocumentResponseDTO.builder().documentId(UUID.randomUUID())
                                 .build();
-                when(service.getDocumentsForTransaction(txId, headerUuid)).thenReturn(List.of(doc));
+                TransactionAccessContext access = accessTo(txId, headerUuid);
+                when(service.resolveDocumentAccess(txId, headerUuid)).thenReturn(access);
+                when(service.getDocumentsForTransaction(access)).thenReturn(List.of(doc));
 
                 // Act
                 ResponseEntity<List<DocumentResponseDTO>> response = controller.getDocuments(txId, headerId,
@@ -87,7 +94,7 @@ class DocumentControllerUnitTest {
 
                 // Assert
                 assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
-                verify(service).getDocumentsForTransaction(txId, headerUuid);
+                verify(service).getDocumentsForTransaction(access);
         }
 
         @Test
@@ -465,6 +472,15 @@ class DocumentControllerUnitTest {
 
         // ========== Helper Methods ==========
 
+        private TransactionAccessContext accessTo(UUID transactionId, UUID userId) {
+                Transaction tx = new Transaction();
+                tx.setTransactionId(transactionId);
+                tx.setBrokerId(userId);
+                tx.setVersion(1L);
+                tx.setViewVersion(1L);
+                return new TransactionAccessContext(tx, userId, null, List.of());
+        }
+
         private MockHttpServletRequest createRequestWithInternalId(UUID internalId) {
                 MockHttpServletRequest request = new MockHttpServletRequest();
                 request.setAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR, internalId);
@@ -0,0 +1,72 @@
+package com.example.courtierprobackend.documents.presentationlayer;
+
+import com.example.courtierprobackend.documents.businesslayer.DocumentReminderService;
+import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReminderBatchDTO;
+import com.example.courtierprobackend.documents.presentationlayer.models.DocumentReminderBatchRequestDTO;
+import com.example.courtierprobackend.security.UserContextFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DocumentReminderControllerTest {
+
+    @Mock
+    private DocumentReminderService reminderService;
+
+    private DocumentReminderController controller;
+    private UUID brokerId;
+    private MockHttpServletRequest request;
+
+    @BeforeEach
+    void setUp() {
+        controller = new DocumentReminderController(reminderService);
+        brokerId = UUID.randomUUID();
+        request = new MockHttpServletRequest();
+        request.setAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR, brokerId);
+    }
+
+    @Test
+    void startBulkReminder_ReturnsAccepted() {
+        List<UUID> documentIds = List.of(UUID.randomUUID());
+        DocumentReminderBatchDTO batch = DocumentReminderBatchDTO.builder().batchId(UUID.randomUUID()).build();
+        when(reminderService.startBulkReminder(brokerId, documentIds)).thenReturn(batch);
+
+        ResponseEntity<DocumentReminderBatchDTO> response = controller.startBulkReminder(
+                new DocumentReminderBatchRequestDTO(documentIds), request);
+
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.ACCEPTED);
+        assertThat(response.getBody()).isSameAs(batch);
+    }
+
+    @Test
+    void startBulkReminder_WithoutBody_RemindsForAll() {
+        when(reminderService.startBulkReminder(brokerId, null)).thenReturn(new DocumentReminderBatchDTO());
+
+        controller.startBulkReminder(null, request);
+
+        verify(reminderService).startBulkReminder(brokerId, null);
+    }
+
+    @Test
+    void getBatchProgress_ReturnsBatch() {
+        UUID batchId = UUID.randomUUID();
+        DocumentReminderBatchDTO batch = DocumentReminderBatchDTO.builder().batchId(batchId).complete(true).build();
+        when(reminderService.getBatchProgress(brokerId, batchId)).thenReturn(batch);
+
+        ResponseEntity<DocumentReminderBatchDTO> response = controller.getBatchProgress(batchId, request);
+
+        assertThat(response.getBody()).isSameAs(batch);
+    }
+}
@@ -2,6 +2,7 @@ package com.example.courtierprobackend.documents.presentationlayer;
 
 import com.example.courtierprobackend.documents.businesslayer.DocumentService;
 import com.example.courtierprobackend.documents.presentationlayer.models.DocumentResponseDTO;
+import com.example.courtierprobackend.documents.presentationlayer.models.OutstandingClientGroupDTO;
 import com.example.courtierprobackend.documents.presentationlayer.models.OutstandingDocumentDTO;
 import com.example.courtierprobackend.security.UserContextFilter;
 import org.junit.jupiter.api.BeforeEach;
@@ -9,10 +10,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.http.ResponseEntity;
 import org.springframework.mock.web.MockHttpServletRequest;
 
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -105,6 +109,43 @@ class GlobalDocumentControllerTest {
         assertThat(response.getBody().get(0).getTitle()).isEqualTo("Doc");
     }
 
+    @Test
+    void getOutstandingDocumentsPaged_ClampsSizeAndWrapsPage() {
+        UUID userId = UUID.randomUUID();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR, userId);
+        PageRequest expected = PageRequest.of(0, 100);
+        OutstandingDocumentDTO dto = OutstandingDocumentDTO.builder().id(UUID.randomUUID()).build();
+        when(service.getOutstandingDocumentSummary(userId, expected))
+                .thenReturn(new PageImpl<>(List.of(dto), expected, 1));
+
+        ResponseEntity<Map<String, Object>> response = controller.getOutstandingDocumentsPaged(request, -1, 500);
+
+        assertThat(response.getBody()).containsEntry("content", List.of(dto))
+                .containsEntry("totalElements", 1L)
+                .containsEntry("last", true);
+    }
+
+    @Test
+    void getOutstandingDocumentsByClient_ReturnsGroups() {
+        UUID userId = UUID.randomUUID();
+        MockHttpServletRequest request = new MockHttpServletRequest();
+        request.setAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR, userId);
+        PageRequest expected = PageRequest.of(1, 10);
+        OutstandingClientGroupDTO group = OutstandingClientGroupDTO.builder()
+                .clientId(UUID.randomUUID())
+                .documentCount(2)
+                .build();
+        when(service.getOutstandingDocumentsByClient(userId, expected))
+                .thenReturn(new PageImpl<>(List.of(group), expected, 11));
+
+        ResponseEntity<Map<String, Object>> response = controller.getOutstandingDocumentsByClient(request, 1, 10);
+
+        assertThat(response.getBody()).containsEntry("content", List.of(group))
+                .containsEntry("page", 1)
+                .containsEntry("totalPages", 2);
+    }
+
     @Test
     void sendReminder_Success() {
         UUID userId = UUID.randomUUID();
@@ -26,6 +26,7 @@ import java.util.Optional;
 import java.util.UUID;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.Mockito.*;
 
@@ -213,4 +214,19 @@ class EmailServiceCoverageTest {
             transport.verify(() -> Transport.send(any(Message.class)), times(1));
         }
     }
+
+    @Test
+    void sendAppointmentReminder_skipsPreferenceLookupAndPropagatesFailure() {
+        Appointment appt = new Appointment();
+        appt.setTitle("house_visit");
+        appt.setFromDateTime(LocalDateTime.now());
+
+        try (MockedStatic<Transport> transport = mockStatic(Transport.class)) {
+            transport.when(() -> Transport.send(any(Message.class))).thenThrow(new MessagingException("smtp down"));
+
+            assertThatThrownBy(() -> emailService.sendAppointmentReminder(appt, "client@test.com", "Client", "en"))
+                    .isInstanceOf(MessagingException.class);
+        }
+        verifyNoInteractions(userAccountRepository);
+    }
 }
@@ -0,0 +1,45 @@
+package com.example.courtierprobackend.email;
+
+import com.example.courtierprobackend.documents.businesslayer.events.DocumentReminderDigestEvent;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EmailServiceReminderDigestTest {
+
+    private final EmailService service = new EmailService(null, null, null, null, null, null, null);
+
+    @Test
+    void renderDocumentReminderDigest_listsEveryDocumentInClientLanguage() throws Exception {
+        List<DocumentReminderDigestEvent.Item> items = List.of(
+                new DocumentReminderDigestEvent.Item(UUID.randomUUID(), null, "PAY_STUBS",
+                        LocalDate.of(2025, 3, 1), 12, "123 Rue Test"),
+                new DocumentReminderDigestEvent.Item(UUID.randomUUID(), "Lettre <spéciale>", "OTHER",
+                        LocalDate.of(2025, 3, 5), 8, null));
+
+        String html = service.renderDocumentReminderDigest(true, "Client User", "Courtier Pro", items);
+
+        assertThat(html)
+                .contains("Bonjour Client User")
+                .contains("Courtier Pro attend toujours 2 document(s)")
+                .contains("<strong>Talons de paie</strong> - 123 Rue Test (dû le 2025-03-01, 12 jour(s) de retard)")
+                .contains("<strong>Lettre &lt;spéciale&gt;</strong> (dû le 2025-03-05")
+                .doesNotContain("{{");
+    }
+
+    @Test
+    void renderDocumentReminderDigest_english() throws Exception {
+        List<DocumentReminderDigestEvent.Item> items = List.of(new DocumentReminderDigestEvent.Item(
+                UUID.randomUUID(), null, "BANK_STATEMENT", LocalDate.of(2025, 3, 1), 3, null));
+
+        String html = service.renderDocumentReminderDigest(false, "Jane Doe", "Bob Broker", items);
+
+        assertThat(html)
+                .contains("Hello Jane Doe")
+                .contains("<strong>Bank Statement</strong> (due 2025-03-01, 3 day(s) overdue)");
+    }
+}
@@ -0,0 +1,99 @@
+package com.example.courtierprobackend.infrastructure.datasource;
+
+import com.example.courtierprobackend.security.UserContextFilter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReadYourWritesFilterTest {
+
+    private static final Duration WINDOW = Duration.ofSeconds(15);
+
+    private final SteppingClock clock = new SteppingClock();
+    private ReadYourWritesFilter filter;
+
+    static class SteppingClock extends Clock {
+        Instant now = Instant.parse("2026-10-19T12:00:00Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        filter = new ReadYourWritesFilter(WINDOW, clock);
+    }
+
+    @Test
+    void afterWrite_sameUserReadsFromPrimaryForWindow() throws Exception {
+        UUID userId = UUID.randomUUID();
+        request("POST", userId);
+
+        clock.now = clock.now.plusSeconds(10);
+        assertThat(request("GET", userId)).isTrue();
+
+        clock.now = clock.now.plus(WINDOW);
+        assertThat(request("GET", userId)).isFalse();
+    }
+
+    @Test
+    void write_doesNotPinOtherUsersOrAnonymousRequests() throws Exception {
+        request("PUT", UUID.randomUUID());
+
+        assertThat(request("GET", UUID.randomUUID())).isFalse();
+        assertThat(request("GET", null)).isFalse();
+    }
+
+    @Test
+    void reads_doNotPinTheUser() throws Exception {
+        UUID userId = UUID.randomUUID();
+        request("GET", userId);
+
+        assertThat(filter.wroteRecently(userId)).isFalse();
+    }
+
+    @Test
+    void requestScope_endsWithTheRequest() throws Exception {
+        UUID userId = UUID.randomUUID();
+        request("DELETE", userId);
+        request("GET", userId);
+
+        assertThat(ReadRouting.primaryRequired()).isFalse();
+    }
+
+    /**
+     * @return whether the request's reads were pinned to the primary
+     */
+    private boolean request(String method, UUID userId) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, "/api/v1/dashboard/broker");
+        if (userId != null) {
+            request.setAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR, userId);
+        }
+        AtomicBoolean pinned = new AtomicBoolean();
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> pinned.set(ReadRouting.primaryRequired()));
+        return pinned.get();
+    }
+}
@@ -0,0 +1,89 @@
+package com.example.courtierprobackend.infrastructure.datasource;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaLagMonitorTest {
+
+    @Mock
+    private DataSource firstReplica;
+    @Mock
+    private DataSource secondReplica;
+    @Mock
+    private JdbcTemplate firstProbe;
+    @Mock
+    private JdbcTemplate secondProbe;
+
+    private ReplicaLagMonitor monitor;
+
+    @BeforeEach
+    void setUp() {
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        replicas.put("replica-1", firstReplica);
+        replicas.put("replica-2", secondReplica);
+        Map<String, JdbcTemplate> probes = new LinkedHashMap<>();
+        probes.put("replica-1", firstProbe);
+        probes.put("replica-2", secondProbe);
+        monitor = new ReplicaLagMonitor(replicas, probes, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void beforeFirstCheck_noReplicaTakesReads() {
+        assertThat(monitor.nextHealthyReplica()).isEmpty();
+    }
+
+    @Test
+    void checkLag_caughtUpReplicas_takeReadsInTurn() {
+        when(firstProbe.queryForObject(ReplicaLagMonitor.LAG_SQL, Double.class)).thenReturn(0.2);
+        when(secondProbe.queryForObject(ReplicaLagMonitor.LAG_SQL, Double.class)).thenReturn(0.0);
+
+        monitor.checkLag();
+
+        assertThat(monitor.nextHealthyReplica()).contains("replica-1");
+        assertThat(monitor.nextHealthyReplica()).contains("replica-2");
+        assertThat(monitor.nextHealthyReplica()).contains("replica-1");
+    }
+
+    @Test
+    void checkLag_replicaBehindMaxLag_isSkippedUntilItCatchesUp() {
+        when(firstProbe.queryForObject(ReplicaLagMonitor.LAG_SQL, Double.class)).thenReturn(12.0, 1.0);
+        when(secondProbe.queryForObject(ReplicaLagMonitor.LAG_SQL, Double.class)).thenReturn(0.0);
+
+        monitor.checkLag();
+        assertThat(monitor.lagSeconds("replica-1")).isEqualTo(12.0);
+        assertThat(monitor.nextHealthyReplica()).contains("replica-2");
+        assertThat(monitor.nextHealthyReplica()).contains("replica-2");
+
+        monitor.checkLag();
+        assertThat(monitor.nextHealthyReplica()).isPresent();
+        assertThat(monitor.nextHealthyReplica()).isPresent();
+        assertThat(monitor.lagSeconds("replica-1")).isEqualTo(1.0);
+    }
+
+    @Test
+    void checkLag_unreachableReplicas_fallBackToPrimary() {
+        when(firstProbe.queryForObject(ReplicaLagMonitor.LAG_SQL, Double.class))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+        when(secondProbe.queryForObject(ReplicaLagMonitor.LAG_SQL, Double.class))
+                .thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        monitor.checkLag();
+
+        assertThat(monitor.nextHealthyReplica()).isEmpty();
+        assertThat(monitor.lagSeconds("replica-1")).isNaN();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.courtierprobackend.infrastructure.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReplicaRoutingDataSourceTest {
+
+    @Mock
+    private DataSource primary;
+    @Mock
+    private DataSource replica;
+    @Mock
+    private ReplicaLagMonitor lagMonitor;
+
+    private ReplicaRoutingDataSource routing;
+
+    @BeforeEach
+    void setUp() {
+        when(lagMonitor.replicas()).thenReturn(Map.of("replica-1", replica));
+        routing = new ReplicaRoutingDataSource(primary, lagMonitor);
+    }
+
+    @AfterEach
+    void tearDown() {
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+        ReadRouting.endRequest();
+    }
+
+    @Test
+    void readOnlyTransaction_goesToHealthyReplica() {
+        when(lagMonitor.nextHealthyReplica()).thenReturn(Optional.of("replica-1"));
+        inTransaction(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo("replica-1");
+    }
+
+    @Test
+    void readOnlyTransaction_noReplicaCaughtUp_fallsBackToPrimary() {
+        when(lagMonitor.nextHealthyReplica()).thenReturn(Optional.empty());
+        inTransaction(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void readWriteTransaction_goesToPrimaryAndPinsRestOfRequest() {
+        ReadRouting.beginRequest(false);
+        inTransaction(false);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        inTransaction(true);
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        verify(lagMonitor, never()).nextHealthyReplica();
+    }
+
+    @Test
+    void requestOfUserWhoJustWrote_readsPrimary() {
+        ReadRouting.beginRequest(true);
+        inTransaction(true);
+
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        verify(lagMonitor, never()).nextHealthyReplica();
+    }
+
+    @Test
+    void noTransaction_readsPrimaryUnlessMarkedReadOnly() {
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+
+        when(lagMonitor.nextHealthyReplica()).thenReturn(Optional.of("replica-1"));
+        assertThat(ReadRouting.readOnly(routing::determineCurrentLookupKey)).isEqualTo("replica-1");
+        assertThat(routing.determineCurrentLookupKey()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+    }
+
+    @Test
+    void readOnlyExecutor_carriesReadOnlyAndRequestPinToWorkers() {
+        when(lagMonitor.nextHealthyReplica()).thenReturn(Optional.of("replica-1"));
+        ExecutorService pool = Executors.newSingleThreadExecutor();
+        try {
+            ReadRouting.beginRequest(false);
+            assertThat(CompletableFuture.supplyAsync(routing::determineCurrentLookupKey, ReadRouting.readOnly(pool))
+                    .join()).isEqualTo("replica-1");
+
+            ReadRouting.beginRequest(true);
+            assertThat(CompletableFuture.supplyAsync(routing::determineCurrentLookupKey, ReadRouting.readOnly(pool))
+                    .join()).isEqualTo(ReplicaRoutingDataSource.PRIMARY);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static void inTransaction(boolean readOnly) {
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
@@ -0,0 +1,157 @@
+package com.example.courtierprobackend.infrastructure.jobs;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ScheduledJobRunnerTest {
+
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-19T12:00:00Z"), ZoneOffset.UTC);
+    private static final LocalDateTime NOW = LocalDateTime.now(CLOCK);
+    private static final Duration LEASE = Duration.ofMinutes(3);
+
+    @Mock
+    private ScheduledJobLockRepository lockRepository;
+    @Mock
+    private ScheduledJobRunRepository runRepository;
+    @Mock
+    private ScheduledExecutorService heartbeats;
+    @Mock
+    private ScheduledFuture<Object> heartbeat;
+
+    private ScheduledJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        runner = new ScheduledJobRunner(lockRepository, runRepository, heartbeats, CLOCK, "node-1");
+    }
+
+    @Test
+    void runExclusively_leaseTaken_runsJobRecordsRunAndReleases() {
+        when(lockRepository.tryAcquire("job", "node-1", NOW, NOW.plus(LEASE))).thenReturn(1);
+        stubRunHistory();
+
+        boolean ran = runner.runExclusively("job", LEASE, () -> 7);
+
+        assertThat(ran).isTrue();
+        ArgumentCaptor<ScheduledJobRun> run = ArgumentCaptor.forClass(ScheduledJobRun.class);
+        verify(runRepository, times(2)).save(run.capture());
+        assertThat(run.getValue().getStatus()).isEqualTo(ScheduledJobRun.Status.SUCCEEDED);
+        assertThat(run.getValue().getRowsAffected()).isEqualTo(7);
+        assertThat(run.getValue().getDurationMs()).isZero();
+        assertThat(run.getValue().getInstanceId()).isEqualTo("node-1");
+        verify(heartbeat).cancel(false);
+        verify(lockRepository).release("job", "node-1", NOW);
+    }
+
+    @Test
+    void runExclusively_leaseHeldElsewhere_skipsJob() {
+        when(lockRepository.tryAcquire(eq("job"), eq("node-1"), any(), any())).thenReturn(0);
+        when(lockRepository.insertIfAbsent(eq("job"), any())).thenReturn(0);
+        AtomicBoolean ran = new AtomicBoolean();
+
+        boolean result = runner.runExclusively("job", LEASE, () -> {
+            ran.set(true);
+            return 0;
+        });
+
+        assertThat(result).isFalse();
+        assertThat(ran).isFalse();
+        verifyNoInteractions(runRepository, heartbeats);
+        verify(lockRepository, never()).release(any(), any(), any());
+    }
+
+    @Test
+    void runExclusively_firstRunOfJob_createsLockRowThenAcquires() {
+        when(lockRepository.tryAcquire(eq("job"), eq("node-1"), any(), any())).thenReturn(0, 1);
+        when(lockRepository.insertIfAbsent(eq("job"), any())).thenReturn(1);
+        stubRunHistory();
+
+        assertThat(runner.runExclusively("job", LEASE, () -> 0)).isTrue();
+
+        verify(lockRepository, times(2)).tryAcquire(eq("job"), eq("node-1"), any(), any());
+    }
+
+    @Test
+    void runExclusively_lockRowCreatedConcurrently_skipsJob() {
+        when(lockRepository.tryAcquire(eq("job"), eq("node-1"), any(), any())).thenReturn(0);
+        when(lockRepository.insertIfAbsent(eq("job"), any()))
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        assertThat(runner.runExclusively("job", LEASE, () -> 0)).isFalse();
+
+        verify(lockRepository, times(1)).tryAcquire(eq("job"), eq("node-1"), any(), any());
+        verifyNoInteractions(runRepository, heartbeats);
+    }
+
+    @Test
+    void runExclusively_jobFails_recordsFailureReleasesAndRethrows() {
+        when(lockRepository.tryAcquire(eq("job"), eq("node-1"), any(), any())).thenReturn(1);
+        stubRunHistory();
+
+        assertThatThrownBy(() -> runner.runExclusively("job", LEASE, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        ArgumentCaptor<ScheduledJobRun> run = ArgumentCaptor.forClass(ScheduledJobRun.class);
+        verify(runRepository, times(2)).save(run.capture());
+        assertThat(run.getValue().getStatus()).isEqualTo(ScheduledJobRun.Status.FAILED);
+        assertThat(run.getValue().getError()).isEqualTo("IllegalStateException: boom");
+        verify(lockRepository).release("job", "node-1", NOW);
+    }
+
+    @Test
+    void runExclusively_heartbeatExtendsLeaseEveryThirdOfIt() {
+        when(lockRepository.tryAcquire(eq("job"), eq("node-1"), any(), any())).thenReturn(1);
+        stubRunHistory();
+
+        runner.runExclusively("job", LEASE, () -> 0);
+
+        ArgumentCaptor<Runnable> beat = ArgumentCaptor.forClass(Runnable.class);
+        verify(heartbeats).scheduleAtFixedRate(beat.capture(), eq(60_000L), eq(60_000L), eq(TimeUnit.MILLISECONDS));
+        beat.getValue().run();
+        verify(lockRepository).heartbeat("job", "node-1", NOW, NOW.plus(LEASE));
+    }
+
+    @Test
+    void purgeHistory_deletesRunsOlderThanRetention() {
+        runner.purgeHistoryNow();
+
+        verify(runRepository).deleteStartedBefore(NOW.minusDays(30));
+    }
+
+    @Test
+    void purgeHistory_leaseHeldElsewhere_skipsPurge() {
+        when(lockRepository.tryAcquire(eq(ScheduledJobRunner.PURGE_JOB_NAME), eq("node-1"), any(), any())).thenReturn(0);
+        when(lockRepository.insertIfAbsent(eq(ScheduledJobRunner.PURGE_JOB_NAME), any())).thenReturn(0);
+
+        runner.purgeHistory();
+
+        verify(runRepository, never()).deleteStartedBefore(any());
+    }
+
+    private void stubRunHistory() {
+        when(runRepository.save(any(ScheduledJobRun.class))).thenAnswer(inv -> inv.getArgument(0));
+        doReturn(heartbeat).when(heartbeats).scheduleAtFixedRate(any(), anyLong(), anyLong(), any());
+    }
+}
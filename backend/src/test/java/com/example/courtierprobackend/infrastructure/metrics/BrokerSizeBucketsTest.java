@@ -0,0 +1,119 @@
+package com.example.courtierprobackend.infrastructure.metrics;
+
+import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BrokerSizeBucketsTest {
+
+    private static final Instant START = Instant.parse("2026-10-19T12:00:00Z");
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    private final List<Runnable> queued = new ArrayList<>();
+    private final MutableClock clock = new MutableClock();
+    private BrokerSizeBuckets buckets;
+    private UUID brokerId;
+
+    @BeforeEach
+    void setUp() {
+        buckets = new BrokerSizeBuckets(transactionRepository, queued::add, clock);
+        brokerId = UUID.randomUUID();
+    }
+
+    @Test
+    void bucketFor_firstRequest_isUnknownAndCountsInBackground() {
+        when(transactionRepository.countByBrokerId(brokerId)).thenReturn(30L);
+
+        assertThat(buckets.bucketFor(brokerId)).isEqualTo(BrokerSizeBuckets.UNKNOWN);
+        verifyNoInteractions(transactionRepository);
+
+        runQueued();
+        assertThat(buckets.bucketFor(brokerId)).isEqualTo("26-100");
+        assertThat(queued).isEmpty();
+    }
+
+    @Test
+    void bucketFor_concurrentMisses_startOneLoad() {
+        buckets.bucketFor(brokerId);
+        buckets.bucketFor(brokerId);
+
+        assertThat(queued).hasSize(1);
+    }
+
+    @Test
+    void bucketFor_expiredEntry_servesStaleBucketWhileReloading() {
+        when(transactionRepository.countByBrokerId(brokerId)).thenReturn(10L, 200L);
+        buckets.bucketFor(brokerId);
+        runQueued();
+
+        clock.advance(Duration.ofMinutes(16));
+
+        assertThat(buckets.bucketFor(brokerId)).isEqualTo("0-25");
+        runQueued();
+        assertThat(buckets.bucketFor(brokerId)).isEqualTo("101-500");
+    }
+
+    @Test
+    void purgeExpired_dropsEntriesPastRetention() {
+        when(transactionRepository.countByBrokerId(brokerId)).thenReturn(10L);
+        buckets.bucketFor(brokerId);
+        runQueued();
+
+        clock.advance(Duration.ofMinutes(61));
+        buckets.purgeExpired();
+
+        assertThat(buckets.bucketFor(brokerId)).isEqualTo(BrokerSizeBuckets.UNKNOWN);
+    }
+
+    @Test
+    void bucketFor_noBroker_isNone() {
+        assertThat(buckets.bucketFor(null)).isEqualTo(BrokerSizeBuckets.NOT_A_BROKER);
+        assertThat(queued).isEmpty();
+    }
+
+    private void runQueued() {
+        List<Runnable> tasks = new ArrayList<>(queued);
+        queued.clear();
+        tasks.forEach(Runnable::run);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now = START;
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneOffset getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(java.time.ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.courtierprobackend.infrastructure.metrics;
+
+import com.example.courtierprobackend.security.UserContextFilter;
+import com.example.courtierprobackend.user.dataaccesslayer.UserRole;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+@ExtendWith(MockitoExtension.class)
+class RequestMetricsFilterTest {
+
+    @Mock
+    private BrokerSizeBuckets brokerSizeBuckets;
+
+    private SimpleMeterRegistry registry;
+    private RequestMetricsFilter filter;
+    private final SqlStatementCounter inspector = new SqlStatementCounter();
+
+    @BeforeEach
+    void setUp() {
+        registry = new SimpleMeterRegistry();
+        filter = new RequestMetricsFilter(registry, brokerSizeBuckets, 3);
+    }
+
+    @Test
+    void recordsStatementsPerEndpointPatternAndBrokerSize() throws Exception {
+        UUID brokerId = UUID.randomUUID();
+        when(brokerSizeBuckets.bucketFor(brokerId)).thenReturn("26-100");
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/transactions/abc/detail");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR, brokerId);
+            req.setAttribute(UserContextFilter.USER_ROLE_ATTR, UserRole.BROKER);
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/transactions/{transactionId}/detail");
+            inspector.inspect("select 1");
+            inspector.inspect("select 2");
+            inspector.inspect("select 3");
+        });
+
+        DistributionSummary summary = registry.get(RequestMetricsFilter.SQL_STATEMENTS_METRIC)
+                .tag("uri", "/transactions/{transactionId}/detail")
+                .tag("outcome", "SUCCESS")
+                .tag("broker.size", "26-100")
+                .summary();
+        assertThat(summary.count()).isEqualTo(1);
+        assertThat(summary.totalAmount()).isEqualTo(3);
+    }
+
+    @Test
+    void clientRequestsAreNotBucketed() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/dashboard/client");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR, UUID.randomUUID());
+            req.setAttribute(UserContextFilter.USER_ROLE_ATTR, UserRole.CLIENT);
+        });
+
+        assertThat(registry.get(RequestMetricsFilter.SQL_STATEMENTS_METRIC)
+                .tag("broker.size", BrokerSizeBuckets.NOT_A_BROKER)
+                .tag("uri", "UNKNOWN")
+                .summary().count()).isEqualTo(1);
+        verifyNoInteractions(brokerSizeBuckets);
+    }
+
+    @Test
+    void failedRequestIsRecordedAsServerError() {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/transactions");
+
+        assertThatThrownBy(() -> filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("insert into transactions");
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        DistributionSummary summary = registry.get(RequestMetricsFilter.SQL_STATEMENTS_METRIC)
+                .tag("outcome", "SERVER_ERROR").summary();
+        assertThat(summary.totalAmount()).isEqualTo(1);
+    }
+
+    @Test
+    void repeatedStatementShapeIsCountedAsSuspectedNPlusOne() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/dashboard/broker/expiring-offers");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/v1/dashboard/broker/expiring-offers");
+            inspector.inspect("select * from transactions where broker_id=?");
+            for (int i = 0; i < 4; i++) {
+                inspector.inspect("select * from properties where transaction_id=?");
+            }
+        });
+
+        assertThat(registry.get(RequestMetricsFilter.REPEATED_STATEMENTS_METRIC)
+                .tag("uri", "/api/v1/dashboard/broker/expiring-offers")
+                .counter().count()).isEqualTo(1);
+    }
+
+    @Test
+    void distinctStatementsAreNotFlagged() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/transactions");
+
+        filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+            inspector.inspect("select * from transactions where broker_id=?");
+            inspector.inspect("select * from user_accounts where id=?");
+        });
+
+        assertThat(registry.find(RequestMetricsFilter.REPEATED_STATEMENTS_METRIC).counter()).isNull();
+    }
+
+    @Test
+    void statementsOutsideARequestAreNotCounted() {
+        inspector.inspect("select 1");
+
+        assertThat(SqlStatementCounter.end().total()).isZero();
+    }
+
+    @Test
+    void brokerSizeBuckets() {
+        assertThat(BrokerSizeBuckets.bucket(0)).isEqualTo("0-25");
+        assertThat(BrokerSizeBuckets.bucket(26)).isEqualTo("26-100");
+        assertThat(BrokerSizeBuckets.bucket(500)).isEqualTo("101-500");
+        assertThat(BrokerSizeBuckets.bucket(501)).isEqualTo("500+");
+    }
+}
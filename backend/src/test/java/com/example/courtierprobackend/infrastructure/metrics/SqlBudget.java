@@ -0,0 +1,61 @@
+package com.example.courtierprobackend.infrastructure.metrics;
+
+import com.example.courtierprobackend.infrastructure.metrics.SqlStatementCounter.SqlCapture;
+import org.assertj.core.api.Assertions;
+
+/**
+ * Query budget assertions for integration tests. Wrap a repository call, service
+ * call or {@code mockMvc.perform(...)} and assert how many statements it issued:
+ *
+ * <pre>
+ * SqlBudget.assertAtMost(4, () -&gt; mockMvc.perform(get("/api/v1/dashboard/broker")));
+ * SqlBudget.assertNoRepeats(() -&gt; service.getOutstandingDocumentSummary(brokerId));
+ * </pre>
+ *
+ * Needs a context with {@code MetricsConfig}, which registers the statement inspector.
+ */
+public final class SqlBudget {
+
+    @FunctionalInterface
+    public interface Action {
+        void run() throws Exception;
+    }
+
+    private SqlBudget() {
+    }
+
+    public static SqlCapture capture(Action action) throws Exception {
+        SqlStatementCounter.begin();
+        try {
+            action.run();
+        } catch (Exception | Error e) {
+            // Close the capture so it does not leak into the next test on this thread
+            SqlStatementCounter.end();
+            throw e;
+        }
+        return SqlStatementCounter.end();
+    }
+
+    /**
+     * Fails when the action issues more than {@code maxStatements} statements.
+     */
+    public static SqlCapture assertAtMost(int maxStatements, Action action) throws Exception {
+        SqlCapture capture = capture(action);
+        Assertions.assertThat(capture.total())
+                .as("SQL statements (by shape: %s)", capture.shapes())
+                .isLessThanOrEqualTo(maxStatements);
+        return capture;
+    }
+
+    /**
+     * Fails when any statement shape runs more than once, i.e. the action loads
+     * rows one by one instead of in a batch.
+     */
+    public static SqlCapture assertNoRepeats(Action action) throws Exception {
+        SqlCapture capture = capture(action);
+        Assertions.assertThat(capture.repeated(2))
+                .as("statements executed more than once")
+                .isEmpty();
+        return capture;
+    }
+}
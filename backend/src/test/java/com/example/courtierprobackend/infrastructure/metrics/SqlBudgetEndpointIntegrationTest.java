@@ -0,0 +1,130 @@
+package com.example.courtierprobackend.infrastructure.metrics;
+
+import com.example.courtierprobackend.infrastructure.metrics.SqlStatementCounter.SqlCapture;
+import com.example.courtierprobackend.security.UserContextFilter;
+import com.example.courtierprobackend.transactions.datalayer.Condition;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.transactions.datalayer.enums.ConditionStatus;
+import com.example.courtierprobackend.transactions.datalayer.enums.ConditionType;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionStatus;
+import com.example.courtierprobackend.transactions.datalayer.repositories.ConditionRepository;
+import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import com.example.courtierprobackend.user.dataaccesslayer.UserRole;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+/**
+ * Query budgets for the endpoints that fan out to thread pools. The data is committed
+ * rather than rolled back because the pool threads read it in their own transactions,
+ * and the budgets only hold if the statements issued there are counted with the request.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc(addFilters = false)
+@ActiveProfiles("test")
+class SqlBudgetEndpointIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private UserAccountRepository userAccountRepository;
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private ConditionRepository conditionRepository;
+
+    private UserAccount broker;
+    private final List<UserAccount> clients = new ArrayList<>();
+    private final List<Transaction> transactions = new ArrayList<>();
+    private final List<Condition> conditions = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        broker = userAccountRepository.save(new UserAccount("auth0|budget-broker", "budget.broker@example.com",
+                "Budget", "Broker", UserRole.BROKER, "en"));
+        for (int i = 0; i < 3; i++) {
+            UserAccount client = userAccountRepository.save(new UserAccount("auth0|budget-client-" + i,
+                    "zelda" + i + "@example.com", "Zelda", "Client" + i, UserRole.CLIENT, "en"));
+            clients.add(client);
+            Transaction tx = transactionRepository.save(Transaction.builder()
+                    .transactionId(UUID.randomUUID())
+                    .brokerId(broker.getId())
+                    .clientId(client.getId())
+                    .side(TransactionSide.BUY_SIDE)
+                    .status(TransactionStatus.ACTIVE)
+                    .build());
+            transactions.add(tx);
+            conditions.add(conditionRepository.save(Condition.builder()
+                    .conditionId(UUID.randomUUID())
+                    .transactionId(transactions.get(0).getTransactionId())
+                    .type(ConditionType.FINANCING)
+                    .description("Financing " + i)
+                    .deadlineDate(LocalDate.now().plusDays(30))
+                    .status(ConditionStatus.PENDING)
+                    .createdAt(LocalDateTime.now())
+                    .updatedAt(LocalDateTime.now())
+                    .build()));
+        }
+    }
+
+    @AfterEach
+    void tearDown() {
+        conditionRepository.deleteAll(conditions);
+        transactionRepository.deleteAll(transactions);
+        userAccountRepository.deleteAll(clients);
+        userAccountRepository.delete(broker);
+    }
+
+    @Test
+    @WithMockUser(roles = "BROKER")
+    void search_CountsFanOutStatementsWithinBudget() throws Exception {
+        SqlCapture capture = SqlBudget.assertAtMost(12, () -> mockMvc.perform(get("/api/search")
+                        .param("q", "zelda")
+                        .requestAttr(UserContextFilter.INTERNAL_USER_ID_ATTR, broker.getId())
+                        .requestAttr(UserContextFilter.USER_ROLE_ATTR, "BROKER"))
+                .andExpect(status().isOk()));
+
+        // Every branch runs on searchExecutor; none of them may load matches row by row
+        assertThat(capture.shapes().keySet()).anyMatch(shape -> shape.contains("appointment"));
+        assertThat(capture.maxRepeats()).isLessThan(clients.size());
+    }
+
+    @Test
+    @WithMockUser(roles = "BROKER")
+    void transactionDetail_CountsSectionStatementsWithinBudget() throws Exception {
+        UUID transactionId = transactions.get(0).getTransactionId();
+
+        SqlCapture capture = SqlBudget.assertAtMost(20, () -> mockMvc.perform(
+                        get("/transactions/{transactionId}/detail", transactionId)
+                                .param("include", "participants,properties,conditions,timeline")
+                                .requestAttr(UserContextFilter.INTERNAL_USER_ID_ATTR, broker.getId())
+                                .requestAttr(UserContextFilter.USER_ROLE_ATTR, "BROKER"))
+                .andExpect(status().isOk()));
+
+        // Sections load on transactionDetailExecutor
+        assertThat(capture.shapes().keySet()).anyMatch(shape -> shape.contains("from conditions"));
+        assertThat(capture.maxRepeats()).isLessThan(conditions.size());
+    }
+}
@@ -0,0 +1,74 @@
+package com.example.courtierprobackend.infrastructure.metrics;
+
+import com.example.courtierprobackend.infrastructure.metrics.SqlStatementCounter.SqlCapture;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionStatus;
+import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Checks that the statement inspector is wired into Hibernate, so query budgets
+ * asserted with {@link SqlBudget} measure real statements.
+ */
+@SpringBootTest
+@ActiveProfiles("test")
+@Transactional
+class SqlBudgetIntegrationTest {
+
+    @Autowired
+    private TransactionRepository transactionRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Test
+    void batchQuery_CostsTheSameForOneOrManyRows() throws Exception {
+        UUID smallBroker = UUID.randomUUID();
+        UUID largeBroker = UUID.randomUUID();
+        saveTransactions(smallBroker, 1);
+        saveTransactions(largeBroker, 6);
+        entityManager.clear();
+
+        SqlCapture small = SqlBudget.assertAtMost(1, () -> transactionRepository.findAllByBrokerId(smallBroker));
+        SqlCapture large = SqlBudget.assertNoRepeats(() -> transactionRepository.findAllByBrokerId(largeBroker));
+
+        assertThat(large.total()).isEqualTo(small.total());
+    }
+
+    @Test
+    void rowByRowLoading_IsReportedAsRepeatedShape() {
+        List<Long> ids = saveTransactions(UUID.randomUUID(), 4);
+        entityManager.clear();
+
+        assertThatThrownBy(() -> SqlBudget.assertNoRepeats(() -> ids.forEach(transactionRepository::findById)))
+                .isInstanceOf(AssertionError.class);
+        assertThat(SqlStatementCounter.end().total()).as("capture closed after failure").isZero();
+    }
+
+    private List<Long> saveTransactions(UUID brokerId, int count) {
+        List<Long> ids = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            ids.add(transactionRepository.saveAndFlush(Transaction.builder()
+                    .transactionId(UUID.randomUUID())
+                    .brokerId(brokerId)
+                    .clientId(UUID.randomUUID())
+                    .side(TransactionSide.BUY_SIDE)
+                    .status(TransactionStatus.ACTIVE)
+                    .build()).getId());
+        }
+        return ids;
+    }
+}
@@ -0,0 +1,87 @@
+package com.example.courtierprobackend.infrastructure.metrics;
+
+import com.example.courtierprobackend.infrastructure.metrics.SqlStatementCounter.SqlCapture;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SqlStatementCounterTest {
+
+    private final SqlStatementCounter inspector = new SqlStatementCounter();
+
+    @Test
+    void shape_IgnoresLiteralsInListLengthAndFormatting() {
+        assertThat(SqlStatementCounter.shape("select p1_0.id from properties p1_0 where p1_0.transaction_id in (?, ?, ?)"))
+                .isEqualTo(SqlStatementCounter.shape("select p1_0.id  from properties p1_0\n where p1_0.transaction_id in (?,?)"));
+        assertThat(SqlStatementCounter.shape("select * from t where name = 'O''Brien' limit 10"))
+                .isEqualTo("select * from t where name = ? limit ?");
+        assertThat(SqlStatementCounter.shape("/* load Transaction */ select t1_0.id from transactions t1_0"))
+                .isEqualTo("select t1_0.id from transactions t1_0");
+    }
+
+    @Test
+    void capture_GroupsRepeatedShapes() {
+        SqlStatementCounter.begin();
+        inspector.inspect("select * from transactions where broker_id=?");
+        inspector.inspect("select * from properties where transaction_id=?");
+        inspector.inspect("select * from properties where transaction_id=?");
+        inspector.inspect("select * from properties where transaction_id=?");
+        SqlCapture capture = SqlStatementCounter.end();
+
+        assertThat(capture.total()).isEqualTo(4);
+        assertThat(capture.maxRepeats()).isEqualTo(3);
+        assertThat(capture.repeated(3)).singleElement()
+                .satisfies(e -> assertThat(e.getKey()).contains("from properties"));
+        assertThat(capture.repeated(4)).isEmpty();
+    }
+
+    @Test
+    void nestedCapture_IsAlsoCountedByEnclosingCapture() {
+        SqlStatementCounter.begin();
+        inspector.inspect("select 1");
+        SqlStatementCounter.begin();
+        inspector.inspect("select 2");
+        SqlCapture inner = SqlStatementCounter.end();
+        SqlCapture outer = SqlStatementCounter.end();
+
+        assertThat(inner.total()).isEqualTo(1);
+        assertThat(outer.total()).isEqualTo(2);
+    }
+
+    @Test
+    void propagate_CountsPoolThreadStatementsWithSubmittingCapture() throws Exception {
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            SqlStatementCounter.begin();
+            Runnable task = SqlStatementCounter.propagate(() -> inspector.inspect("select * from conditions"));
+            CompletableFuture.allOf(
+                    CompletableFuture.runAsync(task, pool),
+                    CompletableFuture.runAsync(task, pool)).join();
+            SqlCapture capture = SqlStatementCounter.end();
+
+            assertThat(capture.total()).isEqualTo(2);
+            assertThat(CompletableFuture.supplyAsync(() -> SqlStatementCounter.end().total(), pool).join())
+                    .as("pool threads left without a capture").isZero();
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void propagate_WithoutCapture_ReturnsTaskUnchanged() {
+        Runnable task = () -> inspector.inspect("select 1");
+
+        assertThat(SqlStatementCounter.propagate(task)).isSameAs(task);
+    }
+
+    @Test
+    void end_WithoutCapture_ReturnsEmpty() {
+        inspector.inspect("select 1");
+
+        assertThat(SqlStatementCounter.end().total()).isZero();
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.courtierprobackend.infrastructure.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DomainEventPublisherTest {
+
+    record Ping(String value) {
+    }
+
+    record Pong(String value) {
+    }
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+
+    @Test
+    void publish_writesOneRowPerMatchingHandler() {
+        DomainEventPublisher publisher = new DomainEventPublisher(outboxEventRepository, new ObjectMapper(), Map.of(
+                "pingEmail", handlerFor(Ping.class),
+                "pingNotification", handlerFor(Ping.class),
+                "pongEmail", handlerFor(Pong.class)));
+        UUID aggregateId = UUID.randomUUID();
+
+        publisher.publish(aggregateId, new Ping("hello"));
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(captor.capture());
+        List<OutboxEvent> rows = captor.getValue();
+        assertThat(rows).extracting(OutboxEvent::getConsumer)
+                .containsExactlyInAnyOrder("pingEmail", "pingNotification");
+        assertThat(rows).allSatisfy(row -> {
+            assertThat(row.getEventType()).isEqualTo("Ping");
+            assertThat(row.getAggregateId()).isEqualTo(aggregateId);
+            assertThat(row.getPayload()).isEqualTo("{\"value\":\"hello\"}");
+            assertThat(row.getStatus()).isEqualTo(OutboxEvent.Status.PENDING);
+        });
+        assertThat(rows.get(0).getEventId()).isEqualTo(rows.get(1).getEventId());
+    }
+
+    @Test
+    void publish_withAvailableAt_defersDelivery() {
+        DomainEventPublisher publisher = new DomainEventPublisher(outboxEventRepository, new ObjectMapper(),
+                Map.of("pingEmail", handlerFor(Ping.class)));
+        LocalDateTime availableAt = LocalDateTime.now().plusMinutes(5);
+
+        publisher.publish(UUID.randomUUID(), new Ping("later"), availableAt);
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(captor.capture());
+        OutboxEvent row = captor.getValue().get(0);
+        assertThat(row.getAvailableAt()).isEqualTo(availableAt);
+        assertThat(row.getCreatedAt()).isBefore(availableAt);
+    }
+
+    @Test
+    void recordSkipped_writesFinishedRowsWithTheReason() {
+        DomainEventPublisher publisher = new DomainEventPublisher(outboxEventRepository, new ObjectMapper(),
+                Map.of("pingEmail", handlerFor(Ping.class)));
+
+        publisher.recordSkipped(UUID.randomUUID(), new Ping("nobody"), "No email address");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<OutboxEvent>> captor = ArgumentCaptor.forClass(List.class);
+        verify(outboxEventRepository).saveAll(captor.capture());
+        OutboxEvent row = captor.getValue().get(0);
+        assertThat(row.getStatus()).isEqualTo(OutboxEvent.Status.SKIPPED);
+        assertThat(row.getLastError()).isEqualTo("No email address");
+        assertThat(row.getDispatchedAt()).isNotNull();
+    }
+
+    @Test
+    void publish_withoutHandlers_writesNothing() {
+        DomainEventPublisher publisher = new DomainEventPublisher(outboxEventRepository, new ObjectMapper(),
+                Map.of("pongEmail", handlerFor(Pong.class)));
+
+        publisher.publish(UUID.randomUUID(), new Ping("hello"));
+
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    private static <E> DomainEventHandler<E> handlerFor(Class<E> type) {
+        return new DomainEventHandler<>() {
+            @Override
+            public Class<E> eventType() {
+                return type;
+            }
+
+            @Override
+            public void handle(E event) {
+            }
+        };
+    }
+}
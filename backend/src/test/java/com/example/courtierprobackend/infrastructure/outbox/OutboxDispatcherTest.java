@@ -0,0 +1,160 @@
+package com.example.courtierprobackend.infrastructure.outbox;
+
+import com.example.courtierprobackend.infrastructure.jobs.ScheduledJobRunner;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OutboxDispatcherTest {
+
+    record Ping(String value) {
+    }
+
+    static class RecordingHandler implements DomainEventHandler<Ping> {
+        final List<Ping> received = new ArrayList<>();
+        RuntimeException failure;
+
+        @Override
+        public Class<Ping> eventType() {
+            return Ping.class;
+        }
+
+        @Override
+        public void handle(Ping event) {
+            if (failure != null) {
+                throw failure;
+            }
+            received.add(event);
+        }
+    }
+
+    @Mock
+    private OutboxEventRepository outboxEventRepository;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ScheduledJobRunner jobRunner;
+
+    private RecordingHandler handler;
+    private OutboxDispatcher dispatcher;
+
+    @BeforeEach
+    void setUp() {
+        handler = new RecordingHandler();
+        dispatcher = new OutboxDispatcher(outboxEventRepository, Map.of("pingHandler", handler),
+                new ObjectMapper(), transactionManager, Runnable::run, jobRunner);
+    }
+
+    @Test
+    void dispatchDueEvents_deliversAndMarksDispatched() {
+        OutboxEvent event = pending(1L, "pingHandler", 0);
+        when(outboxEventRepository.lockDueEvents(any(), eq(OutboxDispatcher.BATCH_SIZE))).thenReturn(List.of(event));
+
+        dispatcher.dispatchDueEvents();
+
+        assertThat(handler.received).containsExactly(new Ping("hello"));
+        verify(outboxEventRepository).markDispatched(eq(1L), any(LocalDateTime.class));
+        verify(outboxEventRepository, never()).recordFailure(any(), any(), anyInt(), any(), any());
+    }
+
+    @Test
+    void dispatchDueEvents_claimsByExtendingAvailability() {
+        OutboxEvent event = pending(1L, "pingHandler", 0);
+        LocalDateTime before = LocalDateTime.now();
+        when(outboxEventRepository.lockDueEvents(any(), anyInt())).thenReturn(List.of(event));
+
+        dispatcher.dispatchDueEvents();
+
+        assertThat(event.getAvailableAt()).isAfter(before.plusSeconds(60));
+    }
+
+    @Test
+    void deliver_handlerFailure_schedulesRetry() {
+        handler.failure = new IllegalStateException("smtp down");
+
+        dispatcher.deliver(pending(2L, "pingHandler", 3));
+
+        verify(outboxEventRepository).recordFailure(eq(2L), eq(OutboxEvent.Status.PENDING), eq(4),
+                argThat(at -> at.isAfter(LocalDateTime.now())), contains("smtp down"));
+        verify(outboxEventRepository, never()).markDispatched(any(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void deliver_lastAttemptFails_marksFailed() {
+        handler.failure = new IllegalStateException("smtp down");
+
+        dispatcher.deliver(pending(3L, "pingHandler", OutboxDispatcher.MAX_ATTEMPTS - 1));
+
+        verify(outboxEventRepository).recordFailure(eq(3L), eq(OutboxEvent.Status.FAILED),
+                eq(OutboxDispatcher.MAX_ATTEMPTS), any(), anyString());
+    }
+
+    @Test
+    void deliver_handlerSkips_marksSkippedWithoutRetry() {
+        handler.failure = new SkippedEventException("Client has disabled email notifications");
+
+        dispatcher.deliver(pending(5L, "pingHandler", 0));
+
+        verify(outboxEventRepository).markSkipped(eq(5L), any(LocalDateTime.class),
+                eq("Client has disabled email notifications"));
+        verify(outboxEventRepository, never()).recordFailure(any(), any(), anyInt(), any(), any());
+        verify(outboxEventRepository, never()).markDispatched(any(), any(LocalDateTime.class));
+    }
+
+    @Test
+    void deliver_unknownConsumer_recordsFailure() {
+        dispatcher.deliver(pending(4L, "removedHandler", 0));
+
+        verify(outboxEventRepository).recordFailure(eq(4L), eq(OutboxEvent.Status.PENDING), eq(1), any(),
+                contains("removedHandler"));
+    }
+
+    @Test
+    void purgeDispatchedEvents_runsUnderTheJobLease() {
+        dispatcher.purgeDispatchedEvents();
+
+        verify(jobRunner).runExclusively(eq(OutboxDispatcher.PURGE_JOB_NAME), any(Duration.class),
+                any(IntSupplier.class));
+        verifyNoInteractions(outboxEventRepository);
+    }
+
+    @Test
+    void purgeDispatchedEventsNow_deletesRowsPastRetention() {
+        LocalDateTime before = LocalDateTime.now();
+        when(outboxEventRepository.deleteDispatchedBefore(any())).thenReturn(3);
+
+        assertThat(dispatcher.purgeDispatchedEventsNow()).isEqualTo(3);
+
+        verify(outboxEventRepository).deleteDispatchedBefore(argThat(cutoff ->
+                !cutoff.isAfter(before.minusDays(7).plusMinutes(1)) && cutoff.isAfter(before.minusDays(8))));
+    }
+
+    private static OutboxEvent pending(Long id, String consumer, int attempts) {
+        return OutboxEvent.builder()
+                .id(id)
+                .eventType("Ping")
+                .consumer(consumer)
+                .payload("{\"value\":\"hello\"}")
+                .status(OutboxEvent.Status.PENDING)
+                .attempts(attempts)
+                .availableAt(LocalDateTime.now())
+                .createdAt(LocalDateTime.now())
+                .build();
+    }
+}
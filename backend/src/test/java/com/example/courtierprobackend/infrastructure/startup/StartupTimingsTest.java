@@ -0,0 +1,121 @@
+package com.example.courtierprobackend.infrastructure.startup;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.TimeGauge;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.DefaultBootstrapContext;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.context.event.ApplicationEnvironmentPreparedEvent;
+import org.springframework.boot.context.event.ApplicationPreparedEvent;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.context.event.ApplicationStartedEvent;
+import org.springframework.boot.context.event.ApplicationStartingEvent;
+import org.springframework.boot.info.BuildProperties;
+import org.springframework.context.support.GenericApplicationContext;
+import org.springframework.core.env.StandardEnvironment;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.entry;
+
+class StartupTimingsTest {
+
+    static class SteppingClock extends Clock {
+        Instant now = Instant.parse("2026-10-19T12:00:01Z");
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+
+        void advance(long millis) {
+            now = now.plusMillis(millis);
+        }
+    }
+
+    private static final Instant JVM_START = Instant.parse("2026-10-19T12:00:00Z");
+    private static final String[] ARGS = {};
+
+    private final SteppingClock clock = new SteppingClock();
+    private final SpringApplication application = new SpringApplication(Object.class);
+    private final DefaultBootstrapContext bootstrapContext = new DefaultBootstrapContext();
+    private final MeterRegistry registry = new SimpleMeterRegistry();
+    private GenericApplicationContext context;
+    private StartupTimings timings;
+
+    @BeforeEach
+    void setUp() {
+        context = new GenericApplicationContext();
+        Properties build = new Properties();
+        build.setProperty("version", "1.4.0");
+        context.registerBean(BuildProperties.class, () -> new BuildProperties(build));
+        context.registerBean(MeterRegistry.class, () -> registry);
+        context.refresh();
+        timings = new StartupTimings(clock, JVM_START);
+    }
+
+    @Test
+    void boot_recordsEachPhaseAndStepsInsideThem() {
+        boot();
+
+        assertThat(timings.phases()).containsExactly(
+                entry("jvm", Duration.ofMillis(1000)),
+                entry("environment", Duration.ofMillis(200)),
+                entry("prepare", Duration.ofMillis(300)),
+                entry("refresh", Duration.ofMillis(4000)),
+                entry("runners", Duration.ofMillis(50)));
+        assertThat(timings.steps()).containsExactly(entry("flyway", Duration.ofMillis(1200)));
+    }
+
+    @Test
+    void boot_registersItselfForTheApplicationBeans() {
+        boot();
+
+        assertThat(context.getBean(StartupTimings.class)).isSameAs(timings);
+    }
+
+    @Test
+    void ready_exportsGaugesTaggedWithVersion() {
+        boot();
+
+        TimeGauge refresh = registry.get(StartupTimings.PHASE_METRIC)
+                .tags("phase", "refresh", "version", "1.4.0").timeGauge();
+        assertThat(refresh.value(TimeUnit.MILLISECONDS)).isEqualTo(4000);
+        TimeGauge flyway = registry.get(StartupTimings.STEP_METRIC)
+                .tags("step", "flyway", "version", "1.4.0").timeGauge();
+        assertThat(flyway.value(TimeUnit.MILLISECONDS)).isEqualTo(1200);
+    }
+
+    private void boot() {
+        timings.onApplicationEvent(new ApplicationStartingEvent(bootstrapContext, application, ARGS));
+        clock.advance(200);
+        timings.onApplicationEvent(new ApplicationEnvironmentPreparedEvent(
+                bootstrapContext, application, ARGS, new StandardEnvironment()));
+        clock.advance(300);
+        timings.onApplicationEvent(new ApplicationPreparedEvent(application, ARGS, context));
+        clock.advance(4000);
+        context.getBean(StartupTimings.class).record("flyway", Duration.ofMillis(1200));
+        timings.onApplicationEvent(new ApplicationStartedEvent(application, ARGS, context, Duration.ofMillis(4500)));
+        clock.advance(50);
+        timings.onApplicationEvent(new ApplicationReadyEvent(application, ARGS, context, Duration.ofMillis(4550)));
+    }
+}
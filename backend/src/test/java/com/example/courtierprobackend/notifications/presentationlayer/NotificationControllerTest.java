@@ -124,6 +124,24 @@ class NotificationControllerTest {
                 .andExpect(jsonPath("$.length()").value(0));
     }
 
+    @Test
+    void getUserNotifications_withMatchingIfNoneMatch_returns304() throws Exception {
+        String userId = "auth0|123";
+        when(notificationService.getNotificationsVersion(userId)).thenReturn("12");
+
+        String etag = mockMvc.perform(get("/api/v1/notifications")
+                .with(jwt().jwt(jwt -> jwt.subject(userId))))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/notifications")
+                .with(jwt().jwt(jwt -> jwt.subject(userId)))
+                .header("If-None-Match", etag))
+                .andExpect(status().isNotModified());
+
+        verify(notificationService, org.mockito.Mockito.times(1)).getUserNotifications(userId);
+    }
+
     @Test
     void sendBroadcast_shouldReturnOk_whenAdmin() throws Exception {
         BroadcastRequestDTO request = new BroadcastRequestDTO("Title", "Message");
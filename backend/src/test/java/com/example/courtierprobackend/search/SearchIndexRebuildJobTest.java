@@ -0,0 +1,39 @@
+package com.example.courtierprobackend.search;
+
+import com.example.courtierprobackend.infrastructure.jobs.ScheduledJobRunner;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.function.IntSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexRebuildJobTest {
+
+    @Mock
+    private SearchIndexService searchIndexService;
+    @Mock
+    private ScheduledJobRunner jobRunner;
+
+    @InjectMocks
+    private SearchIndexRebuildJob job;
+
+    @Test
+    void rebuild_runsFullRebuildUnderJobLease() {
+        when(searchIndexService.rebuild()).thenReturn(42);
+
+        job.rebuild();
+
+        ArgumentCaptor<IntSupplier> body = ArgumentCaptor.forClass(IntSupplier.class);
+        verify(jobRunner).runExclusively(eq(SearchIndexRebuildJob.JOB_NAME), any(), body.capture());
+        assertThat(body.getValue().getAsInt()).isEqualTo(42);
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.courtierprobackend.search;
+
+import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
+import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
+import com.example.courtierprobackend.search.datalayer.SearchDocument;
+import com.example.courtierprobackend.search.datalayer.SearchDocumentRepository;
+import com.example.courtierprobackend.search.dto.SearchResultDTO.SearchResultType;
+import com.example.courtierprobackend.transactions.datalayer.PropertyAddress;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.transactions.datalayer.repositories.PropertyRepository;
+import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import com.example.courtierprobackend.user.dataaccesslayer.UserRole;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SearchIndexServiceTest {
+
+    @Mock
+    private SearchDocumentRepository searchDocumentRepository;
+    @Mock
+    private TransactionRepository transactionRepository;
+    @Mock
+    private DocumentRepository documentRepository;
+    @Mock
+    private AppointmentRepository appointmentRepository;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+    @Mock
+    private PropertyRepository propertyRepository;
+
+    @InjectMocks
+    private SearchIndexService searchIndexService;
+
+    private UUID brokerId;
+    private UserAccount client;
+    private Transaction transaction;
+
+    @BeforeEach
+    void setUp() {
+        brokerId = UUID.randomUUID();
+        client = new UserAccount("auth0|client", "jane@example.com", "Jane", "Smith", UserRole.CLIENT, "en");
+        transaction = Transaction.builder()
+                .transactionId(UUID.randomUUID())
+                .brokerId(brokerId)
+                .clientId(client.getId())
+                .propertyAddress(new PropertyAddress("123 Main St", "Montreal", "QC", "H1A 1A1"))
+                .build();
+    }
+
+    @Test
+    void transactionRows_OneRowPerParticipant_BrokerRowCarriesClientText() {
+        List<SearchDocument> rows = searchIndexService.transactionRows(transaction, client, "centris 12345");
+
+        assertThat(rows).extracting(SearchDocument::getOwnerId).containsExactlyInAnyOrder(brokerId, client.getId());
+        SearchDocument brokerRow = rows.stream().filter(r -> r.getOwnerId().equals(brokerId)).findFirst().orElseThrow();
+        SearchDocument clientRow = rows.stream().filter(r -> r.getOwnerId().equals(client.getId())).findFirst().orElseThrow();
+        assertThat(brokerRow.getSearchText()).contains("jane", "smith", "123 main st", "centris 12345");
+        assertThat(clientRow.getSearchText()).doesNotContain("jane@example.com");
+    }
+
+    @Test
+    void userRows_ClientVisibleToEachBroker() {
+        UUID otherBroker = UUID.randomUUID();
+
+        List<SearchDocument> rows = searchIndexService.userRows(client, Set.of(brokerId, otherBroker));
+
+        assertThat(rows).extracting(SearchDocument::getOwnerId).containsExactlyInAnyOrder(brokerId, otherBroker);
+        assertThat(rows).allMatch(r -> r.getEntityType() == SearchResultType.USER);
+    }
+
+    @Test
+    void reindex_Transaction_ReplacesExistingRows() {
+        when(transactionRepository.findByTransactionId(transaction.getTransactionId())).thenReturn(Optional.of(transaction));
+        when(userAccountRepository.findById(client.getId())).thenReturn(Optional.of(client));
+        when(propertyRepository.findSearchTextByTransactionIdIn(List.of(transaction.getTransactionId()))).thenReturn(List.of());
+        when(documentRepository.findByTransactionRef_TransactionId(transaction.getTransactionId())).thenReturn(List.of());
+        when(transactionRepository.findAllByClientId(client.getId())).thenReturn(List.of(transaction));
+
+        searchIndexService.reindex(new SearchIndexEvent(SearchResultType.TRANSACTION, transaction.getTransactionId()));
+
+        verify(searchDocumentRepository).deleteByEntity(SearchResultType.TRANSACTION, transaction.getTransactionId());
+        verify(searchDocumentRepository).deleteByEntity(SearchResultType.USER, client.getId());
+        verify(searchDocumentRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void reindex_DeletedTransaction_RemovesRows() {
+        UUID missing = UUID.randomUUID();
+        when(transactionRepository.findByTransactionId(missing)).thenReturn(Optional.empty());
+        when(documentRepository.findByTransactionRef_TransactionId(missing)).thenReturn(List.of());
+
+        searchIndexService.reindex(new SearchIndexEvent(SearchResultType.TRANSACTION, missing));
+
+        verify(searchDocumentRepository).deleteByEntity(SearchResultType.TRANSACTION, missing);
+        verify(searchDocumentRepository, never()).saveAll(anyList());
+    }
+}
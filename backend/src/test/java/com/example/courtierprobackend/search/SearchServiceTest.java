@@ -4,10 +4,13 @@ import com.example.courtierprobackend.documents.datalayer.Document;
 import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
 import com.example.courtierprobackend.documents.datalayer.enums.DocumentTypeEnum;
 import com.example.courtierprobackend.documents.datalayer.valueobjects.TransactionRef;
+import com.example.courtierprobackend.search.datalayer.SearchDocument;
+import com.example.courtierprobackend.search.datalayer.SearchDocumentRepository;
 import com.example.courtierprobackend.search.dto.SearchResultDTO;
 import com.example.courtierprobackend.security.UserContextFilter;
 import com.example.courtierprobackend.transactions.datalayer.PropertyAddress;
 import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.transactions.datalayer.repositories.PropertyRepository;
 import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
 import com.example.courtierprobackend.appointments.datalayer.Appointment;
 import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
@@ -20,6 +23,7 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
 
 import java.util.List;
 import java.util.Optional;
@@ -41,6 +45,10 @@ class SearchServiceTest {
     @Mock
     private AppointmentRepository appointmentRepository;
     @Mock
+    private PropertyRepository propertyRepository;
+    @Mock
+    private SearchDocumentRepository searchDocumentRepository;
+    @Mock
     private HttpServletRequest request;
 
     private SearchService searchService;
@@ -56,7 +64,11 @@ class SearchServiceTest {
             documentRequestRepository,
             userAccountRepository,
             appointmentRepository,
-            request
+            propertyRepository,
+            searchDocumentRepository,
+            request,
+            Runnable::run,
+            false
         );
         userId = UUID.randomUUID();
         brokerId = UUID.randomUUID();
@@ -93,10 +105,10 @@ class SearchServiceTest {
     void search_ByTransactionUUID_ReturnsTransaction() {
         Transaction transaction = createTestTransaction(transactionId, brokerId, userId);
         lenient().when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(transaction));
-        lenient().when(userAccountRepository.searchClientsOfBroker(userId, transactionId.toString())).thenReturn(List.of());
-        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(transactionId.toString()))).thenReturn(List.of());
-        lenient().when(documentRequestRepository.searchDocuments(userId, transactionId.toString())).thenReturn(List.of());
-        lenient().when(appointmentRepository.searchAppointments(userId, transactionId.toString())).thenReturn(List.of());
+        lenient().when(userAccountRepository.searchClientsOfBroker(eq(userId), eq(transactionId.toString()), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(transactionId.toString()), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(documentRequestRepository.searchDocuments(eq(userId), eq(transactionId.toString()), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(appointmentRepository.searchAppointments(eq(userId), eq(transactionId.toString()), any(Pageable.class))).thenReturn(List.of());
 
         List<SearchResultDTO> results = searchService.search(transactionId.toString());
 
@@ -110,10 +122,10 @@ class SearchServiceTest {
         UUID otherUser = UUID.randomUUID();
         Transaction transaction = createTestTransaction(transactionId, otherUser, UUID.randomUUID());
         lenient().when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(transaction));
-        lenient().when(userAccountRepository.searchClientsOfBroker(userId, transactionId.toString())).thenReturn(List.of());
-        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(transactionId.toString()))).thenReturn(List.of());
-        lenient().when(documentRequestRepository.searchDocuments(userId, transactionId.toString())).thenReturn(List.of());
-        lenient().when(appointmentRepository.searchAppointments(userId, transactionId.toString())).thenReturn(List.of());
+        lenient().when(userAccountRepository.searchClientsOfBroker(eq(userId), eq(transactionId.toString()), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(transactionId.toString()), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(documentRequestRepository.searchDocuments(eq(userId), eq(transactionId.toString()), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(appointmentRepository.searchAppointments(eq(userId), eq(transactionId.toString()), any(Pageable.class))).thenReturn(List.of());
 
         List<SearchResultDTO> results = searchService.search(transactionId.toString());
 
@@ -130,10 +142,10 @@ class SearchServiceTest {
         String query = "123 Main";
         Transaction transaction = createTestTransaction(transactionId, brokerId, userId);
         
-        lenient().when(userAccountRepository.searchClientsOfBroker(userId, query)).thenReturn(List.of());
-        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query))).thenReturn(List.of(transaction));
-        lenient().when(documentRequestRepository.searchDocuments(userId, query)).thenReturn(List.of());
-        lenient().when(appointmentRepository.searchAppointments(userId, query)).thenReturn(List.of());
+        lenient().when(userAccountRepository.searchClientsOfBroker(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of(transaction));
+        lenient().when(documentRequestRepository.searchDocuments(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(appointmentRepository.searchAppointments(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
 
         List<SearchResultDTO> results = searchService.search(query);
 
@@ -147,10 +159,10 @@ class SearchServiceTest {
         String query = "John";
         UserAccount user = new UserAccount("auth0|123", "john@example.com", "John", "Doe", UserRole.CLIENT, "en");
         
-        lenient().when(userAccountRepository.searchClientsOfBroker(userId, query)).thenReturn(List.of(user));
-        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query))).thenReturn(List.of());
-        lenient().when(documentRequestRepository.searchDocuments(userId, query)).thenReturn(List.of());
-        lenient().when(appointmentRepository.searchAppointments(userId, query)).thenReturn(List.of());
+        lenient().when(userAccountRepository.searchClientsOfBroker(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of(user));
+        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(documentRequestRepository.searchDocuments(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(appointmentRepository.searchAppointments(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
 
         List<SearchResultDTO> results = searchService.search(query);
 
@@ -165,9 +177,9 @@ class SearchServiceTest {
         Transaction transaction = createTestTransaction(transactionId, brokerId, userId);
         Document document = createTestDocument(transactionId, "Promise to Purchase");
         
-        lenient().when(userAccountRepository.searchClientsOfBroker(userId, query)).thenReturn(List.of());
-        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query))).thenReturn(List.of());
-        lenient().when(documentRequestRepository.searchDocuments(userId, query)).thenReturn(List.of(document));
+        lenient().when(userAccountRepository.searchClientsOfBroker(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(documentRequestRepository.searchDocuments(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of(document));
         lenient().when(transactionRepository.findByTransactionIdIn(List.of(transactionId))).thenReturn(List.of(transaction));
 
         List<SearchResultDTO> results = searchService.search(query);
@@ -186,11 +198,11 @@ class SearchServiceTest {
         UserAccount client = new UserAccount("auth0|456", "jane@example.com", "Jane", "Smith", UserRole.CLIENT, "en");
         Transaction linkedTransaction = createTestTransaction(transactionId, userId, client.getId());
         
-        lenient().when(userAccountRepository.searchClientsOfBroker(userId, query)).thenReturn(List.of(client));
-        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query))).thenReturn(List.of());
-        lenient().when(transactionRepository.findLinkedToUsers(List.of(client.getId()), userId)).thenReturn(List.of(linkedTransaction));
-        lenient().when(documentRequestRepository.searchDocuments(userId, query)).thenReturn(List.of());
-        lenient().when(documentRequestRepository.findLinkedToUsers(List.of(client.getId()), userId)).thenReturn(List.of());
+        lenient().when(userAccountRepository.searchClientsOfBroker(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of(client));
+        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(transactionRepository.findLinkedToUsers(eq(List.of(client.getId())), eq(userId), any(Pageable.class))).thenReturn(List.of(linkedTransaction));
+        lenient().when(documentRequestRepository.searchDocuments(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(documentRequestRepository.findLinkedToUsers(eq(List.of(client.getId())), eq(userId), any(Pageable.class))).thenReturn(List.of());
 
         List<SearchResultDTO> results = searchService.search(query);
 
@@ -200,6 +212,28 @@ class SearchServiceTest {
                 .toList()).hasSize(1);
     }
 
+    @Test
+    void search_WithIndexEnabled_UsesSingleLookup() {
+        SearchService indexedService = new SearchService(transactionRepository, documentRequestRepository,
+                userAccountRepository, appointmentRepository, propertyRepository, searchDocumentRepository, request,
+                Runnable::run, true);
+        SearchDocument row = SearchDocument.builder()
+                .ownerId(userId)
+                .entityType(SearchResultDTO.SearchResultType.TRANSACTION)
+                .entityId(transactionId)
+                .title("123 Main St")
+                .subtitle("Montreal")
+                .url("/transactions/" + transactionId)
+                .searchText("123 main st montreal")
+                .build();
+        when(searchDocumentRepository.searchForOwner(userId, "main", 10)).thenReturn(List.of(row));
+
+        List<SearchResultDTO> results = indexedService.search("Main");
+
+        assertThat(results).extracting(SearchResultDTO::getId).containsExactly(transactionId.toString());
+        verifyNoInteractions(transactionRepository, documentRequestRepository, appointmentRepository);
+    }
+
     // ========== Helper Methods ==========
 
     private Transaction createTestTransaction(UUID txId, UUID broker, UUID client) {
@@ -235,9 +269,9 @@ class SearchServiceTest {
         Transaction tx = createTestTransaction(transactionId, brokerId, userId);
         tx.setPropertyAddress(new PropertyAddress(null, null, null, null)); // Null fields
         
-        lenient().when(userAccountRepository.searchClientsOfBroker(userId, query)).thenReturn(List.of());
-        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query))).thenReturn(List.of(tx));
-        lenient().when(documentRequestRepository.searchDocuments(userId, query)).thenReturn(List.of());
+        lenient().when(userAccountRepository.searchClientsOfBroker(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of(tx));
+        lenient().when(documentRequestRepository.searchDocuments(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
 
         // Act
         List<SearchResultDTO> results = searchService.search(query);
@@ -254,7 +288,7 @@ class SearchServiceTest {
         Transaction tx = createTestTransaction(transactionId, brokerId, userId);
         tx.setPropertyAddress(new PropertyAddress("Street", "Montreal", null, "Zip")); // City only, no province
         
-        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query))).thenReturn(List.of(tx));
+        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of(tx));
 
         List<SearchResultDTO> results = searchService.search(query);
         assertThat(results.get(0).getSubtitle()).isEqualTo("Montreal");
@@ -265,7 +299,7 @@ class SearchServiceTest {
         String query = "test";
         UserAccount user = new UserAccount("auth0|999", "test@mail.com", null, null, UserRole.CLIENT, "en");
         
-        lenient().when(userAccountRepository.searchClientsOfBroker(userId, query)).thenReturn(List.of(user));
+        lenient().when(userAccountRepository.searchClientsOfBroker(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of(user));
 
         List<SearchResultDTO> results = searchService.search(query);
         assertThat(results.get(0).getTitle()).isEqualTo("Unknown User");
@@ -283,7 +317,7 @@ class SearchServiceTest {
         // if (matchedUsers.stream().noneMatch(u -> u.getId().equals(userId))) { add currentUser }
         
         lenient().when(userAccountRepository.findById(userId)).thenReturn(Optional.of(currentUser));
-        lenient().when(userAccountRepository.searchClientsOfBroker(userId, "John")).thenReturn(List.of()); // Empty clients
+        lenient().when(userAccountRepository.searchClientsOfBroker(eq(userId), eq("John"), any(Pageable.class))).thenReturn(List.of()); // Empty clients
 
         List<SearchResultDTO> results = searchService.search("John");
         
@@ -323,7 +357,7 @@ class SearchServiceTest {
         // "Valid" length string but not a UUID
         String query = "NotAUUIDString"; 
         
-        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query))).thenReturn(List.of());
+        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
         
         // Should not throw exception
         List<SearchResultDTO> results = searchService.search(query);
@@ -333,10 +367,10 @@ class SearchServiceTest {
     @Test
     void search_Users_WhenNoneFound_ReturnsEmpty() {
         String query = "Ghost";
-        lenient().when(userAccountRepository.searchClientsOfBroker(userId, query)).thenReturn(List.of());
-        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query))).thenReturn(List.of());
-        lenient().when(documentRequestRepository.searchDocuments(userId, query)).thenReturn(List.of());
-        lenient().when(appointmentRepository.searchAppointments(userId, query)).thenReturn(List.of());
+        lenient().when(userAccountRepository.searchClientsOfBroker(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(documentRequestRepository.searchDocuments(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(appointmentRepository.searchAppointments(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
         List<SearchResultDTO> results = searchService.search(query);
         assertThat(results).isEmpty();
     }
@@ -353,10 +387,10 @@ class SearchServiceTest {
                 .location("Office")
                 .build();
 
-        lenient().when(userAccountRepository.searchClientsOfBroker(userId, query)).thenReturn(List.of());
-        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query))).thenReturn(List.of());
-        lenient().when(documentRequestRepository.searchDocuments(userId, query)).thenReturn(List.of());
-        lenient().when(appointmentRepository.searchAppointments(userId, query)).thenReturn(List.of(appointment));
+        lenient().when(userAccountRepository.searchClientsOfBroker(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(transactionRepository.searchTransactions(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(documentRequestRepository.searchDocuments(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of());
+        lenient().when(appointmentRepository.searchAppointments(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of(appointment));
 
         List<SearchResultDTO> results = searchService.search(query);
 
@@ -376,11 +410,102 @@ class SearchServiceTest {
                 .location(null) // Null location
                 .build();
 
-        lenient().when(appointmentRepository.searchAppointments(userId, query)).thenReturn(List.of(appointment));
+        lenient().when(appointmentRepository.searchAppointments(eq(userId), eq(query), any(Pageable.class))).thenReturn(List.of(appointment));
 
         List<SearchResultDTO> results = searchService.search(query);
         
         assertThat(results).hasSize(1);
         assertThat(results.get(0).getSubtitle()).doesNotContain("•"); // Should be just date/time
     }
+    // ========== Fan-out, Limits & Prefix Cache Tests ==========
+
+    @Test
+    void search_CapsEachTypeAtPerTypeLimit() {
+        String query = "Main";
+        List<Transaction> transactions = new java.util.ArrayList<>();
+        for (int i = 0; i <= SearchService.PER_TYPE_LIMIT; i++) {
+            transactions.add(createTestTransaction(UUID.randomUUID(), brokerId, userId));
+        }
+        when(transactionRepository.searchTransactions(eq(userId), eq(query), any(Pageable.class))).thenReturn(transactions);
+
+        List<SearchResultDTO> results = searchService.search(query);
+
+        assertThat(results).hasSize(SearchService.PER_TYPE_LIMIT);
+        verify(transactionRepository).searchTransactions(eq(userId), eq(query),
+                argThat(p -> p.getPageSize() == SearchService.PER_TYPE_LIMIT + 1));
+    }
+
+    @Test
+    void search_ExtendedQuery_NarrowsPreviousResultsWithoutQuerying() {
+        Transaction main = createTestTransaction(transactionId, brokerId, userId);
+        Transaction other = createTestTransaction(UUID.randomUUID(), brokerId, userId);
+        other.setPropertyAddress(new PropertyAddress("9 Maple Ave", "Laval", "QC", "H7A 1A1"));
+        when(transactionRepository.searchTransactions(eq(userId), eq("Ma"), any(Pageable.class)))
+                .thenReturn(List.of(main, other));
+
+        assertThat(searchService.search("Ma")).hasSize(2);
+        List<SearchResultDTO> narrowed = searchService.search("Mai");
+
+        assertThat(narrowed).extracting(SearchResultDTO::getTitle).containsExactly("123 Main St");
+        verify(transactionRepository, never()).searchTransactions(eq(userId), eq("Mai"), any(Pageable.class));
+    }
+
+    @Test
+    void search_ExtendedQuery_KeepsMatchesFromPropertyText() {
+        Transaction tx = createTestTransaction(transactionId, brokerId, userId);
+        when(transactionRepository.searchTransactions(eq(userId), eq("12"), any(Pageable.class)))
+                .thenReturn(List.of(tx));
+        List<Object[]> propertyRows = List.<Object[]>of(new Object[]{transactionId, "12345678", null});
+        when(propertyRepository.findSearchTextByTransactionIdIn(any())).thenReturn(propertyRows);
+
+        searchService.search("12");
+        List<SearchResultDTO> narrowed = searchService.search("12345");
+
+        assertThat(narrowed).hasSize(1);
+        verify(transactionRepository, never()).searchTransactions(eq(userId), eq("12345"), any(Pageable.class));
+    }
+
+    @Test
+    void search_TruncatedResults_AreNotReusedForExtendedQuery() {
+        List<Transaction> transactions = new java.util.ArrayList<>();
+        for (int i = 0; i <= SearchService.PER_TYPE_LIMIT; i++) {
+            transactions.add(createTestTransaction(UUID.randomUUID(), brokerId, userId));
+        }
+        when(transactionRepository.searchTransactions(eq(userId), eq("Ma"), any(Pageable.class))).thenReturn(transactions);
+
+        searchService.search("Ma");
+        searchService.search("Main");
+
+        verify(transactionRepository).searchTransactions(eq(userId), eq("Main"), any(Pageable.class));
+    }
+
+    @Test
+    void search_RanksTitlePrefixMatchesFirst() {
+        String query = "main";
+        Transaction containsMatch = createTestTransaction(UUID.randomUUID(), brokerId, userId);
+        containsMatch.setPropertyAddress(new PropertyAddress("10 Rue Remainder", "Montreal", "QC", "H1A 1A1"));
+        Transaction prefixMatch = createTestTransaction(UUID.randomUUID(), brokerId, userId);
+        prefixMatch.setPropertyAddress(new PropertyAddress("Main Street", "Montreal", "QC", "H1A 1A1"));
+        when(transactionRepository.searchTransactions(eq(userId), eq(query), any(Pageable.class)))
+                .thenReturn(List.of(containsMatch, prefixMatch));
+
+        List<SearchResultDTO> results = searchService.search(query);
+
+        assertThat(results).extracting(SearchResultDTO::getTitle).containsExactly("Main Street", "10 Rue Remainder");
+    }
+
+    @Test
+    void search_RunsBranchesOnProvidedExecutor() {
+        java.util.concurrent.atomic.AtomicInteger submitted = new java.util.concurrent.atomic.AtomicInteger();
+        SearchService countingService = new SearchService(transactionRepository, documentRequestRepository,
+                userAccountRepository, appointmentRepository, propertyRepository, searchDocumentRepository, request,
+                task -> {
+                    submitted.incrementAndGet();
+                    task.run();
+                }, false);
+
+        countingService.search("Nothing");
+
+        assertThat(submitted.get()).isGreaterThanOrEqualTo(4);
+    }
 }
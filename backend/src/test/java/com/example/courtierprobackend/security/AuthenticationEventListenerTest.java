@@ -307,4 +307,25 @@ class AuthenticationEventListenerTest {
         
         verify(loginAuditService, times(5)).recordLoginEvent(any(), any(), any(), any(), any());
     }
-}
\ No newline at end of file
+
+    @Test
+    void onAuthenticationSuccess_AfterExpiredTokensPurged_AuditsAgain() {
+        Instant issuedAt = Instant.now().minusSeconds(7200);
+        Jwt jwt = Jwt.withTokenValue("token")
+                .header("alg", "RS256")
+                .subject("auth0|expiredUser")
+                .claim("https://courtierpro.dev/email", "expired@example.com")
+                .issuedAt(issuedAt)
+                .expiresAt(issuedAt.plusSeconds(3600))
+                .build();
+
+        when(authentication.getPrincipal()).thenReturn(jwt);
+        AuthenticationSuccessEvent event = new AuthenticationSuccessEvent(authentication);
+
+        listener.onAuthenticationSuccess(event);
+        listener.purgeExpiredTokens();
+        listener.onAuthenticationSuccess(event);
+
+        verify(loginAuditService, times(2)).recordLoginEvent(eq("auth0|expiredUser"), any(), any(), any(), any());
+    }
+}
@@ -6,7 +6,9 @@ import com.example.courtierprobackend.common.exceptions.ForbiddenException;
 import com.example.courtierprobackend.common.exceptions.GlobalExceptionHandler;
 import com.example.courtierprobackend.common.exceptions.NotFoundException;
 import com.example.courtierprobackend.security.UserContextFilter;
+import com.example.courtierprobackend.transactions.businesslayer.TransactionAccessContext;
 import com.example.courtierprobackend.transactions.businesslayer.TransactionService;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import com.example.courtierprobackend.transactions.datalayer.dto.ConditionRequestDTO;
 import com.example.courtierprobackend.transactions.datalayer.dto.ConditionResponseDTO;
 import com.example.courtierprobackend.transactions.datalayer.enums.ConditionStatus;
@@ -83,7 +85,8 @@ class ConditionControllerIntegrationTest {
 
             ConditionResponseDTO condition = createSampleConditionResponse();
 
-            when(service.getConditions(eq(transactionId), eq(brokerId), anyBoolean()))
+            when(service.resolveAccess(transactionId, brokerId)).thenReturn(accessFor(transactionId, brokerId));
+            when(service.getConditions(any(TransactionAccessContext.class), anyBoolean()))
                     .thenReturn(List.of(condition));
 
             mockMvc.perform(
@@ -106,7 +109,8 @@ class ConditionControllerIntegrationTest {
 
             ConditionResponseDTO condition = createSampleConditionResponse();
 
-            when(service.getConditions(eq(transactionId), eq(clientId), eq(false)))
+            when(service.resolveAccess(transactionId, clientId)).thenReturn(accessFor(transactionId, clientId));
+            when(service.getConditions(any(TransactionAccessContext.class), eq(false)))
                     .thenReturn(List.of(condition));
 
             mockMvc.perform(
@@ -130,13 +134,32 @@ class ConditionControllerIntegrationTest {
                     .andExpect(status().isForbidden());
         }
 
+        @Test
+        @DisplayName("should return 403 without loading when user has no access, even with a cached copy")
+        void getConditions_noAccess_returns403WithoutLoading() throws Exception {
+            UUID transactionId = UUID.randomUUID();
+            UUID brokerId = UUID.randomUUID();
+
+            when(service.resolveAccess(transactionId, brokerId)).thenReturn(strangerAccess(transactionId, brokerId));
+
+            mockMvc.perform(
+                    get("/transactions/{transactionId}/conditions", transactionId)
+                            .with(jwt().authorities(ROLE_BROKER).jwt(jwt -> jwt.claim("sub", brokerId.toString())))
+                            .header("x-broker-id", brokerId.toString())
+                            .header("If-None-Match", "*")
+            )
+                    .andExpect(status().isForbidden());
+
+            verify(service, never()).getConditions(any(TransactionAccessContext.class), anyBoolean());
+        }
+
         @Test
         @DisplayName("should return 404 when transaction not found")
         void getConditions_transactionNotFound_returns404() throws Exception {
             UUID transactionId = UUID.randomUUID();
             UUID brokerId = UUID.randomUUID();
 
-            when(service.getConditions(eq(transactionId), eq(brokerId), anyBoolean()))
+            when(service.resolveAccess(transactionId, brokerId))
                     .thenThrow(new NotFoundException("Transaction not found"));
 
             mockMvc.perform(
@@ -153,7 +176,8 @@ class ConditionControllerIntegrationTest {
             UUID transactionId = UUID.randomUUID();
             UUID brokerId = UUID.randomUUID();
 
-            when(service.getConditions(eq(transactionId), eq(brokerId), anyBoolean()))
+            when(service.resolveAccess(transactionId, brokerId)).thenReturn(accessFor(transactionId, brokerId));
+            when(service.getConditions(any(TransactionAccessContext.class), anyBoolean()))
                     .thenReturn(List.of());
 
             mockMvc.perform(
@@ -541,6 +565,26 @@ class ConditionControllerIntegrationTest {
 
     // ==================== Helper Methods ====================
 
+    private static TransactionAccessContext accessFor(UUID transactionId, UUID userId) {
+        Transaction tx = Transaction.builder()
+                .transactionId(transactionId)
+                .brokerId(userId)
+                .clientId(UUID.randomUUID())
+                .version(1L)
+                .viewVersion(1L)
+                .build();
+        return new TransactionAccessContext(tx, userId, null, List.of());
+    }
+
+    private static TransactionAccessContext strangerAccess(UUID transactionId, UUID userId) {
+        Transaction tx = Transaction.builder()
+                .transactionId(transactionId)
+                .brokerId(UUID.randomUUID())
+                .clientId(UUID.randomUUID())
+                .build();
+        return new TransactionAccessContext(tx, userId, null, List.of());
+    }
+
     private ConditionRequestDTO createSampleConditionRequest() {
         return ConditionRequestDTO.builder()
                 .type(ConditionType.FINANCING)
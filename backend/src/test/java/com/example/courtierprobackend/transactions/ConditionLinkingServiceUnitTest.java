@@ -1,5 +1,6 @@
 package com.example.courtierprobackend.transactions;
 
+import com.example.courtierprobackend.transactions.businesslayer.OfferGraphLoader;
 import com.example.courtierprobackend.transactions.businesslayer.TransactionServiceImpl;
 import com.example.courtierprobackend.transactions.datalayer.*;
 import com.example.courtierprobackend.transactions.datalayer.dto.*;
@@ -7,8 +8,6 @@ import com.example.courtierprobackend.transactions.datalayer.enums.*;
 import com.example.courtierprobackend.transactions.datalayer.repositories.*;
 import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
-import com.example.courtierprobackend.email.EmailService;
-import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
 import com.example.courtierprobackend.audit.timeline_audit.businesslayer.TimelineService;
 import com.example.courtierprobackend.infrastructure.storage.ObjectStorageService;
 import org.junit.jupiter.api.BeforeEach;
@@ -37,8 +36,6 @@ class ConditionLinkingServiceUnitTest {
     @Mock private TransactionRepository transactionRepository;
     @Mock private PinnedTransactionRepository pinnedTransactionRepository;
     @Mock private UserAccountRepository userAccountRepository;
-    @Mock private EmailService emailService;
-    @Mock private NotificationService notificationService;
     @Mock private TimelineService timelineService;
     @Mock private TransactionParticipantRepository participantRepository;
     @Mock private PropertyRepository propertyRepository;
@@ -53,6 +50,7 @@ class ConditionLinkingServiceUnitTest {
     @Mock private SearchCriteriaRepository searchCriteriaRepository;
     @Mock private com.example.courtierprobackend.appointments.datalayer.AppointmentRepository appointmentRepository;
     @Mock private com.example.courtierprobackend.transactions.datalayer.repositories.VisitorRepository visitorRepository;
+    @Mock private com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher domainEventPublisher;
 
     private TransactionServiceImpl transactionService;
 
@@ -68,8 +66,6 @@ class ConditionLinkingServiceUnitTest {
                 transactionRepository,
                 pinnedTransactionRepository,
                 userAccountRepository,
-                emailService,
-                notificationService,
                 timelineService,
                 participantRepository,
                 propertyRepository,
@@ -83,7 +79,10 @@ class ConditionLinkingServiceUnitTest {
                 documentConditionLinkRepository,
                 searchCriteriaRepository,
                 appointmentRepository,
-                visitorRepository
+                visitorRepository,
+                domainEventPublisher,
+                new OfferGraphLoader(offerDocumentRepository, documentConditionLinkRepository,
+                        conditionRepository)
         );
 
         transactionId = UUID.randomUUID();
@@ -110,8 +109,8 @@ class ConditionLinkingServiceUnitTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
         when(offerRepository.save(any(Offer.class))).thenReturn(savedOffer);
-        when(offerDocumentRepository.findByOfferIdOrderByCreatedAtDesc(any())).thenReturn(List.of());
-        when(documentConditionLinkRepository.findByOfferId(any())).thenReturn(List.of());
+        when(offerDocumentRepository.findByOfferIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
+        when(documentConditionLinkRepository.findByOfferIdIn(any())).thenReturn(List.of());
 
         OfferRequestDTO dto = OfferRequestDTO.builder()
                 .buyerName("Test Buyer")
@@ -151,8 +150,8 @@ class ConditionLinkingServiceUnitTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
         when(offerRepository.save(any(Offer.class))).thenReturn(savedOffer);
-        when(offerDocumentRepository.findByOfferIdOrderByCreatedAtDesc(any())).thenReturn(List.of());
-        when(documentConditionLinkRepository.findByOfferId(any())).thenReturn(List.of());
+        when(offerDocumentRepository.findByOfferIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
+        when(documentConditionLinkRepository.findByOfferIdIn(any())).thenReturn(List.of());
 
         OfferRequestDTO dto = OfferRequestDTO.builder()
                 .buyerName("Test Buyer")
@@ -188,8 +187,8 @@ class ConditionLinkingServiceUnitTest {
         when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
         when(offerRepository.findByOfferId(offerId)).thenReturn(Optional.of(existingOffer));
         when(offerRepository.save(any(Offer.class))).thenReturn(existingOffer);
-        when(offerDocumentRepository.findByOfferIdOrderByCreatedAtDesc(any())).thenReturn(List.of());
-        when(documentConditionLinkRepository.findByOfferId(any())).thenReturn(List.of());
+        when(offerDocumentRepository.findByOfferIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
+        when(documentConditionLinkRepository.findByOfferIdIn(any())).thenReturn(List.of());
 
         OfferRequestDTO dto = OfferRequestDTO.builder()
                 .buyerName("Updated Buyer")
@@ -235,8 +234,8 @@ class ConditionLinkingServiceUnitTest {
         when(propertyOfferRepository.findMaxOfferRoundByPropertyId(propertyId)).thenReturn(null);
         when(propertyOfferRepository.save(any(PropertyOffer.class))).thenReturn(savedOffer);
         when(propertyRepository.save(any(Property.class))).thenReturn(property);
-        when(offerDocumentRepository.findByPropertyOfferIdOrderByCreatedAtDesc(any())).thenReturn(List.of());
-        when(documentConditionLinkRepository.findByPropertyOfferId(any())).thenReturn(List.of());
+        when(offerDocumentRepository.findByPropertyOfferIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
+        when(documentConditionLinkRepository.findByPropertyOfferIdIn(any())).thenReturn(List.of());
 
         PropertyOfferRequestDTO dto = PropertyOfferRequestDTO.builder()
                 .offerAmount(BigDecimal.valueOf(500000))
@@ -276,14 +275,14 @@ class ConditionLinkingServiceUnitTest {
                 .updatedAt(LocalDateTime.now())
                 .build();
         when(offerRepository.save(any(Offer.class))).thenReturn(savedOffer);
-        when(offerDocumentRepository.findByOfferIdOrderByCreatedAtDesc(any())).thenReturn(List.of());
+        when(offerDocumentRepository.findByOfferIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
         
         // Mock condition links
         DocumentConditionLink link = DocumentConditionLink.builder()
                 .conditionId(conditionId1)
                 .offerId(offerId)
                 .build();
-        when(documentConditionLinkRepository.findByOfferId(offerId)).thenReturn(List.of(link));
+        when(documentConditionLinkRepository.findByOfferIdIn(any())).thenReturn(List.of(link));
         
         // Mock condition lookup
         Condition condition = Condition.builder()
@@ -296,7 +295,7 @@ class ConditionLinkingServiceUnitTest {
                 .createdAt(LocalDateTime.now())
                 .updatedAt(LocalDateTime.now())
                 .build();
-        when(conditionRepository.findByConditionId(conditionId1)).thenReturn(Optional.of(condition));
+        when(conditionRepository.findByConditionIdIn(any())).thenReturn(List.of(condition));
 
         OfferRequestDTO dto = OfferRequestDTO.builder()
                 .buyerName("Test Buyer")
@@ -4,6 +4,7 @@ import com.example.courtierprobackend.audit.timeline_audit.businesslayer.Timelin
 import com.example.courtierprobackend.common.exceptions.NotFoundException;
 import com.example.courtierprobackend.email.EmailService;
 import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.transactions.businesslayer.OfferGraphLoader;
 import com.example.courtierprobackend.transactions.businesslayer.TransactionServiceImpl;
 import com.example.courtierprobackend.transactions.datalayer.Offer;
 import com.example.courtierprobackend.transactions.datalayer.OfferRevision;
@@ -21,6 +22,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -86,6 +88,9 @@ class OfferRevisionServiceUnitTest {
     @Mock
     private DocumentConditionLinkRepository documentConditionLinkRepository;
 
+    @Mock
+    private com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher domainEventPublisher;
+
     @InjectMocks
     private TransactionServiceImpl service;
 
@@ -97,6 +102,9 @@ class OfferRevisionServiceUnitTest {
 
     @BeforeEach
     void setUp() {
+        // Real loader over the mocked repositories
+        ReflectionTestUtils.setField(service, "offerGraphLoader", new OfferGraphLoader(offerDocumentRepository,
+                documentConditionLinkRepository, conditionRepository));
         transactionId = UUID.randomUUID();
         brokerId = UUID.randomUUID();
         offerId = UUID.randomUUID();
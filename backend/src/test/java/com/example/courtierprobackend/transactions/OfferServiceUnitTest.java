@@ -4,9 +4,10 @@ import com.example.courtierprobackend.audit.timeline_audit.businesslayer.Timelin
 import com.example.courtierprobackend.common.exceptions.BadRequestException;
 import com.example.courtierprobackend.common.exceptions.ForbiddenException;
 import com.example.courtierprobackend.common.exceptions.NotFoundException;
-import com.example.courtierprobackend.email.EmailService;
-import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.transactions.businesslayer.OfferGraphLoader;
 import com.example.courtierprobackend.transactions.businesslayer.TransactionServiceImpl;
+import com.example.courtierprobackend.transactions.businesslayer.events.ClientOfferDecisionEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.OfferReceivedEvent;
 import com.example.courtierprobackend.transactions.datalayer.Offer;
 import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import com.example.courtierprobackend.transactions.datalayer.dto.ClientOfferDecisionDTO;
@@ -24,6 +25,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -64,12 +66,6 @@ class OfferServiceUnitTest {
     @Mock
     private UserAccountRepository userAccountRepository;
 
-    @Mock
-    private EmailService emailService;
-
-    @Mock
-    private NotificationService notificationService;
-
     @Mock
     private TimelineService timelineService;
 
@@ -91,6 +87,9 @@ class OfferServiceUnitTest {
     @Mock
     private DocumentConditionLinkRepository documentConditionLinkRepository;
 
+    @Mock
+    private com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher domainEventPublisher;
+
     @InjectMocks
     private TransactionServiceImpl service;
 
@@ -104,6 +103,9 @@ class OfferServiceUnitTest {
 
     @BeforeEach
     void setUp() {
+        // Real loader over the mocked repositories
+        ReflectionTestUtils.setField(service, "offerGraphLoader", new OfferGraphLoader(offerDocumentRepository,
+                documentConditionLinkRepository, conditionRepository));
         transactionId = UUID.randomUUID();
         brokerId = UUID.randomUUID();
         clientId = UUID.randomUUID();
@@ -136,7 +138,7 @@ class OfferServiceUnitTest {
                 .build();
 
         // Default stub: offerDocumentRepository returns empty list
-        lenient().when(offerDocumentRepository.findByOfferIdOrderByCreatedAtDesc(any()))
+        lenient().when(offerDocumentRepository.findByOfferIdInOrderByCreatedAtDesc(any()))
                 .thenReturn(java.util.Collections.emptyList());
         // Default stub: offerRevisionRepository returns null for max revision
         lenient().when(offerRevisionRepository.findMaxRevisionNumberByOfferId(any()))
@@ -232,14 +234,10 @@ class OfferServiceUnitTest {
             assertThat(result.getBuyerName()).isEqualTo("Jane Smith");
             assertThat(result.getOfferAmount()).isEqualByComparingTo(BigDecimal.valueOf(450000));
             verify(timelineService).addEntry(any(), eq(brokerId), any(), any(), isNull(), any());
-            verify(notificationService).createNotification(
-                    eq(clientId.toString()),
-                    eq("notifications.offerReceived.title"),
-                    eq("notifications.offerReceived.message"),
-                    any(java.util.Map.class),
-                    eq(transactionId.toString()),
-                    any()
-            );
+            verify(domainEventPublisher).publish(eq(transactionId), argThat(event ->
+                    event instanceof OfferReceivedEvent received
+                            && received.clientId().equals(clientId)
+                            && received.brokerId().equals(brokerId)));
         }
 
         @Test
@@ -591,8 +589,8 @@ class OfferServiceUnitTest {
         }
 
         @Test
-        @DisplayName("should notify broker when client submits decision")
-        void submitClientOfferDecision_notifiesBroker() {
+        @DisplayName("should publish decision for the broker when client submits it")
+        void submitClientOfferDecision_publishesDecisionEvent() {
             ClientOfferDecisionDTO request = ClientOfferDecisionDTO.builder()
                     .decision(ClientOfferDecision.ACCEPT)
                     .build();
@@ -606,14 +604,9 @@ class OfferServiceUnitTest {
 
             service.submitClientOfferDecision(offerId, request, clientId);
 
-            verify(notificationService).createNotification(
-                    eq(brokerId.toString()),
-                    eq("notifications.clientOfferDecision.title"),
-                    eq("notifications.clientOfferDecision.message"),
-                    any(java.util.Map.class),
-                    eq(transactionId.toString()),
-                    any()
-            );
+            verify(domainEventPublisher).publish(eq(transactionId), argThat(event ->
+                    event instanceof ClientOfferDecisionEvent decision
+                            && decision.brokerId().equals(brokerId)));
         }
 
         @Test
@@ -5,10 +5,12 @@ import com.example.courtierprobackend.audit.timeline_audit.dataaccesslayer.Enum.
 import com.example.courtierprobackend.audit.timeline_audit.dataaccesslayer.value_object.TransactionInfo;
 import com.example.courtierprobackend.common.exceptions.BadRequestException;
 import com.example.courtierprobackend.common.exceptions.NotFoundException;
-import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher;
 import com.example.courtierprobackend.infrastructure.storage.ObjectStorageService;
-import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.transactions.businesslayer.OfferGraphLoader;
 import com.example.courtierprobackend.transactions.businesslayer.TransactionServiceImpl;
+import com.example.courtierprobackend.transactions.businesslayer.events.PropertyOfferMadeEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.PropertyOfferStatusChangedEvent;
 import com.example.courtierprobackend.transactions.datalayer.Property;
 import com.example.courtierprobackend.transactions.datalayer.PropertyOffer;
 import com.example.courtierprobackend.transactions.datalayer.Transaction;
@@ -27,6 +29,7 @@ import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -81,12 +84,6 @@ class PropertyOfferServiceUnitTest {
     @Mock
     private UserAccountRepository userAccountRepository;
 
-    @Mock
-    private EmailService emailService;
-
-    @Mock
-    private NotificationService notificationService;
-
     @Mock
     private TimelineService timelineService;
 
@@ -96,6 +93,9 @@ class PropertyOfferServiceUnitTest {
     @Mock
     private DocumentConditionLinkRepository documentConditionLinkRepository;
 
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+
     @InjectMocks
     private TransactionServiceImpl service;
 
@@ -110,6 +110,9 @@ class PropertyOfferServiceUnitTest {
 
     @BeforeEach
     void setUp() {
+        // Real loader over the mocked repositories
+        ReflectionTestUtils.setField(service, "offerGraphLoader", new OfferGraphLoader(offerDocumentRepository,
+                documentConditionLinkRepository, conditionRepository));
         transactionId = UUID.randomUUID();
         propertyId = UUID.randomUUID();
         propertyOfferId = UUID.randomUUID();
@@ -148,7 +151,7 @@ class PropertyOfferServiceUnitTest {
                 .build();
 
         // Default stubs for document methods
-        lenient().when(offerDocumentRepository.findByPropertyOfferIdOrderByCreatedAtDesc(any()))
+        lenient().when(offerDocumentRepository.findByPropertyOfferIdInOrderByCreatedAtDesc(any()))
                 .thenReturn(Collections.emptyList());
     }
 
@@ -190,6 +193,58 @@ class PropertyOfferServiceUnitTest {
             assertThat(result).hasSize(1);
         }
 
+        @Test
+        @DisplayName("should load documents and conditions of every round in batched queries")
+        void getPropertyOffers_manyRounds_batchesOfferGraph() {
+            PropertyOffer secondRound = PropertyOffer.builder()
+                    .propertyOfferId(UUID.randomUUID())
+                    .propertyId(propertyId)
+                    .offerRound(2)
+                    .offerAmount(new BigDecimal("485000"))
+                    .status(BuyerOfferStatus.COUNTERED)
+                    .build();
+            UUID conditionId = UUID.randomUUID();
+            com.example.courtierprobackend.transactions.datalayer.Condition condition =
+                    com.example.courtierprobackend.transactions.datalayer.Condition.builder()
+                            .conditionId(conditionId)
+                            .transactionId(transactionId)
+                            .build();
+            com.example.courtierprobackend.transactions.datalayer.OfferDocument document =
+                    com.example.courtierprobackend.transactions.datalayer.OfferDocument.builder()
+                            .documentId(UUID.randomUUID())
+                            .propertyOfferId(secondRound.getPropertyOfferId())
+                            .fileName("counter.pdf")
+                            .build();
+
+            when(propertyRepository.findByPropertyId(propertyId))
+                    .thenReturn(Optional.of(sampleProperty));
+            when(transactionRepository.findByTransactionId(transactionId))
+                    .thenReturn(Optional.of(buySideTransaction));
+            when(propertyOfferRepository.findByPropertyIdOrderByOfferRoundDesc(propertyId))
+                    .thenReturn(List.of(secondRound, sampleOffer));
+            when(offerDocumentRepository.findByPropertyOfferIdInOrderByCreatedAtDesc(
+                    List.of(secondRound.getPropertyOfferId(), propertyOfferId)))
+                    .thenReturn(List.of(document));
+            when(documentConditionLinkRepository.findByPropertyOfferIdIn(any())).thenReturn(List.of(
+                    com.example.courtierprobackend.transactions.datalayer.DocumentConditionLink.builder()
+                            .conditionId(conditionId).propertyOfferId(propertyOfferId).build(),
+                    com.example.courtierprobackend.transactions.datalayer.DocumentConditionLink.builder()
+                            .conditionId(conditionId).propertyOfferId(secondRound.getPropertyOfferId()).build()));
+            when(conditionRepository.findByConditionIdIn(java.util.Set.of(conditionId)))
+                    .thenReturn(List.of(condition));
+
+            List<PropertyOfferResponseDTO> result = service.getPropertyOffers(propertyId, brokerId, true);
+
+            assertThat(result).hasSize(2);
+            assertThat(result.get(0).getDocuments()).extracting("fileName").containsExactly("counter.pdf");
+            assertThat(result.get(1).getDocuments()).isEmpty();
+            assertThat(result).allSatisfy(dto -> assertThat(dto.getConditions())
+                    .extracting("conditionId").containsExactly(conditionId));
+            verify(offerDocumentRepository, never()).findByPropertyOfferIdOrderByCreatedAtDesc(any());
+            verify(documentConditionLinkRepository, never()).findByPropertyOfferId(any());
+            verify(conditionRepository, never()).findByConditionId(any());
+        }
+
         @Test
         @DisplayName("should throw NotFoundException when property not found")
         void getPropertyOffers_propertyNotFound_throws() {
@@ -249,13 +304,10 @@ class PropertyOfferServiceUnitTest {
             assertThat(result.getOfferRound()).isEqualTo(1);
             assertThat(result.getOfferAmount()).isEqualByComparingTo(new BigDecimal("480000"));
             verify(timelineService).addEntry(eq(transactionId), eq(brokerId), eq(TimelineEntryType.PROPERTY_OFFER_MADE), any(), isNull(), any());
-            verify(notificationService).createNotification(
-                    eq(clientId.toString()),
-                    eq("notifications.propertyOfferMade.title"),
-                    eq("notifications.propertyOfferMade.message"),
-                    anyMap(),
-                    eq(transactionId.toString()),
-                    eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.OFFER_MADE));
+            verify(domainEventPublisher).publish(eq(transactionId), argThat(event ->
+                    event instanceof PropertyOfferMadeEvent made
+                            && made.clientId().equals(clientId)
+                            && made.offerRound() == 1));
         }
 
         @Test
@@ -354,18 +406,16 @@ class PropertyOfferServiceUnitTest {
             assertThat(result.getOfferAmount()).isEqualByComparingTo(new BigDecimal("485000"));
             assertThat(result.getStatus()).isEqualTo(BuyerOfferStatus.ACCEPTED);
             verify(timelineService).addEntry(eq(transactionId), eq(brokerId), eq(TimelineEntryType.PROPERTY_OFFER_UPDATED), any(), isNull(), any());
-            verify(notificationService).createNotification(
-                    eq(clientId.toString()),
-                    eq("notifications.propertyOfferStatusChanged.title"),
-                    eq("notifications.propertyOfferStatusChanged.message"),
-                    anyMap(),
-                    eq(transactionId.toString()),
-                    eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.OFFER_STATUS_CHANGED));
+            verify(domainEventPublisher).publish(eq(transactionId), argThat(event ->
+                    event instanceof PropertyOfferStatusChangedEvent changed
+                            && changed.clientId().equals(clientId)
+                            && changed.newStatus() == BuyerOfferStatus.ACCEPTED
+                            && changed.counterpartyResponse() == CounterpartyResponse.ACCEPTED));
         }
 
         @Test
-        @DisplayName("should send OFFER_COUNTERED notification when countered")
-        void updatePropertyOffer_countered_sendsNotification() {
+        @DisplayName("should publish status change when countered")
+        void updatePropertyOffer_countered_publishesStatusChange() {
             PropertyOfferRequestDTO request = PropertyOfferRequestDTO.builder()
                     .offerAmount(new BigDecimal("490000"))
                     .status(BuyerOfferStatus.COUNTERED)
@@ -382,13 +432,10 @@ class PropertyOfferServiceUnitTest {
 
             service.updatePropertyOffer(propertyId, propertyOfferId, request, brokerId);
 
-            verify(notificationService).createNotification(
-                    eq(clientId.toString()),
-                    anyString(),
-                    anyString(),
-                    anyMap(),
-                    eq(transactionId.toString()),
-                    eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.OFFER_COUNTERED));
+            verify(domainEventPublisher).publish(eq(transactionId), argThat(event ->
+                    event instanceof PropertyOfferStatusChangedEvent changed
+                            && changed.previousStatus() == BuyerOfferStatus.OFFER_MADE
+                            && changed.newStatus() == BuyerOfferStatus.COUNTERED));
         }
 
         @Test
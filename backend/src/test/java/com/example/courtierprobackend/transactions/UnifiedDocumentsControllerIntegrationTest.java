@@ -5,7 +5,9 @@ import com.example.courtierprobackend.common.exceptions.ForbiddenException;
 import com.example.courtierprobackend.common.exceptions.GlobalExceptionHandler;
 import com.example.courtierprobackend.common.exceptions.NotFoundException;
 import com.example.courtierprobackend.security.UserContextFilter;
+import com.example.courtierprobackend.transactions.businesslayer.TransactionAccessContext;
 import com.example.courtierprobackend.transactions.businesslayer.TransactionService;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import com.example.courtierprobackend.transactions.datalayer.dto.UnifiedDocumentDTO;
 import com.example.courtierprobackend.transactions.presentationlayer.TransactionController;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
@@ -24,6 +26,7 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.when;
@@ -75,7 +78,8 @@ class UnifiedDocumentsControllerIntegrationTest {
                     createPropertyOfferAttachmentDocument()
             );
 
-            when(service.getAllTransactionDocuments(eq(transactionId), eq(brokerId), anyBoolean()))
+            when(service.resolveAccess(transactionId, brokerId)).thenReturn(accessFor(transactionId, brokerId));
+            when(service.getAllTransactionDocuments(any(TransactionAccessContext.class), anyBoolean()))
                     .thenReturn(documents);
 
             mockMvc.perform(
@@ -102,7 +106,8 @@ class UnifiedDocumentsControllerIntegrationTest {
                     createOfferAttachmentDocument()
             );
 
-            when(service.getAllTransactionDocuments(eq(transactionId), eq(clientId), eq(false)))
+            when(service.resolveAccess(transactionId, clientId)).thenReturn(accessFor(transactionId, clientId));
+            when(service.getAllTransactionDocuments(any(TransactionAccessContext.class), eq(false)))
                     .thenReturn(documents);
 
             mockMvc.perform(
@@ -121,7 +126,8 @@ class UnifiedDocumentsControllerIntegrationTest {
             UUID transactionId = UUID.randomUUID();
             UUID brokerId = UUID.randomUUID();
 
-            when(service.getAllTransactionDocuments(eq(transactionId), eq(brokerId), anyBoolean()))
+            when(service.resolveAccess(transactionId, brokerId)).thenReturn(accessFor(transactionId, brokerId));
+            when(service.getAllTransactionDocuments(any(TransactionAccessContext.class), anyBoolean()))
                     .thenReturn(List.of());
 
             mockMvc.perform(
@@ -140,7 +146,7 @@ class UnifiedDocumentsControllerIntegrationTest {
             UUID transactionId = UUID.randomUUID();
             UUID brokerId = UUID.randomUUID();
 
-            when(service.getAllTransactionDocuments(eq(transactionId), eq(brokerId), anyBoolean()))
+            when(service.resolveAccess(transactionId, brokerId))
                     .thenThrow(new NotFoundException("Transaction not found"));
 
             mockMvc.perform(
@@ -157,8 +163,7 @@ class UnifiedDocumentsControllerIntegrationTest {
             UUID transactionId = UUID.randomUUID();
             UUID brokerId = UUID.randomUUID();
 
-            when(service.getAllTransactionDocuments(eq(transactionId), eq(brokerId), anyBoolean()))
-                    .thenThrow(new ForbiddenException("You do not have access to this transaction"));
+            when(service.resolveAccess(transactionId, brokerId)).thenReturn(strangerAccess(transactionId, brokerId));
 
             mockMvc.perform(
                     get("/transactions/{transactionId}/all-documents", transactionId)
@@ -183,6 +188,26 @@ class UnifiedDocumentsControllerIntegrationTest {
 
     // ==================== Helper Methods ====================
 
+    private static TransactionAccessContext accessFor(UUID transactionId, UUID userId) {
+        Transaction tx = Transaction.builder()
+                .transactionId(transactionId)
+                .brokerId(userId)
+                .clientId(UUID.randomUUID())
+                .version(1L)
+                .viewVersion(1L)
+                .build();
+        return new TransactionAccessContext(tx, userId, null, List.of());
+    }
+
+    private static TransactionAccessContext strangerAccess(UUID transactionId, UUID userId) {
+        Transaction tx = Transaction.builder()
+                .transactionId(transactionId)
+                .brokerId(UUID.randomUUID())
+                .clientId(UUID.randomUUID())
+                .build();
+        return new TransactionAccessContext(tx, userId, null, List.of());
+    }
+
     private UnifiedDocumentDTO createClientUploadDocument() {
         return UnifiedDocumentDTO.builder()
                 .documentId(UUID.randomUUID())
@@ -0,0 +1,125 @@
+package com.example.courtierprobackend.transactions.businesslayer;
+
+import com.example.courtierprobackend.transactions.datalayer.Condition;
+import com.example.courtierprobackend.transactions.datalayer.DocumentConditionLink;
+import com.example.courtierprobackend.transactions.datalayer.OfferDocument;
+import com.example.courtierprobackend.transactions.datalayer.repositories.ConditionRepository;
+import com.example.courtierprobackend.transactions.datalayer.repositories.DocumentConditionLinkRepository;
+import com.example.courtierprobackend.transactions.datalayer.repositories.OfferDocumentRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for OfferGraphLoader.
+ */
+@ExtendWith(MockitoExtension.class)
+class OfferGraphLoaderTest {
+
+    @Mock
+    private OfferDocumentRepository offerDocumentRepository;
+    @Mock
+    private DocumentConditionLinkRepository documentConditionLinkRepository;
+    @Mock
+    private ConditionRepository conditionRepository;
+
+    private OfferGraphLoader loader;
+
+    @BeforeEach
+    void setUp() {
+        loader = new OfferGraphLoader(offerDocumentRepository, documentConditionLinkRepository,
+                conditionRepository);
+    }
+
+    @Test
+    void loadForOffers_groupsDocumentsAndConditionsByOffer() {
+        UUID offer1 = UUID.randomUUID();
+        UUID offer2 = UUID.randomUUID();
+        UUID sharedCondition = UUID.randomUUID();
+        UUID otherCondition = UUID.randomUUID();
+
+        OfferDocument doc1 = OfferDocument.builder().documentId(UUID.randomUUID()).offerId(offer1).build();
+        OfferDocument doc2 = OfferDocument.builder().documentId(UUID.randomUUID()).offerId(offer1).build();
+        when(offerDocumentRepository.findByOfferIdInOrderByCreatedAtDesc(List.of(offer1, offer2)))
+                .thenReturn(List.of(doc1, doc2));
+        when(documentConditionLinkRepository.findByOfferIdIn(List.of(offer1, offer2))).thenReturn(List.of(
+                link(sharedCondition, offer1),
+                link(sharedCondition, offer2),
+                link(otherCondition, offer2)));
+        Condition shared = Condition.builder().conditionId(sharedCondition).build();
+        Condition other = Condition.builder().conditionId(otherCondition).build();
+        when(conditionRepository.findByConditionIdIn(Set.of(sharedCondition, otherCondition)))
+                .thenReturn(List.of(shared, other));
+
+        OfferGraphLoader.OfferGraph graph = loader.loadForOffers(List.of(offer1, offer2));
+
+        assertThat(graph.documentsOf(offer1)).containsExactly(doc1, doc2);
+        assertThat(graph.documentsOf(offer2)).isEmpty();
+        assertThat(graph.conditionsOf(offer1)).containsExactly(shared);
+        assertThat(graph.conditionsOf(offer2)).containsExactly(shared, other);
+        verify(conditionRepository, times(1)).findByConditionIdIn(any());
+    }
+
+    @Test
+    void loadForOffers_dropsLinksToMissingConditions() {
+        UUID offerId = UUID.randomUUID();
+        when(documentConditionLinkRepository.findByOfferIdIn(List.of(offerId)))
+                .thenReturn(List.of(link(UUID.randomUUID(), offerId)));
+        when(conditionRepository.findByConditionIdIn(any())).thenReturn(List.of());
+
+        OfferGraphLoader.OfferGraph graph = loader.loadForOffers(List.of(offerId));
+
+        assertThat(graph.conditionsOf(offerId)).isEmpty();
+    }
+
+    @Test
+    void loadForOffers_withoutLinks_skipsConditionQuery() {
+        UUID offerId = UUID.randomUUID();
+
+        loader.loadForOffers(List.of(offerId));
+
+        verify(offerDocumentRepository).findByOfferIdInOrderByCreatedAtDesc(List.of(offerId));
+        verifyNoInteractions(conditionRepository);
+    }
+
+    @Test
+    void loadForPropertyOffers_keysByPropertyOfferId() {
+        UUID propertyOfferId = UUID.randomUUID();
+        UUID conditionId = UUID.randomUUID();
+        OfferDocument doc = OfferDocument.builder().documentId(UUID.randomUUID()).propertyOfferId(propertyOfferId).build();
+        Condition condition = Condition.builder().conditionId(conditionId).build();
+
+        when(offerDocumentRepository.findByPropertyOfferIdInOrderByCreatedAtDesc(List.of(propertyOfferId)))
+                .thenReturn(List.of(doc));
+        when(documentConditionLinkRepository.findByPropertyOfferIdIn(List.of(propertyOfferId))).thenReturn(List.of(
+                DocumentConditionLink.builder().conditionId(conditionId).propertyOfferId(propertyOfferId).build()));
+        when(conditionRepository.findByConditionIdIn(Set.of(conditionId))).thenReturn(List.of(condition));
+
+        OfferGraphLoader.OfferGraph graph = loader.loadForPropertyOffers(List.of(propertyOfferId));
+
+        assertThat(graph.documentsOf(propertyOfferId)).containsExactly(doc);
+        assertThat(graph.conditionsOf(propertyOfferId)).containsExactly(condition);
+    }
+
+    @Test
+    void emptyInput_runsNoQueries() {
+        assertThat(loader.loadForOffers(List.of()).documentsOf(UUID.randomUUID())).isEmpty();
+        assertThat(loader.loadForPropertyOffers(List.of()).conditionsOf(UUID.randomUUID())).isEmpty();
+
+        verifyNoInteractions(offerDocumentRepository, documentConditionLinkRepository,
+                conditionRepository);
+    }
+
+    private static DocumentConditionLink link(UUID conditionId, UUID offerId) {
+        return DocumentConditionLink.builder().conditionId(conditionId).offerId(offerId).build();
+    }
+}
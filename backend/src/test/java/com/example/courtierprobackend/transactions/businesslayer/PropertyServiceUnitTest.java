@@ -4,6 +4,7 @@ import com.example.courtierprobackend.audit.timeline_audit.businesslayer.Timelin
 import com.example.courtierprobackend.common.exceptions.BadRequestException;
 import com.example.courtierprobackend.common.exceptions.ForbiddenException;
 import com.example.courtierprobackend.common.exceptions.NotFoundException;
+import com.example.courtierprobackend.transactions.businesslayer.events.PropertyAddedEvent;
 import com.example.courtierprobackend.transactions.datalayer.Property;
 import com.example.courtierprobackend.transactions.datalayer.PropertyAddress;
 import com.example.courtierprobackend.transactions.datalayer.Transaction;
@@ -14,7 +15,6 @@ import com.example.courtierprobackend.transactions.datalayer.enums.TransactionSi
 import com.example.courtierprobackend.transactions.datalayer.enums.TransactionStatus;
 import com.example.courtierprobackend.transactions.datalayer.repositories.PropertyRepository;
 import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
-import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -60,15 +60,9 @@ class PropertyServiceUnitTest {
         @Mock
         private UserAccountRepository userAccountRepository;
 
-        @Mock
-        private NotificationService notificationService;
-
         @Mock
         private com.example.courtierprobackend.transactions.datalayer.repositories.PinnedTransactionRepository pinnedTransactionRepository; // Added
 
-        @Mock
-        private com.example.courtierprobackend.email.EmailService emailService; // Added
-
         @Mock
         private com.example.courtierprobackend.transactions.datalayer.repositories.TransactionParticipantRepository participantRepository; // Added
 
@@ -104,6 +98,8 @@ class PropertyServiceUnitTest {
 
         @Mock
         private com.example.courtierprobackend.transactions.datalayer.repositories.VisitorRepository visitorRepository;
+        @Mock
+        private com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher domainEventPublisher;
 
         @InjectMocks
         private TransactionServiceImpl service;
@@ -120,12 +116,14 @@ class PropertyServiceUnitTest {
         @BeforeEach
         void setUp() {
                 service = new TransactionServiceImpl(transactionRepository, pinnedTransactionRepository,
-                                userAccountRepository, emailService,
-                                notificationService, timelineService, participantRepository, propertyRepository,
+                                userAccountRepository, timelineService, participantRepository, propertyRepository,
                                 offerRepository, conditionRepository,
                                 propertyOfferRepository, offerDocumentRepository, offerRevisionRepository,
                                 objectStorageService, documentRequestRepository, documentConditionLinkRepository,
-                                searchCriteriaRepository, appointmentRepository, visitorRepository);
+                                searchCriteriaRepository, appointmentRepository, visitorRepository,
+                                domainEventPublisher,
+                                new OfferGraphLoader(offerDocumentRepository, documentConditionLinkRepository,
+                                        conditionRepository));
 
                 transactionId = UUID.randomUUID();
                 brokerId = UUID.randomUUID();
@@ -270,13 +268,10 @@ class PropertyServiceUnitTest {
 
                         verify(propertyRepository).save(any(Property.class));
                         verify(timelineService).addEntry(any(), any(), any(), any(), any(), any());
-                        verify(notificationService).createNotification(
-                                        eq(clientId.toString()),
-                                        eq("notifications.propertyAdded.title"),
-                                        eq("notifications.propertyAdded.message"),
-                                        any(java.util.Map.class),
-                                        eq(transactionId.toString()),
-                                        any());
+                        verify(domainEventPublisher).publish(eq(transactionId),
+                                        argThat(event -> event instanceof PropertyAddedEvent added
+                                                        && clientId.equals(added.clientId())
+                                                        && "789 Pine St".equals(added.address())));
                 }
 
                 @Test
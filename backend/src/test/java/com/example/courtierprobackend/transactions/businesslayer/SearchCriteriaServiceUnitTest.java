@@ -12,8 +12,6 @@ import com.example.courtierprobackend.transactions.datalayer.dto.SearchCriteriaR
 import com.example.courtierprobackend.transactions.datalayer.enums.*;
 import com.example.courtierprobackend.transactions.datalayer.repositories.*;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
-import com.example.courtierprobackend.email.EmailService;
-import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
 import com.example.courtierprobackend.infrastructure.storage.ObjectStorageService;
 import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
 import org.junit.jupiter.api.BeforeEach;
@@ -51,8 +49,6 @@ class SearchCriteriaServiceUnitTest {
     @Mock private TransactionRepository transactionRepository;
     @Mock private PinnedTransactionRepository pinnedTransactionRepository;
     @Mock private UserAccountRepository userAccountRepository;
-    @Mock private EmailService emailService;
-    @Mock private NotificationService notificationService;
     @Mock private TimelineService timelineService;
     @Mock private TransactionParticipantRepository participantRepository;
     @Mock private PropertyRepository propertyRepository;
@@ -67,6 +63,7 @@ class SearchCriteriaServiceUnitTest {
     @Mock private SearchCriteriaRepository searchCriteriaRepository;
     @Mock private com.example.courtierprobackend.appointments.datalayer.AppointmentRepository appointmentRepository;
     @Mock private com.example.courtierprobackend.transactions.datalayer.repositories.VisitorRepository visitorRepository;
+    @Mock private com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher domainEventPublisher;
 
     private TransactionServiceImpl service;
 
@@ -83,12 +80,15 @@ class SearchCriteriaServiceUnitTest {
     void setUp() {
         service = new TransactionServiceImpl(
                 transactionRepository, pinnedTransactionRepository, userAccountRepository,
-                emailService, notificationService, timelineService, participantRepository,
+                timelineService, participantRepository,
                 propertyRepository, offerRepository, conditionRepository, propertyOfferRepository,
                 offerDocumentRepository, offerRevisionRepository, objectStorageService,
                 documentRequestRepository, documentConditionLinkRepository, searchCriteriaRepository,
                 appointmentRepository,
-                visitorRepository
+                visitorRepository,
+                domainEventPublisher,
+                new OfferGraphLoader(offerDocumentRepository, documentConditionLinkRepository,
+                        conditionRepository)
         );
 
         transactionId = UUID.randomUUID();
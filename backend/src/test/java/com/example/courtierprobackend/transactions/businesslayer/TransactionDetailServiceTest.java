@@ -0,0 +1,155 @@
+package com.example.courtierprobackend.transactions.businesslayer;
+
+import com.example.courtierprobackend.audit.timeline_audit.businesslayer.TimelineService;
+import com.example.courtierprobackend.common.exceptions.BadRequestException;
+import com.example.courtierprobackend.common.exceptions.ForbiddenException;
+import com.example.courtierprobackend.documents.businesslayer.DocumentService;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
+import com.example.courtierprobackend.transactions.datalayer.dto.ConditionResponseDTO;
+import com.example.courtierprobackend.transactions.datalayer.dto.ParticipantResponseDTO;
+import com.example.courtierprobackend.transactions.datalayer.dto.TransactionDetailResponseDTO;
+import com.example.courtierprobackend.transactions.datalayer.dto.TransactionResponseDTO;
+import com.example.courtierprobackend.transactions.datalayer.enums.BuyerStage;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionDetailSection;
+import com.example.courtierprobackend.transactions.datalayer.enums.TransactionSide;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for TransactionDetailService.
+ */
+@ExtendWith(MockitoExtension.class)
+class TransactionDetailServiceTest {
+
+    @Mock
+    private TransactionService transactionService;
+    @Mock
+    private TimelineService timelineService;
+    @Mock
+    private DocumentService documentService;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TransactionDetailService service;
+
+    private final UUID transactionId = UUID.randomUUID();
+    private final UUID brokerId = UUID.randomUUID();
+    private TransactionAccessContext access;
+
+    @BeforeEach
+    void setUp() {
+        service = new TransactionDetailService(transactionService, timelineService, documentService,
+                transactionManager, Runnable::run);
+
+        Transaction tx = Transaction.builder()
+                .transactionId(transactionId)
+                .brokerId(brokerId)
+                .clientId(UUID.randomUUID())
+                .side(TransactionSide.BUY_SIDE)
+                .buyerStage(BuyerStage.BUYER_OFFER_AND_NEGOTIATION)
+                .build();
+        access = new TransactionAccessContext(tx, brokerId, "broker@test.com", List.of());
+    }
+
+    @Test
+    void getTransactionDetail_loadsOnlyRequestedSections_withOneAccessLookup() {
+        TransactionResponseDTO transaction = TransactionResponseDTO.builder().transactionId(transactionId).build();
+        List<ParticipantResponseDTO> participants = List.of(ParticipantResponseDTO.builder().name("Co-broker").build());
+        List<ConditionResponseDTO> conditions = List.of(ConditionResponseDTO.builder().customTitle("Financing").build());
+        when(transactionService.resolveAccess(transactionId, brokerId)).thenReturn(access);
+        when(transactionService.getByTransactionId(access)).thenReturn(transaction);
+        when(transactionService.getParticipants(access)).thenReturn(participants);
+        when(transactionService.getConditions(access, true)).thenReturn(conditions);
+
+        TransactionDetailResponseDTO result = service.getTransactionDetail(transactionId, brokerId, true,
+                EnumSet.of(TransactionDetailSection.PARTICIPANTS, TransactionDetailSection.CONDITIONS));
+
+        assertThat(result.getTransaction()).isSameAs(transaction);
+        assertThat(result.getParticipants()).isEqualTo(participants);
+        assertThat(result.getConditions()).isEqualTo(conditions);
+        assertThat(result.getOffers()).isNull();
+        assertThat(result.getTimeline()).isNull();
+        assertThat(result.getDeniedSections()).isNull();
+        verify(transactionService, times(1)).resolveAccess(transactionId, brokerId);
+        verify(transactionService, never()).getOffers(any(TransactionAccessContext.class), anyBoolean());
+        verifyNoInteractions(timelineService, documentService);
+    }
+
+    @Test
+    void getTransactionDetail_forbiddenSection_isReportedInsteadOfFailingThePage() {
+        when(transactionService.resolveAccess(transactionId, brokerId)).thenReturn(access);
+        when(transactionService.getByTransactionId(access)).thenReturn(TransactionResponseDTO.builder().build());
+        when(transactionService.getAllTransactionDocuments(access, true))
+                .thenThrow(new ForbiddenException("You do not have permission to view documents"));
+        when(timelineService.getTimelineForTransaction(transactionId)).thenReturn(List.of());
+
+        TransactionDetailResponseDTO result = service.getTransactionDetail(transactionId, brokerId, true,
+                EnumSet.of(TransactionDetailSection.DOCUMENTS, TransactionDetailSection.TIMELINE));
+
+        assertThat(result.getDocuments()).isNull();
+        assertThat(result.getTimeline()).isEmpty();
+        assertThat(result.getDeniedSections()).containsExactly(TransactionDetailSection.DOCUMENTS);
+    }
+
+    @Test
+    void getTransactionDetail_otherSectionFailure_propagates() {
+        when(transactionService.resolveAccess(transactionId, brokerId)).thenReturn(access);
+        when(transactionService.getByTransactionId(access)).thenReturn(TransactionResponseDTO.builder().build());
+        when(transactionService.getOffers(access, true)).thenThrow(new BadRequestException("boom"));
+
+        assertThatThrownBy(() -> service.getTransactionDetail(transactionId, brokerId, true,
+                EnumSet.of(TransactionDetailSection.OFFERS)))
+                .isInstanceOf(BadRequestException.class)
+                .hasMessage("boom");
+    }
+
+    @Test
+    void getTransactionDetail_withoutTransactionAccess_throwsBeforeLoadingSections() {
+        TransactionAccessContext stranger = new TransactionAccessContext(access.transaction(), UUID.randomUUID(),
+                "stranger@test.com", List.of());
+        when(transactionService.resolveAccess(transactionId, stranger.userId())).thenReturn(stranger);
+
+        assertThatThrownBy(() -> service.getTransactionDetail(transactionId, stranger.userId(), false,
+                EnumSet.allOf(TransactionDetailSection.class)))
+                .isInstanceOf(ForbiddenException.class);
+
+        verify(transactionService, only()).resolveAccess(transactionId, stranger.userId());
+        verifyNoInteractions(timelineService, documentService);
+    }
+
+    @Test
+    void getTransactionDetail_checklistAndTimeline_useCallerView() {
+        when(transactionService.resolveAccess(transactionId, brokerId)).thenReturn(access);
+        when(transactionService.getByTransactionId(access)).thenReturn(TransactionResponseDTO.builder().build());
+        when(timelineService.getTimelineForClient(transactionId)).thenReturn(List.of());
+
+        service.getTransactionDetail(transactionId, brokerId, false,
+                EnumSet.of(TransactionDetailSection.CHECKLIST, TransactionDetailSection.TIMELINE));
+
+        verify(documentService).getStageChecklist(transactionId, "BUYER_OFFER_AND_NEGOTIATION", brokerId);
+        verify(timelineService, never()).getTimelineForTransaction(any());
+    }
+
+    @Test
+    void parseSections_isCaseInsensitive_andDefaultsToAll() {
+        assertThat(TransactionDetailSection.parse(List.of("offers", " Timeline ")))
+                .containsExactlyInAnyOrder(TransactionDetailSection.OFFERS, TransactionDetailSection.TIMELINE);
+        assertThat(TransactionDetailSection.parse(null)).isEqualTo(EnumSet.allOf(TransactionDetailSection.class));
+        assertThatThrownBy(() -> TransactionDetailSection.parse(List.of("nope")))
+                .isInstanceOf(BadRequestException.class);
+    }
+}
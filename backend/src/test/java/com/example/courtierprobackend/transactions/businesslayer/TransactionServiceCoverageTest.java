@@ -20,6 +20,7 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.OptimisticLockingFailureException;
@@ -57,6 +58,7 @@ class TransactionServiceCoverageTest {
     @Mock private com.example.courtierprobackend.documents.datalayer.DocumentRepository documentRepository;
     @Mock private DocumentConditionLinkRepository documentConditionLinkRepository;
     @Mock private SearchCriteriaRepository searchCriteriaRepository;
+    @Mock private com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher domainEventPublisher;
 
     @InjectMocks
     private TransactionServiceImpl transactionService;
@@ -67,6 +69,9 @@ class TransactionServiceCoverageTest {
 
     @BeforeEach
     void setUp() {
+        // Real loader over the mocked repositories
+        ReflectionTestUtils.setField(transactionService, "offerGraphLoader", new OfferGraphLoader(offerDocumentRepository,
+                documentConditionLinkRepository, conditionRepository));
         transactionId = UUID.randomUUID();
         brokerId = UUID.randomUUID();
         transaction = new Transaction();
@@ -31,6 +31,17 @@ import com.example.courtierprobackend.transactions.datalayer.Property;
 import com.example.courtierprobackend.transactions.datalayer.dto.PropertyResponseDTO;
 import com.example.courtierprobackend.transactions.datalayer.dto.UpdateParticipantRequestDTO;
 import com.example.courtierprobackend.transactions.datalayer.enums.PropertyStatus;
+import com.example.courtierprobackend.transactions.businesslayer.events.ClientOfferDecisionEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.ConditionAddedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.ConditionStatusChangedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.OfferReceivedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.OfferStatusChangedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.PropertyAddedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.PropertyOfferMadeEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.PropertyOfferStatusChangedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.StageChangedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.TransactionCreatedEvent;
+import com.example.courtierprobackend.transactions.businesslayer.events.TransactionTerminatedEvent;
 
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -65,12 +76,6 @@ class TransactionServiceImplTest {
         @Mock
         private UserAccountRepository userAccountRepository;
 
-        @Mock
-        private com.example.courtierprobackend.email.EmailService emailService;
-
-        @Mock
-        private com.example.courtierprobackend.notifications.businesslayer.NotificationService notificationService;
-
         private TransactionServiceImpl transactionService;
 
         @Mock
@@ -114,16 +119,20 @@ class TransactionServiceImplTest {
 
         @Mock
         private com.example.courtierprobackend.transactions.datalayer.repositories.VisitorRepository visitorRepository;
+        @Mock
+        private com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher domainEventPublisher;
 
         @BeforeEach
         void setup() {
                 transactionService = new TransactionServiceImpl(transactionRepository, pinnedTransactionRepository,
-                                userAccountRepository, emailService,
-                                notificationService, timelineService, participantRepository, propertyRepository,
+                                userAccountRepository, timelineService, participantRepository, propertyRepository,
                                 offerRepository, conditionRepository,
                                 propertyOfferRepository, offerDocumentRepository, offerRevisionRepository,
                                 objectStorageService, documentRequestRepository, documentConditionLinkRepository,
-                                searchCriteriaRepository, appointmentRepository, visitorRepository);
+                                searchCriteriaRepository, appointmentRepository, visitorRepository,
+                                domainEventPublisher,
+                                new OfferGraphLoader(offerDocumentRepository, documentConditionLinkRepository,
+                                        conditionRepository));
                 lenient().when(userAccountRepository.findByAuth0UserId(any())).thenReturn(Optional.empty());
         }
 
@@ -177,47 +186,9 @@ class TransactionServiceImplTest {
                 // Assert
                 assertThat(result).isNotNull();
                 verify(transactionRepository).save(any(Transaction.class));
-                verify(notificationService).createNotification(
-                                eq(dto.getClientId().toString()),
-                                eq("notifications.transactionCreated.title"),
-                                eq("notifications.transactionCreated.message"),
-                                any(java.util.Map.class),
-                                anyString(),
-                                eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.GENERAL));
-        }
-
-        @Test
-        void createTransaction_NotificationFailure_LogsAndProceeds() {
-                // Arrange
-                TransactionRequestDTO dto = createValidBuyerTransactionDTO();
-                when(transactionRepository.findByClientIdAndPropertyAddress_StreetAndStatus(
-                                any(UUID.class), anyString(), any())).thenReturn(Optional.empty());
-
-                Transaction expectedTx = new Transaction();
-                expectedTx.setTransactionId(UUID.randomUUID());
-                expectedTx.setClientId(dto.getClientId());
-                expectedTx.setBrokerId(dto.getBrokerId());
-                expectedTx.setPropertyAddress(
-                                new PropertyAddress(dto.getPropertyAddress().getStreet(),
-                                                dto.getPropertyAddress().getCity(),
-                                                dto.getPropertyAddress().getProvince(),
-                                                dto.getPropertyAddress().getPostalCode()));
-                when(transactionRepository.save(any(Transaction.class))).thenReturn(expectedTx);
-
-                // Simulate Notification exception - use the i18n version with Map
-                doThrow(new RuntimeException("Notification Error")).when(notificationService)
-                                .createNotification(anyString(), anyString(), anyString(), any(java.util.Map.class),
-                                                anyString(), any());
-
-                // Act
-                TransactionResponseDTO result = transactionService.createTransaction(dto);
-
-                // Assert
-                assertThat(result).isNotNull();
-                verify(transactionRepository).save(any(Transaction.class));
-                // Verify notification service WAS called (but failed)
-                verify(notificationService).createNotification(anyString(), anyString(), anyString(),
-                                any(java.util.Map.class), anyString(), any());
+                verify(domainEventPublisher).publish(eq(expectedTx.getTransactionId()),
+                                argThat(event -> event instanceof TransactionCreatedEvent created
+                                                && dto.getClientId().equals(created.clientId())));
         }
 
         @Test
@@ -977,8 +948,8 @@ class TransactionServiceImplTest {
                 assertThat(response).isNotNull();
                 assertThat(response.getCurrentStage()).isEqualTo("BUYER_OFFER_AND_NEGOTIATION");
                 verify(transactionRepository).save(any(Transaction.class));
-                verify(timelineService).addEntry(eq(transactionId), eq(brokerUuid), eq(TimelineEntryType.STAGE_CHANGE),
-                                isNull(), isNull(), any());
+                verify(timelineService).addEntries(eq(transactionId), eq(brokerUuid),
+                                argThat(entries -> hasEntry(entries, TimelineEntryType.STAGE_CHANGE, e -> true)));
         }
 
         @Test
@@ -1036,25 +1007,10 @@ class TransactionServiceImplTest {
                 transactionService.updateTransactionStage(transactionId, dto, brokerId);
 
                 // Assert
-                // 1. Verify Email sent
-                verify(emailService, times(1)).sendStageUpdateEmail(
-                                eq("client@example.com"),
-                                eq("Client User"),
-                                eq("Broker Agent"),
-                                eq("123 Test St"),
-                                eq("BUYER_OFFER_AND_NEGOTIATION"),
-                                eq("en"));
-
-                // 2. Verify In-App Notification created with i18n keys and params
-                verify(notificationService, times(1)).createNotification(
-                                eq(clientId.toString()),
-                                eq("notifications.stageUpdate.title"),
-                                eq("notifications.stageUpdate.message"),
-                                argThat(params -> "Buyer Offer And Negotiation".equals(params.get("stage")) &&
-                                                "Broker Agent".equals(params.get("brokerName")) &&
-                                                "123 Test St".equals(params.get("propertyAddress"))),
-                                eq(transactionId.toString()),
-                                eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.STAGE_UPDATE));
+                // Email and notification are queued in the outbox, not sent inline
+                verify(domainEventPublisher, times(1)).publish(eq(transactionId), eq(new StageChangedEvent(
+                                transactionId, clientId, brokerId, "BUYER_OFFER_AND_NEGOTIATION", false,
+                                "123 Test St")));
         }
 
         @Test
@@ -1107,24 +1063,9 @@ class TransactionServiceImplTest {
                 transactionService.updateTransactionStage(transactionId, dto, brokerId);
 
                 // Assert
-                verify(emailService, times(1)).sendStageUpdateEmail(
-                                eq("albert@example.com"),
-                                eq("Client User"),
-                                eq("Courtier Pro"),
-                                eq("123 Rue Test"),
-                                eq("BUYER_OFFER_AND_NEGOTIATION"),
-                                eq("fr"));
-
-                // 2. Verify In-App Notification created with i18n keys and params (French)
-                verify(notificationService, times(1)).createNotification(
-                                eq(clientId.toString()),
-                                eq("notifications.stageUpdate.title"),
-                                eq("notifications.stageUpdate.message"),
-                                argThat(params -> "Offre et Négociation".equals(params.get("stage")) &&
-                                                "Courtier Pro".equals(params.get("brokerName")) &&
-                                                "123 Rue Test".equals(params.get("propertyAddress"))),
-                                eq(transactionId.toString()),
-                                eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.STAGE_UPDATE));
+                verify(domainEventPublisher, times(1)).publish(eq(transactionId), eq(new StageChangedEvent(
+                                transactionId, clientId, brokerId, "BUYER_OFFER_AND_NEGOTIATION", false,
+                                "123 Rue Test")));
         }
 
         @Test
@@ -1174,65 +1115,10 @@ class TransactionServiceImplTest {
                 transactionService.updateTransactionStage(transactionId, dto, brokerId);
 
                 // Assert
-                // Should use "Unknown Address" default and i18n keys
-                verify(notificationService, times(1)).createNotification(
-                                eq(clientId.toString()),
-                                eq("notifications.stageUpdate.title"),
-                                eq("notifications.stageUpdate.message"),
-                                argThat(params -> "Unknown Address".equals(params.get("propertyAddress"))),
-                                eq(transactionId.toString()),
-                                eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.STAGE_UPDATE));
-        }
-
-        @Test
-        void updateTransactionStage_withNotificationFailure_doesNotRollbackTransaction() {
-                // Arrange
-                UUID transactionId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setClientId(clientId);
-                tx.setBrokerId(brokerId);
-                tx.setSide(TransactionSide.BUY_SIDE);
-                tx.setBuyerStage(BuyerStage.BUYER_FINANCIAL_PREPARATION);
-                tx.setPropertyAddress(new com.example.courtierprobackend.transactions.datalayer.PropertyAddress());
-
-                Transaction savedTx = new Transaction();
-                savedTx.setTransactionId(transactionId);
-                savedTx.setClientId(clientId);
-                savedTx.setBrokerId(brokerId);
-                savedTx.setSide(TransactionSide.BUY_SIDE);
-                savedTx.setBuyerStage(BuyerStage.BUYER_OFFER_AND_NEGOTIATION);
-                savedTx.setPropertyAddress(new com.example.courtierprobackend.transactions.datalayer.PropertyAddress());
-                // savedTx.setTimeline(new ArrayList<>());
-
-                // Users exist
-                when(userAccountRepository.findById(any()))
-                                .thenReturn(Optional.of(
-                                                new com.example.courtierprobackend.user.dataaccesslayer.UserAccount()));
-
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(transactionRepository.save(any(Transaction.class))).thenReturn(savedTx);
-
-                // Make email service throw exception
-                doThrow(new RuntimeException("Email server down")).when(emailService).sendStageUpdateEmail(any(), any(),
-                                any(),
-                                any(), any(), any());
-
-                StageUpdateRequestDTO dto = new StageUpdateRequestDTO();
-                dto.setStage("BUYER_OFFER_AND_NEGOTIATION");
-
-                // Act
-                TransactionResponseDTO response = transactionService.updateTransactionStage(transactionId, dto,
-                                brokerId);
-
-                // Assert
-                // Transaction should still be returned successfully
-                assertThat(response).isNotNull();
-                // Repository save WAS called
-                verify(transactionRepository).save(any(Transaction.class));
+                // Should use "Unknown Address" default
+                verify(domainEventPublisher, times(1)).publish(eq(transactionId),
+                                argThat(event -> event instanceof StageChangedEvent stageChanged
+                                                && "Unknown Address".equals(stageChanged.propertyAddress())));
         }
 
         @Test
@@ -1271,14 +1157,11 @@ class TransactionServiceImplTest {
                 assertThat(response.getCurrentStage()).isEqualTo("SELLER_OFFER_AND_NEGOTIATION");
                 verify(transactionRepository).save(any(Transaction.class));
                 // Vérifie que l'audit timeline est bien appelé
-                verify(timelineService).addEntry(
+                verify(timelineService).addEntries(
                                 eq(transactionId),
                                 eq(brokerUuid),
-                                eq(TimelineEntryType.STAGE_CHANGE),
-                                isNull(),
-                                isNull(),
-                                any() // TransactionInfo
-                );
+                                argThat(entries -> hasEntry(entries, TimelineEntryType.STAGE_CHANGE,
+                                                e -> e.transactionInfo() != null)));
         }
 
         @Test
@@ -1349,8 +1232,8 @@ class TransactionServiceImplTest {
                 assertThat(response).isNotNull();
                 assertThat(response.getCurrentStage()).isEqualTo("BUYER_FINANCING_AND_CONDITIONS");
                 verify(transactionRepository).save(any(Transaction.class));
-                verify(timelineService).addEntry(eq(transactionId), eq(brokerUuid), eq(TimelineEntryType.STAGE_CHANGE),
-                                isNull(), isNull(), any());
+                verify(timelineService).addEntries(eq(transactionId), eq(brokerUuid),
+                                argThat(entries -> hasEntry(entries, TimelineEntryType.STAGE_CHANGE, e -> true)));
         }
 
         @Test
@@ -1378,8 +1261,9 @@ class TransactionServiceImplTest {
                 // Assert
                 assertThat(tx.getStatus()).isEqualTo(TransactionStatus.CLOSED_SUCCESSFULLY);
                 assertThat(tx.getClosedAt()).isNotNull();
-                verify(timelineService).addEntry(eq(transactionId), eq(brokerId), eq(TimelineEntryType.STATUS_CHANGE),
-                                contains("CLOSED_SUCCESSFULLY"), isNull());
+                verify(timelineService).addEntries(eq(transactionId), eq(brokerId),
+                                argThat(entries -> hasEntry(entries, TimelineEntryType.STATUS_CHANGE,
+                                                e -> e.note().contains("CLOSED_SUCCESSFULLY"))));
         }
 
         @Test
@@ -1407,8 +1291,9 @@ class TransactionServiceImplTest {
                 // Assert
                 assertThat(tx.getStatus()).isEqualTo(TransactionStatus.CLOSED_SUCCESSFULLY);
                 assertThat(tx.getClosedAt()).isNotNull();
-                verify(timelineService).addEntry(eq(transactionId), eq(brokerId), eq(TimelineEntryType.STATUS_CHANGE),
-                                contains("CLOSED_SUCCESSFULLY"), isNull());
+                verify(timelineService).addEntries(eq(transactionId), eq(brokerId),
+                                argThat(entries -> hasEntry(entries, TimelineEntryType.STATUS_CHANGE,
+                                                e -> e.note().contains("CLOSED_SUCCESSFULLY"))));
         }
 
         // ==================== terminateTransaction Tests ====================
@@ -1451,6 +1336,10 @@ class TransactionServiceImplTest {
                                 argThat((TransactionInfo info) -> info != null
                                                 && "Client changed their mind about purchasing"
                                                                 .equals(info.getReason())));
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof TransactionTerminatedEvent terminated
+                                                && clientId.equals(terminated.clientId())
+                                                && "BUYER_OFFER_AND_NEGOTIATION".equals(terminated.stage())));
         }
 
         @Test
@@ -1621,27 +1510,19 @@ class TransactionServiceImplTest {
 
                 // Assert
                 // 1. Verify Timeline Entry is STAGE_ROLLBACK and has reason
-                verify(timelineService).addEntry(
+                verify(timelineService).addEntries(
                                 eq(transactionId),
                                 eq(brokerId),
-                                eq(TimelineEntryType.STAGE_ROLLBACK),
-                                isNull(),
-                                isNull(),
-                                argThat(info -> "Back to start".equals(info.getReason()) &&
-                                                "BUYER_FINANCIAL_PREPARATION".equals(info.getNewStage())));
-
-                // 2. Verify In-App Notification created with rollback i18n keys and params
-                verify(notificationService, times(1)).createNotification(
-                                eq(clientId.toString()),
-                                eq("notifications.stageRollback.title"),
-                                eq("notifications.stageRollback.message"),
-                                any(java.util.Map.class),
-                                eq(transactionId.toString()),
-                                eq(com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory.STAGE_UPDATE));
+                                argThat(entries -> hasEntry(entries, TimelineEntryType.STAGE_ROLLBACK,
+                                                e -> "Back to start".equals(e.transactionInfo().getReason()) &&
+                                                                "BUYER_FINANCIAL_PREPARATION".equals(
+                                                                                e.transactionInfo().getNewStage()))));
 
-                // 3. Verify Email was NOT sent for rollbacks (as per current implementation)
-                verify(emailService, never()).sendStageUpdateEmail(anyString(), anyString(), anyString(), anyString(),
-                                anyString(), anyString());
+                // 2. Verify the queued event is flagged as a rollback
+                verify(domainEventPublisher, times(1)).publish(eq(transactionId),
+                                argThat(event -> event instanceof StageChangedEvent stageChanged
+                                                && stageChanged.rollback()
+                                                && "BUYER_FINANCIAL_PREPARATION".equals(stageChanged.stage())));
         }
 
         @Test
@@ -1709,16 +1590,16 @@ class TransactionServiceImplTest {
                 transactionService.updateTransactionStage(transactionId, dto, brokerId);
 
                 // Assert
-                verify(timelineService).addEntry(
+                verify(timelineService).addEntries(
                                 eq(transactionId),
                                 eq(brokerId),
-                                eq(TimelineEntryType.STAGE_CHANGE), // STAGE_CHANGE not ROLLBACK
-                                isNull(),
-                                isNull(),
-                                argThat(info -> info.getReason() == null));
+                                argThat(entries -> hasEntry(entries, TimelineEntryType.STAGE_CHANGE, // not ROLLBACK
+                                                e -> e.transactionInfo().getReason() == null)));
 
-                // Verify Notifications SENT
-                verify(notificationService).createNotification(any(), any(), any(), any(), any(), any());
+                // Verify notifications queued as a regular stage change
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof StageChangedEvent stageChanged
+                                                && !stageChanged.rollback()));
         }
 
         // ========== pinTransaction Tests ==========
@@ -2483,6 +2364,10 @@ class TransactionServiceImplTest {
                                 anyString(),
                                 isNull(),
                                 any());
+                verify(domainEventPublisher).publish(eq(transactionId), eq(new ConditionStatusChangedEvent(
+                                transactionId, conditionId, tx.getClientId(), "FINANCING",
+                                com.example.courtierprobackend.transactions.datalayer.enums.ConditionStatus.PENDING,
+                                com.example.courtierprobackend.transactions.datalayer.enums.ConditionStatus.SATISFIED)));
         }
 
         @Test
@@ -3685,7 +3570,7 @@ class TransactionServiceImplTest {
         // =================================================================================================
 
         @Test
-        void addPropertyOffer_withValidData_sendsNotificationAndEmail() {
+        void addPropertyOffer_withValidData_publishesOfferMadeEvent() {
                 // Arrange
                 UUID propertyId = UUID.randomUUID();
                 UUID transactionId = UUID.randomUUID();
@@ -3736,109 +3621,11 @@ class TransactionServiceImplTest {
 
                 // Assert
                 assertThat(result).isNotNull();
-                verify(notificationService).createNotification(eq(clientId.toString()), anyString(), anyString(),
-                                any(java.util.Map.class), anyString(), any());
-                verify(emailService).sendPropertyOfferMadeNotification(eq("client@test.com"), anyString(), anyString(),
-                                anyString(), anyString(), eq(1), eq("en"));
-        }
-
-        @Test
-        void addPropertyOffer_whenNotificationFails_logsAndProceeds() {
-                // Arrange
-                UUID propertyId = UUID.randomUUID();
-                UUID transactionId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-
-                com.example.courtierprobackend.transactions.datalayer.Property property = com.example.courtierprobackend.transactions.datalayer.Property
-                                .builder()
-                                .propertyId(propertyId)
-                                .transactionId(transactionId)
-                                .address(new PropertyAddress("123 Main St", "City", "Province", "A1A 1A1"))
-                                .build();
-
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setBrokerId(brokerId);
-                tx.setClientId(clientId);
-
-                com.example.courtierprobackend.transactions.datalayer.dto.PropertyOfferRequestDTO dto = com.example.courtierprobackend.transactions.datalayer.dto.PropertyOfferRequestDTO
-                                .builder()
-                                .offerAmount(new java.math.BigDecimal("500000"))
-                                .status(BuyerOfferStatus.OFFER_MADE)
-                                .build();
-
-                when(propertyRepository.findByPropertyId(propertyId)).thenReturn(Optional.of(property));
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(propertyOfferRepository.findTopByPropertyIdOrderByOfferRoundDesc(propertyId))
-                                .thenReturn(Optional.empty());
-                when(propertyOfferRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-                when(propertyRepository.save(any())).thenReturn(property);
-                doThrow(new RuntimeException("Notification error")).when(notificationService)
-                                .createNotification(anyString(), anyString(), anyString(), any(java.util.Map.class),
-                                                anyString(), any());
-
-                // Act
-                var result = transactionService.addPropertyOffer(propertyId, dto, brokerId);
-
-                // Assert - should succeed despite notification failure
-                assertThat(result).isNotNull();
-        }
-
-        @Test
-        void addPropertyOffer_whenEmailFails_logsAndProceeds() {
-                // Arrange
-                UUID propertyId = UUID.randomUUID();
-                UUID transactionId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-
-                com.example.courtierprobackend.transactions.datalayer.Property property = com.example.courtierprobackend.transactions.datalayer.Property
-                                .builder()
-                                .propertyId(propertyId)
-                                .transactionId(transactionId)
-                                .address(new PropertyAddress("123 Main St", "City", "Province", "A1A 1A1"))
-                                .build();
-
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setBrokerId(brokerId);
-                tx.setClientId(clientId);
-
-                UserAccount client = new UserAccount();
-                client.setId(clientId);
-                client.setEmail("client@test.com");
-                client.setFirstName("Test");
-                client.setLastName("Client");
-
-                UserAccount broker = new UserAccount();
-                broker.setId(brokerId);
-                broker.setFirstName("Test");
-                broker.setLastName("Broker");
-
-                com.example.courtierprobackend.transactions.datalayer.dto.PropertyOfferRequestDTO dto = com.example.courtierprobackend.transactions.datalayer.dto.PropertyOfferRequestDTO
-                                .builder()
-                                .offerAmount(new java.math.BigDecimal("500000"))
-                                .status(BuyerOfferStatus.OFFER_MADE)
-                                .build();
-
-                when(propertyRepository.findByPropertyId(propertyId)).thenReturn(Optional.of(property));
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(propertyOfferRepository.findTopByPropertyIdOrderByOfferRoundDesc(propertyId))
-                                .thenReturn(Optional.empty());
-                when(propertyOfferRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-                when(propertyRepository.save(any())).thenReturn(property);
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                doThrow(new RuntimeException("Email error")).when(emailService)
-                                .sendPropertyOfferMadeNotification(anyString(), anyString(), anyString(), anyString(),
-                                                anyString(), anyInt(), anyString());
-
-                // Act
-                var result = transactionService.addPropertyOffer(propertyId, dto, brokerId);
-
-                // Assert - should succeed despite email failure
-                assertThat(result).isNotNull();
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof PropertyOfferMadeEvent made
+                                                && clientId.equals(made.clientId())
+                                                && brokerId.equals(made.brokerId())
+                                                && made.offerRound() == 1));
         }
 
         // =================================================================================================
@@ -3889,7 +3676,7 @@ class TransactionServiceImplTest {
         }
 
         @Test
-        void updateOffer_withCounteredStatus_sendsNotification() {
+        void updateOffer_withCounteredStatus_queuesNotification() {
                 // Arrange
                 UUID transactionId = UUID.randomUUID();
                 UUID offerId = UUID.randomUUID();
@@ -3927,8 +3714,10 @@ class TransactionServiceImplTest {
 
                 // Assert
                 assertThat(result).isNotNull();
-                verify(notificationService).createNotification(eq(clientId.toString()), anyString(), anyString(),
-                                any(java.util.Map.class), anyString(), any());
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof OfferStatusChangedEvent offerChanged
+                                                && offerChanged.newStatus() == ReceivedOfferStatus.COUNTERED
+                                                && clientId.equals(offerChanged.clientId())));
         }
 
         // =================================================================================================
@@ -4083,7 +3872,7 @@ class TransactionServiceImplTest {
         // =================================================================================================
 
         @Test
-        void addOffer_withValidData_sendsEmailNotification() {
+        void addOffer_withValidData_publishesOfferReceivedEvent() {
                 // Arrange
                 UUID transactionId = UUID.randomUUID();
                 UUID brokerId = UUID.randomUUID();
@@ -4124,59 +3913,10 @@ class TransactionServiceImplTest {
 
                 // Assert
                 assertThat(result).isNotNull();
-                verify(emailService).sendOfferReceivedNotification(
-                                eq("client@test.com"),
-                                anyString(),
-                                anyString(),
-                                eq("Buyer Name"),
-                                anyString(),
-                                eq("fr"));
-        }
-
-        @Test
-        void addOffer_whenEmailFails_logsAndProceeds() {
-                // Arrange
-                UUID transactionId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setBrokerId(brokerId);
-                tx.setClientId(clientId);
-                tx.setSide(TransactionSide.SELL_SIDE);
-
-                UserAccount client = new UserAccount();
-                client.setId(clientId);
-                client.setEmail("client@test.com");
-                client.setFirstName("Test");
-                client.setLastName("Client");
-
-                UserAccount broker = new UserAccount();
-                broker.setId(brokerId);
-                broker.setFirstName("Test");
-                broker.setLastName("Broker");
-
-                com.example.courtierprobackend.transactions.datalayer.dto.OfferRequestDTO dto = com.example.courtierprobackend.transactions.datalayer.dto.OfferRequestDTO
-                                .builder()
-                                .buyerName("Buyer Name")
-                                .offerAmount(new java.math.BigDecimal("600000"))
-                                .status(ReceivedOfferStatus.PENDING)
-                                .build();
-
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(offerRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                doThrow(new RuntimeException("Email error")).when(emailService)
-                                .sendOfferReceivedNotification(anyString(), anyString(), anyString(), anyString(),
-                                                anyString(), anyString());
-
-                // Act
-                var result = transactionService.addOffer(transactionId, dto, brokerId);
-
-                // Assert - should succeed despite email failure
-                assertThat(result).isNotNull();
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof OfferReceivedEvent received
+                                                && clientId.equals(received.clientId())
+                                                && "Buyer Name".equals(received.buyerName())));
         }
 
         // =================================================================================================
@@ -4582,7 +4322,7 @@ class TransactionServiceImplTest {
         // =================================================================================================
 
         @Test
-        void updatePropertyOffer_withStatusChange_sendsNotification() {
+        void updatePropertyOffer_withStatusChange_publishesStatusChangedEvent() {
                 // Arrange
                 UUID propertyId = UUID.randomUUID();
                 UUID propertyOfferId = UUID.randomUUID();
@@ -4631,8 +4371,11 @@ class TransactionServiceImplTest {
 
                 // Assert
                 assertThat(result).isNotNull();
-                verify(notificationService).createNotification(eq(clientId.toString()), anyString(), anyString(),
-                                any(java.util.Map.class), anyString(), any());
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof PropertyOfferStatusChangedEvent changed
+                                                && clientId.equals(changed.clientId())
+                                                && changed.previousStatus() == BuyerOfferStatus.OFFER_MADE
+                                                && changed.newStatus() == BuyerOfferStatus.COUNTERED));
         }
 
         // =================================================================================================
@@ -4694,49 +4437,12 @@ class TransactionServiceImplTest {
                                 .hasMessageContaining("Transaction not found");
         }
 
-        // =================================================================================================
-        // OFFER RECEIVED EMAIL NOTIFICATION TESTS
-        // =================================================================================================
-
-        @Test
-        void addOffer_withNotificationFailure_logsAndProceeds() {
-                // Arrange
-                UUID transactionId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setBrokerId(brokerId);
-                tx.setClientId(clientId);
-                tx.setSide(TransactionSide.SELL_SIDE);
-
-                com.example.courtierprobackend.transactions.datalayer.dto.OfferRequestDTO dto = com.example.courtierprobackend.transactions.datalayer.dto.OfferRequestDTO
-                                .builder()
-                                .buyerName("Buyer Name")
-                                .offerAmount(new java.math.BigDecimal("600000"))
-                                .status(ReceivedOfferStatus.PENDING)
-                                .build();
-
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(offerRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-                doThrow(new RuntimeException("Notification error")).when(notificationService)
-                                .createNotification(anyString(), anyString(), anyString(), any(java.util.Map.class),
-                                                anyString(), any());
-
-                // Act
-                var result = transactionService.addOffer(transactionId, dto, brokerId);
-
-                // Assert - should succeed despite notification failure
-                assertThat(result).isNotNull();
-        }
-
         // =================================================================================================
         // ADD PROPERTY WITH NOTIFICATION TESTS
         // =================================================================================================
 
         @Test
-        void addProperty_withValidData_sendsNotification() {
+        void addProperty_withValidData_publishesPropertyAddedEvent() {
                 // Arrange
                 UUID transactionId = UUID.randomUUID();
                 UUID brokerId = UUID.randomUUID();
@@ -4765,40 +4471,9 @@ class TransactionServiceImplTest {
                 assertThat(result).isNotNull();
                 verify(timelineService).addEntry(eq(transactionId), eq(brokerId), eq(TimelineEntryType.PROPERTY_ADDED),
                                 anyString(), isNull(), any());
-                verify(notificationService).createNotification(eq(clientId.toString()), anyString(), anyString(),
-                                any(java.util.Map.class), anyString(), any());
-        }
-
-        @Test
-        void addProperty_whenNotificationFails_logsAndProceeds() {
-                // Arrange
-                UUID transactionId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setBrokerId(brokerId);
-                tx.setClientId(clientId);
-                tx.setSide(TransactionSide.BUY_SIDE);
-
-                com.example.courtierprobackend.transactions.datalayer.dto.PropertyRequestDTO dto = com.example.courtierprobackend.transactions.datalayer.dto.PropertyRequestDTO
-                                .builder()
-                                .centrisNumber("12345678")
-                                .address(new PropertyAddress("123 Test St", "City", "Province", "A1A 1A1"))
-                                .build();
-
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(propertyRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-                doThrow(new RuntimeException("Notification error")).when(notificationService)
-                                .createNotification(anyString(), anyString(), anyString(), any(java.util.Map.class),
-                                                anyString(), any());
-
-                // Act
-                var result = transactionService.addProperty(transactionId, dto, brokerId);
-
-                // Assert - should succeed despite notification failure
-                assertThat(result).isNotNull();
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof PropertyAddedEvent added
+                                                && clientId.equals(added.clientId())));
         }
 
         // =================================================================================================
@@ -4912,11 +4587,11 @@ class TransactionServiceImplTest {
         }
 
         // =================================================================================================
-        // PROPERTY OFFER EMAIL NOTIFICATION TESTS
+        // PROPERTY OFFER STATUS EVENT TESTS
         // =================================================================================================
 
         @Test
-        void updatePropertyOffer_toAccepted_sendsEmailNotification() {
+        void updatePropertyOffer_toAccepted_publishesStatusChangedEvent() {
                 // Arrange
                 UUID propertyId = UUID.randomUUID();
                 UUID propertyOfferId = UUID.randomUUID();
@@ -4979,13 +4654,14 @@ class TransactionServiceImplTest {
 
                 // Assert
                 assertThat(result).isNotNull();
-                verify(emailService).sendPropertyOfferStatusChangedNotification(
-                                eq("client@test.com"), anyString(), anyString(), anyString(), anyString(), anyString(),
-                                any(), eq("en"));
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof PropertyOfferStatusChangedEvent changed
+                                                && changed.previousStatus() == BuyerOfferStatus.COUNTERED
+                                                && changed.newStatus() == BuyerOfferStatus.ACCEPTED));
         }
 
         @Test
-        void updatePropertyOffer_toDeclined_sendsNotification() {
+        void updatePropertyOffer_toDeclined_publishesStatusChangedEvent() {
                 // Arrange
                 UUID propertyId = UUID.randomUUID();
                 UUID propertyOfferId = UUID.randomUUID();
@@ -5034,8 +4710,10 @@ class TransactionServiceImplTest {
 
                 // Assert
                 assertThat(result).isNotNull();
-                verify(notificationService).createNotification(eq(clientId.toString()), anyString(), anyString(),
-                                any(java.util.Map.class), anyString(), any());
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof PropertyOfferStatusChangedEvent changed
+                                                && clientId.equals(changed.clientId())
+                                                && changed.newStatus() == BuyerOfferStatus.DECLINED));
         }
 
         // =================================================================================================
@@ -5145,11 +4823,12 @@ class TransactionServiceImplTest {
         }
 
         @Test
-        void addCondition_whenNotificationFails_logsAndProceeds() {
+        void addCondition_withClient_queuesConditionAddedEvent() {
                 // Arrange
                 UUID transactionId = UUID.randomUUID();
                 UUID brokerId = UUID.randomUUID();
                 UUID clientId = UUID.randomUUID();
+                java.time.LocalDate deadline = java.time.LocalDate.now().plusDays(10);
 
                 Transaction tx = new Transaction();
                 tx.setTransactionId(transactionId);
@@ -5160,19 +4839,22 @@ class TransactionServiceImplTest {
                                 .builder()
                                 .type(com.example.courtierprobackend.transactions.datalayer.enums.ConditionType.FINANCING)
                                 .status(com.example.courtierprobackend.transactions.datalayer.enums.ConditionStatus.PENDING)
+                                .deadlineDate(deadline)
                                 .build();
 
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
                 when(conditionRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-                doThrow(new RuntimeException("Notification error")).when(notificationService)
-                                .createNotification(anyString(), anyString(), anyString(), any(java.util.Map.class),
-                                                anyString(), any());
 
                 // Act
                 var result = transactionService.addCondition(transactionId, dto, brokerId);
 
-                // Assert - should succeed despite notification failure
+                // Assert - the notification goes out through the outbox, not inline
                 assertThat(result).isNotNull();
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof ConditionAddedEvent added
+                                                && clientId.equals(added.clientId())
+                                                && "FINANCING".equals(added.conditionName())
+                                                && deadline.equals(added.deadline())));
         }
 
         @Test
@@ -5217,8 +4899,8 @@ class TransactionServiceImplTest {
 
                 when(offerRepository.findByOfferId(offerId)).thenReturn(Optional.of(offer));
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(offerDocumentRepository.findByOfferIdOrderByCreatedAtDesc(offerId)).thenReturn(List.of());
-                when(documentConditionLinkRepository.findByOfferId(offerId)).thenReturn(List.of());
+                when(offerDocumentRepository.findByOfferIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
+                when(documentConditionLinkRepository.findByOfferIdIn(any())).thenReturn(List.of());
 
                 // Act
                 var result = transactionService.getOfferById(offerId, userId, true);
@@ -5672,8 +5354,8 @@ class TransactionServiceImplTest {
 
                 when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
                 when(offerRepository.findByTransactionIdOrderByCreatedAtDesc(transactionId)).thenReturn(List.of(offer));
-                when(offerDocumentRepository.findByOfferIdOrderByCreatedAtDesc(offerId)).thenReturn(List.of());
-                when(documentConditionLinkRepository.findByOfferId(offerId)).thenReturn(List.of());
+                when(offerDocumentRepository.findByOfferIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
+                when(documentConditionLinkRepository.findByOfferIdIn(any())).thenReturn(List.of());
 
                 // Act
                 var result = transactionService.getOffers(transactionId, userId, true);
@@ -6308,8 +5990,7 @@ class TransactionServiceImplTest {
         }
 
         @Test
-        void addPropertyOffer_withNullFirstAndLastName_coversNameBuilding() {
-                // Coverage for lines 1053-1056 - client/broker name building with nulls
+        void addPropertyOffer_firstRound_publishesOfferMadeEvent() {
                 UUID transactionId = UUID.randomUUID();
                 UUID propertyId = UUID.randomUUID();
                 UUID brokerId = UUID.randomUUID();
@@ -6356,84 +6037,22 @@ class TransactionServiceImplTest {
                         po.setPropertyOfferId(UUID.randomUUID());
                         return po;
                 });
-                when(offerDocumentRepository.findByPropertyOfferIdOrderByCreatedAtDesc(any())).thenReturn(List.of());
-                when(documentConditionLinkRepository.findByPropertyOfferId(any())).thenReturn(List.of());
+                when(offerDocumentRepository.findByPropertyOfferIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
+                when(documentConditionLinkRepository.findByPropertyOfferIdIn(any())).thenReturn(List.of());
 
                 // Act
                 var result = transactionService.addPropertyOffer(propertyId, offerDto, brokerId);
 
                 // Assert
                 assertThat(result).isNotNull();
-                verify(emailService).sendPropertyOfferMadeNotification(anyString(), anyString(), anyString(),
-                                anyString(), anyString(), anyInt(), anyString());
-        }
-
-        @Test
-        void addPropertyOffer_emailNotificationException_coversLine1068() {
-                // Coverage for line 1068 - email notification exception handling
-                UUID transactionId = UUID.randomUUID();
-                UUID propertyId = UUID.randomUUID();
-                UUID brokerId = UUID.randomUUID();
-                UUID clientId = UUID.randomUUID();
-
-                Transaction tx = new Transaction();
-                tx.setTransactionId(transactionId);
-                tx.setBrokerId(brokerId);
-                tx.setClientId(clientId);
-                tx.setSide(TransactionSide.BUY_SIDE);
-
-                com.example.courtierprobackend.transactions.datalayer.Property property = com.example.courtierprobackend.transactions.datalayer.Property
-                                .builder()
-                                .propertyId(propertyId)
-                                .transactionId(transactionId)
-                                .address(new PropertyAddress("123 Main St", "City", "Province", "H1H1H1"))
-                                .build();
-
-                UserAccount client = new UserAccount();
-                client.setId(clientId);
-                client.setFirstName("Client");
-                client.setLastName("Name");
-                client.setEmail("client@test.com");
-                client.setPreferredLanguage("en");
-
-                UserAccount broker = new UserAccount();
-                broker.setId(brokerId);
-                broker.setFirstName("Broker");
-                broker.setLastName("Name");
-
-                com.example.courtierprobackend.transactions.datalayer.dto.PropertyOfferRequestDTO offerDto = new com.example.courtierprobackend.transactions.datalayer.dto.PropertyOfferRequestDTO();
-                offerDto.setOfferAmount(java.math.BigDecimal.valueOf(500000.0));
-                offerDto.setStatus(BuyerOfferStatus.OFFER_MADE);
-
-                when(transactionRepository.findByTransactionId(transactionId)).thenReturn(Optional.of(tx));
-                when(propertyRepository.findByPropertyId(propertyId)).thenReturn(Optional.of(property));
-                when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
-                when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
-                when(propertyOfferRepository.findMaxOfferRoundByPropertyId(propertyId)).thenReturn(null);
-                when(propertyOfferRepository.save(any())).thenAnswer(inv -> {
-                        var po = (com.example.courtierprobackend.transactions.datalayer.PropertyOffer) inv
-                                        .getArgument(0);
-                        po.setPropertyOfferId(UUID.randomUUID());
-                        return po;
-                });
-                when(offerDocumentRepository.findByPropertyOfferIdOrderByCreatedAtDesc(any())).thenReturn(List.of());
-                when(documentConditionLinkRepository.findByPropertyOfferId(any())).thenReturn(List.of());
-
-                // Make email service throw an exception
-                doThrow(new RuntimeException("Email error")).when(emailService)
-                                .sendPropertyOfferMadeNotification(anyString(), anyString(), anyString(), anyString(),
-                                                anyString(), anyInt(), anyString());
-
-                // Act - should not throw, just log
-                var result = transactionService.addPropertyOffer(propertyId, offerDto, brokerId);
-
-                // Assert
-                assertThat(result).isNotNull();
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof PropertyOfferMadeEvent made
+                                                && made.offerRound() == 1
+                                                && "123 Main St".equals(made.address())));
         }
 
         @Test
-        void updatePropertyOfferStatus_withEmailNotification_coversLines1174to1190() {
-                // Coverage for lines 1174-1178, 1186, 1189-1190
+        void updatePropertyOfferStatus_toAccepted_publishesStatusChangedEvent() {
                 UUID transactionId = UUID.randomUUID();
                 UUID propertyId = UUID.randomUUID();
                 UUID propertyOfferId = UUID.randomUUID();
@@ -6487,23 +6106,23 @@ class TransactionServiceImplTest {
                 when(propertyOfferRepository.findTopByPropertyIdOrderByOfferRoundDesc(propertyId))
                                 .thenReturn(Optional.of(offer));
                 when(propertyRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-                when(offerDocumentRepository.findByPropertyOfferIdOrderByCreatedAtDesc(propertyOfferId))
+                when(offerDocumentRepository.findByPropertyOfferIdInOrderByCreatedAtDesc(any()))
                                 .thenReturn(List.of());
-                when(documentConditionLinkRepository.findByPropertyOfferId(propertyOfferId)).thenReturn(List.of());
+                when(documentConditionLinkRepository.findByPropertyOfferIdIn(any())).thenReturn(List.of());
 
                 // Act
                 var result = transactionService.updatePropertyOffer(propertyId, propertyOfferId, updateDto, brokerId);
 
                 // Assert
                 assertThat(result).isNotNull();
-                verify(emailService).sendPropertyOfferStatusChangedNotification(
-                                eq("client@test.com"), anyString(), anyString(), anyString(), anyString(), anyString(),
-                                any(), eq("en"));
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof PropertyOfferStatusChangedEvent changed
+                                                && changed.previousStatus() == BuyerOfferStatus.OFFER_MADE
+                                                && changed.newStatus() == BuyerOfferStatus.ACCEPTED));
         }
 
         @Test
-        void addOffer_withEmailNotification_coversLines1342to1356() {
-                // Coverage for lines 1342-1345, 1355-1356
+        void addOffer_withValidData_publishesOfferReceivedEventWithAmount() {
                 UUID transactionId = UUID.randomUUID();
                 UUID brokerId = UUID.randomUUID();
                 UUID clientId = UUID.randomUUID();
@@ -6542,17 +6161,18 @@ class TransactionServiceImplTest {
                         o.setOfferId(UUID.randomUUID());
                         return o;
                 });
-                when(offerDocumentRepository.findByOfferIdOrderByCreatedAtDesc(any())).thenReturn(List.of());
-                when(documentConditionLinkRepository.findByOfferId(any())).thenReturn(List.of());
+                when(offerDocumentRepository.findByOfferIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
+                when(documentConditionLinkRepository.findByOfferIdIn(any())).thenReturn(List.of());
 
                 // Act
                 var result = transactionService.addOffer(transactionId, offerDto, brokerId);
 
                 // Assert
                 assertThat(result).isNotNull();
-                verify(emailService).sendOfferReceivedNotification(
-                                eq("client@test.com"), anyString(), anyString(), eq("Test Buyer"), anyString(),
-                                eq("fr"));
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof OfferReceivedEvent received
+                                                && "Test Buyer".equals(received.buyerName())
+                                                && received.offerAmount().compareTo(java.math.BigDecimal.valueOf(500000)) == 0));
         }
 
         @Test
@@ -6599,17 +6219,17 @@ class TransactionServiceImplTest {
                 when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
                 when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
                 when(offerRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-                when(offerDocumentRepository.findByOfferIdOrderByCreatedAtDesc(offerId)).thenReturn(List.of());
-                when(documentConditionLinkRepository.findByOfferId(offerId)).thenReturn(List.of());
+                when(offerDocumentRepository.findByOfferIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
+                when(documentConditionLinkRepository.findByOfferIdIn(any())).thenReturn(List.of());
 
                 // Act
                 var result = transactionService.updateOffer(transactionId, offerId, updateDto, brokerId);
 
                 // Assert
                 assertThat(result).isNotNull();
-                verify(emailService).sendOfferStatusChangedNotification(
-                                eq("client@test.com"), anyString(), anyString(), eq("Test Buyer"), anyString(),
-                                eq("ACCEPTED"), eq("en"));
+                verify(domainEventPublisher).publish(eq(transactionId), eq(new OfferStatusChangedEvent(
+                                transactionId, offerId, clientId, brokerId, "Test Buyer",
+                                ReceivedOfferStatus.PENDING, ReceivedOfferStatus.ACCEPTED)));
         }
 
         @Test
@@ -6708,8 +6328,7 @@ class TransactionServiceImplTest {
         }
 
         @Test
-        void submitClientOfferDecision_notificationException_coversLines1804to1805() {
-                // Coverage for lines 1804-1805
+        void submitClientOfferDecision_publishesDecisionEventForBroker() {
                 UUID transactionId = UUID.randomUUID();
                 UUID offerId = UUID.randomUUID();
                 UUID clientId = UUID.randomUUID();
@@ -6742,19 +6361,19 @@ class TransactionServiceImplTest {
                 when(offerRepository.findByOfferId(offerId)).thenReturn(Optional.of(offer));
                 when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
                 when(offerRepository.save(any())).thenAnswer(inv -> inv.getArgument(0));
-                when(offerDocumentRepository.findByOfferIdOrderByCreatedAtDesc(offerId)).thenReturn(List.of());
-                when(documentConditionLinkRepository.findByOfferId(offerId)).thenReturn(List.of());
+                when(offerDocumentRepository.findByOfferIdInOrderByCreatedAtDesc(any())).thenReturn(List.of());
+                when(documentConditionLinkRepository.findByOfferIdIn(any())).thenReturn(List.of());
 
-                // Make notification service throw
-                doThrow(new RuntimeException("Notification error")).when(notificationService)
-                                .createNotification(anyString(), anyString(), anyString(), any(java.util.Map.class),
-                                                anyString(), any());
-
-                // Act - should not throw
+                // Act
                 var result = transactionService.submitClientOfferDecision(offerId, decisionDto, clientId);
 
                 // Assert
                 assertThat(result).isNotNull();
+                verify(domainEventPublisher).publish(eq(transactionId),
+                                argThat(event -> event instanceof ClientOfferDecisionEvent decision
+                                                && brokerId.equals(decision.brokerId())
+                                                && "Client Name".equals(decision.clientName())
+                                                && decision.decision() == com.example.courtierprobackend.transactions.datalayer.enums.ClientOfferDecision.ACCEPT));
         }
 
         @Test
@@ -6795,10 +6414,10 @@ class TransactionServiceImplTest {
                 when(propertyRepository.findByPropertyId(propertyId)).thenReturn(Optional.of(property));
                 when(propertyOfferRepository.findByPropertyIdOrderByOfferRoundDesc(propertyId))
                                 .thenReturn(List.of(offer));
-                when(offerDocumentRepository.findByPropertyOfferIdOrderByCreatedAtDesc(propertyOfferId))
+                when(offerDocumentRepository.findByPropertyOfferIdInOrderByCreatedAtDesc(any()))
                                 .thenReturn(List.of());
-                when(documentConditionLinkRepository.findByPropertyOfferId(propertyOfferId)).thenReturn(List.of(link));
-                when(conditionRepository.findByConditionId(any())).thenReturn(Optional.empty()); // Condition not found
+                when(documentConditionLinkRepository.findByPropertyOfferIdIn(any())).thenReturn(List.of(link));
+                when(conditionRepository.findByConditionIdIn(any())).thenReturn(List.of()); // Condition not found
 
                 // Act
                 var result = transactionService.getPropertyOffers(propertyId, brokerId, true);
@@ -7637,4 +7256,9 @@ class TransactionServiceImplTest {
                                 .isInstanceOf(NotFoundException.class)
                                 .hasMessageContaining("Visitor not found");
         }
+
+        private static boolean hasEntry(List<TimelineService.Append> entries, TimelineEntryType type,
+                        java.util.function.Predicate<TimelineService.Append> condition) {
+                return entries.stream().anyMatch(e -> e.type() == type && condition.test(e));
+        }
 }
@@ -0,0 +1,41 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.transactions.datalayer.enums.ClientOfferDecision;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ClientOfferDecisionNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private ClientOfferDecisionNotificationHandler handler;
+
+    @Test
+    void handle_notifiesBrokerOfTheClientsDecision() {
+        UUID transactionId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+
+        handler.handle(new ClientOfferDecisionEvent(transactionId, UUID.randomUUID(), brokerId, "Client Name",
+                "Test Buyer", ClientOfferDecision.ACCEPT, new BigDecimal("500000")));
+
+        verify(notificationService).createNotification(brokerId.toString(),
+                "notifications.clientOfferDecision.title", "notifications.clientOfferDecision.message",
+                Map.of("clientName", "Client Name", "buyerName", "Test Buyer", "decision", "ACCEPT",
+                        "offerAmount", "$500,000"),
+                transactionId.toString(), NotificationCategory.OFFER_MADE);
+    }
+}
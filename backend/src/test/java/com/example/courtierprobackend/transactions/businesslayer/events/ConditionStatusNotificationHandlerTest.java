@@ -0,0 +1,63 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.transactions.datalayer.enums.ConditionStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConditionStatusNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private ConditionStatusNotificationHandler handler;
+
+    private final UUID transactionId = UUID.randomUUID();
+    private final UUID clientId = UUID.randomUUID();
+
+    private void handle(ConditionStatus previous, ConditionStatus next) {
+        handler.handle(new ConditionStatusChangedEvent(transactionId, UUID.randomUUID(), clientId,
+                "FINANCING", previous, next));
+    }
+
+    @Test
+    void handle_satisfied_usesSatisfiedKeys() {
+        handle(ConditionStatus.PENDING, ConditionStatus.SATISFIED);
+
+        verify(notificationService).createNotification(clientId.toString(),
+                "notifications.conditionSatisfied.title", "notifications.conditionSatisfied.message",
+                Map.of("conditionType", "FINANCING", "status", "SATISFIED"),
+                transactionId.toString(), NotificationCategory.GENERAL);
+    }
+
+    @Test
+    void handle_failed_usesFailedKeys() {
+        handle(ConditionStatus.PENDING, ConditionStatus.FAILED);
+
+        verify(notificationService).createNotification(clientId.toString(),
+                "notifications.conditionFailed.title", "notifications.conditionFailed.message",
+                Map.of("conditionType", "FINANCING", "status", "FAILED"),
+                transactionId.toString(), NotificationCategory.GENERAL);
+    }
+
+    @Test
+    void handle_backToPending_usesStatusChangedKeys() {
+        handle(ConditionStatus.SATISFIED, ConditionStatus.PENDING);
+
+        verify(notificationService).createNotification(clientId.toString(),
+                "notifications.conditionStatusChanged.title", "notifications.conditionStatusChanged.message",
+                Map.of("conditionType", "FINANCING", "status", "PENDING"),
+                transactionId.toString(), NotificationCategory.GENERAL);
+    }
+}
@@ -0,0 +1,63 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OfferReceivedEmailHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private OfferReceivedEmailHandler handler;
+
+    @Test
+    void handle_emailsClientInTheirLanguage() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setEmail("client@test.com");
+        client.setFirstName("Test");
+        client.setLastName("Client");
+        client.setPreferredLanguage("fr");
+        UserAccount broker = new UserAccount();
+        broker.setFirstName("Test");
+        broker.setLastName("Broker");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+
+        handler.handle(new OfferReceivedEvent(UUID.randomUUID(), UUID.randomUUID(), clientId, brokerId,
+                "Buyer Name", new BigDecimal("600000")));
+
+        verify(emailService).sendOfferReceivedNotification("client@test.com", "Test Client", "Test Broker",
+                "Buyer Name", "$600,000", "fr");
+    }
+
+    @Test
+    void handle_missingBrokerAccount_skipsEmail() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(new UserAccount()));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.empty());
+
+        handler.handle(new OfferReceivedEvent(UUID.randomUUID(), UUID.randomUUID(), clientId, brokerId,
+                "Buyer Name", new BigDecimal("600000")));
+
+        verifyNoInteractions(emailService);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OfferReceivedNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private OfferReceivedNotificationHandler handler;
+
+    @Test
+    void handle_notifiesSellerClientOfTheOffer() {
+        UUID transactionId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+
+        handler.handle(new OfferReceivedEvent(transactionId, UUID.randomUUID(), clientId, UUID.randomUUID(),
+                "Buyer Name", new BigDecimal("600000")));
+
+        verify(notificationService).createNotification(clientId.toString(),
+                "notifications.offerReceived.title", "notifications.offerReceived.message",
+                Map.of("buyerName", "Buyer Name", "offerAmount", "$600,000"), transactionId.toString(),
+                NotificationCategory.OFFER_RECEIVED);
+    }
+}
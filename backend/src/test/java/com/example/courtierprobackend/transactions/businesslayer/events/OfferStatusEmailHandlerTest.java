@@ -0,0 +1,51 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.transactions.datalayer.enums.ReceivedOfferStatus;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class OfferStatusEmailHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private OfferStatusEmailHandler handler;
+
+    @Test
+    void handle_emailsClientWithPreviousAndNewStatus() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setId(clientId);
+        client.setFirstName("Client");
+        client.setLastName("Name");
+        client.setEmail("client@test.com");
+        UserAccount broker = new UserAccount();
+        broker.setId(brokerId);
+        broker.setFirstName("Broker");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+
+        handler.handle(new OfferStatusChangedEvent(UUID.randomUUID(), UUID.randomUUID(), clientId, brokerId,
+                "Test Buyer", ReceivedOfferStatus.PENDING, ReceivedOfferStatus.ACCEPTED));
+
+        // Missing language defaults to English; missing last name is dropped
+        verify(emailService).sendOfferStatusChangedNotification("client@test.com", "Client Name", "Broker",
+                "Test Buyer", "PENDING", "ACCEPTED", "en");
+    }
+}
@@ -0,0 +1,36 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyAddedNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private PropertyAddedNotificationHandler handler;
+
+    @Test
+    void handle_notifiesClientOfTheNewProperty() {
+        UUID transactionId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+
+        handler.handle(new PropertyAddedEvent(transactionId, UUID.randomUUID(), clientId, "789 Pine St"));
+
+        verify(notificationService).createNotification(clientId.toString(),
+                "notifications.propertyAdded.title", "notifications.propertyAdded.message",
+                Map.of("address", "789 Pine St"), transactionId.toString(), NotificationCategory.PROPERTY_ADDED);
+    }
+}
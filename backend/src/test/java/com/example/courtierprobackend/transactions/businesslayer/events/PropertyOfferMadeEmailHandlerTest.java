@@ -0,0 +1,63 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyOfferMadeEmailHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private PropertyOfferMadeEmailHandler handler;
+
+    @Test
+    void handle_emailsClientTheOffer() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setEmail("client@test.com");
+        client.setFirstName("Test");
+        client.setLastName("Client");
+        client.setPreferredLanguage("fr");
+        UserAccount broker = new UserAccount();
+        broker.setLastName("Broker");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+
+        handler.handle(new PropertyOfferMadeEvent(UUID.randomUUID(), UUID.randomUUID(), clientId, brokerId,
+                "123 Main St", new BigDecimal("500000"), 1));
+
+        // Missing first name is dropped rather than rendered as "null"
+        verify(emailService).sendPropertyOfferMadeNotification("client@test.com", "Test Client", "Broker",
+                "123 Main St", "$500,000", 1, "fr");
+    }
+
+    @Test
+    void handle_missingClientAccount_skipsEmail() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.empty());
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(new UserAccount()));
+
+        handler.handle(new PropertyOfferMadeEvent(UUID.randomUUID(), UUID.randomUUID(), clientId, brokerId,
+                "123 Main St", new BigDecimal("500000"), 1));
+
+        verifyNoInteractions(emailService);
+    }
+}
@@ -0,0 +1,39 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyOfferMadeNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private PropertyOfferMadeNotificationHandler handler;
+
+    @Test
+    void handle_notifiesClientWithFormattedAmountAndRound() {
+        UUID transactionId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+
+        handler.handle(new PropertyOfferMadeEvent(transactionId, UUID.randomUUID(), clientId, UUID.randomUUID(),
+                "123 Main St", new BigDecimal("525000"), 2));
+
+        verify(notificationService).createNotification(clientId.toString(),
+                "notifications.propertyOfferMade.title", "notifications.propertyOfferMade.message",
+                Map.of("address", "123 Main St", "offerAmount", "$525,000", "offerRound", "2"),
+                transactionId.toString(), NotificationCategory.OFFER_MADE);
+    }
+}
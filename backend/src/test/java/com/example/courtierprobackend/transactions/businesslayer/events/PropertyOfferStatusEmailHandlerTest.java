@@ -0,0 +1,51 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.transactions.datalayer.enums.BuyerOfferStatus;
+import com.example.courtierprobackend.transactions.datalayer.enums.CounterpartyResponse;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyOfferStatusEmailHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private PropertyOfferStatusEmailHandler handler;
+
+    @Test
+    void handle_emailsClientWithCounterpartyResponse() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setEmail("client@test.com");
+        client.setFirstName("Test");
+        client.setLastName("Client");
+        UserAccount broker = new UserAccount();
+        broker.setFirstName("Test");
+        broker.setLastName("Broker");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+
+        handler.handle(new PropertyOfferStatusChangedEvent(UUID.randomUUID(), UUID.randomUUID(), clientId, brokerId,
+                "456 Accept St", BuyerOfferStatus.COUNTERED, BuyerOfferStatus.ACCEPTED,
+                CounterpartyResponse.COUNTERED));
+
+        verify(emailService).sendPropertyOfferStatusChangedNotification("client@test.com", "Test Client",
+                "Test Broker", "456 Accept St", "COUNTERED", "ACCEPTED", "COUNTERED", "en");
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.transactions.datalayer.enums.BuyerOfferStatus;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class PropertyOfferStatusNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private PropertyOfferStatusNotificationHandler handler;
+
+    @Test
+    void handle_counteredOffer_usesCounteredCategory() {
+        UUID transactionId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+
+        handler.handle(new PropertyOfferStatusChangedEvent(transactionId, UUID.randomUUID(), clientId,
+                UUID.randomUUID(), "123 Main St", BuyerOfferStatus.OFFER_MADE, BuyerOfferStatus.COUNTERED, null));
+
+        verify(notificationService).createNotification(clientId.toString(),
+                "notifications.propertyOfferStatusChanged.title", "notifications.propertyOfferStatusChanged.message",
+                Map.of("address", "123 Main St", "status", "COUNTERED"), transactionId.toString(),
+                NotificationCategory.OFFER_COUNTERED);
+    }
+
+    @Test
+    void handle_otherStatus_usesStatusChangedCategory() {
+        UUID transactionId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+
+        handler.handle(new PropertyOfferStatusChangedEvent(transactionId, UUID.randomUUID(), clientId,
+                UUID.randomUUID(), "123 Main St", BuyerOfferStatus.COUNTERED, BuyerOfferStatus.ACCEPTED, null));
+
+        verify(notificationService).createNotification(clientId.toString(),
+                "notifications.propertyOfferStatusChanged.title", "notifications.propertyOfferStatusChanged.message",
+                Map.of("address", "123 Main St", "status", "ACCEPTED"), transactionId.toString(),
+                NotificationCategory.OFFER_STATUS_CHANGED);
+    }
+}
@@ -0,0 +1,80 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StageChangeEmailHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private StageChangeEmailHandler handler;
+
+    private UUID transactionId;
+    private UUID clientId;
+    private UUID brokerId;
+
+    @BeforeEach
+    void setUp() {
+        transactionId = UUID.randomUUID();
+        clientId = UUID.randomUUID();
+        brokerId = UUID.randomUUID();
+    }
+
+    @Test
+    void handle_sendsStageUpdateEmailInClientLanguage() {
+        UserAccount client = new UserAccount();
+        client.setId(clientId);
+        client.setFirstName("Client");
+        client.setLastName("User");
+        client.setEmail("albert@example.com");
+        client.setPreferredLanguage("fr");
+        UserAccount broker = new UserAccount();
+        broker.setId(brokerId);
+        broker.setFirstName("Courtier");
+        broker.setLastName("Pro");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+
+        handler.handle(new StageChangedEvent(transactionId, clientId, brokerId,
+                "BUYER_OFFER_AND_NEGOTIATION", false, "123 Rue Test"));
+
+        verify(emailService).sendStageUpdateEmail("albert@example.com", "Client User", "Courtier Pro",
+                "123 Rue Test", "BUYER_OFFER_AND_NEGOTIATION", "fr");
+    }
+
+    @Test
+    void handle_rollback_sendsNoEmail() {
+        handler.handle(new StageChangedEvent(transactionId, clientId, brokerId,
+                "BUYER_FINANCIAL_PREPARATION", true, "123 Rue Test"));
+
+        verifyNoInteractions(emailService, userAccountRepository);
+    }
+
+    @Test
+    void handle_missingClient_sendsNoEmail() {
+        when(userAccountRepository.findById(any())).thenReturn(Optional.empty());
+
+        handler.handle(new StageChangedEvent(transactionId, clientId, brokerId,
+                "BUYER_OFFER_AND_NEGOTIATION", false, "123 Rue Test"));
+
+        verifyNoInteractions(emailService);
+    }
+}
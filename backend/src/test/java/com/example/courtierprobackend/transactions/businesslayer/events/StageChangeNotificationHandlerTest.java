@@ -0,0 +1,83 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class StageChangeNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private StageChangeNotificationHandler handler;
+
+    private UUID transactionId;
+    private UUID clientId;
+    private UUID brokerId;
+
+    @BeforeEach
+    void setUp() {
+        transactionId = UUID.randomUUID();
+        clientId = UUID.randomUUID();
+        brokerId = UUID.randomUUID();
+
+        UserAccount client = new UserAccount();
+        client.setId(clientId);
+        client.setFirstName("Client");
+        client.setLastName("User");
+        client.setPreferredLanguage("fr");
+        UserAccount broker = new UserAccount();
+        broker.setId(brokerId);
+        broker.setFirstName("Courtier");
+        broker.setLastName("Pro");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+    }
+
+    @Test
+    void handle_stageUpdate_createsTranslatedNotification() {
+        handler.handle(new StageChangedEvent(transactionId, clientId, brokerId,
+                "BUYER_OFFER_AND_NEGOTIATION", false, "123 Rue Test"));
+
+        verify(notificationService).createNotification(
+                eq(clientId.toString()),
+                eq("notifications.stageUpdate.title"),
+                eq("notifications.stageUpdate.message"),
+                argThat(params -> "Offre et Négociation".equals(params.get("stage")) &&
+                        "Courtier Pro".equals(params.get("brokerName")) &&
+                        "123 Rue Test".equals(params.get("propertyAddress"))),
+                eq(transactionId.toString()),
+                eq(NotificationCategory.STAGE_UPDATE));
+    }
+
+    @Test
+    void handle_rollback_usesRollbackKeys() {
+        handler.handle(new StageChangedEvent(transactionId, clientId, brokerId,
+                "BUYER_FINANCIAL_PREPARATION", true, "123 Rue Test"));
+
+        verify(notificationService).createNotification(
+                eq(clientId.toString()),
+                eq("notifications.stageRollback.title"),
+                eq("notifications.stageRollback.message"),
+                anyMap(),
+                eq(transactionId.toString()),
+                eq(NotificationCategory.STAGE_UPDATE));
+    }
+}
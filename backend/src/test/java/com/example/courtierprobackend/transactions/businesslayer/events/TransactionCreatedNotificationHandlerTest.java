@@ -0,0 +1,36 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Map;
+import java.util.UUID;
+
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionCreatedNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+
+    @InjectMocks
+    private TransactionCreatedNotificationHandler handler;
+
+    @Test
+    void handle_welcomesClientToTheTransaction() {
+        UUID transactionId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+
+        handler.handle(new TransactionCreatedEvent(transactionId, clientId, "Jane Broker"));
+
+        verify(notificationService).createNotification(clientId.toString(),
+                "notifications.transactionCreated.title", "notifications.transactionCreated.message",
+                Map.of("brokerName", "Jane Broker"), transactionId.toString(), NotificationCategory.GENERAL);
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.courtierprobackend.transactions.businesslayer.events;
+
+import com.example.courtierprobackend.notifications.businesslayer.NotificationService;
+import com.example.courtierprobackend.notifications.datalayer.enums.NotificationCategory;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
+import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TransactionTerminatedNotificationHandlerTest {
+
+    @Mock
+    private NotificationService notificationService;
+    @Mock
+    private UserAccountRepository userAccountRepository;
+
+    @InjectMocks
+    private TransactionTerminatedNotificationHandler handler;
+
+    @Test
+    void handle_notifiesClientWithTranslatedStage() {
+        UUID transactionId = UUID.randomUUID();
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        UserAccount client = new UserAccount();
+        client.setId(clientId);
+        client.setPreferredLanguage("fr");
+        UserAccount broker = new UserAccount();
+        broker.setFirstName("Courtier");
+        broker.setLastName("Pro");
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(client));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.of(broker));
+
+        handler.handle(new TransactionTerminatedEvent(transactionId, clientId, brokerId,
+                "BUYER_OFFER_AND_NEGOTIATION", "123 Rue Test"));
+
+        verify(notificationService).createNotification(
+                eq(clientId.toString()),
+                eq("notifications.transactionTerminated.title"),
+                eq("notifications.transactionTerminated.message"),
+                argThat(params -> "Offre et Négociation".equals(params.get("stage")) &&
+                        "Courtier Pro".equals(params.get("brokerName")) &&
+                        "123 Rue Test".equals(params.get("propertyAddress"))),
+                eq(transactionId.toString()),
+                eq(NotificationCategory.STAGE_UPDATE));
+    }
+
+    @Test
+    void handle_missingBrokerAccount_skipsNotification() {
+        UUID clientId = UUID.randomUUID();
+        UUID brokerId = UUID.randomUUID();
+        when(userAccountRepository.findById(clientId)).thenReturn(Optional.of(new UserAccount()));
+        when(userAccountRepository.findById(brokerId)).thenReturn(Optional.empty());
+
+        handler.handle(new TransactionTerminatedEvent(UUID.randomUUID(), clientId, brokerId,
+                "BUYER_OFFER_AND_NEGOTIATION", "123 Rue Test"));
+
+        verifyNoInteractions(notificationService);
+    }
+}
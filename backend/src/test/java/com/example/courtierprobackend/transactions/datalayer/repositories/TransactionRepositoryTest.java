@@ -95,4 +95,37 @@ class TransactionRepositoryTest {
         List<Transaction> sharedResults = transactionRepository.searchTransactions(brokerId, "transaction");
         assertThat(sharedResults).hasSize(2);
     }
+
+    @Test
+    void findForAnalytics_WithoutDates_IncludesTransactionsWithoutOpenedAt() {
+        UUID brokerId = UUID.randomUUID();
+        persistOpened(brokerId, LocalDateTime.of(2024, 3, 1, 9, 0));
+        persistOpened(brokerId, null);
+
+        assertThat(transactionRepository.findForAnalytics(brokerId, null, null, null)).hasSize(2);
+    }
+
+    @Test
+    void findForAnalytics_WithOneBound_UsesOpenEndForTheOther() {
+        UUID brokerId = UUID.randomUUID();
+        persistOpened(brokerId, LocalDateTime.of(2024, 1, 15, 9, 0));
+        persistOpened(brokerId, LocalDateTime.of(2024, 6, 15, 9, 0));
+        persistOpened(brokerId, null);
+
+        assertThat(transactionRepository.findForAnalytics(brokerId, LocalDateTime.of(2024, 3, 1, 0, 0), null, null))
+                .extracting(Transaction::getOpenedAt)
+                .containsExactly(LocalDateTime.of(2024, 6, 15, 9, 0));
+        assertThat(transactionRepository.findForAnalytics(brokerId, null, LocalDateTime.of(2024, 3, 1, 0, 0), null))
+                .extracting(Transaction::getOpenedAt)
+                .containsExactly(LocalDateTime.of(2024, 1, 15, 9, 0));
+    }
+
+    private void persistOpened(UUID brokerId, LocalDateTime openedAt) {
+        Transaction t = new Transaction();
+        t.setBrokerId(brokerId);
+        t.setStatus(TransactionStatus.ACTIVE);
+        t.setOpenedAt(openedAt);
+        entityManager.persist(t);
+        entityManager.flush();
+    }
 }
@@ -2,8 +2,11 @@
 package com.example.courtierprobackend.transactions.presentationlayer;
 
 import com.example.courtierprobackend.audit.timeline_audit.businesslayer.TimelineService;
+import com.example.courtierprobackend.common.web.ConditionalGet;
 import com.example.courtierprobackend.security.UserContextFilter;
+import com.example.courtierprobackend.transactions.businesslayer.TransactionAccessContext;
 import com.example.courtierprobackend.transactions.businesslayer.TransactionService;
+import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import com.example.courtierprobackend.transactions.datalayer.dto.TransactionResponseDTO;
 import com.example.courtierprobackend.transactions.datalayer.dto.AddParticipantRequestDTO;
 import com.example.courtierprobackend.transactions.datalayer.dto.ParticipantResponseDTO;
@@ -23,10 +26,13 @@ import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.security.test.context.support.WithMockUser;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
 import static org.mockito.ArgumentMatchers.*;
+import static org.hamcrest.Matchers.containsString;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.jwt;
@@ -232,8 +238,9 @@ class TransactionControllerTest {
                                 .side(TransactionSide.BUY_SIDE)
                                 .build();
 
-                when(transactionService.getByTransactionId(eq(txId), eq(brokerUuid)))
-                                .thenReturn(response);
+                TransactionAccessContext access = brokerAccess(txId, brokerUuid, 3L, 7L, "2026-01-01T10:00");
+                when(transactionService.resolveAccess(txId, brokerUuid)).thenReturn(access);
+                when(transactionService.getByTransactionId(access)).thenReturn(response);
 
                 // Act & Assert
                 mockMvc.perform(get("/transactions/" + txId)
@@ -245,7 +252,7 @@ class TransactionControllerTest {
                                 .andExpect(jsonPath("$.transactionId").value(txId.toString()))
                                 .andExpect(jsonPath("$.brokerId").value(brokerId));
 
-                verify(transactionService).getByTransactionId(eq(txId), eq(brokerUuid));
+                verify(transactionService).getByTransactionId(any(TransactionAccessContext.class));
         }
 
         @Test
@@ -261,8 +268,9 @@ class TransactionControllerTest {
                                 .brokerId(brokerUuid)
                                 .build();
 
-                when(transactionService.getByTransactionId(eq(txId), eq(brokerUuid)))
-                                .thenReturn(response);
+                TransactionAccessContext access = brokerAccess(txId, brokerUuid, 3L, 7L, "2026-01-01T10:00");
+                when(transactionService.resolveAccess(txId, brokerUuid)).thenReturn(access);
+                when(transactionService.getByTransactionId(access)).thenReturn(response);
 
                 // Act & Assert
                 mockMvc.perform(get("/transactions/" + txId)
@@ -272,7 +280,81 @@ class TransactionControllerTest {
                                 .andExpect(jsonPath("$.transactionId").value(txId.toString()))
                                 .andExpect(jsonPath("$.brokerId").value(brokerId));
 
-                verify(transactionService).getByTransactionId(eq(txId), eq(brokerUuid));
+                verify(transactionService).getByTransactionId(any(TransactionAccessContext.class));
+        }
+
+        @Test
+        @WithMockUser(roles = "BROKER")
+        void getTransactionById_withVersionStamp_returnsETag() throws Exception {
+                UUID txId = UUID.randomUUID();
+                UUID brokerUuid = UUID.randomUUID();
+
+                TransactionAccessContext access = brokerAccess(txId, brokerUuid, 3L, 7L, "2026-01-01T10:00");
+                when(transactionService.resolveAccess(txId, brokerUuid)).thenReturn(access);
+                when(transactionService.getByTransactionId(access))
+                                .thenReturn(TransactionResponseDTO.builder().transactionId(txId).build());
+
+                mockMvc.perform(get("/transactions/" + txId)
+                                .with(jwt())
+                                .header("x-broker-id", brokerUuid.toString()))
+                                .andExpect(status().isOk())
+                                .andExpect(header().exists("ETag"))
+                                .andExpect(header().string("Cache-Control", containsString("no-cache")));
+        }
+
+        @Test
+        @WithMockUser(roles = "BROKER")
+        void getTransactionById_withMatchingIfNoneMatch_returns304WithoutLoading() throws Exception {
+                UUID txId = UUID.randomUUID();
+                UUID brokerUuid = UUID.randomUUID();
+                when(transactionService.resolveAccess(txId, brokerUuid))
+                                .thenReturn(brokerAccess(txId, brokerUuid, 3L, 7L, "2026-01-01T10:00"));
+                String etag = ConditionalGet.etag("3.7.2026-01-01T10:00", "transaction", brokerUuid);
+
+                mockMvc.perform(get("/transactions/" + txId)
+                                .with(jwt())
+                                .header("x-broker-id", brokerUuid.toString())
+                                .header("If-None-Match", etag))
+                                .andExpect(status().isNotModified())
+                                .andExpect(header().string("ETag", etag))
+                                .andExpect(content().string(""));
+
+                verify(transactionService, never()).getByTransactionId(any(TransactionAccessContext.class));
+        }
+
+        @Test
+        @WithMockUser(roles = "BROKER")
+        void getTransactionById_withMatchingIfNoneMatchButNoAccess_returns403() throws Exception {
+                UUID txId = UUID.randomUUID();
+                UUID strangerUuid = UUID.randomUUID();
+                when(transactionService.resolveAccess(txId, strangerUuid)).thenReturn(strangerAccess(txId, strangerUuid));
+                String etag = ConditionalGet.etag("3.7.2026-01-01T10:00", "transaction", strangerUuid);
+
+                mockMvc.perform(get("/transactions/" + txId)
+                                .with(jwt())
+                                .header("x-broker-id", strangerUuid.toString())
+                                .header("If-None-Match", etag))
+                                .andExpect(status().isForbidden())
+                                .andExpect(header().doesNotExist("ETag"));
+        }
+
+        @Test
+        @WithMockUser(roles = "BROKER")
+        void getTransactionById_afterChange_staleETagLoadsAgain() throws Exception {
+                UUID txId = UUID.randomUUID();
+                UUID brokerUuid = UUID.randomUUID();
+                String staleEtag = ConditionalGet.etag("3.7.2026-01-01T10:00", "transaction", brokerUuid);
+                TransactionAccessContext access = brokerAccess(txId, brokerUuid, 3L, 8L, "2026-01-01T10:05");
+                when(transactionService.resolveAccess(txId, brokerUuid)).thenReturn(access);
+                when(transactionService.getByTransactionId(access))
+                                .thenReturn(TransactionResponseDTO.builder().transactionId(txId).build());
+
+                mockMvc.perform(get("/transactions/" + txId)
+                                .with(jwt())
+                                .header("x-broker-id", brokerUuid.toString())
+                                .header("If-None-Match", staleEtag))
+                                .andExpect(status().isOk())
+                                .andExpect(jsonPath("$.transactionId").value(txId.toString()));
         }
 
         // ========== updateTransactionStage Tests ==========
@@ -442,17 +524,37 @@ class TransactionControllerTest {
         @WithMockUser(roles = "CLIENT")
         void getClientTransactionTimeline_returnsList() throws Exception {
                 UUID txId = UUID.randomUUID();
-
+                UUID clientUuid = UUID.randomUUID();
+                Transaction tx = Transaction.builder().transactionId(txId).brokerId(UUID.randomUUID())
+                                .clientId(clientUuid).version(1L).viewVersion(1L).build();
+                when(transactionService.resolveAccess(txId, clientUuid))
+                                .thenReturn(new TransactionAccessContext(tx, clientUuid, null, List.of()));
                 when(timelineService.getTimelineForClient(txId)).thenReturn(List.of());
 
                 mockMvc.perform(get("/transactions/" + txId + "/timeline/client")
-                                .with(jwt()))
+                                .with(jwt())
+                                .requestAttr(UserContextFilter.INTERNAL_USER_ID_ATTR, clientUuid))
                                 .andExpect(status().isOk())
                                 .andExpect(jsonPath("$.length()").value(0));
 
                 verify(timelineService).getTimelineForClient(txId);
         }
 
+        @Test
+        @WithMockUser(roles = "CLIENT")
+        void getClientTransactionTimeline_otherClientsTransaction_returns403WithoutLoading() throws Exception {
+                UUID txId = UUID.randomUUID();
+                UUID clientUuid = UUID.randomUUID();
+                when(transactionService.resolveAccess(txId, clientUuid)).thenReturn(strangerAccess(txId, clientUuid));
+
+                mockMvc.perform(get("/transactions/" + txId + "/timeline/client")
+                                .with(jwt())
+                                .requestAttr(UserContextFilter.INTERNAL_USER_ID_ATTR, clientUuid))
+                                .andExpect(status().isForbidden());
+
+                verify(timelineService, never()).getTimelineForClient(any());
+        }
+
         // ========== Participant Tests ==========
 
         @Test
@@ -573,15 +675,35 @@ class TransactionControllerTest {
                 UUID brokerUuid = UUID.randomUUID();
                 String brokerId = brokerUuid.toString();
 
+                when(transactionService.resolveAccess(txId, brokerUuid))
+                                .thenReturn(brokerAccess(txId, brokerUuid, 1L, 1L, "2026-01-01T10:00"));
                 when(timelineService.getTimelineForTransaction(txId)).thenReturn(List.of());
 
                 mockMvc.perform(get("/transactions/" + txId + "/timeline")
                                 .with(jwt())
                                 .header("x-broker-id", brokerId))
                                 .andExpect(status().isOk())
+                                .andExpect(header().string("ETag",
+                                                ConditionalGet.etag("1.1.2026-01-01T10:00", "timeline", brokerUuid)))
                                 .andExpect(jsonPath("$.length()").value(0));
         }
 
+        @Test
+        @WithMockUser(roles = "BROKER")
+        void getTransactionTimeline_withMatchingIfNoneMatchButNoAccess_returns403() throws Exception {
+                UUID txId = UUID.randomUUID();
+                UUID strangerUuid = UUID.randomUUID();
+                when(transactionService.resolveAccess(txId, strangerUuid)).thenReturn(strangerAccess(txId, strangerUuid));
+
+                mockMvc.perform(get("/transactions/" + txId + "/timeline")
+                                .with(jwt())
+                                .header("x-broker-id", strangerUuid.toString())
+                                .header("If-None-Match", "*"))
+                                .andExpect(status().isForbidden());
+
+                verify(timelineService, never()).getTimelineForTransaction(any());
+        }
+
         // ========== Archive/Unarchive Tests ==========
 
         @Test
@@ -800,4 +922,29 @@ class TransactionControllerTest {
 
                 verify(transactionService).deleteOfferDocument(documentId, brokerUuid);
         }
+
+        private static TransactionAccessContext brokerAccess(UUID txId, UUID brokerId, Long version,
+                        Long viewVersion, String lastUpdated) {
+                Transaction tx = Transaction.builder()
+                                .transactionId(txId)
+                                .brokerId(brokerId)
+                                .clientId(UUID.randomUUID())
+                                .version(version)
+                                .viewVersion(viewVersion)
+                                .lastUpdated(LocalDateTime.parse(lastUpdated))
+                                .build();
+                return new TransactionAccessContext(tx, brokerId, null, List.of());
+        }
+
+        private static TransactionAccessContext strangerAccess(UUID txId, UUID callerId) {
+                Transaction tx = Transaction.builder()
+                                .transactionId(txId)
+                                .brokerId(UUID.randomUUID())
+                                .clientId(UUID.randomUUID())
+                                .version(3L)
+                                .viewVersion(7L)
+                                .lastUpdated(LocalDateTime.parse("2026-01-01T10:00"))
+                                .build();
+                return new TransactionAccessContext(tx, callerId, null, List.of());
+        }
 }
@@ -15,6 +15,7 @@ import org.mockito.MockitoAnnotations;
 import java.util.*;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.Mockito.*;
 
 class Auth0UserSyncServiceTest {
@@ -270,4 +271,12 @@ class Auth0UserSyncServiceTest {
         assertDoesNotThrow(() -> syncService.syncUsersFromAuth0());
         verify(userRepository).delete(userToDelete);
     }
+
+    @Test
+    void syncUsersFromAuth0_ListFailure_Propagates() {
+        when(auth0Client.listAllUsers()).thenThrow(new RuntimeException("Auth0 unavailable"));
+
+        assertThrows(RuntimeException.class, () -> syncService.syncUsersFromAuth0());
+        verify(userRepository, never()).findAll();
+    }
 }
@@ -2,207 +2,209 @@ package com.example.courtierprobackend.user.businesslayer;
 
 import com.example.courtierprobackend.appointments.datalayer.Appointment;
 import com.example.courtierprobackend.appointments.datalayer.AppointmentRepository;
+import com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus;
 import com.example.courtierprobackend.documents.datalayer.Document;
 import com.example.courtierprobackend.documents.datalayer.DocumentRepository;
 import com.example.courtierprobackend.email.EmailService;
+import com.example.courtierprobackend.infrastructure.jobs.ScheduledJobRunner;
+import com.example.courtierprobackend.infrastructure.outbox.DomainEventPublisher;
 import com.example.courtierprobackend.transactions.datalayer.Transaction;
 import com.example.courtierprobackend.transactions.datalayer.repositories.TransactionRepository;
+import com.example.courtierprobackend.user.businesslayer.events.WeeklyDigestEmailEvent;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
 import com.example.courtierprobackend.user.dataaccesslayer.UserRole;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
-import org.mockito.InjectMocks;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
-import org.mockito.MockitoAnnotations;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.PlatformTransactionManager;
 
+import java.io.IOException;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.Mockito.*;
 
+@ExtendWith(MockitoExtension.class)
 class WeeklyDigestServiceTest {
 
+    // Wednesday 2026-10-21, 09:00 in the digest week starting Monday 2026-10-19
+    private static final ZoneId ZONE = ZoneId.of("America/Toronto");
+    private static final Clock CLOCK = Clock.fixed(Instant.parse("2026-10-21T13:00:00Z"), ZONE);
+    private static final LocalDate WEEK = LocalDate.of(2026, 10, 19);
+
     @Mock
     private UserAccountRepository userAccountRepository;
-
     @Mock
     private AppointmentRepository appointmentRepository;
-
     @Mock
     private DocumentRepository documentRepository;
-
     @Mock
     private TransactionRepository transactionRepository;
-
     @Mock
     private EmailService emailService;
+    @Mock
+    private DomainEventPublisher domainEventPublisher;
+    @Mock
+    private PlatformTransactionManager transactionManager;
+    @Mock
+    private ScheduledJobRunner jobRunner;
 
-    @InjectMocks
     private WeeklyDigestService weeklyDigestService;
 
     @BeforeEach
     void setUp() {
-        MockitoAnnotations.openMocks(this);
+        weeklyDigestService = new WeeklyDigestService(userAccountRepository, appointmentRepository,
+                documentRepository, transactionRepository, emailService, domainEventPublisher,
+                transactionManager, Runnable::run, CLOCK, jobRunner);
     }
 
     @Test
-    void sendWeeklyDigests_HappyPath_EnabledBrokerWithActivity() {
-        // SCENARIO: The Happy Path (Enabled Broker)
-        // Arrange
-        UserAccount broker = new UserAccount();
-        broker.setId(UUID.randomUUID());
-        broker.setEmail("broker@test.com");
-        broker.setRole(UserRole.BROKER);
-        broker.setWeeklyDigestEnabled(true);
-        broker.setPreferredLanguage("en");
+    void sendWeeklyDigests_runsUnderClusterLease() {
+        weeklyDigestService.sendWeeklyDigests();
 
-        when(userAccountRepository.findByRoleAndWeeklyDigestEnabledTrueAndEmailNotificationsEnabledTrueAndActiveTrue(UserRole.BROKER))
-                .thenReturn(List.of(broker));
+        verify(jobRunner).runExclusively(eq(WeeklyDigestService.JOB_NAME), any(), any());
+        verifyNoInteractions(userAccountRepository);
+    }
 
+    @Test
+    void queueWeeklyDigests_brokerWithActivity_queuesRenderedDigestAndMarksWeek() throws Exception {
+        UserAccount broker = broker("broker@test.com", "fr");
+        claim(List.of(broker));
         Appointment appt = new Appointment();
+        appt.setBrokerId(broker.getId());
         appt.setTitle("Meeting");
-        appt.setFromDateTime(LocalDateTime.now().plusDays(1));
-        when(appointmentRepository.findByBrokerIdAndDateRangeAndStatusIn(any(), any(), any(), any()))
+        appt.setFromDateTime(LocalDateTime.now(CLOCK).plusDays(1));
+        when(appointmentRepository.findByBrokerIdInAndDateRangeAndStatusIn(anyCollection(), any(), any(), anyCollection()))
                 .thenReturn(List.of(appt));
-
         Document doc = new Document();
         doc.setCustomTitle("Pending Doc");
-        when(documentRepository.findPendingDocumentsForWeeklyDigest(any()))
-                .thenReturn(List.of(doc));
-
+        when(documentRepository.findPendingDocumentsForWeeklyDigestByBroker(anyCollection()))
+                .thenReturn(List.<Object[]>of(new Object[]{broker.getId(), doc}));
         Transaction tx = new Transaction();
-        tx.setLastUpdated(LocalDateTime.now().minusDays(15));
-        when(transactionRepository.findStalledTransactions(any(), any()))
-                .thenReturn(List.of(tx));
-
-        // Act
-        weeklyDigestService.sendWeeklyDigests();
-
-        // Assert
-        verify(emailService, times(1)).sendWeeklyDigestEmail(eq(broker), anyList(), anyList(), anyList());
+        tx.setBrokerId(broker.getId());
+        when(transactionRepository.findStalledTransactionsForBrokers(anyCollection(), any())).thenReturn(List.of(tx));
+        when(emailService.renderWeeklyDigest(true, List.of(appt), List.of(doc), List.of(tx))).thenReturn("<html/>");
+
+        weeklyDigestService.queueWeeklyDigests();
+
+        ArgumentCaptor<WeeklyDigestEmailEvent> event = ArgumentCaptor.forClass(WeeklyDigestEmailEvent.class);
+        verify(domainEventPublisher).publish(eq(broker.getId()), event.capture());
+        assertThat(event.getValue()).isEqualTo(
+                new WeeklyDigestEmailEvent(broker.getId(), WEEK, "broker@test.com", true, "<html/>"));
+        verify(userAccountRepository).markWeeklyDigestQueued(List.of(broker.getId()), WEEK);
+        verify(transactionManager).commit(any());
     }
 
     @Test
-    void sendWeeklyDigests_EmptyStatePath_EnabledBrokerNoActivity() {
-        // SCENARIO: The Empty State Path
-        // Arrange
-        UserAccount broker = new UserAccount();
-        broker.setId(UUID.randomUUID());
-        broker.setEmail("broker@test.com");
-        broker.setRole(UserRole.BROKER);
-        broker.setWeeklyDigestEnabled(true);
-
-        when(userAccountRepository.findByRoleAndWeeklyDigestEnabledTrueAndEmailNotificationsEnabledTrueAndActiveTrue(UserRole.BROKER))
-                .thenReturn(List.of(broker));
+    void queueWeeklyDigests_brokerWithoutActivity_isMarkedWithoutEmail() {
+        UserAccount broker = broker("broker@test.com", "en");
+        claim(List.of(broker));
+        stubNoActivity();
 
-        when(appointmentRepository.findByBrokerIdAndDateRangeAndStatusIn(any(), any(), any(), any()))
-                .thenReturn(new ArrayList<>());
+        weeklyDigestService.queueWeeklyDigests();
 
-        when(documentRepository.findPendingDocumentsForWeeklyDigest(any()))
-                .thenReturn(new ArrayList<>());
-
-        when(transactionRepository.findStalledTransactions(any(), any()))
-                .thenReturn(new ArrayList<>());
+        verifyNoInteractions(domainEventPublisher, emailService);
+        verify(userAccountRepository).markWeeklyDigestQueued(List.of(broker.getId()), WEEK);
+    }
 
-        // Act
-        weeklyDigestService.sendWeeklyDigests();
+    @Test
+    void queueWeeklyDigests_renderFailure_skipsOnlyThatBroker() throws Exception {
+        UserAccount failing = broker("fail@test.com", "en");
+        UserAccount succeeding = broker("success@test.com", "en");
+        claim(List.of(failing, succeeding));
+        when(appointmentRepository.findByBrokerIdInAndDateRangeAndStatusIn(anyCollection(), any(), any(), anyCollection()))
+                .thenReturn(List.of());
+        Document failingDoc = new Document();
+        failingDoc.setCustomTitle("Failing");
+        Document succeedingDoc = new Document();
+        succeedingDoc.setCustomTitle("Succeeding");
+        when(documentRepository.findPendingDocumentsForWeeklyDigestByBroker(anyCollection()))
+                .thenReturn(List.of(new Object[]{failing.getId(), failingDoc}, new Object[]{succeeding.getId(), succeedingDoc}));
+        when(transactionRepository.findStalledTransactionsForBrokers(anyCollection(), any())).thenReturn(List.of());
+        when(emailService.renderWeeklyDigest(false, List.of(), List.of(failingDoc), List.of()))
+                .thenThrow(new IOException("template missing"));
+        when(emailService.renderWeeklyDigest(false, List.of(), List.of(succeedingDoc), List.of())).thenReturn("<html/>");
+
+        weeklyDigestService.queueWeeklyDigests();
+
+        verify(domainEventPublisher).publish(eq(succeeding.getId()), any(WeeklyDigestEmailEvent.class));
+        verify(domainEventPublisher, never()).publish(eq(failing.getId()), any());
+        verify(userAccountRepository).markWeeklyDigestQueued(List.of(failing.getId(), succeeding.getId()), WEEK);
+    }
 
-        // Assert
-        // We skip the email entirely if no activity to avoid spam
-        verify(emailService, never()).sendWeeklyDigestEmail(any(), anyList(), anyList(), anyList());
+    @Test
+    void queueWeeklyDigests_loadsSectionsForWholeBatchWithDigestStatusesAndWindows() {
+        UserAccount first = broker("a@test.com", "en");
+        UserAccount second = broker("b@test.com", "en");
+        claim(List.of(first, second));
+        stubNoActivity();
+
+        weeklyDigestService.queueWeeklyDigests();
+
+        LocalDateTime now = LocalDateTime.now(CLOCK);
+        List<UUID> ids = List.of(first.getId(), second.getId());
+        verify(appointmentRepository).findByBrokerIdInAndDateRangeAndStatusIn(ids, now, now.plusDays(7),
+                List.of(AppointmentStatus.CONFIRMED, AppointmentStatus.PROPOSED));
+        verify(documentRepository).findPendingDocumentsForWeeklyDigestByBroker(ids);
+        verify(transactionRepository).findStalledTransactionsForBrokers(ids, now.minusDays(14));
     }
 
     @Test
-    void sendWeeklyDigests_ShouldCatchAndLogExceptionForIndividualBroker() {
-        // Arrange
-        UserAccount broker1 = new UserAccount();
-        broker1.setId(UUID.randomUUID());
-        broker1.setEmail("fail@test.com");
-        broker1.setWeeklyDigestEnabled(true);
-
-        UserAccount broker2 = new UserAccount();
-        broker2.setId(UUID.randomUUID());
-        broker2.setEmail("success@test.com");
-        broker2.setWeeklyDigestEnabled(true);
-
-        when(userAccountRepository.findByRoleAndWeeklyDigestEnabledTrueAndEmailNotificationsEnabledTrueAndActiveTrue(UserRole.BROKER))
-                .thenReturn(List.of(broker1, broker2));
-
-        // Make broker1 fail during data aggregation
-        when(appointmentRepository.findByBrokerIdAndDateRangeAndStatusIn(eq(broker1.getId()), any(), any(), any()))
-                .thenThrow(new RuntimeException("Aggregation failed"));
-
-        // Make broker2 succeed with an appointment
-        Appointment appt = new Appointment();
-        appt.setTitle("Meeting");
-        appt.setFromDateTime(LocalDateTime.now().plusDays(1));
-        when(appointmentRepository.findByBrokerIdAndDateRangeAndStatusIn(eq(broker2.getId()), any(), any(), any()))
-                .thenReturn(List.of(appt));
-        when(documentRepository.findPendingDocumentsForWeeklyDigest(eq(broker2.getId())))
-                .thenReturn(new ArrayList<>());
-        when(transactionRepository.findStalledTransactions(eq(broker2.getId()), any()))
-                .thenReturn(new ArrayList<>());
+    void queueWeeklyDigests_fullBatch_claimsAgainInNewTransaction() {
+        List<UserAccount> full = new ArrayList<>();
+        IntStream.range(0, WeeklyDigestService.BATCH_SIZE).forEach(i -> full.add(broker("b" + i + "@test.com", "en")));
+        when(userAccountRepository.lockBrokersDueForWeeklyDigest(WEEK, WeeklyDigestService.BATCH_SIZE))
+                .thenReturn(full, List.of());
+        stubNoActivity();
 
-        // Act
-        weeklyDigestService.sendWeeklyDigests();
+        weeklyDigestService.queueWeeklyDigests();
 
-        // Assert
-        // Verify emailService was only called for broker2
-        verify(emailService, times(1)).sendWeeklyDigestEmail(eq(broker2), anyList(), anyList(), anyList());
-        verify(emailService, never()).sendWeeklyDigestEmail(eq(broker1), anyList(), anyList(), anyList());
+        verify(userAccountRepository, times(2)).lockBrokersDueForWeeklyDigest(WEEK, WeeklyDigestService.BATCH_SIZE);
+        verify(transactionManager, times(2)).commit(any());
     }
 
     @Test
-    void sendWeeklyDigests_ShouldFilterCancelledAndDeclinedAppointments() {
-        // Arrange
-        UserAccount broker = new UserAccount();
-        broker.setId(UUID.randomUUID());
-        broker.setEmail("broker@test.com");
-        broker.setWeeklyDigestEnabled(true);
-        broker.setRole(UserRole.BROKER);
-
-        when(userAccountRepository.findByRoleAndWeeklyDigestEnabledTrueAndEmailNotificationsEnabledTrueAndActiveTrue(UserRole.BROKER))
-                .thenReturn(List.of(broker));
-
-        // Mock returns empty list for the status-filtered query
-        when(appointmentRepository.findByBrokerIdAndDateRangeAndStatusIn(any(), any(), any(), any()))
-                .thenReturn(new ArrayList<>());
-        when(documentRepository.findPendingDocumentsForWeeklyDigest(any()))
-                .thenReturn(new ArrayList<>());
-        when(transactionRepository.findStalledTransactions(any(), any()))
-                .thenReturn(new ArrayList<>());
+    void queueWeeklyDigests_nothingDue_queriesNothingElse() {
+        claim(List.of());
 
-        // Act
-        weeklyDigestService.sendWeeklyDigests();
+        weeklyDigestService.queueWeeklyDigests();
 
-        // Assert
-        // Should not send email because all sections (after filtering) are empty
-        verify(emailService, never()).sendWeeklyDigestEmail(any(), anyList(), anyList(), anyList());
+        verifyNoInteractions(appointmentRepository, documentRepository, transactionRepository, domainEventPublisher);
+        verify(userAccountRepository, never()).markWeeklyDigestQueued(anyCollection(), any());
+    }
 
-        // Verify we actually passed the correct statuses to the repository
-        verify(appointmentRepository).findByBrokerIdAndDateRangeAndStatusIn(
-                eq(broker.getId()), any(), any(),
-                argThat(statuses -> statuses.contains(com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus.CONFIRMED)
-                        && statuses.contains(com.example.courtierprobackend.appointments.datalayer.enums.AppointmentStatus.PROPOSED)));
+    private void claim(List<UserAccount> brokers) {
+        when(userAccountRepository.lockBrokersDueForWeeklyDigest(WEEK, WeeklyDigestService.BATCH_SIZE))
+                .thenReturn(brokers);
     }
 
-    @Test
-    void sendWeeklyDigests_ShouldNeverSendIfEmailNotificationsDisabled() {
-        // SCENARIO: Master Email Notification flag is OFF
-        // Although this is primarily handled by the repository query, 
-        // confirming that the service correctly uses the filtered query.
-        
-        when(userAccountRepository.findByRoleAndWeeklyDigestEnabledTrueAndEmailNotificationsEnabledTrueAndActiveTrue(UserRole.BROKER))
-                .thenReturn(new ArrayList<>()); // Repository returns none because flag is false
-
-        // Act
-        weeklyDigestService.sendWeeklyDigests();
+    private void stubNoActivity() {
+        when(appointmentRepository.findByBrokerIdInAndDateRangeAndStatusIn(anyCollection(), any(), any(), anyCollection()))
+                .thenReturn(List.of());
+        when(documentRepository.findPendingDocumentsForWeeklyDigestByBroker(anyCollection())).thenReturn(List.of());
+        when(transactionRepository.findStalledTransactionsForBrokers(anyCollection(), any())).thenReturn(List.of());
+    }
 
-        // Assert
-        verify(emailService, never()).sendWeeklyDigestEmail(any(), anyList(), anyList(), anyList());
+    private static UserAccount broker(String email, String language) {
+        UserAccount broker = new UserAccount();
+        broker.setId(UUID.randomUUID());
+        broker.setEmail(email);
+        broker.setRole(UserRole.BROKER);
+        broker.setWeeklyDigestEnabled(true);
+        broker.setPreferredLanguage(language);
+        return broker;
     }
 }
@@ -0,0 +1,54 @@
+package com.example.courtierprobackend.user.businesslayer.events;
+
+import com.example.courtierprobackend.email.EmailService;
+import jakarta.mail.MessagingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WeeklyDigestEmailHandlerTest {
+
+    @Mock
+    private EmailService emailService;
+
+    @InjectMocks
+    private WeeklyDigestEmailHandler handler;
+
+    private final WeeklyDigestEmailEvent event = new WeeklyDigestEmailEvent(
+            UUID.randomUUID(), LocalDate.of(2026, 10, 19), "broker@test.com", true, "<html/>");
+
+    @Test
+    void handle_sendsRenderedDigest() throws Exception {
+        when(emailService.sendRenderedWeeklyDigest("broker@test.com", true, "<html/>")).thenReturn(true);
+
+        handler.handle(event);
+
+        verify(emailService).sendRenderedWeeklyDigest("broker@test.com", true, "<html/>");
+    }
+
+    @Test
+    void handle_providerRejects_throwsSoOutboxRetries() throws Exception {
+        when(emailService.sendRenderedWeeklyDigest("broker@test.com", true, "<html/>")).thenReturn(false);
+
+        assertThatThrownBy(() -> handler.handle(event)).isInstanceOf(IllegalStateException.class);
+    }
+
+    @Test
+    void handle_sendFails_throwsSoOutboxRetries() throws Exception {
+        when(emailService.sendRenderedWeeklyDigest("broker@test.com", true, "<html/>"))
+                .thenThrow(new MessagingException("SMTP down"));
+
+        assertThatThrownBy(() -> handler.handle(event))
+                .isInstanceOf(IllegalStateException.class)
+                .hasCauseInstanceOf(MessagingException.class);
+    }
+}
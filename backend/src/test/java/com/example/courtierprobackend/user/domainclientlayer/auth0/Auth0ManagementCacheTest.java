@@ -0,0 +1,200 @@
+package com.example.courtierprobackend.user.domainclientlayer.auth0;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class Auth0ManagementCacheTest {
+
+    private static final String USER = "auth0|user";
+
+    @Mock
+    private Auth0ManagementClient auth0ManagementClient;
+
+    private final List<Runnable> refreshes = new ArrayList<>();
+    private MutableClock clock;
+    private Auth0ManagementCache cache;
+
+    @BeforeEach
+    void setUp() {
+        clock = new MutableClock(Instant.parse("2025-06-01T12:00:00Z"));
+        cache = new Auth0ManagementCache(auth0ManagementClient, refreshes::add, clock,
+                Duration.ofMinutes(5), Duration.ofHours(1));
+    }
+
+    @Test
+    void isMfaEnabled_freshEntry_servedWithoutCallingAuth0() {
+        when(auth0ManagementClient.isMfaEnabled(USER)).thenReturn(true);
+
+        assertThat(cache.isMfaEnabled(USER)).isTrue();
+        clock.advance(Duration.ofMinutes(4));
+        assertThat(cache.isMfaEnabled(USER)).isTrue();
+
+        verify(auth0ManagementClient, times(1)).isMfaEnabled(USER);
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    void isMfaEnabled_staleEntry_servedWhileOneRefreshRunsInBackground() {
+        when(auth0ManagementClient.isMfaEnabled(USER)).thenReturn(false, true);
+        cache.isMfaEnabled(USER);
+        clock.advance(Duration.ofMinutes(10));
+
+        assertThat(cache.isMfaEnabled(USER)).isFalse();
+        assertThat(cache.isMfaEnabled(USER)).isFalse();
+        assertThat(refreshes).hasSize(1);
+
+        refreshes.get(0).run();
+        assertThat(cache.isMfaEnabled(USER)).isTrue();
+        verify(auth0ManagementClient, times(2)).isMfaEnabled(USER);
+    }
+
+    @Test
+    void isMfaEnabled_pastStaleWindow_reloadsOnCallingThread() {
+        when(auth0ManagementClient.isMfaEnabled(USER)).thenReturn(false, true);
+        cache.isMfaEnabled(USER);
+        clock.advance(Duration.ofHours(2));
+
+        assertThat(cache.isMfaEnabled(USER)).isTrue();
+        assertThat(refreshes).isEmpty();
+    }
+
+    @Test
+    void isMfaEnabled_failedRefresh_keepsStaleValue() {
+        when(auth0ManagementClient.isMfaEnabled(USER))
+                .thenReturn(true)
+                .thenThrow(new RuntimeException("429 Too Many Requests"));
+        cache.isMfaEnabled(USER);
+        clock.advance(Duration.ofMinutes(10));
+
+        cache.isMfaEnabled(USER);
+        refreshes.get(0).run();
+
+        assertThat(cache.isMfaEnabled(USER)).isTrue();
+        assertThat(refreshes).hasSize(2);
+    }
+
+    @Test
+    void isMfaEnabled_failedLoad_isNotCached() {
+        when(auth0ManagementClient.isMfaEnabled(USER))
+                .thenThrow(new RuntimeException("Auth0 unavailable"))
+                .thenReturn(true);
+
+        assertThatThrownBy(() -> cache.isMfaEnabled(USER)).hasMessage("Auth0 unavailable");
+        assertThat(cache.isMfaEnabled(USER)).isTrue();
+    }
+
+    @Test
+    void invalidate_forcesReloadOnNextRead() {
+        when(auth0ManagementClient.isMfaEnabled(USER)).thenReturn(false, true);
+        cache.isMfaEnabled(USER);
+
+        cache.invalidate(USER);
+
+        assertThat(cache.isMfaEnabled(USER)).isTrue();
+    }
+
+    @Test
+    void invalidate_duringRefresh_discardsRefreshedValue() {
+        when(auth0ManagementClient.isMfaEnabled(USER)).thenReturn(false, false, true);
+        cache.isMfaEnabled(USER);
+        clock.advance(Duration.ofMinutes(10));
+        cache.isMfaEnabled(USER);
+
+        cache.invalidate(USER);
+        refreshes.get(0).run();
+
+        assertThat(cache.isMfaEnabled(USER)).isTrue();
+        verify(auth0ManagementClient, times(3)).isMfaEnabled(USER);
+    }
+
+    @Test
+    void isMfaEnabled_concurrentMisses_shareOneManagementCall() throws Exception {
+        CountDownLatch loading = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(auth0ManagementClient.isMfaEnabled(USER)).thenAnswer(invocation -> {
+            loading.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return true;
+        });
+
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        try {
+            Future<Boolean> first = callers.submit(() -> cache.isMfaEnabled(USER));
+            assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+            List<Future<Boolean>> others = new ArrayList<>();
+            for (int i = 0; i < 3; i++) {
+                others.add(callers.submit(() -> cache.isMfaEnabled(USER)));
+            }
+            release.countDown();
+
+            assertThat(first.get(5, TimeUnit.SECONDS)).isTrue();
+            for (Future<Boolean> other : others) {
+                assertThat(other.get(5, TimeUnit.SECONDS)).isTrue();
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+        verify(auth0ManagementClient, times(1)).isMfaEnabled(USER);
+    }
+
+    @Test
+    void purgeExpired_dropsEntriesPastStaleWindow() {
+        when(auth0ManagementClient.isMfaEnabled(USER)).thenReturn(true);
+        cache.isMfaEnabled(USER);
+        clock.advance(Duration.ofHours(2));
+
+        cache.purgeExpired();
+        clock.advance(Duration.ofHours(-2));
+
+        cache.isMfaEnabled(USER);
+        verify(auth0ManagementClient, times(2)).isMfaEnabled(USER);
+    }
+
+    private static final class MutableClock extends Clock {
+        private Instant now;
+
+        MutableClock(Instant now) {
+            this.now = now;
+        }
+
+        void advance(Duration duration) {
+            now = now.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return now;
+        }
+    }
+}
@@ -4,6 +4,7 @@ import com.example.courtierprobackend.common.exceptions.UnauthorizedException;
 import com.example.courtierprobackend.security.UserContextFilter;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import com.example.courtierprobackend.user.domainclientlayer.auth0.Auth0ManagementCache;
 import com.example.courtierprobackend.user.domainclientlayer.auth0.Auth0ManagementClient;
 import com.example.courtierprobackend.user.mapper.UserMapper;
 import jakarta.servlet.http.HttpServletRequest;
@@ -32,6 +33,8 @@ class CurrentUserControllerMfaTest {
     @Mock
     private Auth0ManagementClient auth0ManagementClient;
     @Mock
+    private Auth0ManagementCache auth0ManagementCache;
+    @Mock
     private HttpServletRequest request;
     @Mock
     private Jwt jwt;
@@ -45,7 +48,7 @@ class CurrentUserControllerMfaTest {
         account.setAuth0UserId("auth0|testid");
         when(request.getAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR)).thenReturn(internalId);
         when(userAccountRepository.findById(internalId)).thenReturn(Optional.of(account));
-        when(auth0ManagementClient.isMfaEnabled("auth0|testid")).thenReturn(true);
+        when(auth0ManagementCache.isMfaEnabled("auth0|testid")).thenReturn(true);
 
         ResponseEntity<Map<String, Object>> result = controller.getMfaStatus(request, jwt);
         assertThat(result.getStatusCode().is2xxSuccessful()).isTrue();
@@ -56,7 +59,7 @@ class CurrentUserControllerMfaTest {
     void getMfaStatus_WithJwtFallback_ReturnsMfaStatus() {
         when(request.getAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR)).thenReturn(null);
         when(jwt.getClaimAsString("sub")).thenReturn("auth0|jwtid");
-        when(auth0ManagementClient.isMfaEnabled("auth0|jwtid")).thenReturn(false);
+        when(auth0ManagementCache.isMfaEnabled("auth0|jwtid")).thenReturn(false);
 
         ResponseEntity<Map<String, Object>> result = controller.getMfaStatus(request, jwt);
         assertThat(result.getStatusCode().is2xxSuccessful()).isTrue();
@@ -6,6 +6,7 @@ import com.example.courtierprobackend.common.exceptions.UnauthorizedException;
 import com.example.courtierprobackend.security.UserContextFilter;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccount;
 import com.example.courtierprobackend.user.dataaccesslayer.UserAccountRepository;
+import com.example.courtierprobackend.user.domainclientlayer.auth0.Auth0ManagementCache;
 import com.example.courtierprobackend.user.domainclientlayer.auth0.Auth0ManagementClient;
 import com.example.courtierprobackend.user.mapper.UserMapper;
 import com.example.courtierprobackend.user.presentationlayer.response.UserResponse;
@@ -38,7 +39,7 @@ class CurrentUserControllerTest {
     @Test
     void confirmEmailChange_Success() {
         when(emailChangeService.confirmEmailChange("validtoken")).thenReturn(true);
-        CurrentUserController controllerWithEmail = new CurrentUserController(userAccountRepository, userMapper, auth0ManagementClient, emailChangeService);
+        CurrentUserController controllerWithEmail = new CurrentUserController(userAccountRepository, userMapper, auth0ManagementClient, emailChangeService, auth0ManagementCache);
         ResponseEntity<String> result = controllerWithEmail.confirmEmailChange("validtoken");
         assertThat(result.getStatusCode().is2xxSuccessful()).isTrue();
         assertThat(result.getBody()).contains("confirmed");
@@ -47,7 +48,7 @@ class CurrentUserControllerTest {
     @Test
     void confirmEmailChange_Failure() {
         when(emailChangeService.confirmEmailChange("badtoken")).thenReturn(false);
-        CurrentUserController controllerWithEmail = new CurrentUserController(userAccountRepository, userMapper, auth0ManagementClient, emailChangeService);
+        CurrentUserController controllerWithEmail = new CurrentUserController(userAccountRepository, userMapper, auth0ManagementClient, emailChangeService, auth0ManagementCache);
         ResponseEntity<String> result = controllerWithEmail.confirmEmailChange("badtoken");
         assertThat(result.getStatusCode().is4xxClientError()).isTrue();
         assertThat(result.getBody()).contains("Invalid");
@@ -111,6 +112,8 @@ class CurrentUserControllerTest {
     private Jwt jwt;
     @Mock
     private Auth0ManagementClient auth0ManagementClient;
+    @Mock
+    private Auth0ManagementCache auth0ManagementCache;
 
     @InjectMocks
     private CurrentUserController controller;
@@ -408,7 +411,7 @@ class CurrentUserControllerTest {
             when(request.getAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR)).thenReturn(UUID.randomUUID());
             when(userAccountRepository.findById(any(UUID.class))).thenReturn(Optional.empty());
             when(jwt.getClaimAsString("sub")).thenReturn(auth0Id);
-            when(auth0ManagementClient.isMfaEnabled(auth0Id)).thenReturn(true);
+            when(auth0ManagementCache.isMfaEnabled(auth0Id)).thenReturn(true);
 
             ResponseEntity<Map<String, Object>> result = controller.getMfaStatus(request, jwt);
 
@@ -431,7 +434,7 @@ class CurrentUserControllerTest {
             account.setAuth0UserId(auth0Id);
             when(request.getAttribute(UserContextFilter.INTERNAL_USER_ID_ATTR)).thenReturn(UUID.randomUUID());
             when(userAccountRepository.findById(any(UUID.class))).thenReturn(Optional.of(account));
-            when(auth0ManagementClient.isMfaEnabled(auth0Id)).thenThrow(new RuntimeException("API error"));
+            when(auth0ManagementCache.isMfaEnabled(auth0Id)).thenThrow(new RuntimeException("API error"));
 
             ResponseEntity<Map<String, Object>> result = controller.getMfaStatus(request, jwt);
 
@@ -1,4 +1,5 @@
 import axiosInstance from "@/shared/api/axiosInstance";
+import { getAuditPage, type AuditPage } from "@/shared/api/auditPages";
 
 // Types
 export type ResourceType = "TRANSACTION" | "DOCUMENT_REQUEST" | "APPOINTMENT";
@@ -105,9 +106,6 @@ export async function restoreResource(
     );
 }
 
-export async function getAuditHistory(): Promise<AuditLogEntry[]> {
-    const res = await axiosInstance.get<AuditLogEntry[]>(
-        "/api/admin/resources/audit-history"
-    );
-    return res.data;
+export async function getAuditHistory(before?: string): Promise<AuditPage<AuditLogEntry>> {
+    return getAuditPage<AuditLogEntry>("/api/admin/resources/audit-history", before);
 }
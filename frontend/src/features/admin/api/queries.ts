@@ -1,4 +1,5 @@
 import { useQuery } from '@tanstack/react-query';
+import { useAuditLog } from '@/shared/api/auditPages';
 import { getAdminUsers } from '@/features/admin/api/adminUserApi';
 import {
     listResources,
@@ -40,8 +41,5 @@ export function useResourcePreview(type: ResourceType, resourceId: string | null
 }
 
 export function useAuditHistory() {
-    return useQuery({
-        queryKey: adminKeys.auditHistory(),
-        queryFn: getAuditHistory,
-    });
+    return useAuditLog(adminKeys.auditHistory(), getAuditHistory);
 }
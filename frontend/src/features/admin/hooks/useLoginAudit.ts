@@ -1,5 +1,4 @@
-import { useQuery } from '@tanstack/react-query';
-import axiosInstance from '@/shared/api/axiosInstance';
+import { getAuditPage, useAuditLog, type AuditPage } from '@/shared/api/auditPages';
 
 export interface LoginAuditEvent {
     id: string;
@@ -11,14 +10,10 @@ export interface LoginAuditEvent {
     userAgent?: string;
 }
 
-async function getLoginAuditEvents(): Promise<LoginAuditEvent[]> {
-    const { data } = await axiosInstance.get<LoginAuditEvent[]>('/api/admin/login-audit');
-    return data;
+function getLoginAuditEvents(before?: string): Promise<AuditPage<LoginAuditEvent>> {
+    return getAuditPage<LoginAuditEvent>('/api/admin/login-audit', before);
 }
 
 export function useLoginAudit() {
-    return useQuery({
-        queryKey: ['login-audit'],
-        queryFn: getLoginAuditEvents,
-    });
+    return useAuditLog(['login-audit'], getLoginAuditEvents);
 }
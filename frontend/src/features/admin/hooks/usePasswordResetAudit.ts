@@ -1,5 +1,4 @@
-import { useQuery } from '@tanstack/react-query';
-import axiosInstance from '@/shared/api/axiosInstance';
+import { getAuditPage, useAuditLog, type AuditPage } from '@/shared/api/auditPages';
 
 export interface PasswordResetEvent {
     id: string;
@@ -11,14 +10,10 @@ export interface PasswordResetEvent {
     userAgent?: string;
 }
 
-async function getPasswordResetAudit(): Promise<PasswordResetEvent[]> {
-    const { data } = await axiosInstance.get<PasswordResetEvent[]>('/api/admin/password-reset-audit');
-    return data;
+function getPasswordResetAudit(before?: string): Promise<AuditPage<PasswordResetEvent>> {
+    return getAuditPage<PasswordResetEvent>('/api/admin/password-reset-audit', before);
 }
 
 export function usePasswordResetAudit() {
-    return useQuery({
-        queryKey: ['password-reset-audit'],
-        queryFn: getPasswordResetAudit,
-    });
+    return useAuditLog(['password-reset-audit'], getPasswordResetAudit);
 }
@@ -66,14 +66,12 @@ export interface RecentActivity {
     seen: boolean;
 }
 
+// Newest-first page of the activity feed; pass nextCursor back as `before` for older entries
 export interface RecentActivityPage {
     content: RecentActivity[];
-    page: number;
     size: number;
-    totalElements: number;
-    totalPages: number;
-    first: boolean;
-    last: boolean;
+    hasMore: boolean;
+    nextCursor: string | null;
 }
 
 export interface PinnedTransaction {
@@ -90,7 +88,7 @@ export const dashboardKeys = {
     brokerStats: () => [...dashboardKeys.all, 'broker'] as const,
     expiringOffers: () => [...dashboardKeys.all, 'expiring-offers'] as const,
     pendingDocuments: () => [...dashboardKeys.all, 'pending-documents'] as const,
-    recentActivity: (page: number, size: number) => [...dashboardKeys.all, 'recent-activity', page, size] as const,
+    recentActivity: (before: string | null, size: number) => [...dashboardKeys.all, 'recent-activity', before, size] as const,
     pinnedTransactions: () => [...dashboardKeys.all, 'pinned-transactions'] as const,
     approachingConditions: () => [...dashboardKeys.all, 'approaching-conditions'] as const,
 };
@@ -115,12 +113,12 @@ export function usePendingDocuments() {
     });
 }
 
-export function useRecentActivity(page: number = 0, size: number = 10) {
+export function useRecentActivity(before: string | null = null, size: number = 10) {
     return useQuery({
-        queryKey: dashboardKeys.recentActivity(page, size),
+        queryKey: dashboardKeys.recentActivity(before, size),
         queryFn: async () => {
-            const res = await axiosInstance.get<RecentActivityPage>('/api/v1/dashboard/broker/recent-activity', {
-                params: { page, size }
+            const res = await axiosInstance.get<RecentActivityPage>('/api/v1/dashboard/broker/recent-activity/feed', {
+                params: { before: before ?? undefined, size }
             });
             return res.data;
         },
@@ -28,11 +28,13 @@ export function RecentActivityFeed({ className }: RecentActivityFeedProps) {
     const { t: tTx } = useTranslation("transactions");
     const { t: tDoc } = useTranslation("documents");
     const navigate = useNavigate();
-    const [page, setPage] = useState(0);
+    // Cursor of every page visited so far; the last one is the page on screen
+    const [cursors, setCursors] = useState<(string | null)[]>([null]);
+    const page = cursors.length - 1;
     const pageSize = 5;
     const [selectedIds, setSelectedIds] = useState<Set<string>>(new Set());
 
-    const { data, isLoading, error } = useRecentActivity(page, pageSize);
+    const { data, isLoading, error } = useRecentActivity(cursors[page], pageSize);
     const markAsSeenMutation = useMarkActivitiesAsSeen();
 
     const handleActivityClick = async (activity: RecentActivity) => {
@@ -353,9 +355,9 @@ export function RecentActivityFeed({ className }: RecentActivityFeedProps) {
     }
 
     const activities = data?.content ?? [];
-    const totalPages = data?.totalPages ?? 0;
-    const isFirst = data?.first ?? true;
-    const isLast = data?.last ?? true;
+    const nextCursor = data?.nextCursor ?? null;
+    const isFirst = page === 0;
+    const isLast = !data?.hasMore || !nextCursor;
     const unseenCount = activities.filter(a => !a.seen).length;
     const hasSelection = selectedIds.size > 0;
 
@@ -523,24 +525,24 @@ export function RecentActivityFeed({ className }: RecentActivityFeedProps) {
                     </div>
 
                     {/* Pagination controls */}
-                    {totalPages > 1 && (
+                    {(!isFirst || !isLast) && (
                         <div className="flex items-center justify-between mt-6 pt-4 border-t">
                             <Button
                                 variant="outline"
                                 size="sm"
-                                onClick={() => setPage(p => Math.max(0, p - 1))}
+                                onClick={() => setCursors(c => (c.length > 1 ? c.slice(0, -1) : c))}
                                 disabled={isFirst}
                             >
                                 <ChevronLeft className="h-4 w-4 mr-1" />
                                 {t("broker.activityFeed.previous")}
                             </Button>
                             <span className="text-sm text-muted-foreground">
-                                {t("broker.activityFeed.pageOf", { current: page + 1, total: totalPages })}
+                                {t("broker.activityFeed.page", { current: page + 1 })}
                             </span>
                             <Button
                                 variant="outline"
                                 size="sm"
-                                onClick={() => setPage(p => p + 1)}
+                                onClick={() => nextCursor && setCursors(c => [...c, nextCursor])}
                                 disabled={isLast}
                             >
                                 {t("broker.activityFeed.next")}
@@ -17,6 +17,7 @@ import { toast } from "sonner";
 import { PageHeader } from "@/shared/components/branded/PageHeader";
 import { LoadingState } from "@/shared/components/branded/LoadingState";
 import { ErrorState } from "@/shared/components/branded/ErrorState";
+import { LoadMoreButton } from "@/shared/components/branded/LoadMoreButton";
 import { Button } from "@/shared/components/ui/button";
 import { Input } from "@/shared/components/ui/input";
 import { Badge } from "@/shared/components/ui/badge";
@@ -454,6 +455,12 @@ export function AdminResourcesPage() {
                         </tbody>
                     </table>
                 </div>
+                <LoadMoreButton
+                    label={t("loadOlderEntries")}
+                    hasMore={auditQuery.hasNextPage}
+                    loading={auditQuery.isFetchingNextPage}
+                    onLoadMore={() => auditQuery.fetchNextPage()}
+                />
             </div>
         );
     };
@@ -5,6 +5,7 @@ import { ChevronDown, ChevronRight } from "lucide-react";
 import { PageHeader } from "@/shared/components/branded/PageHeader";
 import { LoadingState } from "@/shared/components/branded/LoadingState";
 import { ErrorState } from "@/shared/components/branded/ErrorState";
+import { LoadMoreButton } from "@/shared/components/branded/LoadMoreButton";
 import { useLoginAudit } from "@/features/admin/hooks/useLoginAudit";
 import {
   Table,
@@ -19,7 +20,8 @@ import { Button } from "@/shared/components/ui/button";
 
 export function LoginAuditPage() {
   const { t } = useTranslation("admin");
-  const { data: events, isLoading, error } = useLoginAudit();
+  const { data: events, isLoading, error, hasNextPage, fetchNextPage, isFetchingNextPage } =
+    useLoginAudit();
   const [expandedRows, setExpandedRows] = useState<Set<string>>(new Set());
 
   const toggleRow = (id: string) => {
@@ -127,6 +129,12 @@ export function LoginAuditPage() {
             )}
           </TableBody>
         </Table>
+        <LoadMoreButton
+          label={t("loadOlderEntries")}
+          hasMore={hasNextPage}
+          loading={isFetchingNextPage}
+          onLoadMore={() => fetchNextPage()}
+        />
       </div>
     </div>
   );
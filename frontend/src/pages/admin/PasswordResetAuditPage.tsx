@@ -2,13 +2,15 @@ import { useTranslation } from "react-i18next";
 import { PageHeader } from "@/shared/components/branded/PageHeader";
 import { LoadingState } from "@/shared/components/branded/LoadingState";
 import { ErrorState } from "@/shared/components/branded/ErrorState";
+import { LoadMoreButton } from "@/shared/components/branded/LoadMoreButton";
 import { Badge } from "@/shared/components/ui/badge";
 import { usePasswordResetAudit } from "@/features/admin/hooks/usePasswordResetAudit";
 import { formatDistanceToNow } from "date-fns";
 
 export function PasswordResetAuditPage() {
     const { t } = useTranslation("admin");
-    const { data: events, isLoading, error } = usePasswordResetAudit();
+    const { data: events, isLoading, error, hasNextPage, fetchNextPage, isFetchingNextPage } =
+        usePasswordResetAudit();
 
     if (isLoading) {
         return <LoadingState />;
@@ -89,6 +91,12 @@ export function PasswordResetAuditPage() {
                         )}
                     </tbody>
                 </table>
+                <LoadMoreButton
+                    label={t("loadOlderEntries")}
+                    hasMore={hasNextPage}
+                    loading={isFetchingNextPage}
+                    onLoadMore={() => fetchNextPage()}
+                />
             </div>
         </div>
     );
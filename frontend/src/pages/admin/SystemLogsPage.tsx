@@ -5,6 +5,8 @@ import { toast } from "sonner";
 import { ChevronDown, ChevronRight } from "lucide-react";
 
 import { PageHeader } from "@/shared/components/branded/PageHeader";
+import { LoadMoreButton } from "@/shared/components/branded/LoadMoreButton";
+import { useAuditLog } from "@/shared/api/auditPages";
 import { formatDateTime } from "@/shared/utils/date";
 
 import {
@@ -25,38 +27,17 @@ import {
 export function SystemLogsPage() {
   const { t } = useTranslation("admin");
 
-  const [logs, setLogs] = useState<OrgSettingsLogEntry[]>([]);
-  const [loading, setLoading] = useState(true);
-  const [error, setError] = useState<string | null>(null);
+  const logsQuery = useAuditLog(["system-logs", "history"], fetchOrgSettingsLogs);
+  const logs = logsQuery.data ?? [];
+  const loading = logsQuery.isLoading;
+  const error = logsQuery.isError ? t("settings.errors.loadFailed") : null;
   const [expandedRows, setExpandedRows] = useState<Set<string>>(new Set());
 
   useEffect(() => {
-    let isMounted = true;
-
-    (async () => {
-      try {
-        setLoading(true);
-        const data = await fetchOrgSettingsLogs();
-        if (isMounted) {
-          setLogs(data);
-          setError(null);
-        }
-      } catch {
-        toast.error(t("settings.errors.loadFailed"));
-        if (isMounted) {
-          setError(t("settings.errors.loadFailed"));
-        }
-      } finally {
-        if (isMounted) {
-          setLoading(false);
-        }
-      }
-    })();
-
-    return () => {
-      isMounted = false;
-    };
-  }, [t]);
+    if (logsQuery.isError) {
+      toast.error(t("settings.errors.loadFailed"));
+    }
+  }, [logsQuery.isError, t]);
 
   const toggleRow = (id: string) => {
     setExpandedRows((prev) => {
@@ -208,6 +189,15 @@ export function SystemLogsPage() {
             </TableBody>
           </Table>
         )}
+
+        {!loading && !error && (
+          <LoadMoreButton
+            label={t("loadOlderEntries")}
+            hasMore={logsQuery.hasNextPage}
+            loading={logsQuery.isFetchingNextPage}
+            onLoadMore={() => logsQuery.fetchNextPage()}
+          />
+        )}
       </div>
     </div>
   );
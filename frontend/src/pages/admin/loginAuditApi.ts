@@ -1,4 +1,4 @@
-import axiosInstance from "@/shared/api/axiosInstance";
+import { getAuditPage, type AuditPage } from "@/shared/api/auditPages";
 
 export interface LoginAuditEvent {
   id: string;
@@ -10,7 +10,6 @@ export interface LoginAuditEvent {
   userAgent?: string;
 }
 
-export async function getLoginAuditEvents(): Promise<LoginAuditEvent[]> {
-  const res = await axiosInstance.get<LoginAuditEvent[]>('/api/admin/login-audit');
-  return res.data;
+export async function getLoginAuditEvents(before?: string): Promise<AuditPage<LoginAuditEvent>> {
+  return getAuditPage<LoginAuditEvent>('/api/admin/login-audit', before);
 }
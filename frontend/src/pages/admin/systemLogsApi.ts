@@ -1,5 +1,5 @@
 // frontend/src/pages/admin/systemLogsApi.ts
-import axiosInstance from "@/shared/api/axiosInstance";
+import { getAuditPage, type AuditPage } from "@/shared/api/auditPages";
 
 export interface OrgSettingsLogEntry {
   id: string;
@@ -18,9 +18,6 @@ export interface OrgSettingsLogEntry {
   inviteTemplateFrChanged?: boolean | null;
 }
 
-export async function fetchOrgSettingsLogs(): Promise<OrgSettingsLogEntry[]> {
-  const response = await axiosInstance.get<OrgSettingsLogEntry[]>(
-    "/api/admin/settings/audit"
-  );
-  return response.data;
+export async function fetchOrgSettingsLogs(before?: string): Promise<AuditPage<OrgSettingsLogEntry>> {
+  return getAuditPage<OrgSettingsLogEntry>("/api/admin/settings/audit", before);
 }
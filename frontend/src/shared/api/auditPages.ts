@@ -0,0 +1,33 @@
+import { useMemo } from 'react';
+import { useInfiniteQuery, type QueryKey } from '@tanstack/react-query';
+import axiosInstance from '@/shared/api/axiosInstance';
+
+// Audit endpoints return newest-first pages as plain arrays; the cursor of the
+// next (older) page comes in this header and goes back as `before`.
+export const NEXT_CURSOR_HEADER = 'x-next-cursor';
+
+export interface AuditPage<T> {
+    items: T[];
+    nextCursor?: string;
+}
+
+export async function getAuditPage<T>(url: string, before?: string): Promise<AuditPage<T>> {
+    const res = await axiosInstance.get<T[]>(url, { params: { before } });
+    const nextCursor = res.headers[NEXT_CURSOR_HEADER];
+    return { items: res.data, nextCursor: typeof nextCursor === 'string' && nextCursor ? nextCursor : undefined };
+}
+
+/**
+ * Loads an audit log page by page. `data` holds every row loaded so far;
+ * `fetchNextPage` loads the next older page while `hasNextPage` is true.
+ */
+export function useAuditLog<T>(queryKey: QueryKey, fetchPage: (before?: string) => Promise<AuditPage<T>>) {
+    const query = useInfiniteQuery({
+        queryKey,
+        queryFn: ({ pageParam }) => fetchPage(pageParam),
+        initialPageParam: undefined as string | undefined,
+        getNextPageParam: (lastPage) => lastPage.nextCursor,
+    });
+    const data = useMemo(() => query.data?.pages.flatMap((page) => page.items), [query.data]);
+    return { ...query, data };
+}
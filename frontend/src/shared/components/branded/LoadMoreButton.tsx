@@ -0,0 +1,24 @@
+import { Loader2 } from "lucide-react";
+import { Button } from "@/shared/components/ui/button";
+import { cn } from "@/shared/utils/utils";
+
+interface LoadMoreButtonProps {
+    label: string;
+    hasMore: boolean;
+    loading: boolean;
+    onLoadMore: () => void;
+    className?: string;
+}
+
+export function LoadMoreButton({ label, hasMore, loading, onLoadMore, className }: LoadMoreButtonProps) {
+    if (!hasMore) return null;
+
+    return (
+        <div className={cn("flex justify-center py-4", className)}>
+            <Button variant="outline" size="sm" onClick={onLoadMore} disabled={loading}>
+                {loading && <Loader2 className="w-4 h-4 mr-2 animate-spin" />}
+                {label}
+            </Button>
+        </div>
+    );
+}